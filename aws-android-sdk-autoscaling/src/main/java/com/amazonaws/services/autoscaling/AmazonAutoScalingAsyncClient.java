@@ -15,13 +15,13 @@
 
 package com.amazonaws.services.autoscaling;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -29,6 +29,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.autoscaling.model.*;
+import com.amazonaws.services.autoscaling.model.transform.*;
 
 /**
  * Interface for accessing Amazon Auto Scaling asynchronously. <fullname>Amazon
@@ -52,7 +53,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -98,15 +99,15 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      */
     @Deprecated
     public AmazonAutoScalingAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Auto Scaling using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be run on the SDK's
+     * shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -116,7 +117,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *            to use when authenticating with AWS services.
      */
     public AmazonAutoScalingAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -136,7 +137,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public AmazonAutoScalingAsyncClient(AWSCredentials awsCredentials,
             ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -158,14 +159,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public AmazonAutoScalingAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Auto Scaling using the specified AWS account credentials provider.
-     * Default client settings will be used, and a fixed size thread pool will
-     * be created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be run
+     * on the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -176,7 +177,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *            services.
      */
     public AmazonAutoScalingAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -216,8 +217,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      */
     public AmazonAutoScalingAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -240,17 +241,18 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
     public AmazonAutoScalingAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -304,14 +306,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> attachInstancesAsync(final AttachInstancesRequest attachInstancesRequest)
+    public ListenableFuture<Void> attachInstancesAsync(final AttachInstancesRequest attachInstancesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInstances(attachInstancesRequest);
-                return null;
-            }
-        });
+        return attachInstancesAsync(attachInstancesRequest, null);
     }
 
     /**
@@ -351,22 +348,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> attachInstancesAsync(final AttachInstancesRequest attachInstancesRequest,
+    public ListenableFuture<Void> attachInstancesAsync(final AttachInstancesRequest attachInstancesRequest,
             final AsyncHandler<AttachInstancesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    attachInstances(attachInstancesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(attachInstancesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(attachInstancesRequest,
+                new AttachInstancesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -402,14 +390,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AttachLoadBalancerTargetGroupsResult> attachLoadBalancerTargetGroupsAsync(
+    public ListenableFuture<AttachLoadBalancerTargetGroupsResult> attachLoadBalancerTargetGroupsAsync(
             final AttachLoadBalancerTargetGroupsRequest attachLoadBalancerTargetGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerTargetGroupsResult>() {
-            public AttachLoadBalancerTargetGroupsResult call() throws Exception {
-                return attachLoadBalancerTargetGroups(attachLoadBalancerTargetGroupsRequest);
-            }
-        });
+        return attachLoadBalancerTargetGroupsAsync(attachLoadBalancerTargetGroupsRequest, null);
     }
 
     /**
@@ -445,23 +429,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AttachLoadBalancerTargetGroupsResult> attachLoadBalancerTargetGroupsAsync(
+    public ListenableFuture<AttachLoadBalancerTargetGroupsResult> attachLoadBalancerTargetGroupsAsync(
             final AttachLoadBalancerTargetGroupsRequest attachLoadBalancerTargetGroupsRequest,
             final AsyncHandler<AttachLoadBalancerTargetGroupsRequest, AttachLoadBalancerTargetGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerTargetGroupsResult>() {
-            public AttachLoadBalancerTargetGroupsResult call() throws Exception {
-                AttachLoadBalancerTargetGroupsResult result = null;
-                try {
-                    result = attachLoadBalancerTargetGroups(attachLoadBalancerTargetGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(attachLoadBalancerTargetGroupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(attachLoadBalancerTargetGroupsRequest,
+                new AttachLoadBalancerTargetGroupsRequestMarshaller(),
+                new AttachLoadBalancerTargetGroupsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -499,14 +474,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AttachLoadBalancersResult> attachLoadBalancersAsync(
+    public ListenableFuture<AttachLoadBalancersResult> attachLoadBalancersAsync(
             final AttachLoadBalancersRequest attachLoadBalancersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancersResult>() {
-            public AttachLoadBalancersResult call() throws Exception {
-                return attachLoadBalancers(attachLoadBalancersRequest);
-            }
-        });
+        return attachLoadBalancersAsync(attachLoadBalancersRequest, null);
     }
 
     /**
@@ -544,23 +515,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AttachLoadBalancersResult> attachLoadBalancersAsync(
+    public ListenableFuture<AttachLoadBalancersResult> attachLoadBalancersAsync(
             final AttachLoadBalancersRequest attachLoadBalancersRequest,
             final AsyncHandler<AttachLoadBalancersRequest, AttachLoadBalancersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancersResult>() {
-            public AttachLoadBalancersResult call() throws Exception {
-                AttachLoadBalancersResult result = null;
-                try {
-                    result = attachLoadBalancers(attachLoadBalancersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(attachLoadBalancersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(attachLoadBalancersRequest,
+                new AttachLoadBalancersRequestMarshaller(),
+                new AttachLoadBalancersResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -582,14 +544,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDeleteScheduledActionResult> batchDeleteScheduledActionAsync(
+    public ListenableFuture<BatchDeleteScheduledActionResult> batchDeleteScheduledActionAsync(
             final BatchDeleteScheduledActionRequest batchDeleteScheduledActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDeleteScheduledActionResult>() {
-            public BatchDeleteScheduledActionResult call() throws Exception {
-                return batchDeleteScheduledAction(batchDeleteScheduledActionRequest);
-            }
-        });
+        return batchDeleteScheduledActionAsync(batchDeleteScheduledActionRequest, null);
     }
 
     /**
@@ -611,23 +569,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDeleteScheduledActionResult> batchDeleteScheduledActionAsync(
+    public ListenableFuture<BatchDeleteScheduledActionResult> batchDeleteScheduledActionAsync(
             final BatchDeleteScheduledActionRequest batchDeleteScheduledActionRequest,
             final AsyncHandler<BatchDeleteScheduledActionRequest, BatchDeleteScheduledActionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDeleteScheduledActionResult>() {
-            public BatchDeleteScheduledActionResult call() throws Exception {
-                BatchDeleteScheduledActionResult result = null;
-                try {
-                    result = batchDeleteScheduledAction(batchDeleteScheduledActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDeleteScheduledActionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDeleteScheduledActionRequest,
+                new BatchDeleteScheduledActionRequestMarshaller(),
+                new BatchDeleteScheduledActionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -652,14 +601,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchPutScheduledUpdateGroupActionResult> batchPutScheduledUpdateGroupActionAsync(
+    public ListenableFuture<BatchPutScheduledUpdateGroupActionResult> batchPutScheduledUpdateGroupActionAsync(
             final BatchPutScheduledUpdateGroupActionRequest batchPutScheduledUpdateGroupActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchPutScheduledUpdateGroupActionResult>() {
-            public BatchPutScheduledUpdateGroupActionResult call() throws Exception {
-                return batchPutScheduledUpdateGroupAction(batchPutScheduledUpdateGroupActionRequest);
-            }
-        });
+        return batchPutScheduledUpdateGroupActionAsync(batchPutScheduledUpdateGroupActionRequest, null);
     }
 
     /**
@@ -684,23 +629,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchPutScheduledUpdateGroupActionResult> batchPutScheduledUpdateGroupActionAsync(
+    public ListenableFuture<BatchPutScheduledUpdateGroupActionResult> batchPutScheduledUpdateGroupActionAsync(
             final BatchPutScheduledUpdateGroupActionRequest batchPutScheduledUpdateGroupActionRequest,
             final AsyncHandler<BatchPutScheduledUpdateGroupActionRequest, BatchPutScheduledUpdateGroupActionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchPutScheduledUpdateGroupActionResult>() {
-            public BatchPutScheduledUpdateGroupActionResult call() throws Exception {
-                BatchPutScheduledUpdateGroupActionResult result = null;
-                try {
-                    result = batchPutScheduledUpdateGroupAction(batchPutScheduledUpdateGroupActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchPutScheduledUpdateGroupActionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchPutScheduledUpdateGroupActionRequest,
+                new BatchPutScheduledUpdateGroupActionRequestMarshaller(),
+                new BatchPutScheduledUpdateGroupActionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -766,14 +702,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CompleteLifecycleActionResult> completeLifecycleActionAsync(
+    public ListenableFuture<CompleteLifecycleActionResult> completeLifecycleActionAsync(
             final CompleteLifecycleActionRequest completeLifecycleActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteLifecycleActionResult>() {
-            public CompleteLifecycleActionResult call() throws Exception {
-                return completeLifecycleAction(completeLifecycleActionRequest);
-            }
-        });
+        return completeLifecycleActionAsync(completeLifecycleActionRequest, null);
     }
 
     /**
@@ -839,23 +771,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CompleteLifecycleActionResult> completeLifecycleActionAsync(
+    public ListenableFuture<CompleteLifecycleActionResult> completeLifecycleActionAsync(
             final CompleteLifecycleActionRequest completeLifecycleActionRequest,
             final AsyncHandler<CompleteLifecycleActionRequest, CompleteLifecycleActionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CompleteLifecycleActionResult>() {
-            public CompleteLifecycleActionResult call() throws Exception {
-                CompleteLifecycleActionResult result = null;
-                try {
-                    result = completeLifecycleAction(completeLifecycleActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(completeLifecycleActionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(completeLifecycleActionRequest,
+                new CompleteLifecycleActionRequestMarshaller(),
+                new CompleteLifecycleActionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -888,15 +811,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> createAutoScalingGroupAsync(
+    public ListenableFuture<Void> createAutoScalingGroupAsync(
             final CreateAutoScalingGroupRequest createAutoScalingGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createAutoScalingGroup(createAutoScalingGroupRequest);
-                return null;
-            }
-        });
+        return createAutoScalingGroupAsync(createAutoScalingGroupRequest, null);
     }
 
     /**
@@ -929,23 +847,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> createAutoScalingGroupAsync(
+    public ListenableFuture<Void> createAutoScalingGroupAsync(
             final CreateAutoScalingGroupRequest createAutoScalingGroupRequest,
             final AsyncHandler<CreateAutoScalingGroupRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    createAutoScalingGroup(createAutoScalingGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createAutoScalingGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createAutoScalingGroupRequest,
+                new CreateAutoScalingGroupRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -983,15 +892,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> createLaunchConfigurationAsync(
+    public ListenableFuture<Void> createLaunchConfigurationAsync(
             final CreateLaunchConfigurationRequest createLaunchConfigurationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLaunchConfiguration(createLaunchConfigurationRequest);
-                return null;
-            }
-        });
+        return createLaunchConfigurationAsync(createLaunchConfigurationRequest, null);
     }
 
     /**
@@ -1029,23 +933,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> createLaunchConfigurationAsync(
+    public ListenableFuture<Void> createLaunchConfigurationAsync(
             final CreateLaunchConfigurationRequest createLaunchConfigurationRequest,
             final AsyncHandler<CreateLaunchConfigurationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    createLaunchConfiguration(createLaunchConfigurationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLaunchConfigurationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createLaunchConfigurationRequest,
+                new CreateLaunchConfigurationRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1080,15 +975,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> createOrUpdateTagsAsync(
+    public ListenableFuture<Void> createOrUpdateTagsAsync(
             final CreateOrUpdateTagsRequest createOrUpdateTagsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createOrUpdateTags(createOrUpdateTagsRequest);
-                return null;
-            }
-        });
+        return createOrUpdateTagsAsync(createOrUpdateTagsRequest, null);
     }
 
     /**
@@ -1123,23 +1013,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> createOrUpdateTagsAsync(
+    public ListenableFuture<Void> createOrUpdateTagsAsync(
             final CreateOrUpdateTagsRequest createOrUpdateTagsRequest,
             final AsyncHandler<CreateOrUpdateTagsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    createOrUpdateTags(createOrUpdateTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createOrUpdateTagsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createOrUpdateTagsRequest,
+                new CreateOrUpdateTagsRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1182,15 +1063,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteAutoScalingGroupAsync(
+    public ListenableFuture<Void> deleteAutoScalingGroupAsync(
             final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
-                return null;
-            }
-        });
+        return deleteAutoScalingGroupAsync(deleteAutoScalingGroupRequest, null);
     }
 
     /**
@@ -1233,23 +1109,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteAutoScalingGroupAsync(
+    public ListenableFuture<Void> deleteAutoScalingGroupAsync(
             final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest,
             final AsyncHandler<DeleteAutoScalingGroupRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteAutoScalingGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteAutoScalingGroupRequest,
+                new DeleteAutoScalingGroupRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1276,15 +1143,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteLaunchConfigurationAsync(
+    public ListenableFuture<Void> deleteLaunchConfigurationAsync(
             final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
-                return null;
-            }
-        });
+        return deleteLaunchConfigurationAsync(deleteLaunchConfigurationRequest, null);
     }
 
     /**
@@ -1311,23 +1173,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteLaunchConfigurationAsync(
+    public ListenableFuture<Void> deleteLaunchConfigurationAsync(
             final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest,
             final AsyncHandler<DeleteLaunchConfigurationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLaunchConfigurationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteLaunchConfigurationRequest,
+                new DeleteLaunchConfigurationRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1353,14 +1206,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteLifecycleHookResult> deleteLifecycleHookAsync(
+    public ListenableFuture<DeleteLifecycleHookResult> deleteLifecycleHookAsync(
             final DeleteLifecycleHookRequest deleteLifecycleHookRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLifecycleHookResult>() {
-            public DeleteLifecycleHookResult call() throws Exception {
-                return deleteLifecycleHook(deleteLifecycleHookRequest);
-            }
-        });
+        return deleteLifecycleHookAsync(deleteLifecycleHookRequest, null);
     }
 
     /**
@@ -1386,23 +1235,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteLifecycleHookResult> deleteLifecycleHookAsync(
+    public ListenableFuture<DeleteLifecycleHookResult> deleteLifecycleHookAsync(
             final DeleteLifecycleHookRequest deleteLifecycleHookRequest,
             final AsyncHandler<DeleteLifecycleHookRequest, DeleteLifecycleHookResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLifecycleHookResult>() {
-            public DeleteLifecycleHookResult call() throws Exception {
-                DeleteLifecycleHookResult result = null;
-                try {
-                    result = deleteLifecycleHook(deleteLifecycleHookRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLifecycleHookRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteLifecycleHookRequest,
+                new DeleteLifecycleHookRequestMarshaller(),
+                new DeleteLifecycleHookResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1423,15 +1263,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteNotificationConfigurationAsync(
+    public ListenableFuture<Void> deleteNotificationConfigurationAsync(
             final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
-                return null;
-            }
-        });
+        return deleteNotificationConfigurationAsync(deleteNotificationConfigurationRequest, null);
     }
 
     /**
@@ -1452,23 +1287,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteNotificationConfigurationAsync(
+    public ListenableFuture<Void> deleteNotificationConfigurationAsync(
             final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest,
             final AsyncHandler<DeleteNotificationConfigurationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteNotificationConfigurationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteNotificationConfigurationRequest,
+                new DeleteNotificationConfigurationRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1500,14 +1326,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest)
+    public ListenableFuture<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePolicy(deletePolicyRequest);
-                return null;
-            }
-        });
+        return deletePolicyAsync(deletePolicyRequest, null);
     }
 
     /**
@@ -1539,22 +1360,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest,
+    public ListenableFuture<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest,
             final AsyncHandler<DeletePolicyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deletePolicy(deletePolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deletePolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deletePolicyRequest,
+                new DeletePolicyRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1575,15 +1387,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteScheduledActionAsync(
+    public ListenableFuture<Void> deleteScheduledActionAsync(
             final DeleteScheduledActionRequest deleteScheduledActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteScheduledAction(deleteScheduledActionRequest);
-                return null;
-            }
-        });
+        return deleteScheduledActionAsync(deleteScheduledActionRequest, null);
     }
 
     /**
@@ -1604,23 +1411,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteScheduledActionAsync(
+    public ListenableFuture<Void> deleteScheduledActionAsync(
             final DeleteScheduledActionRequest deleteScheduledActionRequest,
             final AsyncHandler<DeleteScheduledActionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteScheduledAction(deleteScheduledActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteScheduledActionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteScheduledActionRequest,
+                new DeleteScheduledActionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1641,14 +1439,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest)
+    public ListenableFuture<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-            }
-        });
+        return deleteTagsAsync(deleteTagsRequest, null);
     }
 
     /**
@@ -1669,22 +1462,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest,
+    public ListenableFuture<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTags(deleteTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTagsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTagsRequest,
+                new DeleteTagsRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1712,14 +1496,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAccountLimitsResult> describeAccountLimitsAsync(
+    public ListenableFuture<DescribeAccountLimitsResult> describeAccountLimitsAsync(
             final DescribeAccountLimitsRequest describeAccountLimitsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                return describeAccountLimits(describeAccountLimitsRequest);
-            }
-        });
+        return describeAccountLimitsAsync(describeAccountLimitsRequest, null);
     }
 
     /**
@@ -1747,23 +1527,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAccountLimitsResult> describeAccountLimitsAsync(
+    public ListenableFuture<DescribeAccountLimitsResult> describeAccountLimitsAsync(
             final DescribeAccountLimitsRequest describeAccountLimitsRequest,
             final AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                DescribeAccountLimitsResult result = null;
-                try {
-                    result = describeAccountLimits(describeAccountLimitsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAccountLimitsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAccountLimitsRequest,
+                new DescribeAccountLimitsRequestMarshaller(),
+                new DescribeAccountLimitsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1785,14 +1556,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(
+    public ListenableFuture<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(
             final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
-            public DescribeAdjustmentTypesResult call() throws Exception {
-                return describeAdjustmentTypes(describeAdjustmentTypesRequest);
-            }
-        });
+        return describeAdjustmentTypesAsync(describeAdjustmentTypesRequest, null);
     }
 
     /**
@@ -1814,23 +1581,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(
+    public ListenableFuture<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(
             final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest,
             final AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
-            public DescribeAdjustmentTypesResult call() throws Exception {
-                DescribeAdjustmentTypesResult result = null;
-                try {
-                    result = describeAdjustmentTypes(describeAdjustmentTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAdjustmentTypesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAdjustmentTypesRequest,
+                new DescribeAdjustmentTypesRequestMarshaller(),
+                new DescribeAdjustmentTypesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1852,14 +1610,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(
+    public ListenableFuture<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(
             final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
-            public DescribeAutoScalingGroupsResult call() throws Exception {
-                return describeAutoScalingGroups(describeAutoScalingGroupsRequest);
-            }
-        });
+        return describeAutoScalingGroupsAsync(describeAutoScalingGroupsRequest, null);
     }
 
     /**
@@ -1881,23 +1635,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(
+    public ListenableFuture<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(
             final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest,
             final AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
-            public DescribeAutoScalingGroupsResult call() throws Exception {
-                DescribeAutoScalingGroupsResult result = null;
-                try {
-                    result = describeAutoScalingGroups(describeAutoScalingGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAutoScalingGroupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAutoScalingGroupsRequest,
+                new DescribeAutoScalingGroupsRequestMarshaller(),
+                new DescribeAutoScalingGroupsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1919,14 +1664,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(
+    public ListenableFuture<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(
             final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
-            public DescribeAutoScalingInstancesResult call() throws Exception {
-                return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
-            }
-        });
+        return describeAutoScalingInstancesAsync(describeAutoScalingInstancesRequest, null);
     }
 
     /**
@@ -1948,23 +1689,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(
+    public ListenableFuture<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(
             final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest,
             final AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
-            public DescribeAutoScalingInstancesResult call() throws Exception {
-                DescribeAutoScalingInstancesResult result = null;
-                try {
-                    result = describeAutoScalingInstances(describeAutoScalingInstancesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAutoScalingInstancesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAutoScalingInstancesRequest,
+                new DescribeAutoScalingInstancesRequestMarshaller(),
+                new DescribeAutoScalingInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1986,14 +1718,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesAsync(
+    public ListenableFuture<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesAsync(
             final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
-            public DescribeAutoScalingNotificationTypesResult call() throws Exception {
-                return describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
-            }
-        });
+        return describeAutoScalingNotificationTypesAsync(describeAutoScalingNotificationTypesRequest, null);
     }
 
     /**
@@ -2015,23 +1743,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesAsync(
+    public ListenableFuture<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesAsync(
             final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest,
             final AsyncHandler<DescribeAutoScalingNotificationTypesRequest, DescribeAutoScalingNotificationTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
-            public DescribeAutoScalingNotificationTypesResult call() throws Exception {
-                DescribeAutoScalingNotificationTypesResult result = null;
-                try {
-                    result = describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAutoScalingNotificationTypesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAutoScalingNotificationTypesRequest,
+                new DescribeAutoScalingNotificationTypesRequestMarshaller(),
+                new DescribeAutoScalingNotificationTypesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2053,14 +1772,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(
+    public ListenableFuture<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(
             final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
-            public DescribeLaunchConfigurationsResult call() throws Exception {
-                return describeLaunchConfigurations(describeLaunchConfigurationsRequest);
-            }
-        });
+        return describeLaunchConfigurationsAsync(describeLaunchConfigurationsRequest, null);
     }
 
     /**
@@ -2082,23 +1797,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(
+    public ListenableFuture<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(
             final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest,
             final AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
-            public DescribeLaunchConfigurationsResult call() throws Exception {
-                DescribeLaunchConfigurationsResult result = null;
-                try {
-                    result = describeLaunchConfigurations(describeLaunchConfigurationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLaunchConfigurationsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLaunchConfigurationsRequest,
+                new DescribeLaunchConfigurationsRequestMarshaller(),
+                new DescribeLaunchConfigurationsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2134,14 +1840,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLifecycleHookTypesResult> describeLifecycleHookTypesAsync(
+    public ListenableFuture<DescribeLifecycleHookTypesResult> describeLifecycleHookTypesAsync(
             final DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHookTypesResult>() {
-            public DescribeLifecycleHookTypesResult call() throws Exception {
-                return describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
-            }
-        });
+        return describeLifecycleHookTypesAsync(describeLifecycleHookTypesRequest, null);
     }
 
     /**
@@ -2177,23 +1879,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLifecycleHookTypesResult> describeLifecycleHookTypesAsync(
+    public ListenableFuture<DescribeLifecycleHookTypesResult> describeLifecycleHookTypesAsync(
             final DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest,
             final AsyncHandler<DescribeLifecycleHookTypesRequest, DescribeLifecycleHookTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHookTypesResult>() {
-            public DescribeLifecycleHookTypesResult call() throws Exception {
-                DescribeLifecycleHookTypesResult result = null;
-                try {
-                    result = describeLifecycleHookTypes(describeLifecycleHookTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLifecycleHookTypesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLifecycleHookTypesRequest,
+                new DescribeLifecycleHookTypesRequestMarshaller(),
+                new DescribeLifecycleHookTypesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2214,14 +1907,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLifecycleHooksResult> describeLifecycleHooksAsync(
+    public ListenableFuture<DescribeLifecycleHooksResult> describeLifecycleHooksAsync(
             final DescribeLifecycleHooksRequest describeLifecycleHooksRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHooksResult>() {
-            public DescribeLifecycleHooksResult call() throws Exception {
-                return describeLifecycleHooks(describeLifecycleHooksRequest);
-            }
-        });
+        return describeLifecycleHooksAsync(describeLifecycleHooksRequest, null);
     }
 
     /**
@@ -2242,23 +1931,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLifecycleHooksResult> describeLifecycleHooksAsync(
+    public ListenableFuture<DescribeLifecycleHooksResult> describeLifecycleHooksAsync(
             final DescribeLifecycleHooksRequest describeLifecycleHooksRequest,
             final AsyncHandler<DescribeLifecycleHooksRequest, DescribeLifecycleHooksResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLifecycleHooksResult>() {
-            public DescribeLifecycleHooksResult call() throws Exception {
-                DescribeLifecycleHooksResult result = null;
-                try {
-                    result = describeLifecycleHooks(describeLifecycleHooksRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLifecycleHooksRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLifecycleHooksRequest,
+                new DescribeLifecycleHooksRequestMarshaller(),
+                new DescribeLifecycleHooksResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2279,14 +1959,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLoadBalancerTargetGroupsResult> describeLoadBalancerTargetGroupsAsync(
+    public ListenableFuture<DescribeLoadBalancerTargetGroupsResult> describeLoadBalancerTargetGroupsAsync(
             final DescribeLoadBalancerTargetGroupsRequest describeLoadBalancerTargetGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerTargetGroupsResult>() {
-            public DescribeLoadBalancerTargetGroupsResult call() throws Exception {
-                return describeLoadBalancerTargetGroups(describeLoadBalancerTargetGroupsRequest);
-            }
-        });
+        return describeLoadBalancerTargetGroupsAsync(describeLoadBalancerTargetGroupsRequest, null);
     }
 
     /**
@@ -2307,23 +1983,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLoadBalancerTargetGroupsResult> describeLoadBalancerTargetGroupsAsync(
+    public ListenableFuture<DescribeLoadBalancerTargetGroupsResult> describeLoadBalancerTargetGroupsAsync(
             final DescribeLoadBalancerTargetGroupsRequest describeLoadBalancerTargetGroupsRequest,
             final AsyncHandler<DescribeLoadBalancerTargetGroupsRequest, DescribeLoadBalancerTargetGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerTargetGroupsResult>() {
-            public DescribeLoadBalancerTargetGroupsResult call() throws Exception {
-                DescribeLoadBalancerTargetGroupsResult result = null;
-                try {
-                    result = describeLoadBalancerTargetGroups(describeLoadBalancerTargetGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancerTargetGroupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLoadBalancerTargetGroupsRequest,
+                new DescribeLoadBalancerTargetGroupsRequestMarshaller(),
+                new DescribeLoadBalancerTargetGroupsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2349,14 +2016,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(
+    public ListenableFuture<DescribeLoadBalancersResult> describeLoadBalancersAsync(
             final DescribeLoadBalancersRequest describeLoadBalancersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                return describeLoadBalancers(describeLoadBalancersRequest);
-            }
-        });
+        return describeLoadBalancersAsync(describeLoadBalancersRequest, null);
     }
 
     /**
@@ -2382,23 +2045,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(
+    public ListenableFuture<DescribeLoadBalancersResult> describeLoadBalancersAsync(
             final DescribeLoadBalancersRequest describeLoadBalancersRequest,
             final AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                DescribeLoadBalancersResult result = null;
-                try {
-                    result = describeLoadBalancers(describeLoadBalancersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLoadBalancersRequest,
+                new DescribeLoadBalancersRequestMarshaller(),
+                new DescribeLoadBalancersResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2424,14 +2078,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(
+    public ListenableFuture<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(
             final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
-            public DescribeMetricCollectionTypesResult call() throws Exception {
-                return describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
-            }
-        });
+        return describeMetricCollectionTypesAsync(describeMetricCollectionTypesRequest, null);
     }
 
     /**
@@ -2457,23 +2107,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(
+    public ListenableFuture<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(
             final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest,
             final AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
-            public DescribeMetricCollectionTypesResult call() throws Exception {
-                DescribeMetricCollectionTypesResult result = null;
-                try {
-                    result = describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeMetricCollectionTypesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeMetricCollectionTypesRequest,
+                new DescribeMetricCollectionTypesRequestMarshaller(),
+                new DescribeMetricCollectionTypesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2496,14 +2137,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsAsync(
+    public ListenableFuture<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsAsync(
             final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
-            public DescribeNotificationConfigurationsResult call() throws Exception {
-                return describeNotificationConfigurations(describeNotificationConfigurationsRequest);
-            }
-        });
+        return describeNotificationConfigurationsAsync(describeNotificationConfigurationsRequest, null);
     }
 
     /**
@@ -2526,23 +2163,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsAsync(
+    public ListenableFuture<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsAsync(
             final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest,
             final AsyncHandler<DescribeNotificationConfigurationsRequest, DescribeNotificationConfigurationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
-            public DescribeNotificationConfigurationsResult call() throws Exception {
-                DescribeNotificationConfigurationsResult result = null;
-                try {
-                    result = describeNotificationConfigurations(describeNotificationConfigurationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeNotificationConfigurationsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeNotificationConfigurationsRequest,
+                new DescribeNotificationConfigurationsRequestMarshaller(),
+                new DescribeNotificationConfigurationsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2565,14 +2193,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribePoliciesResult> describePoliciesAsync(
+    public ListenableFuture<DescribePoliciesResult> describePoliciesAsync(
             final DescribePoliciesRequest describePoliciesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
-            public DescribePoliciesResult call() throws Exception {
-                return describePolicies(describePoliciesRequest);
-            }
-        });
+        return describePoliciesAsync(describePoliciesRequest, null);
     }
 
     /**
@@ -2595,23 +2219,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribePoliciesResult> describePoliciesAsync(
+    public ListenableFuture<DescribePoliciesResult> describePoliciesAsync(
             final DescribePoliciesRequest describePoliciesRequest,
             final AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
-            public DescribePoliciesResult call() throws Exception {
-                DescribePoliciesResult result = null;
-                try {
-                    result = describePolicies(describePoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describePoliciesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describePoliciesRequest,
+                new DescribePoliciesRequestMarshaller(),
+                new DescribePoliciesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2634,14 +2249,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(
+    public ListenableFuture<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(
             final DescribeScalingActivitiesRequest describeScalingActivitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
-            public DescribeScalingActivitiesResult call() throws Exception {
-                return describeScalingActivities(describeScalingActivitiesRequest);
-            }
-        });
+        return describeScalingActivitiesAsync(describeScalingActivitiesRequest, null);
     }
 
     /**
@@ -2664,23 +2275,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(
+    public ListenableFuture<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(
             final DescribeScalingActivitiesRequest describeScalingActivitiesRequest,
             final AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
-            public DescribeScalingActivitiesResult call() throws Exception {
-                DescribeScalingActivitiesResult result = null;
-                try {
-                    result = describeScalingActivities(describeScalingActivitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeScalingActivitiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeScalingActivitiesRequest,
+                new DescribeScalingActivitiesRequestMarshaller(),
+                new DescribeScalingActivitiesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2702,14 +2304,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(
+    public ListenableFuture<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(
             final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
-            public DescribeScalingProcessTypesResult call() throws Exception {
-                return describeScalingProcessTypes(describeScalingProcessTypesRequest);
-            }
-        });
+        return describeScalingProcessTypesAsync(describeScalingProcessTypesRequest, null);
     }
 
     /**
@@ -2731,23 +2329,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(
+    public ListenableFuture<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(
             final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest,
             final AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
-            public DescribeScalingProcessTypesResult call() throws Exception {
-                DescribeScalingProcessTypesResult result = null;
-                try {
-                    result = describeScalingProcessTypes(describeScalingProcessTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeScalingProcessTypesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeScalingProcessTypesRequest,
+                new DescribeScalingProcessTypesRequestMarshaller(),
+                new DescribeScalingProcessTypesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2771,14 +2360,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(
+    public ListenableFuture<DescribeScheduledActionsResult> describeScheduledActionsAsync(
             final DescribeScheduledActionsRequest describeScheduledActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
-            public DescribeScheduledActionsResult call() throws Exception {
-                return describeScheduledActions(describeScheduledActionsRequest);
-            }
-        });
+        return describeScheduledActionsAsync(describeScheduledActionsRequest, null);
     }
 
     /**
@@ -2802,23 +2387,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(
+    public ListenableFuture<DescribeScheduledActionsResult> describeScheduledActionsAsync(
             final DescribeScheduledActionsRequest describeScheduledActionsRequest,
             final AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
-            public DescribeScheduledActionsResult call() throws Exception {
-                DescribeScheduledActionsResult result = null;
-                try {
-                    result = describeScheduledActions(describeScheduledActionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeScheduledActionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeScheduledActionsRequest,
+                new DescribeScheduledActionsRequestMarshaller(),
+                new DescribeScheduledActionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2850,14 +2426,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTagsResult> describeTagsAsync(
+    public ListenableFuture<DescribeTagsResult> describeTagsAsync(
             final DescribeTagsRequest describeTagsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-            }
-        });
+        return describeTagsAsync(describeTagsRequest, null);
     }
 
     /**
@@ -2889,23 +2461,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTagsResult> describeTagsAsync(
+    public ListenableFuture<DescribeTagsResult> describeTagsAsync(
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                DescribeTagsResult result = null;
-                try {
-                    result = describeTags(describeTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTagsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(),
+                new DescribeTagsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2932,14 +2495,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesAsync(
+    public ListenableFuture<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesAsync(
             final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
-            public DescribeTerminationPolicyTypesResult call() throws Exception {
-                return describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
-            }
-        });
+        return describeTerminationPolicyTypesAsync(describeTerminationPolicyTypesRequest, null);
     }
 
     /**
@@ -2966,23 +2525,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesAsync(
+    public ListenableFuture<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesAsync(
             final DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest,
             final AsyncHandler<DescribeTerminationPolicyTypesRequest, DescribeTerminationPolicyTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTerminationPolicyTypesResult>() {
-            public DescribeTerminationPolicyTypesResult call() throws Exception {
-                DescribeTerminationPolicyTypesResult result = null;
-                try {
-                    result = describeTerminationPolicyTypes(describeTerminationPolicyTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTerminationPolicyTypesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTerminationPolicyTypesRequest,
+                new DescribeTerminationPolicyTypesRequestMarshaller(),
+                new DescribeTerminationPolicyTypesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3024,14 +2574,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetachInstancesResult> detachInstancesAsync(
+    public ListenableFuture<DetachInstancesResult> detachInstancesAsync(
             final DetachInstancesRequest detachInstancesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetachInstancesResult>() {
-            public DetachInstancesResult call() throws Exception {
-                return detachInstances(detachInstancesRequest);
-            }
-        });
+        return detachInstancesAsync(detachInstancesRequest, null);
     }
 
     /**
@@ -3073,23 +2619,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetachInstancesResult> detachInstancesAsync(
+    public ListenableFuture<DetachInstancesResult> detachInstancesAsync(
             final DetachInstancesRequest detachInstancesRequest,
             final AsyncHandler<DetachInstancesRequest, DetachInstancesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachInstancesResult>() {
-            public DetachInstancesResult call() throws Exception {
-                DetachInstancesResult result = null;
-                try {
-                    result = detachInstances(detachInstancesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detachInstancesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detachInstancesRequest,
+                new DetachInstancesRequestMarshaller(),
+                new DetachInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3110,14 +2647,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetachLoadBalancerTargetGroupsResult> detachLoadBalancerTargetGroupsAsync(
+    public ListenableFuture<DetachLoadBalancerTargetGroupsResult> detachLoadBalancerTargetGroupsAsync(
             final DetachLoadBalancerTargetGroupsRequest detachLoadBalancerTargetGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerTargetGroupsResult>() {
-            public DetachLoadBalancerTargetGroupsResult call() throws Exception {
-                return detachLoadBalancerTargetGroups(detachLoadBalancerTargetGroupsRequest);
-            }
-        });
+        return detachLoadBalancerTargetGroupsAsync(detachLoadBalancerTargetGroupsRequest, null);
     }
 
     /**
@@ -3138,23 +2671,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetachLoadBalancerTargetGroupsResult> detachLoadBalancerTargetGroupsAsync(
+    public ListenableFuture<DetachLoadBalancerTargetGroupsResult> detachLoadBalancerTargetGroupsAsync(
             final DetachLoadBalancerTargetGroupsRequest detachLoadBalancerTargetGroupsRequest,
             final AsyncHandler<DetachLoadBalancerTargetGroupsRequest, DetachLoadBalancerTargetGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerTargetGroupsResult>() {
-            public DetachLoadBalancerTargetGroupsResult call() throws Exception {
-                DetachLoadBalancerTargetGroupsResult result = null;
-                try {
-                    result = detachLoadBalancerTargetGroups(detachLoadBalancerTargetGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detachLoadBalancerTargetGroupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detachLoadBalancerTargetGroupsRequest,
+                new DetachLoadBalancerTargetGroupsRequestMarshaller(),
+                new DetachLoadBalancerTargetGroupsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3187,14 +2711,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetachLoadBalancersResult> detachLoadBalancersAsync(
+    public ListenableFuture<DetachLoadBalancersResult> detachLoadBalancersAsync(
             final DetachLoadBalancersRequest detachLoadBalancersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancersResult>() {
-            public DetachLoadBalancersResult call() throws Exception {
-                return detachLoadBalancers(detachLoadBalancersRequest);
-            }
-        });
+        return detachLoadBalancersAsync(detachLoadBalancersRequest, null);
     }
 
     /**
@@ -3227,23 +2747,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetachLoadBalancersResult> detachLoadBalancersAsync(
+    public ListenableFuture<DetachLoadBalancersResult> detachLoadBalancersAsync(
             final DetachLoadBalancersRequest detachLoadBalancersRequest,
             final AsyncHandler<DetachLoadBalancersRequest, DetachLoadBalancersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancersResult>() {
-            public DetachLoadBalancersResult call() throws Exception {
-                DetachLoadBalancersResult result = null;
-                try {
-                    result = detachLoadBalancers(detachLoadBalancersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detachLoadBalancersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detachLoadBalancersRequest,
+                new DetachLoadBalancersRequestMarshaller(),
+                new DetachLoadBalancersResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3264,15 +2775,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disableMetricsCollectionAsync(
+    public ListenableFuture<Void> disableMetricsCollectionAsync(
             final DisableMetricsCollectionRequest disableMetricsCollectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableMetricsCollection(disableMetricsCollectionRequest);
-                return null;
-            }
-        });
+        return disableMetricsCollectionAsync(disableMetricsCollectionRequest, null);
     }
 
     /**
@@ -3293,23 +2799,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disableMetricsCollectionAsync(
+    public ListenableFuture<Void> disableMetricsCollectionAsync(
             final DisableMetricsCollectionRequest disableMetricsCollectionRequest,
             final AsyncHandler<DisableMetricsCollectionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disableMetricsCollection(disableMetricsCollectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disableMetricsCollectionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disableMetricsCollectionRequest,
+                new DisableMetricsCollectionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -3334,15 +2831,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> enableMetricsCollectionAsync(
+    public ListenableFuture<Void> enableMetricsCollectionAsync(
             final EnableMetricsCollectionRequest enableMetricsCollectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableMetricsCollection(enableMetricsCollectionRequest);
-                return null;
-            }
-        });
+        return enableMetricsCollectionAsync(enableMetricsCollectionRequest, null);
     }
 
     /**
@@ -3367,23 +2859,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> enableMetricsCollectionAsync(
+    public ListenableFuture<Void> enableMetricsCollectionAsync(
             final EnableMetricsCollectionRequest enableMetricsCollectionRequest,
             final AsyncHandler<EnableMetricsCollectionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    enableMetricsCollection(enableMetricsCollectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(enableMetricsCollectionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(enableMetricsCollectionRequest,
+                new EnableMetricsCollectionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -3420,14 +2903,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<EnterStandbyResult> enterStandbyAsync(
+    public ListenableFuture<EnterStandbyResult> enterStandbyAsync(
             final EnterStandbyRequest enterStandbyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<EnterStandbyResult>() {
-            public EnterStandbyResult call() throws Exception {
-                return enterStandby(enterStandbyRequest);
-            }
-        });
+        return enterStandbyAsync(enterStandbyRequest, null);
     }
 
     /**
@@ -3464,23 +2943,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<EnterStandbyResult> enterStandbyAsync(
+    public ListenableFuture<EnterStandbyResult> enterStandbyAsync(
             final EnterStandbyRequest enterStandbyRequest,
             final AsyncHandler<EnterStandbyRequest, EnterStandbyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnterStandbyResult>() {
-            public EnterStandbyResult call() throws Exception {
-                EnterStandbyResult result = null;
-                try {
-                    result = enterStandby(enterStandbyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(enterStandbyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(enterStandbyRequest,
+                new EnterStandbyRequestMarshaller(),
+                new EnterStandbyResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3501,14 +2971,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest)
+    public ListenableFuture<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                executePolicy(executePolicyRequest);
-                return null;
-            }
-        });
+        return executePolicyAsync(executePolicyRequest, null);
     }
 
     /**
@@ -3529,22 +2994,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest,
+    public ListenableFuture<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest,
             final AsyncHandler<ExecutePolicyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    executePolicy(executePolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(executePolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(executePolicyRequest,
+                new ExecutePolicyRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -3574,13 +3030,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ExitStandbyResult> exitStandbyAsync(final ExitStandbyRequest exitStandbyRequest)
+    public ListenableFuture<ExitStandbyResult> exitStandbyAsync(final ExitStandbyRequest exitStandbyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ExitStandbyResult>() {
-            public ExitStandbyResult call() throws Exception {
-                return exitStandby(exitStandbyRequest);
-            }
-        });
+        return exitStandbyAsync(exitStandbyRequest, null);
     }
 
     /**
@@ -3610,22 +3062,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ExitStandbyResult> exitStandbyAsync(final ExitStandbyRequest exitStandbyRequest,
+    public ListenableFuture<ExitStandbyResult> exitStandbyAsync(final ExitStandbyRequest exitStandbyRequest,
             final AsyncHandler<ExitStandbyRequest, ExitStandbyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ExitStandbyResult>() {
-            public ExitStandbyResult call() throws Exception {
-                ExitStandbyResult result = null;
-                try {
-                    result = exitStandby(exitStandbyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(exitStandbyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(exitStandbyRequest,
+                new ExitStandbyRequestMarshaller(),
+                new ExitStandbyResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3705,14 +3148,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutLifecycleHookResult> putLifecycleHookAsync(
+    public ListenableFuture<PutLifecycleHookResult> putLifecycleHookAsync(
             final PutLifecycleHookRequest putLifecycleHookRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutLifecycleHookResult>() {
-            public PutLifecycleHookResult call() throws Exception {
-                return putLifecycleHook(putLifecycleHookRequest);
-            }
-        });
+        return putLifecycleHookAsync(putLifecycleHookRequest, null);
     }
 
     /**
@@ -3792,23 +3231,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutLifecycleHookResult> putLifecycleHookAsync(
+    public ListenableFuture<PutLifecycleHookResult> putLifecycleHookAsync(
             final PutLifecycleHookRequest putLifecycleHookRequest,
             final AsyncHandler<PutLifecycleHookRequest, PutLifecycleHookResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutLifecycleHookResult>() {
-            public PutLifecycleHookResult call() throws Exception {
-                PutLifecycleHookResult result = null;
-                try {
-                    result = putLifecycleHook(putLifecycleHookRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putLifecycleHookRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putLifecycleHookRequest,
+                new PutLifecycleHookRequestMarshaller(),
+                new PutLifecycleHookResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3842,15 +3272,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putNotificationConfigurationAsync(
+    public ListenableFuture<Void> putNotificationConfigurationAsync(
             final PutNotificationConfigurationRequest putNotificationConfigurationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putNotificationConfiguration(putNotificationConfigurationRequest);
-                return null;
-            }
-        });
+        return putNotificationConfigurationAsync(putNotificationConfigurationRequest, null);
     }
 
     /**
@@ -3884,23 +3309,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putNotificationConfigurationAsync(
+    public ListenableFuture<Void> putNotificationConfigurationAsync(
             final PutNotificationConfigurationRequest putNotificationConfigurationRequest,
             final AsyncHandler<PutNotificationConfigurationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putNotificationConfiguration(putNotificationConfigurationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putNotificationConfigurationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putNotificationConfigurationRequest,
+                new PutNotificationConfigurationRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -3929,14 +3345,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutScalingPolicyResult> putScalingPolicyAsync(
+    public ListenableFuture<PutScalingPolicyResult> putScalingPolicyAsync(
             final PutScalingPolicyRequest putScalingPolicyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
-            public PutScalingPolicyResult call() throws Exception {
-                return putScalingPolicy(putScalingPolicyRequest);
-            }
-        });
+        return putScalingPolicyAsync(putScalingPolicyRequest, null);
     }
 
     /**
@@ -3965,23 +3377,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutScalingPolicyResult> putScalingPolicyAsync(
+    public ListenableFuture<PutScalingPolicyResult> putScalingPolicyAsync(
             final PutScalingPolicyRequest putScalingPolicyRequest,
             final AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
-            public PutScalingPolicyResult call() throws Exception {
-                PutScalingPolicyResult result = null;
-                try {
-                    result = putScalingPolicy(putScalingPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putScalingPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putScalingPolicyRequest,
+                new PutScalingPolicyRequestMarshaller(),
+                new PutScalingPolicyResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4011,15 +3414,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putScheduledUpdateGroupActionAsync(
+    public ListenableFuture<Void> putScheduledUpdateGroupActionAsync(
             final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
-                return null;
-            }
-        });
+        return putScheduledUpdateGroupActionAsync(putScheduledUpdateGroupActionRequest, null);
     }
 
     /**
@@ -4049,23 +3447,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putScheduledUpdateGroupActionAsync(
+    public ListenableFuture<Void> putScheduledUpdateGroupActionAsync(
             final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest,
             final AsyncHandler<PutScheduledUpdateGroupActionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putScheduledUpdateGroupActionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putScheduledUpdateGroupActionRequest,
+                new PutScheduledUpdateGroupActionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -4132,14 +3521,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RecordLifecycleActionHeartbeatResult> recordLifecycleActionHeartbeatAsync(
+    public ListenableFuture<RecordLifecycleActionHeartbeatResult> recordLifecycleActionHeartbeatAsync(
             final RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RecordLifecycleActionHeartbeatResult>() {
-            public RecordLifecycleActionHeartbeatResult call() throws Exception {
-                return recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
-            }
-        });
+        return recordLifecycleActionHeartbeatAsync(recordLifecycleActionHeartbeatRequest, null);
     }
 
     /**
@@ -4206,23 +3591,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RecordLifecycleActionHeartbeatResult> recordLifecycleActionHeartbeatAsync(
+    public ListenableFuture<RecordLifecycleActionHeartbeatResult> recordLifecycleActionHeartbeatAsync(
             final RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest,
             final AsyncHandler<RecordLifecycleActionHeartbeatRequest, RecordLifecycleActionHeartbeatResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RecordLifecycleActionHeartbeatResult>() {
-            public RecordLifecycleActionHeartbeatResult call() throws Exception {
-                RecordLifecycleActionHeartbeatResult result = null;
-                try {
-                    result = recordLifecycleActionHeartbeat(recordLifecycleActionHeartbeatRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(recordLifecycleActionHeartbeatRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(recordLifecycleActionHeartbeatRequest,
+                new RecordLifecycleActionHeartbeatRequestMarshaller(),
+                new RecordLifecycleActionHeartbeatResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4251,14 +3627,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest)
+    public ListenableFuture<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resumeProcesses(resumeProcessesRequest);
-                return null;
-            }
-        });
+        return resumeProcessesAsync(resumeProcessesRequest, null);
     }
 
     /**
@@ -4287,22 +3658,13 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest,
+    public ListenableFuture<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest,
             final AsyncHandler<ResumeProcessesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    resumeProcesses(resumeProcessesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(resumeProcessesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(resumeProcessesRequest,
+                new ResumeProcessesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -4330,15 +3692,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> setDesiredCapacityAsync(
+    public ListenableFuture<Void> setDesiredCapacityAsync(
             final SetDesiredCapacityRequest setDesiredCapacityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setDesiredCapacity(setDesiredCapacityRequest);
-                return null;
-            }
-        });
+        return setDesiredCapacityAsync(setDesiredCapacityRequest, null);
     }
 
     /**
@@ -4366,23 +3723,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> setDesiredCapacityAsync(
+    public ListenableFuture<Void> setDesiredCapacityAsync(
             final SetDesiredCapacityRequest setDesiredCapacityRequest,
             final AsyncHandler<SetDesiredCapacityRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setDesiredCapacity(setDesiredCapacityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setDesiredCapacityRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setDesiredCapacityRequest,
+                new SetDesiredCapacityRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -4409,15 +3757,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> setInstanceHealthAsync(
+    public ListenableFuture<Void> setInstanceHealthAsync(
             final SetInstanceHealthRequest setInstanceHealthRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setInstanceHealth(setInstanceHealthRequest);
-                return null;
-            }
-        });
+        return setInstanceHealthAsync(setInstanceHealthRequest, null);
     }
 
     /**
@@ -4444,23 +3787,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> setInstanceHealthAsync(
+    public ListenableFuture<Void> setInstanceHealthAsync(
             final SetInstanceHealthRequest setInstanceHealthRequest,
             final AsyncHandler<SetInstanceHealthRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setInstanceHealth(setInstanceHealthRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setInstanceHealthRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setInstanceHealthRequest,
+                new SetInstanceHealthRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -4489,14 +3823,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<SetInstanceProtectionResult> setInstanceProtectionAsync(
+    public ListenableFuture<SetInstanceProtectionResult> setInstanceProtectionAsync(
             final SetInstanceProtectionRequest setInstanceProtectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetInstanceProtectionResult>() {
-            public SetInstanceProtectionResult call() throws Exception {
-                return setInstanceProtection(setInstanceProtectionRequest);
-            }
-        });
+        return setInstanceProtectionAsync(setInstanceProtectionRequest, null);
     }
 
     /**
@@ -4525,23 +3855,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<SetInstanceProtectionResult> setInstanceProtectionAsync(
+    public ListenableFuture<SetInstanceProtectionResult> setInstanceProtectionAsync(
             final SetInstanceProtectionRequest setInstanceProtectionRequest,
             final AsyncHandler<SetInstanceProtectionRequest, SetInstanceProtectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetInstanceProtectionResult>() {
-            public SetInstanceProtectionResult call() throws Exception {
-                SetInstanceProtectionResult result = null;
-                try {
-                    result = setInstanceProtection(setInstanceProtectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setInstanceProtectionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setInstanceProtectionRequest,
+                new SetInstanceProtectionRequestMarshaller(),
+                new SetInstanceProtectionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4578,14 +3899,9 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> suspendProcessesAsync(final SuspendProcessesRequest suspendProcessesRequest)
+    public ListenableFuture<Void> suspendProcessesAsync(final SuspendProcessesRequest suspendProcessesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                suspendProcesses(suspendProcessesRequest);
-                return null;
-            }
-        });
+        return suspendProcessesAsync(suspendProcessesRequest, null);
     }
 
     /**
@@ -4622,23 +3938,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> suspendProcessesAsync(
+    public ListenableFuture<Void> suspendProcessesAsync(
             final SuspendProcessesRequest suspendProcessesRequest,
             final AsyncHandler<SuspendProcessesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    suspendProcesses(suspendProcessesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(suspendProcessesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(suspendProcessesRequest,
+                new SuspendProcessesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -4679,14 +3986,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(
+    public ListenableFuture<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(
             final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
-            public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
-                return terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
-            }
-        });
+        return terminateInstanceInAutoScalingGroupAsync(terminateInstanceInAutoScalingGroupRequest, null);
     }
 
     /**
@@ -4727,23 +4030,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(
+    public ListenableFuture<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(
             final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest,
             final AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
-            public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
-                TerminateInstanceInAutoScalingGroupResult result = null;
-                try {
-                    result = terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(terminateInstanceInAutoScalingGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(terminateInstanceInAutoScalingGroupRequest,
+                new TerminateInstanceInAutoScalingGroupRequestMarshaller(),
+                new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4823,15 +4117,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateAutoScalingGroupAsync(
+    public ListenableFuture<Void> updateAutoScalingGroupAsync(
             final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAutoScalingGroup(updateAutoScalingGroupRequest);
-                return null;
-            }
-        });
+        return updateAutoScalingGroupAsync(updateAutoScalingGroupRequest, null);
     }
 
     /**
@@ -4911,23 +4200,14 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient implem
      *             Auto Scaling indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateAutoScalingGroupAsync(
+    public ListenableFuture<Void> updateAutoScalingGroupAsync(
             final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest,
             final AsyncHandler<UpdateAutoScalingGroupRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateAutoScalingGroup(updateAutoScalingGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateAutoScalingGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateAutoScalingGroupRequest,
+                new UpdateAutoScalingGroupRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import com.amazonaws.metrics.HistogramRequestMetricCollector;
+import com.amazonaws.metrics.LatencyHistogram;
+import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.services.cloudwatch.AmazonCloudWatch;
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
+import com.amazonaws.services.cloudwatch.model.StandardUnit;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically publishes the latencies aggregated by a
+ * {@link HistogramRequestMetricCollector} to Amazon CloudWatch.
+ * <p>
+ * Every interval, each timing of each operation is sent as one metric with
+ * the sample count, sum, minimum and maximum, plus one metric per percentile
+ * named after the timing, e.g. HttpRequestTime.p99. The metrics have the
+ * dimensions ServiceName and OperationName, and are sent in batches of
+ * {@value #MAX_METRIC_DATA_PER_REQUEST} per PutMetricData call. The
+ * PutMetricData calls themselves are left out of the request metrics.
+ */
+public class CloudWatchMetricPublisher {
+    private static final Log LOG = LogFactory.getLog(CloudWatchMetricPublisher.class);
+
+    /** PutMetricData accepts up to 20 metrics per call. */
+    public static final int MAX_METRIC_DATA_PER_REQUEST = 20;
+
+    private static final double[] PERCENTILES = {
+            50, 90, 99
+    };
+    private static final String SERVICE_DIMENSION = "ServiceName";
+    private static final String OPERATION_DIMENSION = "OperationName";
+
+    private final AmazonCloudWatch cloudWatch;
+    private final HistogramRequestMetricCollector collector;
+    private final String namespace;
+    private final long intervalMillis;
+
+    /** Guarded by this. */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param cloudWatch the client to publish with.
+     * @param collector the collector whose latencies are published.
+     * @param namespace the metric namespace.
+     * @param intervalMillis the time between two publications.
+     */
+    public CloudWatchMetricPublisher(AmazonCloudWatch cloudWatch,
+            HistogramRequestMetricCollector collector, String namespace,
+            long intervalMillis) {
+        if (cloudWatch == null || collector == null || namespace == null) {
+            throw new IllegalArgumentException(
+                    "cloudWatch, collector and namespace cannot be null");
+        }
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("intervalMillis must be positive");
+        }
+        this.cloudWatch = cloudWatch;
+        this.collector = collector;
+        this.namespace = namespace;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Starts publishing every interval on a daemon thread.
+     *
+     * @return true if started by this call; false if already started.
+     */
+    public synchronized boolean start() {
+        if (scheduler != null) {
+            return false;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                final Thread thread = new Thread(r, "CloudWatchMetricPublisher");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                publish();
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    /**
+     * Stops publishing every interval. What was collected since the last
+     * publication is still published, without blocking the caller.
+     *
+     * @return true if stopped by this call; false if not started.
+     */
+    public boolean stop() {
+        final ScheduledExecutorService stopped;
+        synchronized (this) {
+            stopped = scheduler;
+            scheduler = null;
+        }
+        if (stopped == null) {
+            return false;
+        }
+        stopped.execute(new Runnable() {
+            @Override
+            public void run() {
+                publish();
+            }
+        });
+        stopped.shutdown();
+        return true;
+    }
+
+    /**
+     * Publishes the latencies collected since the last publication. Failed
+     * calls are logged and their metrics dropped.
+     */
+    public void publish() {
+        final Map<HistogramRequestMetricCollector.Key, LatencyHistogram.Snapshot> snapshots =
+                collector.snapshotAndReset();
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        final Date timestamp = new Date();
+        final List<MetricDatum> metricData = new ArrayList<MetricDatum>();
+        for (final Map.Entry<HistogramRequestMetricCollector.Key, LatencyHistogram.Snapshot> entry
+                : snapshots.entrySet()) {
+            addMetricData(metricData, entry.getKey(), entry.getValue(), timestamp);
+        }
+
+        for (int i = 0; i < metricData.size(); i += MAX_METRIC_DATA_PER_REQUEST) {
+            final List<MetricDatum> batch = metricData.subList(i,
+                    Math.min(metricData.size(), i + MAX_METRIC_DATA_PER_REQUEST));
+            try {
+                // Not measured, so publishing doesn't produce metrics to publish.
+                final PutMetricDataRequest request = new PutMetricDataRequest()
+                        .withNamespace(namespace)
+                        .withMetricData(new ArrayList<MetricDatum>(batch));
+                request.setRequestMetricCollector(RequestMetricCollector.NONE);
+                cloudWatch.putMetricData(request);
+            } catch (final AmazonClientException e) {
+                LOG.warn("Failed to publish " + batch.size() + " metrics", e);
+            }
+        }
+    }
+
+    private static void addMetricData(List<MetricDatum> metricData,
+            HistogramRequestMetricCollector.Key key, LatencyHistogram.Snapshot snapshot,
+            Date timestamp) {
+        final List<Dimension> dimensions = new ArrayList<Dimension>(2);
+        if (key.getServiceName() != null) {
+            dimensions.add(new Dimension().withName(SERVICE_DIMENSION)
+                    .withValue(key.getServiceName()));
+        }
+        dimensions.add(new Dimension().withName(OPERATION_DIMENSION)
+                .withValue(key.getOperationName()));
+        final String metricName = key.getMetricType().name();
+
+        metricData.add(new MetricDatum()
+                .withMetricName(metricName)
+                .withDimensions(dimensions)
+                .withTimestamp(timestamp)
+                .withUnit(StandardUnit.Milliseconds)
+                .withStatisticValues(new StatisticSet()
+                        .withSampleCount((double) snapshot.getCount())
+                        .withSum(snapshot.getSum())
+                        .withMinimum(snapshot.getMinimum())
+                        .withMaximum(snapshot.getMaximum())));
+        for (final double percentile : PERCENTILES) {
+            metricData.add(new MetricDatum()
+                    .withMetricName(metricName + ".p" + (int) percentile)
+                    .withDimensions(dimensions)
+                    .withTimestamp(timestamp)
+                    .withUnit(StandardUnit.Milliseconds)
+                    .withValue(snapshot.getPercentile(percentile)));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.metrics.HistogramRequestMetricCollector;
+import com.amazonaws.metrics.MetricCollector;
+import com.amazonaws.regions.Region;
+import com.amazonaws.regions.Regions;
+import com.amazonaws.services.cloudwatch.AmazonCloudWatchClient;
+
+/**
+ * The default metric collector factory loaded by
+ * {@link AwsSdkMetrics#enableDefaultMetrics()}. It aggregates request
+ * latencies into histograms and publishes them to Amazon CloudWatch with the
+ * credentials, region, namespace and queue poll timeout configured in
+ * {@link AwsSdkMetrics}.
+ */
+public class DefaultMetricCollectorFactory implements MetricCollector.Factory {
+
+    /** Time between two publications when no queue poll timeout is set. */
+    private static final long DEFAULT_PUBLISH_INTERVAL_MILLIS = 60 * 1000;
+
+    @Override
+    public MetricCollector getInstance() {
+        // Only available while this class is on the call stack.
+        AWSCredentialsProvider credentialsProvider = AwsSdkMetrics.getCredentialProvider();
+        if (credentialsProvider == null) {
+            credentialsProvider = new DefaultAWSCredentialsProviderChain();
+        }
+        final AmazonCloudWatchClient cloudWatch = new AmazonCloudWatchClient(credentialsProvider);
+        final Regions region = AwsSdkMetrics.getRegion();
+        if (region != null) {
+            cloudWatch.setRegion(Region.getRegion(region));
+        }
+        final Long interval = AwsSdkMetrics.getQueuePollTimeoutMilli();
+
+        final HistogramRequestMetricCollector requestMetricCollector =
+                new HistogramRequestMetricCollector();
+        final CloudWatchMetricPublisher publisher = new CloudWatchMetricPublisher(cloudWatch,
+                requestMetricCollector, AwsSdkMetrics.getMetricNameSpace(),
+                interval == null ? DEFAULT_PUBLISH_INTERVAL_MILLIS : interval);
+        final HistogramMetricCollector collector =
+                new HistogramMetricCollector(requestMetricCollector, publisher);
+        collector.start();
+        return collector;
+    }
+}
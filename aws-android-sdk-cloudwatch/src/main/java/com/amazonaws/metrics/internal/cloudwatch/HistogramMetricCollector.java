@@ -0,0 +1,80 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import com.amazonaws.metrics.HistogramRequestMetricCollector;
+import com.amazonaws.metrics.MetricCollector;
+import com.amazonaws.metrics.ServiceMetricCollector;
+
+/**
+ * A metric collector that aggregates request latencies in a
+ * {@link HistogramRequestMetricCollector}, and publishes them with a
+ * {@link CloudWatchMetricPublisher} while started.
+ */
+public class HistogramMetricCollector extends MetricCollector {
+    private final HistogramRequestMetricCollector requestMetricCollector;
+    private final CloudWatchMetricPublisher publisher;
+    private volatile boolean started;
+
+    /**
+     * @param requestMetricCollector the collector of request latencies.
+     * @param publisher the publisher of the collected latencies.
+     */
+    public HistogramMetricCollector(HistogramRequestMetricCollector requestMetricCollector,
+            CloudWatchMetricPublisher publisher) {
+        this.requestMetricCollector = requestMetricCollector;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public synchronized boolean start() {
+        if (started) {
+            return false;
+        }
+        publisher.start();
+        started = true;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean stop() {
+        if (!started) {
+            return false;
+        }
+        started = false;
+        publisher.stop();
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return started;
+    }
+
+    /**
+     * @return the collector of request latencies, whose snapshots can also be
+     *         read in process.
+     */
+    @Override
+    public HistogramRequestMetricCollector getRequestMetricCollector() {
+        return requestMetricCollector;
+    }
+
+    @Override
+    public ServiceMetricCollector getServiceMetricCollector() {
+        return ServiceMetricCollector.NONE;
+    }
+}
@@ -15,13 +15,13 @@
 
 package com.amazonaws.services.cloudwatch;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -29,6 +29,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.cloudwatch.model.*;
+import com.amazonaws.services.cloudwatch.model.transform.*;
 
 /**
  * Interface for accessing Amazon CloudWatch asynchronously.
@@ -59,7 +60,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -105,15 +106,15 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     @Deprecated
     public AmazonCloudWatchAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * CloudWatch using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be run on the SDK's
+     * shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -123,7 +124,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *            to use when authenticating with AWS services.
      */
     public AmazonCloudWatchAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -143,7 +144,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public AmazonCloudWatchAsyncClient(AWSCredentials awsCredentials,
             ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -165,14 +166,14 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public AmazonCloudWatchAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * CloudWatch using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -183,7 +184,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *            services.
      */
     public AmazonCloudWatchAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -223,8 +224,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      */
     public AmazonCloudWatchAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -247,17 +248,18 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
     public AmazonCloudWatchAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -292,14 +294,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest)
+    public ListenableFuture<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAlarms(deleteAlarmsRequest);
-                return null;
-            }
-        });
+        return deleteAlarmsAsync(deleteAlarmsRequest, null);
     }
 
     /**
@@ -320,22 +317,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest,
+    public ListenableFuture<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest,
             final AsyncHandler<DeleteAlarmsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteAlarms(deleteAlarmsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteAlarmsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteAlarmsRequest,
+                new DeleteAlarmsRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -360,14 +348,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
+    public ListenableFuture<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-                return describeAlarmHistory(describeAlarmHistoryRequest);
-            }
-        });
+        return describeAlarmHistoryAsync(describeAlarmHistoryRequest, null);
     }
 
     /**
@@ -392,23 +376,14 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
+    public ListenableFuture<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(
             final DescribeAlarmHistoryRequest describeAlarmHistoryRequest,
             final AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-                DescribeAlarmHistoryResult result = null;
-                try {
-                    result = describeAlarmHistory(describeAlarmHistoryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAlarmHistoryRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAlarmHistoryRequest,
+                new DescribeAlarmHistoryRequestMarshaller(),
+                new DescribeAlarmHistoryResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -430,14 +405,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmsResult> describeAlarmsAsync(
+    public ListenableFuture<DescribeAlarmsResult> describeAlarmsAsync(
             final DescribeAlarmsRequest describeAlarmsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-                return describeAlarms(describeAlarmsRequest);
-            }
-        });
+        return describeAlarmsAsync(describeAlarmsRequest, null);
     }
 
     /**
@@ -459,23 +430,14 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmsResult> describeAlarmsAsync(
+    public ListenableFuture<DescribeAlarmsResult> describeAlarmsAsync(
             final DescribeAlarmsRequest describeAlarmsRequest,
             final AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-                DescribeAlarmsResult result = null;
-                try {
-                    result = describeAlarms(describeAlarmsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAlarmsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAlarmsRequest,
+                new DescribeAlarmsRequestMarshaller(),
+                new DescribeAlarmsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -496,14 +458,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
+    public ListenableFuture<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-                return describeAlarmsForMetric(describeAlarmsForMetricRequest);
-            }
-        });
+        return describeAlarmsForMetricAsync(describeAlarmsForMetricRequest, null);
     }
 
     /**
@@ -524,23 +482,14 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
+    public ListenableFuture<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(
             final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest,
             final AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-                DescribeAlarmsForMetricResult result = null;
-                try {
-                    result = describeAlarmsForMetric(describeAlarmsForMetricRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAlarmsForMetricRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAlarmsForMetricRequest,
+                new DescribeAlarmsForMetricRequestMarshaller(),
+                new DescribeAlarmsForMetricResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -563,15 +512,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disableAlarmActionsAsync(
+    public ListenableFuture<Void> disableAlarmActionsAsync(
             final DisableAlarmActionsRequest disableAlarmActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableAlarmActions(disableAlarmActionsRequest);
-                return null;
-            }
-        });
+        return disableAlarmActionsAsync(disableAlarmActionsRequest, null);
     }
 
     /**
@@ -594,23 +538,14 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> disableAlarmActionsAsync(
+    public ListenableFuture<Void> disableAlarmActionsAsync(
             final DisableAlarmActionsRequest disableAlarmActionsRequest,
             final AsyncHandler<DisableAlarmActionsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    disableAlarmActions(disableAlarmActionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disableAlarmActionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disableAlarmActionsRequest,
+                new DisableAlarmActionsRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -630,15 +565,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> enableAlarmActionsAsync(
+    public ListenableFuture<Void> enableAlarmActionsAsync(
             final EnableAlarmActionsRequest enableAlarmActionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableAlarmActions(enableAlarmActionsRequest);
-                return null;
-            }
-        });
+        return enableAlarmActionsAsync(enableAlarmActionsRequest, null);
     }
 
     /**
@@ -658,23 +588,14 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> enableAlarmActionsAsync(
+    public ListenableFuture<Void> enableAlarmActionsAsync(
             final EnableAlarmActionsRequest enableAlarmActionsRequest,
             final AsyncHandler<EnableAlarmActionsRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    enableAlarmActions(enableAlarmActionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(enableAlarmActionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(enableAlarmActionsRequest,
+                new EnableAlarmActionsRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -735,14 +656,10 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(
+    public ListenableFuture<GetMetricStatisticsResult> getMetricStatisticsAsync(
             final GetMetricStatisticsRequest getMetricStatisticsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-                return getMetricStatistics(getMetricStatisticsRequest);
-            }
-        });
+        return getMetricStatisticsAsync(getMetricStatisticsRequest, null);
     }
 
     /**
@@ -803,23 +720,14 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(
+    public ListenableFuture<GetMetricStatisticsResult> getMetricStatisticsAsync(
             final GetMetricStatisticsRequest getMetricStatisticsRequest,
             final AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-                GetMetricStatisticsResult result = null;
-                try {
-                    result = getMetricStatistics(getMetricStatisticsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMetricStatisticsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getMetricStatisticsRequest,
+                new GetMetricStatisticsRequestMarshaller(),
+                new GetMetricStatisticsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -849,13 +757,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest)
+    public ListenableFuture<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-                return listMetrics(listMetricsRequest);
-            }
-        });
+        return listMetricsAsync(listMetricsRequest, null);
     }
 
     /**
@@ -885,22 +789,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest,
+    public ListenableFuture<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest,
             final AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-                ListMetricsResult result = null;
-                try {
-                    result = listMetrics(listMetricsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listMetricsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listMetricsRequest,
+                new ListMetricsRequestMarshaller(),
+                new ListMetricsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -964,14 +859,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest)
+    public ListenableFuture<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricAlarm(putMetricAlarmRequest);
-                return null;
-            }
-        });
+        return putMetricAlarmAsync(putMetricAlarmRequest, null);
     }
 
     /**
@@ -1035,22 +925,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest,
+    public ListenableFuture<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest,
             final AsyncHandler<PutMetricAlarmRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putMetricAlarm(putMetricAlarmRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putMetricAlarmRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putMetricAlarmRequest,
+                new PutMetricAlarmRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1092,14 +973,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest)
+    public ListenableFuture<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricData(putMetricDataRequest);
-                return null;
-            }
-        });
+        return putMetricDataAsync(putMetricDataRequest, null);
     }
 
     /**
@@ -1141,22 +1017,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest,
+    public ListenableFuture<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest,
             final AsyncHandler<PutMetricDataRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    putMetricData(putMetricDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putMetricDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putMetricDataRequest,
+                new PutMetricDataRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1186,14 +1053,9 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest)
+    public ListenableFuture<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setAlarmState(setAlarmStateRequest);
-                return null;
-            }
-        });
+        return setAlarmStateAsync(setAlarmStateRequest, null);
     }
 
     /**
@@ -1223,22 +1085,13 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient implemen
      *             CloudWatch indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest,
+    public ListenableFuture<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest,
             final AsyncHandler<SetAlarmStateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setAlarmState(setAlarmStateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setAlarmStateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setAlarmStateRequest,
+                new SetAlarmStateRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
 }
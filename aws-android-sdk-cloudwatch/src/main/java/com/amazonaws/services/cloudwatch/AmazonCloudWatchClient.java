@@ -18,8 +18,10 @@ package com.amazonaws.services.cloudwatch;
 import org.w3c.dom.*;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import com.amazonaws.*;
+import com.amazonaws.async.ListenableFuture;
 import com.amazonaws.auth.*;
 import com.amazonaws.handlers.*;
 import com.amazonaws.http.*;
@@ -998,4 +1000,22 @@ public class AmazonCloudWatchClient extends AmazonWebServiceClient implements Am
                 exceptionUnmarshallers);
         return client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
+
+    /**
+     * Sends a request without waiting for its response.
+     *
+     * @see AmazonWebServiceClient#invokeAsync(AmazonWebServiceRequest,
+     *      Marshaller, HttpResponseHandler, HttpResponseHandler,
+     *      AWSCredentialsProvider, AsyncHandler, Executor)
+     */
+    <X, Y extends AmazonWebServiceRequest> ListenableFuture<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            Unmarshaller<X, StaxUnmarshallerContext> unmarshaller,
+            AsyncHandler<Y, X> asyncHandler, Executor executor) {
+        StaxResponseHandler<X> responseHandler = new StaxResponseHandler<X>(unmarshaller);
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+        return invokeAsync(originalRequest, marshaller, responseHandler, errorResponseHandler,
+                awsCredentialsProvider, asyncHandler, executor);
+    }
 }
@@ -15,20 +15,22 @@
 
 package com.amazonaws.services.comprehend;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.comprehend.model.*;
+import com.amazonaws.services.comprehend.model.transform.*;
 
 /**
  * Interface for accessing Amazon Comprehend asynchronously.
@@ -45,7 +47,7 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -91,15 +93,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      */
     @Deprecated
     public AmazonComprehendAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Comprehend using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be run on the SDK's
+     * shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -109,7 +111,7 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *            to use when authenticating with AWS services.
      */
     public AmazonComprehendAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -129,7 +131,7 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public AmazonComprehendAsyncClient(AWSCredentials awsCredentials,
             ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -151,14 +153,14 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public AmazonComprehendAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Comprehend using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -169,7 +171,7 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *            services.
      */
     public AmazonComprehendAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -209,8 +211,8 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      */
     public AmazonComprehendAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -233,17 +235,18 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
     public AmazonComprehendAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -285,14 +288,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
+    public ListenableFuture<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
             final BatchDetectDominantLanguageRequest batchDetectDominantLanguageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectDominantLanguageResult>() {
-            public BatchDetectDominantLanguageResult call() throws Exception {
-                return batchDetectDominantLanguage(batchDetectDominantLanguageRequest);
-            }
-        });
+        return batchDetectDominantLanguageAsync(batchDetectDominantLanguageRequest, null);
     }
 
     /**
@@ -320,23 +319,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
+    public ListenableFuture<BatchDetectDominantLanguageResult> batchDetectDominantLanguageAsync(
             final BatchDetectDominantLanguageRequest batchDetectDominantLanguageRequest,
             final AsyncHandler<BatchDetectDominantLanguageRequest, BatchDetectDominantLanguageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectDominantLanguageResult>() {
-            public BatchDetectDominantLanguageResult call() throws Exception {
-                BatchDetectDominantLanguageResult result = null;
-                try {
-                    result = batchDetectDominantLanguage(batchDetectDominantLanguageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectDominantLanguageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectDominantLanguageRequest,
+                new BatchDetectDominantLanguageRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectDominantLanguageResult>(
+                        new BatchDetectDominantLanguageResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -363,14 +354,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
+    public ListenableFuture<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
             final BatchDetectEntitiesRequest batchDetectEntitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectEntitiesResult>() {
-            public BatchDetectEntitiesResult call() throws Exception {
-                return batchDetectEntities(batchDetectEntitiesRequest);
-            }
-        });
+        return batchDetectEntitiesAsync(batchDetectEntitiesRequest, null);
     }
 
     /**
@@ -397,23 +384,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
+    public ListenableFuture<BatchDetectEntitiesResult> batchDetectEntitiesAsync(
             final BatchDetectEntitiesRequest batchDetectEntitiesRequest,
             final AsyncHandler<BatchDetectEntitiesRequest, BatchDetectEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectEntitiesResult>() {
-            public BatchDetectEntitiesResult call() throws Exception {
-                BatchDetectEntitiesResult result = null;
-                try {
-                    result = batchDetectEntities(batchDetectEntitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectEntitiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectEntitiesRequest,
+                new BatchDetectEntitiesRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectEntitiesResult>(
+                        new BatchDetectEntitiesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -438,14 +417,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
+    public ListenableFuture<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
             final BatchDetectKeyPhrasesRequest batchDetectKeyPhrasesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectKeyPhrasesResult>() {
-            public BatchDetectKeyPhrasesResult call() throws Exception {
-                return batchDetectKeyPhrases(batchDetectKeyPhrasesRequest);
-            }
-        });
+        return batchDetectKeyPhrasesAsync(batchDetectKeyPhrasesRequest, null);
     }
 
     /**
@@ -470,23 +445,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
+    public ListenableFuture<BatchDetectKeyPhrasesResult> batchDetectKeyPhrasesAsync(
             final BatchDetectKeyPhrasesRequest batchDetectKeyPhrasesRequest,
             final AsyncHandler<BatchDetectKeyPhrasesRequest, BatchDetectKeyPhrasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectKeyPhrasesResult>() {
-            public BatchDetectKeyPhrasesResult call() throws Exception {
-                BatchDetectKeyPhrasesResult result = null;
-                try {
-                    result = batchDetectKeyPhrases(batchDetectKeyPhrasesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectKeyPhrasesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectKeyPhrasesRequest,
+                new BatchDetectKeyPhrasesRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectKeyPhrasesResult>(
+                        new BatchDetectKeyPhrasesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -513,14 +480,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectSentimentResult> batchDetectSentimentAsync(
+    public ListenableFuture<BatchDetectSentimentResult> batchDetectSentimentAsync(
             final BatchDetectSentimentRequest batchDetectSentimentRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSentimentResult>() {
-            public BatchDetectSentimentResult call() throws Exception {
-                return batchDetectSentiment(batchDetectSentimentRequest);
-            }
-        });
+        return batchDetectSentimentAsync(batchDetectSentimentRequest, null);
     }
 
     /**
@@ -547,23 +510,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectSentimentResult> batchDetectSentimentAsync(
+    public ListenableFuture<BatchDetectSentimentResult> batchDetectSentimentAsync(
             final BatchDetectSentimentRequest batchDetectSentimentRequest,
             final AsyncHandler<BatchDetectSentimentRequest, BatchDetectSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSentimentResult>() {
-            public BatchDetectSentimentResult call() throws Exception {
-                BatchDetectSentimentResult result = null;
-                try {
-                    result = batchDetectSentiment(batchDetectSentimentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectSentimentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectSentimentRequest,
+                new BatchDetectSentimentRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectSentimentResult>(
+                        new BatchDetectSentimentResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -590,14 +545,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
+    public ListenableFuture<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
             final BatchDetectSyntaxRequest batchDetectSyntaxRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSyntaxResult>() {
-            public BatchDetectSyntaxResult call() throws Exception {
-                return batchDetectSyntax(batchDetectSyntaxRequest);
-            }
-        });
+        return batchDetectSyntaxAsync(batchDetectSyntaxRequest, null);
     }
 
     /**
@@ -624,23 +575,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
+    public ListenableFuture<BatchDetectSyntaxResult> batchDetectSyntaxAsync(
             final BatchDetectSyntaxRequest batchDetectSyntaxRequest,
             final AsyncHandler<BatchDetectSyntaxRequest, BatchDetectSyntaxResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchDetectSyntaxResult>() {
-            public BatchDetectSyntaxResult call() throws Exception {
-                BatchDetectSyntaxResult result = null;
-                try {
-                    result = batchDetectSyntax(batchDetectSyntaxRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchDetectSyntaxRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchDetectSyntaxRequest,
+                new BatchDetectSyntaxRequestMarshaller(),
+                new JsonResponseHandler<BatchDetectSyntaxResult>(
+                        new BatchDetectSyntaxResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -666,14 +609,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ClassifyDocumentResult> classifyDocumentAsync(
+    public ListenableFuture<ClassifyDocumentResult> classifyDocumentAsync(
             final ClassifyDocumentRequest classifyDocumentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ClassifyDocumentResult>() {
-            public ClassifyDocumentResult call() throws Exception {
-                return classifyDocument(classifyDocumentRequest);
-            }
-        });
+        return classifyDocumentAsync(classifyDocumentRequest, null);
     }
 
     /**
@@ -699,23 +638,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ClassifyDocumentResult> classifyDocumentAsync(
+    public ListenableFuture<ClassifyDocumentResult> classifyDocumentAsync(
             final ClassifyDocumentRequest classifyDocumentRequest,
             final AsyncHandler<ClassifyDocumentRequest, ClassifyDocumentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ClassifyDocumentResult>() {
-            public ClassifyDocumentResult call() throws Exception {
-                ClassifyDocumentResult result = null;
-                try {
-                    result = classifyDocument(classifyDocumentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(classifyDocumentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(classifyDocumentRequest,
+                new ClassifyDocumentRequestMarshaller(),
+                new JsonResponseHandler<ClassifyDocumentResult>(
+                        new ClassifyDocumentResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -748,14 +679,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateDocumentClassifierResult> createDocumentClassifierAsync(
+    public ListenableFuture<CreateDocumentClassifierResult> createDocumentClassifierAsync(
             final CreateDocumentClassifierRequest createDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentClassifierResult>() {
-            public CreateDocumentClassifierResult call() throws Exception {
-                return createDocumentClassifier(createDocumentClassifierRequest);
-            }
-        });
+        return createDocumentClassifierAsync(createDocumentClassifierRequest, null);
     }
 
     /**
@@ -788,23 +715,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateDocumentClassifierResult> createDocumentClassifierAsync(
+    public ListenableFuture<CreateDocumentClassifierResult> createDocumentClassifierAsync(
             final CreateDocumentClassifierRequest createDocumentClassifierRequest,
             final AsyncHandler<CreateDocumentClassifierRequest, CreateDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDocumentClassifierResult>() {
-            public CreateDocumentClassifierResult call() throws Exception {
-                CreateDocumentClassifierResult result = null;
-                try {
-                    result = createDocumentClassifier(createDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createDocumentClassifierRequest,
+                new CreateDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<CreateDocumentClassifierResult>(
+                        new CreateDocumentClassifierResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -832,14 +751,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateEndpointResult> createEndpointAsync(
+    public ListenableFuture<CreateEndpointResult> createEndpointAsync(
             final CreateEndpointRequest createEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateEndpointResult>() {
-            public CreateEndpointResult call() throws Exception {
-                return createEndpoint(createEndpointRequest);
-            }
-        });
+        return createEndpointAsync(createEndpointRequest, null);
     }
 
     /**
@@ -867,23 +782,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateEndpointResult> createEndpointAsync(
+    public ListenableFuture<CreateEndpointResult> createEndpointAsync(
             final CreateEndpointRequest createEndpointRequest,
             final AsyncHandler<CreateEndpointRequest, CreateEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEndpointResult>() {
-            public CreateEndpointResult call() throws Exception {
-                CreateEndpointResult result = null;
-                try {
-                    result = createEndpoint(createEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createEndpointRequest,
+                new CreateEndpointRequestMarshaller(),
+                new JsonResponseHandler<CreateEndpointResult>(
+                        new CreateEndpointResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -913,14 +820,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateEntityRecognizerResult> createEntityRecognizerAsync(
+    public ListenableFuture<CreateEntityRecognizerResult> createEntityRecognizerAsync(
             final CreateEntityRecognizerRequest createEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEntityRecognizerResult>() {
-            public CreateEntityRecognizerResult call() throws Exception {
-                return createEntityRecognizer(createEntityRecognizerRequest);
-            }
-        });
+        return createEntityRecognizerAsync(createEntityRecognizerRequest, null);
     }
 
     /**
@@ -950,23 +853,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateEntityRecognizerResult> createEntityRecognizerAsync(
+    public ListenableFuture<CreateEntityRecognizerResult> createEntityRecognizerAsync(
             final CreateEntityRecognizerRequest createEntityRecognizerRequest,
             final AsyncHandler<CreateEntityRecognizerRequest, CreateEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEntityRecognizerResult>() {
-            public CreateEntityRecognizerResult call() throws Exception {
-                CreateEntityRecognizerResult result = null;
-                try {
-                    result = createEntityRecognizer(createEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createEntityRecognizerRequest,
+                new CreateEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<CreateEntityRecognizerResult>(
+                        new CreateEntityRecognizerResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1003,14 +898,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
+    public ListenableFuture<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
             final DeleteDocumentClassifierRequest deleteDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentClassifierResult>() {
-            public DeleteDocumentClassifierResult call() throws Exception {
-                return deleteDocumentClassifier(deleteDocumentClassifierRequest);
-            }
-        });
+        return deleteDocumentClassifierAsync(deleteDocumentClassifierRequest, null);
     }
 
     /**
@@ -1047,23 +938,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
+    public ListenableFuture<DeleteDocumentClassifierResult> deleteDocumentClassifierAsync(
             final DeleteDocumentClassifierRequest deleteDocumentClassifierRequest,
             final AsyncHandler<DeleteDocumentClassifierRequest, DeleteDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDocumentClassifierResult>() {
-            public DeleteDocumentClassifierResult call() throws Exception {
-                DeleteDocumentClassifierResult result = null;
-                try {
-                    result = deleteDocumentClassifier(deleteDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteDocumentClassifierRequest,
+                new DeleteDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<DeleteDocumentClassifierResult>(
+                        new DeleteDocumentClassifierResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1088,14 +971,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteEndpointResult> deleteEndpointAsync(
+    public ListenableFuture<DeleteEndpointResult> deleteEndpointAsync(
             final DeleteEndpointRequest deleteEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteEndpointResult>() {
-            public DeleteEndpointResult call() throws Exception {
-                return deleteEndpoint(deleteEndpointRequest);
-            }
-        });
+        return deleteEndpointAsync(deleteEndpointRequest, null);
     }
 
     /**
@@ -1120,23 +999,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteEndpointResult> deleteEndpointAsync(
+    public ListenableFuture<DeleteEndpointResult> deleteEndpointAsync(
             final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, DeleteEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEndpointResult>() {
-            public DeleteEndpointResult call() throws Exception {
-                DeleteEndpointResult result = null;
-                try {
-                    result = deleteEndpoint(deleteEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteEndpointRequest,
+                new DeleteEndpointRequestMarshaller(),
+                new JsonResponseHandler<DeleteEndpointResult>(
+                        new DeleteEndpointResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1173,14 +1044,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
+    public ListenableFuture<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
             final DeleteEntityRecognizerRequest deleteEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEntityRecognizerResult>() {
-            public DeleteEntityRecognizerResult call() throws Exception {
-                return deleteEntityRecognizer(deleteEntityRecognizerRequest);
-            }
-        });
+        return deleteEntityRecognizerAsync(deleteEntityRecognizerRequest, null);
     }
 
     /**
@@ -1217,23 +1084,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
+    public ListenableFuture<DeleteEntityRecognizerResult> deleteEntityRecognizerAsync(
             final DeleteEntityRecognizerRequest deleteEntityRecognizerRequest,
             final AsyncHandler<DeleteEntityRecognizerRequest, DeleteEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteEntityRecognizerResult>() {
-            public DeleteEntityRecognizerResult call() throws Exception {
-                DeleteEntityRecognizerResult result = null;
-                try {
-                    result = deleteEntityRecognizer(deleteEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteEntityRecognizerRequest,
+                new DeleteEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<DeleteEntityRecognizerResult>(
+                        new DeleteEntityRecognizerResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1258,14 +1117,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
+    public ListenableFuture<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
             final DescribeDocumentClassificationJobRequest describeDocumentClassificationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassificationJobResult>() {
-            public DescribeDocumentClassificationJobResult call() throws Exception {
-                return describeDocumentClassificationJob(describeDocumentClassificationJobRequest);
-            }
-        });
+        return describeDocumentClassificationJobAsync(describeDocumentClassificationJobRequest, null);
     }
 
     /**
@@ -1290,23 +1145,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
+    public ListenableFuture<DescribeDocumentClassificationJobResult> describeDocumentClassificationJobAsync(
             final DescribeDocumentClassificationJobRequest describeDocumentClassificationJobRequest,
             final AsyncHandler<DescribeDocumentClassificationJobRequest, DescribeDocumentClassificationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassificationJobResult>() {
-            public DescribeDocumentClassificationJobResult call() throws Exception {
-                DescribeDocumentClassificationJobResult result = null;
-                try {
-                    result = describeDocumentClassificationJob(describeDocumentClassificationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDocumentClassificationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeDocumentClassificationJobRequest,
+                new DescribeDocumentClassificationJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeDocumentClassificationJobResult>(
+                        new DescribeDocumentClassificationJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1330,14 +1177,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
+    public ListenableFuture<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
             final DescribeDocumentClassifierRequest describeDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassifierResult>() {
-            public DescribeDocumentClassifierResult call() throws Exception {
-                return describeDocumentClassifier(describeDocumentClassifierRequest);
-            }
-        });
+        return describeDocumentClassifierAsync(describeDocumentClassifierRequest, null);
     }
 
     /**
@@ -1361,23 +1204,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
+    public ListenableFuture<DescribeDocumentClassifierResult> describeDocumentClassifierAsync(
             final DescribeDocumentClassifierRequest describeDocumentClassifierRequest,
             final AsyncHandler<DescribeDocumentClassifierRequest, DescribeDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDocumentClassifierResult>() {
-            public DescribeDocumentClassifierResult call() throws Exception {
-                DescribeDocumentClassifierResult result = null;
-                try {
-                    result = describeDocumentClassifier(describeDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeDocumentClassifierRequest,
+                new DescribeDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<DescribeDocumentClassifierResult>(
+                        new DescribeDocumentClassifierResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1402,14 +1237,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
+    public ListenableFuture<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
             final DescribeDominantLanguageDetectionJobRequest describeDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDominantLanguageDetectionJobResult>() {
-            public DescribeDominantLanguageDetectionJobResult call() throws Exception {
-                return describeDominantLanguageDetectionJob(describeDominantLanguageDetectionJobRequest);
-            }
-        });
+        return describeDominantLanguageDetectionJobAsync(describeDominantLanguageDetectionJobRequest, null);
     }
 
     /**
@@ -1434,23 +1265,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
+    public ListenableFuture<DescribeDominantLanguageDetectionJobResult> describeDominantLanguageDetectionJobAsync(
             final DescribeDominantLanguageDetectionJobRequest describeDominantLanguageDetectionJobRequest,
             final AsyncHandler<DescribeDominantLanguageDetectionJobRequest, DescribeDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDominantLanguageDetectionJobResult>() {
-            public DescribeDominantLanguageDetectionJobResult call() throws Exception {
-                DescribeDominantLanguageDetectionJobResult result = null;
-                try {
-                    result = describeDominantLanguageDetectionJob(describeDominantLanguageDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeDominantLanguageDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeDominantLanguageDetectionJobRequest,
+                new DescribeDominantLanguageDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeDominantLanguageDetectionJobResult>(
+                        new DescribeDominantLanguageDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1475,14 +1298,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEndpointResult> describeEndpointAsync(
+    public ListenableFuture<DescribeEndpointResult> describeEndpointAsync(
             final DescribeEndpointRequest describeEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointResult>() {
-            public DescribeEndpointResult call() throws Exception {
-                return describeEndpoint(describeEndpointRequest);
-            }
-        });
+        return describeEndpointAsync(describeEndpointRequest, null);
     }
 
     /**
@@ -1507,23 +1326,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEndpointResult> describeEndpointAsync(
+    public ListenableFuture<DescribeEndpointResult> describeEndpointAsync(
             final DescribeEndpointRequest describeEndpointRequest,
             final AsyncHandler<DescribeEndpointRequest, DescribeEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointResult>() {
-            public DescribeEndpointResult call() throws Exception {
-                DescribeEndpointResult result = null;
-                try {
-                    result = describeEndpoint(describeEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeEndpointRequest,
+                new DescribeEndpointRequestMarshaller(),
+                new JsonResponseHandler<DescribeEndpointResult>(
+                        new DescribeEndpointResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1548,14 +1359,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
+    public ListenableFuture<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
             final DescribeEntitiesDetectionJobRequest describeEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntitiesDetectionJobResult>() {
-            public DescribeEntitiesDetectionJobResult call() throws Exception {
-                return describeEntitiesDetectionJob(describeEntitiesDetectionJobRequest);
-            }
-        });
+        return describeEntitiesDetectionJobAsync(describeEntitiesDetectionJobRequest, null);
     }
 
     /**
@@ -1580,23 +1387,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
+    public ListenableFuture<DescribeEntitiesDetectionJobResult> describeEntitiesDetectionJobAsync(
             final DescribeEntitiesDetectionJobRequest describeEntitiesDetectionJobRequest,
             final AsyncHandler<DescribeEntitiesDetectionJobRequest, DescribeEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntitiesDetectionJobResult>() {
-            public DescribeEntitiesDetectionJobResult call() throws Exception {
-                DescribeEntitiesDetectionJobResult result = null;
-                try {
-                    result = describeEntitiesDetectionJob(describeEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeEntitiesDetectionJobRequest,
+                new DescribeEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeEntitiesDetectionJobResult>(
+                        new DescribeEntitiesDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1621,14 +1420,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
+    public ListenableFuture<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
             final DescribeEntityRecognizerRequest describeEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntityRecognizerResult>() {
-            public DescribeEntityRecognizerResult call() throws Exception {
-                return describeEntityRecognizer(describeEntityRecognizerRequest);
-            }
-        });
+        return describeEntityRecognizerAsync(describeEntityRecognizerRequest, null);
     }
 
     /**
@@ -1653,23 +1448,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
+    public ListenableFuture<DescribeEntityRecognizerResult> describeEntityRecognizerAsync(
             final DescribeEntityRecognizerRequest describeEntityRecognizerRequest,
             final AsyncHandler<DescribeEntityRecognizerRequest, DescribeEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEntityRecognizerResult>() {
-            public DescribeEntityRecognizerResult call() throws Exception {
-                DescribeEntityRecognizerResult result = null;
-                try {
-                    result = describeEntityRecognizer(describeEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeEntityRecognizerRequest,
+                new DescribeEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<DescribeEntityRecognizerResult>(
+                        new DescribeEntityRecognizerResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1694,14 +1481,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
+    public ListenableFuture<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
             final DescribeKeyPhrasesDetectionJobRequest describeKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPhrasesDetectionJobResult>() {
-            public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
-                return describeKeyPhrasesDetectionJob(describeKeyPhrasesDetectionJobRequest);
-            }
-        });
+        return describeKeyPhrasesDetectionJobAsync(describeKeyPhrasesDetectionJobRequest, null);
     }
 
     /**
@@ -1726,23 +1509,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
+    public ListenableFuture<DescribeKeyPhrasesDetectionJobResult> describeKeyPhrasesDetectionJobAsync(
             final DescribeKeyPhrasesDetectionJobRequest describeKeyPhrasesDetectionJobRequest,
             final AsyncHandler<DescribeKeyPhrasesDetectionJobRequest, DescribeKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPhrasesDetectionJobResult>() {
-            public DescribeKeyPhrasesDetectionJobResult call() throws Exception {
-                DescribeKeyPhrasesDetectionJobResult result = null;
-                try {
-                    result = describeKeyPhrasesDetectionJob(describeKeyPhrasesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeKeyPhrasesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeKeyPhrasesDetectionJobRequest,
+                new DescribeKeyPhrasesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeKeyPhrasesDetectionJobResult>(
+                        new DescribeKeyPhrasesDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1767,14 +1542,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
+    public ListenableFuture<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
             final DescribeSentimentDetectionJobRequest describeSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSentimentDetectionJobResult>() {
-            public DescribeSentimentDetectionJobResult call() throws Exception {
-                return describeSentimentDetectionJob(describeSentimentDetectionJobRequest);
-            }
-        });
+        return describeSentimentDetectionJobAsync(describeSentimentDetectionJobRequest, null);
     }
 
     /**
@@ -1799,23 +1570,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
+    public ListenableFuture<DescribeSentimentDetectionJobResult> describeSentimentDetectionJobAsync(
             final DescribeSentimentDetectionJobRequest describeSentimentDetectionJobRequest,
             final AsyncHandler<DescribeSentimentDetectionJobRequest, DescribeSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSentimentDetectionJobResult>() {
-            public DescribeSentimentDetectionJobResult call() throws Exception {
-                DescribeSentimentDetectionJobResult result = null;
-                try {
-                    result = describeSentimentDetectionJob(describeSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeSentimentDetectionJobRequest,
+                new DescribeSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeSentimentDetectionJobResult>(
+                        new DescribeSentimentDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1840,14 +1603,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
+    public ListenableFuture<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
             final DescribeTopicsDetectionJobRequest describeTopicsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTopicsDetectionJobResult>() {
-            public DescribeTopicsDetectionJobResult call() throws Exception {
-                return describeTopicsDetectionJob(describeTopicsDetectionJobRequest);
-            }
-        });
+        return describeTopicsDetectionJobAsync(describeTopicsDetectionJobRequest, null);
     }
 
     /**
@@ -1872,23 +1631,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
+    public ListenableFuture<DescribeTopicsDetectionJobResult> describeTopicsDetectionJobAsync(
             final DescribeTopicsDetectionJobRequest describeTopicsDetectionJobRequest,
             final AsyncHandler<DescribeTopicsDetectionJobRequest, DescribeTopicsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTopicsDetectionJobResult>() {
-            public DescribeTopicsDetectionJobResult call() throws Exception {
-                DescribeTopicsDetectionJobResult result = null;
-                try {
-                    result = describeTopicsDetectionJob(describeTopicsDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTopicsDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTopicsDetectionJobRequest,
+                new DescribeTopicsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeTopicsDetectionJobResult>(
+                        new DescribeTopicsDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1914,14 +1665,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectDominantLanguageResult> detectDominantLanguageAsync(
+    public ListenableFuture<DetectDominantLanguageResult> detectDominantLanguageAsync(
             final DetectDominantLanguageRequest detectDominantLanguageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDominantLanguageResult>() {
-            public DetectDominantLanguageResult call() throws Exception {
-                return detectDominantLanguage(detectDominantLanguageRequest);
-            }
-        });
+        return detectDominantLanguageAsync(detectDominantLanguageRequest, null);
     }
 
     /**
@@ -1947,23 +1694,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectDominantLanguageResult> detectDominantLanguageAsync(
+    public ListenableFuture<DetectDominantLanguageResult> detectDominantLanguageAsync(
             final DetectDominantLanguageRequest detectDominantLanguageRequest,
             final AsyncHandler<DetectDominantLanguageRequest, DetectDominantLanguageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDominantLanguageResult>() {
-            public DetectDominantLanguageResult call() throws Exception {
-                DetectDominantLanguageResult result = null;
-                try {
-                    result = detectDominantLanguage(detectDominantLanguageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectDominantLanguageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectDominantLanguageRequest,
+                new DetectDominantLanguageRequestMarshaller(),
+                new JsonResponseHandler<DetectDominantLanguageResult>(
+                        new DetectDominantLanguageResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1987,14 +1726,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectEntitiesResult> detectEntitiesAsync(
+    public ListenableFuture<DetectEntitiesResult> detectEntitiesAsync(
             final DetectEntitiesRequest detectEntitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectEntitiesResult>() {
-            public DetectEntitiesResult call() throws Exception {
-                return detectEntities(detectEntitiesRequest);
-            }
-        });
+        return detectEntitiesAsync(detectEntitiesRequest, null);
     }
 
     /**
@@ -2018,23 +1753,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectEntitiesResult> detectEntitiesAsync(
+    public ListenableFuture<DetectEntitiesResult> detectEntitiesAsync(
             final DetectEntitiesRequest detectEntitiesRequest,
             final AsyncHandler<DetectEntitiesRequest, DetectEntitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectEntitiesResult>() {
-            public DetectEntitiesResult call() throws Exception {
-                DetectEntitiesResult result = null;
-                try {
-                    result = detectEntities(detectEntitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectEntitiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectEntitiesRequest,
+                new DetectEntitiesRequestMarshaller(),
+                new JsonResponseHandler<DetectEntitiesResult>(
+                        new DetectEntitiesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2058,14 +1785,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
+    public ListenableFuture<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
             final DetectKeyPhrasesRequest detectKeyPhrasesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectKeyPhrasesResult>() {
-            public DetectKeyPhrasesResult call() throws Exception {
-                return detectKeyPhrases(detectKeyPhrasesRequest);
-            }
-        });
+        return detectKeyPhrasesAsync(detectKeyPhrasesRequest, null);
     }
 
     /**
@@ -2089,23 +1812,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
+    public ListenableFuture<DetectKeyPhrasesResult> detectKeyPhrasesAsync(
             final DetectKeyPhrasesRequest detectKeyPhrasesRequest,
             final AsyncHandler<DetectKeyPhrasesRequest, DetectKeyPhrasesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectKeyPhrasesResult>() {
-            public DetectKeyPhrasesResult call() throws Exception {
-                DetectKeyPhrasesResult result = null;
-                try {
-                    result = detectKeyPhrases(detectKeyPhrasesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectKeyPhrasesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectKeyPhrasesRequest,
+                new DetectKeyPhrasesRequestMarshaller(),
+                new JsonResponseHandler<DetectKeyPhrasesResult>(
+                        new DetectKeyPhrasesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2130,14 +1845,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectSentimentResult> detectSentimentAsync(
+    public ListenableFuture<DetectSentimentResult> detectSentimentAsync(
             final DetectSentimentRequest detectSentimentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectSentimentResult>() {
-            public DetectSentimentResult call() throws Exception {
-                return detectSentiment(detectSentimentRequest);
-            }
-        });
+        return detectSentimentAsync(detectSentimentRequest, null);
     }
 
     /**
@@ -2162,23 +1873,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectSentimentResult> detectSentimentAsync(
+    public ListenableFuture<DetectSentimentResult> detectSentimentAsync(
             final DetectSentimentRequest detectSentimentRequest,
             final AsyncHandler<DetectSentimentRequest, DetectSentimentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectSentimentResult>() {
-            public DetectSentimentResult call() throws Exception {
-                DetectSentimentResult result = null;
-                try {
-                    result = detectSentiment(detectSentimentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectSentimentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectSentimentRequest,
+                new DetectSentimentRequestMarshaller(),
+                new JsonResponseHandler<DetectSentimentResult>(
+                        new DetectSentimentResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2202,14 +1905,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectSyntaxResult> detectSyntaxAsync(
+    public ListenableFuture<DetectSyntaxResult> detectSyntaxAsync(
             final DetectSyntaxRequest detectSyntaxRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DetectSyntaxResult>() {
-            public DetectSyntaxResult call() throws Exception {
-                return detectSyntax(detectSyntaxRequest);
-            }
-        });
+        return detectSyntaxAsync(detectSyntaxRequest, null);
     }
 
     /**
@@ -2233,23 +1932,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectSyntaxResult> detectSyntaxAsync(
+    public ListenableFuture<DetectSyntaxResult> detectSyntaxAsync(
             final DetectSyntaxRequest detectSyntaxRequest,
             final AsyncHandler<DetectSyntaxRequest, DetectSyntaxResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectSyntaxResult>() {
-            public DetectSyntaxResult call() throws Exception {
-                DetectSyntaxResult result = null;
-                try {
-                    result = detectSyntax(detectSyntaxRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectSyntaxRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectSyntaxRequest,
+                new DetectSyntaxRequestMarshaller(),
+                new JsonResponseHandler<DetectSyntaxResult>(
+                        new DetectSyntaxResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2274,14 +1965,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
+    public ListenableFuture<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
             final ListDocumentClassificationJobsRequest listDocumentClassificationJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassificationJobsResult>() {
-            public ListDocumentClassificationJobsResult call() throws Exception {
-                return listDocumentClassificationJobs(listDocumentClassificationJobsRequest);
-            }
-        });
+        return listDocumentClassificationJobsAsync(listDocumentClassificationJobsRequest, null);
     }
 
     /**
@@ -2306,23 +1993,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
+    public ListenableFuture<ListDocumentClassificationJobsResult> listDocumentClassificationJobsAsync(
             final ListDocumentClassificationJobsRequest listDocumentClassificationJobsRequest,
             final AsyncHandler<ListDocumentClassificationJobsRequest, ListDocumentClassificationJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassificationJobsResult>() {
-            public ListDocumentClassificationJobsResult call() throws Exception {
-                ListDocumentClassificationJobsResult result = null;
-                try {
-                    result = listDocumentClassificationJobs(listDocumentClassificationJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDocumentClassificationJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDocumentClassificationJobsRequest,
+                new ListDocumentClassificationJobsRequestMarshaller(),
+                new JsonResponseHandler<ListDocumentClassificationJobsResult>(
+                        new ListDocumentClassificationJobsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2346,14 +2025,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
+    public ListenableFuture<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
             final ListDocumentClassifiersRequest listDocumentClassifiersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifiersResult>() {
-            public ListDocumentClassifiersResult call() throws Exception {
-                return listDocumentClassifiers(listDocumentClassifiersRequest);
-            }
-        });
+        return listDocumentClassifiersAsync(listDocumentClassifiersRequest, null);
     }
 
     /**
@@ -2377,23 +2052,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
+    public ListenableFuture<ListDocumentClassifiersResult> listDocumentClassifiersAsync(
             final ListDocumentClassifiersRequest listDocumentClassifiersRequest,
             final AsyncHandler<ListDocumentClassifiersRequest, ListDocumentClassifiersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDocumentClassifiersResult>() {
-            public ListDocumentClassifiersResult call() throws Exception {
-                ListDocumentClassifiersResult result = null;
-                try {
-                    result = listDocumentClassifiers(listDocumentClassifiersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDocumentClassifiersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDocumentClassifiersRequest,
+                new ListDocumentClassifiersRequestMarshaller(),
+                new JsonResponseHandler<ListDocumentClassifiersResult>(
+                        new ListDocumentClassifiersResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2418,14 +2085,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
+    public ListenableFuture<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
             final ListDominantLanguageDetectionJobsRequest listDominantLanguageDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDominantLanguageDetectionJobsResult>() {
-            public ListDominantLanguageDetectionJobsResult call() throws Exception {
-                return listDominantLanguageDetectionJobs(listDominantLanguageDetectionJobsRequest);
-            }
-        });
+        return listDominantLanguageDetectionJobsAsync(listDominantLanguageDetectionJobsRequest, null);
     }
 
     /**
@@ -2450,23 +2113,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
+    public ListenableFuture<ListDominantLanguageDetectionJobsResult> listDominantLanguageDetectionJobsAsync(
             final ListDominantLanguageDetectionJobsRequest listDominantLanguageDetectionJobsRequest,
             final AsyncHandler<ListDominantLanguageDetectionJobsRequest, ListDominantLanguageDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDominantLanguageDetectionJobsResult>() {
-            public ListDominantLanguageDetectionJobsResult call() throws Exception {
-                ListDominantLanguageDetectionJobsResult result = null;
-                try {
-                    result = listDominantLanguageDetectionJobs(listDominantLanguageDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDominantLanguageDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDominantLanguageDetectionJobsRequest,
+                new ListDominantLanguageDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListDominantLanguageDetectionJobsResult>(
+                        new ListDominantLanguageDetectionJobsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2488,14 +2143,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEndpointsResult> listEndpointsAsync(
+    public ListenableFuture<ListEndpointsResult> listEndpointsAsync(
             final ListEndpointsRequest listEndpointsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsResult>() {
-            public ListEndpointsResult call() throws Exception {
-                return listEndpoints(listEndpointsRequest);
-            }
-        });
+        return listEndpointsAsync(listEndpointsRequest, null);
     }
 
     /**
@@ -2517,23 +2168,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEndpointsResult> listEndpointsAsync(
+    public ListenableFuture<ListEndpointsResult> listEndpointsAsync(
             final ListEndpointsRequest listEndpointsRequest,
             final AsyncHandler<ListEndpointsRequest, ListEndpointsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsResult>() {
-            public ListEndpointsResult call() throws Exception {
-                ListEndpointsResult result = null;
-                try {
-                    result = listEndpoints(listEndpointsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEndpointsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEndpointsRequest,
+                new ListEndpointsRequestMarshaller(),
+                new JsonResponseHandler<ListEndpointsResult>(
+                        new ListEndpointsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2557,14 +2200,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
+    public ListenableFuture<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
             final ListEntitiesDetectionJobsRequest listEntitiesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesDetectionJobsResult>() {
-            public ListEntitiesDetectionJobsResult call() throws Exception {
-                return listEntitiesDetectionJobs(listEntitiesDetectionJobsRequest);
-            }
-        });
+        return listEntitiesDetectionJobsAsync(listEntitiesDetectionJobsRequest, null);
     }
 
     /**
@@ -2588,23 +2227,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
+    public ListenableFuture<ListEntitiesDetectionJobsResult> listEntitiesDetectionJobsAsync(
             final ListEntitiesDetectionJobsRequest listEntitiesDetectionJobsRequest,
             final AsyncHandler<ListEntitiesDetectionJobsRequest, ListEntitiesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntitiesDetectionJobsResult>() {
-            public ListEntitiesDetectionJobsResult call() throws Exception {
-                ListEntitiesDetectionJobsResult result = null;
-                try {
-                    result = listEntitiesDetectionJobs(listEntitiesDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEntitiesDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEntitiesDetectionJobsRequest,
+                new ListEntitiesDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListEntitiesDetectionJobsResult>(
+                        new ListEntitiesDetectionJobsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2636,14 +2267,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntityRecognizersResult> listEntityRecognizersAsync(
+    public ListenableFuture<ListEntityRecognizersResult> listEntityRecognizersAsync(
             final ListEntityRecognizersRequest listEntityRecognizersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizersResult>() {
-            public ListEntityRecognizersResult call() throws Exception {
-                return listEntityRecognizers(listEntityRecognizersRequest);
-            }
-        });
+        return listEntityRecognizersAsync(listEntityRecognizersRequest, null);
     }
 
     /**
@@ -2675,23 +2302,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListEntityRecognizersResult> listEntityRecognizersAsync(
+    public ListenableFuture<ListEntityRecognizersResult> listEntityRecognizersAsync(
             final ListEntityRecognizersRequest listEntityRecognizersRequest,
             final AsyncHandler<ListEntityRecognizersRequest, ListEntityRecognizersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEntityRecognizersResult>() {
-            public ListEntityRecognizersResult call() throws Exception {
-                ListEntityRecognizersResult result = null;
-                try {
-                    result = listEntityRecognizers(listEntityRecognizersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEntityRecognizersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEntityRecognizersRequest,
+                new ListEntityRecognizersRequestMarshaller(),
+                new JsonResponseHandler<ListEntityRecognizersResult>(
+                        new ListEntityRecognizersResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2715,14 +2334,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
+    public ListenableFuture<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
             final ListKeyPhrasesDetectionJobsRequest listKeyPhrasesDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPhrasesDetectionJobsResult>() {
-            public ListKeyPhrasesDetectionJobsResult call() throws Exception {
-                return listKeyPhrasesDetectionJobs(listKeyPhrasesDetectionJobsRequest);
-            }
-        });
+        return listKeyPhrasesDetectionJobsAsync(listKeyPhrasesDetectionJobsRequest, null);
     }
 
     /**
@@ -2746,23 +2361,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
+    public ListenableFuture<ListKeyPhrasesDetectionJobsResult> listKeyPhrasesDetectionJobsAsync(
             final ListKeyPhrasesDetectionJobsRequest listKeyPhrasesDetectionJobsRequest,
             final AsyncHandler<ListKeyPhrasesDetectionJobsRequest, ListKeyPhrasesDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListKeyPhrasesDetectionJobsResult>() {
-            public ListKeyPhrasesDetectionJobsResult call() throws Exception {
-                ListKeyPhrasesDetectionJobsResult result = null;
-                try {
-                    result = listKeyPhrasesDetectionJobs(listKeyPhrasesDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listKeyPhrasesDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listKeyPhrasesDetectionJobsRequest,
+                new ListKeyPhrasesDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListKeyPhrasesDetectionJobsResult>(
+                        new ListKeyPhrasesDetectionJobsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2786,14 +2393,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
+    public ListenableFuture<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
             final ListSentimentDetectionJobsRequest listSentimentDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSentimentDetectionJobsResult>() {
-            public ListSentimentDetectionJobsResult call() throws Exception {
-                return listSentimentDetectionJobs(listSentimentDetectionJobsRequest);
-            }
-        });
+        return listSentimentDetectionJobsAsync(listSentimentDetectionJobsRequest, null);
     }
 
     /**
@@ -2817,23 +2420,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
+    public ListenableFuture<ListSentimentDetectionJobsResult> listSentimentDetectionJobsAsync(
             final ListSentimentDetectionJobsRequest listSentimentDetectionJobsRequest,
             final AsyncHandler<ListSentimentDetectionJobsRequest, ListSentimentDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSentimentDetectionJobsResult>() {
-            public ListSentimentDetectionJobsResult call() throws Exception {
-                ListSentimentDetectionJobsResult result = null;
-                try {
-                    result = listSentimentDetectionJobs(listSentimentDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSentimentDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSentimentDetectionJobsRequest,
+                new ListSentimentDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListSentimentDetectionJobsResult>(
+                        new ListSentimentDetectionJobsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2856,14 +2451,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public ListenableFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return listTagsForResourceAsync(listTagsForResourceRequest, null);
     }
 
     /**
@@ -2886,23 +2477,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public ListenableFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2926,14 +2509,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
+    public ListenableFuture<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
             final ListTopicsDetectionJobsRequest listTopicsDetectionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsDetectionJobsResult>() {
-            public ListTopicsDetectionJobsResult call() throws Exception {
-                return listTopicsDetectionJobs(listTopicsDetectionJobsRequest);
-            }
-        });
+        return listTopicsDetectionJobsAsync(listTopicsDetectionJobsRequest, null);
     }
 
     /**
@@ -2957,23 +2536,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
+    public ListenableFuture<ListTopicsDetectionJobsResult> listTopicsDetectionJobsAsync(
             final ListTopicsDetectionJobsRequest listTopicsDetectionJobsRequest,
             final AsyncHandler<ListTopicsDetectionJobsRequest, ListTopicsDetectionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsDetectionJobsResult>() {
-            public ListTopicsDetectionJobsResult call() throws Exception {
-                ListTopicsDetectionJobsResult result = null;
-                try {
-                    result = listTopicsDetectionJobs(listTopicsDetectionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTopicsDetectionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTopicsDetectionJobsRequest,
+                new ListTopicsDetectionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTopicsDetectionJobsResult>(
+                        new ListTopicsDetectionJobsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3000,14 +2571,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
+    public ListenableFuture<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
             final StartDocumentClassificationJobRequest startDocumentClassificationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentClassificationJobResult>() {
-            public StartDocumentClassificationJobResult call() throws Exception {
-                return startDocumentClassificationJob(startDocumentClassificationJobRequest);
-            }
-        });
+        return startDocumentClassificationJobAsync(startDocumentClassificationJobRequest, null);
     }
 
     /**
@@ -3034,23 +2601,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
+    public ListenableFuture<StartDocumentClassificationJobResult> startDocumentClassificationJobAsync(
             final StartDocumentClassificationJobRequest startDocumentClassificationJobRequest,
             final AsyncHandler<StartDocumentClassificationJobRequest, StartDocumentClassificationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentClassificationJobResult>() {
-            public StartDocumentClassificationJobResult call() throws Exception {
-                StartDocumentClassificationJobResult result = null;
-                try {
-                    result = startDocumentClassificationJob(startDocumentClassificationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDocumentClassificationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startDocumentClassificationJobRequest,
+                new StartDocumentClassificationJobRequestMarshaller(),
+                new JsonResponseHandler<StartDocumentClassificationJobResult>(
+                        new StartDocumentClassificationJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3075,14 +2634,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
+    public ListenableFuture<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
             final StartDominantLanguageDetectionJobRequest startDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDominantLanguageDetectionJobResult>() {
-            public StartDominantLanguageDetectionJobResult call() throws Exception {
-                return startDominantLanguageDetectionJob(startDominantLanguageDetectionJobRequest);
-            }
-        });
+        return startDominantLanguageDetectionJobAsync(startDominantLanguageDetectionJobRequest, null);
     }
 
     /**
@@ -3107,23 +2662,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
+    public ListenableFuture<StartDominantLanguageDetectionJobResult> startDominantLanguageDetectionJobAsync(
             final StartDominantLanguageDetectionJobRequest startDominantLanguageDetectionJobRequest,
             final AsyncHandler<StartDominantLanguageDetectionJobRequest, StartDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDominantLanguageDetectionJobResult>() {
-            public StartDominantLanguageDetectionJobResult call() throws Exception {
-                StartDominantLanguageDetectionJobResult result = null;
-                try {
-                    result = startDominantLanguageDetectionJob(startDominantLanguageDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDominantLanguageDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startDominantLanguageDetectionJobRequest,
+                new StartDominantLanguageDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartDominantLanguageDetectionJobResult>(
+                        new StartDominantLanguageDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3156,14 +2703,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
+    public ListenableFuture<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
             final StartEntitiesDetectionJobRequest startEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEntitiesDetectionJobResult>() {
-            public StartEntitiesDetectionJobResult call() throws Exception {
-                return startEntitiesDetectionJob(startEntitiesDetectionJobRequest);
-            }
-        });
+        return startEntitiesDetectionJobAsync(startEntitiesDetectionJobRequest, null);
     }
 
     /**
@@ -3196,23 +2739,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
+    public ListenableFuture<StartEntitiesDetectionJobResult> startEntitiesDetectionJobAsync(
             final StartEntitiesDetectionJobRequest startEntitiesDetectionJobRequest,
             final AsyncHandler<StartEntitiesDetectionJobRequest, StartEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartEntitiesDetectionJobResult>() {
-            public StartEntitiesDetectionJobResult call() throws Exception {
-                StartEntitiesDetectionJobResult result = null;
-                try {
-                    result = startEntitiesDetectionJob(startEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startEntitiesDetectionJobRequest,
+                new StartEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartEntitiesDetectionJobResult>(
+                        new StartEntitiesDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3237,14 +2772,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
+    public ListenableFuture<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
             final StartKeyPhrasesDetectionJobRequest startKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartKeyPhrasesDetectionJobResult>() {
-            public StartKeyPhrasesDetectionJobResult call() throws Exception {
-                return startKeyPhrasesDetectionJob(startKeyPhrasesDetectionJobRequest);
-            }
-        });
+        return startKeyPhrasesDetectionJobAsync(startKeyPhrasesDetectionJobRequest, null);
     }
 
     /**
@@ -3269,23 +2800,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
+    public ListenableFuture<StartKeyPhrasesDetectionJobResult> startKeyPhrasesDetectionJobAsync(
             final StartKeyPhrasesDetectionJobRequest startKeyPhrasesDetectionJobRequest,
             final AsyncHandler<StartKeyPhrasesDetectionJobRequest, StartKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartKeyPhrasesDetectionJobResult>() {
-            public StartKeyPhrasesDetectionJobResult call() throws Exception {
-                StartKeyPhrasesDetectionJobResult result = null;
-                try {
-                    result = startKeyPhrasesDetectionJob(startKeyPhrasesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startKeyPhrasesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startKeyPhrasesDetectionJobRequest,
+                new StartKeyPhrasesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartKeyPhrasesDetectionJobResult>(
+                        new StartKeyPhrasesDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3310,14 +2833,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
+    public ListenableFuture<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
             final StartSentimentDetectionJobRequest startSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartSentimentDetectionJobResult>() {
-            public StartSentimentDetectionJobResult call() throws Exception {
-                return startSentimentDetectionJob(startSentimentDetectionJobRequest);
-            }
-        });
+        return startSentimentDetectionJobAsync(startSentimentDetectionJobRequest, null);
     }
 
     /**
@@ -3342,23 +2861,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
+    public ListenableFuture<StartSentimentDetectionJobResult> startSentimentDetectionJobAsync(
             final StartSentimentDetectionJobRequest startSentimentDetectionJobRequest,
             final AsyncHandler<StartSentimentDetectionJobRequest, StartSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartSentimentDetectionJobResult>() {
-            public StartSentimentDetectionJobResult call() throws Exception {
-                StartSentimentDetectionJobResult result = null;
-                try {
-                    result = startSentimentDetectionJob(startSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startSentimentDetectionJobRequest,
+                new StartSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartSentimentDetectionJobResult>(
+                        new StartSentimentDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3384,14 +2895,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
+    public ListenableFuture<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
             final StartTopicsDetectionJobRequest startTopicsDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTopicsDetectionJobResult>() {
-            public StartTopicsDetectionJobResult call() throws Exception {
-                return startTopicsDetectionJob(startTopicsDetectionJobRequest);
-            }
-        });
+        return startTopicsDetectionJobAsync(startTopicsDetectionJobRequest, null);
     }
 
     /**
@@ -3417,23 +2924,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
+    public ListenableFuture<StartTopicsDetectionJobResult> startTopicsDetectionJobAsync(
             final StartTopicsDetectionJobRequest startTopicsDetectionJobRequest,
             final AsyncHandler<StartTopicsDetectionJobRequest, StartTopicsDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTopicsDetectionJobResult>() {
-            public StartTopicsDetectionJobResult call() throws Exception {
-                StartTopicsDetectionJobResult result = null;
-                try {
-                    result = startTopicsDetectionJob(startTopicsDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTopicsDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startTopicsDetectionJobRequest,
+                new StartTopicsDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StartTopicsDetectionJobResult>(
+                        new StartTopicsDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3472,14 +2971,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
+    public ListenableFuture<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
             final StopDominantLanguageDetectionJobRequest stopDominantLanguageDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDominantLanguageDetectionJobResult>() {
-            public StopDominantLanguageDetectionJobResult call() throws Exception {
-                return stopDominantLanguageDetectionJob(stopDominantLanguageDetectionJobRequest);
-            }
-        });
+        return stopDominantLanguageDetectionJobAsync(stopDominantLanguageDetectionJobRequest, null);
     }
 
     /**
@@ -3518,23 +3013,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
+    public ListenableFuture<StopDominantLanguageDetectionJobResult> stopDominantLanguageDetectionJobAsync(
             final StopDominantLanguageDetectionJobRequest stopDominantLanguageDetectionJobRequest,
             final AsyncHandler<StopDominantLanguageDetectionJobRequest, StopDominantLanguageDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopDominantLanguageDetectionJobResult>() {
-            public StopDominantLanguageDetectionJobResult call() throws Exception {
-                StopDominantLanguageDetectionJobResult result = null;
-                try {
-                    result = stopDominantLanguageDetectionJob(stopDominantLanguageDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopDominantLanguageDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopDominantLanguageDetectionJobRequest,
+                new StopDominantLanguageDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopDominantLanguageDetectionJobResult>(
+                        new StopDominantLanguageDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3573,14 +3060,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
+    public ListenableFuture<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
             final StopEntitiesDetectionJobRequest stopEntitiesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEntitiesDetectionJobResult>() {
-            public StopEntitiesDetectionJobResult call() throws Exception {
-                return stopEntitiesDetectionJob(stopEntitiesDetectionJobRequest);
-            }
-        });
+        return stopEntitiesDetectionJobAsync(stopEntitiesDetectionJobRequest, null);
     }
 
     /**
@@ -3619,23 +3102,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
+    public ListenableFuture<StopEntitiesDetectionJobResult> stopEntitiesDetectionJobAsync(
             final StopEntitiesDetectionJobRequest stopEntitiesDetectionJobRequest,
             final AsyncHandler<StopEntitiesDetectionJobRequest, StopEntitiesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopEntitiesDetectionJobResult>() {
-            public StopEntitiesDetectionJobResult call() throws Exception {
-                StopEntitiesDetectionJobResult result = null;
-                try {
-                    result = stopEntitiesDetectionJob(stopEntitiesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopEntitiesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopEntitiesDetectionJobRequest,
+                new StopEntitiesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopEntitiesDetectionJobResult>(
+                        new StopEntitiesDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3674,14 +3149,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
+    public ListenableFuture<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
             final StopKeyPhrasesDetectionJobRequest stopKeyPhrasesDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopKeyPhrasesDetectionJobResult>() {
-            public StopKeyPhrasesDetectionJobResult call() throws Exception {
-                return stopKeyPhrasesDetectionJob(stopKeyPhrasesDetectionJobRequest);
-            }
-        });
+        return stopKeyPhrasesDetectionJobAsync(stopKeyPhrasesDetectionJobRequest, null);
     }
 
     /**
@@ -3720,23 +3191,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
+    public ListenableFuture<StopKeyPhrasesDetectionJobResult> stopKeyPhrasesDetectionJobAsync(
             final StopKeyPhrasesDetectionJobRequest stopKeyPhrasesDetectionJobRequest,
             final AsyncHandler<StopKeyPhrasesDetectionJobRequest, StopKeyPhrasesDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopKeyPhrasesDetectionJobResult>() {
-            public StopKeyPhrasesDetectionJobResult call() throws Exception {
-                StopKeyPhrasesDetectionJobResult result = null;
-                try {
-                    result = stopKeyPhrasesDetectionJob(stopKeyPhrasesDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopKeyPhrasesDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopKeyPhrasesDetectionJobRequest,
+                new StopKeyPhrasesDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopKeyPhrasesDetectionJobResult>(
+                        new StopKeyPhrasesDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3775,14 +3238,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
+    public ListenableFuture<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
             final StopSentimentDetectionJobRequest stopSentimentDetectionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopSentimentDetectionJobResult>() {
-            public StopSentimentDetectionJobResult call() throws Exception {
-                return stopSentimentDetectionJob(stopSentimentDetectionJobRequest);
-            }
-        });
+        return stopSentimentDetectionJobAsync(stopSentimentDetectionJobRequest, null);
     }
 
     /**
@@ -3821,23 +3280,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
+    public ListenableFuture<StopSentimentDetectionJobResult> stopSentimentDetectionJobAsync(
             final StopSentimentDetectionJobRequest stopSentimentDetectionJobRequest,
             final AsyncHandler<StopSentimentDetectionJobRequest, StopSentimentDetectionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopSentimentDetectionJobResult>() {
-            public StopSentimentDetectionJobResult call() throws Exception {
-                StopSentimentDetectionJobResult result = null;
-                try {
-                    result = stopSentimentDetectionJob(stopSentimentDetectionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopSentimentDetectionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopSentimentDetectionJobRequest,
+                new StopSentimentDetectionJobRequestMarshaller(),
+                new JsonResponseHandler<StopSentimentDetectionJobResult>(
+                        new StopSentimentDetectionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3869,14 +3320,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
+    public ListenableFuture<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
             final StopTrainingDocumentClassifierRequest stopTrainingDocumentClassifierRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingDocumentClassifierResult>() {
-            public StopTrainingDocumentClassifierResult call() throws Exception {
-                return stopTrainingDocumentClassifier(stopTrainingDocumentClassifierRequest);
-            }
-        });
+        return stopTrainingDocumentClassifierAsync(stopTrainingDocumentClassifierRequest, null);
     }
 
     /**
@@ -3908,23 +3355,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
+    public ListenableFuture<StopTrainingDocumentClassifierResult> stopTrainingDocumentClassifierAsync(
             final StopTrainingDocumentClassifierRequest stopTrainingDocumentClassifierRequest,
             final AsyncHandler<StopTrainingDocumentClassifierRequest, StopTrainingDocumentClassifierResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingDocumentClassifierResult>() {
-            public StopTrainingDocumentClassifierResult call() throws Exception {
-                StopTrainingDocumentClassifierResult result = null;
-                try {
-                    result = stopTrainingDocumentClassifier(stopTrainingDocumentClassifierRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopTrainingDocumentClassifierRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopTrainingDocumentClassifierRequest,
+                new StopTrainingDocumentClassifierRequestMarshaller(),
+                new JsonResponseHandler<StopTrainingDocumentClassifierResult>(
+                        new StopTrainingDocumentClassifierResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3956,14 +3395,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
+    public ListenableFuture<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
             final StopTrainingEntityRecognizerRequest stopTrainingEntityRecognizerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingEntityRecognizerResult>() {
-            public StopTrainingEntityRecognizerResult call() throws Exception {
-                return stopTrainingEntityRecognizer(stopTrainingEntityRecognizerRequest);
-            }
-        });
+        return stopTrainingEntityRecognizerAsync(stopTrainingEntityRecognizerRequest, null);
     }
 
     /**
@@ -3995,23 +3430,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
+    public ListenableFuture<StopTrainingEntityRecognizerResult> stopTrainingEntityRecognizerAsync(
             final StopTrainingEntityRecognizerRequest stopTrainingEntityRecognizerRequest,
             final AsyncHandler<StopTrainingEntityRecognizerRequest, StopTrainingEntityRecognizerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTrainingEntityRecognizerResult>() {
-            public StopTrainingEntityRecognizerResult call() throws Exception {
-                StopTrainingEntityRecognizerResult result = null;
-                try {
-                    result = stopTrainingEntityRecognizer(stopTrainingEntityRecognizerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopTrainingEntityRecognizerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopTrainingEntityRecognizerRequest,
+                new StopTrainingEntityRecognizerRequestMarshaller(),
+                new JsonResponseHandler<StopTrainingEntityRecognizerResult>(
+                        new StopTrainingEntityRecognizerResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4038,13 +3465,9 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
+    public ListenableFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                return tagResource(tagResourceRequest);
-            }
-        });
+        return tagResourceAsync(tagResourceRequest, null);
     }
 
     /**
@@ -4071,22 +3494,14 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
+    public ListenableFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                TagResourceResult result = null;
-                try {
-                    result = tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<TagResourceResult>(
+                        new TagResourceResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4110,14 +3525,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public ListenableFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                return untagResource(untagResourceRequest);
-            }
-        });
+        return untagResourceAsync(untagResourceRequest, null);
     }
 
     /**
@@ -4141,23 +3552,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public ListenableFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                UntagResourceResult result = null;
-                try {
-                    result = untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<UntagResourceResult>(
+                        new UntagResourceResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4183,14 +3586,10 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateEndpointResult> updateEndpointAsync(
+    public ListenableFuture<UpdateEndpointResult> updateEndpointAsync(
             final UpdateEndpointRequest updateEndpointRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateEndpointResult>() {
-            public UpdateEndpointResult call() throws Exception {
-                return updateEndpoint(updateEndpointRequest);
-            }
-        });
+        return updateEndpointAsync(updateEndpointRequest, null);
     }
 
     /**
@@ -4216,23 +3615,15 @@ public class AmazonComprehendAsyncClient extends AmazonComprehendClient implemen
      *             Comprehend indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateEndpointResult> updateEndpointAsync(
+    public ListenableFuture<UpdateEndpointResult> updateEndpointAsync(
             final UpdateEndpointRequest updateEndpointRequest,
             final AsyncHandler<UpdateEndpointRequest, UpdateEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEndpointResult>() {
-            public UpdateEndpointResult call() throws Exception {
-                UpdateEndpointResult result = null;
-                try {
-                    result = updateEndpoint(updateEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateEndpointRequest,
+                new UpdateEndpointRequestMarshaller(),
+                new JsonResponseHandler<UpdateEndpointResult>(
+                        new UpdateEndpointResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
 }
@@ -15,20 +15,22 @@
 
 package com.amazonaws.services.connect;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.connect.model.*;
+import com.amazonaws.services.connect.model.transform.*;
 
 /**
  * Interface for accessing Amazon Connect asynchronously.
@@ -56,7 +58,7 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -102,15 +104,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     @Deprecated
     public AmazonConnectAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Connect using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be run on the SDK's
+     * shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -120,7 +122,7 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *            to use when authenticating with AWS services.
      */
     public AmazonConnectAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -139,7 +141,7 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public AmazonConnectAsyncClient(AWSCredentials awsCredentials, ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -161,14 +163,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public AmazonConnectAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Connect using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -179,7 +181,7 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *            services.
      */
     public AmazonConnectAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -219,8 +221,8 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      */
     public AmazonConnectAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -243,17 +245,18 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
     public AmazonConnectAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -293,13 +296,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest)
+    public ListenableFuture<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
-            public CreateUserResult call() throws Exception {
-                return createUser(createUserRequest);
-            }
-        });
+        return createUserAsync(createUserRequest, null);
     }
 
     /**
@@ -325,22 +324,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest,
+    public ListenableFuture<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest,
             final AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
-            public CreateUserResult call() throws Exception {
-                CreateUserResult result = null;
-                try {
-                    result = createUser(createUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createUserRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createUserRequest,
+                new CreateUserRequestMarshaller(),
+                new JsonResponseHandler<CreateUserResult>(
+                        new CreateUserResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -364,14 +355,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest)
+    public ListenableFuture<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteUser(deleteUserRequest);
-                return null;
-            }
-        });
+        return deleteUserAsync(deleteUserRequest, null);
     }
 
     /**
@@ -395,22 +381,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest,
+    public ListenableFuture<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest,
             final AsyncHandler<DeleteUserRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteUser(deleteUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteUserRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteUserRequest,
+                new DeleteUserRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -437,14 +414,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserResult> describeUserAsync(
+    public ListenableFuture<DescribeUserResult> describeUserAsync(
             final DescribeUserRequest describeUserRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserResult>() {
-            public DescribeUserResult call() throws Exception {
-                return describeUser(describeUserRequest);
-            }
-        });
+        return describeUserAsync(describeUserRequest, null);
     }
 
     /**
@@ -471,23 +444,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserResult> describeUserAsync(
+    public ListenableFuture<DescribeUserResult> describeUserAsync(
             final DescribeUserRequest describeUserRequest,
             final AsyncHandler<DescribeUserRequest, DescribeUserResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserResult>() {
-            public DescribeUserResult call() throws Exception {
-                DescribeUserResult result = null;
-                try {
-                    result = describeUser(describeUserRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeUserRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeUserRequest,
+                new DescribeUserRequestMarshaller(),
+                new JsonResponseHandler<DescribeUserResult>(
+                        new DescribeUserResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -512,14 +477,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
+    public ListenableFuture<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
             final DescribeUserHierarchyGroupRequest describeUserHierarchyGroupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyGroupResult>() {
-            public DescribeUserHierarchyGroupResult call() throws Exception {
-                return describeUserHierarchyGroup(describeUserHierarchyGroupRequest);
-            }
-        });
+        return describeUserHierarchyGroupAsync(describeUserHierarchyGroupRequest, null);
     }
 
     /**
@@ -544,23 +505,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
+    public ListenableFuture<DescribeUserHierarchyGroupResult> describeUserHierarchyGroupAsync(
             final DescribeUserHierarchyGroupRequest describeUserHierarchyGroupRequest,
             final AsyncHandler<DescribeUserHierarchyGroupRequest, DescribeUserHierarchyGroupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyGroupResult>() {
-            public DescribeUserHierarchyGroupResult call() throws Exception {
-                DescribeUserHierarchyGroupResult result = null;
-                try {
-                    result = describeUserHierarchyGroup(describeUserHierarchyGroupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeUserHierarchyGroupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeUserHierarchyGroupRequest,
+                new DescribeUserHierarchyGroupRequestMarshaller(),
+                new JsonResponseHandler<DescribeUserHierarchyGroupResult>(
+                        new DescribeUserHierarchyGroupResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -586,14 +539,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
+    public ListenableFuture<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
             final DescribeUserHierarchyStructureRequest describeUserHierarchyStructureRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyStructureResult>() {
-            public DescribeUserHierarchyStructureResult call() throws Exception {
-                return describeUserHierarchyStructure(describeUserHierarchyStructureRequest);
-            }
-        });
+        return describeUserHierarchyStructureAsync(describeUserHierarchyStructureRequest, null);
     }
 
     /**
@@ -619,23 +568,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
+    public ListenableFuture<DescribeUserHierarchyStructureResult> describeUserHierarchyStructureAsync(
             final DescribeUserHierarchyStructureRequest describeUserHierarchyStructureRequest,
             final AsyncHandler<DescribeUserHierarchyStructureRequest, DescribeUserHierarchyStructureResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeUserHierarchyStructureResult>() {
-            public DescribeUserHierarchyStructureResult call() throws Exception {
-                DescribeUserHierarchyStructureResult result = null;
-                try {
-                    result = describeUserHierarchyStructure(describeUserHierarchyStructureRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeUserHierarchyStructureRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeUserHierarchyStructureRequest,
+                new DescribeUserHierarchyStructureRequestMarshaller(),
+                new JsonResponseHandler<DescribeUserHierarchyStructureResult>(
+                        new DescribeUserHierarchyStructureResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -658,14 +599,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetContactAttributesResult> getContactAttributesAsync(
+    public ListenableFuture<GetContactAttributesResult> getContactAttributesAsync(
             final GetContactAttributesRequest getContactAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetContactAttributesResult>() {
-            public GetContactAttributesResult call() throws Exception {
-                return getContactAttributes(getContactAttributesRequest);
-            }
-        });
+        return getContactAttributesAsync(getContactAttributesRequest, null);
     }
 
     /**
@@ -688,23 +625,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetContactAttributesResult> getContactAttributesAsync(
+    public ListenableFuture<GetContactAttributesResult> getContactAttributesAsync(
             final GetContactAttributesRequest getContactAttributesRequest,
             final AsyncHandler<GetContactAttributesRequest, GetContactAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetContactAttributesResult>() {
-            public GetContactAttributesResult call() throws Exception {
-                GetContactAttributesResult result = null;
-                try {
-                    result = getContactAttributes(getContactAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getContactAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getContactAttributesRequest,
+                new GetContactAttributesRequestMarshaller(),
+                new JsonResponseHandler<GetContactAttributesResult>(
+                        new GetContactAttributesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -736,14 +665,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
+    public ListenableFuture<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
             final GetCurrentMetricDataRequest getCurrentMetricDataRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentMetricDataResult>() {
-            public GetCurrentMetricDataResult call() throws Exception {
-                return getCurrentMetricData(getCurrentMetricDataRequest);
-            }
-        });
+        return getCurrentMetricDataAsync(getCurrentMetricDataRequest, null);
     }
 
     /**
@@ -775,23 +700,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
+    public ListenableFuture<GetCurrentMetricDataResult> getCurrentMetricDataAsync(
             final GetCurrentMetricDataRequest getCurrentMetricDataRequest,
             final AsyncHandler<GetCurrentMetricDataRequest, GetCurrentMetricDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCurrentMetricDataResult>() {
-            public GetCurrentMetricDataResult call() throws Exception {
-                GetCurrentMetricDataResult result = null;
-                try {
-                    result = getCurrentMetricData(getCurrentMetricDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getCurrentMetricDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getCurrentMetricDataRequest,
+                new GetCurrentMetricDataRequestMarshaller(),
+                new JsonResponseHandler<GetCurrentMetricDataResult>(
+                        new GetCurrentMetricDataResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -816,14 +733,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetFederationTokenResult> getFederationTokenAsync(
+    public ListenableFuture<GetFederationTokenResult> getFederationTokenAsync(
             final GetFederationTokenRequest getFederationTokenRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
-            public GetFederationTokenResult call() throws Exception {
-                return getFederationToken(getFederationTokenRequest);
-            }
-        });
+        return getFederationTokenAsync(getFederationTokenRequest, null);
     }
 
     /**
@@ -848,23 +761,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetFederationTokenResult> getFederationTokenAsync(
+    public ListenableFuture<GetFederationTokenResult> getFederationTokenAsync(
             final GetFederationTokenRequest getFederationTokenRequest,
             final AsyncHandler<GetFederationTokenRequest, GetFederationTokenResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
-            public GetFederationTokenResult call() throws Exception {
-                GetFederationTokenResult result = null;
-                try {
-                    result = getFederationToken(getFederationTokenRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getFederationTokenRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getFederationTokenRequest,
+                new GetFederationTokenRequestMarshaller(),
+                new JsonResponseHandler<GetFederationTokenResult>(
+                        new GetFederationTokenResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -894,14 +799,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMetricDataResult> getMetricDataAsync(
+    public ListenableFuture<GetMetricDataResult> getMetricDataAsync(
             final GetMetricDataRequest getMetricDataRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataResult>() {
-            public GetMetricDataResult call() throws Exception {
-                return getMetricData(getMetricDataRequest);
-            }
-        });
+        return getMetricDataAsync(getMetricDataRequest, null);
     }
 
     /**
@@ -931,23 +832,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMetricDataResult> getMetricDataAsync(
+    public ListenableFuture<GetMetricDataResult> getMetricDataAsync(
             final GetMetricDataRequest getMetricDataRequest,
             final AsyncHandler<GetMetricDataRequest, GetMetricDataResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricDataResult>() {
-            public GetMetricDataResult call() throws Exception {
-                GetMetricDataResult result = null;
-                try {
-                    result = getMetricData(getMetricDataRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMetricDataRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getMetricDataRequest,
+                new GetMetricDataRequestMarshaller(),
+                new JsonResponseHandler<GetMetricDataResult>(
+                        new GetMetricDataResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -972,14 +865,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListContactFlowsResult> listContactFlowsAsync(
+    public ListenableFuture<ListContactFlowsResult> listContactFlowsAsync(
             final ListContactFlowsRequest listContactFlowsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowsResult>() {
-            public ListContactFlowsResult call() throws Exception {
-                return listContactFlows(listContactFlowsRequest);
-            }
-        });
+        return listContactFlowsAsync(listContactFlowsRequest, null);
     }
 
     /**
@@ -1004,23 +893,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListContactFlowsResult> listContactFlowsAsync(
+    public ListenableFuture<ListContactFlowsResult> listContactFlowsAsync(
             final ListContactFlowsRequest listContactFlowsRequest,
             final AsyncHandler<ListContactFlowsRequest, ListContactFlowsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListContactFlowsResult>() {
-            public ListContactFlowsResult call() throws Exception {
-                ListContactFlowsResult result = null;
-                try {
-                    result = listContactFlows(listContactFlowsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listContactFlowsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listContactFlowsRequest,
+                new ListContactFlowsRequestMarshaller(),
+                new JsonResponseHandler<ListContactFlowsResult>(
+                        new ListContactFlowsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1046,14 +927,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
+    public ListenableFuture<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
             final ListHoursOfOperationsRequest listHoursOfOperationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHoursOfOperationsResult>() {
-            public ListHoursOfOperationsResult call() throws Exception {
-                return listHoursOfOperations(listHoursOfOperationsRequest);
-            }
-        });
+        return listHoursOfOperationsAsync(listHoursOfOperationsRequest, null);
     }
 
     /**
@@ -1079,23 +956,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
+    public ListenableFuture<ListHoursOfOperationsResult> listHoursOfOperationsAsync(
             final ListHoursOfOperationsRequest listHoursOfOperationsRequest,
             final AsyncHandler<ListHoursOfOperationsRequest, ListHoursOfOperationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHoursOfOperationsResult>() {
-            public ListHoursOfOperationsResult call() throws Exception {
-                ListHoursOfOperationsResult result = null;
-                try {
-                    result = listHoursOfOperations(listHoursOfOperationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listHoursOfOperationsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listHoursOfOperationsRequest,
+                new ListHoursOfOperationsRequestMarshaller(),
+                new JsonResponseHandler<ListHoursOfOperationsResult>(
+                        new ListHoursOfOperationsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1120,14 +989,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListPhoneNumbersResult> listPhoneNumbersAsync(
+    public ListenableFuture<ListPhoneNumbersResult> listPhoneNumbersAsync(
             final ListPhoneNumbersRequest listPhoneNumbersRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersResult>() {
-            public ListPhoneNumbersResult call() throws Exception {
-                return listPhoneNumbers(listPhoneNumbersRequest);
-            }
-        });
+        return listPhoneNumbersAsync(listPhoneNumbersRequest, null);
     }
 
     /**
@@ -1152,23 +1017,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListPhoneNumbersResult> listPhoneNumbersAsync(
+    public ListenableFuture<ListPhoneNumbersResult> listPhoneNumbersAsync(
             final ListPhoneNumbersRequest listPhoneNumbersRequest,
             final AsyncHandler<ListPhoneNumbersRequest, ListPhoneNumbersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersResult>() {
-            public ListPhoneNumbersResult call() throws Exception {
-                ListPhoneNumbersResult result = null;
-                try {
-                    result = listPhoneNumbers(listPhoneNumbersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPhoneNumbersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listPhoneNumbersRequest,
+                new ListPhoneNumbersRequestMarshaller(),
+                new JsonResponseHandler<ListPhoneNumbersResult>(
+                        new ListPhoneNumbersResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1193,13 +1050,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
+    public ListenableFuture<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                return listQueues(listQueuesRequest);
-            }
-        });
+        return listQueuesAsync(listQueuesRequest, null);
     }
 
     /**
@@ -1224,22 +1077,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
+    public ListenableFuture<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
             final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                ListQueuesResult result = null;
-                try {
-                    result = listQueues(listQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listQueuesRequest,
+                new ListQueuesRequestMarshaller(),
+                new JsonResponseHandler<ListQueuesResult>(
+                        new ListQueuesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1265,14 +1110,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListRoutingProfilesResult> listRoutingProfilesAsync(
+    public ListenableFuture<ListRoutingProfilesResult> listRoutingProfilesAsync(
             final ListRoutingProfilesRequest listRoutingProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfilesResult>() {
-            public ListRoutingProfilesResult call() throws Exception {
-                return listRoutingProfiles(listRoutingProfilesRequest);
-            }
-        });
+        return listRoutingProfilesAsync(listRoutingProfilesRequest, null);
     }
 
     /**
@@ -1298,23 +1139,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListRoutingProfilesResult> listRoutingProfilesAsync(
+    public ListenableFuture<ListRoutingProfilesResult> listRoutingProfilesAsync(
             final ListRoutingProfilesRequest listRoutingProfilesRequest,
             final AsyncHandler<ListRoutingProfilesRequest, ListRoutingProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListRoutingProfilesResult>() {
-            public ListRoutingProfilesResult call() throws Exception {
-                ListRoutingProfilesResult result = null;
-                try {
-                    result = listRoutingProfiles(listRoutingProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listRoutingProfilesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listRoutingProfilesRequest,
+                new ListRoutingProfilesRequestMarshaller(),
+                new JsonResponseHandler<ListRoutingProfilesResult>(
+                        new ListRoutingProfilesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1340,14 +1173,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSecurityProfilesResult> listSecurityProfilesAsync(
+    public ListenableFuture<ListSecurityProfilesResult> listSecurityProfilesAsync(
             final ListSecurityProfilesRequest listSecurityProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilesResult>() {
-            public ListSecurityProfilesResult call() throws Exception {
-                return listSecurityProfiles(listSecurityProfilesRequest);
-            }
-        });
+        return listSecurityProfilesAsync(listSecurityProfilesRequest, null);
     }
 
     /**
@@ -1373,23 +1202,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListSecurityProfilesResult> listSecurityProfilesAsync(
+    public ListenableFuture<ListSecurityProfilesResult> listSecurityProfilesAsync(
             final ListSecurityProfilesRequest listSecurityProfilesRequest,
             final AsyncHandler<ListSecurityProfilesRequest, ListSecurityProfilesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSecurityProfilesResult>() {
-            public ListSecurityProfilesResult call() throws Exception {
-                ListSecurityProfilesResult result = null;
-                try {
-                    result = listSecurityProfiles(listSecurityProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSecurityProfilesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSecurityProfilesRequest,
+                new ListSecurityProfilesRequestMarshaller(),
+                new JsonResponseHandler<ListSecurityProfilesResult>(
+                        new ListSecurityProfilesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1414,14 +1235,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public ListenableFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return listTagsForResourceAsync(listTagsForResourceRequest, null);
     }
 
     /**
@@ -1446,23 +1263,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public ListenableFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsForResourceResult>(
+                        new ListTagsForResourceResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1488,14 +1297,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
+    public ListenableFuture<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
             final ListUserHierarchyGroupsRequest listUserHierarchyGroupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserHierarchyGroupsResult>() {
-            public ListUserHierarchyGroupsResult call() throws Exception {
-                return listUserHierarchyGroups(listUserHierarchyGroupsRequest);
-            }
-        });
+        return listUserHierarchyGroupsAsync(listUserHierarchyGroupsRequest, null);
     }
 
     /**
@@ -1521,23 +1326,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
+    public ListenableFuture<ListUserHierarchyGroupsResult> listUserHierarchyGroupsAsync(
             final ListUserHierarchyGroupsRequest listUserHierarchyGroupsRequest,
             final AsyncHandler<ListUserHierarchyGroupsRequest, ListUserHierarchyGroupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserHierarchyGroupsResult>() {
-            public ListUserHierarchyGroupsResult call() throws Exception {
-                ListUserHierarchyGroupsResult result = null;
-                try {
-                    result = listUserHierarchyGroups(listUserHierarchyGroupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listUserHierarchyGroupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listUserHierarchyGroupsRequest,
+                new ListUserHierarchyGroupsRequestMarshaller(),
+                new JsonResponseHandler<ListUserHierarchyGroupsResult>(
+                        new ListUserHierarchyGroupsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1562,13 +1359,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest)
+    public ListenableFuture<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
-            public ListUsersResult call() throws Exception {
-                return listUsers(listUsersRequest);
-            }
-        });
+        return listUsersAsync(listUsersRequest, null);
     }
 
     /**
@@ -1593,22 +1386,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest,
+    public ListenableFuture<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest,
             final AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
-            public ListUsersResult call() throws Exception {
-                ListUsersResult result = null;
-                try {
-                    result = listUsers(listUsersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listUsersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listUsersRequest,
+                new ListUsersRequestMarshaller(),
+                new JsonResponseHandler<ListUsersResult>(
+                        new ListUsersResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1645,14 +1430,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartChatContactResult> startChatContactAsync(
+    public ListenableFuture<StartChatContactResult> startChatContactAsync(
             final StartChatContactRequest startChatContactRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<StartChatContactResult>() {
-            public StartChatContactResult call() throws Exception {
-                return startChatContact(startChatContactRequest);
-            }
-        });
+        return startChatContactAsync(startChatContactRequest, null);
     }
 
     /**
@@ -1689,23 +1470,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartChatContactResult> startChatContactAsync(
+    public ListenableFuture<StartChatContactResult> startChatContactAsync(
             final StartChatContactRequest startChatContactRequest,
             final AsyncHandler<StartChatContactRequest, StartChatContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartChatContactResult>() {
-            public StartChatContactResult call() throws Exception {
-                StartChatContactResult result = null;
-                try {
-                    result = startChatContact(startChatContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startChatContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startChatContactRequest,
+                new StartChatContactRequestMarshaller(),
+                new JsonResponseHandler<StartChatContactResult>(
+                        new StartChatContactResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1736,14 +1509,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
+    public ListenableFuture<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
             final StartOutboundVoiceContactRequest startOutboundVoiceContactRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartOutboundVoiceContactResult>() {
-            public StartOutboundVoiceContactResult call() throws Exception {
-                return startOutboundVoiceContact(startOutboundVoiceContactRequest);
-            }
-        });
+        return startOutboundVoiceContactAsync(startOutboundVoiceContactRequest, null);
     }
 
     /**
@@ -1774,23 +1543,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
+    public ListenableFuture<StartOutboundVoiceContactResult> startOutboundVoiceContactAsync(
             final StartOutboundVoiceContactRequest startOutboundVoiceContactRequest,
             final AsyncHandler<StartOutboundVoiceContactRequest, StartOutboundVoiceContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartOutboundVoiceContactResult>() {
-            public StartOutboundVoiceContactResult call() throws Exception {
-                StartOutboundVoiceContactResult result = null;
-                try {
-                    result = startOutboundVoiceContact(startOutboundVoiceContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startOutboundVoiceContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startOutboundVoiceContactRequest,
+                new StartOutboundVoiceContactRequestMarshaller(),
+                new JsonResponseHandler<StartOutboundVoiceContactResult>(
+                        new StartOutboundVoiceContactResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1814,13 +1575,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest)
+    public ListenableFuture<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactResult>() {
-            public StopContactResult call() throws Exception {
-                return stopContact(stopContactRequest);
-            }
-        });
+        return stopContactAsync(stopContactRequest, null);
     }
 
     /**
@@ -1844,22 +1601,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest,
+    public ListenableFuture<StopContactResult> stopContactAsync(final StopContactRequest stopContactRequest,
             final AsyncHandler<StopContactRequest, StopContactResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopContactResult>() {
-            public StopContactResult call() throws Exception {
-                StopContactResult result = null;
-                try {
-                    result = stopContact(stopContactRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopContactRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopContactRequest,
+                new StopContactRequestMarshaller(),
+                new JsonResponseHandler<StopContactResult>(
+                        new StopContactResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1886,14 +1635,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
+    public ListenableFuture<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                tagResource(tagResourceRequest);
-                return null;
-            }
-        });
+        return tagResourceAsync(tagResourceRequest, null);
     }
 
     /**
@@ -1920,22 +1664,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
+    public ListenableFuture<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1959,14 +1694,9 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
+    public ListenableFuture<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                untagResource(untagResourceRequest);
-                return null;
-            }
-        });
+        return untagResourceAsync(untagResourceRequest, null);
     }
 
     /**
@@ -1990,22 +1720,13 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
+    public ListenableFuture<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2053,14 +1774,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactAttributesResult> updateContactAttributesAsync(
+    public ListenableFuture<UpdateContactAttributesResult> updateContactAttributesAsync(
             final UpdateContactAttributesRequest updateContactAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactAttributesResult>() {
-            public UpdateContactAttributesResult call() throws Exception {
-                return updateContactAttributes(updateContactAttributesRequest);
-            }
-        });
+        return updateContactAttributesAsync(updateContactAttributesRequest, null);
     }
 
     /**
@@ -2108,23 +1825,15 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContactAttributesResult> updateContactAttributesAsync(
+    public ListenableFuture<UpdateContactAttributesResult> updateContactAttributesAsync(
             final UpdateContactAttributesRequest updateContactAttributesRequest,
             final AsyncHandler<UpdateContactAttributesRequest, UpdateContactAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContactAttributesResult>() {
-            public UpdateContactAttributesResult call() throws Exception {
-                UpdateContactAttributesResult result = null;
-                try {
-                    result = updateContactAttributes(updateContactAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContactAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContactAttributesRequest,
+                new UpdateContactAttributesRequestMarshaller(),
+                new JsonResponseHandler<UpdateContactAttributesResult>(
+                        new UpdateContactAttributesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2149,15 +1858,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserHierarchyAsync(
+    public ListenableFuture<Void> updateUserHierarchyAsync(
             final UpdateUserHierarchyRequest updateUserHierarchyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserHierarchy(updateUserHierarchyRequest);
-                return null;
-            }
-        });
+        return updateUserHierarchyAsync(updateUserHierarchyRequest, null);
     }
 
     /**
@@ -2182,23 +1886,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserHierarchyAsync(
+    public ListenableFuture<Void> updateUserHierarchyAsync(
             final UpdateUserHierarchyRequest updateUserHierarchyRequest,
             final AsyncHandler<UpdateUserHierarchyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserHierarchy(updateUserHierarchyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserHierarchyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserHierarchyRequest,
+                new UpdateUserHierarchyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2223,15 +1918,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserIdentityInfoAsync(
+    public ListenableFuture<Void> updateUserIdentityInfoAsync(
             final UpdateUserIdentityInfoRequest updateUserIdentityInfoRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserIdentityInfo(updateUserIdentityInfoRequest);
-                return null;
-            }
-        });
+        return updateUserIdentityInfoAsync(updateUserIdentityInfoRequest, null);
     }
 
     /**
@@ -2256,23 +1946,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserIdentityInfoAsync(
+    public ListenableFuture<Void> updateUserIdentityInfoAsync(
             final UpdateUserIdentityInfoRequest updateUserIdentityInfoRequest,
             final AsyncHandler<UpdateUserIdentityInfoRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserIdentityInfo(updateUserIdentityInfoRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserIdentityInfoRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserIdentityInfoRequest,
+                new UpdateUserIdentityInfoRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2297,15 +1978,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserPhoneConfigAsync(
+    public ListenableFuture<Void> updateUserPhoneConfigAsync(
             final UpdateUserPhoneConfigRequest updateUserPhoneConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserPhoneConfig(updateUserPhoneConfigRequest);
-                return null;
-            }
-        });
+        return updateUserPhoneConfigAsync(updateUserPhoneConfigRequest, null);
     }
 
     /**
@@ -2330,23 +2006,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserPhoneConfigAsync(
+    public ListenableFuture<Void> updateUserPhoneConfigAsync(
             final UpdateUserPhoneConfigRequest updateUserPhoneConfigRequest,
             final AsyncHandler<UpdateUserPhoneConfigRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserPhoneConfig(updateUserPhoneConfigRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserPhoneConfigRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserPhoneConfigRequest,
+                new UpdateUserPhoneConfigRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2371,15 +2038,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserRoutingProfileAsync(
+    public ListenableFuture<Void> updateUserRoutingProfileAsync(
             final UpdateUserRoutingProfileRequest updateUserRoutingProfileRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserRoutingProfile(updateUserRoutingProfileRequest);
-                return null;
-            }
-        });
+        return updateUserRoutingProfileAsync(updateUserRoutingProfileRequest, null);
     }
 
     /**
@@ -2404,23 +2066,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserRoutingProfileAsync(
+    public ListenableFuture<Void> updateUserRoutingProfileAsync(
             final UpdateUserRoutingProfileRequest updateUserRoutingProfileRequest,
             final AsyncHandler<UpdateUserRoutingProfileRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserRoutingProfile(updateUserRoutingProfileRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserRoutingProfileRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserRoutingProfileRequest,
+                new UpdateUserRoutingProfileRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2445,15 +2098,10 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserSecurityProfilesAsync(
+    public ListenableFuture<Void> updateUserSecurityProfilesAsync(
             final UpdateUserSecurityProfilesRequest updateUserSecurityProfilesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUserSecurityProfiles(updateUserSecurityProfilesRequest);
-                return null;
-            }
-        });
+        return updateUserSecurityProfilesAsync(updateUserSecurityProfilesRequest, null);
     }
 
     /**
@@ -2478,23 +2126,14 @@ public class AmazonConnectAsyncClient extends AmazonConnectClient implements Ama
      *             Connect indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> updateUserSecurityProfilesAsync(
+    public ListenableFuture<Void> updateUserSecurityProfilesAsync(
             final UpdateUserSecurityProfilesRequest updateUserSecurityProfilesRequest,
             final AsyncHandler<UpdateUserSecurityProfilesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateUserSecurityProfiles(updateUserSecurityProfilesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateUserSecurityProfilesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateUserSecurityProfilesRequest,
+                new UpdateUserSecurityProfilesRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
 }
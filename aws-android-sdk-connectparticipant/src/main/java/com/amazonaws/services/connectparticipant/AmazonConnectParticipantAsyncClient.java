@@ -15,20 +15,22 @@
 
 package com.amazonaws.services.connectparticipant;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.connectparticipant.model.*;
+import com.amazonaws.services.connectparticipant.model.transform.*;
 
 /**
  * Interface for accessing Amazon Connect Participant asynchronously.
@@ -51,7 +53,7 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -63,7 +65,7 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      * will not return until the service call completes.
      */
     public AmazonConnectParticipantAsyncClient() {
-        this(Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -78,7 +80,7 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *            proxy settings, retry counts, etc.).
      */
     public AmazonConnectParticipantAsyncClient(ClientConfiguration clientConfiguration) {
-        this(clientConfiguration, Executors.newFixedThreadPool(clientConfiguration
+        this(clientConfiguration, SharedExecutors.newServiceExecutor(clientConfiguration
                 .getMaxConnections()));
     }
 
@@ -115,17 +117,18 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
     public AmazonConnectParticipantAsyncClient(ClientConfiguration clientConfiguration,
             ExecutorService executorService) {
         super(clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -185,14 +188,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<CreateParticipantConnectionResult> createParticipantConnectionAsync(
+    public ListenableFuture<CreateParticipantConnectionResult> createParticipantConnectionAsync(
             final CreateParticipantConnectionRequest createParticipantConnectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantConnectionResult>() {
-            public CreateParticipantConnectionResult call() throws Exception {
-                return createParticipantConnection(createParticipantConnectionRequest);
-            }
-        });
+        return createParticipantConnectionAsync(createParticipantConnectionRequest, null);
     }
 
     /**
@@ -238,23 +237,15 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<CreateParticipantConnectionResult> createParticipantConnectionAsync(
+    public ListenableFuture<CreateParticipantConnectionResult> createParticipantConnectionAsync(
             final CreateParticipantConnectionRequest createParticipantConnectionRequest,
             final AsyncHandler<CreateParticipantConnectionRequest, CreateParticipantConnectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateParticipantConnectionResult>() {
-            public CreateParticipantConnectionResult call() throws Exception {
-                CreateParticipantConnectionResult result = null;
-                try {
-                    result = createParticipantConnection(createParticipantConnectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createParticipantConnectionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createParticipantConnectionRequest,
+                new CreateParticipantConnectionRequestMarshaller(),
+                new JsonResponseHandler<CreateParticipantConnectionResult>(
+                        new CreateParticipantConnectionResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -279,14 +270,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<DisconnectParticipantResult> disconnectParticipantAsync(
+    public ListenableFuture<DisconnectParticipantResult> disconnectParticipantAsync(
             final DisconnectParticipantRequest disconnectParticipantRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisconnectParticipantResult>() {
-            public DisconnectParticipantResult call() throws Exception {
-                return disconnectParticipant(disconnectParticipantRequest);
-            }
-        });
+        return disconnectParticipantAsync(disconnectParticipantRequest, null);
     }
 
     /**
@@ -311,23 +298,15 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<DisconnectParticipantResult> disconnectParticipantAsync(
+    public ListenableFuture<DisconnectParticipantResult> disconnectParticipantAsync(
             final DisconnectParticipantRequest disconnectParticipantRequest,
             final AsyncHandler<DisconnectParticipantRequest, DisconnectParticipantResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisconnectParticipantResult>() {
-            public DisconnectParticipantResult call() throws Exception {
-                DisconnectParticipantResult result = null;
-                try {
-                    result = disconnectParticipant(disconnectParticipantRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(disconnectParticipantRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(disconnectParticipantRequest,
+                new DisconnectParticipantRequestMarshaller(),
+                new JsonResponseHandler<DisconnectParticipantResult>(
+                        new DisconnectParticipantResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -352,14 +331,10 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<GetTranscriptResult> getTranscriptAsync(
+    public ListenableFuture<GetTranscriptResult> getTranscriptAsync(
             final GetTranscriptRequest getTranscriptRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptResult>() {
-            public GetTranscriptResult call() throws Exception {
-                return getTranscript(getTranscriptRequest);
-            }
-        });
+        return getTranscriptAsync(getTranscriptRequest, null);
     }
 
     /**
@@ -384,23 +359,15 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<GetTranscriptResult> getTranscriptAsync(
+    public ListenableFuture<GetTranscriptResult> getTranscriptAsync(
             final GetTranscriptRequest getTranscriptRequest,
             final AsyncHandler<GetTranscriptRequest, GetTranscriptResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptResult>() {
-            public GetTranscriptResult call() throws Exception {
-                GetTranscriptResult result = null;
-                try {
-                    result = getTranscript(getTranscriptRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTranscriptRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTranscriptRequest,
+                new GetTranscriptRequestMarshaller(),
+                new JsonResponseHandler<GetTranscriptResult>(
+                        new GetTranscriptResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -424,13 +391,9 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest)
+    public ListenableFuture<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEventResult>() {
-            public SendEventResult call() throws Exception {
-                return sendEvent(sendEventRequest);
-            }
-        });
+        return sendEventAsync(sendEventRequest, null);
     }
 
     /**
@@ -454,22 +417,14 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest,
+    public ListenableFuture<SendEventResult> sendEventAsync(final SendEventRequest sendEventRequest,
             final AsyncHandler<SendEventRequest, SendEventResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEventResult>() {
-            public SendEventResult call() throws Exception {
-                SendEventResult result = null;
-                try {
-                    result = sendEvent(sendEventRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendEventRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendEventRequest,
+                new SendEventRequestMarshaller(),
+                new JsonResponseHandler<SendEventResult>(
+                        new SendEventResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -493,13 +448,9 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
+    public ListenableFuture<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                return sendMessage(sendMessageRequest);
-            }
-        });
+        return sendMessageAsync(sendMessageRequest, null);
     }
 
     /**
@@ -523,22 +474,14 @@ public class AmazonConnectParticipantAsyncClient extends AmazonConnectParticipan
      *             Connect Participant indicating either a problem with the data
      *             in the request, or a server side issue.
      */
-    public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
+    public ListenableFuture<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
             final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                SendMessageResult result = null;
-                try {
-                    result = sendMessage(sendMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendMessageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendMessageRequest,
+                new SendMessageRequestMarshaller(),
+                new JsonResponseHandler<SendMessageResult>(
+                        new SendMessageResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
 }
@@ -16,8 +16,10 @@
 package com.amazonaws.services.connectparticipant;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import com.amazonaws.*;
+import com.amazonaws.async.ListenableFuture;
 import com.amazonaws.auth.*;
 import com.amazonaws.handlers.*;
 import com.amazonaws.http.*;
@@ -459,4 +461,21 @@ public class AmazonConnectParticipantClient extends AmazonWebServiceClient imple
                 errorResponseHandler, executionContext);
         return result;
     }
+
+    /**
+     * Sends a request without waiting for its response.
+     *
+     * @see AmazonWebServiceClient#invokeAsync(AmazonWebServiceRequest,
+     *      Marshaller, HttpResponseHandler, HttpResponseHandler,
+     *      AWSCredentialsProvider, AsyncHandler, Executor)
+     */
+    <X, Y extends AmazonWebServiceRequest> ListenableFuture<X> invokeAsync(Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            AsyncHandler<Y, X> asyncHandler, Executor executor) {
+        JsonErrorResponseHandler errorResponseHandler = new JsonErrorResponseHandler(
+                jsonErrorUnmarshallers);
+        return invokeAsync(originalRequest, marshaller, responseHandler, errorResponseHandler,
+                null, asyncHandler, executor);
+    }
 }
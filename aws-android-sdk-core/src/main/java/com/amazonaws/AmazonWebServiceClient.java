@@ -17,19 +17,27 @@ package com.amazonaws;
 
 import static com.amazonaws.SDKGlobalConfiguration.PROFILING_SYSTEM_PROPERTY;
 
+import com.amazonaws.async.Callback;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SettableFuture;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.RegionAwareSigner;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.auth.SignerFactory;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.http.UrlHttpClient;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
+import com.amazonaws.transform.Marshaller;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
 import com.amazonaws.util.AwsHostNameUtils;
@@ -43,6 +51,8 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Abstract base class for Amazon Web Service Java clients.
@@ -744,6 +754,133 @@ public abstract class AmazonWebServiceClient {
         }
     }
 
+    /**
+     * Sends a request without waiting for its response. The request is
+     * marshalled and its attempts are made on the executor through
+     * {@link AmazonHttpClient#executeAsync}, so the delays between the
+     * attempts don't hold a thread of the executor. The async handler, if
+     * any, is called before the returned future completes.
+     *
+     * @param originalRequest the request.
+     * @param marshaller marshaller of the request.
+     * @param responseHandler handler of the service response.
+     * @param errorResponseHandler handler of the service errors.
+     * @param credentialsProvider provider of the credentials signing the
+     *            request, or null if the request is not signed.
+     * @param asyncHandler handler called before the future completes, or
+     *            null.
+     * @param executor executor running the work of the request.
+     * @param <X> the result type.
+     * @param <Y> the request type.
+     * @return a future of the result. Cancelling it stops further retries.
+     */
+    protected final <X, Y extends AmazonWebServiceRequest> ListenableFuture<X> invokeAsync(
+            final Y originalRequest,
+            final Marshaller<Request<Y>, Y> marshaller,
+            final HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            final AWSCredentialsProvider credentialsProvider,
+            final AsyncHandler<Y, X> asyncHandler,
+            final Executor executor) {
+        final SettableFuture<X> future = new SettableFuture<X>();
+        final Runnable send = new Runnable() {
+            @Override
+            public void run() {
+                if (future.isDone()) {
+                    return;
+                }
+                final ExecutionContext executionContext = createExecutionContext(originalRequest);
+                final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+                Request<Y> request = null;
+                awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+                final ListenableFuture<Response<X>> responseFuture;
+                try {
+                    awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+                    try {
+                        request = marshaller.marshall(originalRequest);
+                        // Binds the request metrics to the current request.
+                        request.setAWSRequestMetrics(awsRequestMetrics);
+                    } finally {
+                        awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+                    }
+                    request.setEndpoint(endpoint);
+                    request.setTimeOffset(timeOffset);
+                    if (credentialsProvider != null) {
+                        executionContext.setCredentials(getCredentials(credentialsProvider,
+                                originalRequest, awsRequestMetrics));
+                    }
+                    responseFuture = client.executeAsync(request, responseHandler,
+                            errorResponseHandler, executionContext, executor);
+                } catch (final Exception ex) {
+                    endClientExecution(awsRequestMetrics, request, null);
+                    fail(future, asyncHandler, ex);
+                    return;
+                }
+                final Request<Y> sentRequest = request;
+                responseFuture.addCallback(new Callback<Response<X>>() {
+                    @Override
+                    public void onResult(final Response<X> response) {
+                        endClientExecution(awsRequestMetrics, sentRequest, response);
+                        final X result = response.getAwsResponse();
+                        if (asyncHandler != null && !future.isDone()) {
+                            asyncHandler.onSuccess(originalRequest, result);
+                        }
+                        future.set(result);
+                    }
+
+                    @Override
+                    public void onError(final Exception ex) {
+                        endClientExecution(awsRequestMetrics, sentRequest, null);
+                        fail(future, asyncHandler, ex);
+                    }
+                });
+                // Cancelling the result stops the retries.
+                future.addCallback(new Callback<X>() {
+                    @Override
+                    public void onResult(final X result) {
+                    }
+
+                    @Override
+                    public void onError(final Exception ex) {
+                        if (future.isCancelled()) {
+                            responseFuture.cancel(true);
+                        }
+                    }
+                });
+            }
+        };
+        try {
+            executor.execute(send);
+        } catch (final RejectedExecutionException ex) {
+            fail(future, asyncHandler, new AmazonClientException(
+                    "Unable to execute the request: " + ex.getMessage(), ex));
+        }
+        return future;
+    }
+
+    private static AWSCredentials getCredentials(final AWSCredentialsProvider credentialsProvider,
+            final AmazonWebServiceRequest originalRequest,
+            final AWSRequestMetrics awsRequestMetrics) {
+        if (originalRequest.getRequestCredentials() != null) {
+            return originalRequest.getRequestCredentials();
+        }
+        awsRequestMetrics.startEvent(Field.CredentialsRequestTime);
+        try {
+            return credentialsProvider.getCredentials();
+        } finally {
+            awsRequestMetrics.endEvent(Field.CredentialsRequestTime);
+        }
+    }
+
+    private static <X, Y extends AmazonWebServiceRequest> void fail(
+            final SettableFuture<X> future, final AsyncHandler<Y, X> asyncHandler,
+            final Exception ex) {
+        if (asyncHandler != null && !future.isDone()) {
+            asyncHandler.onError(ex);
+        }
+        future.setException(ex);
+    }
+
     /**
      * @deprecated by {@link #getServiceName()}.
      */
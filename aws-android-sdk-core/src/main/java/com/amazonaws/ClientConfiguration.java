@@ -21,6 +21,10 @@ import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.util.VersionInfoUtils;
 
 import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import javax.net.ssl.TrustManager;
 
@@ -65,6 +69,21 @@ public class ClientConfiguration {
      */
     public static final boolean DEFAULT_USE_REAPER = true;
 
+    /**
+     * The default maximum time (in milliseconds) a pooled connection may stay
+     * idle before it is closed.
+     */
+    public static final long DEFAULT_CONNECTION_MAX_IDLE_MILLIS = 60 * 1000;
+
+    /**
+     * The default percentile of the latency of an operation after which a
+     * hedged request is sent.
+     */
+    public static final double DEFAULT_HEDGED_REQUEST_PERCENTILE = 95;
+
+    /** The default smallest request body, in bytes, that is compressed. */
+    public static final int DEFAULT_REQUEST_COMPRESSION_THRESHOLD = 10 * 1024;
+
     /** The HTTP user agent header passed with all HTTP requests. */
     private String userAgent = DEFAULT_USER_AGENT;
 
@@ -184,6 +203,39 @@ public class ClientConfiguration {
      */
     private boolean enableGzip = false;
 
+    /**
+     * Whether HTTP/1.1 persistent connections are kept open and reused
+     * between requests.
+     */
+    private boolean connectionKeepAlive = true;
+
+    /**
+     * The maximum amount of time (in milliseconds) a pooled connection may
+     * stay idle before it is closed.
+     */
+    private long connectionMaxIdleMillis = DEFAULT_CONNECTION_MAX_IDLE_MILLIS;
+
+    /**
+     * Whether the retries of a client are limited by a
+     * {@link com.amazonaws.retry.RetryQuota}.
+     */
+    private boolean useRetryQuota = false;
+
+    /** Whether slow idempotent requests are hedged. */
+    private boolean useHedgedRequests = false;
+
+    /** The latency percentile after which a request is hedged. */
+    private double hedgedRequestPercentile = DEFAULT_HEDGED_REQUEST_PERCENTILE;
+
+    /** Operations other than GET and HEAD requests that may be hedged. */
+    private Set<String> idempotentOperations = Collections.emptySet();
+
+    /** Whether request bodies are compressed with gzip. */
+    private boolean compressRequests = false;
+
+    /** The smallest request body, in bytes, that is compressed. */
+    private int requestCompressionThreshold = DEFAULT_REQUEST_COMPRESSION_THRESHOLD;
+
     /**
      * Constructor.
      */
@@ -217,6 +269,14 @@ public class ClientConfiguration {
         this.trustManager = other.trustManager;
         this.curlLogging = other.curlLogging;
         this.enableGzip = other.enableGzip;
+        this.connectionKeepAlive = other.connectionKeepAlive;
+        this.connectionMaxIdleMillis = other.connectionMaxIdleMillis;
+        this.useRetryQuota = other.useRetryQuota;
+        this.useHedgedRequests = other.useHedgedRequests;
+        this.hedgedRequestPercentile = other.hedgedRequestPercentile;
+        this.idempotentOperations = other.idempotentOperations;
+        this.compressRequests = other.compressRequests;
+        this.requestCompressionThreshold = other.requestCompressionThreshold;
     }
 
     /**
@@ -1132,4 +1192,314 @@ public class ClientConfiguration {
         setEnableGzip(enableGzip);
         return this;
     }
+
+    /**
+     * Returns whether HTTP/1.1 persistent connections are kept open and
+     * reused between requests. The default is true.
+     *
+     * @return true if connections are kept alive.
+     */
+    public boolean isConnectionKeepAlive() {
+        return connectionKeepAlive;
+    }
+
+    /**
+     * Sets whether HTTP/1.1 persistent connections are kept open and reused
+     * between requests. When disabled, every request is sent with a
+     * "Connection: close" header and pays for a new TCP and TLS handshake.
+     *
+     * @param connectionKeepAlive true to keep connections alive.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setConnectionKeepAlive(boolean connectionKeepAlive) {
+        this.connectionKeepAlive = connectionKeepAlive;
+    }
+
+    /**
+     * Sets whether HTTP/1.1 persistent connections are kept open and reused
+     * between requests, and returns the updated ClientConfiguration object.
+     *
+     * @param connectionKeepAlive true to keep connections alive.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withConnectionKeepAlive(boolean connectionKeepAlive) {
+        setConnectionKeepAlive(connectionKeepAlive);
+        return this;
+    }
+
+    /**
+     * Returns the maximum amount of time (in milliseconds) a pooled connection
+     * may stay idle before it is closed. Only honored by HTTP clients that
+     * manage their own connection pool, such as
+     * {@link com.amazonaws.http.PooledHttpClient}.
+     *
+     * @return the maximum idle time in milliseconds.
+     */
+    public long getConnectionMaxIdleMillis() {
+        return connectionMaxIdleMillis;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a pooled connection
+     * may stay idle before it is closed. A value of 0 or less keeps idle
+     * connections open until the server closes them.
+     *
+     * @param connectionMaxIdleMillis the maximum idle time in milliseconds.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setConnectionMaxIdleMillis(long connectionMaxIdleMillis) {
+        this.connectionMaxIdleMillis = connectionMaxIdleMillis;
+    }
+
+    /**
+     * Sets the maximum amount of time (in milliseconds) a pooled connection
+     * may stay idle before it is closed, and returns the updated
+     * ClientConfiguration object.
+     *
+     * @param connectionMaxIdleMillis the maximum idle time in milliseconds.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withConnectionMaxIdleMillis(long connectionMaxIdleMillis) {
+        setConnectionMaxIdleMillis(connectionMaxIdleMillis);
+        return this;
+    }
+
+    /**
+     * Returns whether the retries of a client are limited by a shared
+     * {@link com.amazonaws.retry.RetryQuota}. The default is false.
+     *
+     * @return true if retries are limited by a retry quota.
+     */
+    public boolean isUseRetryQuota() {
+        return useRetryQuota;
+    }
+
+    /**
+     * Sets whether the retries of a client are limited by a shared
+     * {@link com.amazonaws.retry.RetryQuota}. When enabled, each retry takes
+     * tokens from a bucket that successful requests refill, so failed
+     * requests stop being retried when most requests fail, and throttling
+     * errors lower the rate at which the client sends requests until the
+     * service recovers.
+     *
+     * @param useRetryQuota true to limit retries by a retry quota.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setUseRetryQuota(boolean useRetryQuota) {
+        this.useRetryQuota = useRetryQuota;
+    }
+
+    /**
+     * Sets whether the retries of a client are limited by a shared
+     * {@link com.amazonaws.retry.RetryQuota}, and returns the updated
+     * ClientConfiguration object.
+     *
+     * @param useRetryQuota true to limit retries by a retry quota.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withUseRetryQuota(boolean useRetryQuota) {
+        setUseRetryQuota(useRetryQuota);
+        return this;
+    }
+
+    /**
+     * Returns whether slow idempotent requests are hedged. The default is
+     * false.
+     *
+     * @return true if slow idempotent requests are hedged.
+     * @see #setUseHedgedRequests(boolean)
+     */
+    public boolean isUseHedgedRequests() {
+        return useHedgedRequests;
+    }
+
+    /**
+     * Sets whether slow idempotent requests are hedged. When enabled, a GET or
+     * HEAD request, or a request of one of the
+     * {@link #setIdempotentOperations(String...) idempotent operations}, that
+     * takes longer than the {@link #setHedgedRequestPercentile(double)
+     * percentile} of the recent latencies of its operation is sent a second
+     * time. The first response is used and the other one is discarded. This
+     * trims the tail latency of reads at the cost of a few more requests.
+     *
+     * @param useHedgedRequests true to hedge slow idempotent requests.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setUseHedgedRequests(boolean useHedgedRequests) {
+        this.useHedgedRequests = useHedgedRequests;
+    }
+
+    /**
+     * Sets whether slow idempotent requests are hedged, and returns the
+     * updated ClientConfiguration object.
+     *
+     * @param useHedgedRequests true to hedge slow idempotent requests.
+     * @return The updated ClientConfiguration object.
+     * @see #setUseHedgedRequests(boolean)
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withUseHedgedRequests(boolean useHedgedRequests) {
+        setUseHedgedRequests(useHedgedRequests);
+        return this;
+    }
+
+    /**
+     * Returns the percentile of the latency of an operation after which a
+     * request is hedged. The default is
+     * {@link #DEFAULT_HEDGED_REQUEST_PERCENTILE}.
+     *
+     * @return the latency percentile, between 0 and 100.
+     */
+    public double getHedgedRequestPercentile() {
+        return hedgedRequestPercentile;
+    }
+
+    /**
+     * Sets the percentile of the latency of an operation after which a
+     * request is hedged. A lower percentile hedges more requests.
+     *
+     * @param hedgedRequestPercentile the latency percentile, between 0 and
+     *            100.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setHedgedRequestPercentile(double hedgedRequestPercentile) {
+        if (!(hedgedRequestPercentile >= 0 && hedgedRequestPercentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        this.hedgedRequestPercentile = hedgedRequestPercentile;
+    }
+
+    /**
+     * Sets the percentile of the latency of an operation after which a
+     * request is hedged, and returns the updated ClientConfiguration object.
+     *
+     * @param hedgedRequestPercentile the latency percentile, between 0 and
+     *            100.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withHedgedRequestPercentile(double hedgedRequestPercentile) {
+        setHedgedRequestPercentile(hedgedRequestPercentile);
+        return this;
+    }
+
+    /**
+     * Returns the operations, other than GET and HEAD requests, that may be
+     * hedged.
+     *
+     * @return the names of the operations, e.g. GetItem.
+     */
+    public Set<String> getIdempotentOperations() {
+        return idempotentOperations;
+    }
+
+    /**
+     * Sets the operations, other than GET and HEAD requests, that may be
+     * hedged, e.g. GetItem and Query. An operation is named after its request
+     * class without the Request suffix. Only name operations that can safely
+     * be sent twice.
+     *
+     * @param idempotentOperations the names of the operations.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setIdempotentOperations(String... idempotentOperations) {
+        this.idempotentOperations = Collections.unmodifiableSet(
+                new HashSet<String>(Arrays.asList(idempotentOperations)));
+    }
+
+    /**
+     * Sets the operations, other than GET and HEAD requests, that may be
+     * hedged, and returns the updated ClientConfiguration object.
+     *
+     * @param idempotentOperations the names of the operations.
+     * @return The updated ClientConfiguration object.
+     * @see #setIdempotentOperations(String...)
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withIdempotentOperations(String... idempotentOperations) {
+        setIdempotentOperations(idempotentOperations);
+        return this;
+    }
+
+    /**
+     * Returns whether request bodies are compressed with gzip. The default is
+     * false.
+     *
+     * @return true if request bodies are compressed.
+     * @see #setCompressRequests(boolean)
+     */
+    public boolean isCompressRequests() {
+        return compressRequests;
+    }
+
+    /**
+     * Sets whether request bodies are compressed with gzip. When enabled,
+     * in-memory request bodies, such as the JSON of most operations, of at
+     * least {@link #getRequestCompressionThreshold()} bytes are sent with
+     * Content-Encoding gzip, unless the request already has a
+     * Content-Encoding. Only enable it for services that accept gzip encoded
+     * requests.
+     *
+     * @param compressRequests true to compress request bodies.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setCompressRequests(boolean compressRequests) {
+        this.compressRequests = compressRequests;
+    }
+
+    /**
+     * Sets whether request bodies are compressed with gzip, and returns the
+     * updated ClientConfiguration object.
+     *
+     * @param compressRequests true to compress request bodies.
+     * @return The updated ClientConfiguration object.
+     * @see #setCompressRequests(boolean)
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withCompressRequests(boolean compressRequests) {
+        setCompressRequests(compressRequests);
+        return this;
+    }
+
+    /**
+     * Returns the smallest request body, in bytes, that is compressed when
+     * {@link #isCompressRequests()} is true. The default is
+     * {@link #DEFAULT_REQUEST_COMPRESSION_THRESHOLD}.
+     *
+     * @return the threshold in bytes.
+     */
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Sets the smallest request body, in bytes, that is compressed when
+     * {@link #isCompressRequests()} is true. Small bodies gain little from
+     * compression.
+     *
+     * @param requestCompressionThreshold the threshold in bytes.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+        if (requestCompressionThreshold < 0) {
+            throw new IllegalArgumentException("threshold cannot be negative");
+        }
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    /**
+     * Sets the smallest request body, in bytes, that is compressed, and
+     * returns the updated ClientConfiguration object.
+     *
+     * @param requestCompressionThreshold the threshold in bytes.
+     * @return The updated ClientConfiguration object.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    public ClientConfiguration withRequestCompressionThreshold(int requestCompressionThreshold) {
+        setRequestCompressionThreshold(requestCompressionThreshold);
+        return this;
+    }
 }
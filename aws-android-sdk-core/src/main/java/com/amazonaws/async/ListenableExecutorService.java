@@ -0,0 +1,119 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor service whose futures are {@link ListenableFuture}s.
+ *
+ * @see #wrap(ExecutorService)
+ */
+public abstract class ListenableExecutorService extends AbstractExecutorService {
+
+    /**
+     * Returns an executor service running its tasks on the given one, so an
+     * executor service supplied by the application also produces
+     * {@link ListenableFuture}s. Shutting the returned service down shuts the
+     * given one down.
+     *
+     * @param executorService the executor service running the tasks.
+     * @return the given executor service if it is already listenable, or a
+     *         listenable one running its tasks on it.
+     */
+    public static ListenableExecutorService wrap(final ExecutorService executorService) {
+        if (executorService == null) {
+            throw new IllegalArgumentException("executorService cannot be null");
+        }
+        if (executorService instanceof ListenableExecutorService) {
+            return (ListenableExecutorService) executorService;
+        }
+        return new ForwardingExecutorService(executorService);
+    }
+
+    @Override
+    public <T> ListenableFuture<T> submit(Callable<T> task) {
+        return (ListenableFuture<T>) super.submit(task);
+    }
+
+    @Override
+    public ListenableFuture<?> submit(Runnable task) {
+        return (ListenableFuture<?>) super.submit(task);
+    }
+
+    @Override
+    public <T> ListenableFuture<T> submit(Runnable task, T result) {
+        return (ListenableFuture<T>) super.submit(task, result);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new ListenableFutureTask<T>(callable);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new ListenableFutureTask<T>(runnable, value);
+    }
+
+    /**
+     * Runs its tasks on, and forwards its life cycle to, another executor
+     * service.
+     */
+    private static final class ForwardingExecutorService extends ListenableExecutorService {
+        private final ExecutorService delegate;
+
+        ForwardingExecutorService(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit)
+                throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
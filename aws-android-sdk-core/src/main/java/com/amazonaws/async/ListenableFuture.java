@@ -0,0 +1,48 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link Future} that runs listeners when it completes, so results can be
+ * handled without blocking a thread on {@link Future#get()}.
+ *
+ * @param <V> the type of the result
+ */
+public interface ListenableFuture<V> extends Future<V> {
+
+    /**
+     * Runs the listener on the executor when this future completes, or right
+     * away if it already has.
+     *
+     * @param listener the listener.
+     * @param executor the executor running the listener.
+     */
+    void addListener(Runnable listener, Executor executor);
+
+    /**
+     * Calls back with the result or the error of this future when it
+     * completes, or right away if it already has. The callback runs on the
+     * thread completing the future, so it should be quick.
+     *
+     * @param callback the callback. A cancelled future calls
+     *            {@link Callback#onError(Exception)} with a
+     *            {@link java.util.concurrent.CancellationException}.
+     */
+    void addCallback(Callback<? super V> callback);
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A {@link FutureTask} that is also a {@link ListenableFuture}.
+ *
+ * @param <V> the type of the result
+ */
+public class ListenableFutureTask<V> extends FutureTask<V> implements ListenableFuture<V> {
+    private static final Log LOG = LogFactory.getLog(ListenableFutureTask.class);
+
+    /** Listeners to run on completion; null once they have run. */
+    private List<Runnable> listeners = new ArrayList<Runnable>(1);
+
+    /**
+     * @param callable the task.
+     */
+    public ListenableFutureTask(Callable<V> callable) {
+        super(callable);
+    }
+
+    /**
+     * @param runnable the task.
+     * @param result the result of the future once the task has run.
+     */
+    public ListenableFutureTask(Runnable runnable, V result) {
+        super(runnable, result);
+    }
+
+    @Override
+    public void addListener(final Runnable listener, final Executor executor) {
+        addOnDone(listenerTask(listener, executor));
+    }
+
+    @Override
+    public void addCallback(final Callback<? super V> callback) {
+        addOnDone(callbackTask(this, callback));
+    }
+
+    private void addOnDone(Runnable task) {
+        synchronized (this) {
+            if (listeners != null) {
+                listeners.add(task);
+                return;
+            }
+        }
+        task.run();
+    }
+
+    @Override
+    protected void done() {
+        final List<Runnable> toRun;
+        synchronized (this) {
+            toRun = listeners;
+            listeners = null;
+        }
+        runAll(toRun);
+    }
+
+    /**
+     * @return a task that runs the listener on the executor.
+     */
+    static Runnable listenerTask(final Runnable listener, final Executor executor) {
+        if (listener == null || executor == null) {
+            throw new IllegalArgumentException("listener and executor cannot be null");
+        }
+        return new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    executor.execute(listener);
+                } catch (final RuntimeException e) {
+                    LOG.error("Unable to run a listener of a future", e);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return a task that calls back with the result or the error of a future
+     *         that is done.
+     */
+    static <V> Runnable callbackTask(final Future<V> future,
+            final Callback<? super V> callback) {
+        if (callback == null) {
+            throw new IllegalArgumentException("callback cannot be null");
+        }
+        return new Runnable() {
+            @Override
+            public void run() {
+                final V result;
+                try {
+                    result = future.get();
+                } catch (final CancellationException e) {
+                    callback.onError(e);
+                    return;
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    callback.onError(cause instanceof Exception ? (Exception) cause : e);
+                    return;
+                } catch (final InterruptedException e) {
+                    // Not reached: the future is done.
+                    Thread.currentThread().interrupt();
+                    callback.onError(e);
+                    return;
+                }
+                callback.onResult(result);
+            }
+        };
+    }
+
+    /**
+     * Runs the tasks added before a future completed.
+     */
+    static void runAll(List<Runnable> tasks) {
+        for (final Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                LOG.error("Listener of a future failed", e);
+            }
+        }
+    }
+}
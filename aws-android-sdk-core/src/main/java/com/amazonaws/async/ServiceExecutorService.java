@@ -0,0 +1,240 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An executor service that runs its tasks on another executor, at most
+ * maxConcurrency at a time, e.g. the tasks of one client on the pool shared by
+ * all clients. Tasks over the limit wait in this service rather than in the
+ * shared pool, so one busy client can't hold all the threads.
+ * <p>
+ * Shutting this service down only affects its own tasks: the threads belong to
+ * the underlying executor, and {@link #shutdownNow()} interrupts the tasks of
+ * this service that are running.
+ *
+ * @see SharedExecutors#newServiceExecutor(int)
+ */
+public class ServiceExecutorService extends ListenableExecutorService {
+
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    // All fields below are guarded by this.
+    private final Queue<Runnable> pending = new ArrayDeque<Runnable>();
+    private final Set<Thread> runningThreads = new HashSet<Thread>();
+    private int running;
+    private boolean shutdown;
+    private long completedTaskCount;
+    private boolean terminationReported;
+
+    /**
+     * @param executor the executor running the tasks.
+     * @param maxConcurrency the most tasks running at a time.
+     */
+    public ServiceExecutorService(Executor executor, int maxConcurrency) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("The executor service has been shut down");
+            }
+            if (running >= maxConcurrency) {
+                pending.add(command);
+                return;
+            }
+            running++;
+        }
+        dispatch(command);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        stateChanged();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> notRun;
+        synchronized (this) {
+            shutdown = true;
+            notRun = new ArrayList<Runnable>(pending);
+            pending.clear();
+            for (final Thread thread : runningThreads) {
+                thread.interrupt();
+            }
+            stateChanged();
+        }
+        return notRun;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && running == 0;
+    }
+
+    @Override
+    public synchronized boolean awaitTermination(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * @return the most tasks running at a time.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return the number of tasks running or handed to the underlying
+     *         executor.
+     */
+    public synchronized int getRunningCount() {
+        return running;
+    }
+
+    /**
+     * @return the number of tasks waiting for one of the running tasks to
+     *         complete.
+     */
+    public synchronized int getQueuedCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of tasks that have completed.
+     */
+    public synchronized long getCompletedTaskCount() {
+        return completedTaskCount;
+    }
+
+    /**
+     * Called once when this service has been shut down and its last task has
+     * completed, with the lock of this service held.
+     */
+    protected void terminated() {
+    }
+
+    // Called with this held.
+    private void stateChanged() {
+        notifyAll();
+        if (!terminationReported && isTerminated()) {
+            terminationReported = true;
+            terminated();
+        }
+    }
+
+    private void dispatch(Runnable command) {
+        try {
+            executor.execute(new Worker(command));
+        } catch (final RejectedExecutionException e) {
+            synchronized (this) {
+                running--;
+                stateChanged();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a task, then hands the next pending task to the underlying
+     * executor so the tasks of other services get their turn.
+     */
+    private final class Worker implements Runnable {
+        private final Runnable task;
+
+        Worker(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            final Thread thread = Thread.currentThread();
+            synchronized (ServiceExecutorService.this) {
+                runningThreads.add(thread);
+            }
+            try {
+                task.run();
+            } finally {
+                final Runnable next;
+                synchronized (ServiceExecutorService.this) {
+                    runningThreads.remove(thread);
+                    // Clear an interrupt from shutdownNow() that came after
+                    // the task was done; the thread runs other tasks next.
+                    Thread.interrupted();
+                    completedTaskCount++;
+                    next = pending.poll();
+                    if (next == null) {
+                        running--;
+                        stateChanged();
+                    }
+                }
+                if (next != null) {
+                    dispatchNext(next);
+                }
+            }
+        }
+
+        private void dispatchNext(Runnable next) {
+            try {
+                dispatch(next);
+            } catch (final RejectedExecutionException e) {
+                // The underlying executor is shut down; the task can't run.
+                if (next instanceof RunnableFuture) {
+                    ((RunnableFuture<?>) next).cancel(false);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link ListenableFuture} that is completed by calling {@link #set} or
+ * {@link #setException}, for results produced by callbacks rather than by a
+ * task of its own. Only the first completion takes effect.
+ *
+ * @param <V> the type of the result
+ */
+public class SettableFuture<V> implements ListenableFuture<V> {
+    private static final int PENDING = 0;
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+    private static final int CANCELLED = 3;
+
+    // All fields are guarded by this.
+    private int state = PENDING;
+    private V value;
+    private Throwable exception;
+    /** Listeners to run on completion; null once they have run. */
+    private List<Runnable> listeners = new ArrayList<Runnable>(1);
+
+    /**
+     * Completes the future with a result.
+     *
+     * @param value the result.
+     * @return false if the future was already done.
+     */
+    public boolean set(V value) {
+        return complete(SUCCEEDED, value, null);
+    }
+
+    /**
+     * Completes the future with an error.
+     *
+     * @param exception the error {@link #get()} throws as the cause of an
+     *            {@link ExecutionException}.
+     * @return false if the future was already done.
+     */
+    public boolean setException(Throwable exception) {
+        if (exception == null) {
+            throw new IllegalArgumentException("exception cannot be null");
+        }
+        return complete(FAILED, null, exception);
+    }
+
+    /**
+     * Cancels the future. There is no task to interrupt, so
+     * mayInterruptIfRunning is ignored; whoever completes the future can stop
+     * its work once it sees it cancelled.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return complete(CANCELLED, null, null);
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return state != PENDING;
+    }
+
+    @Override
+    public synchronized V get() throws InterruptedException, ExecutionException {
+        while (state == PENDING) {
+            wait();
+        }
+        return report();
+    }
+
+    @Override
+    public synchronized V get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (state == PENDING) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return report();
+    }
+
+    @Override
+    public void addListener(Runnable listener, Executor executor) {
+        addOnDone(ListenableFutureTask.listenerTask(listener, executor));
+    }
+
+    @Override
+    public void addCallback(Callback<? super V> callback) {
+        addOnDone(ListenableFutureTask.callbackTask(this, callback));
+    }
+
+    private void addOnDone(Runnable task) {
+        synchronized (this) {
+            if (listeners != null) {
+                listeners.add(task);
+                return;
+            }
+        }
+        task.run();
+    }
+
+    private boolean complete(int newState, V newValue, Throwable newException) {
+        final List<Runnable> toRun;
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            state = newState;
+            value = newValue;
+            exception = newException;
+            toRun = listeners;
+            listeners = null;
+            notifyAll();
+        }
+        ListenableFutureTask.runAll(toRun);
+        return true;
+    }
+
+    /**
+     * @return the result of the completed future.
+     */
+    private V report() throws ExecutionException {
+        if (state == CANCELLED) {
+            throw new CancellationException();
+        }
+        if (state == FAILED) {
+            throw new ExecutionException(exception);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The thread pool shared by the asynchronous clients, so an application using
+ * many services doesn't get a thread pool per client.
+ * <p>
+ * Each client gets a {@link ServiceExecutorService} on the pool that bounds how
+ * many of its requests run at a time. The pool may run as many threads as the
+ * limits of the open services add up to, so a busy client can't starve the
+ * others. The threads are daemon threads started on demand, which stop after a
+ * minute without work, so the threads alive follow the actual load rather
+ * than the limits. A service gives its share back once it has been shut down
+ * and its tasks are done.
+ */
+public final class SharedExecutors {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    // The sum of the limits of the open services, guarded by
+    // SharedExecutors.class.
+    private static int reservedThreads;
+
+    private SharedExecutors() {
+    }
+
+    /**
+     * Creates the pool on first use.
+     */
+    private static final class PoolHolder {
+        static final ThreadPoolExecutor POOL = newPool();
+
+        private static ThreadPoolExecutor newPool() {
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1,
+                    KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                    new ThreadFactory() {
+                        private final AtomicInteger threadCount = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            final Thread thread = new Thread(r,
+                                    "aws-sdk-shared-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
+    /**
+     * Creates an executor service running at most maxConcurrency tasks at a
+     * time on the shared pool. Shutting it down leaves the pool running.
+     *
+     * @param maxConcurrency the most tasks running at a time, e.g. the
+     *            maximum connections of the client.
+     * @return a new executor service.
+     */
+    public static ServiceExecutorService newServiceExecutor(final int maxConcurrency) {
+        final ServiceExecutorService service = new ServiceExecutorService(PoolHolder.POOL,
+                maxConcurrency) {
+            @Override
+            protected void terminated() {
+                resize(-maxConcurrency);
+            }
+        };
+        resize(maxConcurrency);
+        return service;
+    }
+
+    private static synchronized void resize(int delta) {
+        reservedThreads += delta;
+        final int size = Math.max(1, reservedThreads);
+        final ThreadPoolExecutor pool = PoolHolder.POOL;
+        // The core size can't exceed the maximum size at any point.
+        if (size > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(size);
+            pool.setCorePoolSize(size);
+        } else {
+            pool.setCorePoolSize(size);
+            pool.setMaximumPoolSize(size);
+        }
+    }
+
+    /**
+     * @return the most threads the shared pool may run, the sum of the limits
+     *         of the open services.
+     */
+    public static int getMaximumPoolSize() {
+        return PoolHolder.POOL.getMaximumPoolSize();
+    }
+
+    /**
+     * @return the number of threads in the shared pool.
+     */
+    public static int getPoolSize() {
+        return PoolHolder.POOL.getPoolSize();
+    }
+
+    /**
+     * @return the number of threads of the shared pool running tasks.
+     */
+    public static int getActiveCount() {
+        return PoolHolder.POOL.getActiveCount();
+    }
+
+    /**
+     * @return the number of tasks waiting for a thread of the shared pool.
+     */
+    public static int getQueuedTaskCount() {
+        return PoolHolder.POOL.getQueue().size();
+    }
+
+    /**
+     * @return the approximate number of tasks the shared pool has completed.
+     */
+    public static long getCompletedTaskCount() {
+        return PoolHolder.POOL.getCompletedTaskCount();
+    }
+}
@@ -21,6 +21,7 @@ import com.amazonaws.util.AwsHostNameUtils;
 import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.DateUtils;
 import com.amazonaws.util.HttpUtils;
+import com.amazonaws.util.RequestContentOutputStream;
 import com.amazonaws.util.StringUtils;
 
 import com.amazonaws.logging.Log;
@@ -29,10 +30,16 @@ import com.amazonaws.logging.LogFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Signer implementation that signs requests with the AWS4 signing protocol.
@@ -48,6 +55,46 @@ public class AWS4Signer extends AbstractAWSSigner
 
     /** Seconds in a week, which is the max expiration time Sig-v4 accepts */
     private static final long MAX_EXPIRATION_TIME_IN_SECONDS = 60 * 60 * 24 * 7;
+
+    /**
+     * The most derived signing keys kept. A key is valid for a single day, so
+     * this only needs to cover the credentials, regions and services in use
+     * at once.
+     */
+    private static final int MAX_SIGNING_KEY_CACHE_SIZE = 300;
+
+    /**
+     * Derived signing keys, most recently used last. Deriving a key takes
+     * four HMAC operations, which would otherwise dominate the signing cost.
+     */
+    private static final Map<SigningKeyCacheKey, byte[]> SIGNING_KEY_CACHE = Collections
+            .synchronizedMap(new LinkedHashMap<SigningKeyCacheKey, byte[]>(
+                    MAX_SIGNING_KEY_CACHE_SIZE, 1.0f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<SigningKeyCacheKey, byte[]> eldest) {
+                    return size() > MAX_SIGNING_KEY_CACHE_SIZE;
+                }
+            });
+
+    private static final ThreadLocal<CanonicalRequestDigest> CANONICAL_REQUEST_DIGEST =
+            new ThreadLocal<CanonicalRequestDigest>() {
+                @Override
+                protected CanonicalRequestDigest initialValue() {
+                    return new CanonicalRequestDigest();
+                }
+            };
+
+    /**
+     * Whether instances of a class may stream the canonical request into its
+     * hash, which is only the case when none of the methods that produce the
+     * canonical request or the string to sign are overridden.
+     */
+    private static final Map<Class<?>, Boolean> STREAMING_SUPPORTED =
+            new ConcurrentHashMap<Class<?>, Boolean>();
+
     /**
      * Service name override for use when the endpoint can't be used to
      * determine the service name.
@@ -291,21 +338,118 @@ public class AWS4Signer extends AbstractAWSSigner
         final String serviceName = extractServiceName(request.getEndpoint());
         final String scope = dateStamp + "/" + regionName + "/" + serviceName + "/" + TERMINATOR;
 
-        final String stringToSign = getStringToSign(algorithm, timeStamp, scope,
-                getCanonicalRequest(request, contentSha256));
+        final String stringToSign;
+        if (!log.isDebugEnabled() && isStreamingSupported()) {
+            stringToSign = algorithm + "\n" + timeStamp + "\n" + scope + "\n"
+                    + BinaryUtils.toHex(hashCanonicalRequest(request, contentSha256));
+        } else {
+            stringToSign = getStringToSign(algorithm, timeStamp, scope,
+                    getCanonicalRequest(request, contentSha256));
+        }
+
+        final byte[] kSigning = getSigningKey(sanitizedCredentials.getAWSSecretKey(),
+                dateStamp, regionName, serviceName);
+
+        final byte[] signature = sign(stringToSign.getBytes(StringUtils.UTF8), kSigning,
+                SigningAlgorithm.HmacSHA256);
+        return new HeaderSigningResult(timeStamp, scope, kSigning, signature);
+    }
+
+    /**
+     * Returns the key derived from the secret key for the given day, region
+     * and service, deriving it only if it isn't cached already.
+     */
+    @SuppressWarnings("checkstyle:hiddenfield")
+    private byte[] getSigningKey(String secretKey, String dateStamp, String regionName,
+            String serviceName) {
+        final SigningKeyCacheKey cacheKey = new SigningKeyCacheKey(secretKey, dateStamp,
+                regionName, serviceName);
+        final byte[] cached = SIGNING_KEY_CACHE.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
 
         // AWS4 uses a series of derived keys, formed by hashing different
         // pieces of data
-        final byte[] kSecret = ("AWS4" + sanitizedCredentials.getAWSSecretKey())
-                .getBytes(StringUtils.UTF8);
+        final byte[] kSecret = ("AWS4" + secretKey).getBytes(StringUtils.UTF8);
         final byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
         final byte[] kRegion = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
         final byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
         final byte[] kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
+        SIGNING_KEY_CACHE.put(cacheKey, kSigning);
+        return kSigning;
+    }
 
-        final byte[] signature = sign(stringToSign.getBytes(StringUtils.UTF8), kSigning,
-                SigningAlgorithm.HmacSHA256);
-        return new HeaderSigningResult(timeStamp, scope, kSigning, signature);
+    /**
+     * Computes the SHA-256 hash of the canonical request without building it
+     * as a string. Produces the same result as hashing
+     * {@link #getCanonicalRequest(Request, String)}.
+     */
+    private byte[] hashCanonicalRequest(Request<?> request, String contentSha256) {
+        /* This would url-encode the resource path for the first time */
+        final String path = HttpUtils.appendUri(request.getEndpoint().getPath(),
+                request.getResourcePath());
+
+        final List<String> signedHeaders = new ArrayList<String>(request.getHeaders().size());
+        for (final String header : request.getHeaders().keySet()) {
+            if (needsSign(header)) {
+                signedHeaders.add(header);
+            }
+        }
+        Collections.sort(signedHeaders, String.CASE_INSENSITIVE_ORDER);
+
+        final CanonicalRequestDigest digest = CANONICAL_REQUEST_DIGEST.get();
+        digest.reset();
+        digest.append(request.getHttpMethod().toString()).append('\n');
+        /* This would optionally double url-encode the resource path */
+        digest.append(getCanonicalizedResourcePath(path, doubleUrlEncode)).append('\n');
+        digest.append(getCanonicalizedQueryString(request)).append('\n');
+        for (final String header : signedHeaders) {
+            digest.appendCollapsingWhitespace(StringUtils.lowerCase(header)).append(':');
+            final String value = request.getHeaders().get(header);
+            if (value != null) {
+                digest.appendCollapsingWhitespace(value);
+            }
+            digest.append('\n');
+        }
+        digest.append('\n');
+        for (int i = 0; i < signedHeaders.size(); i++) {
+            if (i > 0) {
+                digest.append(';');
+            }
+            digest.append(StringUtils.lowerCase(signedHeaders.get(i)));
+        }
+        digest.append('\n').append(contentSha256);
+        return digest.digest();
+    }
+
+    private boolean isStreamingSupported() {
+        final Class<?> signerClass = getClass();
+        Boolean supported = STREAMING_SUPPORTED.get(signerClass);
+        if (supported == null) {
+            supported = !overrides(signerClass, "getCanonicalRequest",
+                    Request.class, String.class)
+                    && !overrides(signerClass, "getStringToSign",
+                            String.class, String.class, String.class, String.class)
+                    && !overrides(signerClass, "getCanonicalizedHeaderString", Request.class)
+                    && !overrides(signerClass, "getSignedHeadersString", Request.class);
+            STREAMING_SUPPORTED.put(signerClass, supported);
+        }
+        return supported;
+    }
+
+    @SuppressWarnings("checkstyle:emptyblock")
+    private static boolean overrides(Class<?> signerClass, String name,
+            Class<?>... parameterTypes) {
+        for (Class<?> c = signerClass; c != AWS4Signer.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (final NoSuchMethodException e) {
+                // Not declared here, keep looking up the hierarchy.
+            }
+        }
+        return false;
     }
 
     protected final String getTimeStamp(long dateMilli) {
@@ -352,6 +496,14 @@ public class AWS4Signer extends AbstractAWSSigner
      */
     protected String calculateContentHash(Request<?> request) {
         final InputStream payloadStream = getBinaryRequestPayloadStream(request);
+        if (payloadStream instanceof RequestContentOutputStream.ContentInputStream) {
+            // Hashed while it was marshalled
+            final byte[] hash = ((RequestContentOutputStream.ContentInputStream) payloadStream)
+                    .getContentSha256();
+            if (hash != null) {
+                return BinaryUtils.toHex(hash);
+            }
+        }
         payloadStream.mark(-1);
         final String contentSha256 = BinaryUtils.toHex(hash(payloadStream));
         try {
@@ -495,4 +647,163 @@ public class AWS4Signer extends AbstractAWSSigner
                 || "host".equalsIgnoreCase(header)
                 || header.startsWith("x-amz") || header.startsWith("X-Amz");
     }
+
+    /**
+     * Identifies a derived signing key.
+     */
+    private static final class SigningKeyCacheKey {
+        private final String secretKey;
+        private final String dateStamp;
+        private final String regionName;
+        private final String serviceName;
+
+        SigningKeyCacheKey(String secretKey, String dateStamp, String regionName,
+                String serviceName) {
+            this.secretKey = secretKey;
+            this.dateStamp = dateStamp;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SigningKeyCacheKey)) {
+                return false;
+            }
+            final SigningKeyCacheKey other = (SigningKeyCacheKey) o;
+            return secretKey.equals(other.secretKey)
+                    && dateStamp.equals(other.dateStamp)
+                    && regionName.equals(other.regionName)
+                    && serviceName.equals(other.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(new Object[] {
+                    secretKey, dateStamp, regionName, serviceName
+            });
+        }
+    }
+
+    /**
+     * Feeds the UTF-8 encoding of the canonical request to a SHA-256 digest
+     * through a fixed buffer. Not thread safe; one instance is kept per
+     * thread.
+     */
+    private static final class CanonicalRequestDigest {
+        private static final int BUFFER_SIZE = 1024;
+        private static final int MAX_ENCODED_CHAR_LENGTH = 4;
+
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+
+        CanonicalRequestDigest() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new AmazonClientException(
+                        "Unable to get SHA256 Function" + e.getMessage(), e);
+            }
+        }
+
+        void reset() {
+            position = 0;
+            digest.reset();
+        }
+
+        CanonicalRequestDigest append(char c) {
+            if (position == buffer.length) {
+                flush();
+            }
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+                return this;
+            }
+            return append(String.valueOf(c));
+        }
+
+        CanonicalRequestDigest append(String s) {
+            final int length = s.length();
+            for (int i = 0; i < length; i++) {
+                i = encode(s, i);
+            }
+            return this;
+        }
+
+        /**
+         * Appends the string with each run of whitespace replaced by a single
+         * space, the same as {@code s.replaceAll("\\s+", " ")}.
+         */
+        CanonicalRequestDigest appendCollapsingWhitespace(String s) {
+            final int length = s.length();
+            boolean inWhitespace = false;
+            for (int i = 0; i < length; i++) {
+                if (isWhitespace(s.charAt(i))) {
+                    if (!inWhitespace) {
+                        append(' ');
+                        inWhitespace = true;
+                    }
+                } else {
+                    inWhitespace = false;
+                    i = encode(s, i);
+                }
+            }
+            return this;
+        }
+
+        byte[] digest() {
+            flush();
+            return digest.digest();
+        }
+
+        /**
+         * Encodes the character at the given index, or the surrogate pair
+         * starting there, the same way {@code String.getBytes} does.
+         *
+         * @return the index of the last character consumed.
+         */
+        @SuppressWarnings("checkstyle:magicnumber")
+        private int encode(String s, int index) {
+            if (buffer.length - position < MAX_ENCODED_CHAR_LENGTH) {
+                flush();
+            }
+            final char c = s.charAt(index);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xc0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE) {
+                buffer[position++] = (byte) (0xe0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && index + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(index + 1))) {
+                final int codePoint = Character.toCodePoint(c, s.charAt(index + 1));
+                buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                return index + 1;
+            } else {
+                // Unpaired surrogate, replaced like the platform encoder does.
+                buffer[position++] = (byte) '?';
+            }
+            return index;
+        }
+
+        private void flush() {
+            digest.update(buffer, 0, position);
+            position = 0;
+        }
+
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f'
+                    || c == '\r';
+        }
+    }
 }
@@ -20,8 +20,14 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * {@link AWSCredentialsProvider} implementation that chains together multiple
@@ -37,16 +43,34 @@ import java.util.List;
  * provider when credentials are requested in the future, instead of traversing
  * the chain each time. This behavior can be controlled through the
  * {@link #setReuseLastProvider(boolean)} method.
+ * <p>
+ * With {@link #setProbeConcurrently(boolean)}, the chain asks all of its
+ * providers at once instead of one after the other, and returns the
+ * credentials of the first provider in chain order that has them. The search
+ * then takes as long as the slowest provider up to that one, rather than the
+ * sum of all of them.
  */
 public class AWSCredentialsProviderChain implements AWSCredentialsProvider {
 
     private static final Log log = LogFactory.getLog(AWSCredentialsProviderChain.class);
 
+    /** Runs the concurrent probes and asynchronous requests of all chains */
+    private static final ExecutorService PROBE_EXECUTOR = Executors
+            .newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r, "AWSCredentialsProviderChain");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
     private List<AWSCredentialsProvider> credentialsProviders =
-            new LinkedList<AWSCredentialsProvider>();
+            new ArrayList<AWSCredentialsProvider>();
 
-    private boolean reuseLastProvider = true;
-    private AWSCredentialsProvider lastUsedProvider;
+    private volatile boolean reuseLastProvider = true;
+    private volatile boolean probeConcurrently = false;
+    private volatile AWSCredentialsProvider lastUsedProvider;
 
     /**
      * Constructs a new AWSCredentialsProviderChain with the specified
@@ -90,26 +114,49 @@ public class AWSCredentialsProviderChain implements AWSCredentialsProvider {
         this.reuseLastProvider = b;
     }
 
+    /**
+     * Returns true if this chain asks all of its providers for credentials at
+     * once, otherwise, false if it asks them one after the other.
+     *
+     * @return True if this chain probes its providers concurrently.
+     */
+    public boolean getProbeConcurrently() {
+        return probeConcurrently;
+    }
+
+    /**
+     * Enables or disables asking all the providers in this chain for
+     * credentials at once. The credentials of the first provider in chain
+     * order are still the ones returned, but providers after it are called
+     * too, so only enable this when calling every provider is harmless.
+     *
+     * @param b Whether to probe the providers in this chain concurrently.
+     */
+    public void setProbeConcurrently(boolean b) {
+        this.probeConcurrently = b;
+    }
+
     @Override
     public AWSCredentials getCredentials() {
-        if (reuseLastProvider && lastUsedProvider != null) {
-            return lastUsedProvider.getCredentials();
+        final AWSCredentialsProvider provider = lastUsedProvider;
+        if (reuseLastProvider && provider != null) {
+            return provider.getCredentials();
         }
 
-        for (AWSCredentialsProvider provider : credentialsProviders) {
-            try {
-                AWSCredentials credentials = provider.getCredentials();
+        if (probeConcurrently && credentialsProviders.size() > 1) {
+            return getCredentialsConcurrently();
+        }
 
-                if (credentials.getAWSAccessKeyId() != null &&
-                        credentials.getAWSSecretKey() != null) {
-                    log.debug("Loading credentials from " + provider.toString());
+        for (AWSCredentialsProvider candidate : credentialsProviders) {
+            try {
+                AWSCredentials credentials = candidate.getCredentials();
 
-                    lastUsedProvider = provider;
+                if (acceptCredentials(candidate, credentials)) {
                     return credentials;
                 }
             } catch (Exception e) {
                 // Ignore any exceptions and move onto the next provider
-                log.debug("Unable to load credentials from " + provider.toString() +
+                log.debug("Unable to load credentials from " + candidate.toString() +
                         ": " + e.getMessage());
             }
         }
@@ -118,6 +165,77 @@ public class AWSCredentialsProviderChain implements AWSCredentialsProvider {
                 "Unable to load AWS credentials from any provider in the chain");
     }
 
+    /**
+     * Gets credentials from this chain on a background thread, so for
+     * instance the chain can be warmed up at startup without blocking.
+     *
+     * @return a future holding the credentials, or the exception thrown by
+     *         {@link #getCredentials()}.
+     */
+    public Future<AWSCredentials> getCredentialsAsync() {
+        return PROBE_EXECUTOR.submit(new Callable<AWSCredentials>() {
+            @Override
+            public AWSCredentials call() {
+                return getCredentials();
+            }
+        });
+    }
+
+    private AWSCredentials getCredentialsConcurrently() {
+        final List<Future<AWSCredentials>> probes = new ArrayList<Future<AWSCredentials>>(
+                credentialsProviders.size());
+        for (final AWSCredentialsProvider candidate : credentialsProviders) {
+            probes.add(PROBE_EXECUTOR.submit(new Callable<AWSCredentials>() {
+                @Override
+                public AWSCredentials call() {
+                    return candidate.getCredentials();
+                }
+            }));
+        }
+
+        try {
+            for (int i = 0; i < probes.size(); i++) {
+                final AWSCredentialsProvider candidate = credentialsProviders.get(i);
+                try {
+                    final AWSCredentials credentials = probes.get(i).get();
+                    if (acceptCredentials(candidate, credentials)) {
+                        return credentials;
+                    }
+                } catch (ExecutionException e) {
+                    // Ignore any exceptions and move onto the next provider
+                    log.debug("Unable to load credentials from " + candidate.toString() +
+                            ": " + e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while loading AWS credentials", e);
+        } finally {
+            // Probes of providers after the chosen one are no longer needed.
+            for (final Future<AWSCredentials> probe : probes) {
+                probe.cancel(true);
+            }
+        }
+
+        throw new AmazonClientException(
+                "Unable to load AWS credentials from any provider in the chain");
+    }
+
+    /**
+     * Checks the credentials of a provider, and remembers the provider if
+     * they are complete.
+     */
+    private boolean acceptCredentials(AWSCredentialsProvider provider, AWSCredentials credentials) {
+        if (credentials != null && credentials.getAWSAccessKeyId() != null &&
+                credentials.getAWSSecretKey() != null) {
+            log.debug("Loading credentials from " + provider.toString());
+
+            lastUsedProvider = provider;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void refresh() {
         for (AWSCredentialsProvider provider : credentialsProviders) {
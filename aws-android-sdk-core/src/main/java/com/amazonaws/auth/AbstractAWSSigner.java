@@ -55,6 +55,17 @@ public abstract class AbstractAWSSigner implements Signer {
     /** Empty sha256 hex. */
     public static final String EMPTY_STRING_SHA256_HEX;
     private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST;
+    /**
+     * Mac instances indexed by {@link SigningAlgorithm} ordinal. Looking up a
+     * provider with Mac.getInstance is far more expensive than initializing an
+     * existing instance with a new key.
+     */
+    private static final ThreadLocal<Mac[]> MACS = new ThreadLocal<Mac[]>() {
+        @Override
+        protected Mac[] initialValue() {
+            return new Mac[SigningAlgorithm.values().length];
+        }
+    };
     private static final int DEFAULT_BUFFER_SIZE = 1024;
     private static final int BUFFER_SIZE_MULTIPLIER = 5;
     private static final int TIME_MILLISEC = 1000;
@@ -119,7 +130,7 @@ public abstract class AbstractAWSSigner implements Signer {
 
     protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) {
         try {
-            final Mac mac = Mac.getInstance(algorithm.toString());
+            final Mac mac = getMacInstance(algorithm);
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (final Exception e) {
@@ -178,7 +189,7 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     public byte[] hash(byte[] data) {
         try {
-            final MessageDigest md = MessageDigest.getInstance("SHA-256");
+            final MessageDigest md = getMessageDigestInstance();
             md.update(data);
             return md.digest();
         } catch (final Exception e) {
@@ -471,4 +482,21 @@ public abstract class AbstractAWSSigner implements Signer {
         messageDigest.reset();
         return messageDigest;
     }
+
+    /**
+     * @param algorithm the signing algorithm.
+     * @return this thread's Mac for the given algorithm. The caller must
+     *         initialize it with a key before use.
+     * @throws NoSuchAlgorithmException if the algorithm isn't available.
+     */
+    private static Mac getMacInstance(SigningAlgorithm algorithm)
+            throws NoSuchAlgorithmException {
+        final Mac[] macs = MACS.get();
+        Mac mac = macs[algorithm.ordinal()];
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm.toString());
+            macs[algorithm.ordinal()] = mac;
+        }
+        return mac;
+    }
 }
@@ -463,46 +463,48 @@ public class CognitoCachingCredentialsProvider
         return identityId;
     }
 
+    /**
+     * Loads the saved credentials when there are none in memory, and saves
+     * the credentials of a new session. The caller holds the write lock of
+     * {@link #credentialsLock}.
+     */
     @Override
-    public AWSSessionCredentials getCredentials() {
-    	credentialsLock.writeLock().lock();
+    protected AWSSessionCredentials getOrStartSession() {
         try {
             // return only if the credentials are valid
-        	if (sessionCredentials == null) {
-        		loadCachedCredentials();
-        	}
-
-        	if ((sessionCredentialsExpiration != null) && !needsNewSession()) {
-        		return sessionCredentials;
-        	}
-        	// super will validate loaded credentials
-        	// and fetch if necessary
+            if (sessionCredentials == null) {
+                loadCachedCredentials();
+            }
+
+            if ((sessionCredentialsExpiration != null) && !needsNewSession()) {
+                return sessionCredentials;
+            }
+            // super will validate loaded credentials
+            // and fetch if necessary
             LOG.debug("Making a network call to fetch credentials.");
-        	super.getCredentials();
-
-        	// null check before saving credentials
-        	if (sessionCredentialsExpiration != null) {
-        		saveCredentials(sessionCredentials, 
-        				sessionCredentialsExpiration.getTime());
-        	}
-        	return sessionCredentials;
+            super.getOrStartSession();
+
+            // null check before saving credentials
+            if (sessionCredentialsExpiration != null) {
+                saveCredentials(sessionCredentials,
+                        sessionCredentialsExpiration.getTime());
+            }
+            return sessionCredentials;
         } catch (NotAuthorizedException e) {
             LOG.error("Failure to get credentials", e);
             if (getLogins() != null) {
                 // If the fetch failed then the credentials don't
                 // match the current id, so clear them
                 super.setIdentityId(null);
-                super.getCredentials();
+                super.getOrStartSession();
                 return sessionCredentials;
             }
             else {
                 throw e;
             }
-        } finally {
-        	credentialsLock.writeLock().unlock();
         }
     }
-    
+
     @Override
     public void refresh() {
     	credentialsLock.writeLock().lock();
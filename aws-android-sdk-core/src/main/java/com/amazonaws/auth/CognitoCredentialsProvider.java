@@ -38,6 +38,11 @@ import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 import org.json.JSONObject;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.Date;
 import java.util.HashMap;
@@ -47,6 +52,12 @@ import java.util.Map;
  * AWSCredentialsProvider implementation that uses the Amazon Cognito Identity
  * service and AWS Security Token Service to create temporary, short-lived
  * sessions to use for authentication
+ * <p>
+ * {@link #getCredentials()} returns the current session without locking while
+ * it is valid. Once the session is within the refresh threshold of its
+ * expiration, a single background thread starts a new one; callers only wait
+ * for a new session when there is no valid session at all.
+ * </p>
  */
 public class CognitoCredentialsProvider implements AWSCredentialsProvider {
     private static final Log log = LogFactory.getLog(AWSCredentialsProviderChain.class);
@@ -66,6 +77,20 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
     /** Default threshold for refreshing session credentials */
     public static final int DEFAULT_THRESHOLD_SECONDS = 500;
 
+    /** Minimum time between two background refreshes after one failed */
+    private static final long BACKGROUND_REFRESH_RETRY_MILLIS = 30 * 1000;
+
+    /** Runs the background refreshes of all providers */
+    private static final ExecutorService REFRESH_EXECUTOR = Executors
+            .newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r, "CognitoCredentialsRefresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
     /** The current session credentials */
     protected AWSSessionCredentials sessionCredentials;
 
@@ -91,6 +116,19 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
 
     protected final ReentrantReadWriteLock credentialsLock;
 
+    /**
+     * The session that {@link #getCredentials()} returns without locking;
+     * published whenever the write lock of {@link #credentialsLock} is
+     * released.
+     */
+    private volatile Session session;
+
+    /** Whether a background refresh is queued or running */
+    private final AtomicBoolean backgroundRefreshInProgress = new AtomicBoolean();
+
+    /** When the last background refresh failed, 0 if it didn't */
+    private volatile long lastFailedRefreshMillis;
+
     /**
      * Constructs a new {@link CognitoCredentialsProvider}, which will use the
      * specified Amazon Cognito identity pool to make a request, using the basic
@@ -436,6 +474,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         try {
             sessionCredentialsExpiration = expiration;
         } finally {
+            publishSession();
             credentialsLock.writeLock().unlock();
         }
     }
@@ -456,21 +495,94 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
     /**
      * If the current session has expired/credentials are invalid, a new session
      * is started, establishing the credentials. In either case, those
-     * credentials are returned
+     * credentials are returned. Credentials that are still valid but within
+     * the refresh threshold are returned immediately while a new session is
+     * started in the background.
      */
     @Override
     public AWSSessionCredentials getCredentials() {
+        final Session current = session;
+        if (current != null) {
+            final long timeRemaining = current.expiration - getCurrentTimeMillis();
+            if (timeRemaining > 0) {
+                if (timeRemaining < refreshThreshold * 1000L) {
+                    refreshInBackground();
+                }
+                return current.credentials;
+            }
+        }
+
         credentialsLock.writeLock().lock();
         try {
-            if (needsNewSession()) {
-                startSession();
-            }
-            return sessionCredentials;
+            return getOrStartSession();
         } finally {
+            publishSession();
             credentialsLock.writeLock().unlock();
         }
     }
 
+    /**
+     * Returns the session credentials, starting a new session first if
+     * {@link #needsNewSession()}. The caller holds the write lock of
+     * {@link #credentialsLock}.
+     *
+     * @return the session credentials
+     */
+    protected AWSSessionCredentials getOrStartSession() {
+        if (needsNewSession()) {
+            startSession();
+        }
+        return sessionCredentials;
+    }
+
+    /**
+     * Starts a new session on a background thread, unless one is already being
+     * started or the last attempt failed recently.
+     */
+    private void refreshInBackground() {
+        if (getCurrentTimeMillis() - lastFailedRefreshMillis < BACKGROUND_REFRESH_RETRY_MILLIS
+                || !backgroundRefreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            REFRESH_EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    credentialsLock.writeLock().lock();
+                    try {
+                        getOrStartSession();
+                        lastFailedRefreshMillis = 0;
+                    } catch (final RuntimeException e) {
+                        log.warn("Failed to refresh the session credentials in the background", e);
+                        lastFailedRefreshMillis = getCurrentTimeMillis();
+                    } finally {
+                        publishSession();
+                        credentialsLock.writeLock().unlock();
+                        backgroundRefreshInProgress.set(false);
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            backgroundRefreshInProgress.set(false);
+        }
+    }
+
+    /**
+     * Publishes the current session credentials for lock free reads. The caller
+     * holds the write lock of {@link #credentialsLock}.
+     */
+    private void publishSession() {
+        if (sessionCredentials == null || sessionCredentialsExpiration == null) {
+            session = null;
+        } else {
+            session = new Session(sessionCredentials, sessionCredentialsExpiration.getTime());
+        }
+    }
+
+    private static long getCurrentTimeMillis() {
+        return System.currentTimeMillis() - SDKGlobalConfiguration.getGlobalTimeOffset() * 1000;
+    }
+
     /**
      * Set the duration of the session credentials created by this client in
      * seconds. Values must be supported by AssumeRoleWithWebIdentityRequest.
@@ -571,6 +683,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
             identityProvider.setLogins(logins);
             clearCredentials();
         } finally {
+            publishSession();
             credentialsLock.writeLock().unlock();
         }
     }
@@ -631,6 +744,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         try {
             startSession();
         } finally {
+            publishSession();
             credentialsLock.writeLock().unlock();
         }
     }
@@ -647,6 +761,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
             setIdentityId(null);
             identityProvider.setLogins(new HashMap<String, String>());
         } finally {
+            publishSession();
             credentialsLock.writeLock().unlock();
         }
     }
@@ -661,6 +776,7 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
             sessionCredentials = null;
             sessionCredentialsExpiration = null;
         } finally {
+            publishSession();
             credentialsLock.writeLock().unlock();
         }
     }
@@ -848,10 +964,8 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
         if (sessionCredentials == null) {
             return true;
         }
-        long currentTime = System.currentTimeMillis()
-                - SDKGlobalConfiguration.getGlobalTimeOffset() * 1000;
         long timeRemaining = sessionCredentialsExpiration.getTime()
-                - currentTime;
+                - getCurrentTimeMillis();
         return timeRemaining < (refreshThreshold * 1000);
     }
 
@@ -896,4 +1010,17 @@ public class CognitoCredentialsProvider implements AWSCredentialsProvider {
     public void unregisterIdentityChangedListener(IdentityChangedListener listener) {
         identityProvider.unregisterIdentityChangedListener(listener);
     }
+
+    /**
+     * An immutable copy of the session credentials and their expiration.
+     */
+    private static final class Session {
+        private final AWSSessionCredentials credentials;
+        private final long expiration;
+
+        Session(AWSSessionCredentials credentials, long expiration) {
+            this.credentials = credentials;
+            this.expiration = expiration;
+        }
+    }
 }
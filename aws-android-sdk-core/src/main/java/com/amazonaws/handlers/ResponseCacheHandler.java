@@ -0,0 +1,272 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.handlers;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.auth.AWSCredentials;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A request handler that caches the responses of operations whose results
+ * rarely change, such as DescribeTable or GetQueueUrl, so repeated calls are
+ * answered without a round trip.
+ * <p>
+ * Add it to a client with {@code client.addRequestHandler(handler)}. A
+ * response is reused for requests of the same operation with the same
+ * endpoint, parameters, headers, body and access key, until its time to live
+ * runs out. The least recently used responses are evicted when the cache is
+ * full. Only requests whose body is held in memory are cached.
+ * <p>
+ * Cached results are shared by all the callers that get them, so they must
+ * not be modified.
+ */
+public class ResponseCacheHandler extends RequestHandler2 {
+
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final Set<String> operationNames;
+
+    /** Cached responses, least recently used first; guarded by this. */
+    private final LinkedHashMap<Key, CachedResponse> entries;
+
+    /** Keys of the requests in flight whose responses are to be cached. */
+    private final Map<Request<?>, Key> pendingKeys =
+            Collections.synchronizedMap(new WeakHashMap<Request<?>, Key>());
+
+    // Guarded by this.
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * @param maxEntries the most responses kept.
+     * @param timeToLive how long a response is reused.
+     * @param unit the unit of timeToLive.
+     * @param operationNames the operations whose responses are cached, named
+     *            after their request class without the Request suffix, e.g.
+     *            DescribeTable.
+     */
+    public ResponseCacheHandler(int maxEntries, long timeToLive, TimeUnit unit,
+            String... operationNames) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("timeToLive must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = unit.toNanos(timeToLive);
+        this.operationNames = Collections.unmodifiableSet(
+                new HashSet<String>(Arrays.asList(operationNames)));
+        this.entries = new LinkedHashMap<Key, CachedResponse>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedResponse> eldest) {
+                if (size() > ResponseCacheHandler.this.maxEntries) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached response to the request, if any. Called by the
+     * client runtime before the request is sent.
+     *
+     * @param request the request about to be sent.
+     * @param credentials the credentials the request is sent with, or null.
+     * @return the cached response, or null if the request is to be sent.
+     */
+    public Response<?> getCachedResponse(Request<?> request, AWSCredentials credentials) {
+        if (!operationNames.contains(operationNameOf(request.getOriginalRequest()))) {
+            return null;
+        }
+        final Key key = Key.of(request, credentials);
+        if (key == null) {
+            return null;
+        }
+        synchronized (this) {
+            final CachedResponse entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.expiresAtNanos < 0) {
+                hitCount++;
+                return entry.response;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictionCount++;
+            }
+            missCount++;
+        }
+        pendingKeys.put(request, key);
+        return null;
+    }
+
+    @Override
+    public void beforeRequest(Request<?> request) {
+    }
+
+    @Override
+    public void afterResponse(Request<?> request, Response<?> response) {
+        final Key key = pendingKeys.remove(request);
+        if (key == null) {
+            return;
+        }
+        synchronized (this) {
+            entries.put(key, new CachedResponse(response, System.nanoTime() + timeToLiveNanos));
+        }
+    }
+
+    @Override
+    public void afterError(Request<?> request, Response<?> response, Exception e) {
+        pendingKeys.remove(request);
+    }
+
+    /**
+     * Removes all the cached responses, e.g. after a table has been updated.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return the number of cached responses, including expired ones not yet
+     *         removed.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of requests answered from the cache.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of requests of cached operations that were sent.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of responses removed because they expired or the
+     *         cache was full.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private static String operationNameOf(AmazonWebServiceRequest originalRequest) {
+        if (originalRequest == null) {
+            return null;
+        }
+        final String name = originalRequest.getClass().getSimpleName();
+        if (name.endsWith(REQUEST_SUFFIX) && name.length() > REQUEST_SUFFIX.length()) {
+            return name.substring(0, name.length() - REQUEST_SUFFIX.length());
+        }
+        return name;
+    }
+
+    private static final class CachedResponse {
+        final Response<?> response;
+        final long expiresAtNanos;
+
+        CachedResponse(Response<?> response, long expiresAtNanos) {
+            this.response = response;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    /**
+     * Identifies a request by everything that is sent, except what the
+     * runtime adds to every request, such as its signature.
+     */
+    private static final class Key {
+        private final String request;
+        private final byte[] content;
+        private final int hash;
+
+        private Key(String request, byte[] content) {
+            this.request = request;
+            this.content = content;
+            this.hash = 31 * request.hashCode() + Arrays.hashCode(content);
+        }
+
+        /**
+         * @return the key of the request, or null if its body can't be read
+         *         without consuming it.
+         */
+        static Key of(Request<?> request, AWSCredentials credentials) {
+            final InputStream content = request.getContent();
+            if (content != null && !(content instanceof ByteArrayInputStream)) {
+                return null;
+            }
+            final StringBuilder sb = new StringBuilder()
+                    .append(request.getServiceName()).append('\n')
+                    .append(request.getHttpMethod()).append('\n')
+                    .append(request.getEndpoint()).append('\n')
+                    .append(request.getResourcePath()).append('\n')
+                    .append(request.getParameters()).append('\n')
+                    .append(new TreeMap<String, String>(request.getHeaders())).append('\n')
+                    .append(credentials == null ? null : credentials.getAWSAccessKeyId());
+            return new Key(sb.toString(), content == null ? null : read(content));
+        }
+
+        private static byte[] read(InputStream content) {
+            final ByteArrayInputStream in = (ByteArrayInputStream) content;
+            final byte[] bytes = new byte[in.available()];
+            in.mark(bytes.length);
+            in.read(bytes, 0, bytes.length);
+            in.reset();
+            return bytes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash && request.equals(other.request)
+                    && Arrays.equals(content, other.content);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
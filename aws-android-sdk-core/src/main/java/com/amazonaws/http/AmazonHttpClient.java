@@ -27,14 +27,19 @@ import com.amazonaws.RequestClientOptions.Marker;
 import com.amazonaws.Response;
 import com.amazonaws.ResponseMetadata;
 import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SettableFuture;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.handlers.CredentialsRequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.handlers.ResponseCacheHandler;
 import com.amazonaws.internal.CRC32MismatchException;
 import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.metrics.ConnectionPoolStats;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryQuota;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
@@ -53,6 +58,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The Amazon HTTP Client class.
@@ -101,6 +112,33 @@ public class AmazonHttpClient {
 
     private final HttpRequestFactory requestFactory = new HttpRequestFactory();
 
+    /**
+     * Limits the retries of all the requests sent by this client; null unless
+     * enabled in the client configuration.
+     */
+    private final RetryQuota retryQuota;
+
+    /**
+     * Hedges the slow idempotent requests sent by this client; null unless
+     * enabled in the client configuration.
+     */
+    private final RequestHedger requestHedger;
+
+    /**
+     * Waits out the delays between the attempts of {@link #executeAsync}
+     * requests for all clients. Its thread only hands attempts back to their
+     * executors.
+     */
+    private static final ScheduledExecutorService RETRY_SCHEDULER = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r, "AmazonHttpClientRetry");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
     /**
      * Constructs a new AWS client using the specified client configuration
      * options (ex: max retry attempts, proxy settings, etc).
@@ -142,6 +180,8 @@ public class AmazonHttpClient {
         this.config = config;
         this.httpClient = httpClient;
         this.requestMetricCollector = null;
+        this.retryQuota = config.isUseRetryQuota() ? new RetryQuota() : null;
+        this.requestHedger = config.isUseHedgedRequests() ? new RequestHedger(config) : null;
     }
 
     /**
@@ -162,6 +202,8 @@ public class AmazonHttpClient {
         this.config = config;
         this.httpClient = httpClient;
         this.requestMetricCollector = requestMetricCollector;
+        this.retryQuota = config.isUseRetryQuota() ? new RetryQuota() : null;
+        this.requestHedger = config.isUseHedgedRequests() ? new RequestHedger(config) : null;
     }
 
     /**
@@ -207,6 +249,14 @@ public class AmazonHttpClient {
         }
         final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
         final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        final Response<T> cachedResponse = cachedResponse(request, requestHandler2s,
+                executionContext);
+        if (cachedResponse != null) {
+            // The handlers that ran beforeRequest see the end of the request.
+            final TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
+            afterResponse(request, requestHandler2s, cachedResponse, timingInfo);
+            return cachedResponse;
+        }
         Response<T> response = null;
         try {
             response = executeHelper(request, responseHandler, errorResponseHandler,
@@ -220,6 +270,25 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Returns the response a {@link ResponseCacheHandler} kept for the
+     * request, if any.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Response<T> cachedResponse(Request<?> request,
+            List<RequestHandler2> requestHandler2s, ExecutionContext executionContext) {
+        for (final RequestHandler2 requestHandler2 : requestHandler2s) {
+            if (requestHandler2 instanceof ResponseCacheHandler) {
+                final Response<?> response = ((ResponseCacheHandler) requestHandler2)
+                        .getCachedResponse(request, executionContext.getCredentials());
+                if (response != null) {
+                    return (Response<T>) response;
+                }
+            }
+        }
+        return null;
+    }
+
     void afterError(Request<?> request, Response<?> response,
             List<RequestHandler2> requestHandler2s, AmazonClientException e) {
         for (final RequestHandler2 handler2 : requestHandler2s) {
@@ -265,19 +334,85 @@ public class AmazonHttpClient {
      * @see AmazonHttpClient#execute(Request, HttpResponseHandler,
      *      HttpResponseHandler, ExecutionContext)
      */
-    @SuppressWarnings("checkstyle:methodlength")
     <T> Response<T> executeHelper(Request<?> request,
             HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
             HttpResponseHandler<AmazonServiceException> errorResponseHandler,
             ExecutionContext executionContext) {
-        /*
-         * Depending on which response handler we end up choosing to handle the
-         * HTTP response, it might require us to leave the underlying HTTP
-         * connection open, depending on whether or not it reads the complete
-         * HTTP response stream from the HTTP connection, or if delays reading
-         * any of the content until after a response is returned to the caller.
-         */
-        boolean leaveHttpConnectionOpen = false;
+        final Execution execution = newExecution(request, executionContext);
+        while (true) {
+            try {
+                if (execution.requestCount > 0) { // retry
+                    execution.awsRequestMetrics.startEvent(Field.RetryPauseTime);
+                    try {
+                        execution.lastBackoffDelay = pauseBeforeNextRetry(
+                                request.getOriginalRequest(),
+                                execution.retriedException,
+                                execution.requestCount + 1,
+                                config.getRetryPolicy());
+                    } finally {
+                        execution.awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                    }
+                }
+                if (retryQuota != null) {
+                    acquireSendPermit();
+                }
+            } catch (final RuntimeException e) {
+                throw handleUnexpectedFailure(e, execution.awsRequestMetrics);
+            }
+            final Response<T> response = executeOnce(execution, responseHandler,
+                    errorResponseHandler);
+            if (response != null) {
+                return response;
+            }
+        }
+    }
+
+    /**
+     * Executes the request and returns a future of the result. Attempts run
+     * on the given executor; the delays between retries are waited on a
+     * shared scheduler instead of a thread of the executor, so a small pool
+     * can keep many requests in flight while they back off.
+     *
+     * @param request The AmazonWebServices request to send to the remote server
+     * @param responseHandler A response handler to accept a successful response
+     *            from the remote server
+     * @param errorResponseHandler A response handler to accept an unsuccessful
+     *            response from the remote server
+     * @param executionContext Additional information about the context of this
+     *            web service call
+     * @param executor the executor running the attempts.
+     * @param <T> the response type.
+     * @return a future of the result of the request. Cancelling it stops
+     *         further retries.
+     */
+    public <T> ListenableFuture<Response<T>> executeAsync(Request<?> request,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext,
+            Executor executor) {
+        if (executionContext == null) {
+            throw new AmazonClientException(
+                    "Internal SDK Error: No execution context parameter specified.");
+        }
+        final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
+        final Response<T> cachedResponse = cachedResponse(request, requestHandler2s,
+                executionContext);
+        if (cachedResponse != null) {
+            final TimingInfo timingInfo = executionContext.getAwsRequestMetrics()
+                    .getTimingInfo().endTiming();
+            afterResponse(request, requestHandler2s, cachedResponse, timingInfo);
+            final SettableFuture<Response<T>> future = new SettableFuture<Response<T>>();
+            future.set(cachedResponse);
+            return future;
+        }
+        final AsyncExecution<T> asyncExecution = new AsyncExecution<T>(
+                newExecution(request, executionContext), requestHandler2s,
+                responseHandler, errorResponseHandler, executor);
+        asyncExecution.submit();
+        return asyncExecution.future;
+    }
+
+    private Execution newExecution(Request<?> request, ExecutionContext executionContext) {
         final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
         /*
          * add the service endpoint to the logs. You can infer service name from
@@ -290,189 +425,217 @@ public class AmazonHttpClient {
         // user-agent.
         setUserAgent(request);
         request.addHeader(HEADER_SDK_TRANSACTION_ID, UUID.randomUUID().toString());
-        int requestCount = 0;
-        long lastBackoffDelay = 0;
-        URI redirectedURI = null;
-        AmazonClientException retriedException = null;
-
-        // Make a copy of the original request params and headers so that we can
-        // permute it in this loop and start over with the original every time.
-        final Map<String, String> originalParameters = new LinkedHashMap<String, String>(
-                request.getParameters());
-        final Map<String, String> originalHeaders = new HashMap<String, String>(request.getHeaders());
-        // mark input stream if supported
-        final InputStream originalContent = request.getContent();
-        if (originalContent != null && originalContent.markSupported()) {
-            originalContent.mark(-1);
-        }
-
-        final AWSCredentials credentials = executionContext.getCredentials();
-        Signer signer = null;
-        HttpResponse httpResponse = null;
-        HttpRequest httpRequest = null;
-
-        while (true) {
-            ++requestCount;
-            awsRequestMetrics.setCounter(Field.RequestCount, requestCount);
-            if (requestCount > 1) { // retry
-                request.setParameters(originalParameters);
-                request.setHeaders(originalHeaders);
-                request.setContent(originalContent);
-            }
-            if (redirectedURI != null && request.getEndpoint() == null
-                    && request.getResourcePath() == null) {
-                request.setEndpoint(URI.create(
-                        redirectedURI.getScheme() + "://" + redirectedURI.getAuthority()));
-                request.setResourcePath(redirectedURI.getPath());
+        // Compressed once, before the original content is kept for retries.
+        if (config.isCompressRequests()) {
+            try {
+                RequestCompressor.compress(request, config.getRequestCompressionThreshold());
+            } catch (final IOException e) {
+                throw new AmazonClientException(
+                        "Unable to compress request: " + e.getMessage(), e);
             }
+        }
+        return new Execution(request, executionContext);
+    }
 
-            try {
-                if (requestCount > 1) { // retry
-                    awsRequestMetrics.startEvent(Field.RetryPauseTime);
-                    try {
-                        lastBackoffDelay = pauseBeforeNextRetry(request.getOriginalRequest(),
-                                retriedException,
-                                requestCount,
-                                config.getRetryPolicy());
-                    } finally {
-                        awsRequestMetrics.endEvent(Field.RetryPauseTime);
-                    }
-                    final InputStream content = request.getContent();
-                    if (content != null && content.markSupported()) {
-                        content.reset();
-                    }
-                }
-                request.addHeader(HEADER_SDK_RETRY_INFO,
-                        (requestCount - 1) + "/" + lastBackoffDelay);
+    /**
+     * Sends one attempt of a request.
+     *
+     * @return the response, or null if the request is to be retried.
+     */
+    @SuppressWarnings("checkstyle:methodlength")
+    private <T> Response<T> executeOnce(Execution execution,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler) {
+        final Request<?> request = execution.request;
+        final ExecutionContext executionContext = execution.executionContext;
+        final AWSRequestMetrics awsRequestMetrics = execution.awsRequestMetrics;
+        /*
+         * Depending on which response handler we end up choosing to handle the
+         * HTTP response, it might require us to leave the underlying HTTP
+         * connection open, depending on whether or not it reads the complete
+         * HTTP response stream from the HTTP connection, or if delays reading
+         * any of the content until after a response is returned to the caller.
+         */
+        boolean leaveHttpConnectionOpen = false;
+        HttpResponse httpResponse = null;
+        HttpRequest httpRequest = null;
 
-                // Sign the request if a signer was provided
-                if (signer == null) {
-                    signer = executionContext.getSignerByURI(request.getEndpoint());
-                }
-                if (signer != null && credentials != null) {
-                    awsRequestMetrics.startEvent(Field.RequestSigningTime);
-                    try {
-                        signer.sign(request, credentials);
-                    } finally {
-                        awsRequestMetrics.endEvent(Field.RequestSigningTime);
-                    }
-                }
+        ++execution.requestCount;
+        awsRequestMetrics.setCounter(Field.RequestCount, execution.requestCount);
+        if (execution.requestCount > 1) { // retry
+            request.setParameters(execution.originalParameters);
+            request.setHeaders(execution.originalHeaders);
+            request.setContent(execution.originalContent);
+        }
+        if (execution.redirectedURI != null && request.getEndpoint() == null
+                && request.getResourcePath() == null) {
+            request.setEndpoint(URI.create(execution.redirectedURI.getScheme() + "://"
+                    + execution.redirectedURI.getAuthority()));
+            request.setResourcePath(execution.redirectedURI.getPath());
+        }
 
-                if (REQUEST_LOG.isDebugEnabled()) {
-                    REQUEST_LOG.debug("Sending Request: " + request.toString());
+        try {
+            if (execution.requestCount > 1) { // retry
+                final InputStream content = request.getContent();
+                if (content != null && content.markSupported()) {
+                    content.reset();
                 }
+            }
+            request.addHeader(HEADER_SDK_RETRY_INFO,
+                    (execution.requestCount - 1) + "/" + execution.lastBackoffDelay);
 
-                httpRequest = requestFactory.createHttpRequest(request, config,
-                        executionContext);
-
-                retriedException = null;
-                awsRequestMetrics.startEvent(Field.HttpRequestTime);
+            // Sign the request if a signer was provided
+            if (execution.signer == null) {
+                execution.signer = executionContext.getSignerByURI(request.getEndpoint());
+            }
+            if (execution.signer != null && execution.credentials != null) {
+                awsRequestMetrics.startEvent(Field.RequestSigningTime);
                 try {
-                    httpResponse = httpClient.execute(httpRequest);
+                    execution.signer.sign(request, execution.credentials);
                 } finally {
-                    awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                    awsRequestMetrics.endEvent(Field.RequestSigningTime);
                 }
+            }
 
-                if (isRequestSuccessful(httpResponse)) {
-                    awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
-                    /*
-                     * If we get back any 2xx status code, then we know we
-                     * should treat the service call as successful.
-                     */
-                    leaveHttpConnectionOpen = responseHandler.needsConnectionLeftOpen();
-                    final T response = handleResponse(request, responseHandler,
-                            httpResponse,
-                            executionContext);
-                    return new Response<T>(response, httpResponse);
-                } else if (isTemporaryRedirect(httpResponse)) {
-                    /*
-                     * S3 sends 307 Temporary Redirects if you try to delete an
-                     * EU bucket from the US endpoint. If we get a 307, we'll
-                     * point the HTTP method to the redirected location, and let
-                     * the next retry deliver the request to the right location.
-                     */
-                    final String redirectedLocation = httpResponse.getHeaders().get("Location");
-                    log.debug("Redirecting to: " + redirectedLocation);
-                    // set redirect uri and retry
-                    redirectedURI = URI.create(redirectedLocation);
-                    request.setEndpoint(null);
-                    request.setResourcePath(null);
-                    awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
-                    awsRequestMetrics.addProperty(Field.RedirectLocation, redirectedLocation);
-                    awsRequestMetrics.addProperty(Field.AWSRequestID, null);
-                } else {
-                    leaveHttpConnectionOpen = errorResponseHandler.needsConnectionLeftOpen();
-                    final AmazonServiceException ase = handleErrorResponse(request, errorResponseHandler,
-                            httpResponse);
-                    awsRequestMetrics.addProperty(Field.AWSRequestID, ase.getRequestId());
-                    awsRequestMetrics.addProperty(Field.AWSErrorCode, ase.getErrorCode());
-                    awsRequestMetrics.addProperty(Field.StatusCode, ase.getStatusCode());
-
-                    if (!shouldRetry(request.getOriginalRequest(),
-                            httpRequest.getContent(),
-                            ase,
-                            requestCount,
-                            config.getRetryPolicy())) {
-                        throw ase;
-                    }
+            if (REQUEST_LOG.isDebugEnabled()) {
+                REQUEST_LOG.debug("Sending Request: " + request.toString());
+            }
 
-                    // Cache the retryable exception
-                    retriedException = ase;
-                    /*
-                     * Checking for clock skew error again because we don't want
-                     * to set the global time offset for every service
-                     * exception.
-                     */
-                    if (RetryUtils.isClockSkewError(ase)) {
-                        final int timeOffset = parseClockSkewOffset(httpResponse, ase);
-                        SDKGlobalConfiguration.setGlobalTimeOffset(timeOffset);
-                    }
-                    resetRequestAfterError(request, ase);
-                }
-            } catch (final IOException ioe) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+            httpRequest = requestFactory.createHttpRequest(request, config,
+                    executionContext);
+
+            execution.retriedException = null;
+            captureConnectionPoolMetrics(httpRequest, awsRequestMetrics);
+            awsRequestMetrics.startEvent(Field.HttpRequestTime);
+            try {
+                httpResponse = requestHedger == null
+                        ? httpClient.execute(httpRequest)
+                        : requestHedger.execute(httpClient, request, httpRequest);
+            } finally {
+                awsRequestMetrics.endEvent(Field.HttpRequestTime);
+            }
+
+            if (isRequestSuccessful(httpResponse)) {
+                awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
+                if (retryQuota != null) {
+                    retryQuota.onSuccess(execution.requestCount > 1);
                 }
-                awsRequestMetrics.incrementCounter(Field.Exception);
-                awsRequestMetrics.addProperty(Field.Exception, ioe);
+                /*
+                 * If we get back any 2xx status code, then we know we
+                 * should treat the service call as successful.
+                 */
+                leaveHttpConnectionOpen = responseHandler.needsConnectionLeftOpen();
+                final T response = handleResponse(request, responseHandler,
+                        httpResponse,
+                        executionContext);
+                return new Response<T>(response, httpResponse);
+            } else if (isTemporaryRedirect(httpResponse)) {
+                /*
+                 * S3 sends 307 Temporary Redirects if you try to delete an
+                 * EU bucket from the US endpoint. If we get a 307, we'll
+                 * point the HTTP method to the redirected location, and let
+                 * the next retry deliver the request to the right location.
+                 */
+                final String redirectedLocation = httpResponse.getHeaders().get("Location");
+                log.debug("Redirecting to: " + redirectedLocation);
+                // set redirect uri and retry
+                execution.redirectedURI = URI.create(redirectedLocation);
+                request.setEndpoint(null);
+                request.setResourcePath(null);
+                awsRequestMetrics.addProperty(Field.StatusCode, httpResponse.getStatusCode());
+                awsRequestMetrics.addProperty(Field.RedirectLocation, redirectedLocation);
                 awsRequestMetrics.addProperty(Field.AWSRequestID, null);
+            } else {
+                leaveHttpConnectionOpen = errorResponseHandler.needsConnectionLeftOpen();
+                final AmazonServiceException ase = handleErrorResponse(request, errorResponseHandler,
+                        httpResponse);
+                awsRequestMetrics.addProperty(Field.AWSRequestID, ase.getRequestId());
+                awsRequestMetrics.addProperty(Field.AWSErrorCode, ase.getErrorCode());
+                awsRequestMetrics.addProperty(Field.StatusCode, ase.getStatusCode());
 
-                final AmazonClientException ace = new AmazonClientException(
-                        "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
                 if (!shouldRetry(request.getOriginalRequest(),
                         httpRequest.getContent(),
-                        ace,
-                        requestCount,
+                        ase,
+                        execution.requestCount,
                         config.getRetryPolicy())) {
-                    throw ace;
+                    throw ase;
                 }
 
                 // Cache the retryable exception
-                retriedException = ace;
-                resetRequestAfterError(request, ioe);
-            } catch (final RuntimeException e) {
-                throw handleUnexpectedFailure(e, awsRequestMetrics);
-            } catch (final Error e) {
-                throw handleUnexpectedFailure(e, awsRequestMetrics);
-            } finally {
+                execution.retriedException = ase;
                 /*
-                 * Some response handlers need to manually manage the HTTP
-                 * connection and will take care of releasing the connection on
-                 * their own, but if this response handler doesn't need the
-                 * connection left open, we go ahead and release the it to free
-                 * up resources.
+                 * Checking for clock skew error again because we don't want
+                 * to set the global time offset for every service
+                 * exception.
                  */
-                if (!leaveHttpConnectionOpen && httpResponse != null) {
-                    try {
-                        if (httpResponse.getRawContent() != null) {
-                            httpResponse.getRawContent().close();
-                        }
-                    } catch (final IOException e) {
-                        log.warn("Cannot close the response content.", e);
+                if (RetryUtils.isClockSkewError(ase)) {
+                    final int timeOffset = parseClockSkewOffset(httpResponse, ase);
+                    SDKGlobalConfiguration.setGlobalTimeOffset(timeOffset);
+                }
+                resetRequestAfterError(request, ase);
+            }
+        } catch (final IOException ioe) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+            }
+            awsRequestMetrics.incrementCounter(Field.Exception);
+            awsRequestMetrics.addProperty(Field.Exception, ioe);
+            awsRequestMetrics.addProperty(Field.AWSRequestID, null);
+
+            final AmazonClientException ace = new AmazonClientException(
+                    "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+            if (!shouldRetry(request.getOriginalRequest(),
+                    httpRequest.getContent(),
+                    ace,
+                    execution.requestCount,
+                    config.getRetryPolicy())) {
+                throw ace;
+            }
+
+            // Cache the retryable exception
+            execution.retriedException = ace;
+            resetRequestAfterError(request, ioe);
+        } catch (final RuntimeException e) {
+            throw handleUnexpectedFailure(e, awsRequestMetrics);
+        } catch (final Error e) {
+            throw handleUnexpectedFailure(e, awsRequestMetrics);
+        } finally {
+            /*
+             * Some response handlers need to manually manage the HTTP
+             * connection and will take care of releasing the connection on
+             * their own, but if this response handler doesn't need the
+             * connection left open, we go ahead and release the it to free
+             * up resources.
+             */
+            if (!leaveHttpConnectionOpen && httpResponse != null) {
+                try {
+                    if (httpResponse.getRawContent() != null) {
+                        httpResponse.getRawContent().close();
                     }
+                } catch (final IOException e) {
+                    log.warn("Cannot close the response content.", e);
                 }
             }
-        } /* end while (true) */
+        }
+        return null;
+    }
+
+    /**
+     * Captures the state of the connection pool of the target host before a
+     * connection is obtained, if the HTTP client pools its own connections.
+     */
+    private void captureConnectionPoolMetrics(HttpRequest httpRequest,
+            AWSRequestMetrics awsRequestMetrics) {
+        if (!awsRequestMetrics.isEnabled() || !(httpClient instanceof PooledHttpClient)) {
+            return;
+        }
+        final ConnectionPoolStats stats = ((PooledHttpClient) httpClient)
+                .getConnectionPoolStats(httpRequest.getUri());
+        if (stats != null) {
+            awsRequestMetrics.setCounter(Field.HttpClientPoolAvailableCount, stats.getAvailable());
+            awsRequestMetrics.setCounter(Field.HttpClientPoolLeasedCount, stats.getLeased());
+            awsRequestMetrics.setCounter(Field.HttpClientPoolPendingCount, stats.getPending());
+        }
     }
 
     /**
@@ -575,6 +738,9 @@ public class AmazonHttpClient {
             int requestCount,
             RetryPolicy retryPolicy) {
         final int retries = requestCount - 1;
+        if (retryQuota != null) {
+            retryQuota.onError(exception);
+        }
 
         int maxErrorRetry = config.getMaxErrorRetry();
         // We should use the maxErrorRetry in
@@ -601,9 +767,14 @@ public class AmazonHttpClient {
 
         // Pass all the context information to the RetryCondition and let it
         // decide whether it should be retried.
-        return retryPolicy.getRetryCondition().shouldRetry(originalRequest,
+        if (!retryPolicy.getRetryCondition().shouldRetry(originalRequest,
                 exception,
-                retries);
+                retries)) {
+            return false;
+        }
+
+        // The retries of all requests of this client are limited by its quota.
+        return retryQuota == null || retryQuota.acquireRetry(exception);
     }
 
     private static boolean isTemporaryRedirect(HttpResponse response) {
@@ -731,6 +902,19 @@ public class AmazonHttpClient {
         return exception;
     }
 
+    /**
+     * Waits until the retry quota of this client lets the next attempt be
+     * sent.
+     */
+    private void acquireSendPermit() {
+        try {
+            retryQuota.acquireSendPermit();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        }
+    }
+
     /**
      * Sleep for a period of time on failed request to avoid flooding a service
      * with retries.
@@ -747,6 +931,32 @@ public class AmazonHttpClient {
             AmazonClientException previousException,
             int requestCount,
             RetryPolicy retryPolicy) {
+        final long delay = delayBeforeNextRetry(originalRequest, previousException,
+                requestCount, retryPolicy);
+        try {
+            Thread.sleep(delay);
+            return delay;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns how long to wait before the next retry of a failed request.
+     *
+     * @param originalRequest The original service request that is being
+     *            executed.
+     * @param previousException Exception information for the previous attempt,
+     *            if any.
+     * @param requestCount current request count (including the next attempt
+     *            after the delay)
+     * @param retryPolicy The retry policy configured in this http client.
+     */
+    private long delayBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+            AmazonClientException previousException,
+            int requestCount,
+            RetryPolicy retryPolicy) {
         final int retries = requestCount // including next attempt
                 - 1 // number of attempted requests
                 - 1; // number of attempted retries
@@ -759,13 +969,7 @@ public class AmazonHttpClient {
                     "will retry in " + delay + "ms, attempt number: " + retries);
         }
 
-        try {
-            Thread.sleep(delay);
-            return delay;
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new AmazonClientException(e.getMessage(), e);
-        }
+        return delay;
     }
 
     /**
@@ -831,4 +1035,138 @@ public class AmazonHttpClient {
     public RequestMetricCollector getRequestMetricCollector() {
         return requestMetricCollector;
     }
+
+    /**
+     * The state of a request that is kept across its attempts.
+     */
+    private static final class Execution {
+        final Request<?> request;
+        final ExecutionContext executionContext;
+        final AWSRequestMetrics awsRequestMetrics;
+        final AWSCredentials credentials;
+
+        // Copies of the original request params and headers so that each
+        // attempt can permute them and start over with the original.
+        final Map<String, String> originalParameters;
+        final Map<String, String> originalHeaders;
+        final InputStream originalContent;
+
+        int requestCount;
+        long lastBackoffDelay;
+        URI redirectedURI;
+        AmazonClientException retriedException;
+        Signer signer;
+
+        Execution(Request<?> request, ExecutionContext executionContext) {
+            this.request = request;
+            this.executionContext = executionContext;
+            this.awsRequestMetrics = executionContext.getAwsRequestMetrics();
+            this.credentials = executionContext.getCredentials();
+            this.originalParameters = new LinkedHashMap<String, String>(request.getParameters());
+            this.originalHeaders = new HashMap<String, String>(request.getHeaders());
+            this.originalContent = request.getContent();
+            // mark input stream if supported
+            if (originalContent != null && originalContent.markSupported()) {
+                originalContent.mark(-1);
+            }
+        }
+    }
+
+    /**
+     * Runs the attempts of a request on an executor, and waits between them
+     * on {@link #RETRY_SCHEDULER}.
+     */
+    private final class AsyncExecution<T> implements Runnable {
+        private final Execution execution;
+        private final List<RequestHandler2> requestHandler2s;
+        private final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final Executor executor;
+        private final SettableFuture<Response<T>> future = new SettableFuture<Response<T>>();
+
+        AsyncExecution(Execution execution, List<RequestHandler2> requestHandler2s,
+                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                Executor executor) {
+            this.execution = execution;
+            this.requestHandler2s = requestHandler2s;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executor = executor;
+        }
+
+        void submit() {
+            try {
+                executor.execute(this);
+            } catch (final RejectedExecutionException e) {
+                future.setException(new AmazonClientException(
+                        "Unable to execute HTTP request: " + e.getMessage(), e));
+            }
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone()) {
+                // Cancelled
+                return;
+            }
+            Response<T> response = null;
+            try {
+                if (retryQuota != null) {
+                    final long waitNanos = retryQuota.tryAcquireSendPermit();
+                    if (waitNanos > 0) {
+                        schedule(new Runnable() {
+                            @Override
+                            public void run() {
+                                submit();
+                            }
+                        }, TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1);
+                        return;
+                    }
+                }
+                response = executeOnce(execution, responseHandler, errorResponseHandler);
+                if (response == null) {
+                    scheduleRetry();
+                    return;
+                }
+                final TimingInfo timingInfo = execution.awsRequestMetrics.getTimingInfo()
+                        .endTiming();
+                afterResponse(execution.request, requestHandler2s, response, timingInfo);
+                future.set(response);
+            } catch (final AmazonClientException e) {
+                afterError(execution.request, response, requestHandler2s, e);
+                future.setException(e);
+            } catch (final RuntimeException e) {
+                future.setException(e);
+            } catch (final Error e) {
+                future.setException(e);
+                throw e;
+            }
+        }
+
+        private void scheduleRetry() {
+            execution.awsRequestMetrics.startEvent(Field.RetryPauseTime);
+            execution.lastBackoffDelay = delayBeforeNextRetry(
+                    execution.request.getOriginalRequest(),
+                    execution.retriedException,
+                    execution.requestCount + 1,
+                    config.getRetryPolicy());
+            schedule(new Runnable() {
+                @Override
+                public void run() {
+                    execution.awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                    submit();
+                }
+            }, execution.lastBackoffDelay);
+        }
+
+        private void schedule(Runnable task, long delayMillis) {
+            try {
+                RETRY_SCHEDULER.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException e) {
+                future.setException(new AmazonClientException(
+                        "Unable to schedule the retry: " + e.getMessage(), e));
+            }
+        }
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * A persistent HTTP/1.1 connection to a single host, managed by
+ * {@link HttpConnectionPool}. Not thread safe; a connection is used by at most
+ * one request at a time.
+ */
+final class HttpConnection {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int STALE_CHECK_TIMEOUT_MILLIS = 1;
+
+    private final HttpConnectionPool.Route route;
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final StringBuilder lineBuffer = new StringBuilder();
+    private long lastUsedMillis;
+
+    HttpConnection(HttpConnectionPool.Route route, Socket socket) throws IOException {
+        this.route = route;
+        this.socket = socket;
+        this.in = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
+        this.out = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+        this.lastUsedMillis = System.currentTimeMillis();
+    }
+
+    HttpConnectionPool.Route getRoute() {
+        return route;
+    }
+
+    InputStream getInputStream() {
+        return in;
+    }
+
+    OutputStream getOutputStream() {
+        return out;
+    }
+
+    /**
+     * Records the time the connection was returned to the pool.
+     */
+    void markIdle() {
+        lastUsedMillis = System.currentTimeMillis();
+    }
+
+    long getIdleMillis(long now) {
+        return now - lastUsedMillis;
+    }
+
+    /**
+     * Checks whether the peer has closed an idle connection. The check blocks
+     * for at most a millisecond, so the pool only performs it on connections
+     * that have been idle for a while.
+     *
+     * @return true if the connection can no longer be used.
+     */
+    boolean isStale() {
+        if (socket.isClosed() || socket.isInputShutdown() || socket.isOutputShutdown()) {
+            return true;
+        }
+        try {
+            final int timeout = socket.getSoTimeout();
+            try {
+                socket.setSoTimeout(STALE_CHECK_TIMEOUT_MILLIS);
+                // Anything but a timeout, whether end of stream or unsolicited
+                // data, means no well formed response can follow.
+                in.read();
+                return true;
+            } finally {
+                socket.setSoTimeout(timeout);
+            }
+        } catch (final SocketTimeoutException e) {
+            return false;
+        } catch (final IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Reads a CRLF (or LF) terminated line of the response head.
+     *
+     * @return the line without its terminator, or null if the stream ended
+     *         before any byte was read.
+     * @throws IOException if the line can't be read.
+     */
+    String readLine() throws IOException {
+        lineBuffer.setLength(0);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                final int length = lineBuffer.length();
+                if (length > 0 && lineBuffer.charAt(length - 1) == '\r') {
+                    lineBuffer.setLength(length - 1);
+                }
+                return lineBuffer.toString();
+            }
+            if (lineBuffer.length() >= MAX_LINE_LENGTH) {
+                throw new IOException("Response header line exceeds " + MAX_LINE_LENGTH
+                        + " bytes");
+            }
+            lineBuffer.append((char) b);
+        }
+        if (lineBuffer.length() == 0) {
+            return null;
+        }
+        throw new IOException("Unexpected end of stream while reading response head");
+    }
+
+    /**
+     * Closes the underlying socket, ignoring any error.
+     */
+    @SuppressWarnings("checkstyle:emptyblock")
+    void close() {
+        try {
+            socket.close();
+        } catch (final IOException e) {
+            // Ignored, the connection is being discarded anyway.
+        }
+    }
+}
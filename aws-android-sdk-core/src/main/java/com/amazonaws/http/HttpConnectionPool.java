@@ -0,0 +1,355 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.metrics.ConnectionPoolStats;
+import com.amazonaws.metrics.ConnectionPoolStatsProvider;
+import com.amazonaws.metrics.ServiceLatencyProvider;
+import com.amazonaws.metrics.ServiceMetricCollector;
+import com.amazonaws.util.AWSServiceMetrics;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool of persistent {@link HttpConnection}s, partitioned by host.
+ * At most {@code maxConnectionsPerHost} connections to a host are leased at
+ * any time; further requests block until a connection is released. Released
+ * connections are kept for reuse until they have been idle for longer than
+ * {@code maxIdleMillis}.
+ */
+final class HttpConnectionPool implements ConnectionPoolStatsProvider {
+
+    /**
+     * Connections idle for less than this are assumed to be alive, which
+     * spares the common back-to-back request from the stale check.
+     */
+    private static final long STALE_CHECK_IDLE_MILLIS = 1000;
+
+    /**
+     * Opens new connections on behalf of the pool.
+     */
+    interface Connector {
+        /**
+         * @param route the host to connect to.
+         * @return a new connection.
+         * @throws IOException if the connection can't be established.
+         */
+        HttpConnection connect(Route route) throws IOException;
+    }
+
+    private final Connector connector;
+    private final int maxConnectionsPerHost;
+    private final long maxIdleMillis;
+    private final ConcurrentMap<Route, HostPool> pools = new ConcurrentHashMap<Route, HostPool>();
+    private volatile boolean shutdown;
+
+    HttpConnectionPool(Connector connector, int maxConnectionsPerHost, long maxIdleMillis) {
+        if (maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException("maxConnectionsPerHost must be positive");
+        }
+        this.connector = connector;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.maxIdleMillis = maxIdleMillis;
+    }
+
+    /**
+     * Leases a connection to the given host, reusing an idle one if possible.
+     *
+     * @param route the host to connect to.
+     * @param timeoutMillis how long to wait for a connection to be released
+     *            when the host is at capacity; 0 to wait indefinitely.
+     * @return a connection that must be passed back to
+     *         {@link #release(HttpConnection, boolean)}.
+     * @throws IOException if no connection could be obtained.
+     */
+    HttpConnection lease(Route route, long timeoutMillis) throws IOException {
+        if (shutdown) {
+            throw new IllegalStateException("Connection pool shut down");
+        }
+        final HostPool pool = getHostPool(route);
+        final ServiceMetricCollector collector = AwsSdkMetrics.getServiceMetricCollector();
+        final ServiceLatencyProvider latencyProvider = collector.isEnabled()
+                ? new ServiceLatencyProvider(AWSServiceMetrics.HttpClientGetConnectionTime)
+                : null;
+        try {
+            pool.acquire(timeoutMillis);
+            try {
+                final HttpConnection idle = pool.pollIdle();
+                if (idle != null) {
+                    return idle;
+                }
+                final HttpConnection connection = connector.connect(route);
+                pool.created.incrementAndGet();
+                return connection;
+            } catch (final IOException e) {
+                pool.permits.release();
+                throw e;
+            } catch (final RuntimeException e) {
+                pool.permits.release();
+                throw e;
+            }
+        } finally {
+            if (latencyProvider != null) {
+                collector.collectLatency(latencyProvider.endTiming());
+            }
+        }
+    }
+
+    /**
+     * Returns a leased connection to the pool.
+     *
+     * @param connection the leased connection.
+     * @param reusable true if the connection is positioned at the start of the
+     *            next response and may be reused; false to close it.
+     */
+    void release(HttpConnection connection, boolean reusable) {
+        final HostPool pool = getHostPool(connection.getRoute());
+        try {
+            if (reusable && !shutdown) {
+                connection.markIdle();
+                pool.offerIdle(connection);
+            } else {
+                connection.close();
+            }
+        } finally {
+            pool.permits.release();
+        }
+        if (shutdown) {
+            // Close a connection that raced with shutdown.
+            closeIdleConnections(0);
+        }
+    }
+
+    /**
+     * Closes the connections that have been idle longer than the configured
+     * maximum idle time, if any.
+     */
+    void closeExpiredConnections() {
+        if (maxIdleMillis > 0) {
+            closeIdleConnections(maxIdleMillis);
+        }
+    }
+
+    /**
+     * Closes the connections that have been idle longer than the given time.
+     *
+     * @param idleMillis the idle time in milliseconds.
+     */
+    void closeIdleConnections(long idleMillis) {
+        final long now = System.currentTimeMillis();
+        for (final HostPool pool : pools.values()) {
+            pool.evictIdle(now, idleMillis);
+        }
+    }
+
+    /**
+     * Closes every idle connection and refuses further leases. Leased
+     * connections are closed as they are released.
+     */
+    void shutdown() {
+        shutdown = true;
+        closeIdleConnections(0);
+    }
+
+    boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * @param route the host.
+     * @return the statistics of the given host, or null if no connection to it
+     *         has been requested.
+     */
+    ConnectionPoolStats getConnectionPoolStats(Route route) {
+        final HostPool pool = pools.get(route);
+        return pool == null ? null : pool.stats();
+    }
+
+    @Override
+    public List<ConnectionPoolStats> getConnectionPoolStats() {
+        final List<ConnectionPoolStats> stats = new ArrayList<ConnectionPoolStats>(pools.size());
+        for (final HostPool pool : pools.values()) {
+            stats.add(pool.stats());
+        }
+        return stats;
+    }
+
+    private HostPool getHostPool(Route route) {
+        HostPool pool = pools.get(route);
+        if (pool == null) {
+            final HostPool created = new HostPool(route);
+            pool = pools.putIfAbsent(route, created);
+            if (pool == null) {
+                pool = created;
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * The host, port and scheme that identify a partition of the pool.
+     */
+    static final class Route {
+        private final String host;
+        private final int port;
+        private final boolean secure;
+
+        Route(String host, int port, boolean secure) {
+            this.host = host;
+            this.port = port;
+            this.secure = secure;
+        }
+
+        String getHost() {
+            return host;
+        }
+
+        int getPort() {
+            return port;
+        }
+
+        boolean isSecure() {
+            return secure;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Route)) {
+                return false;
+            }
+            final Route other = (Route) o;
+            return port == other.port && secure == other.secure && host.equals(other.host);
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = host.hashCode();
+            result = prime * result + port;
+            result = prime * result + (secure ? 1 : 0);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return (secure ? "https://" : "http://") + host + ":" + port;
+        }
+    }
+
+    /**
+     * The connections to a single host. Idle connections are reused most
+     * recently used first, so the least recently used ones age out.
+     */
+    private final class HostPool {
+        private final Route route;
+        private final Semaphore permits;
+        private final ArrayDeque<HttpConnection> idle = new ArrayDeque<HttpConnection>();
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong reused = new AtomicLong();
+        private final AtomicLong evicted = new AtomicLong();
+
+        HostPool(Route route) {
+            this.route = route;
+            this.permits = new Semaphore(maxConnectionsPerHost, true);
+        }
+
+        void acquire(long timeoutMillis) throws IOException {
+            try {
+                if (timeoutMillis <= 0) {
+                    permits.acquire();
+                } else if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new SocketTimeoutException(
+                            "Timeout waiting for a connection to " + route + " from the pool");
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for a connection to " + route);
+            }
+        }
+
+        HttpConnection pollIdle() {
+            while (true) {
+                final HttpConnection connection;
+                synchronized (this) {
+                    connection = idle.pollFirst();
+                }
+                if (connection == null) {
+                    return null;
+                }
+                final long idleMillis = connection.getIdleMillis(System.currentTimeMillis());
+                if ((maxIdleMillis > 0 && idleMillis > maxIdleMillis)
+                        || (idleMillis > STALE_CHECK_IDLE_MILLIS && connection.isStale())) {
+                    connection.close();
+                    evicted.incrementAndGet();
+                    continue;
+                }
+                reused.incrementAndGet();
+                return connection;
+            }
+        }
+
+        synchronized void offerIdle(HttpConnection connection) {
+            idle.addFirst(connection);
+        }
+
+        void evictIdle(long now, long idleMillis) {
+            final List<HttpConnection> expired = new ArrayList<HttpConnection>();
+            synchronized (this) {
+                final Iterator<HttpConnection> it = idle.descendingIterator();
+                while (it.hasNext()) {
+                    final HttpConnection connection = it.next();
+                    if (connection.getIdleMillis(now) >= idleMillis) {
+                        it.remove();
+                        expired.add(connection);
+                    }
+                }
+            }
+            for (final HttpConnection connection : expired) {
+                connection.close();
+                evicted.incrementAndGet();
+            }
+        }
+
+        ConnectionPoolStats stats() {
+            final int available;
+            synchronized (this) {
+                available = idle.size();
+            }
+            return new ConnectionPoolStats(route.getHost(), route.getPort(), route.isSecure(),
+                    maxConnectionsPerHost,
+                    maxConnectionsPerHost - permits.availablePermits(),
+                    available,
+                    permits.getQueueLength(),
+                    created.get(),
+                    reused.get(),
+                    evicted.get());
+        }
+    }
+}
@@ -33,7 +33,8 @@ import java.util.concurrent.TimeUnit;
  * in CLOSE_WAIT can prevent the OS from creating new connections.
  * <p>
  * This class closes idle connections before they can move into the CLOSE_WAIT
- * state.
+ * state. It serves both the Apache HttpClient connection managers and the
+ * {@link HttpConnectionPool}s of {@link PooledHttpClient}.
  * <p>
  * This thread is important because by default, we disable Apache HttpClient's
  * stale connection checking, so without this thread running in the background,
@@ -52,6 +53,11 @@ public final class IdleConnectionReaper extends Thread {
      * periodically checked and idle connections closed.
      */
     private static final ArrayList<ClientConnectionManager> CONNECTION_MANAGERS = new ArrayList<ClientConnectionManager>();
+    /**
+     * The list of registered connection pools, whose expired idle connections
+     * will be periodically closed.
+     */
+    private static final ArrayList<HttpConnectionPool> CONNECTION_POOLS = new ArrayList<HttpConnectionPool>();
     /**
      * Set to true when shutting down the reaper; Once set to true, this flag is
      * never set back to false.
@@ -95,7 +101,35 @@ public final class IdleConnectionReaper extends Thread {
     public static synchronized boolean removeConnectionManager(
             ClientConnectionManager connectionManager) {
         boolean b = CONNECTION_MANAGERS.remove(connectionManager);
-        if (CONNECTION_MANAGERS.isEmpty())
+        if (CONNECTION_MANAGERS.isEmpty() && CONNECTION_POOLS.isEmpty())
+            shutdown();
+        return b;
+    }
+
+    /**
+     * Registers the given connection pool with this reaper.
+     * @param connectionPool the connection pool.
+     * @return true if the connection pool has been successfully registered;
+     *         false otherwise.
+     */
+    static synchronized boolean registerConnectionPool(HttpConnectionPool connectionPool) {
+        if (instance == null) {
+            instance = new IdleConnectionReaper();
+            instance.start();
+        }
+        return CONNECTION_POOLS.add(connectionPool);
+    }
+
+    /**
+     * Removes the given connection pool from this reaper, and shutting down
+     * the reaper if there is nothing left to reap.
+     * @param connectionPool the connection pool.
+     * @return true if the connection pool has been successfully removed;
+     *         false otherwise.
+     */
+    static synchronized boolean removeConnectionPool(HttpConnectionPool connectionPool) {
+        boolean b = CONNECTION_POOLS.remove(connectionPool);
+        if (CONNECTION_MANAGERS.isEmpty() && CONNECTION_POOLS.isEmpty())
             shutdown();
         return b;
     }
@@ -122,9 +156,19 @@ public final class IdleConnectionReaper extends Thread {
                 // (rather
                 // than block/lock while this loop executes).
                 List<ClientConnectionManager> connectionManagers = null;
+                List<HttpConnectionPool> connectionPools = null;
                 synchronized (IdleConnectionReaper.class) {
                     connectionManagers = (List<ClientConnectionManager>) IdleConnectionReaper.CONNECTION_MANAGERS
                             .clone();
+                    connectionPools = (List<HttpConnectionPool>) IdleConnectionReaper.CONNECTION_POOLS
+                            .clone();
+                }
+                for (HttpConnectionPool connectionPool : connectionPools) {
+                    try {
+                        connectionPool.closeExpiredConnections();
+                    } catch (Exception t) {
+                        log.warn("Unable to close idle connections", t);
+                    }
                 }
                 for (ClientConnectionManager connectionManager : connectionManagers) {
                     // When we release connections, the connection manager
@@ -159,6 +203,7 @@ public final class IdleConnectionReaper extends Thread {
             instance.markShuttingDown();
             instance.interrupt();
             CONNECTION_MANAGERS.clear();
+            CONNECTION_POOLS.clear();
             instance = null;
             return true;
         }
@@ -166,10 +211,10 @@ public final class IdleConnectionReaper extends Thread {
     }
 
     /**
-     * For testing purposes. Returns the number of connection managers currently
-     * monitored by this reaper.
+     * For testing purposes. Returns the number of connection managers and
+     * connection pools currently monitored by this reaper.
      */
     static synchronized int size() {
-        return CONNECTION_MANAGERS.size();
+        return CONNECTION_MANAGERS.size() + CONNECTION_POOLS.size();
     }
 }
@@ -0,0 +1,447 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.metrics.ConnectionPoolStats;
+import com.amazonaws.metrics.ConnectionPoolStatsProvider;
+import com.amazonaws.util.StringUtils;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+
+/**
+ * An implementation of {@link HttpClient} that speaks HTTP/1.1 over its own
+ * pool of persistent connections, instead of leaving connection management to
+ * the platform as {@link UrlHttpClient} does.
+ * <ul>
+ * <li>Connections are partitioned by host, and at most
+ * {@link ClientConfiguration#getMaxConnections()} of them are open to a host
+ * at a time. Requests beyond that wait up to the connection timeout for a
+ * connection to be released.</li>
+ * <li>Connections are kept alive between requests unless
+ * {@link ClientConfiguration#isConnectionKeepAlive()} is disabled, and closed
+ * once idle for longer than
+ * {@link ClientConfiguration#getConnectionMaxIdleMillis()}, either on their
+ * next lease or by the {@link IdleConnectionReaper}.</li>
+ * <li>All TLS connections are created from a single {@link SSLSocketFactory},
+ * so a reconnect to a host resumes the cached TLS session instead of performing
+ * a full handshake.</li>
+ * <li>Per-host statistics are available via
+ * {@link AwsSdkMetrics#getConnectionPoolStats()}.</li>
+ * </ul>
+ * A response body must be read to the end or closed for its connection to be
+ * reused. Proxy settings in the {@link ClientConfiguration} are not supported.
+ * <p>
+ * To use it, pass an instance to the constructor of a service client that
+ * accepts an {@link HttpClient}, and call the client's shutdown method when
+ * done with it.
+ */
+public class PooledHttpClient implements HttpClient, ConnectionPoolStatsProvider {
+
+    private static final Log log = LogFactory.getLog(PooledHttpClient.class);
+
+    private static final int DEFAULT_HTTP_PORT = 80;
+    private static final int DEFAULT_HTTPS_PORT = 443;
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int HTTP_STATUS_CONTINUE = 100;
+    private static final int HTTP_STATUS_SWITCHING_PROTOCOLS = 101;
+    private static final int HTTP_STATUS_INFORMATIONAL_MAX = 199;
+    private static final int HTTP_STATUS_NO_CONTENT = 204;
+    private static final int HTTP_STATUS_NOT_MODIFIED = 304;
+    private static final int STATUS_CODE_LENGTH = 3;
+    private static final String CRLF = "\r\n";
+
+    private final ClientConfiguration config;
+    private final HttpConnectionPool pool;
+    private volatile SSLSocketFactory sslSocketFactory;
+
+    /**
+     * Constructor.
+     *
+     * @param config the client configuration.
+     */
+    public PooledHttpClient(ClientConfiguration config) {
+        this.config = config;
+        this.pool = new HttpConnectionPool(new HttpConnectionPool.Connector() {
+            @Override
+            public HttpConnection connect(HttpConnectionPool.Route route) throws IOException {
+                return openConnection(route);
+            }
+        }, config.getMaxConnections(), config.getConnectionMaxIdleMillis());
+        if (config.useReaper()) {
+            IdleConnectionReaper.registerConnectionPool(pool);
+        }
+        AwsSdkMetrics.registerConnectionPool(this);
+    }
+
+    @Override
+    public HttpResponse execute(final HttpRequest request) throws IOException {
+        final HttpConnectionPool.Route route = getRoute(request.getUri());
+        final HttpConnection connection = pool.lease(route, config.getConnectionTimeout());
+        try {
+            writeRequest(connection, request);
+            return readResponse(connection, request);
+        } catch (final IOException e) {
+            pool.release(connection, false);
+            throw e;
+        } catch (final RuntimeException e) {
+            pool.release(connection, false);
+            throw e;
+        }
+    }
+
+    /**
+     * Closes all pooled connections. Connections still in use are closed once
+     * their response has been consumed.
+     */
+    @Override
+    public void shutdown() {
+        pool.shutdown();
+        IdleConnectionReaper.removeConnectionPool(pool);
+        AwsSdkMetrics.unregisterConnectionPool(this);
+    }
+
+    @Override
+    public List<ConnectionPoolStats> getConnectionPoolStats() {
+        return pool.getConnectionPoolStats();
+    }
+
+    /**
+     * @param uri the uri of a request.
+     * @return the statistics of the connections to the host of the given uri,
+     *         or null if no request has been sent to it.
+     */
+    public ConnectionPoolStats getConnectionPoolStats(URI uri) {
+        return pool.getConnectionPoolStats(getRoute(uri));
+    }
+
+    static HttpConnectionPool.Route getRoute(URI uri) {
+        final boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort();
+        if (port == -1) {
+            port = secure ? DEFAULT_HTTPS_PORT : DEFAULT_HTTP_PORT;
+        }
+        return new HttpConnectionPool.Route(uri.getHost(), port, secure);
+    }
+
+    HttpConnection openConnection(HttpConnectionPool.Route route) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(config.getSocketTimeout());
+            final int[] bufferSizeHints = config.getSocketBufferSizeHints();
+            if (bufferSizeHints[0] > 0) {
+                socket.setSendBufferSize(bufferSizeHints[0]);
+            }
+            if (bufferSizeHints[1] > 0) {
+                socket.setReceiveBufferSize(bufferSizeHints[1]);
+            }
+            if (config.getLocalAddress() != null) {
+                socket.bind(new InetSocketAddress(config.getLocalAddress(), 0));
+            }
+            socket.connect(new InetSocketAddress(route.getHost(), route.getPort()),
+                    config.getConnectionTimeout());
+            if (route.isSecure()) {
+                // Layering over the connected socket with the peer host and
+                // port lets the factory resume a cached session and send SNI.
+                final SSLSocket sslSocket = (SSLSocket) getSslSocketFactory().createSocket(
+                        socket, route.getHost(), route.getPort(), true);
+                socket = sslSocket;
+                sslSocket.startHandshake();
+                final HostnameVerifier verifier = HttpsURLConnection.getDefaultHostnameVerifier();
+                if (!verifier.verify(route.getHost(), sslSocket.getSession())) {
+                    throw new SSLPeerUnverifiedException("Hostname " + route.getHost()
+                            + " not verified");
+                }
+            }
+            return new HttpConnection(route, socket);
+        } catch (final IOException e) {
+            closeQuietly(socket);
+            throw e;
+        } catch (final RuntimeException e) {
+            closeQuietly(socket);
+            throw e;
+        }
+    }
+
+    void writeRequest(HttpConnection connection, HttpRequest request) throws IOException {
+        final URI uri = request.getUri();
+        final StringBuilder head = new StringBuilder(BUFFER_SIZE / 4);
+        head.append(request.getMethod()).append(' ');
+        final String path = uri.getRawPath();
+        head.append(path == null || path.isEmpty() ? "/" : path);
+        if (uri.getRawQuery() != null) {
+            head.append('?').append(uri.getRawQuery());
+        }
+        head.append(" HTTP/1.1").append(CRLF);
+
+        final Map<String, String> headers = request.getHeaders();
+        String host = headers.get(HttpHeader.HOST);
+        if (host == null) {
+            host = uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+        }
+        appendHeader(head, HttpHeader.HOST, host);
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            final String key = header.getKey();
+            // Framing and connection headers are owned by this client.
+            if (key.equalsIgnoreCase(HttpHeader.HOST)
+                    || key.equalsIgnoreCase(HttpHeader.CONTENT_LENGTH)
+                    || key.equalsIgnoreCase("Transfer-Encoding")
+                    || key.equalsIgnoreCase("Connection")) {
+                continue;
+            }
+            appendHeader(head, key, header.getValue());
+        }
+
+        final InputStream content = request.getContent();
+        boolean chunked = false;
+        if (content != null) {
+            if (request.isStreaming() || headers.get(HttpHeader.CONTENT_LENGTH) == null) {
+                chunked = true;
+                appendHeader(head, "Transfer-Encoding", "chunked");
+            } else {
+                appendHeader(head, HttpHeader.CONTENT_LENGTH,
+                        String.valueOf(request.getContentLength()));
+            }
+        } else if ("POST".equals(request.getMethod()) || "PUT".equals(request.getMethod())) {
+            appendHeader(head, HttpHeader.CONTENT_LENGTH, "0");
+        }
+        if (!config.isConnectionKeepAlive()) {
+            appendHeader(head, "Connection", "close");
+        }
+        head.append(CRLF);
+
+        final OutputStream out = connection.getOutputStream();
+        out.write(head.toString().getBytes(StringUtils.UTF8));
+        if (content != null) {
+            final OutputStream body = chunked ? new ChunkedOutputStream(out) : out;
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int len;
+            while ((len = content.read(buffer)) != -1) {
+                body.write(buffer, 0, len);
+            }
+            if (chunked) {
+                ((ChunkedOutputStream) body).finish();
+            }
+        }
+        out.flush();
+    }
+
+    HttpResponse readResponse(HttpConnection connection, HttpRequest request)
+            throws IOException {
+        String statusLine;
+        int statusCode;
+        HttpResponse.Builder builder;
+        Map<String, String> headers;
+        // Skip interim responses, e.g. 100 Continue.
+        do {
+            statusLine = connection.readLine();
+            if (statusLine == null) {
+                throw new IOException("Connection to " + connection.getRoute()
+                        + " closed before a response was received");
+            }
+            statusCode = parseStatusCode(statusLine);
+            builder = HttpResponse.builder();
+            headers = readHeaders(connection, builder);
+        } while (statusCode >= HTTP_STATUS_CONTINUE && statusCode <= HTTP_STATUS_INFORMATIONAL_MAX
+                && statusCode != HTTP_STATUS_SWITCHING_PROTOCOLS);
+
+        final int reasonStart = statusLine.indexOf(' ', statusLine.indexOf(' ') + 1);
+        builder.statusCode(statusCode)
+                .statusText(reasonStart == -1 ? "" : statusLine.substring(reasonStart + 1));
+
+        final boolean keepAlive = isKeepAlive(statusLine, headers);
+        final String transferEncoding = headers.get("transfer-encoding");
+        final String contentLength = headers.get("content-length");
+        if ("HEAD".equals(request.getMethod())
+                || statusCode == HTTP_STATUS_NO_CONTENT
+                || statusCode == HTTP_STATUS_NOT_MODIFIED) {
+            pool.release(connection, keepAlive);
+            if (!"HEAD".equals(request.getMethod())) {
+                builder.content(new ByteArrayInputStream(new byte[0]));
+            }
+        } else if (transferEncoding != null
+                && StringUtils.lowerCase(transferEncoding).contains("chunked")) {
+            builder.content(ResponseBodyInputStream.chunked(pool, connection, keepAlive));
+        } else if (contentLength != null) {
+            final long length;
+            try {
+                length = Long.parseLong(contentLength.trim());
+            } catch (final NumberFormatException e) {
+                throw new ProtocolException("Invalid Content-Length: " + contentLength);
+            }
+            builder.content(ResponseBodyInputStream.fixedLength(pool, connection, keepAlive,
+                    length));
+        } else {
+            builder.content(ResponseBodyInputStream.untilClose(pool, connection));
+        }
+        return builder.build();
+    }
+
+    private boolean isKeepAlive(String statusLine, Map<String, String> headers) {
+        if (!config.isConnectionKeepAlive()) {
+            return false;
+        }
+        final String connectionHeader = headers.get("connection");
+        final String token = connectionHeader == null ? ""
+                : StringUtils.lowerCase(connectionHeader);
+        if (statusLine.startsWith("HTTP/1.0")) {
+            return token.contains("keep-alive");
+        }
+        return !token.contains("close");
+    }
+
+    /**
+     * Reads the header fields into the builder. Like {@link UrlHttpClient},
+     * only the first value of a repeated header is kept.
+     *
+     * @return the headers keyed by their lower case name.
+     */
+    private static Map<String, String> readHeaders(HttpConnection connection,
+            HttpResponse.Builder builder) throws IOException {
+        final Map<String, String> headers = new HashMap<String, String>();
+        String line;
+        while ((line = connection.readLine()) != null && line.length() != 0) {
+            final int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new ProtocolException("Malformed response header: " + line);
+            }
+            final String name = line.substring(0, colon).trim();
+            final String value = line.substring(colon + 1).trim();
+            final String lowerCaseName = StringUtils.lowerCase(name);
+            if (!headers.containsKey(lowerCaseName)) {
+                headers.put(lowerCaseName, value);
+                builder.header(name, value);
+            }
+        }
+        if (line == null) {
+            throw new IOException("Connection closed while reading response headers");
+        }
+        return headers;
+    }
+
+    private static int parseStatusCode(String statusLine) throws ProtocolException {
+        final int start = statusLine.indexOf(' ');
+        if (!statusLine.startsWith("HTTP/") || start == -1
+                || statusLine.length() < start + 1 + STATUS_CODE_LENGTH) {
+            throw new ProtocolException("Malformed status line: " + statusLine);
+        }
+        try {
+            return Integer.parseInt(statusLine.substring(start + 1,
+                    start + 1 + STATUS_CODE_LENGTH));
+        } catch (final NumberFormatException e) {
+            throw new ProtocolException("Malformed status line: " + statusLine);
+        }
+    }
+
+    private static void appendHeader(StringBuilder head, String key, String value) {
+        head.append(key).append(": ").append(value == null ? "" : value).append(CRLF);
+    }
+
+    private SSLSocketFactory getSslSocketFactory() {
+        SSLSocketFactory factory = sslSocketFactory;
+        if (factory == null) {
+            synchronized (this) {
+                factory = sslSocketFactory;
+                if (factory == null) {
+                    factory = createSslSocketFactory();
+                    sslSocketFactory = factory;
+                }
+            }
+        }
+        return factory;
+    }
+
+    private SSLSocketFactory createSslSocketFactory() {
+        if (config.getTrustManager() == null) {
+            return HttpsURLConnection.getDefaultSSLSocketFactory();
+        }
+        try {
+            final SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, new TrustManager[] {
+                    config.getTrustManager()
+            }, null);
+            return context.getSocketFactory();
+        } catch (final GeneralSecurityException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (final IOException e) {
+            log.debug("Failed to close socket", e);
+        }
+    }
+
+    /**
+     * Writes the request body with chunked transfer encoding.
+     */
+    private static final class ChunkedOutputStream extends FilterOutputStream {
+        private static final byte[] CRLF_BYTES = CRLF.getBytes(StringUtils.UTF8);
+        private static final byte[] LAST_CHUNK = ("0" + CRLF + CRLF).getBytes(StringUtils.UTF8);
+
+        ChunkedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {
+                    (byte) b
+            }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            out.write((Integer.toHexString(len) + CRLF).getBytes(StringUtils.UTF8));
+            out.write(b, off, len);
+            out.write(CRLF_BYTES);
+        }
+
+        void finish() throws IOException {
+            out.write(LAST_CHUNK);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import com.amazonaws.Request;
+import com.amazonaws.util.RequestContentOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses the bodies of requests with gzip before they are signed.
+ * <p>
+ * Only bodies held in memory are compressed. They are deflated in chunks
+ * straight into the new body, whose hash is computed as it is written, so
+ * the signer doesn't read it again.
+ *
+ * @see com.amazonaws.ClientConfiguration#setCompressRequests(boolean)
+ */
+final class RequestCompressor {
+
+    static final String CONTENT_ENCODING = "Content-Encoding";
+    static final String GZIP = "gzip";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    /** Expected size of the compressed body relative to the original. */
+    private static final int EXPECTED_RATIO = 4;
+
+    private RequestCompressor() {
+    }
+
+    /**
+     * Replaces the body of the request with its gzip encoding, if it is held
+     * in memory, is at least threshold bytes long, has no Content-Encoding
+     * yet and gets smaller.
+     *
+     * @param request the request.
+     * @param threshold the smallest body that is compressed, in bytes.
+     * @return true if the body was compressed.
+     * @throws IOException if the body can't be read.
+     */
+    static boolean compress(Request<?> request, int threshold) throws IOException {
+        final InputStream content = request.getContent();
+        if (!(content instanceof ByteArrayInputStream)
+                || request.getHeaders().containsKey(CONTENT_ENCODING)) {
+            return false;
+        }
+        final int length = content.available();
+        if (length < threshold || length == 0) {
+            return false;
+        }
+
+        final RequestContentOutputStream compressed = new RequestContentOutputStream(
+                Math.max(BUFFER_SIZE, length / EXPECTED_RATIO));
+        content.mark(length);
+        final byte[] buffer = new byte[Math.min(BUFFER_SIZE, length)];
+        final GZIPOutputStream gzip = new GZIPOutputStream(compressed, buffer.length);
+        try {
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                gzip.write(buffer, 0, read);
+            }
+            gzip.finish();
+        } finally {
+            gzip.close();
+        }
+        if (compressed.size() >= length) {
+            // Not worth it; send the body as it is.
+            content.reset();
+            return false;
+        }
+        compressed.setRequestContent(request);
+        request.addHeader(CONTENT_ENCODING, GZIP);
+        return true;
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.Request;
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import com.amazonaws.metrics.LatencyHistogram;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends a second copy of an idempotent request that is slower than most
+ * requests of its operation, and takes the first of the two responses.
+ * <p>
+ * The delay before the copy is sent is a percentile of the latencies of the
+ * operation, re-estimated every {@link #WINDOW} requests; requests are not
+ * hedged until the first estimate. Only requests whose content, if any, can
+ * be buffered are hedged.
+ *
+ * @see ClientConfiguration#setUseHedgedRequests(boolean)
+ */
+class RequestHedger {
+    private static final Log log = LogFactory.getLog(RequestHedger.class);
+
+    /** The number of latencies in each estimate of the delay. */
+    static final int WINDOW = 100;
+
+    /** The largest request content that is copied for a hedged request. */
+    static final int MAX_CONTENT_LENGTH = 64 * 1024;
+
+    private static final String REQUEST_SUFFIX = "Request";
+    private static final String UNKNOWN_OPERATION = "Unknown";
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Runs the attempts of hedged requests. The calling thread waits for
+     * them, so the threads are not taken from a bounded pool, where hedged
+     * requests made from its own threads could wait on each other forever.
+     */
+    private static final ExecutorService EXECUTOR = Executors
+            .newCachedThreadPool(new ThreadFactory() {
+                private final AtomicInteger threadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r,
+                            "AmazonHttpClientHedge-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    private final double percentile;
+    private final Set<String> idempotentOperations;
+    private final ConcurrentMap<String, OperationLatency> latencies =
+            new ConcurrentHashMap<String, OperationLatency>();
+
+    RequestHedger(ClientConfiguration config) {
+        this.percentile = config.getHedgedRequestPercentile();
+        this.idempotentOperations = config.getIdempotentOperations();
+    }
+
+    /**
+     * Sends the request, and a copy of it if it is idempotent and the first
+     * response is slow.
+     *
+     * @param httpClient the client sending the requests.
+     * @param request the request.
+     * @param httpRequest the signed HTTP request.
+     * @return the first response.
+     * @throws IOException if all the attempts failed.
+     */
+    HttpResponse execute(HttpClient httpClient, Request<?> request, HttpRequest httpRequest)
+            throws IOException {
+        final String operationName = operationNameOf(request.getOriginalRequest());
+        final HttpMethodName method = request.getHttpMethod();
+        final boolean idempotent = method == HttpMethodName.GET
+                || method == HttpMethodName.HEAD
+                || idempotentOperations.contains(operationName);
+        if (!idempotent || httpRequest.isStreaming()) {
+            return httpClient.execute(httpRequest);
+        }
+
+        final OperationLatency latency = latencyOf(operationName);
+        final long delayNanos = latency.getDelayNanos();
+        final byte[] content = delayNanos < 0 ? null : bufferContent(httpRequest);
+        if (content == null) {
+            // Not hedged, but its latency still counts.
+            final long start = System.nanoTime();
+            final HttpResponse response = httpClient.execute(httpRequest);
+            latency.record(System.nanoTime() - start);
+            return response;
+        }
+
+        final HedgedCall call = new HedgedCall(httpClient);
+        try {
+            call.start(httpRequest, latency);
+            if (!call.await(delayNanos)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Hedging " + operationName + " request after "
+                            + delayNanos / NANOS_PER_MILLI + " ms");
+                }
+                call.start(copyOf(httpRequest, content), null);
+                call.await(Long.MAX_VALUE);
+            }
+        } catch (final InterruptedException e) {
+            call.cancel();
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        }
+        return call.getResponse();
+    }
+
+    private OperationLatency latencyOf(String operationName) {
+        OperationLatency latency = latencies.get(operationName);
+        if (latency == null) {
+            latency = new OperationLatency();
+            final OperationLatency existing = latencies.putIfAbsent(operationName, latency);
+            if (existing != null) {
+                latency = existing;
+            }
+        }
+        return latency;
+    }
+
+    static String operationNameOf(AmazonWebServiceRequest originalRequest) {
+        if (originalRequest == null) {
+            return UNKNOWN_OPERATION;
+        }
+        final String name = originalRequest.getClass().getSimpleName();
+        if (name.endsWith(REQUEST_SUFFIX) && name.length() > REQUEST_SUFFIX.length()) {
+            return name.substring(0, name.length() - REQUEST_SUFFIX.length());
+        }
+        return name;
+    }
+
+    /**
+     * Reads the content of the request so it can be sent twice, and rewinds
+     * it. Only in-memory content is read, so the marks the retries rely on
+     * are left alone.
+     *
+     * @return the content, or null if it can't be buffered.
+     */
+    private static byte[] bufferContent(HttpRequest httpRequest) throws IOException {
+        final InputStream content = httpRequest.getContent();
+        if (content == null) {
+            return new byte[0];
+        }
+        if (!(content instanceof ByteArrayInputStream)
+                || content.available() > MAX_CONTENT_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = new byte[content.available()];
+        content.mark(bytes.length);
+        try {
+            int offset = 0;
+            int read;
+            while (offset < bytes.length
+                    && (read = content.read(bytes, offset, bytes.length - offset)) != -1) {
+                offset += read;
+            }
+        } finally {
+            content.reset();
+        }
+        return bytes;
+    }
+
+    private static HttpRequest copyOf(HttpRequest httpRequest, byte[] content) {
+        final HttpRequest copy = new HttpRequest(httpRequest.getMethod(), httpRequest.getUri(),
+                httpRequest.getHeaders(),
+                httpRequest.getContent() == null ? null : new ByteArrayInputStream(content));
+        copy.setStreaming(httpRequest.isStreaming());
+        return copy;
+    }
+
+    /**
+     * Releases the connection of a response that lost the race.
+     */
+    private static void discard(HttpResponse response) {
+        try {
+            final InputStream content = response.getRawContent();
+            if (content != null) {
+                content.close();
+            }
+        } catch (final IOException e) {
+            log.debug("Unable to close the response of a hedged request", e);
+        }
+    }
+
+    /**
+     * The recent latencies of an operation.
+     */
+    private final class OperationLatency {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile long delayNanos = -1;
+
+        /**
+         * @return the delay before a request is hedged, or -1 if not known
+         *         yet.
+         */
+        long getDelayNanos() {
+            return delayNanos;
+        }
+
+        void record(long nanos) {
+            histogram.record(nanos / NANOS_PER_MILLI);
+            if (count.incrementAndGet() % WINDOW == 0) {
+                final double millis = histogram.snapshotAndReset().getPercentile(percentile);
+                delayNanos = Math.max(1, (long) (millis * NANOS_PER_MILLI));
+            }
+        }
+    }
+
+    /**
+     * The attempts of a hedged request. The first response wins; the other
+     * attempt is cancelled, and its response discarded if it still arrives.
+     */
+    private static final class HedgedCall {
+        private final HttpClient httpClient;
+
+        // All fields below are guarded by this.
+        private final List<Future<?>> attempts = new ArrayList<Future<?>>(2);
+        private int failures;
+        private boolean done;
+        private HttpResponse response;
+        private Throwable failure;
+
+        HedgedCall(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        /**
+         * Starts an attempt.
+         *
+         * @param latency where the latency of the attempt is recorded, or
+         *            null.
+         */
+        synchronized void start(final HttpRequest httpRequest, final OperationLatency latency) {
+            if (done) {
+                return;
+            }
+            final int index = attempts.size();
+            attempts.add(EXECUTOR.submit(new Runnable() {
+                @Override
+                public void run() {
+                    final long start = System.nanoTime();
+                    try {
+                        final HttpResponse httpResponse = httpClient.execute(httpRequest);
+                        if (latency != null) {
+                            latency.record(System.nanoTime() - start);
+                        }
+                        succeeded(index, httpResponse);
+                    } catch (final Throwable t) {
+                        failed(t);
+                    }
+                }
+            }));
+        }
+
+        /**
+         * Waits until an attempt succeeds or all of them fail.
+         *
+         * @return true if done; false if the time ran out.
+         */
+        synchronized boolean await(long nanos) throws InterruptedException {
+            final long deadline = System.nanoTime() + nanos;
+            while (!done) {
+                final long remaining = nanos == Long.MAX_VALUE
+                        ? Long.MAX_VALUE : deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+
+        synchronized HttpResponse getResponse() throws IOException {
+            if (response != null) {
+                return response;
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new AmazonClientException("Unable to execute HTTP request", failure);
+        }
+
+        synchronized void cancel() {
+            done = true;
+            cancelAttempts(-1);
+        }
+
+        /**
+         * @param index the index of the attempt in attempts.
+         */
+        private synchronized void succeeded(int index, HttpResponse httpResponse) {
+            if (done) {
+                discard(httpResponse);
+                return;
+            }
+            response = httpResponse;
+            done = true;
+            // The winner is still running on this thread; don't interrupt it.
+            cancelAttempts(index);
+            notifyAll();
+        }
+
+        private synchronized void failed(Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+            if (++failures == attempts.size()) {
+                done = true;
+            }
+            notifyAll();
+        }
+
+        /**
+         * Cancels the attempts but the one at the given index, if any.
+         */
+        private void cancelAttempts(int winner) {
+            for (int i = 0; i < attempts.size(); i++) {
+                if (i != winner) {
+                    attempts.get(i).cancel(true);
+                }
+            }
+        }
+    }
+}
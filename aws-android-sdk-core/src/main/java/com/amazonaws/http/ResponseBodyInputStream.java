@@ -0,0 +1,265 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The body of a response read from a pooled {@link HttpConnection}. The
+ * connection is handed back to the pool as soon as the body has been fully
+ * read. Closing the stream early drains a small remainder so the connection
+ * can still be reused, and closes the connection otherwise.
+ */
+abstract class ResponseBodyInputStream extends InputStream {
+
+    /** The most bytes skipped on close to keep a connection reusable. */
+    private static final int DRAIN_LIMIT = 64 * 1024;
+    private static final int DRAIN_BUFFER_SIZE = 4 * 1024;
+
+    protected final HttpConnection connection;
+    protected final InputStream in;
+    private final HttpConnectionPool pool;
+    private final boolean keepAlive;
+    private final byte[] single = new byte[1];
+    private boolean released;
+
+    ResponseBodyInputStream(HttpConnectionPool pool, HttpConnection connection,
+            boolean keepAlive) {
+        this.pool = pool;
+        this.connection = connection;
+        this.in = connection.getInputStream();
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Creates a body delimited by a Content-Length header.
+     */
+    static ResponseBodyInputStream fixedLength(HttpConnectionPool pool,
+            HttpConnection connection, boolean keepAlive, long length) {
+        return new FixedLength(pool, connection, keepAlive, length);
+    }
+
+    /**
+     * Creates a body with chunked transfer encoding.
+     */
+    static ResponseBodyInputStream chunked(HttpConnectionPool pool, HttpConnection connection,
+            boolean keepAlive) {
+        return new Chunked(pool, connection, keepAlive);
+    }
+
+    /**
+     * Creates a body delimited by the server closing the connection.
+     */
+    static ResponseBodyInputStream untilClose(HttpConnectionPool pool,
+            HttpConnection connection) {
+        return new UntilClose(pool, connection);
+    }
+
+    /**
+     * Reads body bytes from the connection.
+     *
+     * @return the number of bytes read, or -1 at the end of the body.
+     */
+    protected abstract int readBody(byte[] b, int off, int len) throws IOException;
+
+    /**
+     * @return the number of body bytes that can be read without blocking.
+     */
+    protected abstract int availableBody() throws IOException;
+
+    /**
+     * @return true if the connection may carry another request once the body
+     *         has been read completely.
+     */
+    protected boolean isReusableAtEnd() {
+        return keepAlive;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int n = read(single, 0, 1);
+        return n == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (released) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+        try {
+            final int n = readBody(b, off, len);
+            if (n == -1) {
+                release(isReusableAtEnd());
+            }
+            return n;
+        } catch (final IOException e) {
+            release(false);
+            throw e;
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        return released ? 0 : availableBody();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (released) {
+            return;
+        }
+        if (!isReusableAtEnd()) {
+            release(false);
+            return;
+        }
+        final byte[] buffer = new byte[DRAIN_BUFFER_SIZE];
+        int drained = 0;
+        while (!released && drained < DRAIN_LIMIT) {
+            final int n = read(buffer, 0, buffer.length);
+            if (n == -1) {
+                return;
+            }
+            drained += n;
+        }
+        release(false);
+    }
+
+    /**
+     * Releases the connection back to the pool.
+     *
+     * @param reusable true if the connection may be reused.
+     */
+    final void release(boolean reusable) {
+        if (!released) {
+            released = true;
+            pool.release(connection, reusable);
+        }
+    }
+
+    private static final class FixedLength extends ResponseBodyInputStream {
+        private long remaining;
+
+        FixedLength(HttpConnectionPool pool, HttpConnection connection, boolean keepAlive,
+                long length) {
+            super(pool, connection, keepAlive);
+            this.remaining = length;
+        }
+
+        @Override
+        protected int readBody(byte[] b, int off, int len) throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            final int n = in.read(b, off, (int) Math.min(len, remaining));
+            if (n == -1) {
+                throw new IOException("Connection closed with " + remaining
+                        + " bytes of the response body remaining");
+            }
+            remaining -= n;
+            return n;
+        }
+
+        @Override
+        protected int availableBody() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+    }
+
+    private static final class Chunked extends ResponseBodyInputStream {
+        private static final int HEX_RADIX = 16;
+        private long chunkRemaining;
+        private boolean firstChunk = true;
+        private boolean eof;
+
+        Chunked(HttpConnectionPool pool, HttpConnection connection, boolean keepAlive) {
+            super(pool, connection, keepAlive);
+        }
+
+        @Override
+        protected int readBody(byte[] b, int off, int len) throws IOException {
+            if (eof) {
+                return -1;
+            }
+            if (chunkRemaining == 0) {
+                nextChunk();
+                if (eof) {
+                    return -1;
+                }
+            }
+            final int n = in.read(b, off, (int) Math.min(len, chunkRemaining));
+            if (n == -1) {
+                throw new IOException("Connection closed in the middle of a chunk");
+            }
+            chunkRemaining -= n;
+            return n;
+        }
+
+        @Override
+        protected int availableBody() throws IOException {
+            return eof ? 0 : (int) Math.min(in.available(), chunkRemaining);
+        }
+
+        private void nextChunk() throws IOException {
+            if (!firstChunk) {
+                // CRLF terminating the previous chunk's data
+                final String crlf = connection.readLine();
+                if (crlf == null || crlf.length() != 0) {
+                    throw new IOException("Malformed chunked response body");
+                }
+            }
+            firstChunk = false;
+            final String line = connection.readLine();
+            if (line == null) {
+                throw new IOException("Connection closed before the next chunk");
+            }
+            final int extension = line.indexOf(';');
+            final String size = (extension == -1 ? line : line.substring(0, extension)).trim();
+            try {
+                chunkRemaining = Long.parseLong(size, HEX_RADIX);
+            } catch (final NumberFormatException e) {
+                throw new IOException("Invalid chunk size: " + line);
+            }
+            if (chunkRemaining == 0) {
+                // Skip the trailer headers, if any.
+                String trailer;
+                do {
+                    trailer = connection.readLine();
+                } while (trailer != null && trailer.length() != 0);
+                eof = true;
+            }
+        }
+    }
+
+    private static final class UntilClose extends ResponseBodyInputStream {
+        UntilClose(HttpConnectionPool pool, HttpConnection connection) {
+            super(pool, connection, false);
+        }
+
+        @Override
+        protected int readBody(byte[] b, int off, int len) throws IOException {
+            return in.read(b, off, len);
+        }
+
+        @Override
+        protected int availableBody() throws IOException {
+            return in.available();
+        }
+    }
+}
@@ -260,6 +260,10 @@ public class UrlHttpClient implements HttpClient {
         // disable redirect and cache
         connection.setInstanceFollowRedirects(false);
         connection.setUseCaches(false);
+        // the platform pools persistent connections unless told otherwise
+        if (!config.isConnectionKeepAlive()) {
+            connection.setRequestProperty("Connection", "close");
+        }
         // is streaming
         if (request.isStreaming()) {
             connection.setChunkedStreamingMode(0);
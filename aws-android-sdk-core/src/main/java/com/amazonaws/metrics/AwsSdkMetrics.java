@@ -31,10 +31,13 @@ import com.amazonaws.logging.LogFactory;
 import java.io.File;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Used to control the default AWS SDK metric collection system.
@@ -300,6 +303,8 @@ public enum AwsSdkMetrics {
     }
 
     private static final MetricRegistry REGISTRY = new MetricRegistry();
+    private static final Set<ConnectionPoolStatsProvider> CONNECTION_POOLS =
+            new CopyOnWriteArraySet<ConnectionPoolStatsProvider>();
     private static volatile MetricCollector mc;
     /**
      * Used to disallow re-entrancy in enabling the default metric collection
@@ -562,6 +567,40 @@ public enum AwsSdkMetrics {
         return REGISTRY.predefinedMetrics();
     }
 
+    /**
+     * Registers a connection pool whose statistics are to be reported by
+     * {@link #getConnectionPoolStats()}.
+     *
+     * @param pool the connection pool statistics provider.
+     * @return true if the pool has been registered; false if it was already
+     *         registered.
+     */
+    public static boolean registerConnectionPool(ConnectionPoolStatsProvider pool) {
+        return pool == null ? false : CONNECTION_POOLS.add(pool);
+    }
+
+    /**
+     * Removes a previously registered connection pool.
+     *
+     * @param pool the connection pool statistics provider.
+     * @return true if the pool has been removed; false otherwise.
+     */
+    public static boolean unregisterConnectionPool(ConnectionPoolStatsProvider pool) {
+        return pool == null ? false : CONNECTION_POOLS.remove(pool);
+    }
+
+    /**
+     * @return a snapshot of the per-host statistics of every registered
+     * connection pool.
+     */
+    public static List<ConnectionPoolStats> getConnectionPoolStats() {
+        final List<ConnectionPoolStats> stats = new ArrayList<ConnectionPoolStats>();
+        for (final ConnectionPoolStatsProvider pool : CONNECTION_POOLS) {
+            stats.addAll(pool.getConnectionPoolStats());
+        }
+        return stats;
+    }
+
     /**
      * @return the credential provider for the default AWS SDK metric
      * implementation. This method is restricted to calls from the default AWS
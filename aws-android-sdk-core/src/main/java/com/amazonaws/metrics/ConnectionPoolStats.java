@@ -0,0 +1,145 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+/**
+ * An immutable, point-in-time snapshot of the persistent connections an HTTP
+ * client keeps for a single host.
+ */
+public final class ConnectionPoolStats {
+    private final String host;
+    private final int port;
+    private final boolean secure;
+    private final int maxConnections;
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final long created;
+    private final long reused;
+    private final long evicted;
+
+    /**
+     * Constructor.
+     *
+     * @param host the host the connections are made to.
+     * @param port the port the connections are made to.
+     * @param secure true if the connections use TLS.
+     * @param maxConnections the maximum number of connections to the host.
+     * @param leased the number of connections currently executing requests.
+     * @param available the number of idle connections ready to be reused.
+     * @param pending the number of requests waiting for a connection.
+     * @param created the total number of connections opened.
+     * @param reused the total number of times an idle connection was reused.
+     * @param evicted the total number of idle or stale connections closed.
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    public ConnectionPoolStats(String host, int port, boolean secure, int maxConnections,
+            int leased, int available, int pending, long created, long reused, long evicted) {
+        this.host = host;
+        this.port = port;
+        this.secure = secure;
+        this.maxConnections = maxConnections;
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.created = created;
+        this.reused = reused;
+        this.evicted = evicted;
+    }
+
+    /**
+     * @return the host the connections are made to.
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return the port the connections are made to.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * @return true if the connections use TLS.
+     */
+    public boolean isSecure() {
+        return secure;
+    }
+
+    /**
+     * @return the maximum number of connections to the host.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * @return the number of connections currently executing requests.
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return the number of idle connections ready to be reused.
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * @return the number of requests blocked waiting for a connection.
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * @return the total number of connections opened to the host.
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * @return the total number of times an idle connection was reused.
+     */
+    public long getReused() {
+        return reused;
+    }
+
+    /**
+     * @return the total number of idle or stale connections closed by the
+     *         pool.
+     */
+    public long getEvicted() {
+        return evicted;
+    }
+
+    @Override
+    public String toString() {
+        return (secure ? "https://" : "http://") + host + ":" + port
+                + " [max=" + maxConnections
+                + ", leased=" + leased
+                + ", available=" + available
+                + ", pending=" + pending
+                + ", created=" + created
+                + ", reused=" + reused
+                + ", evicted=" + evicted + "]";
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import java.util.List;
+
+/**
+ * Connection pool statistics provider. HTTP clients that pool connections
+ * register themselves with {@link AwsSdkMetrics} so their statistics can be
+ * retrieved via {@link AwsSdkMetrics#getConnectionPoolStats()}.
+ */
+public interface ConnectionPoolStatsProvider {
+
+    /**
+     * @return a snapshot of the statistics of every per-host pool.
+     */
+    List<ConnectionPoolStats> getConnectionPoolStats();
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+import com.amazonaws.util.TimingInfo;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A request metric collector that aggregates the timings of every request into
+ * a {@link LatencyHistogram} per service, operation and timing, e.g. the
+ * HttpRequestTime of DynamoDB GetItem requests. Nothing leaves the process;
+ * the histograms are read with {@link #snapshot()} or
+ * {@link #snapshotAndReset()}.
+ * <p>
+ * Clients only record timings when a request metric collector is in use, so
+ * register this collector with
+ * {@link AwsSdkMetrics#setMetricCollector(MetricCollector)} or on a client.
+ */
+public class HistogramRequestMetricCollector extends RequestMetricCollector {
+
+    /** Operation name used when a request has no original request. */
+    static final String UNKNOWN_OPERATION = "Unknown";
+
+    private static final String REQUEST_SUFFIX = "Request";
+
+    /** The timings recorded by the runtime for every request. */
+    private static final Field[] DEFAULT_TIMINGS = {
+            Field.ClientExecuteTime,
+            Field.CredentialsRequestTime,
+            Field.HttpRequestTime,
+            Field.HttpClientSendRequestTime,
+            Field.HttpClientReceiveResponseTime,
+            Field.RequestMarshallTime,
+            Field.RequestSigningTime,
+            Field.ResponseProcessingTime,
+            Field.RetryPauseTime
+    };
+
+    private final Field[] timings;
+
+    private final ConcurrentMap<Key, LatencyHistogram> histograms =
+            new ConcurrentHashMap<Key, LatencyHistogram>();
+
+    /**
+     * Operation names by request class, so the name is only derived once per
+     * type of request.
+     */
+    private final ConcurrentMap<Class<?>, String> operationNames =
+            new ConcurrentHashMap<Class<?>, String>();
+
+    /**
+     * Creates a collector of ClientExecuteTime, CredentialsRequestTime,
+     * HttpRequestTime, HttpClientSendRequestTime,
+     * HttpClientReceiveResponseTime, RequestMarshallTime, RequestSigningTime,
+     * ResponseProcessingTime and RetryPauseTime.
+     */
+    public HistogramRequestMetricCollector() {
+        this(DEFAULT_TIMINGS);
+    }
+
+    /**
+     * @param timings the timings to collect.
+     */
+    public HistogramRequestMetricCollector(Field... timings) {
+        if (timings == null) {
+            throw new IllegalArgumentException("timings cannot be null");
+        }
+        this.timings = timings.clone();
+    }
+
+    @Override
+    public void collectMetrics(Request<?> request, Response<?> response) {
+        final AWSRequestMetrics metrics = request.getAWSRequestMetrics();
+        if (metrics == null || !metrics.isEnabled()) {
+            return;
+        }
+        final String serviceName = request.getServiceName();
+        final String operationName = operationNameOf(request.getOriginalRequest());
+        if (metrics instanceof AWSRequestMetricsFullSupport) {
+            collectEvents((AWSRequestMetricsFullSupport) metrics, serviceName, operationName);
+            return;
+        }
+
+        final TimingInfo timingInfo = metrics.getTimingInfo();
+        for (final Field field : timings) {
+            final List<TimingInfo> measurements = timingInfo.getAllSubMeasurements(field.name());
+            if (measurements == null || measurements.isEmpty()) {
+                continue;
+            }
+            final LatencyHistogram histogram = histogramFor(
+                    new Key(serviceName, operationName, field));
+            for (final TimingInfo timing : measurements) {
+                final Double millis = timing.getTimeTakenMillisIfKnown();
+                if (millis != null) {
+                    histogram.record(millis);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the timings without creating a {@link TimingInfo} per
+     * measurement.
+     */
+    private void collectEvents(AWSRequestMetricsFullSupport metrics, String serviceName,
+            String operationName) {
+        for (final Field field : timings) {
+            final int count = metrics.getEventCount(field);
+            if (count == 0) {
+                continue;
+            }
+            final LatencyHistogram histogram = histogramFor(
+                    new Key(serviceName, operationName, field));
+            for (int i = 0; i < count; i++) {
+                histogram.record(metrics.getEventTimeTakenMillis(field, i));
+            }
+        }
+    }
+
+    /**
+     * @return the latencies collected so far by service, operation and
+     *         timing.
+     */
+    public Map<Key, LatencyHistogram.Snapshot> snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Takes the latencies collected so far and starts a new interval, e.g. to
+     * publish the latencies of every minute.
+     *
+     * @return the latencies collected since the last reset by service,
+     *         operation and timing; keys without new latencies are left out.
+     */
+    public Map<Key, LatencyHistogram.Snapshot> snapshotAndReset() {
+        return snapshot(true);
+    }
+
+    private Map<Key, LatencyHistogram.Snapshot> snapshot(boolean reset) {
+        final Map<Key, LatencyHistogram.Snapshot> snapshots =
+                new HashMap<Key, LatencyHistogram.Snapshot>();
+        for (final Map.Entry<Key, LatencyHistogram> entry : histograms.entrySet()) {
+            final LatencyHistogram.Snapshot snapshot = reset
+                    ? entry.getValue().snapshotAndReset()
+                    : entry.getValue().snapshot();
+            if (snapshot.getCount() > 0) {
+                snapshots.put(entry.getKey(), snapshot);
+            }
+        }
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    private LatencyHistogram histogramFor(Key key) {
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            histogram = new LatencyHistogram();
+            final LatencyHistogram existing = histograms.putIfAbsent(key, histogram);
+            if (existing != null) {
+                histogram = existing;
+            }
+        }
+        return histogram;
+    }
+
+    private String operationNameOf(AmazonWebServiceRequest originalRequest) {
+        if (originalRequest == null) {
+            return UNKNOWN_OPERATION;
+        }
+        final Class<?> type = originalRequest.getClass();
+        String name = operationNames.get(type);
+        if (name == null) {
+            name = type.getSimpleName();
+            if (name.endsWith(REQUEST_SUFFIX) && name.length() > REQUEST_SUFFIX.length()) {
+                name = name.substring(0, name.length() - REQUEST_SUFFIX.length());
+            }
+            operationNames.putIfAbsent(type, name);
+        }
+        return name;
+    }
+
+    /**
+     * Identifies the histogram of a timing of an operation.
+     */
+    public static final class Key {
+        private final String serviceName;
+        private final String operationName;
+        private final MetricType metricType;
+
+        /**
+         * @param serviceName the service name, e.g. AmazonDynamoDB.
+         * @param operationName the operation name, e.g. GetItem.
+         * @param metricType the timing, e.g. {@link Field#HttpRequestTime}.
+         */
+        public Key(String serviceName, String operationName, MetricType metricType) {
+            this.serviceName = serviceName;
+            this.operationName = operationName;
+            this.metricType = metricType;
+        }
+
+        /** @return the service name. */
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        /** @return the operation name. */
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /** @return the timing. */
+        public MetricType getMetricType() {
+            return metricType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return equal(serviceName, other.serviceName)
+                    && equal(operationName, other.operationName)
+                    && equal(metricType, other.metricType);
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int hash = serviceName == null ? 0 : serviceName.hashCode();
+            hash = prime * hash + (operationName == null ? 0 : operationName.hashCode());
+            hash = prime * hash + (metricType == null ? 0 : metricType.hashCode());
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return serviceName + "." + operationName + "." + metricType.name();
+        }
+
+        private static boolean equal(Object a, Object b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in milliseconds that can be recorded from many
+ * threads without locking.
+ * <p>
+ * Latencies are counted in microsecond buckets laid out log-linearly: every
+ * power of two is split into eight equal buckets, so an estimated percentile
+ * is within about 6% of the recorded value. Counts are striped over a few
+ * arrays by thread to keep concurrent recorders off the same cache lines.
+ */
+public final class LatencyHistogram {
+
+    /** Each power of two is split into 2^SUB_BUCKET_BITS buckets. */
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Latencies up to 2^MAX_EXPONENT microseconds, about 9.5 hours, have their
+     * own buckets; longer ones are counted in the last bucket.
+     */
+    private static final int MAX_EXPONENT = 35;
+
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    /** The slot after the buckets of a stripe holds the sum of its values. */
+    private static final int SUM_SLOT = BUCKET_COUNT;
+
+    private static final int MAX_STRIPES = 4;
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double PERCENT = 100.0;
+    private static final int LONG_BITS = 64;
+
+    private final AtomicLongArray[] stripes;
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        final int processors = Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors());
+        int stripeCount = 1;
+        while (stripeCount < processors) {
+            stripeCount <<= 1;
+        }
+        stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicLongArray(BUCKET_COUNT + 1);
+        }
+    }
+
+    /**
+     * Records a latency. Negative and NaN values are ignored.
+     *
+     * @param millis the latency in milliseconds.
+     */
+    public void record(double millis) {
+        if (!(millis >= 0)) {
+            return;
+        }
+        final long micros = (long) (millis * MICROS_PER_MILLI);
+        final AtomicLongArray stripe = stripes[(int) Thread.currentThread().getId()
+                & (stripes.length - 1)];
+        stripe.incrementAndGet(bucketIndex(micros));
+        stripe.addAndGet(SUM_SLOT, micros);
+
+        long current = min.get();
+        while (micros < current && !min.compareAndSet(current, micros)) {
+            current = min.get();
+        }
+        current = max.get();
+        while (micros > current && !max.compareAndSet(current, micros)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * @return the latencies recorded so far.
+     */
+    public Snapshot snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Takes the latencies recorded so far and empties the histogram, e.g. to
+     * publish the latencies of fixed intervals. Latencies recorded while the
+     * snapshot is taken count towards either this snapshot or the next one.
+     *
+     * @return the latencies recorded since the last reset.
+     */
+    public Snapshot snapshotAndReset() {
+        return snapshot(true);
+    }
+
+    private Snapshot snapshot(boolean reset) {
+        final long[] counts = new long[BUCKET_COUNT];
+        long sum = 0;
+        for (final AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += reset ? stripe.getAndSet(i, 0) : stripe.get(i);
+            }
+            sum += reset ? stripe.getAndSet(SUM_SLOT, 0) : stripe.get(SUM_SLOT);
+        }
+        final long minimum = reset ? min.getAndSet(Long.MAX_VALUE) : min.get();
+        final long maximum = reset ? max.getAndSet(Long.MIN_VALUE) : max.get();
+        return new Snapshot(counts, sum, minimum, maximum);
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        final int exponent = LONG_BITS - 1 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * An immutable view of the latencies in a histogram.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        Snapshot(long[] counts, long sum, long min, long max) {
+            long total = 0;
+            for (final long c : counts) {
+                total += c;
+            }
+            this.counts = counts;
+            this.count = total;
+            this.sum = sum;
+            this.min = total == 0 ? 0 : min;
+            this.max = total == 0 ? 0 : max;
+        }
+
+        /** @return the number of latencies recorded. */
+        public long getCount() {
+            return count;
+        }
+
+        /** @return the sum of the latencies in milliseconds. */
+        public double getSum() {
+            return sum / MICROS_PER_MILLI;
+        }
+
+        /** @return the mean latency in milliseconds, 0 if none was recorded. */
+        public double getMean() {
+            return count == 0 ? 0 : getSum() / count;
+        }
+
+        /** @return the lowest latency in milliseconds, 0 if none was recorded. */
+        public double getMinimum() {
+            return min / MICROS_PER_MILLI;
+        }
+
+        /** @return the highest latency in milliseconds, 0 if none was recorded. */
+        public double getMaximum() {
+            return max / MICROS_PER_MILLI;
+        }
+
+        /**
+         * Estimates a percentile from the bucket it falls in.
+         *
+         * @param percentile the percentile, between 0 and 100.
+         * @return the estimated latency in milliseconds, 0 if none was
+         *         recorded.
+         */
+        public double getPercentile(double percentile) {
+            if (percentile < 0 || percentile > PERCENT) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / PERCENT * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    final long lower = bucketLowerBound(i);
+                    final long upper = i + 1 < counts.length ? bucketLowerBound(i + 1) - 1 : max;
+                    final long estimate = Math.min(max, Math.max(min, lower + (upper - lower) / 2));
+                    return estimate / MICROS_PER_MILLI;
+                }
+            }
+            return getMaximum();
+        }
+    }
+}
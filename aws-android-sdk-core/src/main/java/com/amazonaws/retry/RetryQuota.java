@@ -0,0 +1,266 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the retries of all the requests of a client, so that a client
+ * doesn't multiply its load on a service that is already failing.
+ * <p>
+ * Retries are paid for from a bucket of tokens: a retry costs
+ * {@value #RETRY_COST} tokens, or {@value #TIMEOUT_RETRY_COST} after an
+ * I/O error, and a request that succeeds gives tokens back. When the bucket
+ * is empty, failed requests are not retried until enough requests succeed.
+ * <p>
+ * Throttling errors also lower the rate at which requests are sent: the rate
+ * is cut to {@value #RATE_DECREASE_FACTOR} of the rate observed when
+ * throttled, then raised a little with every success, until it is well above
+ * the observed rate and the limit is lifted.
+ *
+ * @see ClientConfiguration#setUseRetryQuota(boolean)
+ */
+public class RetryQuota {
+
+    /** The default number of tokens in the bucket. */
+    public static final int DEFAULT_CAPACITY = 500;
+
+    /** Tokens taken by a retry after a service error. */
+    public static final int RETRY_COST = 5;
+
+    /** Tokens taken by a retry after an I/O error, e.g. a timeout. */
+    public static final int TIMEOUT_RETRY_COST = 10;
+
+    /** Tokens given back by a request that succeeds without retries. */
+    public static final int NO_RETRY_INCREMENT = 1;
+
+    /** Part of the send rate kept after a throttling error. */
+    static final double RATE_DECREASE_FACTOR = 0.7;
+
+    /**
+     * Part of the rate at the last throttling error added with every
+     * success.
+     */
+    static final double RATE_INCREASE_FACTOR = 0.05;
+
+    /** The send rate limit is lifted above this multiple of that rate. */
+    static final double RATE_LIMIT_LIFT_FACTOR = 2;
+
+    /** The lowest send rate, in requests per second. */
+    static final double MIN_SEND_RATE = 0.5;
+
+    /** The period over which the send rate is measured. */
+    private static final long MEASURE_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /** Weight of the last period in the measured send rate. */
+    private static final double MEASURE_SMOOTHING = 0.8;
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int capacity;
+
+    // All fields below are guarded by this.
+    private int availableTokens;
+
+    /** Measured requests per second, smoothed over periods. */
+    private double measuredSendRate;
+    private long measureStartNanos;
+    private int sentInPeriod;
+
+    private boolean sendRateLimited;
+    private double sendRate;
+    private double rateWhenThrottled;
+    private double sendTokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a quota of {@link #DEFAULT_CAPACITY} tokens.
+     */
+    public RetryQuota() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of tokens in the bucket.
+     */
+    public RetryQuota(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        this.availableTokens = capacity;
+        this.measureStartNanos = nanoTime();
+    }
+
+    /**
+     * Waits until a request may be sent under the current send rate. Returns
+     * immediately unless throttling errors have been seen recently.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void acquireSendPermit() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquireSendPermit()) > 0) {
+            sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a permit to send a request if one is available, without waiting.
+     *
+     * @return 0 if the permit was taken; otherwise the nanoseconds to wait
+     *         before trying again.
+     */
+    public synchronized long tryAcquireSendPermit() {
+        final long now = nanoTime();
+        if (!sendRateLimited) {
+            countSent(now);
+            return 0;
+        }
+        refillSendTokens(now);
+        if (sendTokens >= 1) {
+            sendTokens -= 1;
+            countSent(now);
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - sendTokens) / sendRate * NANOS_PER_SECOND));
+    }
+
+    /**
+     * Takes the tokens of a retry.
+     *
+     * @param exception the error of the failed attempt.
+     * @return true if the request may be retried; false if the quota is
+     *         exhausted.
+     */
+    public synchronized boolean acquireRetry(AmazonClientException exception) {
+        final int cost = exception instanceof AmazonServiceException
+                ? RETRY_COST : TIMEOUT_RETRY_COST;
+        if (availableTokens < cost) {
+            return false;
+        }
+        availableTokens -= cost;
+        return true;
+    }
+
+    /**
+     * Records a failed attempt, lowering the send rate if the service
+     * throttled it.
+     *
+     * @param exception the error of the failed attempt.
+     */
+    public void onError(AmazonClientException exception) {
+        if (!(exception instanceof AmazonServiceException)
+                || !RetryUtils.isThrottlingException((AmazonServiceException) exception)) {
+            return;
+        }
+        synchronized (this) {
+            final long now = nanoTime();
+            if (sendRateLimited) {
+                refillSendTokens(now);
+                rateWhenThrottled = sendRate;
+            } else {
+                rateWhenThrottled = Math.max(MIN_SEND_RATE, observedSendRate(now));
+                sendRateLimited = true;
+                sendTokens = 1;
+                lastRefillNanos = now;
+            }
+            sendRate = Math.max(MIN_SEND_RATE, rateWhenThrottled * RATE_DECREASE_FACTOR);
+        }
+    }
+
+    /**
+     * Records a successful request, giving tokens back and raising the send
+     * rate.
+     *
+     * @param retried whether the request was retried before it succeeded.
+     */
+    public synchronized void onSuccess(boolean retried) {
+        availableTokens = Math.min(capacity,
+                availableTokens + (retried ? RETRY_COST : NO_RETRY_INCREMENT));
+        if (sendRateLimited) {
+            refillSendTokens(nanoTime());
+            sendRate += rateWhenThrottled * RATE_INCREASE_FACTOR;
+            if (sendRate >= rateWhenThrottled * RATE_LIMIT_LIFT_FACTOR) {
+                sendRateLimited = false;
+            }
+        }
+    }
+
+    /**
+     * @return the number of tokens left for retries.
+     */
+    public synchronized int getAvailableTokens() {
+        return availableTokens;
+    }
+
+    /**
+     * @return the current send rate limit in requests per second, or
+     *         {@link Double#POSITIVE_INFINITY} if requests are not limited.
+     */
+    public synchronized double getSendRate() {
+        return sendRateLimited ? sendRate : Double.POSITIVE_INFINITY;
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    void sleep(long nanos) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+    }
+
+    private void refillSendTokens(long now) {
+        // At most one second of requests can be sent in a burst.
+        final double burst = Math.max(1, sendRate);
+        sendTokens = Math.min(burst,
+                sendTokens + (now - lastRefillNanos) / NANOS_PER_SECOND * sendRate);
+        lastRefillNanos = now;
+    }
+
+    private void countSent(long now) {
+        updateMeasuredSendRate(now);
+        sentInPeriod++;
+    }
+
+    /**
+     * The measured send rate, or the rate of the current period if higher, so
+     * a burst throttled before a period ends is not mistaken for idleness.
+     */
+    private double observedSendRate(long now) {
+        final long elapsed = now - measureStartNanos;
+        if (elapsed <= 0) {
+            return measuredSendRate;
+        }
+        return Math.max(measuredSendRate, sentInPeriod / (elapsed / NANOS_PER_SECOND));
+    }
+
+    private void updateMeasuredSendRate(long now) {
+        final long elapsed = now - measureStartNanos;
+        if (elapsed < MEASURE_PERIOD_NANOS) {
+            return;
+        }
+        final double rate = sentInPeriod / (elapsed / NANOS_PER_SECOND);
+        measuredSendRate = MEASURE_SMOOTHING * rate
+                + (1 - MEASURE_SMOOTHING) * measuredSendRate;
+        measureStartNanos = now;
+        sentInPeriod = 0;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.transform;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the field names of a JSON structure to their position in a fixed list,
+ * so unmarshallers can dispatch on a field with a {@code switch} rather than a
+ * chain of {@code equals} comparisons. The names are laid out in a table by a
+ * perfect hash found when the index is built, so a lookup costs a single
+ * multiplication and at most one string comparison.
+ * <p>
+ * Instances are immutable and thread safe; unmarshallers keep one in a static
+ * field.
+ */
+public final class FieldNameIndex {
+
+    /** Returned by {@link #indexOf(String)} for an unknown field. */
+    public static final int UNKNOWN_FIELD = -1;
+
+    /** The table may grow up to 2^5 times the number of fields. */
+    private static final int MAX_EXTRA_TABLE_BITS = 5;
+    private static final int MULTIPLIER_ATTEMPTS = 64;
+    private static final int INITIAL_MULTIPLIER = 0x9E3779B9;
+    private static final int MULTIPLIER_STEP = 0x6C8E9CF5;
+    private static final int INT_BITS = 32;
+
+    private final String[] names;
+    private final int[] indexes;
+    private final int multiplier;
+    private final int shift;
+
+    /**
+     * Used when no perfect hash exists, i.e. two names have equal hash codes.
+     */
+    private final Map<String, Integer> fallback;
+
+    /**
+     * Builds an index of the given field names.
+     *
+     * @param fieldNames the field names; {@link #indexOf(String)} returns the
+     *            position of a name in this list.
+     * @throws IllegalArgumentException if a name is null or repeated.
+     */
+    public FieldNameIndex(String... fieldNames) {
+        final Map<String, Integer> positions = new HashMap<String, Integer>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (fieldNames[i] == null) {
+                throw new IllegalArgumentException("Field names can't be null");
+            }
+            if (positions.put(fieldNames[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate field name: " + fieldNames[i]);
+            }
+        }
+
+        int minBits = 1;
+        while ((1 << minBits) < fieldNames.length) {
+            minBits++;
+        }
+        int[] table = null;
+        int candidate = INITIAL_MULTIPLIER;
+        int bits = minBits;
+        search:
+        for (; bits <= minBits + MAX_EXTRA_TABLE_BITS; bits++) {
+            candidate = INITIAL_MULTIPLIER;
+            for (int attempt = 0; attempt < MULTIPLIER_ATTEMPTS; attempt++) {
+                table = layout(fieldNames, candidate, INT_BITS - bits);
+                if (table != null) {
+                    break search;
+                }
+                // Odd multipliers keep every bit of the hash code relevant.
+                candidate = candidate * MULTIPLIER_STEP + 2 | 1;
+            }
+        }
+
+        if (table == null) {
+            this.multiplier = 0;
+            this.shift = 0;
+            this.names = null;
+            this.indexes = null;
+            this.fallback = positions;
+        } else {
+            this.multiplier = candidate;
+            this.shift = INT_BITS - bits;
+            this.names = new String[table.length];
+            this.indexes = table;
+            for (int slot = 0; slot < table.length; slot++) {
+                if (table[slot] != UNKNOWN_FIELD) {
+                    names[slot] = fieldNames[table[slot]];
+                }
+            }
+            this.fallback = null;
+        }
+    }
+
+    /**
+     * @param fieldName a field name read from the JSON document.
+     * @return the position of the name in the list the index was built from,
+     *         or {@link #UNKNOWN_FIELD} if it isn't in the list.
+     */
+    public int indexOf(String fieldName) {
+        if (names == null) {
+            final Integer index = fallback.get(fieldName);
+            return index == null ? UNKNOWN_FIELD : index;
+        }
+        final int slot = (fieldName.hashCode() * multiplier) >>> shift;
+        final String name = names[slot];
+        return name != null && name.equals(fieldName) ? indexes[slot] : UNKNOWN_FIELD;
+    }
+
+    /**
+     * @return a table of field positions indexed by slot, or null if two
+     *         names share a slot.
+     */
+    private static int[] layout(String[] fieldNames, int multiplier, int shift) {
+        final int[] table = new int[1 << (INT_BITS - shift)];
+        for (int slot = 0; slot < table.length; slot++) {
+            table[slot] = UNKNOWN_FIELD;
+        }
+        for (int i = 0; i < fieldNames.length; i++) {
+            final int slot = (fieldNames[i].hashCode() * multiplier) >>> shift;
+            if (table[slot] != UNKNOWN_FIELD) {
+                return null;
+            }
+            table[slot] = i;
+        }
+        return table;
+    }
+}
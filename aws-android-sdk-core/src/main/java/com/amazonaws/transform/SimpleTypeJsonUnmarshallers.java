@@ -17,6 +17,8 @@ package com.amazonaws.transform;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.util.Base64;
+import com.amazonaws.util.json.AwsJsonReader;
+import com.amazonaws.util.json.Utf8JsonReader;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -285,7 +287,11 @@ public class SimpleTypeJsonUnmarshallers {
             Unmarshaller<ByteBuffer, JsonUnmarshallerContext> {
         @Override
         public ByteBuffer unmarshall(JsonUnmarshallerContext unmarshallerContext) throws Exception {
-            String base64EncodedString = unmarshallerContext.getReader().nextString();
+            final AwsJsonReader reader = unmarshallerContext.getReader();
+            if (reader instanceof Utf8JsonReader) {
+                return ((Utf8JsonReader) reader).nextByteBuffer();
+            }
+            String base64EncodedString = reader.nextString();
             byte[] decodedBytes = Base64.decode(base64EncodedString);
             return ByteBuffer.wrap(decodedBytes);
 
@@ -41,11 +41,17 @@ import java.util.Map.Entry;
  */
 @Deprecated
 public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
+    private static final int FIELD_COUNT = Field.values().length;
+
     /* Stores some key value pairs. */
     private final Map<String, List<Object>> properties = new HashMap<String, List<Object>>();
 
-    /* A map to store events that are being profiled. */
-    private final Map<String, TimingInfo> eventsBeingProfiled = new HashMap<String, TimingInfo>();
+    /* The start times of the fields that are being profiled, by ordinal. */
+    private final long[] fieldStartTimeNanos = new long[FIELD_COUNT];
+    private final boolean[] fieldsBeingProfiled = new boolean[FIELD_COUNT];
+
+    /* Other events that are being profiled; created with the first one. */
+    private Map<String, TimingInfo> eventsBeingProfiled;
     /* Latency Logger */
     private static final Log LATENCY_LOGGER = LogFactory.getLog("com.amazonaws.latency");
     private static final Object KEY_VALUE_SEPARATOR = "=";
@@ -58,7 +64,7 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      * @see AWSRequestMetricsFullSupport
      */
     public AWSRequestMetricsFullSupport() {
-        super(TimingInfo.startTimingFullSupport());
+        super(new RequestTimingInfo(System.currentTimeMillis(), System.nanoTime()));
     }
 
     /**
@@ -78,6 +84,14 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     @Override
     public void startEvent(String eventName) {
+        final Field field = RequestTimingInfo.fieldOf(eventName);
+        if (field != null) {
+            startEvent(field);
+            return;
+        }
+        if (eventsBeingProfiled == null) {
+            eventsBeingProfiled = new HashMap<String, TimingInfo>();
+        }
         /* This will overwrite past events */
         // ignoring the wall clock time
         eventsBeingProfiled.put(eventName, TimingInfo.startTimingFullSupport(System.nanoTime()));
@@ -85,7 +99,14 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void startEvent(MetricType f) {
-        startEvent(f.name());
+        if (f instanceof Field) {
+            /* This will overwrite past events */
+            final int ordinal = ((Field) f).ordinal();
+            fieldStartTimeNanos[ordinal] = System.nanoTime();
+            fieldsBeingProfiled[ordinal] = true;
+        } else {
+            startEvent(f.name());
+        }
     }
 
     /**
@@ -97,7 +118,12 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     @Override
     public void endEvent(String eventName) {
-        TimingInfo event = eventsBeingProfiled.get(eventName);
+        final Field field = RequestTimingInfo.fieldOf(eventName);
+        if (field != null) {
+            endEvent(field);
+            return;
+        }
+        TimingInfo event = eventsBeingProfiled == null ? null : eventsBeingProfiled.get(eventName);
         /* Somebody tried to end an event that was not started. */
         if (event == null) {
             LogFactory.getLog(getClass()).warn("Trying to end an event which was never started: " + eventName);
@@ -113,7 +139,18 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void endEvent(MetricType f) {
-        endEvent(f.name());
+        if (!(f instanceof Field)) {
+            endEvent(f.name());
+            return;
+        }
+        final int ordinal = ((Field) f).ordinal();
+        /* Somebody tried to end an event that was not started. */
+        if (!fieldsBeingProfiled[ordinal]) {
+            LogFactory.getLog(getClass()).warn("Trying to end an event which was never started: " + f.name());
+            return;
+        }
+        requestTimingInfo().addSubMeasurement((Field) f, fieldStartTimeNanos[ordinal],
+                System.nanoTime());
     }
 
     /**
@@ -133,7 +170,11 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void incrementCounter(MetricType f) {
-        incrementCounter(f.name());
+        if (f instanceof Field) {
+            requestTimingInfo().incrementCounter((Field) f);
+        } else {
+            incrementCounter(f.name());
+        }
     }
 
     @Override
@@ -143,7 +184,38 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void setCounter(MetricType f, long count) {
-        setCounter(f.name(), count);
+        if (f instanceof Field) {
+            requestTimingInfo().setCounter((Field) f, count);
+        } else {
+            setCounter(f.name(), count);
+        }
+    }
+
+    /**
+     * Returns the number of times an event was profiled, without creating the
+     * {@link TimingInfo} views of {@link TimingInfo#getAllSubMeasurements}.
+     *
+     * @param f the metric type of the event.
+     * @return the number of times the event started and ended.
+     */
+    public int getEventCount(Field f) {
+        return requestTimingInfo().getSubMeasurementCount(f);
+    }
+
+    /**
+     * Returns how long a profiled event took, without creating the
+     * {@link TimingInfo} views of {@link TimingInfo#getAllSubMeasurements}.
+     *
+     * @param f the metric type of the event.
+     * @param index the index of the event, in the order events ended.
+     * @return the time taken in millisecond, or -1 if there is no such event.
+     */
+    public double getEventTimeTakenMillis(Field f, int index) {
+        return requestTimingInfo().getSubMeasurementTimeTakenMillis(f, index);
+    }
+
+    private RequestTimingInfo requestTimingInfo() {
+        return (RequestTimingInfo) timingInfo;
     }
 
     /**
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import com.amazonaws.Request;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * An output stream that collects the body of a request as it is marshalled,
+ * and hands the collected bytes to the request without copying them. The
+ * SHA-256 hash of the body is computed while it is written, so signers don't
+ * need to read the body again to hash it.
+ * <p>
+ * Marshallers typically write to it through a UTF-8 writer:
+ *
+ * <pre>
+ * RequestContentOutputStream content = new RequestContentOutputStream();
+ * AwsJsonWriter jsonWriter = JsonUtils.getJsonWriter(
+ *         new OutputStreamWriter(content, StringUtils.UTF8));
+ * ...
+ * jsonWriter.close();
+ * content.setRequestContent(request);
+ * </pre>
+ */
+public class RequestContentOutputStream extends ByteArrayOutputStream {
+
+    private static final int DEFAULT_INITIAL_SIZE = 256;
+
+    /** Cloned for each stream, which is cheaper than a provider lookup. */
+    private static final MessageDigest SHA256_PROTOTYPE = newSha256Digest();
+
+    private final MessageDigest digest;
+    private byte[] contentSha256;
+
+    /**
+     * Creates a stream with a small initial buffer.
+     */
+    public RequestContentOutputStream() {
+        this(DEFAULT_INITIAL_SIZE);
+    }
+
+    /**
+     * Creates a stream with the given initial buffer size.
+     *
+     * @param size the initial buffer size in bytes.
+     */
+    public RequestContentOutputStream(int size) {
+        super(size);
+        digest = cloneSha256Digest();
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        checkOpen();
+        super.write(b);
+        if (digest != null) {
+            digest.update((byte) b);
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        checkOpen();
+        super.write(b, off, len);
+        if (digest != null) {
+            digest.update(b, off, len);
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        checkOpen();
+        super.reset();
+        if (digest != null) {
+            digest.reset();
+        }
+    }
+
+    /**
+     * Sets the bytes written so far as the content of the request, along with
+     * its Content-Length header. No further bytes may be written afterwards.
+     *
+     * @param request the request being marshalled.
+     */
+    public synchronized void setRequestContent(Request<?> request) {
+        request.setContent(toInputStream());
+        request.addHeader("Content-Length", Integer.toString(count));
+    }
+
+    /**
+     * Returns a stream over the bytes written so far that shares this
+     * stream's buffer. No further bytes may be written afterwards.
+     *
+     * @return the content as an input stream.
+     */
+    public synchronized ContentInputStream toInputStream() {
+        if (contentSha256 == null && digest != null) {
+            contentSha256 = digest.digest();
+        }
+        return new ContentInputStream(buf, count, contentSha256);
+    }
+
+    private void checkOpen() {
+        if (contentSha256 != null) {
+            throw new IllegalStateException("The content has already been handed out");
+        }
+    }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static MessageDigest cloneSha256Digest() {
+        if (SHA256_PROTOTYPE == null) {
+            return null;
+        }
+        try {
+            return (MessageDigest) SHA256_PROTOTYPE.clone();
+        } catch (final CloneNotSupportedException e) {
+            return newSha256Digest();
+        }
+    }
+
+    /**
+     * The content of a request, along with its SHA-256 hash if it could be
+     * computed.
+     */
+    public static final class ContentInputStream extends ByteArrayInputStream {
+
+        private final byte[] contentSha256;
+
+        ContentInputStream(byte[] buf, int length, byte[] contentSha256) {
+            super(buf, 0, length);
+            this.contentSha256 = contentSha256;
+        }
+
+        /**
+         * Returns the SHA-256 hash of the whole content, provided none of it
+         * has been read yet.
+         *
+         * @return the hash, or null if it isn't available or the stream is
+         *         no longer at the start of the content.
+         */
+        public synchronized byte[] getContentSha256() {
+            if (contentSha256 == null || pos != 0) {
+                return null;
+            }
+            return contentSha256.clone();
+        }
+    }
+}
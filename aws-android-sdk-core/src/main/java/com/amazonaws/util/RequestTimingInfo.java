@@ -0,0 +1,238 @@
+/*
+ * Copyright 2011-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The timing info of a request, as recorded by
+ * {@link AWSRequestMetricsFullSupport}.
+ * <p>
+ * Sub-measurements and counters named after an {@link AWSRequestMetrics.Field}
+ * are kept in primitive arrays indexed by the field ordinal, so recording them
+ * doesn't allocate; {@link TimingInfo} views are only created when they are
+ * read by name. Sub-measurements of fields keep their nanosecond times only.
+ * Other names are handled by {@link TimingInfoFullSupport}.
+ */
+class RequestTimingInfo extends TimingInfoFullSupport {
+    private static final Field[] FIELDS = Field.values();
+    private static final Map<String, Field> FIELDS_BY_NAME;
+
+    static {
+        final Map<String, Field> fieldsByName = new HashMap<String, Field>();
+        for (final Field field : FIELDS) {
+            fieldsByName.put(field.name(), field);
+        }
+        FIELDS_BY_NAME = Collections.unmodifiableMap(fieldsByName);
+    }
+
+    /** Each sub-measurement is stored as its field ordinal, start and end. */
+    private static final int SLOTS_PER_EVENT = 3;
+    private static final int INITIAL_EVENTS = 16;
+
+    /** Sub-measurements of fields, in the order they were added. */
+    private long[] events = new long[INITIAL_EVENTS * SLOTS_PER_EVENT];
+    private int eventCount;
+
+    /** Counters by field ordinal; created with the first counter. */
+    private long[] counters;
+    private boolean[] countersSet;
+
+    RequestTimingInfo(long startEpochTimeMilli, long startTimeNano) {
+        super(Long.valueOf(startEpochTimeMilli), startTimeNano, null);
+    }
+
+    /**
+     * @param name a sub-measurement or counter name.
+     * @return the field with this name, or null if none.
+     */
+    static Field fieldOf(String name) {
+        return FIELDS_BY_NAME.get(name);
+    }
+
+    /**
+     * Adds a sub-measurement of a field without allocating.
+     */
+    void addSubMeasurement(Field field, long startTimeNano, long endTimeNano) {
+        final int offset = eventCount * SLOTS_PER_EVENT;
+        if (offset == events.length) {
+            final long[] grown = new long[events.length * 2];
+            System.arraycopy(events, 0, grown, 0, events.length);
+            events = grown;
+        }
+        events[offset] = field.ordinal();
+        events[offset + 1] = startTimeNano;
+        events[offset + 2] = endTimeNano;
+        eventCount++;
+    }
+
+    /**
+     * @return the number of sub-measurements of the field.
+     */
+    int getSubMeasurementCount(Field field) {
+        int count = 0;
+        for (int i = 0; i < eventCount; i++) {
+            if (events[i * SLOTS_PER_EVENT] == field.ordinal()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the time taken in millisecond by the index-th sub-measurement of
+     *         the field, or -1 if there is no such sub-measurement.
+     */
+    double getSubMeasurementTimeTakenMillis(Field field, int index) {
+        int seen = 0;
+        for (int i = 0; i < eventCount; i++) {
+            final int offset = i * SLOTS_PER_EVENT;
+            if (events[offset] == field.ordinal() && seen++ == index) {
+                return TimingInfo.durationMilliOf(events[offset + 1], events[offset + 2]);
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public void addSubMeasurement(String subMeasurementName, TimingInfo ti) {
+        final Field field = fieldOf(subMeasurementName);
+        if (field == null || !ti.isEndTimeKnown()) {
+            super.addSubMeasurement(subMeasurementName, ti);
+            return;
+        }
+        addSubMeasurement(field, ti.getStartTimeNano(), ti.getEndTimeNano());
+    }
+
+    @Override
+    public TimingInfo getSubMeasurement(String subMesurementName, int index) {
+        final List<TimingInfo> timings = getAllSubMeasurements(subMesurementName);
+        if (index < 0 || timings == null || index >= timings.size()) {
+            return null;
+        }
+        return timings.get(index);
+    }
+
+    @Override
+    public TimingInfo getLastSubMeasurement(String subMeasurementName) {
+        final List<TimingInfo> timings = getAllSubMeasurements(subMeasurementName);
+        if (timings == null || timings.isEmpty()) {
+            return null;
+        }
+        return timings.get(timings.size() - 1);
+    }
+
+    @Override
+    public List<TimingInfo> getAllSubMeasurements(String subMeasurementName) {
+        final Field field = fieldOf(subMeasurementName);
+        if (field == null) {
+            return super.getAllSubMeasurements(subMeasurementName);
+        }
+        List<TimingInfo> timings = null;
+        for (int i = 0; i < eventCount; i++) {
+            final int offset = i * SLOTS_PER_EVENT;
+            if (events[offset] == field.ordinal()) {
+                if (timings == null) {
+                    timings = new ArrayList<TimingInfo>();
+                }
+                timings.add(TimingInfo.unmodifiableTimingInfo(events[offset + 1],
+                        Long.valueOf(events[offset + 2])));
+            }
+        }
+        return timings;
+    }
+
+    @Override
+    public Map<String, List<TimingInfo>> getSubMeasurementsByName() {
+        final Map<String, List<TimingInfo>> subMeasurementsByName =
+                new HashMap<String, List<TimingInfo>>(super.getSubMeasurementsByName());
+        for (int i = 0; i < eventCount; i++) {
+            final String name = FIELDS[(int) events[i * SLOTS_PER_EVENT]].name();
+            if (!subMeasurementsByName.containsKey(name)) {
+                subMeasurementsByName.put(name, getAllSubMeasurements(name));
+            }
+        }
+        return subMeasurementsByName;
+    }
+
+    @Override
+    public Number getCounter(String key) {
+        final Field field = fieldOf(key);
+        if (field == null) {
+            return super.getCounter(key);
+        }
+        if (countersSet == null || !countersSet[field.ordinal()]) {
+            return null;
+        }
+        return Long.valueOf(counters[field.ordinal()]);
+    }
+
+    @Override
+    public Map<String, Number> getAllCounters() {
+        if (countersSet == null) {
+            return super.getAllCounters();
+        }
+        final Map<String, Number> countersByName =
+                new HashMap<String, Number>(super.getAllCounters());
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (countersSet[i]) {
+                countersByName.put(FIELDS[i].name(), Long.valueOf(counters[i]));
+            }
+        }
+        return countersByName;
+    }
+
+    @Override
+    public void setCounter(String key, long count) {
+        final Field field = fieldOf(key);
+        if (field == null) {
+            super.setCounter(key, count);
+            return;
+        }
+        setCounter(field, count);
+    }
+
+    @Override
+    public void incrementCounter(String key) {
+        final Field field = fieldOf(key);
+        if (field == null) {
+            super.incrementCounter(key);
+            return;
+        }
+        incrementCounter(field);
+    }
+
+    void setCounter(Field field, long count) {
+        if (countersSet == null) {
+            counters = new long[FIELDS.length];
+            countersSet = new boolean[FIELDS.length];
+        }
+        counters[field.ordinal()] = count;
+        countersSet[field.ordinal()] = true;
+    }
+
+    void incrementCounter(Field field) {
+        final long count = countersSet == null || !countersSet[field.ordinal()]
+                ? 0 : counters[field.ordinal()];
+        setCounter(field, count + 1);
+    }
+}
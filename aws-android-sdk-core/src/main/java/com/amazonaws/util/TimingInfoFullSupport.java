@@ -18,6 +18,7 @@ package com.amazonaws.util;
 import com.amazonaws.logging.LogFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,8 +32,10 @@ import java.util.Map;
  * collection is required during a particular service request/response cycle.
  */
 class TimingInfoFullSupport extends TimingInfo {
-    private final Map<String, List<TimingInfo>> subMeasurementsByName = new HashMap<String, List<TimingInfo>>();
-    private final Map<String, Number> countersByName = new HashMap<String, Number>();
+    /* Created with the first sub-measurement. */
+    private Map<String, List<TimingInfo>> subMeasurementsByName;
+    /* Created with the first counter. */
+    private Map<String, Number> countersByName;
 
     /**
      * A private ctor to facilitate the deprecation of using millisecond and
@@ -52,6 +55,9 @@ class TimingInfoFullSupport extends TimingInfo {
 
     @Override
     public void addSubMeasurement(String subMeasurementName, TimingInfo ti) {
+        if (subMeasurementsByName == null) {
+            subMeasurementsByName = new HashMap<String, List<TimingInfo>>();
+        }
         List<TimingInfo> timings = subMeasurementsByName.get(subMeasurementName);
         if (timings == null) {
             timings = new ArrayList<TimingInfo>();
@@ -74,7 +80,7 @@ class TimingInfoFullSupport extends TimingInfo {
     @Override
     public TimingInfo getSubMeasurement(String subMesurementName, int index) {
 
-        List<TimingInfo> timings = subMeasurementsByName.get(subMesurementName);
+        List<TimingInfo> timings = getAllSubMeasurements(subMesurementName);
         if (index < 0 || timings == null || timings.size() == 0
                 || index >= timings.size()) {
             return null;
@@ -100,26 +106,36 @@ class TimingInfoFullSupport extends TimingInfo {
 
     @Override
     public List<TimingInfo> getAllSubMeasurements(String subMeasurementName) {
-        return subMeasurementsByName.get(subMeasurementName);
+        return subMeasurementsByName == null ? null
+                : subMeasurementsByName.get(subMeasurementName);
     }
 
     @Override
     public Map<String, List<TimingInfo>> getSubMeasurementsByName() {
+        if (subMeasurementsByName == null) {
+            return Collections.emptyMap();
+        }
         return subMeasurementsByName;
     }
 
     @Override
     public Number getCounter(String key) {
-        return countersByName.get(key);
+        return countersByName == null ? null : countersByName.get(key);
     }
 
     @Override
     public Map<String, Number> getAllCounters() {
+        if (countersByName == null) {
+            return Collections.emptyMap();
+        }
         return countersByName;
     }
 
     @Override
     public void setCounter(String key, long count) {
+        if (countersByName == null) {
+            countersByName = new HashMap<String, Number>();
+        }
         countersByName.put(key, count);
     }
 
@@ -0,0 +1,744 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util.json;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A strict JSON pull parser that reads UTF-8 bytes directly, without
+ * decoding the document into characters first. Field names that repeat
+ * within a document, such as attribute names, are returned as the same
+ * {@link String} instance instead of being decoded again, and Base64
+ * encoded strings can be decoded straight to a {@link ByteBuffer} with
+ * {@link #nextByteBuffer()}.
+ * <p>
+ * Instances are created by {@link JsonUtils#getJsonReader(InputStream)} when
+ * the {@link JsonUtils.JsonEngine#Utf8} engine is in use. Not thread safe.
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+public final class Utf8JsonReader implements AwsJsonReader {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int INITIAL_STACK_SIZE = 32;
+    private static final int NAME_CACHE_SIZE = 256;
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    /* Scopes on the stack. */
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    /* Peeked tokens. Strings and names are peeked past their opening quote. */
+    private static final int PEEKED_NONE = 0;
+    private static final int PEEKED_BEGIN_OBJECT = 1;
+    private static final int PEEKED_END_OBJECT = 2;
+    private static final int PEEKED_BEGIN_ARRAY = 3;
+    private static final int PEEKED_END_ARRAY = 4;
+    private static final int PEEKED_NAME = 5;
+    private static final int PEEKED_STRING = 6;
+    private static final int PEEKED_NUMBER = 7;
+    private static final int PEEKED_TRUE = 8;
+    private static final int PEEKED_FALSE = 9;
+    private static final int PEEKED_NULL = 10;
+    private static final int PEEKED_EOF = 11;
+
+    /** Values of the Base64 alphabet, or -1 for bytes outside of it. */
+    private static final byte[] BASE64_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        final String alphabet =
+                "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    /** Bytes discarded from the start of the buffer, for error messages. */
+    private long bufferOffset;
+
+    private int[] stack = new int[INITIAL_STACK_SIZE];
+    private int stackSize;
+    private int peeked = PEEKED_NONE;
+
+    private char[] chars = new char[64];
+    private final String[] nameCache = new String[NAME_CACHE_SIZE];
+
+    Utf8JsonReader(InputStream in) {
+        if (in == null) {
+            throw new IllegalArgumentException("in can't be null");
+        }
+        this.in = in;
+        stack[stackSize++] = EMPTY_DOCUMENT;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(PEEKED_BEGIN_ARRAY, "BEGIN_ARRAY");
+        push(EMPTY_ARRAY);
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(PEEKED_END_ARRAY, "END_ARRAY");
+        stackSize--;
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(PEEKED_BEGIN_OBJECT, "BEGIN_OBJECT");
+        push(EMPTY_OBJECT);
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(PEEKED_END_OBJECT, "END_OBJECT");
+        stackSize--;
+        peeked = PEEKED_NONE;
+    }
+
+    @Override
+    public boolean isContainer() throws IOException {
+        final int p = peekToken();
+        return p == PEEKED_BEGIN_ARRAY || p == PEEKED_BEGIN_OBJECT;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        final int p = peekToken();
+        return p != PEEKED_END_OBJECT && p != PEEKED_END_ARRAY && p != PEEKED_EOF;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        expect(PEEKED_NAME, "FIELD_NAME");
+        final String name = readName();
+        peeked = PEEKED_NONE;
+        return name;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        final int p = peekToken();
+        final String value;
+        switch (p) {
+            case PEEKED_STRING:
+                value = readString();
+                break;
+            case PEEKED_NUMBER:
+                value = readNumber();
+                break;
+            case PEEKED_TRUE:
+                value = "true";
+                break;
+            case PEEKED_FALSE:
+                value = "false";
+                break;
+            case PEEKED_NULL:
+                value = null;
+                break;
+            default:
+                throw unexpected("a value", p);
+        }
+        peeked = PEEKED_NONE;
+        return value;
+    }
+
+    /**
+     * Decodes the next value, a Base64 encoded string, straight from the
+     * underlying bytes.
+     *
+     * @return the decoded bytes, or null if the value is null.
+     * @throws IOException if the value can't be read.
+     * @throws IllegalArgumentException if the value isn't valid Base64.
+     */
+    public ByteBuffer nextByteBuffer() throws IOException {
+        final int p = peekToken();
+        if (p == PEEKED_NULL) {
+            peeked = PEEKED_NONE;
+            return null;
+        }
+        if (p != PEEKED_STRING) {
+            throw unexpected("a string", p);
+        }
+        final ByteBuffer value = readBase64();
+        peeked = PEEKED_NONE;
+        return value;
+    }
+
+    @Override
+    public AwsJsonToken peek() throws IOException {
+        final int p;
+        try {
+            p = peekToken();
+        } catch (final EOFException e) {
+            return null;
+        }
+        return toToken(p);
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            final int p = peekToken();
+            switch (p) {
+                case PEEKED_BEGIN_ARRAY:
+                    push(EMPTY_ARRAY);
+                    depth++;
+                    break;
+                case PEEKED_BEGIN_OBJECT:
+                    push(EMPTY_OBJECT);
+                    depth++;
+                    break;
+                case PEEKED_END_ARRAY:
+                case PEEKED_END_OBJECT:
+                    stackSize--;
+                    depth--;
+                    break;
+                case PEEKED_NAME:
+                case PEEKED_STRING:
+                    skipString();
+                    break;
+                case PEEKED_NUMBER:
+                    skipNumber();
+                    break;
+                case PEEKED_EOF:
+                    throw new EOFException("End of input" + location());
+                default:
+                    break;
+            }
+            peeked = PEEKED_NONE;
+        } while (depth > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        peeked = PEEKED_NONE;
+        in.close();
+    }
+
+    private void expect(int expected, String name) throws IOException {
+        final int p = peekToken();
+        if (p != expected) {
+            throw unexpected(name, p);
+        }
+    }
+
+    private void push(int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private int peekToken() throws IOException {
+        return peeked != PEEKED_NONE ? peeked : doPeek();
+    }
+
+    private int doPeek() throws IOException {
+        final int top = stack[stackSize - 1];
+        if (top == EMPTY_ARRAY) {
+            stack[stackSize - 1] = NONEMPTY_ARRAY;
+            final int c = nextNonWhitespace(true);
+            if (c == ']') {
+                return peeked = PEEKED_END_ARRAY;
+            }
+            pos--;
+        } else if (top == NONEMPTY_ARRAY) {
+            final int c = nextNonWhitespace(true);
+            if (c == ']') {
+                return peeked = PEEKED_END_ARRAY;
+            } else if (c != ',') {
+                throw syntaxError("Unterminated array");
+            }
+        } else if (top == EMPTY_OBJECT || top == NONEMPTY_OBJECT) {
+            stack[stackSize - 1] = DANGLING_NAME;
+            if (top == NONEMPTY_OBJECT) {
+                final int c = nextNonWhitespace(true);
+                if (c == '}') {
+                    return peeked = PEEKED_END_OBJECT;
+                } else if (c != ',') {
+                    throw syntaxError("Unterminated object");
+                }
+            }
+            final int c = nextNonWhitespace(true);
+            if (c == '"') {
+                return peeked = PEEKED_NAME;
+            } else if (c == '}' && top == EMPTY_OBJECT) {
+                return peeked = PEEKED_END_OBJECT;
+            }
+            throw syntaxError("Expected a quoted name");
+        } else if (top == DANGLING_NAME) {
+            stack[stackSize - 1] = NONEMPTY_OBJECT;
+            if (nextNonWhitespace(true) != ':') {
+                throw syntaxError("Expected ':'");
+            }
+        } else if (top == EMPTY_DOCUMENT) {
+            stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+        } else if (top == NONEMPTY_DOCUMENT) {
+            if (nextNonWhitespace(false) == -1) {
+                return peeked = PEEKED_EOF;
+            }
+            throw syntaxError("Unexpected content after the document");
+        }
+
+        final int c = nextNonWhitespace(true);
+        switch (c) {
+            case '{':
+                return peeked = PEEKED_BEGIN_OBJECT;
+            case '[':
+                return peeked = PEEKED_BEGIN_ARRAY;
+            case '"':
+                return peeked = PEEKED_STRING;
+            case 't':
+                expectLiteral("rue");
+                return peeked = PEEKED_TRUE;
+            case 'f':
+                expectLiteral("alse");
+                return peeked = PEEKED_FALSE;
+            case 'n':
+                expectLiteral("ull");
+                return peeked = PEEKED_NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    pos--;
+                    return peeked = PEEKED_NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private void expectLiteral(String rest) throws IOException {
+        if (!fill(rest.length())) {
+            throw new EOFException("End of input" + location());
+        }
+        for (int i = 0; i < rest.length(); i++) {
+            if (buffer[pos + i] != rest.charAt(i)) {
+                throw syntaxError("Invalid literal");
+            }
+        }
+        pos += rest.length();
+    }
+
+    /**
+     * @return the next byte that isn't whitespace, or -1 at the end of the
+     *         input if allowed.
+     */
+    private int nextNonWhitespace(boolean throwOnEof) throws IOException {
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                if (throwOnEof) {
+                    throw new EOFException("End of input" + location());
+                }
+                return -1;
+            }
+            final int c = buffer[pos++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    /**
+     * Makes at least the given number of bytes available from pos, moving
+     * the unread bytes to the start of the buffer if needed.
+     *
+     * @return false if the input ended first.
+     */
+    private boolean fill(int minimum) throws IOException {
+        if (limit - pos >= minimum) {
+            return true;
+        }
+        if (pos != 0) {
+            bufferOffset += pos;
+            limit -= pos;
+            System.arraycopy(buffer, pos, buffer, 0, limit);
+            pos = 0;
+        }
+        while (limit < minimum) {
+            final int n = in.read(buffer, limit, buffer.length - limit);
+            if (n == -1) {
+                return false;
+            }
+            limit += n;
+        }
+        return true;
+    }
+
+    /**
+     * Reads a name, returning the cached instance if the same plain ASCII
+     * name has been read before.
+     */
+    private String readName() throws IOException {
+        int hash = 0;
+        int p = pos;
+        while (true) {
+            if (p == limit) {
+                if (pos == 0 && limit == buffer.length) {
+                    // Longer than the buffer
+                    return readString();
+                }
+                final int scanned = p - pos;
+                if (!fill(scanned + 1)) {
+                    throw syntaxError("Unterminated string");
+                }
+                p = pos + scanned;
+            }
+            final int b = buffer[p];
+            if (b == '"') {
+                break;
+            }
+            if (b == '\\' || b < 0) {
+                return readString();
+            }
+            hash = 31 * hash + b;
+            p++;
+        }
+
+        // Same as String.hashCode for an ASCII name
+        final int length = p - pos;
+        final int slot = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        final String cached = nameCache[slot];
+        if (cached != null && cached.length() == length && matches(cached, pos)) {
+            pos = p + 1;
+            return cached;
+        }
+        ensureChars(length);
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) buffer[pos + i];
+        }
+        final String name = new String(chars, 0, length);
+        nameCache[slot] = name;
+        pos = p + 1;
+        return name;
+    }
+
+    private boolean matches(String s, int start) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) != buffer[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote has been consumed.
+     */
+    private String readString() throws IOException {
+        int length = 0;
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+
+            // Copy a run of plain ASCII in one go.
+            ensureChars(length + limit - pos);
+            final byte[] buf = buffer;
+            final char[] out = chars;
+            int p = pos;
+            final int l = limit;
+            while (p < l) {
+                final int b = buf[p];
+                if (b == '"' || b == '\\' || b < 0) {
+                    break;
+                }
+                out[length++] = (char) b;
+                p++;
+            }
+            pos = p;
+            if (p == l) {
+                continue;
+            }
+
+            final int b = buf[pos++];
+            if (b == '"') {
+                return new String(chars, 0, length);
+            }
+            ensureChars(length + 2);
+            if (b == '\\') {
+                chars[length++] = readEscapeCharacter();
+            } else {
+                length = decodeMultiByte(b & 0xff, length);
+            }
+        }
+    }
+
+    private char readEscapeCharacter() throws IOException {
+        if (pos == limit && !fill(1)) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        final int c = buffer[pos++];
+        switch (c) {
+            case 'u':
+                if (!fill(4)) {
+                    throw syntaxError("Unterminated escape sequence");
+                }
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(buffer[pos + i], 16);
+                    if (digit < 0) {
+                        throw syntaxError("Invalid escape sequence");
+                    }
+                    value = (value << 4) | digit;
+                }
+                pos += 4;
+                return (char) value;
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    /**
+     * Decodes a multi-byte UTF-8 sequence whose lead byte has been consumed,
+     * replacing malformed sequences like {@link java.io.InputStreamReader}
+     * does.
+     *
+     * @return the new length of the decoded characters.
+     */
+    private int decodeMultiByte(int lead, int length) throws IOException {
+        final int extra;
+        int codePoint;
+        if (lead >= 0xc2 && lead <= 0xdf) {
+            extra = 1;
+            codePoint = lead & 0x1f;
+        } else if (lead >= 0xe0 && lead <= 0xef) {
+            extra = 2;
+            codePoint = lead & 0x0f;
+        } else if (lead >= 0xf0 && lead <= 0xf4) {
+            extra = 3;
+            codePoint = lead & 0x07;
+        } else {
+            chars[length++] = REPLACEMENT_CHARACTER;
+            return length;
+        }
+        fill(extra);
+        for (int i = 0; i < extra; i++) {
+            if (pos == limit || (buffer[pos] & 0xc0) != 0x80) {
+                chars[length++] = REPLACEMENT_CHARACTER;
+                return length;
+            }
+            codePoint = (codePoint << 6) | (buffer[pos++] & 0x3f);
+        }
+        if ((extra == 2 && (codePoint < 0x800
+                || (codePoint >= Character.MIN_SURROGATE
+                        && codePoint <= Character.MAX_SURROGATE)))
+                || (extra == 3 && (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT
+                        || codePoint > Character.MAX_CODE_POINT))) {
+            chars[length++] = REPLACEMENT_CHARACTER;
+        } else if (extra == 3) {
+            final int supplementary = codePoint - Character.MIN_SUPPLEMENTARY_CODE_POINT;
+            chars[length++] = (char) (Character.MIN_HIGH_SURROGATE + (supplementary >>> 10));
+            chars[length++] = (char) (Character.MIN_LOW_SURROGATE + (supplementary & 0x3ff));
+        } else {
+            chars[length++] = (char) codePoint;
+        }
+        return length;
+    }
+
+    private String readNumber() throws IOException {
+        int length = 0;
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                break;
+            }
+            final int c = buffer[pos];
+            if (!isNumberCharacter(c)) {
+                break;
+            }
+            ensureChars(length + 1);
+            chars[length++] = (char) c;
+            pos++;
+        }
+        return new String(chars, 0, length);
+    }
+
+    private void skipNumber() throws IOException {
+        while ((pos < limit || fill(1)) && isNumberCharacter(buffer[pos])) {
+            pos++;
+        }
+    }
+
+    private static boolean isNumberCharacter(int c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e'
+                || c == 'E';
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+            final int b = buffer[pos++];
+            if (b == '"') {
+                return;
+            }
+            if (b == '\\') {
+                if (pos == limit && !fill(1)) {
+                    throw syntaxError("Unterminated escape sequence");
+                }
+                pos++;
+            }
+        }
+    }
+
+    /**
+     * Decodes the rest of a Base64 string whose opening quote has been
+     * consumed.
+     */
+    private ByteBuffer readBase64() throws IOException {
+        // Size the output exactly when the whole value is in the buffer.
+        int decodedLength = -1;
+        for (int p = pos; p < limit; p++) {
+            if (buffer[p] == '"') {
+                int end = p;
+                while (end > pos && buffer[end - 1] == '=') {
+                    end--;
+                }
+                decodedLength = (end - pos) * 6 / 8;
+                break;
+            } else if (buffer[p] == '\\') {
+                break;
+            }
+        }
+        byte[] out = new byte[decodedLength >= 0
+                ? decodedLength
+                : Math.max(16, (limit - pos) / 4 * 3)];
+
+        int length = 0;
+        int accumulator = 0;
+        int bits = 0;
+        int padding = 0;
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+            int c = buffer[pos++];
+            if (c == '"') {
+                break;
+            }
+            if (c == '\\') {
+                c = readEscapeCharacter();
+            }
+            if (c == '=') {
+                padding++;
+                continue;
+            }
+            if (c == '\n' || c == '\r' || c == ' ' || c == '\t') {
+                continue;
+            }
+            final int value = c >= 0 && c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+            if (value < 0 || padding > 0) {
+                throw new IllegalArgumentException("Invalid Base64 character in JSON string"
+                        + location());
+            }
+            accumulator = (accumulator << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, Math.max(16, out.length * 2));
+                }
+                out[length++] = (byte) (accumulator >> bits);
+            }
+        }
+        if (bits >= 6 || padding > 2) {
+            throw new IllegalArgumentException("Invalid Base64 length in JSON string"
+                    + location());
+        }
+        if (length != out.length) {
+            out = Arrays.copyOf(out, length);
+        }
+        return ByteBuffer.wrap(out);
+    }
+
+    private void ensureChars(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+
+    private static AwsJsonToken toToken(int p) {
+        switch (p) {
+            case PEEKED_BEGIN_OBJECT:
+                return AwsJsonToken.BEGIN_OBJECT;
+            case PEEKED_END_OBJECT:
+                return AwsJsonToken.END_OBJECT;
+            case PEEKED_BEGIN_ARRAY:
+                return AwsJsonToken.BEGIN_ARRAY;
+            case PEEKED_END_ARRAY:
+                return AwsJsonToken.END_ARRAY;
+            case PEEKED_NAME:
+                return AwsJsonToken.FIELD_NAME;
+            case PEEKED_STRING:
+                return AwsJsonToken.VALUE_STRING;
+            case PEEKED_NUMBER:
+                return AwsJsonToken.VALUE_NUMBER;
+            case PEEKED_TRUE:
+            case PEEKED_FALSE:
+                return AwsJsonToken.VALUE_BOOLEAN;
+            case PEEKED_NULL:
+                return AwsJsonToken.VALUE_NULL;
+            case PEEKED_EOF:
+                return null;
+            default:
+                return AwsJsonToken.UNKNOWN;
+        }
+    }
+
+    private IllegalStateException unexpected(String expected, int p) {
+        return new IllegalStateException("Expected " + expected + " but was "
+                + (p == PEEKED_EOF ? "END_DOCUMENT" : String.valueOf(toToken(p))) + location());
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message + location());
+    }
+
+    private String location() {
+        return " at byte " + (bufferOffset + pos);
+    }
+}
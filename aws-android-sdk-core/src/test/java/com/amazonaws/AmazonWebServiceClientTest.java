@@ -18,17 +18,26 @@ package com.amazonaws;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.amazonaws.auth.AWS4Signer;
 import com.amazonaws.auth.QueryStringSigner;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.transform.Marshaller;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class AmazonWebServiceClientTest {
 
@@ -186,7 +195,77 @@ public class AmazonWebServiceClientTest {
         assertEquals(client.getTimeOffset(), 100);
     }
 
-    private class TestRequest extends AmazonWebServiceRequest {
+    @Test
+    public void testInvokeAsyncReportsMarshallingFailures() throws Exception {
+        final AmazonClientException failure = new AmazonClientException("marshalling");
+        final Marshaller<Request<TestRequest>, TestRequest> marshaller =
+                new Marshaller<Request<TestRequest>, TestRequest>() {
+                    @Override
+                    public Request<TestRequest> marshall(TestRequest in) {
+                        throw failure;
+                    }
+                };
+        final AtomicReference<Exception> handledError = new AtomicReference<Exception>();
+
+        final Future<String> future = invokeAsync(marshaller, handledError, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+
+        assertSame(failure, getFailure(future));
+        assertSame(failure, handledError.get());
+    }
+
+    @Test
+    public void testInvokeAsyncFailsWhenTheExecutorRejectsTheRequest() throws Exception {
+        final AtomicReference<Exception> handledError = new AtomicReference<Exception>();
+
+        final Future<String> future = invokeAsync(null, handledError, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("shut down");
+            }
+        });
+
+        final Throwable failure = getFailure(future);
+        assertTrue(failure instanceof AmazonClientException);
+        assertTrue(failure.getCause() instanceof RejectedExecutionException);
+        assertSame(failure, handledError.get());
+    }
+
+    private static Future<String> invokeAsync(
+            final Marshaller<Request<TestRequest>, TestRequest> marshaller,
+            final AtomicReference<Exception> handledError, final Executor executor) {
+        final AsyncHandler<TestRequest, String> asyncHandler =
+                new AsyncHandler<TestRequest, String>() {
+                    @Override
+                    public void onError(Exception exception) {
+                        handledError.set(exception);
+                    }
+
+                    @Override
+                    public void onSuccess(TestRequest request, String result) {
+                        fail("The request is expected to fail.");
+                    }
+                };
+        return new AmazonTestClient().invokeAsync(new TestRequest(), marshaller, null, null, null,
+                asyncHandler, executor);
+    }
+
+    private static Throwable getFailure(final Future<?> future) throws InterruptedException {
+        assertTrue(future.isDone());
+        try {
+            future.get();
+            fail("ExecutionException is expected.");
+            return null;
+        } catch (final ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    private static class TestRequest extends AmazonWebServiceRequest {
     }
 
 }
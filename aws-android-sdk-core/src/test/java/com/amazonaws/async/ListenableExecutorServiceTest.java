@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ListenableExecutorServiceTest {
+
+    private ExecutorService pool;
+
+    @Before
+    public void setUp() {
+        pool = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testWrappedExecutorServiceRunsListenableTasks() throws Exception {
+        final ListenableExecutorService service = ListenableExecutorService.wrap(pool);
+        final AtomicReference<String> callbackResult = new AtomicReference<String>();
+        final CountDownLatch called = new CountDownLatch(1);
+
+        final ListenableFuture<String> future = service.submit(new Callable<String>() {
+            @Override
+            public String call() {
+                return "result";
+            }
+        });
+        future.addCallback(new Callback<String>() {
+            @Override
+            public void onResult(String result) {
+                callbackResult.set(result);
+                called.countDown();
+            }
+
+            @Override
+            public void onError(Exception e) {
+                called.countDown();
+            }
+        });
+
+        assertEquals("result", future.get(10, TimeUnit.SECONDS));
+        assertTrue(called.await(10, TimeUnit.SECONDS));
+        assertEquals("result", callbackResult.get());
+    }
+
+    @Test
+    public void testShutdownIsForwarded() throws Exception {
+        final ListenableExecutorService service = ListenableExecutorService.wrap(pool);
+        service.shutdown();
+        assertTrue(pool.isShutdown());
+        assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(pool.isTerminated());
+    }
+
+    @Test
+    public void testListenableExecutorServiceIsNotWrappedAgain() {
+        final ServiceExecutorService service = new ServiceExecutorService(pool, 1);
+        assertSame(service, ListenableExecutorService.wrap(service));
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ServiceExecutorServiceTest {
+
+    private ExecutorService pool;
+
+    @Before
+    public void setUp() {
+        pool = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() throws Exception {
+        final ServiceExecutorService service = new ServiceExecutorService(pool, 2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < 20; i++) {
+            final int value = i;
+            futures.add(service.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    final int now = running.incrementAndGet();
+                    int max;
+                    while ((max = maxRunning.get()) < now && !maxRunning.compareAndSet(max, now)) {
+                        continue;
+                    }
+                    Thread.sleep(5);
+                    running.decrementAndGet();
+                    return value;
+                }
+            }));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i, futures.get(i).get(10, TimeUnit.SECONDS).intValue());
+        }
+        assertEquals(2, maxRunning.get());
+
+        service.shutdown();
+        assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(20, service.getCompletedTaskCount());
+        assertFalse(pool.isShutdown());
+    }
+
+    @Test
+    public void testCallbacks() throws Exception {
+        final ServiceExecutorService service = new ServiceExecutorService(pool, 1);
+        final CountDownLatch done = new CountDownLatch(2);
+        final AtomicReference<String> result = new AtomicReference<String>();
+        final AtomicReference<Exception> error = new AtomicReference<Exception>();
+
+        service.submit(new Callable<String>() {
+            @Override
+            public String call() {
+                return "result";
+            }
+        }).addCallback(new Callback<String>() {
+            @Override
+            public void onResult(String r) {
+                result.set(r);
+                done.countDown();
+            }
+
+            @Override
+            public void onError(Exception e) {
+                fail("Unexpected error " + e);
+            }
+        });
+        service.submit(new Callable<String>() {
+            @Override
+            public String call() {
+                throw new IllegalStateException("failed");
+            }
+        }).addCallback(new Callback<Object>() {
+            @Override
+            public void onResult(Object r) {
+                fail("Unexpected result " + r);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                error.set(e);
+                done.countDown();
+            }
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals("result", result.get());
+        assertTrue(error.get() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testShutdownNowOnlyStopsOwnTasks() throws Exception {
+        final ServiceExecutorService service = new ServiceExecutorService(pool, 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        service.submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            }
+        });
+        service.submit(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(1, service.getQueuedCount());
+
+        assertEquals(1, service.shutdownNow().size());
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+        try {
+            service.submit(new Runnable() {
+                @Override
+                public void run() {
+                }
+            });
+            fail("RejectedExecutionException is expected.");
+        } catch (final RejectedExecutionException e) {
+            // expected
+        }
+
+        // The underlying pool still runs tasks, and its threads are not left
+        // interrupted.
+        assertFalse(pool.submit(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return Thread.currentThread().isInterrupted();
+            }
+        }).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSharedExecutor() throws Exception {
+        final ServiceExecutorService service = SharedExecutors.newServiceExecutor(4);
+        final String threadName = service.submit(new Callable<String>() {
+            @Override
+            public String call() {
+                return Thread.currentThread().getName();
+            }
+        }).get(10, TimeUnit.SECONDS);
+        assertTrue(threadName.startsWith("aws-sdk-shared-"));
+        assertTrue(SharedExecutors.getPoolSize() <= SharedExecutors.getMaximumPoolSize());
+        service.shutdownNow();
+        assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBusyServicesDoNotStarveTheSharedPool() throws Exception {
+        final int maxPoolSize = SharedExecutors.getMaximumPoolSize();
+        final CountDownLatch release = new CountDownLatch(1);
+        // Two clients with the default limit of the async clients, both busy.
+        final CountDownLatch started = new CountDownLatch(20);
+        final List<ServiceExecutorService> busyServices = new ArrayList<ServiceExecutorService>();
+        for (int i = 0; i < 2; i++) {
+            final ServiceExecutorService busy = SharedExecutors.newServiceExecutor(10);
+            busyServices.add(busy);
+            for (int j = 0; j < 10; j++) {
+                busy.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        started.countDown();
+                        release.await();
+                        return null;
+                    }
+                });
+            }
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        final ServiceExecutorService service = SharedExecutors.newServiceExecutor(1);
+        try {
+            assertEquals("done", service.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return "done";
+                }
+            }).get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            service.shutdown();
+            for (final ServiceExecutorService busy : busyServices) {
+                busy.shutdown();
+                assertTrue(busy.awaitTermination(10, TimeUnit.SECONDS));
+            }
+            assertTrue(service.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        // The services that are done give their threads back.
+        assertEquals(maxPoolSize, SharedExecutors.getMaximumPoolSize());
+    }
+}
@@ -169,6 +169,47 @@ public class AWS4SignerTest {
         assertFalse(signer.needsSign("User-Agent"));
     }
 
+    @Test
+    public void testStreamedCanonicalRequestMatchesCanonicalRequestString() {
+        // Overriding getCanonicalRequest makes the signer hash the string.
+        final AWS4Signer stringSigner = new AWS4Signer() {
+            @Override
+            protected String getCanonicalRequest(Request<?> request, String contentSha256) {
+                return super.getCanonicalRequest(request, contentSha256);
+            }
+        };
+        final Date date = new Date(1000000000000L);
+        signer.overrideDate(date);
+        stringSigner.overrideDate(date);
+
+        final AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        final Request<?> streamed = generateComplexRequest();
+        final Request<?> hashed = generateComplexRequest();
+        signer.sign(streamed, credentials);
+        stringSigner.sign(hashed, credentials);
+
+        assertEquals(hashed.getHeaders().get("Authorization"),
+                streamed.getHeaders().get("Authorization"));
+    }
+
+    @Test
+    public void testSigningKeyDependsOnSecretKey() {
+        final Date date = new Date(1000000000000L);
+        signer.overrideDate(date);
+
+        final Request<?> first = generateBasicRequest();
+        final Request<?> second = generateBasicRequest();
+        final Request<?> third = generateBasicRequest();
+        signer.sign(first, new BasicAWSCredentials("access", "secret"));
+        signer.sign(second, new BasicAWSCredentials("access", "other secret"));
+        signer.sign(third, new BasicAWSCredentials("access", "secret"));
+
+        assertFalse(first.getHeaders().get("Authorization").equals(
+                second.getHeaders().get("Authorization")));
+        assertEquals(first.getHeaders().get("Authorization"),
+                third.getHeaders().get("Authorization"));
+    }
+
     /**
      * Tests that if passed anonymous credentials, signer will not generate a
      * signature
@@ -201,6 +242,17 @@ public class AWS4SignerTest {
         return request;
     }
 
+    private Request<?> generateComplexRequest() {
+        final Request<?> request = generateBasicRequest();
+        request.addHeader("X-Amz-Meta-Name", "  caf\u00e9 \u6771\u4eac\t\r\n\ud83d\ude00 \ud800x ");
+        request.addHeader("x-amz-empty", null);
+        request.addHeader("Content-Type", "application/x-amz-json-1.0");
+        request.addParameter("b", "2 3");
+        request.addParameter("a", "\u00fc");
+        request.setResourcePath("/path with spaces/\u00e9");
+        return request;
+    }
+
     private String getOldTimeStamp(Date date) {
         final SimpleDateFormat dateTimeFormat = new SimpleDateFormat(
                 "yyyyMMdd'T'HHmmss'Z'");
@@ -16,11 +16,17 @@
 package com.amazonaws.auth;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.internal.StaticCredentialsProvider;
 
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 public class AWSCredentialsProviderChainTest {
 
     /**
@@ -76,9 +82,72 @@ public class AWSCredentialsProviderChainTest {
         assertEquals(2, provider2.getCredentialsCallCount);
     }
 
-    private static final class MockCredentialsProvider extends StaticCredentialsProvider {
-        public int getCredentialsCallCount = 0;
-        public boolean throwException = false;
+    /**
+     * Tests that a concurrent chain asks all providers at once, and still
+     * returns the credentials of the first provider in the chain.
+     */
+    @Test
+    public void testProbeConcurrently() throws Exception {
+        final CountDownLatch secondCalled = new CountDownLatch(1);
+        MockCredentialsProvider provider1 = new MockCredentialsProvider() {
+            @Override
+            public AWSCredentials getCredentials() {
+                try {
+                    // Would time out if the providers were called in sequence
+                    assertTrue(secondCalled.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return new BasicAWSCredentials("first", "secretKey");
+            }
+        };
+        MockCredentialsProvider provider2 = new MockCredentialsProvider() {
+            @Override
+            public AWSCredentials getCredentials() {
+                secondCalled.countDown();
+                return super.getCredentials();
+            }
+        };
+        AWSCredentialsProviderChain chain = new AWSCredentialsProviderChain(provider1, provider2);
+        chain.setProbeConcurrently(true);
+
+        assertEquals("first", chain.getCredentials().getAWSAccessKeyId());
+        assertEquals(1, provider2.getCredentialsCallCount);
+
+        // The first provider is reused
+        assertEquals("first", chain.getCredentialsAsync().get().getAWSAccessKeyId());
+        assertEquals(1, provider2.getCredentialsCallCount);
+    }
+
+    @Test
+    public void testProbeConcurrentlySkipsFailures() throws Exception {
+        MockCredentialsProvider provider1 = new MockCredentialsProvider();
+        provider1.throwException = true;
+        MockCredentialsProvider provider2 = new MockCredentialsProvider();
+        provider2.throwException = true;
+        MockCredentialsProvider provider3 = new MockCredentialsProvider();
+        AWSCredentialsProviderChain chain = new AWSCredentialsProviderChain(provider1,
+                provider2, provider3);
+        chain.setProbeConcurrently(true);
+
+        assertEquals("accessKey", chain.getCredentials().getAWSAccessKeyId());
+        chain.getCredentials();
+        assertEquals(1, provider1.getCredentialsCallCount);
+        assertEquals(2, provider3.getCredentialsCallCount);
+
+        provider3.throwException = true;
+        chain.setReuseLastProvider(false);
+        try {
+            chain.getCredentials();
+            fail("Expected an AmazonClientException");
+        } catch (AmazonClientException e) {
+            // expected
+        }
+    }
+
+    private static class MockCredentialsProvider extends StaticCredentialsProvider {
+        public volatile int getCredentialsCallCount = 0;
+        public volatile boolean throwException = false;
 
         public MockCredentialsProvider() {
             super(new BasicAWSCredentials("accessKey", "secretKey"));
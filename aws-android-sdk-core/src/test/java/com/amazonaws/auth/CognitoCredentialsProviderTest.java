@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.services.securitytoken.AWSSecurityTokenService;
+
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CognitoCredentialsProviderTest {
+
+    private static final long ONE_HOUR = 60 * 60 * 1000;
+
+    @Test
+    public void testValidCredentialsAreReused() {
+        final SessionCountingProvider provider = new SessionCountingProvider(ONE_HOUR);
+        final AWSSessionCredentials credentials = provider.getCredentials();
+        assertEquals("AKID1", credentials.getAWSAccessKeyId());
+        for (int i = 0; i < 100; i++) {
+            assertSame(credentials, provider.getCredentials());
+        }
+        assertEquals(1, provider.sessions.get());
+    }
+
+    @Test
+    public void testRefreshInBackgroundWithinThreshold() throws InterruptedException {
+        // Sessions last 5 minutes, within the default threshold of 500 seconds.
+        final SessionCountingProvider provider = new SessionCountingProvider(5 * 60 * 1000);
+        final AWSSessionCredentials first = provider.getCredentials();
+        provider.blockSessions = new CountDownLatch(1);
+
+        // The stale credentials are served while the refresh is blocked, and
+        // only one refresh is started.
+        for (int i = 0; i < 10; i++) {
+            assertSame(first, provider.getCredentials());
+        }
+        provider.sessionMillis = ONE_HOUR;
+        provider.blockSessions.countDown();
+        assertTrue(provider.sessionStarted.await(5, TimeUnit.SECONDS));
+
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (provider.getCredentials() == first && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("AKID2", provider.getCredentials().getAWSAccessKeyId());
+        assertEquals(2, provider.sessions.get());
+    }
+
+    @Test
+    public void testExpiredCredentialsBlock() {
+        final SessionCountingProvider provider = new SessionCountingProvider(ONE_HOUR);
+        provider.getCredentials();
+        provider.setSessionCredentialsExpiration(new Date(System.currentTimeMillis() - 1000));
+        assertEquals("AKID2", provider.getCredentials().getAWSAccessKeyId());
+        assertEquals(2, provider.sessions.get());
+    }
+
+    @Test
+    public void testClearCredentials() {
+        final SessionCountingProvider provider = new SessionCountingProvider(ONE_HOUR);
+        provider.getCredentials();
+        provider.clearCredentials();
+        assertNull(provider.getSessionCredentitalsExpiration());
+        assertEquals("AKID2", provider.getCredentials().getAWSAccessKeyId());
+    }
+
+    /**
+     * Starts sessions locally, numbering the access key ids.
+     */
+    private static class SessionCountingProvider extends CognitoCredentialsProvider {
+        private final AtomicInteger sessions = new AtomicInteger();
+        private volatile long sessionMillis;
+        private final CountDownLatch sessionStarted = new CountDownLatch(1);
+        private volatile CountDownLatch blockSessions;
+
+        SessionCountingProvider(long sessionMillis) {
+            super((AWSCognitoIdentityProvider) null, (String) null, (String) null,
+                    (AWSSecurityTokenService) null);
+            this.sessionMillis = sessionMillis;
+        }
+
+        @Override
+        protected void startSession() {
+            final CountDownLatch latch = blockSessions;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            final int session = sessions.incrementAndGet();
+            sessionCredentials = new BasicSessionCredentials("AKID" + session, "secret",
+                    "token");
+            setSessionCredentialsExpiration(new Date(System.currentTimeMillis() + sessionMillis));
+            if (session > 1) {
+                sessionStarted.countDown();
+            }
+        }
+    }
+}
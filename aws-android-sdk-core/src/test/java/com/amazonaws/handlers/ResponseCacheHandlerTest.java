@@ -0,0 +1,247 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.util.StringInputStream;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResponseCacheHandlerTest {
+
+    private static final BasicAWSCredentials CREDENTIALS =
+            new BasicAWSCredentials("access", "secret");
+
+    @Test
+    public void testResponsesAreCachedPerRequest() throws IOException {
+        final ResponseCacheHandler cache = new ResponseCacheHandler(10, 1, TimeUnit.HOURS,
+                "DescribeTable");
+        final Response<?> response = new Response<String>("table", null);
+
+        final Request<?> request = request(new DescribeTableRequest(), "{\"TableName\":\"a\"}");
+        assertNull(cache.getCachedResponse(request, CREDENTIALS));
+        cache.afterResponse(request, response);
+        assertSame(response, cache.getCachedResponse(
+                request(new DescribeTableRequest(), "{\"TableName\":\"a\"}"), CREDENTIALS));
+
+        // Another body, another access key or another operation is a miss.
+        assertNull(cache.getCachedResponse(
+                request(new DescribeTableRequest(), "{\"TableName\":\"b\"}"), CREDENTIALS));
+        assertNull(cache.getCachedResponse(
+                request(new DescribeTableRequest(), "{\"TableName\":\"a\"}"),
+                new BasicAWSCredentials("other", "secret")));
+        assertNull(cache.getCachedResponse(
+                request(new GetItemRequest(), "{\"TableName\":\"a\"}"), CREDENTIALS));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testErrorsAreNotCached() throws IOException {
+        final ResponseCacheHandler cache = new ResponseCacheHandler(10, 1, TimeUnit.HOURS,
+                "DescribeTable");
+        final Request<?> request = request(new DescribeTableRequest(), "{}");
+        assertNull(cache.getCachedResponse(request, CREDENTIALS));
+        cache.afterError(request, null, new AmazonServiceException("fake"));
+        cache.afterResponse(request, new Response<String>("table", null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExpiredResponsesAreEvicted() throws Exception {
+        final ResponseCacheHandler cache = new ResponseCacheHandler(10, 1, TimeUnit.MILLISECONDS,
+                "DescribeTable");
+        final Request<?> request = request(new DescribeTableRequest(), "{}");
+        assertNull(cache.getCachedResponse(request, CREDENTIALS));
+        cache.afterResponse(request, new Response<String>("table", null));
+        Thread.sleep(10);
+        assertNull(cache.getCachedResponse(request(new DescribeTableRequest(), "{}"),
+                CREDENTIALS));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResponseIsEvicted() throws IOException {
+        final ResponseCacheHandler cache = new ResponseCacheHandler(2, 1, TimeUnit.HOURS,
+                "DescribeTable");
+        final Response<?> a = cache("a", cache);
+        cache("b", cache);
+        assertSame(a, cache.getCachedResponse(request(new DescribeTableRequest(), "a"),
+                CREDENTIALS));
+        cache("c", cache);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.getCachedResponse(request(new DescribeTableRequest(), "b"),
+                CREDENTIALS));
+        assertSame(a, cache.getCachedResponse(request(new DescribeTableRequest(), "a"),
+                CREDENTIALS));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testClientAnswersFromCache() throws IOException {
+        final AtomicInteger sent = new AtomicInteger();
+        final AmazonHttpClient client = new AmazonHttpClient(new ClientConfiguration(),
+                new HttpClient() {
+                    @Override
+                    public HttpResponse execute(HttpRequest request) {
+                        sent.incrementAndGet();
+                        return HttpResponse.builder().statusCode(200).statusText("OK").build();
+                    }
+
+                    @Override
+                    public void shutdown() {
+                    }
+                });
+        final ResponseCacheHandler cache = new ResponseCacheHandler(10, 1, TimeUnit.HOURS,
+                "DescribeTable");
+        final List<RequestHandler2> handlers = Arrays.<RequestHandler2> asList(cache);
+
+        final Response<String> first = client.execute(request(new DescribeTableRequest(), "{}"),
+                new ResponseHandler(), null, new ExecutionContext(handlers, false, null));
+        final Response<String> second = client.execute(request(new DescribeTableRequest(), "{}"),
+                new ResponseHandler(), null, new ExecutionContext(handlers, false, null));
+
+        assertEquals(1, sent.get());
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testHandlersSeeTheEndOfCachedRequests() throws Exception {
+        final AmazonHttpClient client = new AmazonHttpClient(new ClientConfiguration(),
+                new HttpClient() {
+                    @Override
+                    public HttpResponse execute(HttpRequest request) {
+                        return HttpResponse.builder().statusCode(200).statusText("OK").build();
+                    }
+
+                    @Override
+                    public void shutdown() {
+                    }
+                });
+        final AtomicInteger before = new AtomicInteger();
+        final AtomicInteger after = new AtomicInteger();
+        final RequestHandler2 counter = new RequestHandler2() {
+            @Override
+            public void beforeRequest(Request<?> request) {
+                before.incrementAndGet();
+            }
+
+            @Override
+            public void afterResponse(Request<?> request, Response<?> response) {
+                after.incrementAndGet();
+            }
+
+            @Override
+            public void afterError(Request<?> request, Response<?> response, Exception e) {
+            }
+        };
+        final ResponseCacheHandler cache = new ResponseCacheHandler(10, 1, TimeUnit.HOURS,
+                "DescribeTable");
+        final List<RequestHandler2> handlers = Arrays.asList(counter, cache);
+        final Executor executor = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        };
+
+        client.execute(request(new DescribeTableRequest(), "{}"), new ResponseHandler(), null,
+                new ExecutionContext(handlers, false, null));
+        client.execute(request(new DescribeTableRequest(), "{}"), new ResponseHandler(), null,
+                new ExecutionContext(handlers, false, null));
+        client.executeAsync(request(new DescribeTableRequest(), "{}"), new ResponseHandler(),
+                null, new ExecutionContext(handlers, false, null), executor)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, before.get());
+        assertEquals(3, after.get());
+    }
+
+    private static Response<?> cache(String body, ResponseCacheHandler cache)
+            throws IOException {
+        final Request<?> request = request(new DescribeTableRequest(), body);
+        assertNull(cache.getCachedResponse(request, CREDENTIALS));
+        final Response<?> response = new Response<String>(body, null);
+        cache.afterResponse(request, response);
+        return response;
+    }
+
+    private static Request<?> request(AmazonWebServiceRequest originalRequest, String body)
+            throws IOException {
+        final Request<?> request = new DefaultRequest<Void>(originalRequest, "AmazonDynamoDB");
+        request.setEndpoint(URI.create("https://dynamodb.us-east-1.amazonaws.com"));
+        request.setHttpMethod(HttpMethodName.POST);
+        request.addHeader("X-Amz-Target", "DynamoDB_20120810.DescribeTable");
+        request.setContent(new StringInputStream(body));
+        return request;
+    }
+
+    private static class ResponseHandler
+            implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) {
+            final AmazonWebServiceResponse<String> result = new AmazonWebServiceResponse<String>();
+            result.setResult("table");
+            return result;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+
+    private static class DescribeTableRequest extends AmazonWebServiceRequest {
+    }
+
+    private static class GetItemRequest extends AmazonWebServiceRequest {
+    }
+}
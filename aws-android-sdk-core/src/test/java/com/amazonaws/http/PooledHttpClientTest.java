@@ -0,0 +1,216 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.metrics.ConnectionPoolStats;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class PooledHttpClientTest {
+
+    private ServerSocket serverSocket;
+    private Thread serverThread;
+    private final ConcurrentLinkedQueue<String> responses = new ConcurrentLinkedQueue<String>();
+    private final List<String> requestBodies = new CopyOnWriteArrayList<String>();
+    private PooledHttpClient client;
+    private URI uri;
+
+    @Before
+    public void setup() throws IOException {
+        serverSocket = new ServerSocket(0);
+        uri = URI.create("http://localhost:" + serverSocket.getLocalPort() + "/path?a=b");
+        serverThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                serve();
+            }
+        });
+        serverThread.setDaemon(true);
+        serverThread.start();
+        client = new PooledHttpClient(new ClientConfiguration().withReaper(false));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.shutdown();
+        serverSocket.close();
+    }
+
+    @Test
+    public void testKeepAliveReusesConnection() throws IOException {
+        responses.add("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nhello");
+        responses.add("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nworld");
+
+        assertEquals("hello", execute(get()));
+        assertEquals("world", execute(get()));
+
+        final ConnectionPoolStats stats = client.getConnectionPoolStats(uri);
+        assertEquals(1, stats.getCreated());
+        assertEquals(1, stats.getReused());
+        assertEquals(1, stats.getAvailable());
+        assertEquals(0, stats.getLeased());
+    }
+
+    @Test
+    public void testChunkedResponse() throws IOException {
+        responses.add("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n"
+                + "5\r\nhello\r\n6; ext=1\r\n world\r\n0\r\n\r\n");
+        responses.add("HTTP/1.1 204 No Content\r\n\r\n");
+
+        assertEquals("hello world", execute(get()));
+        final HttpResponse response = client.execute(get());
+        assertEquals(204, response.getStatusCode());
+        assertEquals(1, client.getConnectionPoolStats(uri).getReused());
+    }
+
+    @Test
+    public void testConnectionCloseIsNotReused() throws IOException {
+        responses.add("HTTP/1.1 200 OK\r\nConnection: close\r\nContent-Length: 2\r\n\r\nok");
+        responses.add("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok");
+
+        assertEquals("ok", execute(get()));
+        assertEquals("ok", execute(get()));
+        assertEquals(2, client.getConnectionPoolStats(uri).getCreated());
+        assertEquals(0, client.getConnectionPoolStats(uri).getReused());
+    }
+
+    @Test
+    public void testRequestBodyAndHeaders() throws IOException {
+        responses.add("HTTP/1.1 100 Continue\r\n\r\n"
+                + "HTTP/1.1 400 Bad Request\r\nx-amzn-RequestId: abc\r\nContent-Length: 3\r\n\r\nbad");
+        final Map<String, String> headers = new HashMap<String, String>();
+        headers.put(HttpHeader.CONTENT_LENGTH, "4");
+        final HttpRequest request = new HttpRequest("POST", uri, headers,
+                new ByteArrayInputStream("body".getBytes(StringUtils.UTF8)));
+
+        final HttpResponse response = client.execute(request);
+        assertEquals(400, response.getStatusCode());
+        assertEquals("Bad Request", response.getStatusText());
+        assertEquals("abc", response.getHeaders().get("x-amzn-RequestId"));
+        assertEquals("bad", IOUtils.toString(response.getContent()));
+        assertEquals("body", requestBodies.get(0));
+    }
+
+    @Test
+    public void testHeadHasNoContent() throws IOException {
+        responses.add("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\n");
+        final HttpResponse response = client.execute(new HttpRequest("HEAD", uri));
+        assertNull(response.getContent());
+        assertEquals(1, client.getConnectionPoolStats(uri).getAvailable());
+    }
+
+    @Test
+    public void testShutdownClosesIdleConnections() throws IOException {
+        responses.add("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok");
+        execute(get());
+        assertTrue(AwsSdkMetrics.getConnectionPoolStats().size() >= 1);
+
+        client.shutdown();
+        final ConnectionPoolStats stats = client.getConnectionPoolStats(uri);
+        assertEquals(0, stats.getAvailable());
+        assertEquals(1, stats.getEvicted());
+    }
+
+    private HttpRequest get() {
+        return new HttpRequest("GET", uri);
+    }
+
+    private String execute(HttpRequest request) throws IOException {
+        final HttpResponse response = client.execute(request);
+        try {
+            return IOUtils.toString(response.getContent());
+        } finally {
+            response.getContent().close();
+        }
+    }
+
+    private void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                final Thread connectionThread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        handle(socket);
+                    }
+                });
+                connectionThread.setDaemon(true);
+                connectionThread.start();
+            } catch (final IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try {
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    socket.getInputStream(), StringUtils.UTF8));
+            final OutputStream out = socket.getOutputStream();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int contentLength = 0;
+                while (line != null && line.length() != 0) {
+                    if (line.toLowerCase().startsWith("content-length:")) {
+                        contentLength = Integer.parseInt(line.substring(15).trim());
+                    }
+                    line = reader.readLine();
+                }
+                if (contentLength > 0) {
+                    final char[] body = new char[contentLength];
+                    int read = 0;
+                    while (read < contentLength) {
+                        read += reader.read(body, read, contentLength - read);
+                    }
+                    requestBodies.add(new String(body));
+                }
+                final String response = responses.poll();
+                out.write(response.getBytes(StringUtils.UTF8));
+                out.flush();
+                if (response.contains("Connection: close")) {
+                    break;
+                }
+            }
+            socket.close();
+        } catch (final IOException e) {
+            // the client went away
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.util.RequestContentOutputStream.ContentInputStream;
+import com.amazonaws.util.StringInputStream;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+public class RequestCompressorTest {
+
+    private static final String JSON = largeJson();
+
+    @Test
+    public void testLargeBodyIsCompressed() throws IOException {
+        final Request<?> request = request(JSON);
+        assertTrue(RequestCompressor.compress(request, 1024));
+
+        assertEquals("gzip", request.getHeaders().get("Content-Encoding"));
+        final InputStream content = request.getContent();
+        assertTrue(content instanceof ContentInputStream);
+        assertNotNull(((ContentInputStream) content).getContentSha256());
+        assertEquals(Integer.toString(content.available()),
+                request.getHeaders().get("Content-Length"));
+        assertTrue(content.available() < JSON.length() / 4);
+        assertEquals(JSON, gunzip(content));
+    }
+
+    @Test
+    public void testSmallOrEncodedBodiesAreNotCompressed() throws IOException {
+        final Request<?> small = request("{\"Key\":{}}");
+        final InputStream smallContent = small.getContent();
+        assertFalse(RequestCompressor.compress(small, 1024));
+        assertSame(smallContent, small.getContent());
+
+        final Request<?> encoded = request(JSON);
+        encoded.addHeader("Content-Encoding", "gzip");
+        assertFalse(RequestCompressor.compress(encoded, 1024));
+
+        final Request<?> streamed = request(JSON);
+        streamed.setContent(new InputStream() {
+            @Override
+            public int read() {
+                return -1;
+            }
+        });
+        assertFalse(RequestCompressor.compress(streamed, 0));
+    }
+
+    @Test
+    public void testIncompressibleBodyIsLeftAlone() throws IOException {
+        final byte[] random = new byte[4096];
+        new Random(1).nextBytes(random);
+        final Request<?> request = new DefaultRequest<Void>("service");
+        request.setContent(new ByteArrayInputStream(random));
+        assertFalse(RequestCompressor.compress(request, 0));
+        assertFalse(request.getHeaders().containsKey("Content-Encoding"));
+        assertEquals(random.length, request.getContent().available());
+    }
+
+    @Test
+    public void testClientSendsCompressedBody() throws IOException {
+        final AtomicReference<String> sentEncoding = new AtomicReference<String>();
+        final AtomicReference<String> sentBody = new AtomicReference<String>();
+        final AmazonHttpClient client = new AmazonHttpClient(new ClientConfiguration()
+                .withCompressRequests(true), new HttpClient() {
+                    @Override
+                    public HttpResponse execute(HttpRequest request) throws IOException {
+                        sentEncoding.set(request.getHeaders().get("Content-Encoding"));
+                        sentBody.set(gunzip(request.getContent()));
+                        return HttpResponse.builder().statusCode(200).statusText("OK").build();
+                    }
+
+                    @Override
+                    public void shutdown() {
+                    }
+                });
+        final Request<?> request = request(JSON);
+        request.setEndpoint(URI.create("https://kinesis.us-east-1.amazonaws.com"));
+        request.setHttpMethod(HttpMethodName.POST);
+        client.execute(request, new HttpResponseHandler<AmazonWebServiceResponse<Void>>() {
+            @Override
+            public AmazonWebServiceResponse<Void> handle(HttpResponse response) {
+                return new AmazonWebServiceResponse<Void>();
+            }
+
+            @Override
+            public boolean needsConnectionLeftOpen() {
+                return false;
+            }
+        }, null, new ExecutionContext(false));
+
+        assertEquals("gzip", sentEncoding.get());
+        assertEquals(JSON, sentBody.get());
+    }
+
+    private static Request<?> request(String body) throws IOException {
+        final Request<?> request = new DefaultRequest<Void>("service");
+        request.setContent(new StringInputStream(body));
+        request.addHeader("Content-Length", Integer.toString(body.length()));
+        return request;
+    }
+
+    private static String gunzip(InputStream in) throws IOException {
+        final GZIPInputStream gzip = new GZIPInputStream(in);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        int read;
+        while ((read = gzip.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StringUtils.UTF8);
+    }
+
+    private static String largeJson() {
+        final StringBuilder sb = new StringBuilder("{\"Records\":[");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"Data\":\"eyJldmVudCI6ImNsaWNrIn0=\",\"PartitionKey\":\"key-")
+                    .append(i % 10).append("\"}");
+        }
+        return sb.append("],\"StreamName\":\"stream\"}").toString();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.util.StringInputStream;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestHedgerTest {
+
+    private static final URI ENDPOINT = URI.create("https://dynamodb.us-east-1.amazonaws.com");
+
+    @Test
+    public void testSlowRequestIsHedged() throws Exception {
+        final RequestHedger hedger = new RequestHedger(new ClientConfiguration()
+                .withUseHedgedRequests(true)
+                .withIdempotentOperations("GetItem"));
+        final CountingHttpClient httpClient = new CountingHttpClient();
+        warmUp(hedger, httpClient);
+
+        // The first attempt hangs; the copy answers.
+        final CountDownLatch release = new CountDownLatch(1);
+        final CloseTrackingInputStream slowContent = new CloseTrackingInputStream();
+        final HttpResponse fastResponse = response(new ByteArrayInputStream(new byte[0]));
+        final HttpClient hangingClient = new HttpClient() {
+            private final AtomicInteger calls = new AtomicInteger();
+
+            @Override
+            public HttpResponse execute(HttpRequest request) throws IOException {
+                assertEquals("{\"Key\":{}}", read(request.getContent()));
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        // Cancelled: answer anyway, as a connection that
+                        // ignores interrupts would.
+                    }
+                    return response(slowContent);
+                }
+                return fastResponse;
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+
+        final HttpRequest httpRequest = httpRequest("POST", new StringInputStream("{\"Key\":{}}"));
+        assertSame(fastResponse, hedger.execute(hangingClient, request(new GetItemRequest(),
+                HttpMethodName.POST), httpRequest));
+        release.countDown();
+
+        // The response of the loser is discarded.
+        assertTrue(slowContent.closed.await(10, TimeUnit.SECONDS));
+        // The content of the original request is rewound for retries.
+        assertEquals("{\"Key\":{}}", read(httpRequest.getContent()));
+    }
+
+    @Test
+    public void testOtherRequestsAreNotHedged() throws Exception {
+        final RequestHedger hedger = new RequestHedger(new ClientConfiguration()
+                .withUseHedgedRequests(true));
+        final CountingHttpClient httpClient = new CountingHttpClient();
+        for (int i = 0; i < 2 * RequestHedger.WINDOW; i++) {
+            hedger.execute(httpClient, request(new PutItemRequest(), HttpMethodName.POST),
+                    httpRequest("POST", null));
+        }
+        assertEquals(2 * RequestHedger.WINDOW, httpClient.calls.get());
+        assertEquals(0, httpClient.threads.get());
+    }
+
+    @Test
+    public void testFailuresArePassedOn() throws Exception {
+        final RequestHedger hedger = new RequestHedger(new ClientConfiguration()
+                .withUseHedgedRequests(true));
+        warmUp(hedger, new CountingHttpClient());
+        final IOException failure = new IOException("fake IOException");
+        try {
+            hedger.execute(new HttpClient() {
+                @Override
+                public HttpResponse execute(HttpRequest request) throws IOException {
+                    throw failure;
+                }
+
+                @Override
+                public void shutdown() {
+                }
+            }, request(new GetItemRequest(), HttpMethodName.GET), httpRequest("GET", null));
+            fail("IOException is expected.");
+        } catch (final IOException e) {
+            assertSame(failure, e);
+        }
+    }
+
+    @Test
+    public void testOperationName() {
+        assertEquals("GetItem", RequestHedger.operationNameOf(new GetItemRequest()));
+        assertEquals("Unknown", RequestHedger.operationNameOf(null));
+    }
+
+    /** Sends enough requests for the first estimate of the delay. */
+    private static void warmUp(RequestHedger hedger, HttpClient httpClient) throws IOException {
+        for (int i = 0; i < RequestHedger.WINDOW; i++) {
+            hedger.execute(httpClient, request(new GetItemRequest(), HttpMethodName.GET),
+                    httpRequest("GET", null));
+        }
+    }
+
+    private static Request<?> request(AmazonWebServiceRequest originalRequest,
+            HttpMethodName method) {
+        final Request<?> request = new DefaultRequest<Void>(originalRequest, "AmazonDynamoDB");
+        request.setHttpMethod(method);
+        request.setEndpoint(ENDPOINT);
+        return request;
+    }
+
+    private static HttpRequest httpRequest(String method, InputStream content) {
+        return new HttpRequest(method, ENDPOINT, new HashMap<String, String>(), content);
+    }
+
+    private static HttpResponse response(InputStream content) {
+        return HttpResponse.builder().statusCode(200).statusText("OK").content(content).build();
+    }
+
+    private static String read(InputStream in) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1) {
+            sb.append((char) c);
+        }
+        in.reset();
+        return sb.toString();
+    }
+
+    private static class CountingHttpClient implements HttpClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger threads = new AtomicInteger();
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            calls.incrementAndGet();
+            if (Thread.currentThread().getName().startsWith("AmazonHttpClientHedge")) {
+                threads.incrementAndGet();
+            }
+            return response(new ByteArrayInputStream(new byte[0]));
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    private static class CloseTrackingInputStream extends ByteArrayInputStream {
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        CloseTrackingInputStream() {
+            super(new byte[0]);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+
+    private static class GetItemRequest extends AmazonWebServiceRequest {
+    }
+
+    private static class PutItemRequest extends AmazonWebServiceRequest {
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+import com.amazonaws.util.TimingInfo;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+public class HistogramRequestMetricCollectorTest {
+
+    private static final long ONE_MILLI_NANOS = 1000 * 1000;
+
+    @Test
+    public void testCollectsTimingsByOperation() {
+        final HistogramRequestMetricCollector collector = new HistogramRequestMetricCollector();
+        collector.collectMetrics(request(new GetThingRequest(), 10, 2), null);
+        collector.collectMetrics(request(new GetThingRequest(), 30, 4), null);
+        collector.collectMetrics(request(null, 50, 6), null);
+
+        final Map<HistogramRequestMetricCollector.Key, LatencyHistogram.Snapshot> snapshots =
+                collector.snapshot();
+        assertEquals(4, snapshots.size());
+
+        final LatencyHistogram.Snapshot getThing = snapshots.get(
+                new HistogramRequestMetricCollector.Key("AmazonThings", "GetThing",
+                        Field.HttpRequestTime));
+        assertNotNull(getThing);
+        assertEquals(2, getThing.getCount());
+        assertEquals(10, getThing.getMinimum(), 0.001);
+        assertEquals(30, getThing.getMaximum(), 0.001);
+
+        // Every retry pause is recorded.
+        final LatencyHistogram.Snapshot retries = snapshots.get(
+                new HistogramRequestMetricCollector.Key("AmazonThings", "GetThing",
+                        Field.RetryPauseTime));
+        assertEquals(6, retries.getCount());
+
+        assertTrue(snapshots.containsKey(new HistogramRequestMetricCollector.Key(
+                "AmazonThings", HistogramRequestMetricCollector.UNKNOWN_OPERATION,
+                Field.HttpRequestTime)));
+    }
+
+    @Test
+    public void testSnapshotAndReset() {
+        final HistogramRequestMetricCollector collector =
+                new HistogramRequestMetricCollector(Field.HttpRequestTime);
+        collector.collectMetrics(request(new GetThingRequest(), 10, 2), null);
+
+        final Map<HistogramRequestMetricCollector.Key, LatencyHistogram.Snapshot> snapshots =
+                collector.snapshotAndReset();
+        assertEquals(1, snapshots.size());
+        assertEquals(1, snapshots.values().iterator().next().getCount());
+        assertTrue(collector.snapshot().isEmpty());
+
+        collector.collectMetrics(request(new GetThingRequest(), 20, 0), null);
+        assertEquals(1, collector.snapshot().size());
+    }
+
+    @Test
+    public void testIgnoresDisabledMetrics() {
+        final HistogramRequestMetricCollector collector = new HistogramRequestMetricCollector();
+        final DefaultRequest<GetThingRequest> request = new DefaultRequest<GetThingRequest>(
+                new GetThingRequest(), "AmazonThings");
+        request.setAWSRequestMetrics(new AWSRequestMetrics());
+        collector.collectMetrics(request, null);
+        assertTrue(collector.snapshot().isEmpty());
+    }
+
+    private static DefaultRequest<?> request(AmazonWebServiceRequest original,
+            long httpMillis, int retries) {
+        final DefaultRequest<AmazonWebServiceRequest> request =
+                new DefaultRequest<AmazonWebServiceRequest>(original, "AmazonThings");
+        final AWSRequestMetrics metrics = new AWSRequestMetricsFullSupport();
+        final TimingInfo timingInfo = metrics.getTimingInfo();
+        timingInfo.addSubMeasurement(Field.HttpRequestTime.name(),
+                TimingInfo.newTimingInfoFullSupport(0, httpMillis * ONE_MILLI_NANOS));
+        for (int i = 0; i < retries; i++) {
+            timingInfo.addSubMeasurement(Field.RetryPauseTime.name(),
+                    TimingInfo.newTimingInfoFullSupport(0, 100 * ONE_MILLI_NANOS));
+        }
+        request.setAWSRequestMetrics(metrics);
+        return request;
+    }
+
+    private static class GetThingRequest extends AmazonWebServiceRequest {
+    }
+}
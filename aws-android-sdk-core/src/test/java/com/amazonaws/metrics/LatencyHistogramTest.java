@@ -0,0 +1,136 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsAreContiguous() {
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            final long lower = LatencyHistogram.bucketLowerBound(i);
+            assertEquals(i, LatencyHistogram.bucketIndex(lower));
+            if (i > 0) {
+                assertEquals(i - 1, LatencyHistogram.bucketIndex(lower - 1));
+            }
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1,
+                LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testEmptySnapshot() {
+        final LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMean(), 0);
+        assertEquals(0, snapshot.getMinimum(), 0);
+        assertEquals(0, snapshot.getMaximum(), 0);
+        assertEquals(0, snapshot.getPercentile(99), 0);
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-1);
+        histogram.record(Double.NaN);
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500500, snapshot.getSum(), 0.001);
+        assertEquals(500.5, snapshot.getMean(), 0.001);
+        assertEquals(1, snapshot.getMinimum(), 0);
+        assertEquals(1000, snapshot.getMaximum(), 0);
+        assertEquals(1, snapshot.getPercentile(0), 0);
+        assertEquals(1000, snapshot.getPercentile(100), 0);
+        assertWithin(500, snapshot.getPercentile(50));
+        assertWithin(900, snapshot.getPercentile(90));
+        assertWithin(990, snapshot.getPercentile(99));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LatencyHistogram().snapshot().getPercentile(101);
+    }
+
+    @Test
+    public void testSnapshotAndReset() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5);
+        histogram.record(7);
+        assertEquals(2, histogram.snapshot().getCount());
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(5, snapshot.getMinimum(), 0);
+        assertEquals(7, snapshot.getMaximum(), 0);
+        assertEquals(0, histogram.snapshot().getCount());
+
+        histogram.record(3);
+        assertEquals(3, histogram.snapshot().getMinimum(), 0);
+        assertEquals(3, histogram.snapshot().getMaximum(), 0);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final int threads = 8;
+        final int perThread = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] recorders = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            recorders[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        histogram.record(i % 100);
+                    }
+                }
+            });
+            recorders[t].start();
+        }
+        start.countDown();
+        for (final Thread recorder : recorders) {
+            recorder.join();
+        }
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(threads * perThread, snapshot.getCount());
+        assertEquals(0, snapshot.getMinimum(), 0);
+        assertEquals(99, snapshot.getMaximum(), 0);
+    }
+
+    /**
+     * Buckets are an eighth of a power of two wide, so an estimate is within
+     * 1/16 of the recorded value.
+     */
+    private static void assertWithin(double expected, double actual) {
+        assertTrue("Expected about " + expected + " but was " + actual,
+                Math.abs(expected - actual) <= expected / 16);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.Response;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AmazonHttpClientAsyncRetryTest {
+
+    private static final long BACKOFF_MILLIS = 200;
+    private static final int MAX_ERROR_RETRY = 3;
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private ExecutorService executor;
+    private AmazonHttpClient client;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        final RetryPolicy retryPolicy = new RetryPolicy(null,
+                new RetryPolicy.BackoffStrategy() {
+                    @Override
+                    public long delayBeforeNextRetry(
+                            AmazonWebServiceRequest originalRequest,
+                            AmazonClientException exception, int retriesAttempted) {
+                        return BACKOFF_MILLIS;
+                    }
+                }, MAX_ERROR_RETRY, false);
+        client = new AmazonHttpClient(new ClientConfiguration().withRetryPolicy(retryPolicy));
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRetriesDoNotHoldTheExecutor() throws Exception {
+        // Fails twice, then succeeds.
+        RetryPolicyTestBase.injectMockHttpClient(client, new HttpClient() {
+            @Override
+            public HttpResponse execute(HttpRequest request) throws IOException {
+                if (attempts.incrementAndGet() <= 2) {
+                    throw new IOException("fake IOException");
+                }
+                return HttpResponse.builder().statusCode(200).statusText("OK").build();
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        });
+
+        final Future<Response<String>> future = executeAsync();
+        // The executor's only thread is free while the request backs off.
+        final Future<?> other = executor.submit(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        other.get(BACKOFF_MILLIS / 2, TimeUnit.MILLISECONDS);
+        assertFalse(future.isDone());
+
+        final Response<String> response = future.get(10, TimeUnit.SECONDS);
+        assertEquals("result", response.getAwsResponse());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testFutureFailsWhenRetriesAreExhausted() throws Exception {
+        RetryPolicyTestBase.injectMockHttpClient(client, new HttpClient() {
+            @Override
+            public HttpResponse execute(HttpRequest request) throws IOException {
+                attempts.incrementAndGet();
+                throw new IOException("fake IOException");
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        });
+
+        try {
+            executeAsync().get(10, TimeUnit.SECONDS);
+            fail("ExecutionException is expected.");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof AmazonClientException);
+            assertTrue(e.getCause().getCause() instanceof IOException);
+        }
+        assertEquals(MAX_ERROR_RETRY + 1, attempts.get());
+    }
+
+    private Future<Response<String>> executeAsync() {
+        return client.executeAsync(
+                RetryPolicyTestBase.getSampleRequestWithRepeatableContent(
+                        RetryPolicyTestBase.originalRequest),
+                new StringResponseHandler(),
+                RetryPolicyTestBase.errorResponseHandler,
+                new ExecutionContext(false),
+                executor);
+    }
+
+    private static class StringResponseHandler
+            implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) {
+            final AmazonWebServiceResponse<String> awsResponse =
+                    new AmazonWebServiceResponse<String>();
+            awsResponse.setResult("result");
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RetryQuotaTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testRetriesTakeTokens() {
+        final RetryQuota quota = new RetryQuota(20);
+        final AmazonServiceException serviceError = new AmazonServiceException("error");
+        final AmazonClientException ioError = new AmazonClientException("io",
+                new IOException());
+
+        assertTrue(quota.acquireRetry(ioError));
+        assertTrue(quota.acquireRetry(serviceError));
+        assertEquals(20 - RetryQuota.TIMEOUT_RETRY_COST - RetryQuota.RETRY_COST,
+                quota.getAvailableTokens());
+        assertTrue(quota.acquireRetry(serviceError));
+        assertFalse(quota.acquireRetry(serviceError));
+
+        // Successes refill the bucket, up to its capacity.
+        quota.onSuccess(true);
+        assertEquals(RetryQuota.RETRY_COST, quota.getAvailableTokens());
+        quota.onSuccess(false);
+        assertEquals(RetryQuota.RETRY_COST + RetryQuota.NO_RETRY_INCREMENT,
+                quota.getAvailableTokens());
+        for (int i = 0; i < 100; i++) {
+            quota.onSuccess(true);
+        }
+        assertEquals(20, quota.getAvailableTokens());
+    }
+
+    @Test
+    public void testThrottlingLimitsSendRate() throws InterruptedException {
+        final FakeClockRetryQuota quota = new FakeClockRetryQuota();
+        // 10 requests per second for two seconds.
+        for (int i = 0; i < 20; i++) {
+            quota.acquireSendPermit();
+            quota.now += ONE_SECOND / 10;
+        }
+        assertEquals(Double.POSITIVE_INFINITY, quota.getSendRate(), 0);
+        assertEquals(0, quota.slept);
+
+        // Errors other than throttling don't limit the rate.
+        quota.onError(new AmazonServiceException("error"));
+        assertEquals(Double.POSITIVE_INFINITY, quota.getSendRate(), 0);
+
+        quota.onError(throttlingError());
+        final double limited = quota.getSendRate();
+        assertEquals(10 * RetryQuota.RATE_DECREASE_FACTOR, limited, 1);
+
+        // Sending faster than the limit waits.
+        for (int i = 0; i < 10; i++) {
+            quota.acquireSendPermit();
+        }
+        assertTrue(quota.slept >= 8 * ONE_SECOND / limited);
+
+        // Another throttling error lowers the limit again.
+        quota.onError(throttlingError());
+        assertEquals(limited * RetryQuota.RATE_DECREASE_FACTOR, quota.getSendRate(), 0.001);
+    }
+
+    @Test
+    public void testSendRateRecovers() throws InterruptedException {
+        final FakeClockRetryQuota quota = new FakeClockRetryQuota();
+        for (int i = 0; i < 20; i++) {
+            quota.acquireSendPermit();
+            quota.now += ONE_SECOND / 10;
+        }
+        quota.onError(throttlingError());
+        double rate = quota.getSendRate();
+        int successes = 0;
+        while (quota.getSendRate() != Double.POSITIVE_INFINITY) {
+            quota.onSuccess(false);
+            assertTrue(quota.getSendRate() > rate);
+            rate = quota.getSendRate();
+            successes++;
+        }
+        assertTrue(successes > 10);
+        assertTrue(successes < 100);
+    }
+
+    @Test
+    public void testClientRetriesAreLimited() {
+        final ClientConfiguration config = new ClientConfiguration()
+                .withUseRetryQuota(true)
+                .withRetryPolicy(new RetryPolicy(null, RetryPolicy.BackoffStrategy.NO_DELAY,
+                        3, false));
+        final AmazonHttpClient client = new AmazonHttpClient(config);
+        final AtomicInteger attempts = new AtomicInteger();
+        RetryPolicyTestBase.injectMockHttpClient(client, new HttpClient() {
+            @Override
+            public HttpResponse execute(HttpRequest request) throws IOException {
+                attempts.incrementAndGet();
+                throw new IOException("fake IOException");
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        });
+
+        final int requests = 20;
+        for (int i = 0; i < requests; i++) {
+            try {
+                client.execute(RetryPolicyTestBase.getSampleRequestWithRepeatableContent(
+                        RetryPolicyTestBase.originalRequest), null,
+                        RetryPolicyTestBase.errorResponseHandler, new ExecutionContext(false));
+                fail("AmazonClientException is expected.");
+            } catch (final AmazonClientException e) {
+                // expected
+            }
+        }
+        // Only as many retries as the quota pays for.
+        assertEquals(requests + RetryQuota.DEFAULT_CAPACITY / RetryQuota.TIMEOUT_RETRY_COST,
+                attempts.get());
+    }
+
+    private static AmazonServiceException throttlingError() {
+        final AmazonServiceException ase = new AmazonServiceException("slow down");
+        ase.setErrorCode("ThrottlingException");
+        return ase;
+    }
+
+    /**
+     * A quota whose clock only moves when told, or when it sleeps.
+     */
+    private static class FakeClockRetryQuota extends RetryQuota {
+        private long now;
+        private long slept;
+
+        @Override
+        long nanoTime() {
+            return now;
+        }
+
+        @Override
+        void sleep(long nanos) {
+            slept += nanos;
+            now += nanos;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.transform;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class FieldNameIndexTest {
+
+    @Test
+    public void testIndexOf() {
+        final String[] names = {
+                "S", "N", "B", "SS", "NS", "BS", "M", "L", "NULL", "BOOL"
+        };
+        final FieldNameIndex index = new FieldNameIndex(names);
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(i, index.indexOf(names[i]));
+            // Lookups compare contents, not identity
+            assertEquals(i, index.indexOf(new String(names[i])));
+        }
+        assertEquals(FieldNameIndex.UNKNOWN_FIELD, index.indexOf("BSS"));
+        assertEquals(FieldNameIndex.UNKNOWN_FIELD, index.indexOf(""));
+        assertEquals(FieldNameIndex.UNKNOWN_FIELD, index.indexOf("s"));
+    }
+
+    @Test
+    public void testManyFields() {
+        final String[] names = new String[200];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Field" + i;
+        }
+        final FieldNameIndex index = new FieldNameIndex(names);
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(i, index.indexOf(names[i]));
+        }
+        assertEquals(FieldNameIndex.UNKNOWN_FIELD, index.indexOf("Field200"));
+    }
+
+    @Test
+    public void testEqualHashCodes() {
+        // "Aa" and "BB" share a hash code, so no perfect hash exists.
+        final FieldNameIndex index = new FieldNameIndex("Aa", "BB", "C");
+        assertEquals(0, index.indexOf("Aa"));
+        assertEquals(1, index.indexOf("BB"));
+        assertEquals(2, index.indexOf("C"));
+        assertEquals(FieldNameIndex.UNKNOWN_FIELD, index.indexOf("D"));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(FieldNameIndex.UNKNOWN_FIELD, new FieldNameIndex().indexOf("S"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateName() {
+        new FieldNameIndex("S", "N", "S");
+    }
+}
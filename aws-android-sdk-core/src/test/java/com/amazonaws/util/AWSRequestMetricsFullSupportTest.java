@@ -0,0 +1,121 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class AWSRequestMetricsFullSupportTest {
+
+    @Test
+    public void testFieldEvents() {
+        final AWSRequestMetricsFullSupport metrics = new AWSRequestMetricsFullSupport();
+        metrics.startEvent(Field.HttpRequestTime);
+        metrics.endEvent(Field.HttpRequestTime);
+        metrics.startEvent(Field.RetryPauseTime.name());
+        metrics.endEvent(Field.RetryPauseTime.name());
+        metrics.startEvent(Field.HttpRequestTime);
+        metrics.endEvent(Field.HttpRequestTime);
+
+        assertEquals(2, metrics.getEventCount(Field.HttpRequestTime));
+        assertEquals(1, metrics.getEventCount(Field.RetryPauseTime));
+        assertEquals(0, metrics.getEventCount(Field.ClientExecuteTime));
+        assertTrue(metrics.getEventTimeTakenMillis(Field.HttpRequestTime, 1) >= 0);
+        assertEquals(-1, metrics.getEventTimeTakenMillis(Field.HttpRequestTime, 2), 0);
+
+        final TimingInfo timingInfo = metrics.getTimingInfo();
+        final List<TimingInfo> timings = timingInfo.getAllSubMeasurements(
+                Field.HttpRequestTime.name());
+        assertEquals(2, timings.size());
+        assertEquals(metrics.getEventTimeTakenMillis(Field.HttpRequestTime, 0),
+                timings.get(0).getTimeTakenMillis(), 0);
+        assertEquals(timings.get(1).getEndTimeNano(), timingInfo.getLastSubMeasurement(
+                Field.HttpRequestTime.name()).getEndTimeNano());
+        assertNull(timingInfo.getAllSubMeasurements(Field.ClientExecuteTime.name()));
+        assertNull(timingInfo.getSubMeasurement(Field.RetryPauseTime.name(), 1));
+    }
+
+    @Test
+    public void testEndingUnstartedEvent() {
+        final AWSRequestMetricsFullSupport metrics = new AWSRequestMetricsFullSupport();
+        metrics.endEvent(Field.HttpRequestTime);
+        metrics.endEvent("Custom");
+        assertEquals(0, metrics.getEventCount(Field.HttpRequestTime));
+        assertTrue(metrics.getTimingInfo().getSubMeasurementsByName().isEmpty());
+    }
+
+    @Test
+    public void testCustomEvents() {
+        final AWSRequestMetricsFullSupport metrics = new AWSRequestMetricsFullSupport();
+        metrics.startEvent("Custom");
+        metrics.endEvent("Custom");
+        metrics.startEvent(Field.ClientExecuteTime);
+        metrics.endEvent(Field.ClientExecuteTime);
+
+        final TimingInfo timingInfo = metrics.getTimingInfo();
+        assertEquals(1, timingInfo.getAllSubMeasurements("Custom").size());
+        final Map<String, List<TimingInfo>> byName = timingInfo.getSubMeasurementsByName();
+        assertEquals(2, byName.size());
+        assertEquals(1, byName.get(Field.ClientExecuteTime.name()).size());
+
+        // Explicitly added sub-measurements of fields are recorded in order.
+        final TimingInfo added = TimingInfo.newTimingInfoFullSupport(0, 5000000);
+        timingInfo.addSubMeasurement(Field.ClientExecuteTime.name(), added);
+        assertEquals(5, timingInfo.getLastSubMeasurement(Field.ClientExecuteTime.name())
+                .getTimeTakenMillis(), 0);
+        assertEquals(2, metrics.getEventCount(Field.ClientExecuteTime));
+    }
+
+    @Test
+    public void testCounters() {
+        final AWSRequestMetricsFullSupport metrics = new AWSRequestMetricsFullSupport();
+        final TimingInfo timingInfo = metrics.getTimingInfo();
+        assertTrue(timingInfo.getAllCounters().isEmpty());
+
+        metrics.incrementCounter(Field.RequestCount);
+        metrics.incrementCounter(Field.RequestCount.name());
+        metrics.setCounter(Field.HttpClientRetryCount, 3);
+        metrics.incrementCounter("Custom");
+
+        assertEquals(2L, timingInfo.getCounter(Field.RequestCount.name()));
+        assertEquals(3L, timingInfo.getCounter(Field.HttpClientRetryCount.name()));
+        assertEquals(1, timingInfo.getCounter("Custom").intValue());
+        assertNull(timingInfo.getCounter(Field.RetryCount.name()));
+
+        final Map<String, Number> counters = timingInfo.getAllCounters();
+        assertEquals(3, counters.size());
+        assertEquals(2L, counters.get(Field.RequestCount.name()));
+    }
+
+    @Test
+    public void testTimingInfoFullSupportIsEmptyUntilUsed() {
+        final TimingInfo timingInfo = TimingInfo.startTimingFullSupport();
+        assertNull(timingInfo.getAllSubMeasurements("a"));
+        assertNull(timingInfo.getLastSubMeasurement("a"));
+        assertTrue(timingInfo.getSubMeasurementsByName().isEmpty());
+        assertNull(timingInfo.getCounter("a"));
+        timingInfo.incrementCounter("a");
+        assertEquals(1, timingInfo.getCounter("a").intValue());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.util.json.AwsJsonWriter;
+import com.amazonaws.util.json.JsonUtils;
+
+import org.junit.Test;
+
+import java.io.OutputStreamWriter;
+import java.security.MessageDigest;
+
+public class RequestContentOutputStreamTest {
+
+    @Test
+    public void testSetRequestContent() throws Exception {
+        final RequestContentOutputStream content = new RequestContentOutputStream(4);
+        final AwsJsonWriter jsonWriter = JsonUtils.getJsonWriter(new OutputStreamWriter(content,
+                StringUtils.UTF8));
+        jsonWriter.beginObject().name("TableName").value("café").endObject();
+        jsonWriter.close();
+
+        final Request<Void> request = new DefaultRequest<Void>("Foo");
+        content.setRequestContent(request);
+
+        final byte[] expected = "{\"TableName\":\"café\"}".getBytes(StringUtils.UTF8);
+        assertEquals(Integer.toString(expected.length),
+                request.getHeaders().get("Content-Length"));
+        final RequestContentOutputStream.ContentInputStream in =
+                (RequestContentOutputStream.ContentInputStream) request.getContent();
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(expected),
+                in.getContentSha256());
+        assertArrayEquals(expected, IOUtils.toByteArray(in));
+    }
+
+    @Test
+    public void testHashUnavailableOnceRead() throws Exception {
+        final RequestContentOutputStream content = new RequestContentOutputStream();
+        content.write(new byte[] {
+                1, 2, 3
+        });
+        final RequestContentOutputStream.ContentInputStream in = content.toInputStream();
+        in.read();
+        assertNull(in.getContentSha256());
+        in.reset();
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(new byte[] {
+                1, 2, 3
+        }), in.getContentSha256());
+    }
+
+    @Test
+    public void testWriteAfterHandOffFails() throws Exception {
+        final RequestContentOutputStream content = new RequestContentOutputStream();
+        content.write(1);
+        content.toInputStream();
+        try {
+            content.write(2);
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.util.json;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.util.Base64;
+import com.amazonaws.util.StringUtils;
+import com.amazonaws.util.json.JsonUtils.JsonEngine;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+public class Utf8JsonReaderTest {
+
+    private static final String JSON_STRING = "{\"string\":\"string\","
+            + "\"long\":123,"
+            + "\"double\":-123.45e-2,"
+            + "\"null\":null,"
+            + "\"true\":true,"
+            + "\"false\":false,"
+            + "\"encoding\":\"Chloë \\u00e9 \\\"q\\\" \\\\ \\/ \\t 東京 😀\","
+            + "\"array\":[\"string\",123,123.45,null,true,false,[],{}],"
+            + "\"object\":{\"nested\":{\"deeper\":[1,[2,[3]]]}},"
+            + "\"Chloë\":\"non ASCII name\""
+            + "}";
+
+    @Test
+    public void testMatchesGson() throws IOException {
+        assertEquals(walk(new GsonFactory().getJsonReader(new StringReader(JSON_STRING))),
+                walk(utf8Reader(JSON_STRING)));
+    }
+
+    @Test
+    public void testValuesAcrossBufferBoundaries() throws IOException {
+        final Random random = new Random(42);
+        final StringBuilder json = new StringBuilder("{\"Items\":[");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name").append(i % 7).append("\":{\"S\":\"");
+            for (int j = random.nextInt(40); j > 0; j--) {
+                json.append(j % 5 == 0 ? "é" : j % 11 == 0 ? "😀" : "x");
+            }
+            json.append("\"},\"n\":{\"N\":\"").append(random.nextInt()).append("\"}}");
+        }
+        json.append("]}");
+
+        assertEquals(walk(new GsonFactory().getJsonReader(new StringReader(json.toString()))),
+                walk(utf8Reader(json.toString())));
+    }
+
+    @Test
+    public void testRepeatedNamesAreShared() throws IOException {
+        final AwsJsonReader reader = utf8Reader("[{\"Name\":1},{\"Name\":2}]");
+        reader.beginArray();
+        reader.beginObject();
+        final String first = reader.nextName();
+        reader.skipValue();
+        reader.endObject();
+        reader.beginObject();
+        assertSame(first, reader.nextName());
+        assertEquals("2", reader.nextString());
+        reader.endObject();
+        reader.endArray();
+        assertNull(reader.peek());
+    }
+
+    @Test
+    public void testNextByteBuffer() throws IOException {
+        final Random random = new Random(7);
+        for (int length = 0; length < 40; length++) {
+            final byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            final String encoded = Base64.encodeAsString(bytes);
+            final Utf8JsonReader reader = utf8Reader("[\"" + encoded + "\",\""
+                    + encoded.replace("/", "\\/") + "\",null]");
+            reader.beginArray();
+            assertEquals(ByteBuffer.wrap(bytes), reader.nextByteBuffer());
+            final ByteBuffer escaped = reader.nextByteBuffer();
+            assertArrayEquals(bytes, escaped.array());
+            assertNull(reader.nextByteBuffer());
+            reader.endArray();
+        }
+    }
+
+    @Test
+    public void testInvalidBase64() throws IOException {
+        final Utf8JsonReader reader = utf8Reader("\"AB$=\"");
+        try {
+            reader.nextByteBuffer();
+            fail("Expected an IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testEmptyDocument() throws IOException {
+        assertNull(utf8Reader("").peek());
+        assertNull(utf8Reader("  \n").peek());
+    }
+
+    @Test
+    public void testMalformed() throws IOException {
+        final String[] documents = {
+                "{\"a\" 1}", "{\"a\":1,}", "[1 2]", "{a:1}", "[tru]", "\"abc", "{} {}"
+        };
+        for (final String document : documents) {
+            try {
+                walk(utf8Reader(document));
+                fail("Expected an exception for " + document);
+            } catch (final IOException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testUnexpectedToken() throws IOException {
+        final AwsJsonReader reader = utf8Reader("[1]");
+        try {
+            reader.beginObject();
+            fail("Expected an IllegalStateException");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testJsonUtilsEngine() throws IOException {
+        JsonUtils.setJsonEngine(JsonEngine.Utf8);
+        try {
+            final AwsJsonReader reader = JsonUtils.getJsonReader(new ByteArrayInputStream(
+                    JSON_STRING.getBytes(StringUtils.UTF8)));
+            assertTrue(reader instanceof Utf8JsonReader);
+            assertEquals("Chloë", JsonUtils.jsonToMap("{\"encoding\":\"Chloë\"}")
+                    .get("encoding"));
+            assertEquals("{\"a\":\"b\"}", JsonUtils.mapToString(
+                    JsonUtils.jsonToMap("{\"a\":\"b\"}")));
+        } finally {
+            JsonUtils.setJsonEngine(JsonEngine.Gson);
+        }
+        assertFalse(JsonUtils.getJsonReader(new ByteArrayInputStream(new byte[0]))
+                instanceof Utf8JsonReader);
+    }
+
+    private static Utf8JsonReader utf8Reader(String json) {
+        return new Utf8JsonReader(new ByteArrayInputStream(json.getBytes(StringUtils.UTF8)));
+    }
+
+    /**
+     * Walks a document through the AwsJsonReader API, skipping every third
+     * value, and describes what was read.
+     */
+    private static String walk(AwsJsonReader reader) throws IOException {
+        final StringBuilder out = new StringBuilder();
+        walkValue(reader, out, new int[1]);
+        assertNull(reader.peek());
+        reader.close();
+        return out.toString();
+    }
+
+    private static void walkValue(AwsJsonReader reader, StringBuilder out, int[] count)
+            throws IOException {
+        final AwsJsonToken token = reader.peek();
+        out.append(token).append(' ');
+        if (++count[0] % 3 == 0) {
+            reader.skipValue();
+            out.append("skipped ");
+            return;
+        }
+        if (token == AwsJsonToken.BEGIN_OBJECT) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                out.append(reader.nextName()).append(':');
+                walkValue(reader, out, count);
+            }
+            reader.endObject();
+            out.append("} ");
+        } else if (token == AwsJsonToken.BEGIN_ARRAY) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                walkValue(reader, out, count);
+            }
+            reader.endArray();
+            out.append("] ");
+        } else {
+            assertFalse(reader.isContainer());
+            out.append(reader.nextString()).append(' ');
+        }
+    }
+}
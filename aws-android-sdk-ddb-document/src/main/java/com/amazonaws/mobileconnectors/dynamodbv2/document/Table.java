@@ -97,7 +97,9 @@ public class Table {
     }
 
     /**
-     * Load table configuration.
+     * Load table configuration. Each call describes the table, unless the
+     * client caches DescribeTable responses with a
+     * {@link com.amazonaws.handlers.ResponseCacheHandler}.
      *
      * @param client the dynamodb client.
      * @param tableName the tablename.
@@ -105,8 +107,8 @@ public class Table {
      */
     public static Table loadTable(AmazonDynamoDB client, String tableName) {
         final Table table = new Table(client, tableName);
-        // TODO: we need to be able to cache table information so that we can
-        // avoid making too many describe table calls.
+        // Add a ResponseCacheHandler for DescribeTable to the client to avoid
+        // making too many describe table calls.
         table.loadTableDescription();
         return table;
     }
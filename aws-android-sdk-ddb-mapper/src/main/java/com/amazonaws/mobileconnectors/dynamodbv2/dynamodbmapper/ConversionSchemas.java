@@ -94,11 +94,14 @@ import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Pre-defined strategies for mapping between Java types and DynamoDB types.
@@ -203,6 +206,16 @@ public final class ConversionSchemas {
         private final DynamoDBReflector reflector;
         private final S3ClientCache s3cc;
 
+        /*
+         * Conversion plans for each mapped class and property, so converting
+         * an item is a loop over resolved properties rather than a marshaller
+         * lookup (and allocation) per attribute.
+         */
+        private final ConcurrentMap<Class<?>, PropertyModel[]> itemModelCache =
+                new ConcurrentHashMap<Class<?>, PropertyModel[]>();
+        private final ConcurrentMap<Method, PropertyModel> propertyModelCache =
+                new ConcurrentHashMap<Method, PropertyModel>();
+
         public StandardItemConverter(
                 MarshallerSet marshallerSet,
                 UnmarshallerSet unmarshallerSet,
@@ -217,8 +230,9 @@ public final class ConversionSchemas {
 
         @Override
         public DynamoDBMapperFieldModel getFieldModel(Method getter) {
-            final String attributeName = reflector.getAttributeName(getter);
-            final ArgumentMarshaller marshaller = getMarshaller(getter);
+            final PropertyModel property = getPropertyModel(getter);
+            final String attributeName = property.attributeName;
+            final ArgumentMarshaller marshaller = getMarshaller(property);
 
             DynamoDBAttributeType attributeType = null;
             if (marshaller instanceof StringAttributeMarshaller) {
@@ -254,7 +268,7 @@ public final class ConversionSchemas {
                 return null;
             }
 
-            final ArgumentMarshaller marshaller = getMarshaller(getter);
+            final ArgumentMarshaller marshaller = getMarshaller(getPropertyModel(getter));
             return marshaller.marshall(object);
         }
 
@@ -268,15 +282,14 @@ public final class ConversionSchemas {
             final Map<String, AttributeValue> result =
                     new HashMap<String, AttributeValue>();
 
-            for (final Method getter : reflector.getRelevantGetters(clazz)) {
+            for (final PropertyModel property : getItemModel(clazz)) {
                 final Object getterResult =
-                        ReflectionUtils.safeInvoke(getter, object);
+                        ReflectionUtils.safeInvoke(property.getter, object);
 
                 if (getterResult != null) {
-                    final AttributeValue value = convert(getter, getterResult);
+                    final AttributeValue value = getMarshaller(property).marshall(getterResult);
                     if (value != null) {
-                        final String name = reflector.getAttributeName(getter);
-                        result.put(name, value);
+                        result.put(property.attributeName, value);
                     }
                 }
             }
@@ -284,6 +297,48 @@ public final class ConversionSchemas {
             return result;
         }
 
+        private PropertyModel[] getItemModel(Class<?> clazz) {
+            PropertyModel[] model = itemModelCache.get(clazz);
+            if (model == null) {
+                final Collection<Method> getters = reflector.getRelevantGetters(clazz);
+                model = new PropertyModel[getters.size()];
+                int i = 0;
+                for (final Method getter : getters) {
+                    model[i++] = getPropertyModel(getter);
+                }
+                final PropertyModel[] existing = itemModelCache.putIfAbsent(clazz, model);
+                if (existing != null) {
+                    model = existing;
+                }
+            }
+            return model;
+        }
+
+        private PropertyModel getPropertyModel(Method getter) {
+            PropertyModel model = propertyModelCache.get(getter);
+            if (model == null) {
+                model = new PropertyModel(getter, reflector.getAttributeName(getter));
+                final PropertyModel existing = propertyModelCache.putIfAbsent(getter, model);
+                if (existing != null) {
+                    model = existing;
+                }
+            }
+            return model;
+        }
+
+        /**
+         * Resolved on first use, since a property whose type can't be
+         * marshalled is only an error once it holds a value.
+         */
+        private ArgumentMarshaller getMarshaller(PropertyModel property) {
+            ArgumentMarshaller marshaller = property.marshaller;
+            if (marshaller == null) {
+                marshaller = getMarshaller(property.getter);
+                property.marshaller = marshaller;
+            }
+            return marshaller;
+        }
+
         private ArgumentMarshaller getMarshaller(Method getter) {
             ArgumentMarshaller marshaller =
                     marshallerSet.getMarshaller(getter);
@@ -399,7 +454,8 @@ public final class ConversionSchemas {
                 Method setter,
                 AttributeValue value) {
 
-            final ArgumentUnmarshaller unmarshaller = getUnmarshaller(getter, setter);
+            final ArgumentUnmarshaller unmarshaller =
+                    getUnmarshaller(getPropertyModel(getter), setter);
             return unmarshall(unmarshaller, setter, value);
         }
 
@@ -413,11 +469,10 @@ public final class ConversionSchemas {
                 return result;
             }
 
-            for (final Method m : reflector.getRelevantGetters(clazz)) {
-                final String attributeName = reflector.getAttributeName(m);
-                final AttributeValue av = value.get(attributeName);
+            for (final PropertyModel property : getItemModel(clazz)) {
+                final AttributeValue av = value.get(property.attributeName);
                 if (av != null) {
-                    setValue(result, m, av);
+                    setValue(result, property, av);
                 }
             }
 
@@ -426,17 +481,29 @@ public final class ConversionSchemas {
 
         private void setValue(
                 Object target,
-                Method getter,
+                PropertyModel property,
                 AttributeValue value) {
 
-            final Method setter = reflector.getSetter(getter);
+            final Method setter = reflector.getSetter(property.getter);
             final ArgumentUnmarshaller unmarshaller =
-                    getUnmarshaller(getter, setter);
+                    getUnmarshaller(property, setter);
 
             final Object unmarshalled = unmarshall(unmarshaller, setter, value);
             ReflectionUtils.safeInvoke(setter, target, unmarshalled);
         }
 
+        private ArgumentUnmarshaller getUnmarshaller(
+                PropertyModel property,
+                Method setter) {
+
+            ArgumentUnmarshaller unmarshaller = property.unmarshaller;
+            if (unmarshaller == null) {
+                unmarshaller = getUnmarshaller(property.getter, setter);
+                property.unmarshaller = unmarshaller;
+            }
+            return unmarshaller;
+        }
+
         private ArgumentUnmarshaller getUnmarshaller(
                 Method getter,
                 Method setter) {
@@ -599,6 +666,22 @@ public final class ConversionSchemas {
             }
         }
 
+        /**
+         * A mapped property and its conversions. The marshaller and
+         * unmarshaller are immutable, so threads racing to resolve one may
+         * each publish their own copy.
+         */
+        private static final class PropertyModel {
+            private final Method getter;
+            private final String attributeName;
+            private volatile ArgumentMarshaller marshaller;
+            private volatile ArgumentUnmarshaller unmarshaller;
+
+            PropertyModel(Method getter, String attributeName) {
+                this.getter = getter;
+                this.attributeName = attributeName;
+            }
+        }
     }
 
     static interface MarshallerSet {
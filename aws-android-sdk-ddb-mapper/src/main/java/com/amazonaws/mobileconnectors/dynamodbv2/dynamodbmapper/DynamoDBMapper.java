@@ -78,6 +78,14 @@ import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Object mapper for domain-object interaction with DynamoDB.
@@ -182,13 +190,18 @@ public class DynamoDBMapper {
     private final DynamoDBTableSchemaParser schemaParser = new DynamoDBTableSchemaParser();
     private final VersionIncrementor incrementor = new VersionIncrementor();
 
+    /*
+     * The standard converters cache a conversion plan per mapped class, so
+     * they're kept for the life of the mapper rather than built per call.
+     */
+    private final ConcurrentMap<ConversionSchema, ItemConverter> converterCache =
+            new ConcurrentHashMap<ConversionSchema, ItemConverter>();
+
     private final AttributeTransformer transformer;
 
     /** The max back off time for batch write */
     static final long MAX_BACKOFF_IN_MILLISECONDS = 1000 * 3;
 
-    private static final long THREAD_SLEEP_TWO_SECONDS = 1000 * 2;
-
     /** The max number of items allowed in a BatchWrite request */
     static final int MAX_ITEMS_PER_BATCH = 25;
 
@@ -200,8 +213,10 @@ public class DynamoDBMapper {
      */
     static final int BATCH_GET_MAX_RETRY_COUNT_ALL_KEYS = 5;
 
-    private static final int EXPONENTIAL_BACKOFF_OFFSET = 500;
-    private static final int EXPONENTIAL_BACKOFF_RANDOMIZATION_OFFSET = 100;
+    private static final long EXPONENTIAL_BACKOFF_OFFSET = 500;
+    /** Beyond this the delay is always capped by MAX_BACKOFF_IN_MILLISECONDS */
+    private static final int MAX_BACKOFF_SHIFT = 10;
+    private static final Random BACKOFF_JITTER = new Random();
     /**
      * User agent for requests made using the {@link DynamoDBMapper}.
      */
@@ -1708,7 +1723,8 @@ public class DynamoDBMapper {
      *            version checks are performed</b>, as required by the
      *            {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)}
      *            API.
-     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()} is
+     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()}
+     *            and {@link DynamoDBMapperConfig#getBatchConcurrency()} are
      *            considered; if specified, all objects in the two parameter
      *            lists will be considered to belong to the given table
      *            override. In particular, this method <b>always acts as if
@@ -1783,6 +1799,9 @@ public class DynamoDBMapper {
         }
 
         // Break into chunks of 25 items and make service requests to DynamoDB
+        final List<Callable<List<FailedBatch>>> batchWrites =
+                new ArrayList<Callable<List<FailedBatch>>>();
+        final AtomicInteger throttledBatches = new AtomicInteger();
         while (!requestItems.isEmpty()) {
 
             final HashMap<String, List<WriteRequest>> batch =
@@ -1812,20 +1831,25 @@ public class DynamoDBMapper {
                 }
             }
 
-            final List<FailedBatch> failedBatches = writeOneBatch(batch);
-            if (failedBatches != null) {
-                totalFailedBatches.addAll(failedBatches);
-
-                // If contains throttling exception, we do a backoff
-                if (containsThrottlingException(failedBatches)) {
-                    try {
-                        Thread.sleep(THREAD_SLEEP_TWO_SECONDS);
-                    } catch (final InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new AmazonClientException(e.getMessage(), e);
+            batchWrites.add(new Callable<List<FailedBatch>>() {
+                @Override
+                public List<FailedBatch> call() {
+                    final List<FailedBatch> failedBatches = writeOneBatch(batch);
+
+                    // If contains throttling exception, we back off for
+                    // longer the more batches in a row have been throttled
+                    if (containsThrottlingException(failedBatches)) {
+                        pauseExponentially(throttledBatches.incrementAndGet());
+                    } else {
+                        throttledBatches.set(0);
                     }
+                    return failedBatches;
                 }
-            }
+            });
+        }
+
+        for (final List<FailedBatch> failedBatches : runBatchRequests(batchWrites, config)) {
+            totalFailedBatches.addAll(failedBatches);
         }
 
         // Once the entire batch is processed, update assigned keys in memory
@@ -1978,8 +2002,9 @@ public class DynamoDBMapper {
      *
      * @param itemsToGet Key objects, corresponding to the class to fetch, with
      *            their primary key values set.
-     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()}
-     *            and {@link DynamoDBMapperConfig#getConsistentReads()} are
+     * @param config Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getConsistentReads()} and
+     *            {@link DynamoDBMapperConfig#getBatchConcurrency()} are
      *            considered.
      * @return A map of the loaded objects. Each key in the map is the name of a
      *         DynamoDB table. Each value in the map is a list of objects that
@@ -1995,9 +2020,11 @@ public class DynamoDBMapper {
             return new HashMap<String, List<Object>>();
         }
 
-        final Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
+        Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
         final Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
         final Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
+        final List<Callable<Map<String, List<Object>>>> batchGets =
+                new ArrayList<Callable<Map<String, List<Object>>>>();
         int count = 0;
 
         final ItemConverter converter = getConverter(config);
@@ -2022,20 +2049,105 @@ public class DynamoDBMapper {
             // Reach the maximum number which can be handled in a single
             // batchGet
             if (++count == MAX_BATCH_GET_COUNT) {
-                processBatchGetRequest(classesByTableName, requestItems, resultSet, config,
-                        converter);
-                requestItems.clear();
+                batchGets.add(newBatchGetRequest(classesByTableName, requestItems, config,
+                        converter));
+                requestItems = new HashMap<String, KeysAndAttributes>();
                 count = 0;
             }
         }
 
         if (count > 0) {
-            processBatchGetRequest(classesByTableName, requestItems, resultSet, config, converter);
+            batchGets.add(newBatchGetRequest(classesByTableName, requestItems, config, converter));
+        }
+
+        // Merge the results in the order the keys were given
+        for (final Map<String, List<Object>> batchResult : runBatchRequests(batchGets, config)) {
+            for (final Entry<String, List<Object>> entry : batchResult.entrySet()) {
+                final List<Object> objects = resultSet.get(entry.getKey());
+                if (objects == null) {
+                    resultSet.put(entry.getKey(), entry.getValue());
+                } else {
+                    objects.addAll(entry.getValue());
+                }
+            }
         }
 
         return resultSet;
     }
 
+    /**
+     * Returns a request for one chunk of a batch load, which loads its own
+     * map of results.
+     */
+    private Callable<Map<String, List<Object>>> newBatchGetRequest(
+            Map<String, Class<?>> classesByTableName,
+            final Map<String, KeysAndAttributes> requestItems,
+            final DynamoDBMapperConfig config,
+            final ItemConverter converter) {
+
+        // Later chunks may map other classes
+        final Map<String, Class<?>> classes = new HashMap<String, Class<?>>(classesByTableName);
+        return new Callable<Map<String, List<Object>>>() {
+            @Override
+            public Map<String, List<Object>> call() {
+                final Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
+                processBatchGetRequest(classes, requestItems, resultSet, config, converter);
+                return resultSet;
+            }
+        };
+    }
+
+    /**
+     * Sends the requests of a batch operation, up to the batch concurrency of
+     * the config given at once, and returns their results in order. The first
+     * request to fail stops the others and its exception is rethrown.
+     *
+     * @param config never null
+     */
+    private <T> List<T> runBatchRequests(List<Callable<T>> requests,
+            DynamoDBMapperConfig config) {
+        final Integer batchConcurrency = config.getBatchConcurrency();
+        final int threads = Math.min(batchConcurrency == null ? 1 : batchConcurrency,
+                requests.size());
+        final List<T> results = new ArrayList<T>(requests.size());
+
+        if (threads <= 1) {
+            for (final Callable<T> request : requests) {
+                try {
+                    results.add(request.call());
+                } catch (final RuntimeException e) {
+                    throw e;
+                } catch (final Exception e) {
+                    throw new AmazonClientException(e.getMessage(), e);
+                }
+            }
+            return results;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<T>> futures = new ArrayList<Future<T>>(requests.size());
+            for (final Callable<T> request : requests) {
+                futures.add(executor.submit(request));
+            }
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new AmazonClientException(cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
     /**
      * Retrieves the attributes for multiple items from multiple tables using
      * their primary keys.
@@ -3184,11 +3296,27 @@ public class DynamoDBMapper {
     ItemConverter getConverter(DynamoDBMapperConfig config) {
         final ConversionSchema schema = config.getConversionSchema();
 
+        // Custom schemas may expect to be asked for a converter every time.
+        final boolean cacheable = schema instanceof ConversionSchemas.StandardConversionSchema;
+        if (cacheable) {
+            final ItemConverter converter = converterCache.get(schema);
+            if (converter != null) {
+                return converter;
+            }
+        }
+
         final ConversionSchema.Dependencies params = new ConversionSchema.Dependencies()
                 .with(DynamoDBReflector.class, reflector)
                 .with(S3ClientCache.class, s3cc);
 
-        return schema.getConverter(params);
+        final ItemConverter converter = schema.getConverter(params);
+        if (cacheable) {
+            final ItemConverter existing = converterCache.putIfAbsent(schema, converter);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return converter;
     }
 
     private void pauseExponentially(int retries) {
@@ -3196,12 +3324,11 @@ public class DynamoDBMapper {
             return;
         }
 
-        final Random random = new Random();
-        long delay = 0;
-        final long scaleFactor = EXPONENTIAL_BACKOFF_OFFSET
-                + random.nextInt(EXPONENTIAL_BACKOFF_RANDOMIZATION_OFFSET);
-        delay = (long) (Math.pow(2, retries) * scaleFactor);
-        delay = Math.min(delay, MAX_BACKOFF_IN_MILLISECONDS);
+        // Half of the delay is random, so concurrent batches that were
+        // throttled together don't all retry at the same moment.
+        long ceiling = EXPONENTIAL_BACKOFF_OFFSET << Math.min(retries, MAX_BACKOFF_SHIFT);
+        ceiling = Math.min(ceiling, MAX_BACKOFF_IN_MILLISECONDS);
+        final long delay = ceiling / 2 + (long) (BACKOFF_JITTER.nextDouble() * (ceiling / 2));
 
         try {
             Thread.sleep(delay);
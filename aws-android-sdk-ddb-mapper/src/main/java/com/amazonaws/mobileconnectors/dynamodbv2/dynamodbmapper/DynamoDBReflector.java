@@ -16,14 +16,12 @@
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Reflection assistant for {@link DynamoDBMapper}
@@ -31,44 +29,30 @@ import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 class DynamoDBReflector {
 
     /*
-     * Several caches for performance. Collectively, they can make this class
-     * over twice as fast.
+     * Reflection results are computed once per class and once per getter and
+     * never change afterwards, so they're kept in immutable models published
+     * through concurrent maps. Lookups don't take a lock; two threads racing
+     * to model the same class both compute it and one result wins.
      */
-    private final Map<Class<?>, Collection<Method>> getterCache = new HashMap<Class<?>, Collection<Method>>();
-    private final Map<Class<?>, Method> primaryHashKeyGetterCache = new HashMap<Class<?>, Method>();
-    private final Map<Class<?>, Method> primaryRangeKeyGetterCache = new HashMap<Class<?>, Method>();
+    private final ConcurrentMap<Class<?>, ClassModel> classModelCache =
+            new ConcurrentHashMap<Class<?>, ClassModel>();
 
     /*
-     * All caches keyed by a Method use the getter for a particular mapped
-     * property
+     * Keyed by the getter for a particular mapped property
      */
-    private final Map<Method, Method> setterCache = new HashMap<Method, Method>();
-
-    private final Map<Method, String> attributeNameCache = new HashMap<Method, String>();
-
-    private final Map<Method, Boolean> versionAttributeGetterCache = new HashMap<Method, Boolean>();
-    private final Map<Method, Boolean> autoGeneratedKeyGetterCache = new HashMap<Method, Boolean>();
-
-    private final ReentrantReadWriteLock readWriteLockAttrName = new ReentrantReadWriteLock();
-    private final ReadLock readLockAttrName = readWriteLockAttrName.readLock();
-    private final WriteLock writeLockAttrName = readWriteLockAttrName.writeLock();
+    private final ConcurrentMap<Method, GetterModel> getterModelCache =
+            new ConcurrentHashMap<Method, GetterModel>();
 
     /**
      * Returns the set of getter methods which are relevant when marshalling or
      * unmarshalling an object.
      */
     Collection<Method> getRelevantGetters(Class<?> clazz) {
-        synchronized (getterCache) {
-            if (!getterCache.containsKey(clazz)) {
-                List<Method> relevantGetters = findRelevantGetters(clazz);
-                getterCache.put(clazz, relevantGetters);
-            }
-            return getterCache.get(clazz);
-        }
+        return getClassModel(clazz).relevantGetters;
     }
 
     static List<Method> findRelevantGetters(Class<?> clazz) {
-        List<Method> relevantGetters = new LinkedList<Method>();
+        List<Method> relevantGetters = new ArrayList<Method>();
         for (Method m : clazz.getMethods()) {
             if (isRelevantGetter(m)) {
                 relevantGetters.add(m);
@@ -95,43 +79,44 @@ class DynamoDBReflector {
                 || (clazz.getAnnotation(DynamoDBDocument.class) != null);
     }
 
+    private ClassModel getClassModel(Class<?> clazz) {
+        ClassModel model = classModelCache.get(clazz);
+        if (model == null) {
+            model = new ClassModel(clazz);
+            final ClassModel existing = classModelCache.putIfAbsent(clazz, model);
+            if (existing != null) {
+                model = existing;
+            }
+        }
+        return model;
+    }
+
+    private GetterModel getGetterModel(Method getter) {
+        GetterModel model = getterModelCache.get(getter);
+        if (model == null) {
+            model = new GetterModel(getter);
+            final GetterModel existing = getterModelCache.putIfAbsent(getter, model);
+            if (existing != null) {
+                model = existing;
+            }
+        }
+        return model;
+    }
+
     /**
      * Returns the annotated {@link DynamoDBRangeKey} getter for the class
      * given, or null if the class doesn't have one.
      */
     <T> Method getPrimaryRangeKeyGetter(Class<T> clazz) {
-        synchronized (primaryRangeKeyGetterCache) {
-            if (!primaryRangeKeyGetterCache.containsKey(clazz)) {
-                Method rangeKeyMethod = null;
-                for (Method method : getRelevantGetters(clazz)) {
-                    if (method.getParameterTypes().length == 0
-                            && ReflectionUtils.getterOrFieldHasAnnotation(method,
-                                    DynamoDBRangeKey.class)) {
-                        rangeKeyMethod = method;
-                        break;
-                    }
-                }
-                primaryRangeKeyGetterCache.put(clazz, rangeKeyMethod);
-            }
-            return primaryRangeKeyGetterCache.get(clazz);
-        }
+        return getClassModel(clazz).rangeKeyGetter;
     }
 
     /**
      * Returns all annotated {@link DynamoDBHashKey} and
-     * {@link DynamoDBRangeKey} getters for the class given, throwing an
-     * exception if there isn't one. TODO: caching
+     * {@link DynamoDBRangeKey} getters for the class given.
      */
     <T> Collection<Method> getPrimaryKeyGetters(Class<T> clazz) {
-        List<Method> keyGetters = new LinkedList<Method>();
-        for (Method getter : getRelevantGetters(clazz)) {
-            if (ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBHashKey.class)
-                    || ReflectionUtils.getterOrFieldHasAnnotation(getter, DynamoDBRangeKey.class)) {
-                keyGetters.add(getter);
-            }
-        }
-
-        return keyGetters;
+        return getClassModel(clazz).keyGetters;
     }
 
     /**
@@ -139,21 +124,7 @@ class DynamoDBReflector {
      * throwing an exception if there isn't one.
      */
     <T> Method getPrimaryHashKeyGetter(Class<T> clazz) {
-        Method hashKeyMethod;
-        synchronized (primaryHashKeyGetterCache) {
-            if (!primaryHashKeyGetterCache.containsKey(clazz)) {
-                for (Method method : getRelevantGetters(clazz)) {
-                    if (method.getParameterTypes().length == 0
-                            && ReflectionUtils.getterOrFieldHasAnnotation(method,
-                                    DynamoDBHashKey.class)) {
-                        primaryHashKeyGetterCache.put(clazz, method);
-                        break;
-                    }
-                }
-            }
-            hashKeyMethod = primaryHashKeyGetterCache.get(clazz);
-        }
-
+        final Method hashKeyMethod = getClassModel(clazz).hashKeyGetter;
         if (hashKeyMethod == null) {
             throw new DynamoDBMappingException(
                     "Public, zero-parameter hash key property must be annotated with "
@@ -178,98 +149,87 @@ class DynamoDBReflector {
      * Returns the attribute name corresponding to the given getter method.
      */
     String getAttributeName(Method getter) {
+        return getGetterModel(getter).attributeName;
+    }
+
+    private static String findAttributeName(Method getter) {
         String attributeName;
-        readLockAttrName.lock();
-        try {
-            attributeName = attributeNameCache.get(getter);
-        } finally {
-            readLockAttrName.unlock();
-        }
-        if (attributeName != null)
-            return attributeName;
         DynamoDBHashKey hashKeyAnnotation = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBHashKey.class);
         if (hashKeyAnnotation != null) {
             attributeName = hashKeyAnnotation.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBIndexHashKey indexHashKey = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBIndexHashKey.class);
         if (indexHashKey != null) {
             attributeName = indexHashKey.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBRangeKey rangeKey = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBRangeKey.class);
         if (rangeKey != null) {
             attributeName = rangeKey.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBIndexRangeKey indexRangeKey = ReflectionUtils.getAnnotationFromGetterOrField(
                 getter, DynamoDBIndexRangeKey.class);
         if (indexRangeKey != null) {
             attributeName = indexRangeKey.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBAttribute attribute = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBAttribute.class);
         if (attribute != null) {
             attributeName = attribute.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         DynamoDBVersionAttribute version = ReflectionUtils.getAnnotationFromGetterOrField(getter,
                 DynamoDBVersionAttribute.class);
         if (version != null) {
             attributeName = version.attributeName();
             if (attributeName != null && attributeName.length() > 0)
-                return cacheAttributeName(getter, attributeName);
+                return attributeName;
         }
         // Default to the camel-cased field name of the getter method, inferred
         // according to the Java naming convention.
-        attributeName = ReflectionUtils.getFieldNameByGetter(getter, true);
-        return cacheAttributeName(getter, attributeName);
-    }
-
-    private String cacheAttributeName(Method getter, String attributeName) {
-        writeLockAttrName.lock();
-        try {
-            attributeNameCache.put(getter, attributeName);
-        } finally {
-            writeLockAttrName.unlock();
-        }
-        return attributeName;
+        return ReflectionUtils.getFieldNameByGetter(getter, true);
     }
 
     /**
-     * Returns the setter corresponding to the getter given, or null if no such
-     * setter exists.
+     * Returns the setter corresponding to the getter given, throwing an
+     * exception if no such setter exists.
      */
     Method getSetter(Method getter) {
-        synchronized (setterCache) {
-            if (!setterCache.containsKey(getter)) {
-                String fieldName = ReflectionUtils.getFieldNameByGetter(getter, false);
-                String setterName = "set" + fieldName;
-                Method setter = null;
-                try {
-                    setter = getter.getDeclaringClass().getMethod(setterName,
-                            getter.getReturnType());
-                } catch (NoSuchMethodException e) {
-                    throw new DynamoDBMappingException(
-                            "Expected a public, one-argument method called " + setterName
-                                    + " on class " + getter.getDeclaringClass(), e);
-                } catch (SecurityException e) {
-                    throw new DynamoDBMappingException(
-                            "No access to public, one-argument method called " + setterName
-                                    + " on class " + getter.getDeclaringClass(), e);
-                }
-                setterCache.put(getter, setter);
-            }
-            return setterCache.get(getter);
+        final GetterModel model = getGetterModel(getter);
+        Method setter = model.setter;
+        if (setter == null) {
+            // Looked up lazily since read-only properties are only an error
+            // when an item is unmarshalled into them.
+            setter = findSetter(getter);
+            model.setter = setter;
+        }
+        return setter;
+    }
+
+    private static Method findSetter(Method getter) {
+        String fieldName = ReflectionUtils.getFieldNameByGetter(getter, false);
+        String setterName = "set" + fieldName;
+        try {
+            return getter.getDeclaringClass().getMethod(setterName, getter.getReturnType());
+        } catch (NoSuchMethodException e) {
+            throw new DynamoDBMappingException(
+                    "Expected a public, one-argument method called " + setterName
+                            + " on class " + getter.getDeclaringClass(), e);
+        } catch (SecurityException e) {
+            throw new DynamoDBMappingException(
+                    "No access to public, one-argument method called " + setterName
+                            + " on class " + getter.getDeclaringClass(), e);
         }
     }
 
@@ -278,36 +238,14 @@ class DynamoDBReflector {
      * version attribute.
      */
     boolean isVersionAttributeGetter(Method getter) {
-        synchronized (versionAttributeGetterCache) {
-            if (!versionAttributeGetterCache.containsKey(getter)) {
-                versionAttributeGetterCache.put(
-                        getter,
-                        getter.getName().startsWith("get")
-                                && getter.getParameterTypes().length == 0
-                                && ReflectionUtils.getterOrFieldHasAnnotation(getter,
-                                        DynamoDBVersionAttribute.class));
-            }
-            return versionAttributeGetterCache.get(getter);
-        }
+        return getGetterModel(getter).versionAttribute;
     }
 
     /**
      * Returns whether the method given is an assignable key getter.
      */
     boolean isAssignableKey(Method getter) {
-        synchronized (autoGeneratedKeyGetterCache) {
-            if (!autoGeneratedKeyGetterCache.containsKey(getter)) {
-                autoGeneratedKeyGetterCache.put(
-                        getter,
-                        ReflectionUtils.getterOrFieldHasAnnotation(getter,
-                                DynamoDBAutoGeneratedKey.class)
-                                && (ReflectionUtils.getterOrFieldHasAnnotation(getter,
-                                        DynamoDBHashKey.class) ||
-                                ReflectionUtils.getterOrFieldHasAnnotation(getter,
-                                        DynamoDBRangeKey.class)));
-            }
-            return autoGeneratedKeyGetterCache.get(getter);
-        }
+        return getGetterModel(getter).assignableKey;
     }
 
     /**
@@ -336,4 +274,66 @@ class DynamoDBReflector {
     boolean hasPrimaryRangeKey(Class<?> clazz) {
         return getPrimaryRangeKeyGetter(clazz) != null;
     }
+
+    /**
+     * The mapped properties of a class.
+     */
+    private static final class ClassModel {
+        private final Collection<Method> relevantGetters;
+        private final Collection<Method> keyGetters;
+        /** Null if the class has no hash key; reported when it's asked for. */
+        private final Method hashKeyGetter;
+        private final Method rangeKeyGetter;
+
+        ClassModel(Class<?> clazz) {
+            final List<Method> getters = findRelevantGetters(clazz);
+            final List<Method> keys = new ArrayList<Method>();
+            Method hashKey = null;
+            Method rangeKey = null;
+            for (final Method getter : getters) {
+                final boolean isHashKey = ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                        DynamoDBHashKey.class);
+                final boolean isRangeKey = ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                        DynamoDBRangeKey.class);
+                if (isHashKey || isRangeKey) {
+                    keys.add(getter);
+                }
+                if (isHashKey && hashKey == null) {
+                    hashKey = getter;
+                }
+                if (isRangeKey && rangeKey == null) {
+                    rangeKey = getter;
+                }
+            }
+            this.relevantGetters = Collections.unmodifiableList(getters);
+            this.keyGetters = Collections.unmodifiableList(keys);
+            this.hashKeyGetter = hashKey;
+            this.rangeKeyGetter = rangeKey;
+        }
+    }
+
+    /**
+     * The mapping of a single property, identified by its getter.
+     */
+    private static final class GetterModel {
+        private final String attributeName;
+        private final boolean versionAttribute;
+        private final boolean assignableKey;
+        /** Set on first use; racing threads find the same method. */
+        private volatile Method setter;
+
+        GetterModel(Method getter) {
+            this.attributeName = findAttributeName(getter);
+            this.versionAttribute = getter.getName().startsWith("get")
+                    && getter.getParameterTypes().length == 0
+                    && ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                            DynamoDBVersionAttribute.class);
+            this.assignableKey = ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                    DynamoDBAutoGeneratedKey.class)
+                    && (ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                            DynamoDBHashKey.class) ||
+                    ReflectionUtils.getterOrFieldHasAnnotation(getter,
+                            DynamoDBRangeKey.class));
+        }
+    }
 }
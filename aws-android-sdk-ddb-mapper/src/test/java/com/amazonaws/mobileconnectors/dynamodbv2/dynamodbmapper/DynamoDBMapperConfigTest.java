@@ -18,6 +18,7 @@ package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 import com.amazonaws.Request;
 import com.amazonaws.Response;
@@ -122,6 +123,26 @@ public class DynamoDBMapperConfigTest {
         assertSame(conf.getTableNameResolver(), tnr);
     }
 
+    @Test
+    public void testBatchConcurrency() {
+        assertEquals(Integer.valueOf(1), DynamoDBMapperConfig.DEFAULT.getBatchConcurrency());
+
+        DynamoDBMapperConfig conf = new DynamoDBMapperConfig.Builder()
+                .withBatchConcurrency(4).build();
+        assertEquals(Integer.valueOf(4), conf.getBatchConcurrency());
+        assertEquals(Integer.valueOf(4), new DynamoDBMapperConfig(conf,
+                new DynamoDBMapperConfig(SaveBehavior.CLOBBER)).getBatchConcurrency());
+        assertEquals(Integer.valueOf(4), new DynamoDBMapperConfig(DynamoDBMapperConfig.DEFAULT,
+                conf).getBatchConcurrency());
+
+        try {
+            new DynamoDBMapperConfig.Builder().withBatchConcurrency(0);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testConstructorWithNullOverrides() {
         DynamoDBMapperConfig conf = new DynamoDBMapperConfig.Builder().build();
@@ -19,7 +19,9 @@ import static org.easymock.EasyMock.anyObject;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -46,6 +48,7 @@ import com.amazonaws.util.StringUtils;
 import org.easymock.Capture;
 import org.easymock.CaptureType;
 import org.easymock.EasyMock;
+import org.easymock.IAnswer;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -254,6 +257,43 @@ public class DynamoDBMapperTest {
 
     }
 
+    @Test
+    public void testParallelBatchLoadKeepsKeyOrder() {
+        List<Object> itemsToGet = new ArrayList<Object>();
+        for (int i = 0; i < 250; i++) {
+            itemsToGet.add(new MockTwoValuePlusVersionClass("id" + i, null, null));
+        }
+
+        EasyMock.reset(mockClient);
+        // Echo the requested keys back as the loaded items
+        EasyMock.expect(mockClient.batchGetItem(anyObject(BatchGetItemRequest.class)))
+                .andAnswer(new IAnswer<BatchGetItemResult>() {
+                    @Override
+                    public BatchGetItemResult answer() {
+                        BatchGetItemRequest request = (BatchGetItemRequest) EasyMock
+                                .getCurrentArguments()[0];
+                        Map<String, List<Map<String, AttributeValue>>> responses =
+                                new HashMap<String, List<Map<String, AttributeValue>>>();
+                        for (Map.Entry<String, KeysAndAttributes> entry : request
+                                .getRequestItems().entrySet()) {
+                            responses.put(entry.getKey(), entry.getValue().getKeys());
+                        }
+                        return new BatchGetItemResult().withResponses(responses);
+                    }
+                }).times(3);
+        EasyMock.replay(mockClient);
+
+        Map<String, List<Object>> loadResults = mapper.batchLoad(itemsToGet,
+                new DynamoDBMapperConfig.Builder().withBatchConcurrency(3).build());
+
+        EasyMock.verify(mockClient);
+        List<Object> loaded = loadResults.get("aws-android-sdk-dynamodbmapper-test");
+        assertEquals(250, loaded.size());
+        for (int i = 0; i < loaded.size(); i++) {
+            assertEquals("id" + i, ((MockTwoValuePlusVersionClass) loaded.get(i)).getId());
+        }
+    }
+
     @Test
     public void testMergeExpectedAttributeValueConditions() {
         Map<String, ExpectedAttributeValue> internalAssertions = new HashMap<String, ExpectedAttributeValue>();
@@ -452,6 +492,16 @@ public class DynamoDBMapperTest {
         assertTrue(mapper.containsThrottlingException(failedBatches));
     }
 
+    @Test
+    public void testStandardConvertersAreReused() {
+        final ItemConverter converter = mapper.getConverter(config);
+        assertSame(converter, mapper.getConverter(config));
+        assertSame(converter, mapper.getConverter(new DynamoDBMapperConfig(
+                DynamoDBMapperConfig.SaveBehavior.CLOBBER)));
+        assertNotSame(converter, mapper.getConverter(new DynamoDBMapperConfig(
+                ConversionSchemas.V1)));
+    }
+
     @Test
     public void testSaveObjectHandler() {
 
@@ -16,11 +16,13 @@
 package com.amazonaws.mobileconnectors.dynamodbv2.dynamodbmapper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -91,6 +93,11 @@ public class PojoReflectionTest {
         assertEquals("getAutogeneratedRangeKey", reflector.getPrimaryRangeKeyGetter(clazz)
                 .getName());
         assertEquals("autogeneratedRangeKey", reflector.getPrimaryRangeKeyName(clazz));
+        assertEquals(2, reflector.getPrimaryKeyGetters(clazz).size());
+        assertTrue(reflector.getPrimaryKeyGetters(clazz).contains(
+                reflector.getPrimaryHashKeyGetter(clazz)));
+        assertTrue(reflector.getPrimaryKeyGetters(clazz).contains(
+                reflector.getPrimaryRangeKeyGetter(clazz)));
     }
 
     /**
@@ -415,6 +422,41 @@ public class PojoReflectionTest {
                 reflector.getPrimaryRangeKeyName(TablePojoSubclass.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testConcurrentReflection() throws InterruptedException {
+        final DynamoDBReflector shared = new DynamoDBReflector();
+        final Collection<Method>[] getters = new Collection[8];
+        final Thread[] threads = new Thread[getters.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    getters[index] = shared.getRelevantGetters(PojoWithGetterAnnotations.class);
+                    for (Method getter : getters[index]) {
+                        shared.getAttributeName(getter);
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // Every thread sees the one model that was published
+        final Collection<Method> published = shared
+                .getRelevantGetters(PojoWithGetterAnnotations.class);
+        for (Collection<Method> result : getters) {
+            assertSame(published, result);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRelevantGettersAreUnmodifiable() {
+        reflector.getRelevantGetters(BaseTablePojo.class).clear();
+    }
+
     @DynamoDBTable(tableName = "table")
     private static class BaseTablePojo {
         @DynamoDBHashKey
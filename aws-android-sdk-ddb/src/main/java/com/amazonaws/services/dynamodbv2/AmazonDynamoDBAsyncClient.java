@@ -15,20 +15,22 @@
 
 package com.amazonaws.services.dynamodbv2;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.dynamodbv2.model.*;
+import com.amazonaws.services.dynamodbv2.model.transform.*;
 
 /**
  * Interface for accessing Amazon DynamoDB asynchronously. <fullname>Amazon
@@ -61,7 +63,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -107,15 +109,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     @Deprecated
     public AmazonDynamoDBAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * DynamoDB using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be run on the SDK's
+     * shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -125,7 +127,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *            to use when authenticating with AWS services.
      */
     public AmazonDynamoDBAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -144,7 +146,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public AmazonDynamoDBAsyncClient(AWSCredentials awsCredentials, ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -166,14 +168,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public AmazonDynamoDBAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * DynamoDB using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -184,7 +186,7 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *            services.
      */
     public AmazonDynamoDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -224,8 +226,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      */
     public AmazonDynamoDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -248,17 +250,18 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
     public AmazonDynamoDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -372,14 +375,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchGetItemResult> batchGetItemAsync(
+    public ListenableFuture<BatchGetItemResult> batchGetItemAsync(
             final BatchGetItemRequest batchGetItemRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchGetItemResult>() {
-            public BatchGetItemResult call() throws Exception {
-                return batchGetItem(batchGetItemRequest);
-            }
-        });
+        return batchGetItemAsync(batchGetItemRequest, null);
     }
 
     /**
@@ -479,23 +478,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchGetItemResult> batchGetItemAsync(
+    public ListenableFuture<BatchGetItemResult> batchGetItemAsync(
             final BatchGetItemRequest batchGetItemRequest,
             final AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetItemResult>() {
-            public BatchGetItemResult call() throws Exception {
-                BatchGetItemResult result = null;
-                try {
-                    result = batchGetItem(batchGetItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchGetItemRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchGetItemRequest,
+                new BatchGetItemRequestMarshaller(),
+                new JsonResponseHandler<BatchGetItemResult>(
+                        new BatchGetItemResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -638,14 +629,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchWriteItemResult> batchWriteItemAsync(
+    public ListenableFuture<BatchWriteItemResult> batchWriteItemAsync(
             final BatchWriteItemRequest batchWriteItemRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<BatchWriteItemResult>() {
-            public BatchWriteItemResult call() throws Exception {
-                return batchWriteItem(batchWriteItemRequest);
-            }
-        });
+        return batchWriteItemAsync(batchWriteItemRequest, null);
     }
 
     /**
@@ -788,23 +775,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<BatchWriteItemResult> batchWriteItemAsync(
+    public ListenableFuture<BatchWriteItemResult> batchWriteItemAsync(
             final BatchWriteItemRequest batchWriteItemRequest,
             final AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchWriteItemResult>() {
-            public BatchWriteItemResult call() throws Exception {
-                BatchWriteItemResult result = null;
-                try {
-                    result = batchWriteItem(batchWriteItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(batchWriteItemRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(batchWriteItemRequest,
+                new BatchWriteItemRequestMarshaller(),
+                new JsonResponseHandler<BatchWriteItemResult>(
+                        new BatchWriteItemResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -881,14 +860,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateBackupResult> createBackupAsync(
+    public ListenableFuture<CreateBackupResult> createBackupAsync(
             final CreateBackupRequest createBackupRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateBackupResult>() {
-            public CreateBackupResult call() throws Exception {
-                return createBackup(createBackupRequest);
-            }
-        });
+        return createBackupAsync(createBackupRequest, null);
     }
 
     /**
@@ -965,23 +940,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateBackupResult> createBackupAsync(
+    public ListenableFuture<CreateBackupResult> createBackupAsync(
             final CreateBackupRequest createBackupRequest,
             final AsyncHandler<CreateBackupRequest, CreateBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateBackupResult>() {
-            public CreateBackupResult call() throws Exception {
-                CreateBackupResult result = null;
-                try {
-                    result = createBackup(createBackupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createBackupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createBackupRequest,
+                new CreateBackupRequestMarshaller(),
+                new JsonResponseHandler<CreateBackupResult>(
+                        new CreateBackupResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1064,14 +1031,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateGlobalTableResult> createGlobalTableAsync(
+    public ListenableFuture<CreateGlobalTableResult> createGlobalTableAsync(
             final CreateGlobalTableRequest createGlobalTableRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateGlobalTableResult>() {
-            public CreateGlobalTableResult call() throws Exception {
-                return createGlobalTable(createGlobalTableRequest);
-            }
-        });
+        return createGlobalTableAsync(createGlobalTableRequest, null);
     }
 
     /**
@@ -1154,23 +1117,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateGlobalTableResult> createGlobalTableAsync(
+    public ListenableFuture<CreateGlobalTableResult> createGlobalTableAsync(
             final CreateGlobalTableRequest createGlobalTableRequest,
             final AsyncHandler<CreateGlobalTableRequest, CreateGlobalTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGlobalTableResult>() {
-            public CreateGlobalTableResult call() throws Exception {
-                CreateGlobalTableResult result = null;
-                try {
-                    result = createGlobalTable(createGlobalTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createGlobalTableRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createGlobalTableRequest,
+                new CreateGlobalTableRequestMarshaller(),
+                new JsonResponseHandler<CreateGlobalTableResult>(
+                        new CreateGlobalTableResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1216,13 +1171,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest)
+    public ListenableFuture<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTableResult>() {
-            public CreateTableResult call() throws Exception {
-                return createTable(createTableRequest);
-            }
-        });
+        return createTableAsync(createTableRequest, null);
     }
 
     /**
@@ -1268,22 +1219,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest,
+    public ListenableFuture<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest,
             final AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTableResult>() {
-            public CreateTableResult call() throws Exception {
-                CreateTableResult result = null;
-                try {
-                    result = createTable(createTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTableRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createTableRequest,
+                new CreateTableRequestMarshaller(),
+                new JsonResponseHandler<CreateTableResult>(
+                        new CreateTableResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1310,14 +1253,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteBackupResult> deleteBackupAsync(
+    public ListenableFuture<DeleteBackupResult> deleteBackupAsync(
             final DeleteBackupRequest deleteBackupRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteBackupResult>() {
-            public DeleteBackupResult call() throws Exception {
-                return deleteBackup(deleteBackupRequest);
-            }
-        });
+        return deleteBackupAsync(deleteBackupRequest, null);
     }
 
     /**
@@ -1344,23 +1283,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteBackupResult> deleteBackupAsync(
+    public ListenableFuture<DeleteBackupResult> deleteBackupAsync(
             final DeleteBackupRequest deleteBackupRequest,
             final AsyncHandler<DeleteBackupRequest, DeleteBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteBackupResult>() {
-            public DeleteBackupResult call() throws Exception {
-                DeleteBackupResult result = null;
-                try {
-                    result = deleteBackup(deleteBackupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteBackupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteBackupRequest,
+                new DeleteBackupRequestMarshaller(),
+                new JsonResponseHandler<DeleteBackupResult>(
+                        new DeleteBackupResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1403,13 +1334,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest)
+    public ListenableFuture<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteItemResult>() {
-            public DeleteItemResult call() throws Exception {
-                return deleteItem(deleteItemRequest);
-            }
-        });
+        return deleteItemAsync(deleteItemRequest, null);
     }
 
     /**
@@ -1452,22 +1379,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest,
+    public ListenableFuture<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest,
             final AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteItemResult>() {
-            public DeleteItemResult call() throws Exception {
-                DeleteItemResult result = null;
-                try {
-                    result = deleteItem(deleteItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteItemRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteItemRequest,
+                new DeleteItemRequestMarshaller(),
+                new JsonResponseHandler<DeleteItemResult>(
+                        new DeleteItemResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1519,13 +1438,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest)
+    public ListenableFuture<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTableResult>() {
-            public DeleteTableResult call() throws Exception {
-                return deleteTable(deleteTableRequest);
-            }
-        });
+        return deleteTableAsync(deleteTableRequest, null);
     }
 
     /**
@@ -1577,22 +1492,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest,
+    public ListenableFuture<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest,
             final AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTableResult>() {
-            public DeleteTableResult call() throws Exception {
-                DeleteTableResult result = null;
-                try {
-                    result = deleteTable(deleteTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTableRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTableRequest,
+                new DeleteTableRequestMarshaller(),
+                new JsonResponseHandler<DeleteTableResult>(
+                        new DeleteTableResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1617,14 +1524,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeBackupResult> describeBackupAsync(
+    public ListenableFuture<DescribeBackupResult> describeBackupAsync(
             final DescribeBackupRequest describeBackupRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeBackupResult>() {
-            public DescribeBackupResult call() throws Exception {
-                return describeBackup(describeBackupRequest);
-            }
-        });
+        return describeBackupAsync(describeBackupRequest, null);
     }
 
     /**
@@ -1649,23 +1552,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeBackupResult> describeBackupAsync(
+    public ListenableFuture<DescribeBackupResult> describeBackupAsync(
             final DescribeBackupRequest describeBackupRequest,
             final AsyncHandler<DescribeBackupRequest, DescribeBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBackupResult>() {
-            public DescribeBackupResult call() throws Exception {
-                DescribeBackupResult result = null;
-                try {
-                    result = describeBackup(describeBackupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeBackupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeBackupRequest,
+                new DescribeBackupRequestMarshaller(),
+                new JsonResponseHandler<DescribeBackupResult>(
+                        new DescribeBackupResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1705,14 +1600,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContinuousBackupsResult> describeContinuousBackupsAsync(
+    public ListenableFuture<DescribeContinuousBackupsResult> describeContinuousBackupsAsync(
             final DescribeContinuousBackupsRequest describeContinuousBackupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContinuousBackupsResult>() {
-            public DescribeContinuousBackupsResult call() throws Exception {
-                return describeContinuousBackups(describeContinuousBackupsRequest);
-            }
-        });
+        return describeContinuousBackupsAsync(describeContinuousBackupsRequest, null);
     }
 
     /**
@@ -1752,23 +1643,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeContinuousBackupsResult> describeContinuousBackupsAsync(
+    public ListenableFuture<DescribeContinuousBackupsResult> describeContinuousBackupsAsync(
             final DescribeContinuousBackupsRequest describeContinuousBackupsRequest,
             final AsyncHandler<DescribeContinuousBackupsRequest, DescribeContinuousBackupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeContinuousBackupsResult>() {
-            public DescribeContinuousBackupsResult call() throws Exception {
-                DescribeContinuousBackupsResult result = null;
-                try {
-                    result = describeContinuousBackups(describeContinuousBackupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeContinuousBackupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeContinuousBackupsRequest,
+                new DescribeContinuousBackupsRequestMarshaller(),
+                new JsonResponseHandler<DescribeContinuousBackupsResult>(
+                        new DescribeContinuousBackupsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1783,14 +1666,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEndpointsResult> describeEndpointsAsync(
+    public ListenableFuture<DescribeEndpointsResult> describeEndpointsAsync(
             final DescribeEndpointsRequest describeEndpointsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointsResult>() {
-            public DescribeEndpointsResult call() throws Exception {
-                return describeEndpoints(describeEndpointsRequest);
-            }
-        });
+        return describeEndpointsAsync(describeEndpointsRequest, null);
     }
 
     /**
@@ -1805,23 +1684,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeEndpointsResult> describeEndpointsAsync(
+    public ListenableFuture<DescribeEndpointsResult> describeEndpointsAsync(
             final DescribeEndpointsRequest describeEndpointsRequest,
             final AsyncHandler<DescribeEndpointsRequest, DescribeEndpointsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEndpointsResult>() {
-            public DescribeEndpointsResult call() throws Exception {
-                DescribeEndpointsResult result = null;
-                try {
-                    result = describeEndpoints(describeEndpointsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeEndpointsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeEndpointsRequest,
+                new DescribeEndpointsRequestMarshaller(),
+                new JsonResponseHandler<DescribeEndpointsResult>(
+                        new DescribeEndpointsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1843,14 +1714,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeGlobalTableResult> describeGlobalTableAsync(
+    public ListenableFuture<DescribeGlobalTableResult> describeGlobalTableAsync(
             final DescribeGlobalTableRequest describeGlobalTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableResult>() {
-            public DescribeGlobalTableResult call() throws Exception {
-                return describeGlobalTable(describeGlobalTableRequest);
-            }
-        });
+        return describeGlobalTableAsync(describeGlobalTableRequest, null);
     }
 
     /**
@@ -1872,23 +1739,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeGlobalTableResult> describeGlobalTableAsync(
+    public ListenableFuture<DescribeGlobalTableResult> describeGlobalTableAsync(
             final DescribeGlobalTableRequest describeGlobalTableRequest,
             final AsyncHandler<DescribeGlobalTableRequest, DescribeGlobalTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableResult>() {
-            public DescribeGlobalTableResult call() throws Exception {
-                DescribeGlobalTableResult result = null;
-                try {
-                    result = describeGlobalTable(describeGlobalTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeGlobalTableRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeGlobalTableRequest,
+                new DescribeGlobalTableRequestMarshaller(),
+                new JsonResponseHandler<DescribeGlobalTableResult>(
+                        new DescribeGlobalTableResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1910,14 +1769,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeGlobalTableSettingsResult> describeGlobalTableSettingsAsync(
+    public ListenableFuture<DescribeGlobalTableSettingsResult> describeGlobalTableSettingsAsync(
             final DescribeGlobalTableSettingsRequest describeGlobalTableSettingsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableSettingsResult>() {
-            public DescribeGlobalTableSettingsResult call() throws Exception {
-                return describeGlobalTableSettings(describeGlobalTableSettingsRequest);
-            }
-        });
+        return describeGlobalTableSettingsAsync(describeGlobalTableSettingsRequest, null);
     }
 
     /**
@@ -1939,23 +1794,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeGlobalTableSettingsResult> describeGlobalTableSettingsAsync(
+    public ListenableFuture<DescribeGlobalTableSettingsResult> describeGlobalTableSettingsAsync(
             final DescribeGlobalTableSettingsRequest describeGlobalTableSettingsRequest,
             final AsyncHandler<DescribeGlobalTableSettingsRequest, DescribeGlobalTableSettingsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGlobalTableSettingsResult>() {
-            public DescribeGlobalTableSettingsResult call() throws Exception {
-                DescribeGlobalTableSettingsResult result = null;
-                try {
-                    result = describeGlobalTableSettings(describeGlobalTableSettingsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeGlobalTableSettingsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeGlobalTableSettingsRequest,
+                new DescribeGlobalTableSettingsRequestMarshaller(),
+                new JsonResponseHandler<DescribeGlobalTableSettingsResult>(
+                        new DescribeGlobalTableSettingsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2079,14 +1926,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLimitsResult> describeLimitsAsync(
+    public ListenableFuture<DescribeLimitsResult> describeLimitsAsync(
             final DescribeLimitsRequest describeLimitsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeLimitsResult>() {
-            public DescribeLimitsResult call() throws Exception {
-                return describeLimits(describeLimitsRequest);
-            }
-        });
+        return describeLimitsAsync(describeLimitsRequest, null);
     }
 
     /**
@@ -2210,23 +2053,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeLimitsResult> describeLimitsAsync(
+    public ListenableFuture<DescribeLimitsResult> describeLimitsAsync(
             final DescribeLimitsRequest describeLimitsRequest,
             final AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLimitsResult>() {
-            public DescribeLimitsResult call() throws Exception {
-                DescribeLimitsResult result = null;
-                try {
-                    result = describeLimits(describeLimitsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLimitsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLimitsRequest,
+                new DescribeLimitsRequestMarshaller(),
+                new JsonResponseHandler<DescribeLimitsResult>(
+                        new DescribeLimitsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2262,14 +2097,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTableResult> describeTableAsync(
+    public ListenableFuture<DescribeTableResult> describeTableAsync(
             final DescribeTableRequest describeTableRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeTableResult>() {
-            public DescribeTableResult call() throws Exception {
-                return describeTable(describeTableRequest);
-            }
-        });
+        return describeTableAsync(describeTableRequest, null);
     }
 
     /**
@@ -2305,23 +2136,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTableResult> describeTableAsync(
+    public ListenableFuture<DescribeTableResult> describeTableAsync(
             final DescribeTableRequest describeTableRequest,
             final AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTableResult>() {
-            public DescribeTableResult call() throws Exception {
-                DescribeTableResult result = null;
-                try {
-                    result = describeTable(describeTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTableRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTableRequest,
+                new DescribeTableRequestMarshaller(),
+                new JsonResponseHandler<DescribeTableResult>(
+                        new DescribeTableResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2344,14 +2167,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTimeToLiveResult> describeTimeToLiveAsync(
+    public ListenableFuture<DescribeTimeToLiveResult> describeTimeToLiveAsync(
             final DescribeTimeToLiveRequest describeTimeToLiveRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeToLiveResult>() {
-            public DescribeTimeToLiveResult call() throws Exception {
-                return describeTimeToLive(describeTimeToLiveRequest);
-            }
-        });
+        return describeTimeToLiveAsync(describeTimeToLiveRequest, null);
     }
 
     /**
@@ -2374,23 +2193,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTimeToLiveResult> describeTimeToLiveAsync(
+    public ListenableFuture<DescribeTimeToLiveResult> describeTimeToLiveAsync(
             final DescribeTimeToLiveRequest describeTimeToLiveRequest,
             final AsyncHandler<DescribeTimeToLiveRequest, DescribeTimeToLiveResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTimeToLiveResult>() {
-            public DescribeTimeToLiveResult call() throws Exception {
-                DescribeTimeToLiveResult result = null;
-                try {
-                    result = describeTimeToLive(describeTimeToLiveRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTimeToLiveRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTimeToLiveRequest,
+                new DescribeTimeToLiveRequestMarshaller(),
+                new JsonResponseHandler<DescribeTimeToLiveResult>(
+                        new DescribeTimeToLiveResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2424,13 +2235,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetItemResult> getItemAsync(final GetItemRequest getItemRequest)
+    public ListenableFuture<GetItemResult> getItemAsync(final GetItemRequest getItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetItemResult>() {
-            public GetItemResult call() throws Exception {
-                return getItem(getItemRequest);
-            }
-        });
+        return getItemAsync(getItemRequest, null);
     }
 
     /**
@@ -2464,22 +2271,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetItemResult> getItemAsync(final GetItemRequest getItemRequest,
+    public ListenableFuture<GetItemResult> getItemAsync(final GetItemRequest getItemRequest,
             final AsyncHandler<GetItemRequest, GetItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetItemResult>() {
-            public GetItemResult call() throws Exception {
-                GetItemResult result = null;
-                try {
-                    result = getItem(getItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getItemRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getItemRequest,
+                new GetItemRequestMarshaller(),
+                new JsonResponseHandler<GetItemResult>(
+                        new GetItemResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2511,13 +2310,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest)
+    public ListenableFuture<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBackupsResult>() {
-            public ListBackupsResult call() throws Exception {
-                return listBackups(listBackupsRequest);
-            }
-        });
+        return listBackupsAsync(listBackupsRequest, null);
     }
 
     /**
@@ -2549,22 +2344,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest,
+    public ListenableFuture<ListBackupsResult> listBackupsAsync(final ListBackupsRequest listBackupsRequest,
             final AsyncHandler<ListBackupsRequest, ListBackupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListBackupsResult>() {
-            public ListBackupsResult call() throws Exception {
-                ListBackupsResult result = null;
-                try {
-                    result = listBackups(listBackupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listBackupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listBackupsRequest,
+                new ListBackupsRequestMarshaller(),
+                new JsonResponseHandler<ListBackupsResult>(
+                        new ListBackupsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2584,14 +2371,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListGlobalTablesResult> listGlobalTablesAsync(
+    public ListenableFuture<ListGlobalTablesResult> listGlobalTablesAsync(
             final ListGlobalTablesRequest listGlobalTablesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListGlobalTablesResult>() {
-            public ListGlobalTablesResult call() throws Exception {
-                return listGlobalTables(listGlobalTablesRequest);
-            }
-        });
+        return listGlobalTablesAsync(listGlobalTablesRequest, null);
     }
 
     /**
@@ -2611,23 +2394,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListGlobalTablesResult> listGlobalTablesAsync(
+    public ListenableFuture<ListGlobalTablesResult> listGlobalTablesAsync(
             final ListGlobalTablesRequest listGlobalTablesRequest,
             final AsyncHandler<ListGlobalTablesRequest, ListGlobalTablesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGlobalTablesResult>() {
-            public ListGlobalTablesResult call() throws Exception {
-                ListGlobalTablesResult result = null;
-                try {
-                    result = listGlobalTables(listGlobalTablesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listGlobalTablesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listGlobalTablesRequest,
+                new ListGlobalTablesRequestMarshaller(),
+                new JsonResponseHandler<ListGlobalTablesResult>(
+                        new ListGlobalTablesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2651,13 +2426,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest)
+    public ListenableFuture<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTablesResult>() {
-            public ListTablesResult call() throws Exception {
-                return listTables(listTablesRequest);
-            }
-        });
+        return listTablesAsync(listTablesRequest, null);
     }
 
     /**
@@ -2681,22 +2452,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest,
+    public ListenableFuture<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest,
             final AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTablesResult>() {
-            public ListTablesResult call() throws Exception {
-                ListTablesResult result = null;
-                try {
-                    result = listTables(listTablesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTablesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTablesRequest,
+                new ListTablesRequestMarshaller(),
+                new JsonResponseHandler<ListTablesResult>(
+                        new ListTablesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2724,14 +2487,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsOfResourceResult> listTagsOfResourceAsync(
+    public ListenableFuture<ListTagsOfResourceResult> listTagsOfResourceAsync(
             final ListTagsOfResourceRequest listTagsOfResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsOfResourceResult>() {
-            public ListTagsOfResourceResult call() throws Exception {
-                return listTagsOfResource(listTagsOfResourceRequest);
-            }
-        });
+        return listTagsOfResourceAsync(listTagsOfResourceRequest, null);
     }
 
     /**
@@ -2759,23 +2518,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTagsOfResourceResult> listTagsOfResourceAsync(
+    public ListenableFuture<ListTagsOfResourceResult> listTagsOfResourceAsync(
             final ListTagsOfResourceRequest listTagsOfResourceRequest,
             final AsyncHandler<ListTagsOfResourceRequest, ListTagsOfResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsOfResourceResult>() {
-            public ListTagsOfResourceResult call() throws Exception {
-                ListTagsOfResourceResult result = null;
-                try {
-                    result = listTagsOfResource(listTagsOfResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsOfResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTagsOfResourceRequest,
+                new ListTagsOfResourceRequestMarshaller(),
+                new JsonResponseHandler<ListTagsOfResourceResult>(
+                        new ListTagsOfResourceResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2904,13 +2655,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutItemResult> putItemAsync(final PutItemRequest putItemRequest)
+    public ListenableFuture<PutItemResult> putItemAsync(final PutItemRequest putItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutItemResult>() {
-            public PutItemResult call() throws Exception {
-                return putItem(putItemRequest);
-            }
-        });
+        return putItemAsync(putItemRequest, null);
     }
 
     /**
@@ -3039,22 +2786,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<PutItemResult> putItemAsync(final PutItemRequest putItemRequest,
+    public ListenableFuture<PutItemResult> putItemAsync(final PutItemRequest putItemRequest,
             final AsyncHandler<PutItemRequest, PutItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutItemResult>() {
-            public PutItemResult call() throws Exception {
-                PutItemResult result = null;
-                try {
-                    result = putItem(putItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putItemRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putItemRequest,
+                new PutItemRequestMarshaller(),
+                new JsonResponseHandler<PutItemResult>(
+                        new PutItemResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3148,13 +2887,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<QueryResult> queryAsync(final QueryRequest queryRequest)
+    public ListenableFuture<QueryResult> queryAsync(final QueryRequest queryRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryResult>() {
-            public QueryResult call() throws Exception {
-                return query(queryRequest);
-            }
-        });
+        return queryAsync(queryRequest, null);
     }
 
     /**
@@ -3248,22 +2983,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<QueryResult> queryAsync(final QueryRequest queryRequest,
+    public ListenableFuture<QueryResult> queryAsync(final QueryRequest queryRequest,
             final AsyncHandler<QueryRequest, QueryResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryResult>() {
-            public QueryResult call() throws Exception {
-                QueryResult result = null;
-                try {
-                    result = query(queryRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(queryRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(queryRequest,
+                new QueryRequestMarshaller(),
+                new JsonResponseHandler<QueryResult>(
+                        new QueryResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3330,14 +3057,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RestoreTableFromBackupResult> restoreTableFromBackupAsync(
+    public ListenableFuture<RestoreTableFromBackupResult> restoreTableFromBackupAsync(
             final RestoreTableFromBackupRequest restoreTableFromBackupRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableFromBackupResult>() {
-            public RestoreTableFromBackupResult call() throws Exception {
-                return restoreTableFromBackup(restoreTableFromBackupRequest);
-            }
-        });
+        return restoreTableFromBackupAsync(restoreTableFromBackupRequest, null);
     }
 
     /**
@@ -3404,23 +3127,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RestoreTableFromBackupResult> restoreTableFromBackupAsync(
+    public ListenableFuture<RestoreTableFromBackupResult> restoreTableFromBackupAsync(
             final RestoreTableFromBackupRequest restoreTableFromBackupRequest,
             final AsyncHandler<RestoreTableFromBackupRequest, RestoreTableFromBackupResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableFromBackupResult>() {
-            public RestoreTableFromBackupResult call() throws Exception {
-                RestoreTableFromBackupResult result = null;
-                try {
-                    result = restoreTableFromBackup(restoreTableFromBackupRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(restoreTableFromBackupRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(restoreTableFromBackupRequest,
+                new RestoreTableFromBackupRequestMarshaller(),
+                new JsonResponseHandler<RestoreTableFromBackupResult>(
+                        new RestoreTableFromBackupResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3527,14 +3242,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RestoreTableToPointInTimeResult> restoreTableToPointInTimeAsync(
+    public ListenableFuture<RestoreTableToPointInTimeResult> restoreTableToPointInTimeAsync(
             final RestoreTableToPointInTimeRequest restoreTableToPointInTimeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableToPointInTimeResult>() {
-            public RestoreTableToPointInTimeResult call() throws Exception {
-                return restoreTableToPointInTime(restoreTableToPointInTimeRequest);
-            }
-        });
+        return restoreTableToPointInTimeAsync(restoreTableToPointInTimeRequest, null);
     }
 
     /**
@@ -3641,23 +3352,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<RestoreTableToPointInTimeResult> restoreTableToPointInTimeAsync(
+    public ListenableFuture<RestoreTableToPointInTimeResult> restoreTableToPointInTimeAsync(
             final RestoreTableToPointInTimeRequest restoreTableToPointInTimeRequest,
             final AsyncHandler<RestoreTableToPointInTimeRequest, RestoreTableToPointInTimeResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreTableToPointInTimeResult>() {
-            public RestoreTableToPointInTimeResult call() throws Exception {
-                RestoreTableToPointInTimeResult result = null;
-                try {
-                    result = restoreTableToPointInTime(restoreTableToPointInTimeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(restoreTableToPointInTimeRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(restoreTableToPointInTimeRequest,
+                new RestoreTableToPointInTimeRequestMarshaller(),
+                new JsonResponseHandler<RestoreTableToPointInTimeResult>(
+                        new RestoreTableToPointInTimeResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3719,13 +3422,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ScanResult> scanAsync(final ScanRequest scanRequest)
+    public ListenableFuture<ScanResult> scanAsync(final ScanRequest scanRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ScanResult>() {
-            public ScanResult call() throws Exception {
-                return scan(scanRequest);
-            }
-        });
+        return scanAsync(scanRequest, null);
     }
 
     /**
@@ -3787,22 +3486,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ScanResult> scanAsync(final ScanRequest scanRequest,
+    public ListenableFuture<ScanResult> scanAsync(final ScanRequest scanRequest,
             final AsyncHandler<ScanRequest, ScanResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ScanResult>() {
-            public ScanResult call() throws Exception {
-                ScanResult result = null;
-                try {
-                    result = scan(scanRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(scanRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(scanRequest,
+                new ScanRequestMarshaller(),
+                new JsonResponseHandler<ScanResult>(
+                        new ScanResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3833,14 +3524,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
+    public ListenableFuture<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                tagResource(tagResourceRequest);
-                return null;
-            }
-        });
+        return tagResourceAsync(tagResourceRequest, null);
     }
 
     /**
@@ -3871,22 +3557,13 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
+    public ListenableFuture<Void> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3915,14 +3592,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
+    public ListenableFuture<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                untagResource(untagResourceRequest);
-                return null;
-            }
-        });
+        return untagResourceAsync(untagResourceRequest, null);
     }
 
     /**
@@ -3951,22 +3623,13 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
+    public ListenableFuture<Void> untagResourceAsync(final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4006,14 +3669,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContinuousBackupsResult> updateContinuousBackupsAsync(
+    public ListenableFuture<UpdateContinuousBackupsResult> updateContinuousBackupsAsync(
             final UpdateContinuousBackupsRequest updateContinuousBackupsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContinuousBackupsResult>() {
-            public UpdateContinuousBackupsResult call() throws Exception {
-                return updateContinuousBackups(updateContinuousBackupsRequest);
-            }
-        });
+        return updateContinuousBackupsAsync(updateContinuousBackupsRequest, null);
     }
 
     /**
@@ -4053,23 +3712,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateContinuousBackupsResult> updateContinuousBackupsAsync(
+    public ListenableFuture<UpdateContinuousBackupsResult> updateContinuousBackupsAsync(
             final UpdateContinuousBackupsRequest updateContinuousBackupsRequest,
             final AsyncHandler<UpdateContinuousBackupsRequest, UpdateContinuousBackupsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateContinuousBackupsResult>() {
-            public UpdateContinuousBackupsResult call() throws Exception {
-                UpdateContinuousBackupsResult result = null;
-                try {
-                    result = updateContinuousBackups(updateContinuousBackupsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateContinuousBackupsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateContinuousBackupsRequest,
+                new UpdateContinuousBackupsRequestMarshaller(),
+                new JsonResponseHandler<UpdateContinuousBackupsResult>(
+                        new UpdateContinuousBackupsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4127,14 +3778,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateGlobalTableResult> updateGlobalTableAsync(
+    public ListenableFuture<UpdateGlobalTableResult> updateGlobalTableAsync(
             final UpdateGlobalTableRequest updateGlobalTableRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableResult>() {
-            public UpdateGlobalTableResult call() throws Exception {
-                return updateGlobalTable(updateGlobalTableRequest);
-            }
-        });
+        return updateGlobalTableAsync(updateGlobalTableRequest, null);
     }
 
     /**
@@ -4192,23 +3839,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateGlobalTableResult> updateGlobalTableAsync(
+    public ListenableFuture<UpdateGlobalTableResult> updateGlobalTableAsync(
             final UpdateGlobalTableRequest updateGlobalTableRequest,
             final AsyncHandler<UpdateGlobalTableRequest, UpdateGlobalTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableResult>() {
-            public UpdateGlobalTableResult call() throws Exception {
-                UpdateGlobalTableResult result = null;
-                try {
-                    result = updateGlobalTable(updateGlobalTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateGlobalTableRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateGlobalTableRequest,
+                new UpdateGlobalTableRequestMarshaller(),
+                new JsonResponseHandler<UpdateGlobalTableResult>(
+                        new UpdateGlobalTableResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4234,14 +3873,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateGlobalTableSettingsResult> updateGlobalTableSettingsAsync(
+    public ListenableFuture<UpdateGlobalTableSettingsResult> updateGlobalTableSettingsAsync(
             final UpdateGlobalTableSettingsRequest updateGlobalTableSettingsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableSettingsResult>() {
-            public UpdateGlobalTableSettingsResult call() throws Exception {
-                return updateGlobalTableSettings(updateGlobalTableSettingsRequest);
-            }
-        });
+        return updateGlobalTableSettingsAsync(updateGlobalTableSettingsRequest, null);
     }
 
     /**
@@ -4267,23 +3902,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateGlobalTableSettingsResult> updateGlobalTableSettingsAsync(
+    public ListenableFuture<UpdateGlobalTableSettingsResult> updateGlobalTableSettingsAsync(
             final UpdateGlobalTableSettingsRequest updateGlobalTableSettingsRequest,
             final AsyncHandler<UpdateGlobalTableSettingsRequest, UpdateGlobalTableSettingsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGlobalTableSettingsResult>() {
-            public UpdateGlobalTableSettingsResult call() throws Exception {
-                UpdateGlobalTableSettingsResult result = null;
-                try {
-                    result = updateGlobalTableSettings(updateGlobalTableSettingsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateGlobalTableSettingsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateGlobalTableSettingsRequest,
+                new UpdateGlobalTableSettingsRequestMarshaller(),
+                new JsonResponseHandler<UpdateGlobalTableSettingsResult>(
+                        new UpdateGlobalTableSettingsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4318,13 +3945,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest)
+    public ListenableFuture<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateItemResult>() {
-            public UpdateItemResult call() throws Exception {
-                return updateItem(updateItemRequest);
-            }
-        });
+        return updateItemAsync(updateItemRequest, null);
     }
 
     /**
@@ -4359,22 +3982,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest,
+    public ListenableFuture<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest,
             final AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateItemResult>() {
-            public UpdateItemResult call() throws Exception {
-                UpdateItemResult result = null;
-                try {
-                    result = updateItem(updateItemRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateItemRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateItemRequest,
+                new UpdateItemRequestMarshaller(),
+                new JsonResponseHandler<UpdateItemResult>(
+                        new UpdateItemResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4435,13 +4050,9 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest)
+    public ListenableFuture<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTableResult>() {
-            public UpdateTableResult call() throws Exception {
-                return updateTable(updateTableRequest);
-            }
-        });
+        return updateTableAsync(updateTableRequest, null);
     }
 
     /**
@@ -4502,22 +4113,14 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest,
+    public ListenableFuture<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest,
             final AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTableResult>() {
-            public UpdateTableResult call() throws Exception {
-                UpdateTableResult result = null;
-                try {
-                    result = updateTable(updateTableRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateTableRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateTableRequest,
+                new UpdateTableRequestMarshaller(),
+                new JsonResponseHandler<UpdateTableResult>(
+                        new UpdateTableResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4582,14 +4185,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateTimeToLiveResult> updateTimeToLiveAsync(
+    public ListenableFuture<UpdateTimeToLiveResult> updateTimeToLiveAsync(
             final UpdateTimeToLiveRequest updateTimeToLiveRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateTimeToLiveResult>() {
-            public UpdateTimeToLiveResult call() throws Exception {
-                return updateTimeToLive(updateTimeToLiveRequest);
-            }
-        });
+        return updateTimeToLiveAsync(updateTimeToLiveRequest, null);
     }
 
     /**
@@ -4654,23 +4253,15 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements A
      *             DynamoDB indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateTimeToLiveResult> updateTimeToLiveAsync(
+    public ListenableFuture<UpdateTimeToLiveResult> updateTimeToLiveAsync(
             final UpdateTimeToLiveRequest updateTimeToLiveRequest,
             final AsyncHandler<UpdateTimeToLiveRequest, UpdateTimeToLiveResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTimeToLiveResult>() {
-            public UpdateTimeToLiveResult call() throws Exception {
-                UpdateTimeToLiveResult result = null;
-                try {
-                    result = updateTimeToLive(updateTimeToLiveRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateTimeToLiveRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateTimeToLiveRequest,
+                new UpdateTimeToLiveRequestMarshaller(),
+                new JsonResponseHandler<UpdateTimeToLiveResult>(
+                        new UpdateTimeToLiveResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
 }
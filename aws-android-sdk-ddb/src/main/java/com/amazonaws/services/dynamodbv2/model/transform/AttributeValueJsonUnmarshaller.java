@@ -26,6 +26,29 @@ import com.amazonaws.util.json.AwsJsonReader;
 class AttributeValueJsonUnmarshaller implements
         Unmarshaller<AttributeValue, JsonUnmarshallerContext> {
 
+    private static final int S = 0;
+    private static final int N = 1;
+    private static final int B = 2;
+    private static final int SS = 3;
+    private static final int NS = 4;
+    private static final int BS = 5;
+    private static final int M = 6;
+    private static final int L = 7;
+    private static final int NULL = 8;
+    private static final int BOOL = 9;
+    private static final FieldNameIndex FIELDS = new FieldNameIndex(
+            "S", "N", "B", "SS", "NS", "BS", "M", "L", "NULL", "BOOL");
+
+    private static final ListUnmarshaller<String> STRING_LIST_UNMARSHALLER =
+            new ListUnmarshaller<String>(StringJsonUnmarshaller.getInstance());
+    private static final ListUnmarshaller<java.nio.ByteBuffer> BYTE_BUFFER_LIST_UNMARSHALLER =
+            new ListUnmarshaller<java.nio.ByteBuffer>(ByteBufferJsonUnmarshaller.getInstance());
+
+    private final MapUnmarshaller<AttributeValue> mapUnmarshaller =
+            new MapUnmarshaller<AttributeValue>(this);
+    private final ListUnmarshaller<AttributeValue> listUnmarshaller =
+            new ListUnmarshaller<AttributeValue>(this);
+
     public AttributeValue unmarshall(JsonUnmarshallerContext context) throws Exception {
         AwsJsonReader reader = context.getReader();
         if (!reader.isContainer()) {
@@ -35,55 +58,58 @@ class AttributeValueJsonUnmarshaller implements
         AttributeValue attributeValue = new AttributeValue();
         reader.beginObject();
         while (reader.hasNext()) {
-            String name = reader.nextName();
-            if (name.equals("S")) {
-                attributeValue.setS(StringJsonUnmarshaller.getInstance()
-                        .unmarshall(context));
-            } else if (name.equals("N")) {
-                attributeValue.setN(StringJsonUnmarshaller.getInstance()
-                        .unmarshall(context));
-            } else if (name.equals("B")) {
-                attributeValue.setB(ByteBufferJsonUnmarshaller.getInstance()
-                        .unmarshall(context));
-            } else if (name.equals("SS")) {
-                attributeValue.setSS(new ListUnmarshaller<String>(StringJsonUnmarshaller
-                        .getInstance()
-                        )
-                                .unmarshall(context));
-            } else if (name.equals("NS")) {
-                attributeValue.setNS(new ListUnmarshaller<String>(StringJsonUnmarshaller
-                        .getInstance()
-                        )
-                                .unmarshall(context));
-            } else if (name.equals("BS")) {
-                attributeValue.setBS(new ListUnmarshaller<java.nio.ByteBuffer>(
-                        ByteBufferJsonUnmarshaller.getInstance()
-                        )
-                                .unmarshall(context));
-            } else if (name.equals("M")) {
-                attributeValue.setM(new MapUnmarshaller<AttributeValue>(
-                        AttributeValueJsonUnmarshaller.getInstance()
-                        )
-                                .unmarshall(context));
-            } else if (name.equals("L")) {
-                attributeValue.setL(new ListUnmarshaller<AttributeValue>(
-                        AttributeValueJsonUnmarshaller.getInstance()
-                        )
-                                .unmarshall(context));
-            } else if (name.equals("NULL")) {
-                attributeValue.setNULL(BooleanJsonUnmarshaller.getInstance()
-                        .unmarshall(context));
-            } else if (name.equals("BOOL")) {
-                attributeValue.setBOOL(BooleanJsonUnmarshaller.getInstance()
-                        .unmarshall(context));
-            } else {
-                reader.skipValue();
+            switch (FIELDS.indexOf(reader.nextName())) {
+                case S:
+                    attributeValue.setS(StringJsonUnmarshaller.getInstance()
+                            .unmarshall(context));
+                    break;
+                case N:
+                    attributeValue.setN(StringJsonUnmarshaller.getInstance()
+                            .unmarshall(context));
+                    break;
+                case B:
+                    attributeValue.setB(ByteBufferJsonUnmarshaller.getInstance()
+                            .unmarshall(context));
+                    break;
+                case SS:
+                    attributeValue.setSS(STRING_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case NS:
+                    attributeValue.setNS(STRING_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case BS:
+                    attributeValue.setBS(BYTE_BUFFER_LIST_UNMARSHALLER.unmarshall(context));
+                    break;
+                case M:
+                    attributeValue.setM(mapUnmarshaller.unmarshall(context));
+                    break;
+                case L:
+                    attributeValue.setL(listUnmarshaller.unmarshall(context));
+                    break;
+                case NULL:
+                    attributeValue.setNULL(BooleanJsonUnmarshaller.getInstance()
+                            .unmarshall(context));
+                    break;
+                case BOOL:
+                    attributeValue.setBOOL(BooleanJsonUnmarshaller.getInstance()
+                            .unmarshall(context));
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
             }
         }
         reader.endObject();
         return attributeValue;
     }
 
+    /**
+     * @return an unmarshaller for a map of attribute values, such as an item.
+     */
+    MapUnmarshaller<AttributeValue> getMapUnmarshaller() {
+        return mapUnmarshaller;
+    }
+
     private static AttributeValueJsonUnmarshaller instance;
 
     public static AttributeValueJsonUnmarshaller getInstance() {
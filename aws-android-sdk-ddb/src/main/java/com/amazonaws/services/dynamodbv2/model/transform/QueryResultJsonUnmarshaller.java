@@ -26,6 +26,10 @@ import com.amazonaws.util.json.AwsJsonReader;
 public class QueryResultJsonUnmarshaller implements
         Unmarshaller<QueryResult, JsonUnmarshallerContext> {
 
+    private static final ListUnmarshaller<java.util.Map<String, AttributeValue>> ITEMS_UNMARSHALLER =
+            new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
+                    AttributeValueJsonUnmarshaller.getInstance().getMapUnmarshaller());
+
     public QueryResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         QueryResult queryResult = new QueryResult();
 
@@ -34,12 +38,7 @@ public class QueryResultJsonUnmarshaller implements
         while (reader.hasNext()) {
             String name = reader.nextName();
             if (name.equals("Items")) {
-                queryResult.setItems(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
-                        new MapUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller
-                                .getInstance()
-                        )
-                        )
-                                .unmarshall(context));
+                queryResult.setItems(ITEMS_UNMARSHALLER.unmarshall(context));
             } else if (name.equals("Count")) {
                 queryResult.setCount(IntegerJsonUnmarshaller.getInstance()
                         .unmarshall(context));
@@ -47,10 +46,8 @@ public class QueryResultJsonUnmarshaller implements
                 queryResult.setScannedCount(IntegerJsonUnmarshaller.getInstance()
                         .unmarshall(context));
             } else if (name.equals("LastEvaluatedKey")) {
-                queryResult.setLastEvaluatedKey(new MapUnmarshaller<AttributeValue>(
-                        AttributeValueJsonUnmarshaller.getInstance()
-                        )
-                                .unmarshall(context));
+                queryResult.setLastEvaluatedKey(AttributeValueJsonUnmarshaller.getInstance()
+                        .getMapUnmarshaller().unmarshall(context));
             } else if (name.equals("ConsumedCapacity")) {
                 queryResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance()
                         .unmarshall(context));
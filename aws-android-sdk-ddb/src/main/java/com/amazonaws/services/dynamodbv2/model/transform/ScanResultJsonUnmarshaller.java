@@ -26,6 +26,10 @@ import com.amazonaws.util.json.AwsJsonReader;
 public class ScanResultJsonUnmarshaller implements
         Unmarshaller<ScanResult, JsonUnmarshallerContext> {
 
+    private static final ListUnmarshaller<java.util.Map<String, AttributeValue>> ITEMS_UNMARSHALLER =
+            new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
+                    AttributeValueJsonUnmarshaller.getInstance().getMapUnmarshaller());
+
     public ScanResult unmarshall(JsonUnmarshallerContext context) throws Exception {
         ScanResult scanResult = new ScanResult();
 
@@ -34,12 +38,7 @@ public class ScanResultJsonUnmarshaller implements
         while (reader.hasNext()) {
             String name = reader.nextName();
             if (name.equals("Items")) {
-                scanResult.setItems(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
-                        new MapUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller
-                                .getInstance()
-                        )
-                        )
-                                .unmarshall(context));
+                scanResult.setItems(ITEMS_UNMARSHALLER.unmarshall(context));
             } else if (name.equals("Count")) {
                 scanResult.setCount(IntegerJsonUnmarshaller.getInstance()
                         .unmarshall(context));
@@ -47,10 +46,8 @@ public class ScanResultJsonUnmarshaller implements
                 scanResult.setScannedCount(IntegerJsonUnmarshaller.getInstance()
                         .unmarshall(context));
             } else if (name.equals("LastEvaluatedKey")) {
-                scanResult.setLastEvaluatedKey(new MapUnmarshaller<AttributeValue>(
-                        AttributeValueJsonUnmarshaller.getInstance()
-                        )
-                                .unmarshall(context));
+                scanResult.setLastEvaluatedKey(AttributeValueJsonUnmarshaller.getInstance()
+                        .getMapUnmarshaller().unmarshall(context));
             } else if (name.equals("ConsumedCapacity")) {
                 scanResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance()
                         .unmarshall(context));
@@ -14,13 +14,13 @@
  */
 package com.amazonaws.services.ec2;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -28,6 +28,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.ec2.model.*;
+import com.amazonaws.services.ec2.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonEC2.
@@ -47,7 +48,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -94,14 +95,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     @Deprecated
     public AmazonEC2AsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors.newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
      * AmazonEC2 using the specified AWS account credentials.
-     * Default client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -112,7 +113,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *                       when authenticating with AWS services.
      */
     public AmazonEC2AsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -134,7 +135,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public AmazonEC2AsyncClient(AWSCredentials awsCredentials, ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -160,14 +161,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     public AmazonEC2AsyncClient(AWSCredentials awsCredentials,
                 ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
      * AmazonEC2 using the specified AWS account credentials provider.
-     * Default client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -179,7 +180,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *            to authenticate requests with AWS services.
      */
     public AmazonEC2AsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -222,7 +223,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public AmazonEC2AsyncClient(AWSCredentialsProvider awsCredentialsProvider,
                 ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors.newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -248,17 +249,18 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
     public AmazonEC2AsyncClient(AWSCredentialsProvider awsCredentialsProvider,
                 ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -300,14 +302,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
+    public ListenableFuture<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlacementGroup(deletePlacementGroupRequest);
-                return null;
-        }
-    });
+        return deletePlacementGroupAsync(deletePlacementGroupRequest, null);
     }
 
     /**
@@ -339,22 +336,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlacementGroupAsync(
+    public ListenableFuture<Void> deletePlacementGroupAsync(
             final DeletePlacementGroupRequest deletePlacementGroupRequest,
             final AsyncHandler<DeletePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deletePlacementGroup(deletePlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deletePlacementGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deletePlacementGroupRequest,
+                new DeletePlacementGroupRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -436,13 +425,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
+    public ListenableFuture<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-                return createDhcpOptions(createDhcpOptionsRequest);
-        }
-    });
+        return createDhcpOptionsAsync(createDhcpOptionsRequest, null);
     }
 
     /**
@@ -528,23 +513,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(
+    public ListenableFuture<CreateDhcpOptionsResult> createDhcpOptionsAsync(
             final CreateDhcpOptionsRequest createDhcpOptionsRequest,
             final AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-              CreateDhcpOptionsResult result;
-                try {
-                result = createDhcpOptions(createDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createDhcpOptionsRequest,
+                new CreateDhcpOptionsRequestMarshaller(),
+                new CreateDhcpOptionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -592,13 +568,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
+    public ListenableFuture<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-                return createVpnConnection(createVpnConnectionRequest);
-        }
-    });
+        return createVpnConnectionAsync(createVpnConnectionRequest, null);
     }
 
     /**
@@ -650,23 +622,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnConnectionResult> createVpnConnectionAsync(
+    public ListenableFuture<CreateVpnConnectionResult> createVpnConnectionAsync(
             final CreateVpnConnectionRequest createVpnConnectionRequest,
             final AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-              CreateVpnConnectionResult result;
-                try {
-                result = createVpnConnection(createVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpnConnectionRequest,
+                new CreateVpnConnectionRequestMarshaller(),
+                new CreateVpnConnectionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -697,14 +660,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
+    public ListenableFuture<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateRouteTable(disassociateRouteTableRequest);
-                return null;
-        }
-    });
+        return disassociateRouteTableAsync(disassociateRouteTableRequest, null);
     }
 
     /**
@@ -739,22 +697,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateRouteTableAsync(
+    public ListenableFuture<Void> disassociateRouteTableAsync(
             final DisassociateRouteTableRequest disassociateRouteTableRequest,
             final AsyncHandler<DisassociateRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disassociateRouteTable(disassociateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateRouteTableRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disassociateRouteTableRequest,
+                new DisassociateRouteTableRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -786,13 +736,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyReservedInstancesResult> modifyReservedInstancesAsync(final ModifyReservedInstancesRequest modifyReservedInstancesRequest) 
+    public ListenableFuture<ModifyReservedInstancesResult> modifyReservedInstancesAsync(final ModifyReservedInstancesRequest modifyReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
-            public ModifyReservedInstancesResult call() throws Exception {
-                return modifyReservedInstances(modifyReservedInstancesRequest);
-        }
-    });
+        return modifyReservedInstancesAsync(modifyReservedInstancesRequest, null);
     }
 
     /**
@@ -828,23 +774,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyReservedInstancesResult> modifyReservedInstancesAsync(
+    public ListenableFuture<ModifyReservedInstancesResult> modifyReservedInstancesAsync(
             final ModifyReservedInstancesRequest modifyReservedInstancesRequest,
             final AsyncHandler<ModifyReservedInstancesRequest, ModifyReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyReservedInstancesResult>() {
-            public ModifyReservedInstancesResult call() throws Exception {
-              ModifyReservedInstancesResult result;
-                try {
-                result = modifyReservedInstances(modifyReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyReservedInstancesRequest,
+                new ModifyReservedInstancesRequestMarshaller(),
+                new ModifyReservedInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -867,13 +804,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportSnapshotResult> importSnapshotAsync(final ImportSnapshotRequest importSnapshotRequest) 
+    public ListenableFuture<ImportSnapshotResult> importSnapshotAsync(final ImportSnapshotRequest importSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
-            public ImportSnapshotResult call() throws Exception {
-                return importSnapshot(importSnapshotRequest);
-        }
-    });
+        return importSnapshotAsync(importSnapshotRequest, null);
     }
 
     /**
@@ -900,23 +833,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportSnapshotResult> importSnapshotAsync(
+    public ListenableFuture<ImportSnapshotResult> importSnapshotAsync(
             final ImportSnapshotRequest importSnapshotRequest,
             final AsyncHandler<ImportSnapshotRequest, ImportSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportSnapshotResult>() {
-            public ImportSnapshotResult call() throws Exception {
-              ImportSnapshotResult result;
-                try {
-                result = importSnapshot(importSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importSnapshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importSnapshotRequest,
+                new ImportSnapshotRequestMarshaller(),
+                new ImportSnapshotResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -967,13 +891,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
+    public ListenableFuture<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-                return terminateInstances(terminateInstancesRequest);
-        }
-    });
+        return terminateInstancesAsync(terminateInstancesRequest, null);
     }
 
     /**
@@ -1028,23 +948,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<TerminateInstancesResult> terminateInstancesAsync(
+    public ListenableFuture<TerminateInstancesResult> terminateInstancesAsync(
             final TerminateInstancesRequest terminateInstancesRequest,
             final AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-              TerminateInstancesResult result;
-                try {
-                result = terminateInstances(terminateInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(terminateInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(terminateInstancesRequest,
+                new TerminateInstancesRequestMarshaller(),
+                new TerminateInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -1071,13 +982,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
+    public ListenableFuture<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-                return confirmProductInstance(confirmProductInstanceRequest);
-        }
-    });
+        return confirmProductInstanceAsync(confirmProductInstanceRequest, null);
     }
 
     /**
@@ -1108,23 +1015,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(
+    public ListenableFuture<ConfirmProductInstanceResult> confirmProductInstanceAsync(
             final ConfirmProductInstanceRequest confirmProductInstanceRequest,
             final AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-              ConfirmProductInstanceResult result;
-                try {
-                result = confirmProductInstance(confirmProductInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(confirmProductInstanceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(confirmProductInstanceRequest,
+                new ConfirmProductInstanceRequestMarshaller(),
+                new ConfirmProductInstanceResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -1166,14 +1064,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
+    public ListenableFuture<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSnapshot(deleteSnapshotRequest);
-                return null;
-        }
-    });
+        return deleteSnapshotAsync(deleteSnapshotRequest, null);
     }
 
     /**
@@ -1219,22 +1112,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSnapshotAsync(
+    public ListenableFuture<Void> deleteSnapshotAsync(
             final DeleteSnapshotRequest deleteSnapshotRequest,
             final AsyncHandler<DeleteSnapshotRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSnapshot(deleteSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSnapshotRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSnapshotRequest,
+                new DeleteSnapshotRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -1267,13 +1152,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest) 
+    public ListenableFuture<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
-            public DescribeReservedInstancesModificationsResult call() throws Exception {
-                return describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-        }
-    });
+        return describeReservedInstancesModificationsAsync(describeReservedInstancesModificationsRequest, null);
     }
 
     /**
@@ -1310,23 +1191,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(
+    public ListenableFuture<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsAsync(
             final DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest,
             final AsyncHandler<DescribeReservedInstancesModificationsRequest, DescribeReservedInstancesModificationsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesModificationsResult>() {
-            public DescribeReservedInstancesModificationsResult call() throws Exception {
-              DescribeReservedInstancesModificationsResult result;
-                try {
-                result = describeReservedInstancesModifications(describeReservedInstancesModificationsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesModificationsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesModificationsRequest,
+                new DescribeReservedInstancesModificationsRequestMarshaller(),
+                new DescribeReservedInstancesModificationsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -1361,13 +1233,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
+    public ListenableFuture<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-                return importInstance(importInstanceRequest);
-        }
-    });
+        return importInstanceAsync(importInstanceRequest, null);
     }
 
     /**
@@ -1406,23 +1274,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportInstanceResult> importInstanceAsync(
+    public ListenableFuture<ImportInstanceResult> importInstanceAsync(
             final ImportInstanceRequest importInstanceRequest,
             final AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-              ImportInstanceResult result;
-                try {
-                result = importInstance(importInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importInstanceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importInstanceRequest,
+                new ImportInstanceRequestMarshaller(),
+                new ImportInstanceResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -1455,13 +1314,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
+    public ListenableFuture<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-                return describeAvailabilityZones(describeAvailabilityZonesRequest);
-        }
-    });
+        return describeAvailabilityZonesAsync(describeAvailabilityZonesRequest, null);
     }
 
     /**
@@ -1498,23 +1353,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(
+    public ListenableFuture<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(
             final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
             final AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-              DescribeAvailabilityZonesResult result;
-                try {
-                result = describeAvailabilityZones(describeAvailabilityZonesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAvailabilityZonesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAvailabilityZonesRequest,
+                new DescribeAvailabilityZonesRequestMarshaller(),
+                new DescribeAvailabilityZonesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -1585,13 +1431,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
+    public ListenableFuture<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-                return attachVolume(attachVolumeRequest);
-        }
-    });
+        return attachVolumeAsync(attachVolumeRequest, null);
     }
 
     /**
@@ -1666,23 +1508,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVolumeResult> attachVolumeAsync(
+    public ListenableFuture<AttachVolumeResult> attachVolumeAsync(
             final AttachVolumeRequest attachVolumeRequest,
             final AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-              AttachVolumeResult result;
-                try {
-                result = attachVolume(attachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachVolumeRequest,
+                new AttachVolumeRequestMarshaller(),
+                new AttachVolumeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -1712,13 +1545,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest) 
+    public ListenableFuture<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
-            public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
-                return disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return disableVpcClassicLinkDnsSupportAsync(disableVpcClassicLinkDnsSupportRequest, null);
     }
 
     /**
@@ -1752,23 +1581,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(
+    public ListenableFuture<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportAsync(
             final DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DisableVpcClassicLinkDnsSupportRequest, DisableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkDnsSupportResult>() {
-            public DisableVpcClassicLinkDnsSupportResult call() throws Exception {
-              DisableVpcClassicLinkDnsSupportResult result;
-                try {
-                result = disableVpcClassicLinkDnsSupport(disableVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkDnsSupportRequest,
+                new DisableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DisableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -1796,14 +1616,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
+    public ListenableFuture<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInternetGateway(attachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return attachInternetGatewayAsync(attachInternetGatewayRequest, null);
     }
 
     /**
@@ -1835,22 +1650,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> attachInternetGatewayAsync(
+    public ListenableFuture<Void> attachInternetGatewayAsync(
             final AttachInternetGatewayRequest attachInternetGatewayRequest,
             final AsyncHandler<AttachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                attachInternetGateway(attachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(attachInternetGatewayRequest,
+                new AttachInternetGatewayRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -1877,13 +1684,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest) 
+    public ListenableFuture<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStaleSecurityGroupsResult>() {
-            public DescribeStaleSecurityGroupsResult call() throws Exception {
-                return describeStaleSecurityGroups(describeStaleSecurityGroupsRequest);
-        }
-    });
+        return describeStaleSecurityGroupsAsync(describeStaleSecurityGroupsRequest, null);
     }
 
     /**
@@ -1914,23 +1717,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(
+    public ListenableFuture<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsAsync(
             final DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest,
             final AsyncHandler<DescribeStaleSecurityGroupsRequest, DescribeStaleSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStaleSecurityGroupsResult>() {
-            public DescribeStaleSecurityGroupsResult call() throws Exception {
-              DescribeStaleSecurityGroupsResult result;
-                try {
-                result = describeStaleSecurityGroups(describeStaleSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeStaleSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeStaleSecurityGroupsRequest,
+                new DescribeStaleSecurityGroupsRequestMarshaller(),
+                new DescribeStaleSecurityGroupsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -1955,14 +1749,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> enableVgwRoutePropagationAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) 
+    public ListenableFuture<Void> enableVgwRoutePropagationAsync(final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return enableVgwRoutePropagationAsync(enableVgwRoutePropagationRequest, null);
     }
 
     /**
@@ -1991,22 +1780,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> enableVgwRoutePropagationAsync(
+    public ListenableFuture<Void> enableVgwRoutePropagationAsync(
             final EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest,
             final AsyncHandler<EnableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableVgwRoutePropagation(enableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(enableVgwRoutePropagationRequest,
+                new EnableVgwRoutePropagationRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -2031,13 +1812,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AllocateHostsResult> allocateHostsAsync(final AllocateHostsRequest allocateHostsRequest) 
+    public ListenableFuture<AllocateHostsResult> allocateHostsAsync(final AllocateHostsRequest allocateHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
-            public AllocateHostsResult call() throws Exception {
-                return allocateHosts(allocateHostsRequest);
-        }
-    });
+        return allocateHostsAsync(allocateHostsRequest, null);
     }
 
     /**
@@ -2066,23 +1843,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AllocateHostsResult> allocateHostsAsync(
+    public ListenableFuture<AllocateHostsResult> allocateHostsAsync(
             final AllocateHostsRequest allocateHostsRequest,
             final AsyncHandler<AllocateHostsRequest, AllocateHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateHostsResult>() {
-            public AllocateHostsResult call() throws Exception {
-              AllocateHostsResult result;
-                try {
-                result = allocateHosts(allocateHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(allocateHostsRequest,
+                new AllocateHostsRequestMarshaller(),
+                new AllocateHostsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -2106,13 +1874,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest) 
+    public ListenableFuture<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
-            public DescribeVpcClassicLinkResult call() throws Exception {
-                return describeVpcClassicLink(describeVpcClassicLinkRequest);
-        }
-    });
+        return describeVpcClassicLinkAsync(describeVpcClassicLinkRequest, null);
     }
 
     /**
@@ -2140,23 +1904,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(
+    public ListenableFuture<DescribeVpcClassicLinkResult> describeVpcClassicLinkAsync(
             final DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest,
             final AsyncHandler<DescribeVpcClassicLinkRequest, DescribeVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkResult>() {
-            public DescribeVpcClassicLinkResult call() throws Exception {
-              DescribeVpcClassicLinkResult result;
-                try {
-                result = describeVpcClassicLink(describeVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkRequest,
+                new DescribeVpcClassicLinkRequestMarshaller(),
+                new DescribeVpcClassicLinkResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -2182,13 +1937,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
+    public ListenableFuture<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-                return attachVpnGateway(attachVpnGatewayRequest);
-        }
-    });
+        return attachVpnGatewayAsync(attachVpnGatewayRequest, null);
     }
 
     /**
@@ -2218,23 +1969,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(
+    public ListenableFuture<AttachVpnGatewayResult> attachVpnGatewayAsync(
             final AttachVpnGatewayRequest attachVpnGatewayRequest,
             final AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-              AttachVpnGatewayResult result;
-                try {
-                result = attachVpnGateway(attachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachVpnGatewayRequest,
+                new AttachVpnGatewayRequestMarshaller(),
+                new AttachVpnGatewayResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -2260,14 +2002,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> cancelExportTaskAsync(final CancelExportTaskRequest cancelExportTaskRequest) 
+    public ListenableFuture<Void> cancelExportTaskAsync(final CancelExportTaskRequest cancelExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelExportTask(cancelExportTaskRequest);
-                return null;
-        }
-    });
+        return cancelExportTaskAsync(cancelExportTaskRequest, null);
     }
 
     /**
@@ -2297,22 +2034,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> cancelExportTaskAsync(
+    public ListenableFuture<Void> cancelExportTaskAsync(
             final CancelExportTaskRequest cancelExportTaskRequest,
             final AsyncHandler<CancelExportTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                cancelExportTask(cancelExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelExportTaskRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(cancelExportTaskRequest,
+                new CancelExportTaskRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -2347,13 +2076,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
+    public ListenableFuture<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-                return describeInstances(describeInstancesRequest);
-        }
-    });
+        return describeInstancesAsync(describeInstancesRequest, null);
     }
 
     /**
@@ -2392,23 +2117,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstancesResult> describeInstancesAsync(
+    public ListenableFuture<DescribeInstancesResult> describeInstancesAsync(
             final DescribeInstancesRequest describeInstancesRequest,
             final AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-              DescribeInstancesResult result;
-                try {
-                result = describeInstances(describeInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstancesRequest,
+                new DescribeInstancesRequestMarshaller(),
+                new DescribeInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -2445,13 +2161,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RunScheduledInstancesResult> runScheduledInstancesAsync(final RunScheduledInstancesRequest runScheduledInstancesRequest) 
+    public ListenableFuture<RunScheduledInstancesResult> runScheduledInstancesAsync(final RunScheduledInstancesRequest runScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
-            public RunScheduledInstancesResult call() throws Exception {
-                return runScheduledInstances(runScheduledInstancesRequest);
-        }
-    });
+        return runScheduledInstancesAsync(runScheduledInstancesRequest, null);
     }
 
     /**
@@ -2492,23 +2204,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RunScheduledInstancesResult> runScheduledInstancesAsync(
+    public ListenableFuture<RunScheduledInstancesResult> runScheduledInstancesAsync(
             final RunScheduledInstancesRequest runScheduledInstancesRequest,
             final AsyncHandler<RunScheduledInstancesRequest, RunScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunScheduledInstancesResult>() {
-            public RunScheduledInstancesResult call() throws Exception {
-              RunScheduledInstancesResult result;
-                try {
-                result = runScheduledInstances(runScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(runScheduledInstancesRequest,
+                new RunScheduledInstancesRequestMarshaller(),
+                new RunScheduledInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -2532,13 +2235,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportImageResult> importImageAsync(final ImportImageRequest importImageRequest) 
+    public ListenableFuture<ImportImageResult> importImageAsync(final ImportImageRequest importImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
-            public ImportImageResult call() throws Exception {
-                return importImage(importImageRequest);
-        }
-    });
+        return importImageAsync(importImageRequest, null);
     }
 
     /**
@@ -2566,23 +2265,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportImageResult> importImageAsync(
+    public ListenableFuture<ImportImageResult> importImageAsync(
             final ImportImageRequest importImageRequest,
             final AsyncHandler<ImportImageRequest, ImportImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportImageResult>() {
-            public ImportImageResult call() throws Exception {
-              ImportImageResult result;
-                try {
-                result = importImage(importImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importImageRequest,
+                new ImportImageRequestMarshaller(),
+                new ImportImageResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -2618,13 +2308,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
+    public ListenableFuture<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-                return createImage(createImageRequest);
-        }
-    });
+        return createImageAsync(createImageRequest, null);
     }
 
     /**
@@ -2664,23 +2350,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateImageResult> createImageAsync(
+    public ListenableFuture<CreateImageResult> createImageAsync(
             final CreateImageRequest createImageRequest,
             final AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-              CreateImageResult result;
-                try {
-                result = createImage(createImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createImageRequest,
+                new CreateImageRequestMarshaller(),
+                new CreateImageResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -2713,14 +2390,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
+    public ListenableFuture<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVolume(deleteVolumeRequest);
-                return null;
-        }
-    });
+        return deleteVolumeAsync(deleteVolumeRequest, null);
     }
 
     /**
@@ -2757,22 +2429,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVolumeAsync(
+    public ListenableFuture<Void> deleteVolumeAsync(
             final DeleteVolumeRequest deleteVolumeRequest,
             final AsyncHandler<DeleteVolumeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVolume(deleteVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVolumeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVolumeRequest,
+                new DeleteVolumeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -2799,13 +2463,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeMovingAddressesResult> describeMovingAddressesAsync(final DescribeMovingAddressesRequest describeMovingAddressesRequest) 
+    public ListenableFuture<DescribeMovingAddressesResult> describeMovingAddressesAsync(final DescribeMovingAddressesRequest describeMovingAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
-            public DescribeMovingAddressesResult call() throws Exception {
-                return describeMovingAddresses(describeMovingAddressesRequest);
-        }
-    });
+        return describeMovingAddressesAsync(describeMovingAddressesRequest, null);
     }
 
     /**
@@ -2836,23 +2496,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeMovingAddressesResult> describeMovingAddressesAsync(
+    public ListenableFuture<DescribeMovingAddressesResult> describeMovingAddressesAsync(
             final DescribeMovingAddressesRequest describeMovingAddressesRequest,
             final AsyncHandler<DescribeMovingAddressesRequest, DescribeMovingAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMovingAddressesResult>() {
-            public DescribeMovingAddressesResult call() throws Exception {
-              DescribeMovingAddressesResult result;
-                try {
-                result = describeMovingAddresses(describeMovingAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeMovingAddressesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeMovingAddressesRequest,
+                new DescribeMovingAddressesRequestMarshaller(),
+                new DescribeMovingAddressesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -2875,13 +2526,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(final DescribeVpcEndpointsRequest describeVpcEndpointsRequest) 
+    public ListenableFuture<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(final DescribeVpcEndpointsRequest describeVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
-            public DescribeVpcEndpointsResult call() throws Exception {
-                return describeVpcEndpoints(describeVpcEndpointsRequest);
-        }
-    });
+        return describeVpcEndpointsAsync(describeVpcEndpointsRequest, null);
     }
 
     /**
@@ -2908,23 +2555,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(
+    public ListenableFuture<DescribeVpcEndpointsResult> describeVpcEndpointsAsync(
             final DescribeVpcEndpointsRequest describeVpcEndpointsRequest,
             final AsyncHandler<DescribeVpcEndpointsRequest, DescribeVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointsResult>() {
-            public DescribeVpcEndpointsResult call() throws Exception {
-              DescribeVpcEndpointsResult result;
-                try {
-                result = describeVpcEndpoints(describeVpcEndpointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcEndpointsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcEndpointsRequest,
+                new DescribeVpcEndpointsRequestMarshaller(),
+                new DescribeVpcEndpointsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -2948,14 +2586,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
+    public ListenableFuture<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSubnet(deleteSubnetRequest);
-                return null;
-        }
-    });
+        return deleteSubnetAsync(deleteSubnetRequest, null);
     }
 
     /**
@@ -2983,22 +2616,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSubnetAsync(
+    public ListenableFuture<Void> deleteSubnetAsync(
             final DeleteSubnetRequest deleteSubnetRequest,
             final AsyncHandler<DeleteSubnetRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSubnet(deleteSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSubnetRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSubnetRequest,
+                new DeleteSubnetRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -3025,13 +2650,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest) 
+    public ListenableFuture<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
-            public DescribeClassicLinkInstancesResult call() throws Exception {
-                return describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-        }
-    });
+        return describeClassicLinkInstancesAsync(describeClassicLinkInstancesRequest, null);
     }
 
     /**
@@ -3062,23 +2683,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(
+    public ListenableFuture<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesAsync(
             final DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest,
             final AsyncHandler<DescribeClassicLinkInstancesRequest, DescribeClassicLinkInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeClassicLinkInstancesResult>() {
-            public DescribeClassicLinkInstancesResult call() throws Exception {
-              DescribeClassicLinkInstancesResult result;
-                try {
-                result = describeClassicLinkInstances(describeClassicLinkInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeClassicLinkInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeClassicLinkInstancesRequest,
+                new DescribeClassicLinkInstancesRequestMarshaller(),
+                new DescribeClassicLinkInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -3119,13 +2731,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
+    public ListenableFuture<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-                return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-        }
-    });
+        return describeReservedInstancesOfferingsAsync(describeReservedInstancesOfferingsRequest, null);
     }
 
     /**
@@ -3170,23 +2778,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(
+    public ListenableFuture<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(
             final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
             final AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-              DescribeReservedInstancesOfferingsResult result;
-                try {
-                result = describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesOfferingsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesOfferingsRequest,
+                new DescribeReservedInstancesOfferingsRequestMarshaller(),
+                new DescribeReservedInstancesOfferingsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -3214,13 +2813,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest) 
+    public ListenableFuture<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
-            public DeleteVpcPeeringConnectionResult call() throws Exception {
-                return deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-        }
-    });
+        return deleteVpcPeeringConnectionAsync(deleteVpcPeeringConnectionRequest, null);
     }
 
     /**
@@ -3252,23 +2847,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(
+    public ListenableFuture<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionAsync(
             final DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest,
             final AsyncHandler<DeleteVpcPeeringConnectionRequest, DeleteVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcPeeringConnectionResult>() {
-            public DeleteVpcPeeringConnectionResult call() throws Exception {
-              DeleteVpcPeeringConnectionResult result;
-                try {
-                result = deleteVpcPeeringConnection(deleteVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteVpcPeeringConnectionRequest,
+                new DeleteVpcPeeringConnectionRequestMarshaller(),
+                new DeleteVpcPeeringConnectionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -3354,13 +2940,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
+    public ListenableFuture<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-                return runInstances(runInstancesRequest);
-        }
-    });
+        return runInstancesAsync(runInstancesRequest, null);
     }
 
     /**
@@ -3450,23 +3032,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RunInstancesResult> runInstancesAsync(
+    public ListenableFuture<RunInstancesResult> runInstancesAsync(
             final RunInstancesRequest runInstancesRequest,
             final AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-              RunInstancesResult result;
-                try {
-                result = runInstances(runInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(runInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(runInstancesRequest,
+                new RunInstancesRequestMarshaller(),
+                new RunInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -3490,14 +3063,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
+    public ListenableFuture<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVolumeIO(enableVolumeIORequest);
-                return null;
-        }
-    });
+        return enableVolumeIOAsync(enableVolumeIORequest, null);
     }
 
     /**
@@ -3525,22 +3093,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> enableVolumeIOAsync(
+    public ListenableFuture<Void> enableVolumeIOAsync(
             final EnableVolumeIORequest enableVolumeIORequest,
             final AsyncHandler<EnableVolumeIORequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                enableVolumeIO(enableVolumeIORequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVolumeIORequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(enableVolumeIORequest,
+                new EnableVolumeIORequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -3571,13 +3131,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest) 
+    public ListenableFuture<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
-            public DescribeSpotFleetRequestHistoryResult call() throws Exception {
-                return describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
-        }
-    });
+        return describeSpotFleetRequestHistoryAsync(describeSpotFleetRequestHistoryRequest, null);
     }
 
     /**
@@ -3612,23 +3168,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(
+    public ListenableFuture<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryAsync(
             final DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest,
             final AsyncHandler<DescribeSpotFleetRequestHistoryRequest, DescribeSpotFleetRequestHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestHistoryResult>() {
-            public DescribeSpotFleetRequestHistoryResult call() throws Exception {
-              DescribeSpotFleetRequestHistoryResult result;
-                try {
-                result = describeSpotFleetRequestHistory(describeSpotFleetRequestHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetRequestHistoryRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestHistoryRequest,
+                new DescribeSpotFleetRequestHistoryRequestMarshaller(),
+                new DescribeSpotFleetRequestHistoryResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -3657,13 +3204,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
+    public ListenableFuture<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-                return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return createSpotDatafeedSubscriptionAsync(createSpotDatafeedSubscriptionRequest, null);
     }
 
     /**
@@ -3696,23 +3239,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(
+    public ListenableFuture<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(
             final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
             final AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-              CreateSpotDatafeedSubscriptionResult result;
-                try {
-                result = createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSpotDatafeedSubscriptionRequest,
+                new CreateSpotDatafeedSubscriptionRequestMarshaller(),
+                new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -3740,13 +3274,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RestoreAddressToClassicResult> restoreAddressToClassicAsync(final RestoreAddressToClassicRequest restoreAddressToClassicRequest) 
+    public ListenableFuture<RestoreAddressToClassicResult> restoreAddressToClassicAsync(final RestoreAddressToClassicRequest restoreAddressToClassicRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
-            public RestoreAddressToClassicResult call() throws Exception {
-                return restoreAddressToClassic(restoreAddressToClassicRequest);
-        }
-    });
+        return restoreAddressToClassicAsync(restoreAddressToClassicRequest, null);
     }
 
     /**
@@ -3778,23 +3308,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RestoreAddressToClassicResult> restoreAddressToClassicAsync(
+    public ListenableFuture<RestoreAddressToClassicResult> restoreAddressToClassicAsync(
             final RestoreAddressToClassicRequest restoreAddressToClassicRequest,
             final AsyncHandler<RestoreAddressToClassicRequest, RestoreAddressToClassicResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RestoreAddressToClassicResult>() {
-            public RestoreAddressToClassicResult call() throws Exception {
-              RestoreAddressToClassicResult result;
-                try {
-                result = restoreAddressToClassic(restoreAddressToClassicRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(restoreAddressToClassicRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(restoreAddressToClassicRequest,
+                new RestoreAddressToClassicRequestMarshaller(),
+                new RestoreAddressToClassicResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -3824,13 +3345,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
+    public ListenableFuture<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-                return describeImages(describeImagesRequest);
-        }
-    });
+        return describeImagesAsync(describeImagesRequest, null);
     }
 
     /**
@@ -3864,23 +3381,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImagesResult> describeImagesAsync(
+    public ListenableFuture<DescribeImagesResult> describeImagesAsync(
             final DescribeImagesRequest describeImagesRequest,
             final AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-              DescribeImagesResult result;
-                try {
-                result = describeImages(describeImagesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImagesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImagesRequest,
+                new DescribeImagesRequestMarshaller(),
+                new DescribeImagesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -3903,13 +3411,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
+    public ListenableFuture<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-                return describeVpcs(describeVpcsRequest);
-        }
-    });
+        return describeVpcsAsync(describeVpcsRequest, null);
     }
 
     /**
@@ -3936,23 +3440,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcsResult> describeVpcsAsync(
+    public ListenableFuture<DescribeVpcsResult> describeVpcsAsync(
             final DescribeVpcsRequest describeVpcsRequest,
             final AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-              DescribeVpcsResult result;
-                try {
-                result = describeVpcs(describeVpcsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcsRequest,
+                new DescribeVpcsRequestMarshaller(),
+                new DescribeVpcsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -3998,14 +3493,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
+    public ListenableFuture<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return authorizeSecurityGroupEgressAsync(authorizeSecurityGroupEgressRequest, null);
     }
 
     /**
@@ -4055,22 +3545,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupEgressAsync(
+    public ListenableFuture<Void> authorizeSecurityGroupEgressAsync(
             final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
             final AsyncHandler<AuthorizeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupEgressRequest,
+                new AuthorizeSecurityGroupEgressRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -4111,13 +3593,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CopySnapshotResult> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
+    public ListenableFuture<CopySnapshotResult> copySnapshotAsync(final CopySnapshotRequest copySnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
-            public CopySnapshotResult call() throws Exception {
-                return copySnapshot(copySnapshotRequest);
-        }
-    });
+        return copySnapshotAsync(copySnapshotRequest, null);
     }
 
     /**
@@ -4162,23 +3640,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CopySnapshotResult> copySnapshotAsync(
+    public ListenableFuture<CopySnapshotResult> copySnapshotAsync(
             final CopySnapshotRequest copySnapshotRequest,
             final AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopySnapshotResult>() {
-            public CopySnapshotResult call() throws Exception {
-              CopySnapshotResult result;
-                try {
-                result = copySnapshot(copySnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copySnapshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(copySnapshotRequest,
+                new CopySnapshotRequestMarshaller(),
+                new CopySnapshotResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -4210,14 +3679,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
+    public ListenableFuture<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachVpnGateway(detachVpnGatewayRequest);
-                return null;
-        }
-    });
+        return detachVpnGatewayAsync(detachVpnGatewayRequest, null);
     }
 
     /**
@@ -4253,22 +3717,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachVpnGatewayAsync(
+    public ListenableFuture<Void> detachVpnGatewayAsync(
             final DetachVpnGatewayRequest detachVpnGatewayRequest,
             final AsyncHandler<DetachVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachVpnGateway(detachVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(detachVpnGatewayRequest,
+                new DetachVpnGatewayRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -4300,13 +3756,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
+    public ListenableFuture<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-                return describeInstanceAttribute(describeInstanceAttributeRequest);
-        }
-    });
+        return describeInstanceAttributeAsync(describeInstanceAttributeRequest, null);
     }
 
     /**
@@ -4342,23 +3794,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
+    public ListenableFuture<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(
             final DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
             final AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-              DescribeInstanceAttributeResult result;
-                try {
-                result = describeInstanceAttribute(describeInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstanceAttributeRequest,
+                new DescribeInstanceAttributeRequestMarshaller(),
+                new DescribeInstanceAttributeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -4382,13 +3825,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest) 
+    public ListenableFuture<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
-            public DescribeSpotFleetInstancesResult call() throws Exception {
-                return describeSpotFleetInstances(describeSpotFleetInstancesRequest);
-        }
-    });
+        return describeSpotFleetInstancesAsync(describeSpotFleetInstancesRequest, null);
     }
 
     /**
@@ -4416,23 +3855,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(
+    public ListenableFuture<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesAsync(
             final DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest,
             final AsyncHandler<DescribeSpotFleetInstancesRequest, DescribeSpotFleetInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetInstancesResult>() {
-            public DescribeSpotFleetInstancesResult call() throws Exception {
-              DescribeSpotFleetInstancesResult result;
-                try {
-                result = describeSpotFleetInstances(describeSpotFleetInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotFleetInstancesRequest,
+                new DescribeSpotFleetInstancesRequestMarshaller(),
+                new DescribeSpotFleetInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -4462,13 +3892,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
+    public ListenableFuture<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-                return createNetworkAcl(createNetworkAclRequest);
-        }
-    });
+        return createNetworkAclAsync(createNetworkAclRequest, null);
     }
 
     /**
@@ -4502,23 +3928,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNetworkAclResult> createNetworkAclAsync(
+    public ListenableFuture<CreateNetworkAclResult> createNetworkAclAsync(
             final CreateNetworkAclRequest createNetworkAclRequest,
             final AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-              CreateNetworkAclResult result;
-                try {
-                result = createNetworkAcl(createNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createNetworkAclRequest,
+                new CreateNetworkAclRequestMarshaller(),
+                new CreateNetworkAclResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -4553,13 +3970,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
+    public ListenableFuture<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-                return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-        }
-    });
+        return describeSpotPriceHistoryAsync(describeSpotPriceHistoryRequest, null);
     }
 
     /**
@@ -4598,23 +4011,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(
+    public ListenableFuture<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(
             final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
             final AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-              DescribeSpotPriceHistoryResult result;
-                try {
-                result = describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotPriceHistoryRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotPriceHistoryRequest,
+                new DescribeSpotPriceHistoryRequestMarshaller(),
+                new DescribeSpotPriceHistoryResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -4639,13 +4043,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImportImageTasksResult> describeImportImageTasksAsync(final DescribeImportImageTasksRequest describeImportImageTasksRequest) 
+    public ListenableFuture<DescribeImportImageTasksResult> describeImportImageTasksAsync(final DescribeImportImageTasksRequest describeImportImageTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
-            public DescribeImportImageTasksResult call() throws Exception {
-                return describeImportImageTasks(describeImportImageTasksRequest);
-        }
-    });
+        return describeImportImageTasksAsync(describeImportImageTasksRequest, null);
     }
 
     /**
@@ -4674,23 +4074,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImportImageTasksResult> describeImportImageTasksAsync(
+    public ListenableFuture<DescribeImportImageTasksResult> describeImportImageTasksAsync(
             final DescribeImportImageTasksRequest describeImportImageTasksRequest,
             final AsyncHandler<DescribeImportImageTasksRequest, DescribeImportImageTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportImageTasksResult>() {
-            public DescribeImportImageTasksResult call() throws Exception {
-              DescribeImportImageTasksResult result;
-                try {
-                result = describeImportImageTasks(describeImportImageTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImportImageTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImportImageTasksRequest,
+                new DescribeImportImageTasksRequestMarshaller(),
+                new DescribeImportImageTasksResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -4714,13 +4105,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
+    public ListenableFuture<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-                return describeInternetGateways(describeInternetGatewaysRequest);
-        }
-    });
+        return describeInternetGatewaysAsync(describeInternetGatewaysRequest, null);
     }
 
     /**
@@ -4748,23 +4135,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(
+    public ListenableFuture<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(
             final DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
             final AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-              DescribeInternetGatewaysResult result;
-                try {
-                result = describeInternetGateways(describeInternetGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInternetGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInternetGatewaysRequest,
+                new DescribeInternetGatewaysRequestMarshaller(),
+                new DescribeInternetGatewaysResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -4793,13 +4171,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeHostsResult> describeHostsAsync(final DescribeHostsRequest describeHostsRequest) 
+    public ListenableFuture<DescribeHostsResult> describeHostsAsync(final DescribeHostsRequest describeHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
-            public DescribeHostsResult call() throws Exception {
-                return describeHosts(describeHostsRequest);
-        }
-    });
+        return describeHostsAsync(describeHostsRequest, null);
     }
 
     /**
@@ -4832,23 +4206,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeHostsResult> describeHostsAsync(
+    public ListenableFuture<DescribeHostsResult> describeHostsAsync(
             final DescribeHostsRequest describeHostsRequest,
             final AsyncHandler<DescribeHostsRequest, DescribeHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeHostsResult>() {
-            public DescribeHostsResult call() throws Exception {
-              DescribeHostsResult result;
-                try {
-                result = describeHosts(describeHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeHostsRequest,
+                new DescribeHostsRequestMarshaller(),
+                new DescribeHostsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -4876,13 +4241,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
+    public ListenableFuture<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-                return describeSubnets(describeSubnetsRequest);
-        }
-    });
+        return describeSubnetsAsync(describeSubnetsRequest, null);
     }
 
     /**
@@ -4914,23 +4275,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSubnetsResult> describeSubnetsAsync(
+    public ListenableFuture<DescribeSubnetsResult> describeSubnetsAsync(
             final DescribeSubnetsRequest describeSubnetsRequest,
             final AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-              DescribeSubnetsResult result;
-                try {
-                result = describeSubnets(describeSubnetsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSubnetsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSubnetsRequest,
+                new DescribeSubnetsRequestMarshaller(),
+                new DescribeSubnetsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -4972,13 +4324,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
+    public ListenableFuture<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-                return getPasswordData(getPasswordDataRequest);
-        }
-    });
+        return getPasswordDataAsync(getPasswordDataRequest, null);
     }
 
     /**
@@ -5024,23 +4372,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetPasswordDataResult> getPasswordDataAsync(
+    public ListenableFuture<GetPasswordDataResult> getPasswordDataAsync(
             final GetPasswordDataRequest getPasswordDataRequest,
             final AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-              GetPasswordDataResult result;
-                try {
-                result = getPasswordData(getPasswordDataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getPasswordDataRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getPasswordDataRequest,
+                new GetPasswordDataRequestMarshaller(),
+                new GetPasswordDataResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -5072,14 +4411,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
+    public ListenableFuture<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelConversionTask(cancelConversionTaskRequest);
-                return null;
-        }
-    });
+        return cancelConversionTaskAsync(cancelConversionTaskRequest, null);
     }
 
     /**
@@ -5115,22 +4449,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> cancelConversionTaskAsync(
+    public ListenableFuture<Void> cancelConversionTaskAsync(
             final CancelConversionTaskRequest cancelConversionTaskRequest,
             final AsyncHandler<CancelConversionTaskRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                cancelConversionTask(cancelConversionTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelConversionTaskRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(cancelConversionTaskRequest,
+                new CancelConversionTaskRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -5155,14 +4481,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
+    public ListenableFuture<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-                return null;
-        }
-    });
+        return deleteCustomerGatewayAsync(deleteCustomerGatewayRequest, null);
     }
 
     /**
@@ -5191,22 +4512,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteCustomerGatewayAsync(
+    public ListenableFuture<Void> deleteCustomerGatewayAsync(
             final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
             final AsyncHandler<DeleteCustomerGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteCustomerGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteCustomerGatewayRequest,
+                new DeleteCustomerGatewayRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -5254,14 +4567,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
+    public ListenableFuture<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return authorizeSecurityGroupIngressAsync(authorizeSecurityGroupIngressRequest, null);
     }
 
     /**
@@ -5313,22 +4621,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> authorizeSecurityGroupIngressAsync(
+    public ListenableFuture<Void> authorizeSecurityGroupIngressAsync(
             final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
             final AsyncHandler<AuthorizeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(authorizeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(authorizeSecurityGroupIngressRequest,
+                new AuthorizeSecurityGroupIngressRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -5359,14 +4659,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
+    public ListenableFuture<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceRoute(replaceRouteRequest);
-                return null;
-        }
-    });
+        return replaceRouteAsync(replaceRouteRequest, null);
     }
 
     /**
@@ -5401,22 +4696,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> replaceRouteAsync(
+    public ListenableFuture<Void> replaceRouteAsync(
             final ReplaceRouteRequest replaceRouteRequest,
             final AsyncHandler<ReplaceRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                replaceRoute(replaceRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(replaceRouteRequest,
+                new ReplaceRouteRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -5453,13 +4740,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest) 
+    public ListenableFuture<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
-            public PurchaseScheduledInstancesResult call() throws Exception {
-                return purchaseScheduledInstances(purchaseScheduledInstancesRequest);
-        }
-    });
+        return purchaseScheduledInstancesAsync(purchaseScheduledInstancesRequest, null);
     }
 
     /**
@@ -5500,23 +4783,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(
+    public ListenableFuture<PurchaseScheduledInstancesResult> purchaseScheduledInstancesAsync(
             final PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest,
             final AsyncHandler<PurchaseScheduledInstancesRequest, PurchaseScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseScheduledInstancesResult>() {
-            public PurchaseScheduledInstancesResult call() throws Exception {
-              PurchaseScheduledInstancesResult result;
-                try {
-                result = purchaseScheduledInstances(purchaseScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(purchaseScheduledInstancesRequest,
+                new PurchaseScheduledInstancesRequestMarshaller(),
+                new PurchaseScheduledInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -5550,13 +4824,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
+    public ListenableFuture<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-                return describeRouteTables(describeRouteTablesRequest);
-        }
-    });
+        return describeRouteTablesAsync(describeRouteTablesRequest, null);
     }
 
     /**
@@ -5594,23 +4864,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRouteTablesResult> describeRouteTablesAsync(
+    public ListenableFuture<DescribeRouteTablesResult> describeRouteTablesAsync(
             final DescribeRouteTablesRequest describeRouteTablesRequest,
             final AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-              DescribeRouteTablesResult result;
-                try {
-                result = describeRouteTables(describeRouteTablesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRouteTablesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeRouteTablesRequest,
+                new DescribeRouteTablesRequestMarshaller(),
+                new DescribeRouteTablesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -5646,14 +4907,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
+    public ListenableFuture<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-                return null;
-        }
-    });
+        return modifyVolumeAttributeAsync(modifyVolumeAttributeRequest, null);
     }
 
     /**
@@ -5693,22 +4949,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyVolumeAttributeAsync(
+    public ListenableFuture<Void> modifyVolumeAttributeAsync(
             final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest,
             final AsyncHandler<ModifyVolumeAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVolumeAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyVolumeAttributeRequest,
+                new ModifyVolumeAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -5737,13 +4985,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
+    public ListenableFuture<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-                return createNetworkInterface(createNetworkInterfaceRequest);
-        }
-    });
+        return createNetworkInterfaceAsync(createNetworkInterfaceRequest, null);
     }
 
     /**
@@ -5776,23 +5020,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(
+    public ListenableFuture<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(
             final CreateNetworkInterfaceRequest createNetworkInterfaceRequest,
             final AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-              CreateNetworkInterfaceResult result;
-                try {
-                result = createNetworkInterface(createNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createNetworkInterfaceRequest,
+                new CreateNetworkInterfaceRequestMarshaller(),
+                new CreateNetworkInterfaceResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -5839,13 +5074,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
+    public ListenableFuture<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-                return associateAddress(associateAddressRequest);
-        }
-    });
+        return associateAddressAsync(associateAddressRequest, null);
     }
 
     /**
@@ -5896,23 +5127,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateAddressResult> associateAddressAsync(
+    public ListenableFuture<AssociateAddressResult> associateAddressAsync(
             final AssociateAddressRequest associateAddressRequest,
             final AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-              AssociateAddressResult result;
-                try {
-                result = associateAddress(associateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateAddressRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(associateAddressRequest,
+                new AssociateAddressRequestMarshaller(),
+                new AssociateAddressResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -5968,13 +5190,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
+    public ListenableFuture<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-                return describeInstanceStatus(describeInstanceStatusRequest);
-        }
-    });
+        return describeInstanceStatusAsync(describeInstanceStatusRequest, null);
     }
 
     /**
@@ -6034,23 +5252,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(
+    public ListenableFuture<DescribeInstanceStatusResult> describeInstanceStatusAsync(
             final DescribeInstanceStatusRequest describeInstanceStatusRequest,
             final AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-              DescribeInstanceStatusResult result;
-                try {
-                result = describeInstanceStatus(describeInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeInstanceStatusRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeInstanceStatusRequest,
+                new DescribeInstanceStatusRequestMarshaller(),
+                new DescribeInstanceStatusResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -6081,13 +5290,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcEndpointResult> createVpcEndpointAsync(final CreateVpcEndpointRequest createVpcEndpointRequest) 
+    public ListenableFuture<CreateVpcEndpointResult> createVpcEndpointAsync(final CreateVpcEndpointRequest createVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
-            public CreateVpcEndpointResult call() throws Exception {
-                return createVpcEndpoint(createVpcEndpointRequest);
-        }
-    });
+        return createVpcEndpointAsync(createVpcEndpointRequest, null);
     }
 
     /**
@@ -6122,23 +5327,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcEndpointResult> createVpcEndpointAsync(
+    public ListenableFuture<CreateVpcEndpointResult> createVpcEndpointAsync(
             final CreateVpcEndpointRequest createVpcEndpointRequest,
             final AsyncHandler<CreateVpcEndpointRequest, CreateVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcEndpointResult>() {
-            public CreateVpcEndpointResult call() throws Exception {
-              CreateVpcEndpointResult result;
-                try {
-                result = createVpcEndpoint(createVpcEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcEndpointRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpcEndpointRequest,
+                new CreateVpcEndpointRequestMarshaller(),
+                new CreateVpcEndpointResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -6161,13 +5357,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeExportTasksResult> describeExportTasksAsync(final DescribeExportTasksRequest describeExportTasksRequest) 
+    public ListenableFuture<DescribeExportTasksResult> describeExportTasksAsync(final DescribeExportTasksRequest describeExportTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
-            public DescribeExportTasksResult call() throws Exception {
-                return describeExportTasks(describeExportTasksRequest);
-        }
-    });
+        return describeExportTasksAsync(describeExportTasksRequest, null);
     }
 
     /**
@@ -6194,23 +5386,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeExportTasksResult> describeExportTasksAsync(
+    public ListenableFuture<DescribeExportTasksResult> describeExportTasksAsync(
             final DescribeExportTasksRequest describeExportTasksRequest,
             final AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeExportTasksResult>() {
-            public DescribeExportTasksResult call() throws Exception {
-              DescribeExportTasksResult result;
-                try {
-                result = describeExportTasks(describeExportTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeExportTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeExportTasksRequest,
+                new DescribeExportTasksRequestMarshaller(),
+                new DescribeExportTasksResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -6258,13 +5441,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
+    public ListenableFuture<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-                return startInstances(startInstancesRequest);
-        }
-    });
+        return startInstancesAsync(startInstancesRequest, null);
     }
 
     /**
@@ -6316,23 +5495,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<StartInstancesResult> startInstancesAsync(
+    public ListenableFuture<StartInstancesResult> startInstancesAsync(
             final StartInstancesRequest startInstancesRequest,
             final AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-              StartInstancesResult result;
-                try {
-                result = startInstances(startInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(startInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(startInstancesRequest,
+                new StartInstancesRequestMarshaller(),
+                new StartInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -6360,13 +5530,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
+    public ListenableFuture<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-        }
-    });
+        return describeTagsAsync(describeTagsRequest, null);
     }
 
     /**
@@ -6398,23 +5564,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeTagsResult> describeTagsAsync(
+    public ListenableFuture<DescribeTagsResult> describeTagsAsync(
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-              DescribeTagsResult result;
-                try {
-                result = describeTags(describeTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeTagsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(),
+                new DescribeTagsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -6442,13 +5599,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
+    public ListenableFuture<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-                return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-        }
-    });
+        return replaceNetworkAclAssociationAsync(replaceNetworkAclAssociationRequest, null);
     }
 
     /**
@@ -6480,23 +5633,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(
+    public ListenableFuture<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(
             final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
             final AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-              ReplaceNetworkAclAssociationResult result;
-                try {
-                result = replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclAssociationRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(replaceNetworkAclAssociationRequest,
+                new ReplaceNetworkAclAssociationRequestMarshaller(),
+                new ReplaceNetworkAclAssociationResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -6553,13 +5697,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
+    public ListenableFuture<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-                return createSnapshot(createSnapshotRequest);
-        }
-    });
+        return createSnapshotAsync(createSnapshotRequest, null);
     }
 
     /**
@@ -6620,23 +5760,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSnapshotResult> createSnapshotAsync(
+    public ListenableFuture<CreateSnapshotResult> createSnapshotAsync(
             final CreateSnapshotRequest createSnapshotRequest,
             final AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-              CreateSnapshotResult result;
-                try {
-                result = createSnapshot(createSnapshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSnapshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSnapshotRequest,
+                new CreateSnapshotRequestMarshaller(),
+                new CreateSnapshotResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -6660,13 +5791,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
+    public ListenableFuture<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-                return attachNetworkInterface(attachNetworkInterfaceRequest);
-        }
-    });
+        return attachNetworkInterfaceAsync(attachNetworkInterfaceRequest, null);
     }
 
     /**
@@ -6694,23 +5821,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(
+    public ListenableFuture<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(
             final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest,
             final AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-              AttachNetworkInterfaceResult result;
-                try {
-                result = attachNetworkInterface(attachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachNetworkInterfaceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachNetworkInterfaceRequest,
+                new AttachNetworkInterfaceRequestMarshaller(),
+                new AttachNetworkInterfaceResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -6762,13 +5880,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) 
+    public ListenableFuture<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
-            public DescribeReservedInstancesListingsResult call() throws Exception {
-                return describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-        }
-    });
+        return describeReservedInstancesListingsAsync(describeReservedInstancesListingsRequest, null);
     }
 
     /**
@@ -6824,23 +5938,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(
+    public ListenableFuture<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsAsync(
             final DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest,
             final AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesListingsResult>() {
-            public DescribeReservedInstancesListingsResult call() throws Exception {
-              DescribeReservedInstancesListingsResult result;
-                try {
-                result = describeReservedInstancesListings(describeReservedInstancesListingsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesListingsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesListingsRequest,
+                new DescribeReservedInstancesListingsRequestMarshaller(),
+                new DescribeReservedInstancesListingsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -6870,14 +5975,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
+    public ListenableFuture<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-        }
-    });
+        return deleteTagsAsync(deleteTagsRequest, null);
     }
 
     /**
@@ -6911,22 +6011,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteTagsAsync(
+    public ListenableFuture<Void> deleteTagsAsync(
             final DeleteTagsRequest deleteTagsRequest,
             final AsyncHandler<DeleteTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteTags(deleteTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteTagsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteTagsRequest,
+                new DeleteTagsRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -6952,13 +6044,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
+    public ListenableFuture<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-                return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-        }
-    });
+        return describeNetworkInterfaceAttributeAsync(describeNetworkInterfaceAttributeRequest, null);
     }
 
     /**
@@ -6988,23 +6076,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(
+    public ListenableFuture<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(
             final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest,
             final AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-              DescribeNetworkInterfaceAttributeResult result;
-                try {
-                result = describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfaceAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNetworkInterfaceAttributeRequest,
+                new DescribeNetworkInterfaceAttributeRequestMarshaller(),
+                new DescribeNetworkInterfaceAttributeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -7030,14 +6109,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
+    public ListenableFuture<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetImageAttribute(resetImageAttributeRequest);
-                return null;
-        }
-    });
+        return resetImageAttributeAsync(resetImageAttributeRequest, null);
     }
 
     /**
@@ -7067,22 +6141,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetImageAttributeAsync(
+    public ListenableFuture<Void> resetImageAttributeAsync(
             final ResetImageAttributeRequest resetImageAttributeRequest,
             final AsyncHandler<ResetImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetImageAttribute(resetImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetImageAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetImageAttributeRequest,
+                new ResetImageAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -7107,13 +6173,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
+    public ListenableFuture<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-                return describeImageAttribute(describeImageAttributeRequest);
-        }
-    });
+        return describeImageAttributeAsync(describeImageAttributeRequest, null);
     }
 
     /**
@@ -7142,23 +6204,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImageAttributeResult> describeImageAttributeAsync(
+    public ListenableFuture<DescribeImageAttributeResult> describeImageAttributeAsync(
             final DescribeImageAttributeRequest describeImageAttributeRequest,
             final AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-              DescribeImageAttributeResult result;
-                try {
-                result = describeImageAttribute(describeImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImageAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImageAttributeRequest,
+                new DescribeImageAttributeRequestMarshaller(),
+                new DescribeImageAttributeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -7185,13 +6238,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
+    public ListenableFuture<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-                return describePlacementGroups(describePlacementGroupsRequest);
-        }
-    });
+        return describePlacementGroupsAsync(describePlacementGroupsRequest, null);
     }
 
     /**
@@ -7222,23 +6271,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(
+    public ListenableFuture<DescribePlacementGroupsResult> describePlacementGroupsAsync(
             final DescribePlacementGroupsRequest describePlacementGroupsRequest,
             final AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-              DescribePlacementGroupsResult result;
-                try {
-                result = describePlacementGroups(describePlacementGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePlacementGroupsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describePlacementGroupsRequest,
+                new DescribePlacementGroupsRequestMarshaller(),
+                new DescribePlacementGroupsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -7275,14 +6315,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
+    public ListenableFuture<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return modifySnapshotAttributeAsync(modifySnapshotAttributeRequest, null);
     }
 
     /**
@@ -7323,22 +6358,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySnapshotAttributeAsync(
+    public ListenableFuture<Void> modifySnapshotAttributeAsync(
             final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
             final AsyncHandler<ModifySnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifySnapshotAttributeRequest,
+                new ModifySnapshotAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -7391,13 +6418,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
+    public ListenableFuture<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-                return createSecurityGroup(createSecurityGroupRequest);
-        }
-    });
+        return createSecurityGroupAsync(createSecurityGroupRequest, null);
     }
 
     /**
@@ -7454,23 +6477,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSecurityGroupResult> createSecurityGroupAsync(
+    public ListenableFuture<CreateSecurityGroupResult> createSecurityGroupAsync(
             final CreateSecurityGroupRequest createSecurityGroupRequest,
             final AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-              CreateSecurityGroupResult result;
-                try {
-                result = createSecurityGroup(createSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSecurityGroupRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSecurityGroupRequest,
+                new CreateSecurityGroupRequestMarshaller(),
+                new CreateSecurityGroupResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -7520,13 +6534,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) 
+    public ListenableFuture<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(final CreateReservedInstancesListingRequest createReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
-            public CreateReservedInstancesListingResult call() throws Exception {
-                return createReservedInstancesListing(createReservedInstancesListingRequest);
-        }
-    });
+        return createReservedInstancesListingAsync(createReservedInstancesListingRequest, null);
     }
 
     /**
@@ -7580,23 +6590,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(
+    public ListenableFuture<CreateReservedInstancesListingResult> createReservedInstancesListingAsync(
             final CreateReservedInstancesListingRequest createReservedInstancesListingRequest,
             final AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReservedInstancesListingResult>() {
-            public CreateReservedInstancesListingResult call() throws Exception {
-              CreateReservedInstancesListingResult result;
-                try {
-                result = createReservedInstancesListing(createReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createReservedInstancesListingRequest,
+                new CreateReservedInstancesListingRequestMarshaller(),
+                new CreateReservedInstancesListingResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -7621,14 +6622,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
+    public ListenableFuture<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return deleteNetworkInterfaceAsync(deleteNetworkInterfaceRequest, null);
     }
 
     /**
@@ -7657,22 +6653,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkInterfaceAsync(
+    public ListenableFuture<Void> deleteNetworkInterfaceAsync(
             final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest,
             final AsyncHandler<DeleteNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNetworkInterfaceRequest,
+                new DeleteNetworkInterfaceRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -7707,13 +6695,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
+    public ListenableFuture<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-                return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-        }
-    });
+        return replaceRouteTableAssociationAsync(replaceRouteTableAssociationRequest, null);
     }
 
     /**
@@ -7752,23 +6736,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(
+    public ListenableFuture<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(
             final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
             final AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-              ReplaceRouteTableAssociationResult result;
-                try {
-                result = replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceRouteTableAssociationRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(replaceRouteTableAssociationRequest,
+                new ReplaceRouteTableAssociationRequestMarshaller(),
+                new ReplaceRouteTableAssociationResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -7811,14 +6786,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyIdFormatAsync(final ModifyIdFormatRequest modifyIdFormatRequest) 
+    public ListenableFuture<Void> modifyIdFormatAsync(final ModifyIdFormatRequest modifyIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyIdFormat(modifyIdFormatRequest);
-                return null;
-        }
-    });
+        return modifyIdFormatAsync(modifyIdFormatRequest, null);
     }
 
     /**
@@ -7865,22 +6835,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyIdFormatAsync(
+    public ListenableFuture<Void> modifyIdFormatAsync(
             final ModifyIdFormatRequest modifyIdFormatRequest,
             final AsyncHandler<ModifyIdFormatRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyIdFormat(modifyIdFormatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyIdFormatRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyIdFormatRequest,
+                new ModifyIdFormatRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -7906,14 +6868,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
+    public ListenableFuture<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachInternetGateway(detachInternetGatewayRequest);
-                return null;
-        }
-    });
+        return detachInternetGatewayAsync(detachInternetGatewayRequest, null);
     }
 
     /**
@@ -7943,22 +6900,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachInternetGatewayAsync(
+    public ListenableFuture<Void> detachInternetGatewayAsync(
             final DetachInternetGatewayRequest detachInternetGatewayRequest,
             final AsyncHandler<DetachInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachInternetGateway(detachInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(detachInternetGatewayRequest,
+                new DetachInternetGatewayRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -7988,13 +6937,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
+    public ListenableFuture<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-                return describeVolumeAttribute(describeVolumeAttributeRequest);
-        }
-    });
+        return describeVolumeAttributeAsync(describeVolumeAttributeRequest, null);
     }
 
     /**
@@ -8028,23 +6973,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(
+    public ListenableFuture<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(
             final DescribeVolumeAttributeRequest describeVolumeAttributeRequest,
             final AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-              DescribeVolumeAttributeResult result;
-                try {
-                result = describeVolumeAttribute(describeVolumeAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVolumeAttributeRequest,
+                new DescribeVolumeAttributeRequestMarshaller(),
+                new DescribeVolumeAttributeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -8068,13 +7004,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest) 
+    public ListenableFuture<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
-            public DescribeSpotFleetRequestsResult call() throws Exception {
-                return describeSpotFleetRequests(describeSpotFleetRequestsRequest);
-        }
-    });
+        return describeSpotFleetRequestsAsync(describeSpotFleetRequestsRequest, null);
     }
 
     /**
@@ -8102,23 +7034,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(
+    public ListenableFuture<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsAsync(
             final DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest,
             final AsyncHandler<DescribeSpotFleetRequestsRequest, DescribeSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotFleetRequestsResult>() {
-            public DescribeSpotFleetRequestsResult call() throws Exception {
-              DescribeSpotFleetRequestsResult result;
-                try {
-                result = describeSpotFleetRequests(describeSpotFleetRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotFleetRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotFleetRequestsRequest,
+                new DescribeSpotFleetRequestsRequestMarshaller(),
+                new DescribeSpotFleetRequestsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -8144,14 +7067,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
+    public ListenableFuture<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return modifyNetworkInterfaceAttributeAsync(modifyNetworkInterfaceAttributeRequest, null);
     }
 
     /**
@@ -8181,22 +7099,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyNetworkInterfaceAttributeAsync(
+    public ListenableFuture<Void> modifyNetworkInterfaceAttributeAsync(
             final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest,
             final AsyncHandler<ModifyNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyNetworkInterfaceAttributeRequest,
+                new ModifyNetworkInterfaceAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -8221,14 +7131,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> unassignPrivateIpAddressesAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) 
+    public ListenableFuture<Void> unassignPrivateIpAddressesAsync(final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return unassignPrivateIpAddressesAsync(unassignPrivateIpAddressesRequest, null);
     }
 
     /**
@@ -8257,22 +7162,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> unassignPrivateIpAddressesAsync(
+    public ListenableFuture<Void> unassignPrivateIpAddressesAsync(
             final UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest,
             final AsyncHandler<UnassignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                unassignPrivateIpAddresses(unassignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unassignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(unassignPrivateIpAddressesRequest,
+                new UnassignPrivateIpAddressesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -8299,14 +7196,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
+    public ListenableFuture<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterImage(deregisterImageRequest);
-                return null;
-        }
-    });
+        return deregisterImageAsync(deregisterImageRequest, null);
     }
 
     /**
@@ -8337,22 +7229,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deregisterImageAsync(
+    public ListenableFuture<Void> deregisterImageAsync(
             final DeregisterImageRequest deregisterImageRequest,
             final AsyncHandler<DeregisterImageRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deregisterImage(deregisterImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deregisterImageRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deregisterImageRequest,
+                new DeregisterImageRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -8383,14 +7267,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
+    public ListenableFuture<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return modifyInstanceAttributeAsync(modifyInstanceAttributeRequest, null);
     }
 
     /**
@@ -8425,22 +7304,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyInstanceAttributeAsync(
+    public ListenableFuture<Void> modifyInstanceAttributeAsync(
             final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
             final AsyncHandler<ModifyInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyInstanceAttributeRequest,
+                new ModifyInstanceAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -8471,14 +7342,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
+    public ListenableFuture<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createPlacementGroup(createPlacementGroupRequest);
-                return null;
-        }
-    });
+        return createPlacementGroupAsync(createPlacementGroupRequest, null);
     }
 
     /**
@@ -8513,22 +7379,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createPlacementGroupAsync(
+    public ListenableFuture<Void> createPlacementGroupAsync(
             final CreatePlacementGroupRequest createPlacementGroupRequest,
             final AsyncHandler<CreatePlacementGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createPlacementGroup(createPlacementGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createPlacementGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createPlacementGroupRequest,
+                new CreatePlacementGroupRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -8556,13 +7414,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
+    public ListenableFuture<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-                return describeNetworkAcls(describeNetworkAclsRequest);
-        }
-    });
+        return describeNetworkAclsAsync(describeNetworkAclsRequest, null);
     }
 
     /**
@@ -8594,23 +7448,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(
+    public ListenableFuture<DescribeNetworkAclsResult> describeNetworkAclsAsync(
             final DescribeNetworkAclsRequest describeNetworkAclsRequest,
             final AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-              DescribeNetworkAclsResult result;
-                try {
-                result = describeNetworkAcls(describeNetworkAclsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkAclsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNetworkAclsRequest,
+                new DescribeNetworkAclsRequestMarshaller(),
+                new DescribeNetworkAclsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -8656,13 +7501,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
+    public ListenableFuture<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-                return getConsoleOutput(getConsoleOutputRequest);
-        }
-    });
+        return getConsoleOutputAsync(getConsoleOutputRequest, null);
     }
 
     /**
@@ -8712,23 +7553,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleOutputResult> getConsoleOutputAsync(
+    public ListenableFuture<GetConsoleOutputResult> getConsoleOutputAsync(
             final GetConsoleOutputRequest getConsoleOutputRequest,
             final AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-              GetConsoleOutputResult result;
-                try {
-                result = getConsoleOutput(getConsoleOutputRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getConsoleOutputRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getConsoleOutputRequest,
+                new GetConsoleOutputRequestMarshaller(),
+                new GetConsoleOutputResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -8752,14 +7584,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
+    public ListenableFuture<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-                return null;
-        }
-    });
+        return detachNetworkInterfaceAsync(detachNetworkInterfaceRequest, null);
     }
 
     /**
@@ -8787,22 +7614,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> detachNetworkInterfaceAsync(
+    public ListenableFuture<Void> detachNetworkInterfaceAsync(
             final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest,
             final AsyncHandler<DetachNetworkInterfaceRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachNetworkInterfaceRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(detachNetworkInterfaceRequest,
+                new DetachNetworkInterfaceRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -8840,13 +7659,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
+    public ListenableFuture<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-                return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-        }
-    });
+        return describeSpotInstanceRequestsAsync(describeSpotInstanceRequestsRequest, null);
     }
 
     /**
@@ -8888,23 +7703,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(
+    public ListenableFuture<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(
             final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
             final AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-              DescribeSpotInstanceRequestsResult result;
-                try {
-                result = describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotInstanceRequestsRequest,
+                new DescribeSpotInstanceRequestsRequestMarshaller(),
+                new DescribeSpotInstanceRequestsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -8928,13 +7734,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcAttributeResult> describeVpcAttributeAsync(final DescribeVpcAttributeRequest describeVpcAttributeRequest) 
+    public ListenableFuture<DescribeVpcAttributeResult> describeVpcAttributeAsync(final DescribeVpcAttributeRequest describeVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
-            public DescribeVpcAttributeResult call() throws Exception {
-                return describeVpcAttribute(describeVpcAttributeRequest);
-        }
-    });
+        return describeVpcAttributeAsync(describeVpcAttributeRequest, null);
     }
 
     /**
@@ -8962,23 +7764,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcAttributeResult> describeVpcAttributeAsync(
+    public ListenableFuture<DescribeVpcAttributeResult> describeVpcAttributeAsync(
             final DescribeVpcAttributeRequest describeVpcAttributeRequest,
             final AsyncHandler<DescribeVpcAttributeRequest, DescribeVpcAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcAttributeResult>() {
-            public DescribeVpcAttributeResult call() throws Exception {
-              DescribeVpcAttributeResult result;
-                try {
-                result = describeVpcAttribute(describeVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcAttributeRequest,
+                new DescribeVpcAttributeRequestMarshaller(),
+                new DescribeVpcAttributeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -9011,13 +7804,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
+    public ListenableFuture<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-                return importKeyPair(importKeyPairRequest);
-        }
-    });
+        return importKeyPairAsync(importKeyPairRequest, null);
     }
 
     /**
@@ -9054,23 +7843,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportKeyPairResult> importKeyPairAsync(
+    public ListenableFuture<ImportKeyPairResult> importKeyPairAsync(
             final ImportKeyPairRequest importKeyPairRequest,
             final AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-              ImportKeyPairResult result;
-                try {
-                result = importKeyPair(importKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importKeyPairRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importKeyPairRequest,
+                new ImportKeyPairRequestMarshaller(),
+                new ImportKeyPairResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -9099,13 +7879,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNatGatewayResult> createNatGatewayAsync(final CreateNatGatewayRequest createNatGatewayRequest) 
+    public ListenableFuture<CreateNatGatewayResult> createNatGatewayAsync(final CreateNatGatewayRequest createNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
-            public CreateNatGatewayResult call() throws Exception {
-                return createNatGateway(createNatGatewayRequest);
-        }
-    });
+        return createNatGatewayAsync(createNatGatewayRequest, null);
     }
 
     /**
@@ -9138,23 +7914,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateNatGatewayResult> createNatGatewayAsync(
+    public ListenableFuture<CreateNatGatewayResult> createNatGatewayAsync(
             final CreateNatGatewayRequest createNatGatewayRequest,
             final AsyncHandler<CreateNatGatewayRequest, CreateNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNatGatewayResult>() {
-            public CreateNatGatewayResult call() throws Exception {
-              CreateNatGatewayResult result;
-                try {
-                result = createNatGateway(createNatGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNatGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createNatGatewayRequest,
+                new CreateNatGatewayRequestMarshaller(),
+                new CreateNatGatewayResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -9211,13 +7978,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteResult> createRouteAsync(final CreateRouteRequest createRouteRequest) 
+    public ListenableFuture<CreateRouteResult> createRouteAsync(final CreateRouteRequest createRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
-            public CreateRouteResult call() throws Exception {
-                return createRoute(createRouteRequest);
-        }
-    });
+        return createRouteAsync(createRouteRequest, null);
     }
 
     /**
@@ -9278,23 +8041,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteResult> createRouteAsync(
+    public ListenableFuture<CreateRouteResult> createRouteAsync(
             final CreateRouteRequest createRouteRequest,
             final AsyncHandler<CreateRouteRequest, CreateRouteResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteResult>() {
-            public CreateRouteResult call() throws Exception {
-              CreateRouteResult result;
-                try {
-                result = createRoute(createRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createRouteRequest,
+                new CreateRouteRequestMarshaller(),
+                new CreateRouteResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -9323,13 +8077,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
+    public ListenableFuture<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-                return allocateAddress(allocateAddressRequest);
-        }
-    });
+        return allocateAddressAsync(allocateAddressRequest, null);
     }
 
     /**
@@ -9362,23 +8112,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AllocateAddressResult> allocateAddressAsync(
+    public ListenableFuture<AllocateAddressResult> allocateAddressAsync(
             final AllocateAddressRequest allocateAddressRequest,
             final AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-              AllocateAddressResult result;
-                try {
-                result = allocateAddress(allocateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(allocateAddressRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(allocateAddressRequest,
+                new AllocateAddressRequestMarshaller(),
+                new AllocateAddressResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -9402,13 +8143,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(final DescribeScheduledInstancesRequest describeScheduledInstancesRequest) 
+    public ListenableFuture<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(final DescribeScheduledInstancesRequest describeScheduledInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
-            public DescribeScheduledInstancesResult call() throws Exception {
-                return describeScheduledInstances(describeScheduledInstancesRequest);
-        }
-    });
+        return describeScheduledInstancesAsync(describeScheduledInstancesRequest, null);
     }
 
     /**
@@ -9436,23 +8173,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(
+    public ListenableFuture<DescribeScheduledInstancesResult> describeScheduledInstancesAsync(
             final DescribeScheduledInstancesRequest describeScheduledInstancesRequest,
             final AsyncHandler<DescribeScheduledInstancesRequest, DescribeScheduledInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstancesResult>() {
-            public DescribeScheduledInstancesResult call() throws Exception {
-              DescribeScheduledInstancesResult result;
-                try {
-                result = describeScheduledInstances(describeScheduledInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeScheduledInstancesRequest,
+                new DescribeScheduledInstancesRequestMarshaller(),
+                new DescribeScheduledInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -9478,13 +8206,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteNatGatewayResult> deleteNatGatewayAsync(final DeleteNatGatewayRequest deleteNatGatewayRequest) 
+    public ListenableFuture<DeleteNatGatewayResult> deleteNatGatewayAsync(final DeleteNatGatewayRequest deleteNatGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
-            public DeleteNatGatewayResult call() throws Exception {
-                return deleteNatGateway(deleteNatGatewayRequest);
-        }
-    });
+        return deleteNatGatewayAsync(deleteNatGatewayRequest, null);
     }
 
     /**
@@ -9514,23 +8238,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteNatGatewayResult> deleteNatGatewayAsync(
+    public ListenableFuture<DeleteNatGatewayResult> deleteNatGatewayAsync(
             final DeleteNatGatewayRequest deleteNatGatewayRequest,
             final AsyncHandler<DeleteNatGatewayRequest, DeleteNatGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteNatGatewayResult>() {
-            public DeleteNatGatewayResult call() throws Exception {
-              DeleteNatGatewayResult result;
-                try {
-                result = deleteNatGateway(deleteNatGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNatGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteNatGatewayRequest,
+                new DeleteNatGatewayRequestMarshaller(),
+                new DeleteNatGatewayResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -9575,14 +8290,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
+    public ListenableFuture<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return createNetworkAclEntryAsync(createNetworkAclEntryRequest, null);
     }
 
     /**
@@ -9631,22 +8341,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createNetworkAclEntryAsync(
+    public ListenableFuture<Void> createNetworkAclEntryAsync(
             final CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
             final AsyncHandler<CreateNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createNetworkAclEntryRequest,
+                new CreateNetworkAclEntryRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -9682,13 +8384,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
+    public ListenableFuture<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-                return bundleInstance(bundleInstanceRequest);
-        }
-    });
+        return bundleInstanceAsync(bundleInstanceRequest, null);
     }
 
     /**
@@ -9728,23 +8426,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<BundleInstanceResult> bundleInstanceAsync(
+    public ListenableFuture<BundleInstanceResult> bundleInstanceAsync(
             final BundleInstanceRequest bundleInstanceRequest,
             final AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-              BundleInstanceResult result;
-                try {
-                result = bundleInstance(bundleInstanceRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(bundleInstanceRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(bundleInstanceRequest,
+                new BundleInstanceRequestMarshaller(),
+                new BundleInstanceResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -9774,13 +8463,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
+    public ListenableFuture<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-                return describeSecurityGroups(describeSecurityGroupsRequest);
-        }
-    });
+        return describeSecurityGroupsAsync(describeSecurityGroupsRequest, null);
     }
 
     /**
@@ -9814,23 +8499,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(
+    public ListenableFuture<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(
             final DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
             final AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-              DescribeSecurityGroupsResult result;
-                try {
-                result = describeSecurityGroups(describeSecurityGroupsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSecurityGroupsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSecurityGroupsRequest,
+                new DescribeSecurityGroupsRequestMarshaller(),
+                new DescribeSecurityGroupsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -9890,13 +8566,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
+    public ListenableFuture<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-                return stopInstances(stopInstancesRequest);
-        }
-    });
+        return stopInstancesAsync(stopInstancesRequest, null);
     }
 
     /**
@@ -9960,23 +8632,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<StopInstancesResult> stopInstancesAsync(
+    public ListenableFuture<StopInstancesResult> stopInstancesAsync(
             final StopInstancesRequest stopInstancesRequest,
             final AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-              StopInstancesResult result;
-                try {
-                result = stopInstances(stopInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(stopInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(stopInstancesRequest,
+                new StopInstancesRequestMarshaller(),
+                new StopInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -10017,13 +8680,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeIdFormatResult> describeIdFormatAsync(final DescribeIdFormatRequest describeIdFormatRequest) 
+    public ListenableFuture<DescribeIdFormatResult> describeIdFormatAsync(final DescribeIdFormatRequest describeIdFormatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
-            public DescribeIdFormatResult call() throws Exception {
-                return describeIdFormat(describeIdFormatRequest);
-        }
-    });
+        return describeIdFormatAsync(describeIdFormatRequest, null);
     }
 
     /**
@@ -10068,23 +8727,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeIdFormatResult> describeIdFormatAsync(
+    public ListenableFuture<DescribeIdFormatResult> describeIdFormatAsync(
             final DescribeIdFormatRequest describeIdFormatRequest,
             final AsyncHandler<DescribeIdFormatRequest, DescribeIdFormatResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIdFormatResult>() {
-            public DescribeIdFormatResult call() throws Exception {
-              DescribeIdFormatResult result;
-                try {
-                result = describeIdFormat(describeIdFormatRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeIdFormatRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeIdFormatRequest,
+                new DescribeIdFormatRequestMarshaller(),
+                new DescribeIdFormatResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -10114,13 +8764,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
+    public ListenableFuture<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-                return createVpnGateway(createVpnGatewayRequest);
-        }
-    });
+        return createVpnGatewayAsync(createVpnGatewayRequest, null);
     }
 
     /**
@@ -10154,23 +8800,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpnGatewayResult> createVpnGatewayAsync(
+    public ListenableFuture<CreateVpnGatewayResult> createVpnGatewayAsync(
             final CreateVpnGatewayRequest createVpnGatewayRequest,
             final AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-              CreateVpnGatewayResult result;
-                try {
-                result = createVpnGateway(createVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpnGatewayRequest,
+                new CreateVpnGatewayRequestMarshaller(),
+                new CreateVpnGatewayResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -10211,13 +8848,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
+    public ListenableFuture<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-                return detachVolume(detachVolumeRequest);
-        }
-    });
+        return detachVolumeAsync(detachVolumeRequest, null);
     }
 
     /**
@@ -10262,23 +8895,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DetachVolumeResult> detachVolumeAsync(
+    public ListenableFuture<DetachVolumeResult> detachVolumeAsync(
             final DetachVolumeRequest detachVolumeRequest,
             final AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-              DetachVolumeResult result;
-                try {
-                result = detachVolume(detachVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(detachVolumeRequest,
+                new DetachVolumeRequestMarshaller(),
+                new DetachVolumeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -10308,13 +8932,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyHostsResult> modifyHostsAsync(final ModifyHostsRequest modifyHostsRequest) 
+    public ListenableFuture<ModifyHostsResult> modifyHostsAsync(final ModifyHostsRequest modifyHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
-            public ModifyHostsResult call() throws Exception {
-                return modifyHosts(modifyHostsRequest);
-        }
-    });
+        return modifyHostsAsync(modifyHostsRequest, null);
     }
 
     /**
@@ -10348,23 +8968,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyHostsResult> modifyHostsAsync(
+    public ListenableFuture<ModifyHostsResult> modifyHostsAsync(
             final ModifyHostsRequest modifyHostsRequest,
             final AsyncHandler<ModifyHostsRequest, ModifyHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyHostsResult>() {
-            public ModifyHostsResult call() throws Exception {
-              ModifyHostsResult result;
-                try {
-                result = modifyHosts(modifyHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyHostsRequest,
+                new ModifyHostsRequestMarshaller(),
+                new ModifyHostsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -10426,13 +9037,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
+    public ListenableFuture<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-                return registerImage(registerImageRequest);
-        }
-    });
+        return registerImageAsync(registerImageRequest, null);
     }
 
     /**
@@ -10498,23 +9105,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RegisterImageResult> registerImageAsync(
+    public ListenableFuture<RegisterImageResult> registerImageAsync(
             final RegisterImageRequest registerImageRequest,
             final AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-              RegisterImageResult result;
-                try {
-                result = registerImage(registerImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(registerImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(registerImageRequest,
+                new RegisterImageRequestMarshaller(),
+                new RegisterImageResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -10550,14 +9148,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
+    public ListenableFuture<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-                return null;
-        }
-    });
+        return resetInstanceAttributeAsync(resetInstanceAttributeRequest, null);
     }
 
     /**
@@ -10597,22 +9190,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetInstanceAttributeAsync(
+    public ListenableFuture<Void> resetInstanceAttributeAsync(
             final ResetInstanceAttributeRequest resetInstanceAttributeRequest,
             final AsyncHandler<ResetInstanceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetInstanceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetInstanceAttributeRequest,
+                new ResetInstanceAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -10652,13 +9237,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
+    public ListenableFuture<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-                return createKeyPair(createKeyPairRequest);
-        }
-    });
+        return createKeyPairAsync(createKeyPairRequest, null);
     }
 
     /**
@@ -10702,23 +9283,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateKeyPairResult> createKeyPairAsync(
+    public ListenableFuture<CreateKeyPairResult> createKeyPairAsync(
             final CreateKeyPairRequest createKeyPairRequest,
             final AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-              CreateKeyPairResult result;
-                try {
-                result = createKeyPair(createKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createKeyPairRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createKeyPairRequest,
+                new CreateKeyPairRequestMarshaller(),
+                new CreateKeyPairResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -10755,13 +9327,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest) 
+    public ListenableFuture<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
-            public AttachClassicLinkVpcResult call() throws Exception {
-                return attachClassicLinkVpc(attachClassicLinkVpcRequest);
-        }
-    });
+        return attachClassicLinkVpcAsync(attachClassicLinkVpcRequest, null);
     }
 
     /**
@@ -10802,23 +9370,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(
+    public ListenableFuture<AttachClassicLinkVpcResult> attachClassicLinkVpcAsync(
             final AttachClassicLinkVpcRequest attachClassicLinkVpcRequest,
             final AsyncHandler<AttachClassicLinkVpcRequest, AttachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachClassicLinkVpcResult>() {
-            public AttachClassicLinkVpcResult call() throws Exception {
-              AttachClassicLinkVpcResult result;
-                try {
-                result = attachClassicLinkVpc(attachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(attachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(attachClassicLinkVpcRequest,
+                new AttachClassicLinkVpcRequestMarshaller(),
+                new AttachClassicLinkVpcResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -10846,14 +9405,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
+    public ListenableFuture<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyImageAttribute(modifyImageAttributeRequest);
-                return null;
-        }
-    });
+        return modifyImageAttributeAsync(modifyImageAttributeRequest, null);
     }
 
     /**
@@ -10885,22 +9439,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyImageAttributeAsync(
+    public ListenableFuture<Void> modifyImageAttributeAsync(
             final ModifyImageAttributeRequest modifyImageAttributeRequest,
             final AsyncHandler<ModifyImageAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyImageAttribute(modifyImageAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyImageAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyImageAttributeRequest,
+                new ModifyImageAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -10925,13 +9471,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest) 
+    public ListenableFuture<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
-            public DisableVpcClassicLinkResult call() throws Exception {
-                return disableVpcClassicLink(disableVpcClassicLinkRequest);
-        }
-    });
+        return disableVpcClassicLinkAsync(disableVpcClassicLinkRequest, null);
     }
 
     /**
@@ -10960,23 +9502,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(
+    public ListenableFuture<DisableVpcClassicLinkResult> disableVpcClassicLinkAsync(
             final DisableVpcClassicLinkRequest disableVpcClassicLinkRequest,
             final AsyncHandler<DisableVpcClassicLinkRequest, DisableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableVpcClassicLinkResult>() {
-            public DisableVpcClassicLinkResult call() throws Exception {
-              DisableVpcClassicLinkResult result;
-                try {
-                result = disableVpcClassicLink(disableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(disableVpcClassicLinkRequest,
+                new DisableVpcClassicLinkRequestMarshaller(),
+                new DisableVpcClassicLinkResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -11001,14 +9534,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disableVgwRoutePropagationAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) 
+    public ListenableFuture<Void> disableVgwRoutePropagationAsync(final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-                return null;
-        }
-    });
+        return disableVgwRoutePropagationAsync(disableVgwRoutePropagationRequest, null);
     }
 
     /**
@@ -11037,22 +9565,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disableVgwRoutePropagationAsync(
+    public ListenableFuture<Void> disableVgwRoutePropagationAsync(
             final DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest,
             final AsyncHandler<DisableVgwRoutePropagationRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disableVgwRoutePropagation(disableVgwRoutePropagationRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disableVgwRoutePropagationRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disableVgwRoutePropagationRequest,
+                new DisableVgwRoutePropagationRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -11081,14 +9601,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
+    public ListenableFuture<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-                return null;
-        }
-    });
+        return resetSnapshotAttributeAsync(resetSnapshotAttributeRequest, null);
     }
 
     /**
@@ -11121,22 +9636,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetSnapshotAttributeAsync(
+    public ListenableFuture<Void> resetSnapshotAttributeAsync(
             final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
             final AsyncHandler<ResetSnapshotAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetSnapshotAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetSnapshotAttributeRequest,
+                new ResetSnapshotAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -11170,14 +9677,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> assignPrivateIpAddressesAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) 
+    public ListenableFuture<Void> assignPrivateIpAddressesAsync(final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-                return null;
-        }
-    });
+        return assignPrivateIpAddressesAsync(assignPrivateIpAddressesRequest, null);
     }
 
     /**
@@ -11215,22 +9717,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> assignPrivateIpAddressesAsync(
+    public ListenableFuture<Void> assignPrivateIpAddressesAsync(
             final AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest,
             final AsyncHandler<AssignPrivateIpAddressesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                assignPrivateIpAddresses(assignPrivateIpAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(assignPrivateIpAddressesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(assignPrivateIpAddressesRequest,
+                new AssignPrivateIpAddressesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -11262,13 +9756,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest) 
+    public ListenableFuture<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
-            public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
-                return enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return enableVpcClassicLinkDnsSupportAsync(enableVpcClassicLinkDnsSupportRequest, null);
     }
 
     /**
@@ -11304,23 +9794,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(
+    public ListenableFuture<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportAsync(
             final EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<EnableVpcClassicLinkDnsSupportRequest, EnableVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkDnsSupportResult>() {
-            public EnableVpcClassicLinkDnsSupportResult call() throws Exception {
-              EnableVpcClassicLinkDnsSupportResult result;
-                try {
-                result = enableVpcClassicLinkDnsSupport(enableVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkDnsSupportRequest,
+                new EnableVpcClassicLinkDnsSupportRequestMarshaller(),
+                new EnableVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -11345,13 +9826,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyVpcEndpointResult> modifyVpcEndpointAsync(final ModifyVpcEndpointRequest modifyVpcEndpointRequest) 
+    public ListenableFuture<ModifyVpcEndpointResult> modifyVpcEndpointAsync(final ModifyVpcEndpointRequest modifyVpcEndpointRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
-            public ModifyVpcEndpointResult call() throws Exception {
-                return modifyVpcEndpoint(modifyVpcEndpointRequest);
-        }
-    });
+        return modifyVpcEndpointAsync(modifyVpcEndpointRequest, null);
     }
 
     /**
@@ -11380,23 +9857,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyVpcEndpointResult> modifyVpcEndpointAsync(
+    public ListenableFuture<ModifyVpcEndpointResult> modifyVpcEndpointAsync(
             final ModifyVpcEndpointRequest modifyVpcEndpointRequest,
             final AsyncHandler<ModifyVpcEndpointRequest, ModifyVpcEndpointResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcEndpointResult>() {
-            public ModifyVpcEndpointResult call() throws Exception {
-              ModifyVpcEndpointResult result;
-                try {
-                result = modifyVpcEndpoint(modifyVpcEndpointRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcEndpointRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyVpcEndpointRequest,
+                new ModifyVpcEndpointRequestMarshaller(),
+                new ModifyVpcEndpointResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -11420,13 +9888,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
+    public ListenableFuture<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-                return describeNetworkInterfaces(describeNetworkInterfacesRequest);
-        }
-    });
+        return describeNetworkInterfacesAsync(describeNetworkInterfacesRequest, null);
     }
 
     /**
@@ -11454,23 +9918,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(
+    public ListenableFuture<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(
             final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest,
             final AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-              DescribeNetworkInterfacesResult result;
-                try {
-                result = describeNetworkInterfaces(describeNetworkInterfacesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNetworkInterfacesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNetworkInterfacesRequest,
+                new DescribeNetworkInterfacesRequestMarshaller(),
+                new DescribeNetworkInterfacesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -11504,13 +9959,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
+    public ListenableFuture<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-                return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-        }
-    });
+        return cancelSpotInstanceRequestsAsync(cancelSpotInstanceRequestsRequest, null);
     }
 
     /**
@@ -11548,23 +9999,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(
+    public ListenableFuture<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(
             final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
             final AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-              CancelSpotInstanceRequestsResult result;
-                try {
-                result = cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelSpotInstanceRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelSpotInstanceRequestsRequest,
+                new CancelSpotInstanceRequestsRequestMarshaller(),
+                new CancelSpotInstanceRequestsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -11590,13 +10032,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
+    public ListenableFuture<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-                return monitorInstances(monitorInstancesRequest);
-        }
-    });
+        return monitorInstancesAsync(monitorInstancesRequest, null);
     }
 
     /**
@@ -11626,23 +10064,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<MonitorInstancesResult> monitorInstancesAsync(
+    public ListenableFuture<MonitorInstancesResult> monitorInstancesAsync(
             final MonitorInstancesRequest monitorInstancesRequest,
             final AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-              MonitorInstancesResult result;
-                try {
-                result = monitorInstances(monitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(monitorInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(monitorInstancesRequest,
+                new MonitorInstancesRequestMarshaller(),
+                new MonitorInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -11673,13 +10102,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) 
+    public ListenableFuture<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
-            public CancelReservedInstancesListingResult call() throws Exception {
-                return cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-        }
-    });
+        return cancelReservedInstancesListingAsync(cancelReservedInstancesListingRequest, null);
     }
 
     /**
@@ -11714,23 +10139,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(
+    public ListenableFuture<CancelReservedInstancesListingResult> cancelReservedInstancesListingAsync(
             final CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest,
             final AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelReservedInstancesListingResult>() {
-            public CancelReservedInstancesListingResult call() throws Exception {
-              CancelReservedInstancesListingResult result;
-                try {
-                result = cancelReservedInstancesListing(cancelReservedInstancesListingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelReservedInstancesListingRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelReservedInstancesListingRequest,
+                new CancelReservedInstancesListingRequestMarshaller(),
+                new CancelReservedInstancesListingResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -11758,13 +10174,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
+    public ListenableFuture<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-                return describeKeyPairs(describeKeyPairsRequest);
-        }
-    });
+        return describeKeyPairsAsync(describeKeyPairsRequest, null);
     }
 
     /**
@@ -11796,23 +10208,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeKeyPairsResult> describeKeyPairsAsync(
+    public ListenableFuture<DescribeKeyPairsResult> describeKeyPairsAsync(
             final DescribeKeyPairsRequest describeKeyPairsRequest,
             final AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-              DescribeKeyPairsResult result;
-                try {
-                result = describeKeyPairs(describeKeyPairsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeKeyPairsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeKeyPairsRequest,
+                new DescribeKeyPairsRequestMarshaller(),
+                new DescribeKeyPairsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -11871,13 +10274,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAccountAttributesResult> describeAccountAttributesAsync(final DescribeAccountAttributesRequest describeAccountAttributesRequest) 
+    public ListenableFuture<DescribeAccountAttributesResult> describeAccountAttributesAsync(final DescribeAccountAttributesRequest describeAccountAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
-            public DescribeAccountAttributesResult call() throws Exception {
-                return describeAccountAttributes(describeAccountAttributesRequest);
-        }
-    });
+        return describeAccountAttributesAsync(describeAccountAttributesRequest, null);
     }
 
     /**
@@ -11940,23 +10339,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAccountAttributesResult> describeAccountAttributesAsync(
+    public ListenableFuture<DescribeAccountAttributesResult> describeAccountAttributesAsync(
             final DescribeAccountAttributesRequest describeAccountAttributesRequest,
             final AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountAttributesResult>() {
-            public DescribeAccountAttributesResult call() throws Exception {
-              DescribeAccountAttributesResult result;
-                try {
-                result = describeAccountAttributes(describeAccountAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAccountAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAccountAttributesRequest,
+                new DescribeAccountAttributesRequestMarshaller(),
+                new DescribeAccountAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -11985,13 +10375,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
+    public ListenableFuture<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-                return describeVpnConnections(describeVpnConnectionsRequest);
-        }
-    });
+        return describeVpnConnectionsAsync(describeVpnConnectionsRequest, null);
     }
 
     /**
@@ -12024,23 +10410,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(
+    public ListenableFuture<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(
             final DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
             final AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-              DescribeVpnConnectionsResult result;
-                try {
-                result = describeVpnConnections(describeVpnConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnConnectionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpnConnectionsRequest,
+                new DescribeVpnConnectionsRequestMarshaller(),
+                new DescribeVpnConnectionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12069,13 +10446,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
+    public ListenableFuture<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-                return requestSpotInstances(requestSpotInstancesRequest);
-        }
-    });
+        return requestSpotInstancesAsync(requestSpotInstancesRequest, null);
     }
 
     /**
@@ -12108,23 +10481,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(
+    public ListenableFuture<RequestSpotInstancesResult> requestSpotInstancesAsync(
             final RequestSpotInstancesRequest requestSpotInstancesRequest,
             final AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-              RequestSpotInstancesResult result;
-                try {
-                result = requestSpotInstances(requestSpotInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestSpotInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(requestSpotInstancesRequest,
+                new RequestSpotInstancesRequestMarshaller(),
+                new RequestSpotInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12147,13 +10511,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelImportTaskResult> cancelImportTaskAsync(final CancelImportTaskRequest cancelImportTaskRequest) 
+    public ListenableFuture<CancelImportTaskResult> cancelImportTaskAsync(final CancelImportTaskRequest cancelImportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
-            public CancelImportTaskResult call() throws Exception {
-                return cancelImportTask(cancelImportTaskRequest);
-        }
-    });
+        return cancelImportTaskAsync(cancelImportTaskRequest, null);
     }
 
     /**
@@ -12180,23 +10540,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelImportTaskResult> cancelImportTaskAsync(
+    public ListenableFuture<CancelImportTaskResult> cancelImportTaskAsync(
             final CancelImportTaskRequest cancelImportTaskRequest,
             final AsyncHandler<CancelImportTaskRequest, CancelImportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelImportTaskResult>() {
-            public CancelImportTaskResult call() throws Exception {
-              CancelImportTaskResult result;
-                try {
-                result = cancelImportTask(cancelImportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelImportTaskRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelImportTaskRequest,
+                new CancelImportTaskRequestMarshaller(),
+                new CancelImportTaskResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12224,13 +10575,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
+    public ListenableFuture<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-                return describeVpnGateways(describeVpnGatewaysRequest);
-        }
-    });
+        return describeVpnGatewaysAsync(describeVpnGatewaysRequest, null);
     }
 
     /**
@@ -12262,23 +10609,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(
+    public ListenableFuture<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(
             final DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
             final AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-              DescribeVpnGatewaysResult result;
-                try {
-                result = describeVpnGateways(describeVpnGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpnGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpnGatewaysRequest,
+                new DescribeVpnGatewaysRequestMarshaller(),
+                new DescribeVpnGatewaysResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12305,13 +10643,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleScreenshotResult> getConsoleScreenshotAsync(final GetConsoleScreenshotRequest getConsoleScreenshotRequest) 
+    public ListenableFuture<GetConsoleScreenshotResult> getConsoleScreenshotAsync(final GetConsoleScreenshotRequest getConsoleScreenshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleScreenshotResult>() {
-            public GetConsoleScreenshotResult call() throws Exception {
-                return getConsoleScreenshot(getConsoleScreenshotRequest);
-        }
-    });
+        return getConsoleScreenshotAsync(getConsoleScreenshotRequest, null);
     }
 
     /**
@@ -12342,23 +10676,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetConsoleScreenshotResult> getConsoleScreenshotAsync(
+    public ListenableFuture<GetConsoleScreenshotResult> getConsoleScreenshotAsync(
             final GetConsoleScreenshotRequest getConsoleScreenshotRequest,
             final AsyncHandler<GetConsoleScreenshotRequest, GetConsoleScreenshotResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleScreenshotResult>() {
-            public GetConsoleScreenshotResult call() throws Exception {
-              GetConsoleScreenshotResult result;
-                try {
-                result = getConsoleScreenshot(getConsoleScreenshotRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getConsoleScreenshotRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getConsoleScreenshotRequest,
+                new GetConsoleScreenshotRequestMarshaller(),
+                new GetConsoleScreenshotResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12387,13 +10712,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
+    public ListenableFuture<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-                return createRouteTable(createRouteTableRequest);
-        }
-    });
+        return createRouteTableAsync(createRouteTableRequest, null);
     }
 
     /**
@@ -12426,23 +10747,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateRouteTableResult> createRouteTableAsync(
+    public ListenableFuture<CreateRouteTableResult> createRouteTableAsync(
             final CreateRouteTableRequest createRouteTableRequest,
             final AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-              CreateRouteTableResult result;
-                try {
-                result = createRouteTable(createRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createRouteTableRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createRouteTableRequest,
+                new CreateRouteTableRequestMarshaller(),
+                new CreateRouteTableResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12479,13 +10791,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest) 
+    public ListenableFuture<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
-            public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
-                return describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
-        }
-    });
+        return describeScheduledInstanceAvailabilityAsync(describeScheduledInstanceAvailabilityRequest, null);
     }
 
     /**
@@ -12526,23 +10834,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(
+    public ListenableFuture<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityAsync(
             final DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest,
             final AsyncHandler<DescribeScheduledInstanceAvailabilityRequest, DescribeScheduledInstanceAvailabilityResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledInstanceAvailabilityResult>() {
-            public DescribeScheduledInstanceAvailabilityResult call() throws Exception {
-              DescribeScheduledInstanceAvailabilityResult result;
-                try {
-                result = describeScheduledInstanceAvailability(describeScheduledInstanceAvailabilityRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeScheduledInstanceAvailabilityRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeScheduledInstanceAvailabilityRequest,
+                new DescribeScheduledInstanceAvailabilityRequestMarshaller(),
+                new DescribeScheduledInstanceAvailabilityResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12574,13 +10873,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest) 
+    public ListenableFuture<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
-            public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
-                return describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
-        }
-    });
+        return describeVpcClassicLinkDnsSupportAsync(describeVpcClassicLinkDnsSupportRequest, null);
     }
 
     /**
@@ -12616,23 +10911,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(
+    public ListenableFuture<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportAsync(
             final DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest,
             final AsyncHandler<DescribeVpcClassicLinkDnsSupportRequest, DescribeVpcClassicLinkDnsSupportResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcClassicLinkDnsSupportResult>() {
-            public DescribeVpcClassicLinkDnsSupportResult call() throws Exception {
-              DescribeVpcClassicLinkDnsSupportResult result;
-                try {
-                result = describeVpcClassicLinkDnsSupport(describeVpcClassicLinkDnsSupportRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcClassicLinkDnsSupportRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcClassicLinkDnsSupportRequest,
+                new DescribeVpcClassicLinkDnsSupportRequestMarshaller(),
+                new DescribeVpcClassicLinkDnsSupportResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12658,13 +10944,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
+    public ListenableFuture<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-                return unmonitorInstances(unmonitorInstancesRequest);
-        }
-    });
+        return unmonitorInstancesAsync(unmonitorInstancesRequest, null);
     }
 
     /**
@@ -12694,23 +10976,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(
+    public ListenableFuture<UnmonitorInstancesResult> unmonitorInstancesAsync(
             final UnmonitorInstancesRequest unmonitorInstancesRequest,
             final AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-              UnmonitorInstancesResult result;
-                try {
-                result = unmonitorInstances(unmonitorInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(unmonitorInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(unmonitorInstancesRequest,
+                new UnmonitorInstancesRequestMarshaller(),
+                new UnmonitorInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12735,14 +11008,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
+    public ListenableFuture<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRouteTable(deleteRouteTableRequest);
-                return null;
-        }
-    });
+        return deleteRouteTableAsync(deleteRouteTableRequest, null);
     }
 
     /**
@@ -12771,22 +11039,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteTableAsync(
+    public ListenableFuture<Void> deleteRouteTableAsync(
             final DeleteRouteTableRequest deleteRouteTableRequest,
             final AsyncHandler<DeleteRouteTableRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteRouteTable(deleteRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteTableRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteRouteTableRequest,
+                new DeleteRouteTableRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -12836,13 +11096,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest) 
+    public ListenableFuture<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
-            public ModifySpotFleetRequestResult call() throws Exception {
-                return modifySpotFleetRequest(modifySpotFleetRequestRequest);
-        }
-    });
+        return modifySpotFleetRequestAsync(modifySpotFleetRequestRequest, null);
     }
 
     /**
@@ -12896,23 +11152,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(
+    public ListenableFuture<ModifySpotFleetRequestResult> modifySpotFleetRequestAsync(
             final ModifySpotFleetRequestRequest modifySpotFleetRequestRequest,
             final AsyncHandler<ModifySpotFleetRequestRequest, ModifySpotFleetRequestResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifySpotFleetRequestResult>() {
-            public ModifySpotFleetRequestResult call() throws Exception {
-              ModifySpotFleetRequestResult result;
-                try {
-                result = modifySpotFleetRequest(modifySpotFleetRequestRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySpotFleetRequestRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifySpotFleetRequestRequest,
+                new ModifySpotFleetRequestRequestMarshaller(),
+                new ModifySpotFleetRequestResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -12949,13 +11196,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest) 
+    public ListenableFuture<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
-            public CreateVpcPeeringConnectionResult call() throws Exception {
-                return createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-        }
-    });
+        return createVpcPeeringConnectionAsync(createVpcPeeringConnectionRequest, null);
     }
 
     /**
@@ -12996,23 +11239,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(
+    public ListenableFuture<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionAsync(
             final CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest,
             final AsyncHandler<CreateVpcPeeringConnectionRequest, CreateVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcPeeringConnectionResult>() {
-            public CreateVpcPeeringConnectionResult call() throws Exception {
-              CreateVpcPeeringConnectionResult result;
-                try {
-                result = createVpcPeeringConnection(createVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpcPeeringConnectionRequest,
+                new CreateVpcPeeringConnectionRequestMarshaller(),
+                new CreateVpcPeeringConnectionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -13040,13 +11274,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
+    public ListenableFuture<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-                return describeDhcpOptions(describeDhcpOptionsRequest);
-        }
-    });
+        return describeDhcpOptionsAsync(describeDhcpOptionsRequest, null);
     }
 
     /**
@@ -13078,23 +11308,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(
+    public ListenableFuture<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(
             final DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
             final AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-              DescribeDhcpOptionsResult result;
-                try {
-                result = describeDhcpOptions(describeDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeDhcpOptionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeDhcpOptionsRequest,
+                new DescribeDhcpOptionsRequestMarshaller(),
+                new DescribeDhcpOptionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -13117,14 +11338,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyVpcAttributeAsync(final ModifyVpcAttributeRequest modifyVpcAttributeRequest) 
+    public ListenableFuture<Void> modifyVpcAttributeAsync(final ModifyVpcAttributeRequest modifyVpcAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVpcAttribute(modifyVpcAttributeRequest);
-                return null;
-        }
-    });
+        return modifyVpcAttributeAsync(modifyVpcAttributeRequest, null);
     }
 
     /**
@@ -13151,22 +11367,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifyVpcAttributeAsync(
+    public ListenableFuture<Void> modifyVpcAttributeAsync(
             final ModifyVpcAttributeRequest modifyVpcAttributeRequest,
             final AsyncHandler<ModifyVpcAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifyVpcAttribute(modifyVpcAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifyVpcAttributeRequest,
+                new ModifyVpcAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -13190,14 +11398,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySubnetAttributeAsync(final ModifySubnetAttributeRequest modifySubnetAttributeRequest) 
+    public ListenableFuture<Void> modifySubnetAttributeAsync(final ModifySubnetAttributeRequest modifySubnetAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySubnetAttribute(modifySubnetAttributeRequest);
-                return null;
-        }
-    });
+        return modifySubnetAttributeAsync(modifySubnetAttributeRequest, null);
     }
 
     /**
@@ -13225,22 +11428,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> modifySubnetAttributeAsync(
+    public ListenableFuture<Void> modifySubnetAttributeAsync(
             final ModifySubnetAttributeRequest modifySubnetAttributeRequest,
             final AsyncHandler<ModifySubnetAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                modifySubnetAttribute(modifySubnetAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifySubnetAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(modifySubnetAttributeRequest,
+                new ModifySubnetAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -13268,13 +11463,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest) 
+    public ListenableFuture<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
-            public AcceptVpcPeeringConnectionResult call() throws Exception {
-                return acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-        }
-    });
+        return acceptVpcPeeringConnectionAsync(acceptVpcPeeringConnectionRequest, null);
     }
 
     /**
@@ -13306,23 +11497,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(
+    public ListenableFuture<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionAsync(
             final AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest,
             final AsyncHandler<AcceptVpcPeeringConnectionRequest, AcceptVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AcceptVpcPeeringConnectionResult>() {
-            public AcceptVpcPeeringConnectionResult call() throws Exception {
-              AcceptVpcPeeringConnectionResult result;
-                try {
-                result = acceptVpcPeeringConnection(acceptVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(acceptVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(acceptVpcPeeringConnectionRequest,
+                new AcceptVpcPeeringConnectionRequestMarshaller(),
+                new AcceptVpcPeeringConnectionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -13352,13 +11534,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CopyImageResult> copyImageAsync(final CopyImageRequest copyImageRequest) 
+    public ListenableFuture<CopyImageResult> copyImageAsync(final CopyImageRequest copyImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
-            public CopyImageResult call() throws Exception {
-                return copyImage(copyImageRequest);
-        }
-    });
+        return copyImageAsync(copyImageRequest, null);
     }
 
     /**
@@ -13392,23 +11570,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CopyImageResult> copyImageAsync(
+    public ListenableFuture<CopyImageResult> copyImageAsync(
             final CopyImageRequest copyImageRequest,
             final AsyncHandler<CopyImageRequest, CopyImageResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CopyImageResult>() {
-            public CopyImageResult call() throws Exception {
-              CopyImageResult result;
-                try {
-                result = copyImage(copyImageRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(copyImageRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(copyImageRequest,
+                new CopyImageRequestMarshaller(),
+                new CopyImageResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -13434,14 +11603,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
+    public ListenableFuture<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return deleteDhcpOptionsAsync(deleteDhcpOptionsRequest, null);
     }
 
     /**
@@ -13471,22 +11635,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteDhcpOptionsAsync(
+    public ListenableFuture<Void> deleteDhcpOptionsAsync(
             final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
             final AsyncHandler<DeleteDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteDhcpOptionsRequest,
+                new DeleteDhcpOptionsRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -13524,13 +11680,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
+    public ListenableFuture<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-                return describeVolumes(describeVolumesRequest);
-        }
-    });
+        return describeVolumesAsync(describeVolumesRequest, null);
     }
 
     /**
@@ -13572,23 +11724,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumesResult> describeVolumesAsync(
+    public ListenableFuture<DescribeVolumesResult> describeVolumesAsync(
             final DescribeVolumesRequest describeVolumesRequest,
             final AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-              DescribeVolumesResult result;
-                try {
-                result = describeVolumes(describeVolumesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVolumesRequest,
+                new DescribeVolumesRequestMarshaller(),
+                new DescribeVolumesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -13612,14 +11755,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
+    public ListenableFuture<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-                return null;
-        }
-    });
+        return deleteNetworkAclAsync(deleteNetworkAclRequest, null);
     }
 
     /**
@@ -13647,22 +11785,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclAsync(
+    public ListenableFuture<Void> deleteNetworkAclAsync(
             final DeleteNetworkAclRequest deleteNetworkAclRequest,
             final AsyncHandler<DeleteNetworkAclRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclRequest,
+                new DeleteNetworkAclRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -13696,14 +11826,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
+    public ListenableFuture<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-                return null;
-        }
-    });
+        return deleteVpnConnectionAsync(deleteVpnConnectionRequest, null);
     }
 
     /**
@@ -13741,22 +11866,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionAsync(
+    public ListenableFuture<Void> deleteVpnConnectionAsync(
             final DeleteVpnConnectionRequest deleteVpnConnectionRequest,
             final AsyncHandler<DeleteVpnConnectionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRequest,
+                new DeleteVpnConnectionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -13789,13 +11906,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest) 
+    public ListenableFuture<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
-            public CancelSpotFleetRequestsResult call() throws Exception {
-                return cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
-        }
-    });
+        return cancelSpotFleetRequestsAsync(cancelSpotFleetRequestsRequest, null);
     }
 
     /**
@@ -13832,23 +11945,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(
+    public ListenableFuture<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsAsync(
             final CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest,
             final AsyncHandler<CancelSpotFleetRequestsRequest, CancelSpotFleetRequestsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotFleetRequestsResult>() {
-            public CancelSpotFleetRequestsResult call() throws Exception {
-              CancelSpotFleetRequestsResult result;
-                try {
-                result = cancelSpotFleetRequests(cancelSpotFleetRequestsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelSpotFleetRequestsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelSpotFleetRequestsRequest,
+                new CancelSpotFleetRequestsRequestMarshaller(),
+                new CancelSpotFleetRequestsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -13899,13 +12003,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest) 
+    public ListenableFuture<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
-            public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
-                return modifyVpcPeeringConnectionOptions(modifyVpcPeeringConnectionOptionsRequest);
-        }
-    });
+        return modifyVpcPeeringConnectionOptionsAsync(modifyVpcPeeringConnectionOptionsRequest, null);
     }
 
     /**
@@ -13960,23 +12060,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(
+    public ListenableFuture<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsAsync(
             final ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest,
             final AsyncHandler<ModifyVpcPeeringConnectionOptionsRequest, ModifyVpcPeeringConnectionOptionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyVpcPeeringConnectionOptionsResult>() {
-            public ModifyVpcPeeringConnectionOptionsResult call() throws Exception {
-              ModifyVpcPeeringConnectionOptionsResult result;
-                try {
-                result = modifyVpcPeeringConnectionOptions(modifyVpcPeeringConnectionOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyVpcPeeringConnectionOptionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyVpcPeeringConnectionOptionsRequest,
+                new ModifyVpcPeeringConnectionOptionsRequestMarshaller(),
+                new ModifyVpcPeeringConnectionOptionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -14067,13 +12158,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
+    public ListenableFuture<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-                return describeSnapshots(describeSnapshotsRequest);
-        }
-    });
+        return describeSnapshotsAsync(describeSnapshotsRequest, null);
     }
 
     /**
@@ -14168,23 +12255,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSnapshotsResult> describeSnapshotsAsync(
+    public ListenableFuture<DescribeSnapshotsResult> describeSnapshotsAsync(
             final DescribeSnapshotsRequest describeSnapshotsRequest,
             final AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-              DescribeSnapshotsResult result;
-                try {
-                result = describeSnapshots(describeSnapshotsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSnapshotsRequest,
+                new DescribeSnapshotsRequestMarshaller(),
+                new DescribeSnapshotsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -14211,13 +12289,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribePrefixListsResult> describePrefixListsAsync(final DescribePrefixListsRequest describePrefixListsRequest) 
+    public ListenableFuture<DescribePrefixListsResult> describePrefixListsAsync(final DescribePrefixListsRequest describePrefixListsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
-            public DescribePrefixListsResult call() throws Exception {
-                return describePrefixLists(describePrefixListsRequest);
-        }
-    });
+        return describePrefixListsAsync(describePrefixListsRequest, null);
     }
 
     /**
@@ -14248,23 +12322,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribePrefixListsResult> describePrefixListsAsync(
+    public ListenableFuture<DescribePrefixListsResult> describePrefixListsAsync(
             final DescribePrefixListsRequest describePrefixListsRequest,
             final AsyncHandler<DescribePrefixListsRequest, DescribePrefixListsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePrefixListsResult>() {
-            public DescribePrefixListsResult call() throws Exception {
-              DescribePrefixListsResult result;
-                try {
-                result = describePrefixLists(describePrefixListsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describePrefixListsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describePrefixListsRequest,
+                new DescribePrefixListsRequestMarshaller(),
+                new DescribePrefixListsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -14291,14 +12356,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
+    public ListenableFuture<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return replaceNetworkAclEntryAsync(replaceNetworkAclEntryRequest, null);
     }
 
     /**
@@ -14329,22 +12389,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> replaceNetworkAclEntryAsync(
+    public ListenableFuture<Void> replaceNetworkAclEntryAsync(
             final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
             final AsyncHandler<ReplaceNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(replaceNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(replaceNetworkAclEntryRequest,
+                new ReplaceNetworkAclEntryRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -14378,13 +12430,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateFlowLogsResult> createFlowLogsAsync(final CreateFlowLogsRequest createFlowLogsRequest) 
+    public ListenableFuture<CreateFlowLogsResult> createFlowLogsAsync(final CreateFlowLogsRequest createFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
-            public CreateFlowLogsResult call() throws Exception {
-                return createFlowLogs(createFlowLogsRequest);
-        }
-    });
+        return createFlowLogsAsync(createFlowLogsRequest, null);
     }
 
     /**
@@ -14422,23 +12470,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateFlowLogsResult> createFlowLogsAsync(
+    public ListenableFuture<CreateFlowLogsResult> createFlowLogsAsync(
             final CreateFlowLogsRequest createFlowLogsRequest,
             final AsyncHandler<CreateFlowLogsRequest, CreateFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateFlowLogsResult>() {
-            public CreateFlowLogsResult call() throws Exception {
-              CreateFlowLogsResult result;
-                try {
-                result = createFlowLogs(createFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createFlowLogsRequest,
+                new CreateFlowLogsRequestMarshaller(),
+                new CreateFlowLogsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -14463,14 +12502,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
+    public ListenableFuture<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-                return null;
-        }
-    });
+        return deleteInternetGatewayAsync(deleteInternetGatewayRequest, null);
     }
 
     /**
@@ -14499,22 +12533,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteInternetGatewayAsync(
+    public ListenableFuture<Void> deleteInternetGatewayAsync(
             final DeleteInternetGatewayRequest deleteInternetGatewayRequest,
             final AsyncHandler<DeleteInternetGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteInternetGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteInternetGatewayRequest,
+                new DeleteInternetGatewayRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -14584,13 +12610,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
+    public ListenableFuture<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-                return describeVolumeStatus(describeVolumeStatusRequest);
-        }
-    });
+        return describeVolumeStatusAsync(describeVolumeStatusRequest, null);
     }
 
     /**
@@ -14664,23 +12686,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(
+    public ListenableFuture<DescribeVolumeStatusResult> describeVolumeStatusAsync(
             final DescribeVolumeStatusRequest describeVolumeStatusRequest,
             final AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-              DescribeVolumeStatusResult result;
-                try {
-                result = describeVolumeStatus(describeVolumeStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVolumeStatusRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVolumeStatusRequest,
+                new DescribeVolumeStatusRequestMarshaller(),
+                new DescribeVolumeStatusResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -14705,14 +12718,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
+    public ListenableFuture<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-                return null;
-        }
-    });
+        return deleteSpotDatafeedSubscriptionAsync(deleteSpotDatafeedSubscriptionRequest, null);
     }
 
     /**
@@ -14741,22 +12749,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSpotDatafeedSubscriptionAsync(
+    public ListenableFuture<Void> deleteSpotDatafeedSubscriptionAsync(
             final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSpotDatafeedSubscriptionRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSpotDatafeedSubscriptionRequest,
+                new DeleteSpotDatafeedSubscriptionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -14803,13 +12803,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyInstancePlacementResult> modifyInstancePlacementAsync(final ModifyInstancePlacementRequest modifyInstancePlacementRequest) 
+    public ListenableFuture<ModifyInstancePlacementResult> modifyInstancePlacementAsync(final ModifyInstancePlacementRequest modifyInstancePlacementRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
-            public ModifyInstancePlacementResult call() throws Exception {
-                return modifyInstancePlacement(modifyInstancePlacementRequest);
-        }
-    });
+        return modifyInstancePlacementAsync(modifyInstancePlacementRequest, null);
     }
 
     /**
@@ -14860,23 +12856,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ModifyInstancePlacementResult> modifyInstancePlacementAsync(
+    public ListenableFuture<ModifyInstancePlacementResult> modifyInstancePlacementAsync(
             final ModifyInstancePlacementRequest modifyInstancePlacementRequest,
             final AsyncHandler<ModifyInstancePlacementRequest, ModifyInstancePlacementResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyInstancePlacementResult>() {
-            public ModifyInstancePlacementResult call() throws Exception {
-              ModifyInstancePlacementResult result;
-                try {
-                result = modifyInstancePlacement(modifyInstancePlacementRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(modifyInstancePlacementRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(modifyInstancePlacementRequest,
+                new ModifyInstancePlacementRequestMarshaller(),
+                new ModifyInstancePlacementResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -14900,13 +12887,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
+    public ListenableFuture<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-                return cancelBundleTask(cancelBundleTaskRequest);
-        }
-    });
+        return cancelBundleTaskAsync(cancelBundleTaskRequest, null);
     }
 
     /**
@@ -14934,23 +12917,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CancelBundleTaskResult> cancelBundleTaskAsync(
+    public ListenableFuture<CancelBundleTaskResult> cancelBundleTaskAsync(
             final CancelBundleTaskRequest cancelBundleTaskRequest,
             final AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-              CancelBundleTaskResult result;
-                try {
-                result = cancelBundleTask(cancelBundleTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(cancelBundleTaskRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(cancelBundleTaskRequest,
+                new CancelBundleTaskRequestMarshaller(),
+                new CancelBundleTaskResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -14980,13 +12954,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
+    public ListenableFuture<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-                return createInternetGateway(createInternetGatewayRequest);
-        }
-    });
+        return createInternetGatewayAsync(createInternetGatewayRequest, null);
     }
 
     /**
@@ -15020,23 +12990,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateInternetGatewayResult> createInternetGatewayAsync(
+    public ListenableFuture<CreateInternetGatewayResult> createInternetGatewayAsync(
             final CreateInternetGatewayRequest createInternetGatewayRequest,
             final AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-              CreateInternetGatewayResult result;
-                try {
-                result = createInternetGateway(createInternetGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInternetGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createInternetGatewayRequest,
+                new CreateInternetGatewayRequestMarshaller(),
+                new CreateInternetGatewayResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -15082,13 +13043,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotFleetResult> requestSpotFleetAsync(final RequestSpotFleetRequest requestSpotFleetRequest) 
+    public ListenableFuture<RequestSpotFleetResult> requestSpotFleetAsync(final RequestSpotFleetRequest requestSpotFleetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
-            public RequestSpotFleetResult call() throws Exception {
-                return requestSpotFleet(requestSpotFleetRequest);
-        }
-    });
+        return requestSpotFleetAsync(requestSpotFleetRequest, null);
     }
 
     /**
@@ -15138,23 +13095,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RequestSpotFleetResult> requestSpotFleetAsync(
+    public ListenableFuture<RequestSpotFleetResult> requestSpotFleetAsync(
             final RequestSpotFleetRequest requestSpotFleetRequest,
             final AsyncHandler<RequestSpotFleetRequest, RequestSpotFleetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotFleetResult>() {
-            public RequestSpotFleetResult call() throws Exception {
-              RequestSpotFleetResult result;
-                try {
-                result = requestSpotFleet(requestSpotFleetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(requestSpotFleetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(requestSpotFleetRequest,
+                new RequestSpotFleetRequestMarshaller(),
+                new RequestSpotFleetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -15183,13 +13131,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
+    public ListenableFuture<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-                return describeReservedInstances(describeReservedInstancesRequest);
-        }
-    });
+        return describeReservedInstancesAsync(describeReservedInstancesRequest, null);
     }
 
     /**
@@ -15222,23 +13166,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(
+    public ListenableFuture<DescribeReservedInstancesResult> describeReservedInstancesAsync(
             final DescribeReservedInstancesRequest describeReservedInstancesRequest,
             final AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-              DescribeReservedInstancesResult result;
-                try {
-                result = describeReservedInstances(describeReservedInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeReservedInstancesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeReservedInstancesRequest,
+                new DescribeReservedInstancesRequestMarshaller(),
+                new DescribeReservedInstancesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -15265,13 +13200,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest) 
+    public ListenableFuture<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupReferencesResult>() {
-            public DescribeSecurityGroupReferencesResult call() throws Exception {
-                return describeSecurityGroupReferences(describeSecurityGroupReferencesRequest);
-        }
-    });
+        return describeSecurityGroupReferencesAsync(describeSecurityGroupReferencesRequest, null);
     }
 
     /**
@@ -15302,23 +13233,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(
+    public ListenableFuture<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesAsync(
             final DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest,
             final AsyncHandler<DescribeSecurityGroupReferencesRequest, DescribeSecurityGroupReferencesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupReferencesResult>() {
-            public DescribeSecurityGroupReferencesResult call() throws Exception {
-              DescribeSecurityGroupReferencesResult result;
-                try {
-                result = describeSecurityGroupReferences(describeSecurityGroupReferencesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSecurityGroupReferencesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSecurityGroupReferencesRequest,
+                new DescribeSecurityGroupReferencesRequestMarshaller(),
+                new DescribeSecurityGroupReferencesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -15342,13 +13264,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest) 
+    public ListenableFuture<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
-            public DescribeImportSnapshotTasksResult call() throws Exception {
-                return describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
-        }
-    });
+        return describeImportSnapshotTasksAsync(describeImportSnapshotTasksRequest, null);
     }
 
     /**
@@ -15376,23 +13294,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(
+    public ListenableFuture<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksAsync(
             final DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest,
             final AsyncHandler<DescribeImportSnapshotTasksRequest, DescribeImportSnapshotTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImportSnapshotTasksResult>() {
-            public DescribeImportSnapshotTasksResult call() throws Exception {
-              DescribeImportSnapshotTasksResult result;
-                try {
-                result = describeImportSnapshotTasks(describeImportSnapshotTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeImportSnapshotTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeImportSnapshotTasksRequest,
+                new DescribeImportSnapshotTasksRequestMarshaller(),
+                new DescribeImportSnapshotTasksResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -15423,13 +13332,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest) 
+    public ListenableFuture<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
-            public EnableVpcClassicLinkResult call() throws Exception {
-                return enableVpcClassicLink(enableVpcClassicLinkRequest);
-        }
-    });
+        return enableVpcClassicLinkAsync(enableVpcClassicLinkRequest, null);
     }
 
     /**
@@ -15464,23 +13369,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(
+    public ListenableFuture<EnableVpcClassicLinkResult> enableVpcClassicLinkAsync(
             final EnableVpcClassicLinkRequest enableVpcClassicLinkRequest,
             final AsyncHandler<EnableVpcClassicLinkRequest, EnableVpcClassicLinkResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableVpcClassicLinkResult>() {
-            public EnableVpcClassicLinkResult call() throws Exception {
-              EnableVpcClassicLinkResult result;
-                try {
-                result = enableVpcClassicLink(enableVpcClassicLinkRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(enableVpcClassicLinkRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(enableVpcClassicLinkRequest,
+                new EnableVpcClassicLinkRequestMarshaller(),
+                new EnableVpcClassicLinkResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -15508,14 +13404,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
+    public ListenableFuture<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpc(deleteVpcRequest);
-                return null;
-        }
-    });
+        return deleteVpcAsync(deleteVpcRequest, null);
     }
 
     /**
@@ -15547,22 +13438,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpcAsync(
+    public ListenableFuture<Void> deleteVpcAsync(
             final DeleteVpcRequest deleteVpcRequest,
             final AsyncHandler<DeleteVpcRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpc(deleteVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpcRequest,
+                new DeleteVpcRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -15587,13 +13470,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeFlowLogsResult> describeFlowLogsAsync(final DescribeFlowLogsRequest describeFlowLogsRequest) 
+    public ListenableFuture<DescribeFlowLogsResult> describeFlowLogsAsync(final DescribeFlowLogsRequest describeFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
-            public DescribeFlowLogsResult call() throws Exception {
-                return describeFlowLogs(describeFlowLogsRequest);
-        }
-    });
+        return describeFlowLogsAsync(describeFlowLogsRequest, null);
     }
 
     /**
@@ -15622,23 +13501,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeFlowLogsResult> describeFlowLogsAsync(
+    public ListenableFuture<DescribeFlowLogsResult> describeFlowLogsAsync(
             final DescribeFlowLogsRequest describeFlowLogsRequest,
             final AsyncHandler<DescribeFlowLogsRequest, DescribeFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeFlowLogsResult>() {
-            public DescribeFlowLogsResult call() throws Exception {
-              DescribeFlowLogsResult result;
-                try {
-                result = describeFlowLogs(describeFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeFlowLogsRequest,
+                new DescribeFlowLogsRequestMarshaller(),
+                new DescribeFlowLogsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -15692,13 +13562,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
+    public ListenableFuture<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-                return createSubnet(createSubnetRequest);
-        }
-    });
+        return createSubnetAsync(createSubnetRequest, null);
     }
 
     /**
@@ -15756,23 +13622,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateSubnetResult> createSubnetAsync(
+    public ListenableFuture<CreateSubnetResult> createSubnetAsync(
             final CreateSubnetRequest createSubnetRequest,
             final AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-              CreateSubnetResult result;
-                try {
-                result = createSubnet(createSubnetRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createSubnetRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createSubnetRequest,
+                new CreateSubnetRequestMarshaller(),
+                new CreateSubnetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -15798,14 +13655,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
+    public ListenableFuture<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-                return null;
-        }
-    });
+        return resetNetworkInterfaceAttributeAsync(resetNetworkInterfaceAttributeRequest, null);
     }
 
     /**
@@ -15835,22 +13687,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> resetNetworkInterfaceAttributeAsync(
+    public ListenableFuture<Void> resetNetworkInterfaceAttributeAsync(
             final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest,
             final AsyncHandler<ResetNetworkInterfaceAttributeRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(resetNetworkInterfaceAttributeRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(resetNetworkInterfaceAttributeRequest,
+                new ResetNetworkInterfaceAttributeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -15887,13 +13731,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReleaseHostsResult> releaseHostsAsync(final ReleaseHostsRequest releaseHostsRequest) 
+    public ListenableFuture<ReleaseHostsResult> releaseHostsAsync(final ReleaseHostsRequest releaseHostsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
-            public ReleaseHostsResult call() throws Exception {
-                return releaseHosts(releaseHostsRequest);
-        }
-    });
+        return releaseHostsAsync(releaseHostsRequest, null);
     }
 
     /**
@@ -15934,23 +13774,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ReleaseHostsResult> releaseHostsAsync(
+    public ListenableFuture<ReleaseHostsResult> releaseHostsAsync(
             final ReleaseHostsRequest releaseHostsRequest,
             final AsyncHandler<ReleaseHostsRequest, ReleaseHostsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReleaseHostsResult>() {
-            public ReleaseHostsResult call() throws Exception {
-              ReleaseHostsResult result;
-                try {
-                result = releaseHosts(releaseHostsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(releaseHostsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(releaseHostsRequest,
+                new ReleaseHostsRequestMarshaller(),
+                new ReleaseHostsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -15982,14 +13813,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
+    public ListenableFuture<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                reportInstanceStatus(reportInstanceStatusRequest);
-                return null;
-        }
-    });
+        return reportInstanceStatusAsync(reportInstanceStatusRequest, null);
     }
 
     /**
@@ -16025,22 +13851,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> reportInstanceStatusAsync(
+    public ListenableFuture<Void> reportInstanceStatusAsync(
             final ReportInstanceStatusRequest reportInstanceStatusRequest,
             final AsyncHandler<ReportInstanceStatusRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                reportInstanceStatus(reportInstanceStatusRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(reportInstanceStatusRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(reportInstanceStatusRequest,
+                new ReportInstanceStatusRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -16063,13 +13881,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNatGatewaysResult> describeNatGatewaysAsync(final DescribeNatGatewaysRequest describeNatGatewaysRequest) 
+    public ListenableFuture<DescribeNatGatewaysResult> describeNatGatewaysAsync(final DescribeNatGatewaysRequest describeNatGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
-            public DescribeNatGatewaysResult call() throws Exception {
-                return describeNatGateways(describeNatGatewaysRequest);
-        }
-    });
+        return describeNatGatewaysAsync(describeNatGatewaysRequest, null);
     }
 
     /**
@@ -16096,23 +13910,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeNatGatewaysResult> describeNatGatewaysAsync(
+    public ListenableFuture<DescribeNatGatewaysResult> describeNatGatewaysAsync(
             final DescribeNatGatewaysRequest describeNatGatewaysRequest,
             final AsyncHandler<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNatGatewaysResult>() {
-            public DescribeNatGatewaysResult call() throws Exception {
-              DescribeNatGatewaysResult result;
-                try {
-                result = describeNatGateways(describeNatGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeNatGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeNatGatewaysRequest,
+                new DescribeNatGatewaysRequestMarshaller(),
+                new DescribeNatGatewaysResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -16137,13 +13942,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest) 
+    public ListenableFuture<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
-            public DescribeVpcPeeringConnectionsResult call() throws Exception {
-                return describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-        }
-    });
+        return describeVpcPeeringConnectionsAsync(describeVpcPeeringConnectionsRequest, null);
     }
 
     /**
@@ -16172,23 +13973,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(
+    public ListenableFuture<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsAsync(
             final DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest,
             final AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcPeeringConnectionsResult>() {
-            public DescribeVpcPeeringConnectionsResult call() throws Exception {
-              DescribeVpcPeeringConnectionsResult result;
-                try {
-                result = describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcPeeringConnectionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcPeeringConnectionsRequest,
+                new DescribeVpcPeeringConnectionsRequestMarshaller(),
+                new DescribeVpcPeeringConnectionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -16233,13 +14025,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
+    public ListenableFuture<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-                return createVolume(createVolumeRequest);
-        }
-    });
+        return createVolumeAsync(createVolumeRequest, null);
     }
 
     /**
@@ -16288,23 +14076,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVolumeResult> createVolumeAsync(
+    public ListenableFuture<CreateVolumeResult> createVolumeAsync(
             final CreateVolumeRequest createVolumeRequest,
             final AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-              CreateVolumeResult result;
-                try {
-                result = createVolume(createVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVolumeRequest,
+                new CreateVolumeRequestMarshaller(),
+                new CreateVolumeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -16338,13 +14117,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
+    public ListenableFuture<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-                return importVolume(importVolumeRequest);
-        }
-    });
+        return importVolumeAsync(importVolumeRequest, null);
     }
 
     /**
@@ -16382,23 +14157,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ImportVolumeResult> importVolumeAsync(
+    public ListenableFuture<ImportVolumeResult> importVolumeAsync(
             final ImportVolumeRequest importVolumeRequest,
             final AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-              ImportVolumeResult result;
-                try {
-                result = importVolume(importVolumeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(importVolumeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(importVolumeRequest,
+                new ImportVolumeRequestMarshaller(),
+                new ImportVolumeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -16428,13 +14194,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) 
+    public ListenableFuture<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(final CreateInstanceExportTaskRequest createInstanceExportTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
-            public CreateInstanceExportTaskResult call() throws Exception {
-                return createInstanceExportTask(createInstanceExportTaskRequest);
-        }
-    });
+        return createInstanceExportTaskAsync(createInstanceExportTaskRequest, null);
     }
 
     /**
@@ -16468,23 +14230,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(
+    public ListenableFuture<CreateInstanceExportTaskResult> createInstanceExportTaskAsync(
             final CreateInstanceExportTaskRequest createInstanceExportTaskRequest,
             final AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInstanceExportTaskResult>() {
-            public CreateInstanceExportTaskResult call() throws Exception {
-              CreateInstanceExportTaskResult result;
-                try {
-                result = createInstanceExportTask(createInstanceExportTaskRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createInstanceExportTaskRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createInstanceExportTaskRequest,
+                new CreateInstanceExportTaskRequestMarshaller(),
+                new CreateInstanceExportTaskResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -16508,14 +14261,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
+    public ListenableFuture<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteKeyPair(deleteKeyPairRequest);
-                return null;
-        }
-    });
+        return deleteKeyPairAsync(deleteKeyPairRequest, null);
     }
 
     /**
@@ -16543,22 +14291,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteKeyPairAsync(
+    public ListenableFuture<Void> deleteKeyPairAsync(
             final DeleteKeyPairRequest deleteKeyPairRequest,
             final AsyncHandler<DeleteKeyPairRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteKeyPair(deleteKeyPairRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteKeyPairRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteKeyPairRequest,
+                new DeleteKeyPairRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -16587,13 +14327,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
+    public ListenableFuture<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-                return describeAddresses(describeAddressesRequest);
-        }
-    });
+        return describeAddressesAsync(describeAddressesRequest, null);
     }
 
     /**
@@ -16626,23 +14362,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeAddressesResult> describeAddressesAsync(
+    public ListenableFuture<DescribeAddressesResult> describeAddressesAsync(
             final DescribeAddressesRequest describeAddressesRequest,
             final AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-              DescribeAddressesResult result;
-                try {
-                result = describeAddresses(describeAddressesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeAddressesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeAddressesRequest,
+                new DescribeAddressesRequestMarshaller(),
+                new DescribeAddressesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -16665,14 +14392,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
+    public ListenableFuture<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRoute(deleteRouteRequest);
-                return null;
-        }
-    });
+        return deleteRouteAsync(deleteRouteRequest, null);
     }
 
     /**
@@ -16699,22 +14421,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteRouteAsync(
+    public ListenableFuture<Void> deleteRouteAsync(
             final DeleteRouteRequest deleteRouteRequest,
             final AsyncHandler<DeleteRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteRoute(deleteRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteRouteRequest,
+                new DeleteRouteRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -16750,14 +14464,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
+    public ListenableFuture<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-                return null;
-        }
-    });
+        return revokeSecurityGroupIngressAsync(revokeSecurityGroupIngressRequest, null);
     }
 
     /**
@@ -16797,22 +14506,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupIngressAsync(
+    public ListenableFuture<Void> revokeSecurityGroupIngressAsync(
             final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
             final AsyncHandler<RevokeSecurityGroupIngressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupIngressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupIngressRequest,
+                new RevokeSecurityGroupIngressRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -16837,13 +14538,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest) 
+    public ListenableFuture<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
-            public DeleteVpcEndpointsResult call() throws Exception {
-                return deleteVpcEndpoints(deleteVpcEndpointsRequest);
-        }
-    });
+        return deleteVpcEndpointsAsync(deleteVpcEndpointsRequest, null);
     }
 
     /**
@@ -16872,23 +14569,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(
+    public ListenableFuture<DeleteVpcEndpointsResult> deleteVpcEndpointsAsync(
             final DeleteVpcEndpointsRequest deleteVpcEndpointsRequest,
             final AsyncHandler<DeleteVpcEndpointsRequest, DeleteVpcEndpointsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVpcEndpointsResult>() {
-            public DeleteVpcEndpointsResult call() throws Exception {
-              DeleteVpcEndpointsResult result;
-                try {
-                result = deleteVpcEndpoints(deleteVpcEndpointsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpcEndpointsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteVpcEndpointsRequest,
+                new DeleteVpcEndpointsRequestMarshaller(),
+                new DeleteVpcEndpointsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -16930,14 +14618,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
+    public ListenableFuture<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                releaseAddress(releaseAddressRequest);
-                return null;
-        }
-    });
+        return releaseAddressAsync(releaseAddressRequest, null);
     }
 
     /**
@@ -16983,22 +14666,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> releaseAddressAsync(
+    public ListenableFuture<Void> releaseAddressAsync(
             final ReleaseAddressRequest releaseAddressRequest,
             final AsyncHandler<ReleaseAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                releaseAddress(releaseAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(releaseAddressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(releaseAddressRequest,
+                new ReleaseAddressRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -17025,13 +14700,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
+    public ListenableFuture<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-                return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-        }
-    });
+        return describeSpotDatafeedSubscriptionAsync(describeSpotDatafeedSubscriptionRequest, null);
     }
 
     /**
@@ -17062,23 +14733,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(
+    public ListenableFuture<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(
             final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
             final AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-              DescribeSpotDatafeedSubscriptionResult result;
-                try {
-                result = describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSpotDatafeedSubscriptionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSpotDatafeedSubscriptionRequest,
+                new DescribeSpotDatafeedSubscriptionRequestMarshaller(),
+                new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -17101,13 +14763,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteFlowLogsResult> deleteFlowLogsAsync(final DeleteFlowLogsRequest deleteFlowLogsRequest) 
+    public ListenableFuture<DeleteFlowLogsResult> deleteFlowLogsAsync(final DeleteFlowLogsRequest deleteFlowLogsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
-            public DeleteFlowLogsResult call() throws Exception {
-                return deleteFlowLogs(deleteFlowLogsRequest);
-        }
-    });
+        return deleteFlowLogsAsync(deleteFlowLogsRequest, null);
     }
 
     /**
@@ -17134,23 +14792,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DeleteFlowLogsResult> deleteFlowLogsAsync(
+    public ListenableFuture<DeleteFlowLogsResult> deleteFlowLogsAsync(
             final DeleteFlowLogsRequest deleteFlowLogsRequest,
             final AsyncHandler<DeleteFlowLogsRequest, DeleteFlowLogsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteFlowLogsResult>() {
-            public DeleteFlowLogsResult call() throws Exception {
-              DeleteFlowLogsResult result;
-                try {
-                result = deleteFlowLogs(deleteFlowLogsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteFlowLogsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(deleteFlowLogsRequest,
+                new DeleteFlowLogsRequestMarshaller(),
+                new DeleteFlowLogsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -17178,13 +14827,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
+    public ListenableFuture<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-                return describeRegions(describeRegionsRequest);
-        }
-    });
+        return describeRegionsAsync(describeRegionsRequest, null);
     }
 
     /**
@@ -17216,23 +14861,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeRegionsResult> describeRegionsAsync(
+    public ListenableFuture<DescribeRegionsResult> describeRegionsAsync(
             final DescribeRegionsRequest describeRegionsRequest,
             final AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-              DescribeRegionsResult result;
-                try {
-                result = describeRegions(describeRegionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeRegionsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeRegionsRequest,
+                new DescribeRegionsRequestMarshaller(),
+                new DescribeRegionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -17257,14 +14893,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
+    public ListenableFuture<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-                return null;
-        }
-    });
+        return deleteNetworkAclEntryAsync(deleteNetworkAclEntryRequest, null);
     }
 
     /**
@@ -17293,22 +14924,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteNetworkAclEntryAsync(
+    public ListenableFuture<Void> deleteNetworkAclEntryAsync(
             final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
             final AsyncHandler<DeleteNetworkAclEntryRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteNetworkAclEntryRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteNetworkAclEntryRequest,
+                new DeleteNetworkAclEntryRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -17341,13 +14964,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
+    public ListenableFuture<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-                return describeConversionTasks(describeConversionTasksRequest);
-        }
-    });
+        return describeConversionTasksAsync(describeConversionTasksRequest, null);
     }
 
     /**
@@ -17384,23 +15003,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeConversionTasksResult> describeConversionTasksAsync(
+    public ListenableFuture<DescribeConversionTasksResult> describeConversionTasksAsync(
             final DescribeConversionTasksRequest describeConversionTasksRequest,
             final AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-              DescribeConversionTasksResult result;
-                try {
-                result = describeConversionTasks(describeConversionTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeConversionTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeConversionTasksRequest,
+                new DescribeConversionTasksRequestMarshaller(),
+                new DescribeConversionTasksResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -17439,13 +15049,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
+    public ListenableFuture<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-                return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-        }
-    });
+        return purchaseReservedInstancesOfferingAsync(purchaseReservedInstancesOfferingRequest, null);
     }
 
     /**
@@ -17488,23 +15094,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(
+    public ListenableFuture<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(
             final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
             final AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-              PurchaseReservedInstancesOfferingResult result;
-                try {
-                result = purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(purchaseReservedInstancesOfferingRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(purchaseReservedInstancesOfferingRequest,
+                new PurchaseReservedInstancesOfferingRequestMarshaller(),
+                new PurchaseReservedInstancesOfferingResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -17538,14 +15135,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
+    public ListenableFuture<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateAddress(disassociateAddressRequest);
-                return null;
-        }
-    });
+        return disassociateAddressAsync(disassociateAddressRequest, null);
     }
 
     /**
@@ -17583,22 +15175,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> disassociateAddressAsync(
+    public ListenableFuture<Void> disassociateAddressAsync(
             final DisassociateAddressRequest disassociateAddressRequest,
             final AsyncHandler<DisassociateAddressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                disassociateAddress(disassociateAddressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(disassociateAddressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(disassociateAddressRequest,
+                new DisassociateAddressRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -17627,14 +15211,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
+    public ListenableFuture<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-                return null;
-        }
-    });
+        return deleteSecurityGroupAsync(deleteSecurityGroupRequest, null);
     }
 
     /**
@@ -17667,22 +15246,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteSecurityGroupAsync(
+    public ListenableFuture<Void> deleteSecurityGroupAsync(
             final DeleteSecurityGroupRequest deleteSecurityGroupRequest,
             final AsyncHandler<DeleteSecurityGroupRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteSecurityGroupRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteSecurityGroupRequest,
+                new DeleteSecurityGroupRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -17717,14 +15288,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
+    public ListenableFuture<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                rebootInstances(rebootInstancesRequest);
-                return null;
-        }
-    });
+        return rebootInstancesAsync(rebootInstancesRequest, null);
     }
 
     /**
@@ -17763,22 +15329,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> rebootInstancesAsync(
+    public ListenableFuture<Void> rebootInstancesAsync(
             final RebootInstancesRequest rebootInstancesRequest,
             final AsyncHandler<RebootInstancesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                rebootInstances(rebootInstancesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rebootInstancesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(rebootInstancesRequest,
+                new RebootInstancesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -17807,13 +15365,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest) 
+    public ListenableFuture<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
-            public RejectVpcPeeringConnectionResult call() throws Exception {
-                return rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-        }
-    });
+        return rejectVpcPeeringConnectionAsync(rejectVpcPeeringConnectionRequest, null);
     }
 
     /**
@@ -17846,23 +15400,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(
+    public ListenableFuture<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionAsync(
             final RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest,
             final AsyncHandler<RejectVpcPeeringConnectionRequest, RejectVpcPeeringConnectionResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RejectVpcPeeringConnectionResult>() {
-            public RejectVpcPeeringConnectionResult call() throws Exception {
-              RejectVpcPeeringConnectionResult result;
-                try {
-                result = rejectVpcPeeringConnection(rejectVpcPeeringConnectionRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(rejectVpcPeeringConnectionRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(rejectVpcPeeringConnectionRequest,
+                new RejectVpcPeeringConnectionRequestMarshaller(),
+                new RejectVpcPeeringConnectionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -17887,13 +15432,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest) 
+    public ListenableFuture<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
-            public DescribeVpcEndpointServicesResult call() throws Exception {
-                return describeVpcEndpointServices(describeVpcEndpointServicesRequest);
-        }
-    });
+        return describeVpcEndpointServicesAsync(describeVpcEndpointServicesRequest, null);
     }
 
     /**
@@ -17922,23 +15463,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(
+    public ListenableFuture<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesAsync(
             final DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest,
             final AsyncHandler<DescribeVpcEndpointServicesRequest, DescribeVpcEndpointServicesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcEndpointServicesResult>() {
-            public DescribeVpcEndpointServicesResult call() throws Exception {
-              DescribeVpcEndpointServicesResult result;
-                try {
-                result = describeVpcEndpointServices(describeVpcEndpointServicesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeVpcEndpointServicesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeVpcEndpointServicesRequest,
+                new DescribeVpcEndpointServicesRequestMarshaller(),
+                new DescribeVpcEndpointServicesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -17969,14 +15501,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
+    public ListenableFuture<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createTags(createTagsRequest);
-                return null;
-        }
-    });
+        return createTagsAsync(createTagsRequest, null);
     }
 
     /**
@@ -18011,22 +15538,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createTagsAsync(
+    public ListenableFuture<Void> createTagsAsync(
             final CreateTagsRequest createTagsRequest,
             final AsyncHandler<CreateTagsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createTags(createTagsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createTagsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createTagsRequest,
+                new CreateTagsRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -18063,14 +15582,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
+    public ListenableFuture<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-                return null;
-        }
-    });
+        return associateDhcpOptionsAsync(associateDhcpOptionsRequest, null);
     }
 
     /**
@@ -18111,22 +15625,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> associateDhcpOptionsAsync(
+    public ListenableFuture<Void> associateDhcpOptionsAsync(
             final AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
             final AsyncHandler<AssociateDhcpOptionsRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateDhcpOptionsRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(associateDhcpOptionsRequest,
+                new AssociateDhcpOptionsRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -18158,14 +15664,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createVpnConnectionRouteAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) 
+    public ListenableFuture<Void> createVpnConnectionRouteAsync(final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createVpnConnectionRoute(createVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return createVpnConnectionRouteAsync(createVpnConnectionRouteRequest, null);
     }
 
     /**
@@ -18201,22 +15702,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createVpnConnectionRouteAsync(
+    public ListenableFuture<Void> createVpnConnectionRouteAsync(
             final CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest,
             final AsyncHandler<CreateVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createVpnConnectionRoute(createVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createVpnConnectionRouteRequest,
+                new CreateVpnConnectionRouteRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -18242,13 +15735,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest) 
+    public ListenableFuture<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
-            public DetachClassicLinkVpcResult call() throws Exception {
-                return detachClassicLinkVpc(detachClassicLinkVpcRequest);
-        }
-    });
+        return detachClassicLinkVpcAsync(detachClassicLinkVpcRequest, null);
     }
 
     /**
@@ -18278,23 +15767,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(
+    public ListenableFuture<DetachClassicLinkVpcResult> detachClassicLinkVpcAsync(
             final DetachClassicLinkVpcRequest detachClassicLinkVpcRequest,
             final AsyncHandler<DetachClassicLinkVpcRequest, DetachClassicLinkVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachClassicLinkVpcResult>() {
-            public DetachClassicLinkVpcResult call() throws Exception {
-              DetachClassicLinkVpcResult result;
-                try {
-                result = detachClassicLinkVpc(detachClassicLinkVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(detachClassicLinkVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(detachClassicLinkVpcRequest,
+                new DetachClassicLinkVpcRequestMarshaller(),
+                new DetachClassicLinkVpcResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -18348,13 +15828,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
+    public ListenableFuture<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-                return createCustomerGateway(createCustomerGatewayRequest);
-        }
-    });
+        return createCustomerGatewayAsync(createCustomerGatewayRequest, null);
     }
 
     /**
@@ -18412,23 +15888,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(
+    public ListenableFuture<CreateCustomerGatewayResult> createCustomerGatewayAsync(
             final CreateCustomerGatewayRequest createCustomerGatewayRequest,
             final AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-              CreateCustomerGatewayResult result;
-                try {
-                result = createCustomerGateway(createCustomerGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createCustomerGatewayRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createCustomerGatewayRequest,
+                new CreateCustomerGatewayRequestMarshaller(),
+                new CreateCustomerGatewayResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -18458,13 +15925,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
+    public ListenableFuture<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-                return describeSnapshotAttribute(describeSnapshotAttributeRequest);
-        }
-    });
+        return describeSnapshotAttributeAsync(describeSnapshotAttributeRequest, null);
     }
 
     /**
@@ -18498,23 +15961,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(
+    public ListenableFuture<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(
             final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
             final AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-              DescribeSnapshotAttributeResult result;
-                try {
-                result = describeSnapshotAttribute(describeSnapshotAttributeRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeSnapshotAttributeRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeSnapshotAttributeRequest,
+                new DescribeSnapshotAttributeRequestMarshaller(),
+                new DescribeSnapshotAttributeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -18543,13 +15997,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
+    public ListenableFuture<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-                return describeCustomerGateways(describeCustomerGatewaysRequest);
-        }
-    });
+        return describeCustomerGatewaysAsync(describeCustomerGatewaysRequest, null);
     }
 
     /**
@@ -18582,23 +16032,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(
+    public ListenableFuture<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(
             final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
             final AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-              DescribeCustomerGatewaysResult result;
-                try {
-                result = describeCustomerGateways(describeCustomerGatewaysRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeCustomerGatewaysRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeCustomerGatewaysRequest,
+                new DescribeCustomerGatewaysRequestMarshaller(),
+                new DescribeCustomerGatewaysResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -18628,13 +16069,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<MoveAddressToVpcResult> moveAddressToVpcAsync(final MoveAddressToVpcRequest moveAddressToVpcRequest) 
+    public ListenableFuture<MoveAddressToVpcResult> moveAddressToVpcAsync(final MoveAddressToVpcRequest moveAddressToVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
-            public MoveAddressToVpcResult call() throws Exception {
-                return moveAddressToVpc(moveAddressToVpcRequest);
-        }
-    });
+        return moveAddressToVpcAsync(moveAddressToVpcRequest, null);
     }
 
     /**
@@ -18668,23 +16105,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<MoveAddressToVpcResult> moveAddressToVpcAsync(
+    public ListenableFuture<MoveAddressToVpcResult> moveAddressToVpcAsync(
             final MoveAddressToVpcRequest moveAddressToVpcRequest,
             final AsyncHandler<MoveAddressToVpcRequest, MoveAddressToVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MoveAddressToVpcResult>() {
-            public MoveAddressToVpcResult call() throws Exception {
-              MoveAddressToVpcResult result;
-                try {
-                result = moveAddressToVpc(moveAddressToVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(moveAddressToVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(moveAddressToVpcRequest,
+                new MoveAddressToVpcRequestMarshaller(),
+                new MoveAddressToVpcResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -18711,14 +16139,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionRouteAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) 
+    public ListenableFuture<Void> deleteVpnConnectionRouteAsync(final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-                return null;
-        }
-    });
+        return deleteVpnConnectionRouteAsync(deleteVpnConnectionRouteRequest, null);
     }
 
     /**
@@ -18749,22 +16172,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnConnectionRouteAsync(
+    public ListenableFuture<Void> deleteVpnConnectionRouteAsync(
             final DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest,
             final AsyncHandler<DeleteVpnConnectionRouteRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnConnectionRoute(deleteVpnConnectionRouteRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnConnectionRouteRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpnConnectionRouteRequest,
+                new DeleteVpnConnectionRouteRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -18791,14 +16206,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
+    public ListenableFuture<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-                return null;
-        }
-    });
+        return deleteVpnGatewayAsync(deleteVpnGatewayRequest, null);
     }
 
     /**
@@ -18829,22 +16239,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteVpnGatewayAsync(
+    public ListenableFuture<Void> deleteVpnGatewayAsync(
             final DeleteVpnGatewayRequest deleteVpnGatewayRequest,
             final AsyncHandler<DeleteVpnGatewayRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteVpnGatewayRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteVpnGatewayRequest,
+                new DeleteVpnGatewayRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -18882,14 +16284,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
+    public ListenableFuture<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-                return null;
-        }
-    });
+        return revokeSecurityGroupEgressAsync(revokeSecurityGroupEgressRequest, null);
     }
 
     /**
@@ -18931,22 +16328,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> revokeSecurityGroupEgressAsync(
+    public ListenableFuture<Void> revokeSecurityGroupEgressAsync(
             final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
             final AsyncHandler<RevokeSecurityGroupEgressRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(revokeSecurityGroupEgressRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(revokeSecurityGroupEgressRequest,
+                new RevokeSecurityGroupEgressRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -18975,13 +16364,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
+    public ListenableFuture<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-                return describeBundleTasks(describeBundleTasksRequest);
-        }
-    });
+        return describeBundleTasksAsync(describeBundleTasksRequest, null);
     }
 
     /**
@@ -19014,23 +16399,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DescribeBundleTasksResult> describeBundleTasksAsync(
+    public ListenableFuture<DescribeBundleTasksResult> describeBundleTasksAsync(
             final DescribeBundleTasksRequest describeBundleTasksRequest,
             final AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-              DescribeBundleTasksResult result;
-                try {
-                result = describeBundleTasks(describeBundleTasksRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(describeBundleTasksRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(describeBundleTasksRequest,
+                new DescribeBundleTasksRequestMarshaller(),
+                new DescribeBundleTasksResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -19074,13 +16450,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
+    public ListenableFuture<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-                return createVpc(createVpcRequest);
-        }
-    });
+        return createVpcAsync(createVpcRequest, null);
     }
 
     /**
@@ -19128,23 +16500,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<CreateVpcResult> createVpcAsync(
+    public ListenableFuture<CreateVpcResult> createVpcAsync(
             final CreateVpcRequest createVpcRequest,
             final AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-              CreateVpcResult result;
-                try {
-                result = createVpc(createVpcRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createVpcRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(createVpcRequest,
+                new CreateVpcRequestMarshaller(),
+                new CreateVpcResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -19177,13 +16540,9 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
+    public ListenableFuture<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-                return associateRouteTable(associateRouteTableRequest);
-        }
-    });
+        return associateRouteTableAsync(associateRouteTableRequest, null);
     }
 
     /**
@@ -19220,23 +16579,14 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      *             If an error response is returned by AmazonEC2 indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<AssociateRouteTableResult> associateRouteTableAsync(
+    public ListenableFuture<AssociateRouteTableResult> associateRouteTableAsync(
             final AssociateRouteTableRequest associateRouteTableRequest,
             final AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-              AssociateRouteTableResult result;
-                try {
-                result = associateRouteTable(associateRouteTableRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(associateRouteTableRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(associateRouteTableRequest,
+                new AssociateRouteTableRequestMarshaller(),
+                new AssociateRouteTableResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
 }
@@ -15,13 +15,13 @@
 
 package com.amazonaws.services.elasticloadbalancing;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -29,6 +29,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.elasticloadbalancing.model.*;
+import com.amazonaws.services.elasticloadbalancing.model.transform.*;
 
 /**
  * Interface for accessing Amazon Elastic Load Balancing asynchronously.
@@ -73,7 +74,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -119,15 +120,15 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     @Deprecated
     public AmazonElasticLoadBalancingAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Elastic Load Balancing using the specified AWS account credentials.
-     * Default client settings will be used, and a fixed size thread pool will
-     * be created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be run
+     * on the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -137,7 +138,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *            to use when authenticating with AWS services.
      */
     public AmazonElasticLoadBalancingAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -157,7 +158,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public AmazonElasticLoadBalancingAsyncClient(AWSCredentials awsCredentials,
             ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -179,14 +180,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public AmazonElasticLoadBalancingAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Elastic Load Balancing using the specified AWS account credentials
-     * provider. Default client settings will be used, and a fixed size thread
-     * pool will be created for executing the asynchronous tasks.
+     * provider. Default client settings will be used, and the asynchronous tasks will
+     * be run on the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -197,7 +198,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *            services.
      */
     public AmazonElasticLoadBalancingAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -237,8 +238,8 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public AmazonElasticLoadBalancingAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -261,17 +262,18 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
     public AmazonElasticLoadBalancingAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -321,13 +323,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<AddTagsResult> addTagsAsync(final AddTagsRequest addTagsRequest)
+    public ListenableFuture<AddTagsResult> addTagsAsync(final AddTagsRequest addTagsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
-            public AddTagsResult call() throws Exception {
-                return addTags(addTagsRequest);
-            }
-        });
+        return addTagsAsync(addTagsRequest, null);
     }
 
     /**
@@ -363,22 +361,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<AddTagsResult> addTagsAsync(final AddTagsRequest addTagsRequest,
+    public ListenableFuture<AddTagsResult> addTagsAsync(final AddTagsRequest addTagsRequest,
             final AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddTagsResult>() {
-            public AddTagsResult call() throws Exception {
-                AddTagsResult result = null;
-                try {
-                    result = addTags(addTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(addTagsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(addTagsRequest,
+                new AddTagsRequestMarshaller(),
+                new AddTagsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -411,14 +400,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerAsync(
+    public ListenableFuture<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerAsync(
             final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
-            public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
-                return applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
-            }
-        });
+        return applySecurityGroupsToLoadBalancerAsync(applySecurityGroupsToLoadBalancerRequest, null);
     }
 
     /**
@@ -451,23 +436,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerAsync(
+    public ListenableFuture<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerAsync(
             final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest,
             final AsyncHandler<ApplySecurityGroupsToLoadBalancerRequest, ApplySecurityGroupsToLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
-            public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
-                ApplySecurityGroupsToLoadBalancerResult result = null;
-                try {
-                    result = applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(applySecurityGroupsToLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(applySecurityGroupsToLoadBalancerRequest,
+                new ApplySecurityGroupsToLoadBalancerRequestMarshaller(),
+                new ApplySecurityGroupsToLoadBalancerResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -501,14 +477,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsAsync(
+    public ListenableFuture<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsAsync(
             final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
-            public AttachLoadBalancerToSubnetsResult call() throws Exception {
-                return attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
-            }
-        });
+        return attachLoadBalancerToSubnetsAsync(attachLoadBalancerToSubnetsRequest, null);
     }
 
     /**
@@ -542,23 +514,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsAsync(
+    public ListenableFuture<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsAsync(
             final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest,
             final AsyncHandler<AttachLoadBalancerToSubnetsRequest, AttachLoadBalancerToSubnetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
-            public AttachLoadBalancerToSubnetsResult call() throws Exception {
-                AttachLoadBalancerToSubnetsResult result = null;
-                try {
-                    result = attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(attachLoadBalancerToSubnetsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(attachLoadBalancerToSubnetsRequest,
+                new AttachLoadBalancerToSubnetsRequestMarshaller(),
+                new AttachLoadBalancerToSubnetsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -588,14 +551,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(
+    public ListenableFuture<ConfigureHealthCheckResult> configureHealthCheckAsync(
             final ConfigureHealthCheckRequest configureHealthCheckRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
-            public ConfigureHealthCheckResult call() throws Exception {
-                return configureHealthCheck(configureHealthCheckRequest);
-            }
-        });
+        return configureHealthCheckAsync(configureHealthCheckRequest, null);
     }
 
     /**
@@ -625,23 +584,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(
+    public ListenableFuture<ConfigureHealthCheckResult> configureHealthCheckAsync(
             final ConfigureHealthCheckRequest configureHealthCheckRequest,
             final AsyncHandler<ConfigureHealthCheckRequest, ConfigureHealthCheckResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
-            public ConfigureHealthCheckResult call() throws Exception {
-                ConfigureHealthCheckResult result = null;
-                try {
-                    result = configureHealthCheck(configureHealthCheckRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(configureHealthCheckRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(configureHealthCheckRequest,
+                new ConfigureHealthCheckRequestMarshaller(),
+                new ConfigureHealthCheckResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -687,14 +637,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(
+    public ListenableFuture<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(
             final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
-            public CreateAppCookieStickinessPolicyResult call() throws Exception {
-                return createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
-            }
-        });
+        return createAppCookieStickinessPolicyAsync(createAppCookieStickinessPolicyRequest, null);
     }
 
     /**
@@ -740,23 +686,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(
+    public ListenableFuture<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(
             final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest,
             final AsyncHandler<CreateAppCookieStickinessPolicyRequest, CreateAppCookieStickinessPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
-            public CreateAppCookieStickinessPolicyResult call() throws Exception {
-                CreateAppCookieStickinessPolicyResult result = null;
-                try {
-                    result = createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createAppCookieStickinessPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createAppCookieStickinessPolicyRequest,
+                new CreateAppCookieStickinessPolicyRequestMarshaller(),
+                new CreateAppCookieStickinessPolicyResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -805,14 +742,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(
+    public ListenableFuture<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(
             final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
-            public CreateLBCookieStickinessPolicyResult call() throws Exception {
-                return createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
-            }
-        });
+        return createLBCookieStickinessPolicyAsync(createLBCookieStickinessPolicyRequest, null);
     }
 
     /**
@@ -861,23 +794,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(
+    public ListenableFuture<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(
             final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest,
             final AsyncHandler<CreateLBCookieStickinessPolicyRequest, CreateLBCookieStickinessPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
-            public CreateLBCookieStickinessPolicyResult call() throws Exception {
-                CreateLBCookieStickinessPolicyResult result = null;
-                try {
-                    result = createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLBCookieStickinessPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createLBCookieStickinessPolicyRequest,
+                new CreateLBCookieStickinessPolicyRequestMarshaller(),
+                new CreateLBCookieStickinessPolicyResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -931,14 +855,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateLoadBalancerResult> createLoadBalancerAsync(
+    public ListenableFuture<CreateLoadBalancerResult> createLoadBalancerAsync(
             final CreateLoadBalancerRequest createLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
-            public CreateLoadBalancerResult call() throws Exception {
-                return createLoadBalancer(createLoadBalancerRequest);
-            }
-        });
+        return createLoadBalancerAsync(createLoadBalancerRequest, null);
     }
 
     /**
@@ -992,23 +912,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateLoadBalancerResult> createLoadBalancerAsync(
+    public ListenableFuture<CreateLoadBalancerResult> createLoadBalancerAsync(
             final CreateLoadBalancerRequest createLoadBalancerRequest,
             final AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
-            public CreateLoadBalancerResult call() throws Exception {
-                CreateLoadBalancerResult result = null;
-                try {
-                    result = createLoadBalancer(createLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createLoadBalancerRequest,
+                new CreateLoadBalancerRequestMarshaller(),
+                new CreateLoadBalancerResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1044,14 +955,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateLoadBalancerListenersResult> createLoadBalancerListenersAsync(
+    public ListenableFuture<CreateLoadBalancerListenersResult> createLoadBalancerListenersAsync(
             final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerListenersResult>() {
-            public CreateLoadBalancerListenersResult call() throws Exception {
-                return createLoadBalancerListeners(createLoadBalancerListenersRequest);
-            }
-        });
+        return createLoadBalancerListenersAsync(createLoadBalancerListenersRequest, null);
     }
 
     /**
@@ -1087,23 +994,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateLoadBalancerListenersResult> createLoadBalancerListenersAsync(
+    public ListenableFuture<CreateLoadBalancerListenersResult> createLoadBalancerListenersAsync(
             final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest,
             final AsyncHandler<CreateLoadBalancerListenersRequest, CreateLoadBalancerListenersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerListenersResult>() {
-            public CreateLoadBalancerListenersResult call() throws Exception {
-                CreateLoadBalancerListenersResult result = null;
-                try {
-                    result = createLoadBalancerListeners(createLoadBalancerListenersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLoadBalancerListenersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createLoadBalancerListenersRequest,
+                new CreateLoadBalancerListenersRequestMarshaller(),
+                new CreateLoadBalancerListenersResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1136,14 +1034,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyAsync(
+    public ListenableFuture<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyAsync(
             final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
-            public CreateLoadBalancerPolicyResult call() throws Exception {
-                return createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
-            }
-        });
+        return createLoadBalancerPolicyAsync(createLoadBalancerPolicyRequest, null);
     }
 
     /**
@@ -1176,23 +1070,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyAsync(
+    public ListenableFuture<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyAsync(
             final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest,
             final AsyncHandler<CreateLoadBalancerPolicyRequest, CreateLoadBalancerPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
-            public CreateLoadBalancerPolicyResult call() throws Exception {
-                CreateLoadBalancerPolicyResult result = null;
-                try {
-                    result = createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createLoadBalancerPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createLoadBalancerPolicyRequest,
+                new CreateLoadBalancerPolicyRequestMarshaller(),
+                new CreateLoadBalancerPolicyResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1225,14 +1110,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteLoadBalancerResult> deleteLoadBalancerAsync(
+    public ListenableFuture<DeleteLoadBalancerResult> deleteLoadBalancerAsync(
             final DeleteLoadBalancerRequest deleteLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerResult>() {
-            public DeleteLoadBalancerResult call() throws Exception {
-                return deleteLoadBalancer(deleteLoadBalancerRequest);
-            }
-        });
+        return deleteLoadBalancerAsync(deleteLoadBalancerRequest, null);
     }
 
     /**
@@ -1265,23 +1146,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteLoadBalancerResult> deleteLoadBalancerAsync(
+    public ListenableFuture<DeleteLoadBalancerResult> deleteLoadBalancerAsync(
             final DeleteLoadBalancerRequest deleteLoadBalancerRequest,
             final AsyncHandler<DeleteLoadBalancerRequest, DeleteLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerResult>() {
-            public DeleteLoadBalancerResult call() throws Exception {
-                DeleteLoadBalancerResult result = null;
-                try {
-                    result = deleteLoadBalancer(deleteLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteLoadBalancerRequest,
+                new DeleteLoadBalancerRequestMarshaller(),
+                new DeleteLoadBalancerResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1304,14 +1176,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteLoadBalancerListenersResult> deleteLoadBalancerListenersAsync(
+    public ListenableFuture<DeleteLoadBalancerListenersResult> deleteLoadBalancerListenersAsync(
             final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerListenersResult>() {
-            public DeleteLoadBalancerListenersResult call() throws Exception {
-                return deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
-            }
-        });
+        return deleteLoadBalancerListenersAsync(deleteLoadBalancerListenersRequest, null);
     }
 
     /**
@@ -1334,23 +1202,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteLoadBalancerListenersResult> deleteLoadBalancerListenersAsync(
+    public ListenableFuture<DeleteLoadBalancerListenersResult> deleteLoadBalancerListenersAsync(
             final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest,
             final AsyncHandler<DeleteLoadBalancerListenersRequest, DeleteLoadBalancerListenersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerListenersResult>() {
-            public DeleteLoadBalancerListenersResult call() throws Exception {
-                DeleteLoadBalancerListenersResult result = null;
-                try {
-                    result = deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLoadBalancerListenersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteLoadBalancerListenersRequest,
+                new DeleteLoadBalancerListenersRequestMarshaller(),
+                new DeleteLoadBalancerListenersResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1375,14 +1234,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(
+    public ListenableFuture<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(
             final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
-            public DeleteLoadBalancerPolicyResult call() throws Exception {
-                return deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
-            }
-        });
+        return deleteLoadBalancerPolicyAsync(deleteLoadBalancerPolicyRequest, null);
     }
 
     /**
@@ -1407,23 +1262,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(
+    public ListenableFuture<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(
             final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest,
             final AsyncHandler<DeleteLoadBalancerPolicyRequest, DeleteLoadBalancerPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
-            public DeleteLoadBalancerPolicyResult call() throws Exception {
-                DeleteLoadBalancerPolicyResult result = null;
-                try {
-                    result = deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteLoadBalancerPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteLoadBalancerPolicyRequest,
+                new DeleteLoadBalancerPolicyRequestMarshaller(),
+                new DeleteLoadBalancerPolicyResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1460,14 +1306,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(
+    public ListenableFuture<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(
             final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
-            public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
-                return deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
-            }
-        });
+        return deregisterInstancesFromLoadBalancerAsync(deregisterInstancesFromLoadBalancerRequest, null);
     }
 
     /**
@@ -1504,23 +1346,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(
+    public ListenableFuture<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(
             final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest,
             final AsyncHandler<DeregisterInstancesFromLoadBalancerRequest, DeregisterInstancesFromLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
-            public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
-                DeregisterInstancesFromLoadBalancerResult result = null;
-                try {
-                    result = deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deregisterInstancesFromLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deregisterInstancesFromLoadBalancerRequest,
+                new DeregisterInstancesFromLoadBalancerRequestMarshaller(),
+                new DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1547,14 +1380,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeAccountLimitsResult> describeAccountLimitsAsync(
+    public ListenableFuture<DescribeAccountLimitsResult> describeAccountLimitsAsync(
             final DescribeAccountLimitsRequest describeAccountLimitsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                return describeAccountLimits(describeAccountLimitsRequest);
-            }
-        });
+        return describeAccountLimitsAsync(describeAccountLimitsRequest, null);
     }
 
     /**
@@ -1581,23 +1410,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeAccountLimitsResult> describeAccountLimitsAsync(
+    public ListenableFuture<DescribeAccountLimitsResult> describeAccountLimitsAsync(
             final DescribeAccountLimitsRequest describeAccountLimitsRequest,
             final AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAccountLimitsResult>() {
-            public DescribeAccountLimitsResult call() throws Exception {
-                DescribeAccountLimitsResult result = null;
-                try {
-                    result = describeAccountLimits(describeAccountLimitsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeAccountLimitsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeAccountLimitsRequest,
+                new DescribeAccountLimitsRequestMarshaller(),
+                new DescribeAccountLimitsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1626,14 +1446,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(
+    public ListenableFuture<DescribeInstanceHealthResult> describeInstanceHealthAsync(
             final DescribeInstanceHealthRequest describeInstanceHealthRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
-            public DescribeInstanceHealthResult call() throws Exception {
-                return describeInstanceHealth(describeInstanceHealthRequest);
-            }
-        });
+        return describeInstanceHealthAsync(describeInstanceHealthRequest, null);
     }
 
     /**
@@ -1662,23 +1478,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(
+    public ListenableFuture<DescribeInstanceHealthResult> describeInstanceHealthAsync(
             final DescribeInstanceHealthRequest describeInstanceHealthRequest,
             final AsyncHandler<DescribeInstanceHealthRequest, DescribeInstanceHealthResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
-            public DescribeInstanceHealthResult call() throws Exception {
-                DescribeInstanceHealthResult result = null;
-                try {
-                    result = describeInstanceHealth(describeInstanceHealthRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeInstanceHealthRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeInstanceHealthRequest,
+                new DescribeInstanceHealthRequestMarshaller(),
+                new DescribeInstanceHealthResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1702,14 +1509,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeLoadBalancerAttributesResult> describeLoadBalancerAttributesAsync(
+    public ListenableFuture<DescribeLoadBalancerAttributesResult> describeLoadBalancerAttributesAsync(
             final DescribeLoadBalancerAttributesRequest describeLoadBalancerAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerAttributesResult>() {
-            public DescribeLoadBalancerAttributesResult call() throws Exception {
-                return describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
-            }
-        });
+        return describeLoadBalancerAttributesAsync(describeLoadBalancerAttributesRequest, null);
     }
 
     /**
@@ -1733,23 +1536,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeLoadBalancerAttributesResult> describeLoadBalancerAttributesAsync(
+    public ListenableFuture<DescribeLoadBalancerAttributesResult> describeLoadBalancerAttributesAsync(
             final DescribeLoadBalancerAttributesRequest describeLoadBalancerAttributesRequest,
             final AsyncHandler<DescribeLoadBalancerAttributesRequest, DescribeLoadBalancerAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerAttributesResult>() {
-            public DescribeLoadBalancerAttributesResult call() throws Exception {
-                DescribeLoadBalancerAttributesResult result = null;
-                try {
-                    result = describeLoadBalancerAttributes(describeLoadBalancerAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancerAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLoadBalancerAttributesRequest,
+                new DescribeLoadBalancerAttributesRequestMarshaller(),
+                new DescribeLoadBalancerAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1782,14 +1576,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesAsync(
+    public ListenableFuture<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesAsync(
             final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
-            public DescribeLoadBalancerPoliciesResult call() throws Exception {
-                return describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
-            }
-        });
+        return describeLoadBalancerPoliciesAsync(describeLoadBalancerPoliciesRequest, null);
     }
 
     /**
@@ -1822,23 +1612,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesAsync(
+    public ListenableFuture<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesAsync(
             final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest,
             final AsyncHandler<DescribeLoadBalancerPoliciesRequest, DescribeLoadBalancerPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
-            public DescribeLoadBalancerPoliciesResult call() throws Exception {
-                DescribeLoadBalancerPoliciesResult result = null;
-                try {
-                    result = describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancerPoliciesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLoadBalancerPoliciesRequest,
+                new DescribeLoadBalancerPoliciesRequestMarshaller(),
+                new DescribeLoadBalancerPoliciesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1874,14 +1655,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesAsync(
+    public ListenableFuture<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesAsync(
             final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
-            public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
-                return describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
-            }
-        });
+        return describeLoadBalancerPolicyTypesAsync(describeLoadBalancerPolicyTypesRequest, null);
     }
 
     /**
@@ -1917,23 +1694,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesAsync(
+    public ListenableFuture<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesAsync(
             final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest,
             final AsyncHandler<DescribeLoadBalancerPolicyTypesRequest, DescribeLoadBalancerPolicyTypesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
-            public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
-                DescribeLoadBalancerPolicyTypesResult result = null;
-                try {
-                    result = describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancerPolicyTypesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLoadBalancerPolicyTypesRequest,
+                new DescribeLoadBalancerPolicyTypesRequestMarshaller(),
+                new DescribeLoadBalancerPolicyTypesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1958,14 +1726,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(
+    public ListenableFuture<DescribeLoadBalancersResult> describeLoadBalancersAsync(
             final DescribeLoadBalancersRequest describeLoadBalancersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                return describeLoadBalancers(describeLoadBalancersRequest);
-            }
-        });
+        return describeLoadBalancersAsync(describeLoadBalancersRequest, null);
     }
 
     /**
@@ -1990,23 +1754,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(
+    public ListenableFuture<DescribeLoadBalancersResult> describeLoadBalancersAsync(
             final DescribeLoadBalancersRequest describeLoadBalancersRequest,
             final AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                DescribeLoadBalancersResult result = null;
-                try {
-                    result = describeLoadBalancers(describeLoadBalancersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeLoadBalancersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeLoadBalancersRequest,
+                new DescribeLoadBalancersRequestMarshaller(),
+                new DescribeLoadBalancersResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2029,14 +1784,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeTagsResult> describeTagsAsync(
+    public ListenableFuture<DescribeTagsResult> describeTagsAsync(
             final DescribeTagsRequest describeTagsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-            }
-        });
+        return describeTagsAsync(describeTagsRequest, null);
     }
 
     /**
@@ -2059,23 +1810,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeTagsResult> describeTagsAsync(
+    public ListenableFuture<DescribeTagsResult> describeTagsAsync(
             final DescribeTagsRequest describeTagsRequest,
             final AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                DescribeTagsResult result = null;
-                try {
-                    result = describeTags(describeTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTagsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTagsRequest,
+                new DescribeTagsRequestMarshaller(),
+                new DescribeTagsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2106,14 +1848,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsAsync(
+    public ListenableFuture<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsAsync(
             final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
-            public DetachLoadBalancerFromSubnetsResult call() throws Exception {
-                return detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
-            }
-        });
+        return detachLoadBalancerFromSubnetsAsync(detachLoadBalancerFromSubnetsRequest, null);
     }
 
     /**
@@ -2144,23 +1882,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsAsync(
+    public ListenableFuture<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsAsync(
             final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest,
             final AsyncHandler<DetachLoadBalancerFromSubnetsRequest, DetachLoadBalancerFromSubnetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
-            public DetachLoadBalancerFromSubnetsResult call() throws Exception {
-                DetachLoadBalancerFromSubnetsResult result = null;
-                try {
-                    result = detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detachLoadBalancerFromSubnetsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detachLoadBalancerFromSubnetsRequest,
+                new DetachLoadBalancerFromSubnetsRequestMarshaller(),
+                new DetachLoadBalancerFromSubnetsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2204,15 +1933,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(
+    public ListenableFuture<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(
             final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService
-                .submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
-                    public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                        return disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
-                    }
-                });
+        return disableAvailabilityZonesForLoadBalancerAsync(disableAvailabilityZonesForLoadBalancerRequest, null);
     }
 
     /**
@@ -2256,25 +1980,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(
+    public ListenableFuture<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(
             final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest,
             final AsyncHandler<DisableAvailabilityZonesForLoadBalancerRequest, DisableAvailabilityZonesForLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService
-                .submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
-                    public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                        DisableAvailabilityZonesForLoadBalancerResult result = null;
-                        try {
-                            result = disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
-                        } catch (Exception ex) {
-                            asyncHandler.onError(ex);
-                            throw ex;
-                        }
-                        asyncHandler.onSuccess(disableAvailabilityZonesForLoadBalancerRequest,
-                                result);
-                        return result;
-                    }
-                });
+        return invokeAsync(disableAvailabilityZonesForLoadBalancerRequest,
+                new DisableAvailabilityZonesForLoadBalancerRequestMarshaller(),
+                new DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2311,14 +2024,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(
+    public ListenableFuture<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(
             final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
-            public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                return enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
-            }
-        });
+        return enableAvailabilityZonesForLoadBalancerAsync(enableAvailabilityZonesForLoadBalancerRequest, null);
     }
 
     /**
@@ -2355,23 +2064,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(
+    public ListenableFuture<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(
             final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest,
             final AsyncHandler<EnableAvailabilityZonesForLoadBalancerRequest, EnableAvailabilityZonesForLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
-            public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                EnableAvailabilityZonesForLoadBalancerResult result = null;
-                try {
-                    result = enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(enableAvailabilityZonesForLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(enableAvailabilityZonesForLoadBalancerRequest,
+                new EnableAvailabilityZonesForLoadBalancerRequestMarshaller(),
+                new EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2438,14 +2138,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ModifyLoadBalancerAttributesResult> modifyLoadBalancerAttributesAsync(
+    public ListenableFuture<ModifyLoadBalancerAttributesResult> modifyLoadBalancerAttributesAsync(
             final ModifyLoadBalancerAttributesRequest modifyLoadBalancerAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLoadBalancerAttributesResult>() {
-            public ModifyLoadBalancerAttributesResult call() throws Exception {
-                return modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
-            }
-        });
+        return modifyLoadBalancerAttributesAsync(modifyLoadBalancerAttributesRequest, null);
     }
 
     /**
@@ -2512,23 +2208,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ModifyLoadBalancerAttributesResult> modifyLoadBalancerAttributesAsync(
+    public ListenableFuture<ModifyLoadBalancerAttributesResult> modifyLoadBalancerAttributesAsync(
             final ModifyLoadBalancerAttributesRequest modifyLoadBalancerAttributesRequest,
             final AsyncHandler<ModifyLoadBalancerAttributesRequest, ModifyLoadBalancerAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyLoadBalancerAttributesResult>() {
-            public ModifyLoadBalancerAttributesResult call() throws Exception {
-                ModifyLoadBalancerAttributesResult result = null;
-                try {
-                    result = modifyLoadBalancerAttributes(modifyLoadBalancerAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(modifyLoadBalancerAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(modifyLoadBalancerAttributesRequest,
+                new ModifyLoadBalancerAttributesRequestMarshaller(),
+                new ModifyLoadBalancerAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2583,14 +2270,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(
+    public ListenableFuture<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(
             final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
-            public RegisterInstancesWithLoadBalancerResult call() throws Exception {
-                return registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
-            }
-        });
+        return registerInstancesWithLoadBalancerAsync(registerInstancesWithLoadBalancerRequest, null);
     }
 
     /**
@@ -2645,23 +2328,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(
+    public ListenableFuture<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(
             final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest,
             final AsyncHandler<RegisterInstancesWithLoadBalancerRequest, RegisterInstancesWithLoadBalancerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
-            public RegisterInstancesWithLoadBalancerResult call() throws Exception {
-                RegisterInstancesWithLoadBalancerResult result = null;
-                try {
-                    result = registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(registerInstancesWithLoadBalancerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(registerInstancesWithLoadBalancerRequest,
+                new RegisterInstancesWithLoadBalancerRequestMarshaller(),
+                new RegisterInstancesWithLoadBalancerResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2683,13 +2357,9 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<RemoveTagsResult> removeTagsAsync(final RemoveTagsRequest removeTagsRequest)
+    public ListenableFuture<RemoveTagsResult> removeTagsAsync(final RemoveTagsRequest removeTagsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
-            public RemoveTagsResult call() throws Exception {
-                return removeTags(removeTagsRequest);
-            }
-        });
+        return removeTagsAsync(removeTagsRequest, null);
     }
 
     /**
@@ -2711,22 +2381,13 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<RemoveTagsResult> removeTagsAsync(final RemoveTagsRequest removeTagsRequest,
+    public ListenableFuture<RemoveTagsResult> removeTagsAsync(final RemoveTagsRequest removeTagsRequest,
             final AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RemoveTagsResult>() {
-            public RemoveTagsResult call() throws Exception {
-                RemoveTagsResult result = null;
-                try {
-                    result = removeTags(removeTagsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(removeTagsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(removeTagsRequest,
+                new RemoveTagsRequestMarshaller(),
+                new RemoveTagsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2762,14 +2423,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetLoadBalancerListenerSSLCertificateResult> setLoadBalancerListenerSSLCertificateAsync(
+    public ListenableFuture<SetLoadBalancerListenerSSLCertificateResult> setLoadBalancerListenerSSLCertificateAsync(
             final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerListenerSSLCertificateResult>() {
-            public SetLoadBalancerListenerSSLCertificateResult call() throws Exception {
-                return setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
-            }
-        });
+        return setLoadBalancerListenerSSLCertificateAsync(setLoadBalancerListenerSSLCertificateRequest, null);
     }
 
     /**
@@ -2805,23 +2462,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetLoadBalancerListenerSSLCertificateResult> setLoadBalancerListenerSSLCertificateAsync(
+    public ListenableFuture<SetLoadBalancerListenerSSLCertificateResult> setLoadBalancerListenerSSLCertificateAsync(
             final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest,
             final AsyncHandler<SetLoadBalancerListenerSSLCertificateRequest, SetLoadBalancerListenerSSLCertificateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerListenerSSLCertificateResult>() {
-            public SetLoadBalancerListenerSSLCertificateResult call() throws Exception {
-                SetLoadBalancerListenerSSLCertificateResult result = null;
-                try {
-                    result = setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setLoadBalancerListenerSSLCertificateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setLoadBalancerListenerSSLCertificateRequest,
+                new SetLoadBalancerListenerSSLCertificateRequestMarshaller(),
+                new SetLoadBalancerListenerSSLCertificateResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2872,15 +2520,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetLoadBalancerPoliciesForBackendServerResult> setLoadBalancerPoliciesForBackendServerAsync(
+    public ListenableFuture<SetLoadBalancerPoliciesForBackendServerResult> setLoadBalancerPoliciesForBackendServerAsync(
             final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService
-                .submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
-                    public SetLoadBalancerPoliciesForBackendServerResult call() throws Exception {
-                        return setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
-                    }
-                });
+        return setLoadBalancerPoliciesForBackendServerAsync(setLoadBalancerPoliciesForBackendServerRequest, null);
     }
 
     /**
@@ -2931,25 +2574,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetLoadBalancerPoliciesForBackendServerResult> setLoadBalancerPoliciesForBackendServerAsync(
+    public ListenableFuture<SetLoadBalancerPoliciesForBackendServerResult> setLoadBalancerPoliciesForBackendServerAsync(
             final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest,
             final AsyncHandler<SetLoadBalancerPoliciesForBackendServerRequest, SetLoadBalancerPoliciesForBackendServerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService
-                .submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
-                    public SetLoadBalancerPoliciesForBackendServerResult call() throws Exception {
-                        SetLoadBalancerPoliciesForBackendServerResult result = null;
-                        try {
-                            result = setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
-                        } catch (Exception ex) {
-                            asyncHandler.onError(ex);
-                            throw ex;
-                        }
-                        asyncHandler.onSuccess(setLoadBalancerPoliciesForBackendServerRequest,
-                                result);
-                        return result;
-                    }
-                });
+        return invokeAsync(setLoadBalancerPoliciesForBackendServerRequest,
+                new SetLoadBalancerPoliciesForBackendServerRequestMarshaller(),
+                new SetLoadBalancerPoliciesForBackendServerResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2990,14 +2622,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(
+    public ListenableFuture<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(
             final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-                return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
-            }
-        });
+        return setLoadBalancerPoliciesOfListenerAsync(setLoadBalancerPoliciesOfListenerRequest, null);
     }
 
     /**
@@ -3038,23 +2666,14 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      *             Elastic Load Balancing indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(
+    public ListenableFuture<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(
             final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest,
             final AsyncHandler<SetLoadBalancerPoliciesOfListenerRequest, SetLoadBalancerPoliciesOfListenerResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-                SetLoadBalancerPoliciesOfListenerResult result = null;
-                try {
-                    result = setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setLoadBalancerPoliciesOfListenerRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setLoadBalancerPoliciesOfListenerRequest,
+                new SetLoadBalancerPoliciesOfListenerRequestMarshaller(),
+                new SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
 }
@@ -50,7 +50,6 @@ import org.junit.Test;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -165,19 +164,23 @@ public class KinesisRecorderIntegrationTest extends KinesisRecorderIntegrationTe
         final String streamName = "stream34";
 
         final FileManager fileManager = new FileManager(directory);
-        final FileRecordStore recordStore = new FileRecordStore(directory,
-                Constants.RECORDS_FILE_NAME, 100L);
 
-        final File recordsDirectory = fileManager.getDirectory(Constants.RECORDS_DIRECTORY);
+        final File recordsDirectory = fileManager.createDirectory(Constants.RECORDS_DIRECTORY);
         final File recordsFile = new File(recordsDirectory, Constants.RECORDS_FILE_NAME);
         
         final PrintWriter out = new PrintWriter(recordsFile);
         out.println();
         out.println(streamName + ",base64string");
         out.close();
-        
+
+        // The lines are moved into the log when the store is created.
+        final SegmentedRecordStore recordStore = new SegmentedRecordStore(directory,
+                Constants.RECORDS_FILE_NAME, 1024L);
+
         Log.d(TAG, "Reading next batch of records...");
-        final String nextStream = recorder.nextBatch(recordStore.iterator(), new ArrayList<byte[]>(), 3, 1024);
+        final List<AbstractKinesisRecorder.Batch> batches = recorder.nextBatches(
+                recordStore.iterator(), 3, 1024, 1024);
+        final String nextStream = batches.isEmpty() ? null : batches.get(0).streamName;
         Log.d(TAG, "Finished reading records.");
         
         assertTrue("Stream should not be null due to corrupt line in file.",
@@ -189,19 +192,23 @@ public class KinesisRecorderIntegrationTest extends KinesisRecorderIntegrationTe
         final String streamName = "stream34";
 
         final FileManager fileManager = new FileManager(directory);
-        final FileRecordStore recordStore = new FileRecordStore(directory,
-                Constants.RECORDS_FILE_NAME, 100L);
 
-        final File recordsDirectory = fileManager.getDirectory(Constants.RECORDS_DIRECTORY);
+        final File recordsDirectory = fileManager.createDirectory(Constants.RECORDS_DIRECTORY);
         final File recordsFile = new File(recordsDirectory, Constants.RECORDS_FILE_NAME);
         
         final PrintWriter out = new PrintWriter(recordsFile);
         out.println("_____");
         out.println(streamName + ",base64string");
         out.close();
-        
+
+        // The lines are moved into the log when the store is created.
+        final SegmentedRecordStore recordStore = new SegmentedRecordStore(directory,
+                Constants.RECORDS_FILE_NAME, 1024L);
+
         Log.d(TAG, "Reading next batch of records...");
-        final String nextStream = recorder.nextBatch(recordStore.iterator(), new ArrayList<byte[]>(), 3, 1024);
+        final List<AbstractKinesisRecorder.Batch> batches = recorder.nextBatches(
+                recordStore.iterator(), 3, 1024, 1024);
+        final String nextStream = batches.isEmpty() ? null : batches.get(0).streamName;
         Log.d(TAG, "Finished reading records.");
         
         assertTrue("Stream should not be null due to corrupt line in file.",
@@ -17,7 +17,8 @@ package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 
 import com.amazonaws.AmazonClientException;
-import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.FileRecordStore.RecordIterator;
+import com.amazonaws.async.SharedExecutors;
+import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.SegmentedRecordStore.RecordIterator;
 import com.amazonaws.util.StringUtils;
 
 import com.amazonaws.logging.Log;
@@ -25,7 +26,14 @@ import com.amazonaws.logging.LogFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * An abstract class for Amazon Kinesis recorders. It manages local file store
@@ -36,22 +44,33 @@ public abstract class AbstractKinesisRecorder {
     private static final int MAX_RETRY_COUNT = 3;
 
     /**
-     * Maximum number of records per batch. Note that Kinesis Stream and Kinesis
-     * Firehose have much higher limits. The limits are lowered for performance
-     * consideration.
+     * Maximum number of records per request: the limit of both PutRecords
+     * and PutRecordBatch.
      */
-    private static final int MAX_RECORDS_PER_BATCH = 128;
+    private static final int MAX_RECORDS_PER_REQUEST = 500;
     /**
-     * Maximum size in bytes of records in PutRecordBatch.
+     * Maximum size in bytes of the records per request: the lower limit, of
+     * PutRecordBatch.
      */
-    private static final int MAX_BATCH_RECORDS_SIZE_BYTES = 512 * 1024;
+    private static final int MAX_REQUEST_RECORDS_SIZE_BYTES = 4 * 1024 * 1024;
+    /**
+     * Size in bytes of the records read and sent by submitAllRecords() before
+     * the sent ones are removed.
+     */
+    private static final int MAX_ROUND_SIZE_BYTES = 5 * 1024 * 1024;
 
     /**
      * The configurable options for Kinesis Recorder, includes the
      * ClientConfiguration of the low level client.
      */
     protected KinesisRecorderConfig config;
-    protected FileRecordStore recordStore;
+    protected SegmentedRecordStore recordStore;
+
+    /** Sends the batches of submitAllRecords(); guarded by this. */
+    private ExecutorService batchExecutor;
+
+    /** Submits the records in the background, or null if disabled. */
+    private final AutoFlusher autoFlusher;
 
     /**
      * Gets the sender to send saved records.
@@ -66,12 +85,28 @@ public abstract class AbstractKinesisRecorder {
      * @param recordStore local file store that keeps Kinesis records
      * @param config configuration
      */
-    protected AbstractKinesisRecorder(FileRecordStore recordStore, KinesisRecorderConfig config) {
+    protected AbstractKinesisRecorder(SegmentedRecordStore recordStore,
+            KinesisRecorderConfig config) {
         if (recordStore == null) {
             throw new IllegalArgumentException("Record store can't be null");
         }
         this.recordStore = recordStore;
         this.config = config;
+        autoFlusher = config != null && config.isAutoFlushEnabled()
+                ? new AutoFlusher(this, config) : null;
+    }
+
+    /**
+     * Starts submitting the saved records in the background if auto flush is
+     * enabled, including the records a previous run of the app left.
+     * Subclasses call it at the end of their constructors, once they can send
+     * records; otherwise it starts with the first saved record.
+     */
+    protected final void startAutoFlush() {
+        if (autoFlusher != null) {
+            // Records left by a previous run are as old as this recorder.
+            autoFlusher.start(recordStore.getFileSize());
+        }
     }
 
     /**
@@ -97,10 +132,13 @@ public abstract class AbstractKinesisRecorder {
      */
     public void saveRecord(byte[] data, String streamName) {
         try {
-            recordStore.put(FileRecordParser.asString(streamName, data));
+            recordStore.put(FileRecordParser.asBytes(streamName, data));
         } catch (final IOException e) {
             throw new AmazonClientException("Error saving record", e);
         }
+        if (autoFlusher != null) {
+            autoFlusher.onRecordSaved(recordStore.getFileSize());
+        }
     }
 
     /**
@@ -111,6 +149,12 @@ public abstract class AbstractKinesisRecorder {
      * invalid) will be deleted. Note: Since KinesisRecorder uses synchronous
      * methods to make calls to Amazon Kinesis, do not call submitAll() on the
      * main thread of your application.
+     * <p>
+     * Saved records are read in rounds of up to 5 MB, grouped by stream into
+     * batches as large as the services allow, and the batches of a round are
+     * sent at the same time, up to
+     * {@link KinesisRecorderConfig#getMaxConcurrentBatches()} at once. Only the
+     * records the service rejected are saved again to be retried.
      *
      * @throws AmazonClientException Thrown if there was an unrecoverable error
      *             during submission. Note: If the request appears to be
@@ -118,93 +162,103 @@ public abstract class AbstractKinesisRecorder {
      *             to be valid, it will be kept.
      */
     public synchronized void submitAllRecords() {
+        submitRecords();
+    }
+
+    /**
+     * Submits all the saved records like {@link #submitAllRecords()}.
+     *
+     * @return the number of records the service accepted.
+     */
+    synchronized int submitRecords() {
         final RecordSender sender = getRecordSender();
         final RecordIterator iterator = recordStore.iterator();
-        final List<byte[]> data = new ArrayList<byte[]>(MAX_RECORDS_PER_BATCH);
+        final AtomicBoolean unknownErrorRetried = new AtomicBoolean();
         int retry = 0;
         int count = 0;
-        boolean unknownErrorRetried = false;
         try {
             while (iterator.hasNext() && retry < MAX_RETRY_COUNT) {
-                final String streamName = nextBatch(iterator, data, MAX_RECORDS_PER_BATCH,
-                        MAX_BATCH_RECORDS_SIZE_BYTES);
-                if (streamName == null || data.isEmpty()) {
+                final List<Batch> batches = nextBatches(iterator, MAX_RECORDS_PER_REQUEST,
+                        MAX_REQUEST_RECORDS_SIZE_BYTES, MAX_ROUND_SIZE_BYTES);
+                if (batches.isEmpty()) {
                     break;
                 }
+                sendBatches(sender, batches, unknownErrorRetried);
 
-                try {
-
-                    List<byte[]> failures = null;
-                    try {
-                        failures = sender.sendBatch(streamName, data);
-                    } catch (AmazonClientException ace) {
-                        if (!unknownErrorRetried
-                                && ace.getMessage() != null
-                                && ace.getMessage().contains("Unable to unmarshall error response")) {
-                            // Retry once for unforeseen error, possible kinesis error without shape
-                            unknownErrorRetried = true;
-                            failures = data;
-                        } else {
-                            throw ace;
-                        }
-                    }
-
-                    final int successCount = data.size() - failures.size();
-                    count += successCount;
-
-                    /**
-                     * We hold off on removing records until we are sure that we
-                     * have successfully made the request. We would prefer to
-                     * send duplicates than to lose records. This is still not a
-                     * perfect solution as there is a chance for loss between
-                     * removing the read records and re-saving the failed
-                     * records.
-                     * https://github.com/aws/aws-sdk-android/issues/225 If this
-                     * errors it will throw an IOException. We don't wrap it so
-                     * it's handled separately from network errors which will be
-                     * wrapped by an AmazonClientException.
-                     */
-                    iterator.removeReadRecords();
-
-                    if (successCount == 0) {
-                        // no record went through, increase retry count.
-                        retry++;
-                    }
-                    if (!failures.isEmpty()) {
-                        for (final byte[] bytes : failures) {
-                            saveRecord(bytes, streamName);
+                int successCount = 0;
+                boolean allRecoverable = true;
+                AmazonClientException error = null;
+                for (final Batch batch : batches) {
+                    if (batch.exception == null) {
+                        successCount += batch.data.size() - batch.failures.size();
+                        allRecoverable = false;
+                    } else {
+                        allRecoverable &= sender.isRecoverable(batch.exception);
+                        if (error == null) {
+                            error = batch.exception;
                         }
                     }
+                }
+                if (allRecoverable) {
+                    // Nothing went through, e.g. the device is offline; keep
+                    // the records where they are.
+                    LOGGER.error(
+                            "ServiceException in submit all, the values of the data inside the requests appears valid.  The request will be kept",
+                            error);
+                    throw error;
+                }
 
-                } catch (final AmazonClientException ace) {
-                    if (sender.isRecoverable(ace)) {
+                // Records the store had no room for while the round is kept.
+                final List<Batch> unsaved = new ArrayList<Batch>();
+                for (final Batch batch : batches) {
+                    if (batch.exception == null) {
+                        resave(batch.streamName, batch.failures, unsaved);
+                    } else if (sender.isRecoverable(batch.exception)) {
                         LOGGER.error(
                                 "ServiceException in submit all, the values of the data inside the requests appears valid.  The request will be kept",
-                                ace);
+                                batch.exception);
+                        resave(batch.streamName, batch.data, unsaved);
                     } else {
-
                         // Data is dead and should be added to dead letter queue
-                        try {
-                            this.config.getDeadLetterListener().onRecordsDropped(streamName, data);
-                        } catch (Exception e) {
-                            LOGGER.error("DeadLetterListener onRecordsDropped has thrown an exception (user code)", e);
-                        }
-
-                        try {
-                            iterator.removeReadRecords();
-                        } catch (final IOException e) {
-                            throw new AmazonClientException("Failed to drop bad records.", e);
-                        }
+                        notifyRecordsDropped(batch.streamName, batch.data);
                         // We have reason to believe the values in the request
                         // is invalid and cannot be sent or recovered.
                         LOGGER.error(
                                 "ServiceException in submit all, the last request is presumed to be the cause and will be dropped",
-                                ace);
+                                batch.exception);
                     }
-                    throw ace;
+                }
+
+                /**
+                 * We hold off on removing records until the records to retry
+                 * are saved again. We would prefer to send duplicates than to
+                 * lose records. https://github.com/aws/aws-sdk-android/issues/225
+                 */
+                try {
+                    iterator.removeReadRecords();
                 } catch (final IOException e) {
                     throw new AmazonClientException("Failed to remove read records", e);
                 }
+                // With the round removed there is room for the records left
+                // over, as they are part of it.
+                for (final Batch batch : unsaved) {
+                    final List<Batch> dropped = new ArrayList<Batch>();
+                    resave(batch.streamName, batch.data, dropped);
+                    for (final Batch lost : dropped) {
+                        LOGGER.error("Local storage is full, dropping " + lost.data.size()
+                                + " records to retry");
+                        notifyRecordsDropped(lost.streamName, lost.data);
+                    }
+                }
+                count += successCount;
+
+                if (error != null) {
+                    throw error;
+                }
+                if (successCount == 0) {
+                    // no record went through, increase retry count.
+                    retry++;
+                }
             }
         } finally {
             LOGGER.debug(String.format("submitAllRecords sent %d records", count));
@@ -214,56 +268,167 @@ public abstract class AbstractKinesisRecorder {
                 throw new AmazonClientException("Failed to close record file", e);
             }
         }
+        return count;
+    }
+
+    /**
+     * Saves records again to be retried. The records the store has no room
+     * for are added to unsaved as a batch.
+     */
+    private void resave(String streamName, List<byte[]> data, List<Batch> unsaved) {
+        // Put directly so records kept by a submission don't trigger another.
+        for (int i = 0; i < data.size(); i++) {
+            final boolean saved;
+            try {
+                saved = recordStore.put(FileRecordParser.asBytes(streamName, data.get(i)));
+            } catch (final IOException e) {
+                throw new AmazonClientException("Error saving record", e);
+            }
+            if (!saved) {
+                final Batch batch = new Batch(streamName);
+                batch.data.addAll(data.subList(i, data.size()));
+                unsaved.add(batch);
+                return;
+            }
+        }
+    }
+
+    private void notifyRecordsDropped(String streamName, List<byte[]> data) {
+        final DeadLetterListener listener = config.getDeadLetterListener();
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onRecordsDropped(streamName, data);
+        } catch (Exception e) {
+            LOGGER.error("DeadLetterListener onRecordsDropped has thrown an exception (user code)", e);
+        }
     }
 
     /**
-     * Reads a batch of records belong to the same stream into a list. If data
-     * is read successfully, the stream name is returned.
+     * Reads a round of records, and groups them by stream into batches.
      *
      * @param iterator record iterator
-     * @param data a list to hold data.
      * @param maxCount maximum number of records in a batch
-     * @param maxSize a threshold that concludes a batch. It allows one extra
-     *            record that brings the total size over this threshold.
-     * @return the stream name that the batch belongs to
+     * @param maxSize maximum size of the records in a batch, unless a single
+     *            record is larger
+     * @param maxRoundSize a threshold that concludes the round. It allows one
+     *            extra record that brings the total size over this threshold.
+     * @return the batches, in the order of their first records
      */
-    protected String nextBatch(RecordIterator iterator, List<byte[]> data, int maxCount,
-            int maxSize) {
-        data.clear();
-
-        String lastStreamName = null;
-        int size = 0;
-        int count = 0;
+    List<Batch> nextBatches(RecordIterator iterator, int maxCount, int maxSize,
+            int maxRoundSize) {
+        final List<Batch> batches = new ArrayList<Batch>();
+        final Map<String, Batch> openBatches = new HashMap<String, Batch>();
         final FileRecordParser frp = new FileRecordParser();
-        while (iterator.hasNext() && count < maxCount && size < maxSize) {
-            final String line = iterator.peek();
-            if (line == null || line.isEmpty()) {
-                iterator.next();
+        int roundSize = 0;
+        while (roundSize < maxRoundSize && iterator.hasNext()) {
+            final byte[] record = iterator.next();
+            if (record == null || record.length == 0) {
                 continue;
             }
-            // parse a line. Skip in case of corrupted data
+            // parse a record. Skip in case of corrupted data
             try {
-                frp.parse(line);
+                frp.parse(record);
             } catch (final Exception e) {
-                LOGGER.warn("Failed to read line. Skip.", e);
-                iterator.next();
+                LOGGER.warn("Failed to read record. Skip.", e);
                 continue;
             }
 
-            // check whether it belongs to previous batch
-            if (lastStreamName == null || lastStreamName.equals(frp.streamName)) {
-                data.add(frp.bytes);
-                // update counter
-                count++;
-                size += frp.bytes.length;
-                lastStreamName = frp.streamName;
-                iterator.next();
-            } else {
-                break;
+            Batch batch = openBatches.get(frp.streamName);
+            if (batch == null || batch.data.size() >= maxCount
+                    || batch.size + frp.bytes.length > maxSize) {
+                batch = new Batch(frp.streamName);
+                openBatches.put(frp.streamName, batch);
+                batches.add(batch);
             }
+            batch.data.add(frp.bytes);
+            batch.size += frp.bytes.length;
+            roundSize += frp.bytes.length;
         }
+        return batches;
+    }
 
-        return lastStreamName;
+    /**
+     * Sends the batches, several at a time, and waits for all of them.
+     */
+    private void sendBatches(final RecordSender sender, List<Batch> batches,
+            final AtomicBoolean unknownErrorRetried) {
+        if (batches.size() == 1) {
+            batches.get(0).send(sender, unknownErrorRetried);
+            return;
+        }
+        final ExecutorService executor = getBatchExecutor();
+        final List<Future<?>> futures = new ArrayList<Future<?>>(batches.size());
+        for (final Batch batch : batches) {
+            futures.add(executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    batch.send(sender, unknownErrorRetried);
+                }
+            }));
+        }
+        try {
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            for (final Future<?> future : futures) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while submitting records", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new AmazonClientException("Failed to submit records", cause);
+        }
+    }
+
+    private ExecutorService getBatchExecutor() {
+        if (batchExecutor == null) {
+            batchExecutor = SharedExecutors.newServiceExecutor(config.getMaxConcurrentBatches());
+        }
+        return batchExecutor;
+    }
+
+    /**
+     * Records of one stream sent in one request, and the outcome.
+     */
+    static final class Batch {
+        final String streamName;
+        final List<byte[]> data = new ArrayList<byte[]>();
+        int size;
+
+        /** The records to retry, if the request was made. */
+        List<byte[]> failures;
+        /** Why the request failed. */
+        AmazonClientException exception;
+
+        Batch(String streamName) {
+            this.streamName = streamName;
+        }
+
+        void send(RecordSender sender, AtomicBoolean unknownErrorRetried) {
+            try {
+                final List<byte[]> result = sender.sendBatch(streamName, data);
+                failures = result == null ? Collections.<byte[]> emptyList() : result;
+            } catch (final AmazonClientException ace) {
+                if (ace.getMessage() != null
+                        && ace.getMessage().contains("Unable to unmarshall error response")
+                        && unknownErrorRetried.compareAndSet(false, true)) {
+                    // Retry once for unforeseen error, possible kinesis error without shape
+                    failures = data;
+                } else {
+                    exception = ace;
+                }
+            }
+        }
     }
 
     /**
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Submits the records of a recorder in the background once enough of them
+ * are saved, they take enough space, or the oldest of them is old enough.
+ * Failed submissions, and those that leave records the service rejected, are
+ * retried with exponential backoff.
+ *
+ * @see KinesisRecorderConfig#withAutoFlushRecordCount(int)
+ * @see KinesisRecorderConfig#withAutoFlushByteThreshold(long)
+ * @see KinesisRecorderConfig#withAutoFlushMaxRecordAge(long)
+ */
+class AutoFlusher {
+    private static final Log LOGGER = LogFactory.getLog(AutoFlusher.class);
+
+    static final long INITIAL_BACKOFF_MILLIS = 1000;
+    static final long MAX_BACKOFF_MILLIS = 5 * 60 * 1000;
+
+    /**
+     * Runs the submissions of all the recorders, one at a time, so they
+     * never compete with each other or with the app for the network.
+     */
+    private static final ScheduledExecutorService WORKER = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactory() {
+                private final AtomicInteger threadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r,
+                            "KinesisRecorderFlush-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    private final AbstractKinesisRecorder recorder;
+    private final int recordCount;
+    private final long byteThreshold;
+    private final long maxRecordAgeMillis;
+    private final long initialBackoffMillis;
+
+    // All fields below are guarded by this.
+
+    /** The records saved since the last submission. */
+    private int savedCount;
+    /** When the oldest record not submitted was saved, or -1 if none. */
+    private long oldestRecordMillis = -1;
+
+    private boolean started;
+    private ScheduledFuture<?> pendingFlush;
+    /** When the pending flush runs. */
+    private long pendingFlushMillis;
+
+    private int failureCount;
+    /** No flush runs before this time after a failure. */
+    private long backoffUntilMillis;
+
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+
+    AutoFlusher(AbstractKinesisRecorder recorder, KinesisRecorderConfig config) {
+        this(recorder, config, INITIAL_BACKOFF_MILLIS);
+    }
+
+    AutoFlusher(AbstractKinesisRecorder recorder, KinesisRecorderConfig config,
+            long initialBackoffMillis) {
+        this.recorder = recorder;
+        this.recordCount = config.getAutoFlushRecordCount();
+        this.byteThreshold = config.getAutoFlushByteThreshold();
+        this.maxRecordAgeMillis = config.getAutoFlushMaxRecordAge();
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
+    /**
+     * Starts counting the age of the records a previous run of the app left,
+     * if any. Does nothing once started.
+     *
+     * @param diskBytesUsed the size of the saved records.
+     */
+    synchronized void start(long diskBytesUsed) {
+        if (started) {
+            return;
+        }
+        started = true;
+        if (diskBytesUsed > 0) {
+            recordSaved(diskBytesUsed, false);
+        }
+    }
+
+    /**
+     * Called after a record is saved.
+     *
+     * @param diskBytesUsed the size of the saved records, including this one.
+     */
+    synchronized void onRecordSaved(long diskBytesUsed) {
+        // The records of a previous run count from now on as well.
+        started = true;
+        recordSaved(diskBytesUsed, true);
+    }
+
+    private void recordSaved(long diskBytesUsed, boolean counted) {
+        final long now = System.currentTimeMillis();
+        if (counted) {
+            savedCount++;
+        }
+        if (oldestRecordMillis < 0) {
+            oldestRecordMillis = now;
+        }
+        if ((recordCount > 0 && savedCount >= recordCount)
+                || (byteThreshold > 0 && diskBytesUsed >= byteThreshold)) {
+            scheduleFlush(now);
+        } else if (maxRecordAgeMillis > 0) {
+            scheduleFlush(oldestRecordMillis + maxRecordAgeMillis);
+        }
+    }
+
+    /**
+     * Makes a flush run at the given time, or earlier if one is scheduled
+     * already, but not before the backoff ends.
+     */
+    private void scheduleFlush(long atMillis) {
+        final long runAt = Math.max(atMillis, backoffUntilMillis);
+        if (pendingFlush != null) {
+            if (pendingFlushMillis <= runAt) {
+                return;
+            }
+            pendingFlush.cancel(false);
+        }
+        pendingFlushMillis = runAt;
+        pendingFlush = WORKER.schedule(flushTask,
+                Math.max(0, runAt - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        synchronized (this) {
+            pendingFlush = null;
+            savedCount = 0;
+        }
+        int sentCount = -1;
+        try {
+            sentCount = recorder.submitRecords();
+        } catch (final RuntimeException e) {
+            LOGGER.error("Failed to submit records in the background", e);
+        }
+
+        final long diskBytesUsed = recorder.getDiskBytesUsed();
+        // A flush that sent nothing of what is left, or left enough to
+        // trigger another one at once, backs off too instead of spinning,
+        // e.g. when the service rejects every record.
+        final boolean succeeded = sentCount >= 0
+                && (sentCount > 0 || diskBytesUsed == 0)
+                && (byteThreshold <= 0 || diskBytesUsed < byteThreshold);
+        if (sentCount >= 0 && !succeeded) {
+            LOGGER.warn("Records are left after submitting in the background, retrying later");
+        }
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            if (succeeded) {
+                failureCount = 0;
+                backoffUntilMillis = 0;
+            } else {
+                final long backoff = Math.min(MAX_BACKOFF_MILLIS,
+                        initialBackoffMillis << Math.min(failureCount, 20));
+                failureCount++;
+                backoffUntilMillis = now + backoff;
+            }
+            // Records saved while submitting, or kept by it, are due later.
+            savedCount = 0;
+            oldestRecordMillis = -1;
+            if (diskBytesUsed > 0) {
+                if (succeeded) {
+                    recordSaved(diskBytesUsed, false);
+                } else {
+                    // A flush requested while submitting waits for the backoff too.
+                    if (pendingFlush != null) {
+                        pendingFlush.cancel(false);
+                        pendingFlush = null;
+                    }
+                    oldestRecordMillis = now;
+                    scheduleFlush(backoffUntilMillis);
+                }
+            }
+        }
+    }
+}
@@ -16,11 +16,15 @@
 package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 import com.amazonaws.util.Base64;
+import com.amazonaws.util.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
- * A parser for Kinesis records. It has a helper method to serialize a Kinesis
- * record. The serialized data can be read via {@link #parse(String)}. It's not
- * thread safe.
+ * A parser for Kinesis records. It has helper methods to serialize a Kinesis
+ * record, as a line of text or as bytes. The serialized data can be read via
+ * {@link #parse(String)} or {@link #parse(byte[])}. It's not thread safe.
  */
 class FileRecordParser {
     /**
@@ -28,6 +32,12 @@ class FileRecordParser {
      */
     private static final String DELIMITER = ",";
 
+    /**
+     * The length of the stream name before it in a serialized record.
+     */
+    private static final int NAME_LENGTH_SIZE = 2;
+    private static final int MAX_NAME_LENGTH = 0xFFFF;
+
     String streamName;
     byte[] bytes;
 
@@ -45,6 +55,24 @@ class FileRecordParser {
         bytes = Base64.decode(parts[1]);
     }
 
+    /**
+     * Parses a Kinesis record from the bytes made by
+     * {@link #asBytes(String, byte[])}.
+     *
+     * @param record the bytes to parse
+     */
+    void parse(byte[] record) {
+        if (record.length < NAME_LENGTH_SIZE) {
+            throw new IllegalArgumentException("Invalid record of " + record.length + " bytes");
+        }
+        final int nameLength = ((record[0] & 0xFF) << 8) | (record[1] & 0xFF);
+        if (NAME_LENGTH_SIZE + nameLength > record.length) {
+            throw new IllegalArgumentException("Invalid record of " + record.length + " bytes");
+        }
+        streamName = new String(record, NAME_LENGTH_SIZE, nameLength, StringUtils.UTF8);
+        bytes = Arrays.copyOfRange(record, NAME_LENGTH_SIZE + nameLength, record.length);
+    }
+
     @Override
     public String toString() {
         return asString(streamName, bytes);
@@ -60,4 +88,22 @@ class FileRecordParser {
     public static String asString(String streamName, byte[] bytes) {
         return streamName + DELIMITER + Base64.encodeAsString(bytes);
     }
+
+    /**
+     * A convenient method that serialize a Kinesis record into bytes: the
+     * length of the UTF-8 encoded stream name in two bytes, the stream name
+     * and the data.
+     *
+     * @param streamName the stream name of the Kinesis record
+     * @param bytes data to be serialized
+     * @return the serialized record
+     */
+    public static byte[] asBytes(String streamName, byte[] bytes) {
+        final byte[] name = streamName.getBytes(StringUtils.UTF8);
+        if (name.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Stream name is too long");
+        }
+        return ByteBuffer.allocate(NAME_LENGTH_SIZE + name.length + bytes.length)
+                .putShort((short) name.length).put(name).put(bytes).array();
+    }
 }
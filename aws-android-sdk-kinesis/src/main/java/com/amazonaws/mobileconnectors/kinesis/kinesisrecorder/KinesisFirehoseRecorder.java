@@ -160,13 +160,14 @@ public class KinesisFirehoseRecorder extends AbstractKinesisRecorder {
      */
     public KinesisFirehoseRecorder(File directory, Regions region,
             AWSCredentialsProvider credentialsProvider, KinesisRecorderConfig config) {
-        super(new FileRecordStore(directory, RECORD_FILE_NAME,
+        super(new SegmentedRecordStore(directory, RECORD_FILE_NAME,
                 config.getMaxStorageSize()), config);
 
         AmazonKinesisFirehose client = new AmazonKinesisFirehoseClient(credentialsProvider,
                 config.getClientConfiguration());
         client.setRegion(Region.getRegion(region));
         sender = new FirehoseRecordSender(client, USER_AGENT);
+        startAutoFlush();
     }
 
     /**
@@ -177,10 +178,11 @@ public class KinesisFirehoseRecorder extends AbstractKinesisRecorder {
      * @param recordStore record store
      * @param config configuration
      */
-    KinesisFirehoseRecorder(FirehoseRecordSender sender, FileRecordStore recordStore,
+    KinesisFirehoseRecorder(FirehoseRecordSender sender, SegmentedRecordStore recordStore,
             KinesisRecorderConfig config) {
         super(recordStore, config);
         this.sender = sender;
+        startAutoFlush();
     }
 
     @Override
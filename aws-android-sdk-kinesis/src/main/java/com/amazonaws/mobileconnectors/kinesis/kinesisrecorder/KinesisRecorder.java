@@ -143,7 +143,7 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
      */
     public KinesisRecorder(File directory, Regions region,
             AWSCredentialsProvider credentialsProvider, KinesisRecorderConfig config) {
-        super(new FileRecordStore(directory, RECORD_FILE_NAME,
+        super(new SegmentedRecordStore(directory, RECORD_FILE_NAME,
                 config.getMaxStorageSize()), config);
 
         if (directory == null || credentialsProvider == null || region == null || config == null) {
@@ -154,9 +154,13 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
         final AmazonKinesis client = new AmazonKinesisClient(credentialsProvider,
                 config.getClientConfiguration());
         client.setRegion(Region.getRegion(region));
-        sender = new KinesisStreamRecordSender(client, USER_AGENT, config.getPartitionKey());
+        sender = config.getPartitionKeyStrategy() != null
+                ? new KinesisStreamRecordSender(client, USER_AGENT,
+                        config.getPartitionKeyStrategy())
+                : new KinesisStreamRecordSender(client, USER_AGENT, config.getPartitionKey());
 
         checkUpgrade(directory);
+        startAutoFlush();
     }
 
     /**
@@ -167,10 +171,11 @@ public class KinesisRecorder extends AbstractKinesisRecorder {
      * @param recordStore record store
      * @param config configuration
      */
-    KinesisRecorder(KinesisStreamRecordSender sender, FileRecordStore recordStore,
+    KinesisRecorder(KinesisStreamRecordSender sender, SegmentedRecordStore recordStore,
             KinesisRecorderConfig config) {
         super(recordStore, config);
         this.sender = sender;
+        startAutoFlush();
     }
 
     private void checkUpgrade(final File directory) {
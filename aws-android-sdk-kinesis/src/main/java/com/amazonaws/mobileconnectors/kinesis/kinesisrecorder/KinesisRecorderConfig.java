@@ -24,9 +24,15 @@ import com.amazonaws.ClientConfiguration;
 public class KinesisRecorderConfig {
 
     private static final long DEFAUT_MAX_STORAGE_SIZE = 1024 * 1024 * 5L;
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
     private long maxStorageSize = DEFAUT_MAX_STORAGE_SIZE;
+    private int maxConcurrentBatches = DEFAULT_MAX_CONCURRENT_BATCHES;
+    private int autoFlushRecordCount;
+    private long autoFlushByteThreshold;
+    private long autoFlushMaxRecordAge;
     private final ClientConfiguration clientConfiguration;
     private String partitionKey;
+    private PartitionKeyStrategy partitionKeyStrategy;
     private DeadLetterListener mDeadLetterListener;
 
     /**
@@ -61,6 +67,11 @@ public class KinesisRecorderConfig {
         this.maxStorageSize = other.getMaxStorageSize();
         this.clientConfiguration = new ClientConfiguration(other.getClientConfiguration());
         this.partitionKey = other.partitionKey;
+        this.partitionKeyStrategy = other.partitionKeyStrategy;
+        this.maxConcurrentBatches = other.maxConcurrentBatches;
+        this.autoFlushRecordCount = other.autoFlushRecordCount;
+        this.autoFlushByteThreshold = other.autoFlushByteThreshold;
+        this.autoFlushMaxRecordAge = other.autoFlushMaxRecordAge;
     }
 
     /**
@@ -74,6 +85,21 @@ public class KinesisRecorderConfig {
         return this;
     }
 
+    /**
+     * Optionally set how the partition keys of records are chosen, e.g.
+     * {@link PartitionKeyStrategies#shardRoundRobin(long)}. It takes
+     * precedence over the partition key. By default, records get the
+     * partition key if set, or random partition keys otherwise.
+     *
+     * @param partitionKeyStrategy the partition key strategy.
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withPartitionKeyStrategy(
+            PartitionKeyStrategy partitionKeyStrategy) {
+        this.partitionKeyStrategy = partitionKeyStrategy;
+        return this;
+    }
+
     /**
      * Sets the max storage in bytes that KinesisRecorder is allowed to use.
      * Requests saved that exceed the max storage limit will be dropped.
@@ -94,6 +120,108 @@ public class KinesisRecorderConfig {
         return this.maxStorageSize;
     }
 
+    /**
+     * Sets the maximum number of batches of records that submitAllRecords()
+     * sends at the same time. The default is 4.
+     *
+     * @param maxConcurrentBatches the maximum number of concurrent batches.
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withMaxConcurrentBatches(int maxConcurrentBatches) {
+        if (maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException("maxConcurrentBatches must be positive");
+        }
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        return this;
+    }
+
+    /**
+     * @return The maximum number of batches of records that
+     *         submitAllRecords() sends at the same time.
+     */
+    public int getMaxConcurrentBatches() {
+        return this.maxConcurrentBatches;
+    }
+
+    /**
+     * Makes the recorder submit its records in the background once this many
+     * records have been saved since the last submission. 0, the default,
+     * disables this trigger.
+     *
+     * @param autoFlushRecordCount the number of records.
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withAutoFlushRecordCount(int autoFlushRecordCount) {
+        if (autoFlushRecordCount < 0) {
+            throw new IllegalArgumentException("autoFlushRecordCount can't be negative");
+        }
+        this.autoFlushRecordCount = autoFlushRecordCount;
+        return this;
+    }
+
+    /**
+     * @return The number of saved records that triggers a background
+     *         submission, or 0 if disabled.
+     */
+    public int getAutoFlushRecordCount() {
+        return this.autoFlushRecordCount;
+    }
+
+    /**
+     * Makes the recorder submit its records in the background once they take
+     * this many bytes of storage. 0, the default, disables this trigger.
+     *
+     * @param autoFlushByteThreshold the size in bytes.
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withAutoFlushByteThreshold(long autoFlushByteThreshold) {
+        if (autoFlushByteThreshold < 0) {
+            throw new IllegalArgumentException("autoFlushByteThreshold can't be negative");
+        }
+        this.autoFlushByteThreshold = autoFlushByteThreshold;
+        return this;
+    }
+
+    /**
+     * @return The size in bytes of saved records that triggers a background
+     *         submission, or 0 if disabled.
+     */
+    public long getAutoFlushByteThreshold() {
+        return this.autoFlushByteThreshold;
+    }
+
+    /**
+     * Makes the recorder submit its records in the background once the
+     * oldest of them has been waiting this many milliseconds. 0, the default,
+     * disables this trigger.
+     *
+     * @param autoFlushMaxRecordAge the age in milliseconds.
+     * @return This class for chaining
+     */
+    public KinesisRecorderConfig withAutoFlushMaxRecordAge(long autoFlushMaxRecordAge) {
+        if (autoFlushMaxRecordAge < 0) {
+            throw new IllegalArgumentException("autoFlushMaxRecordAge can't be negative");
+        }
+        this.autoFlushMaxRecordAge = autoFlushMaxRecordAge;
+        return this;
+    }
+
+    /**
+     * @return The age in milliseconds of the oldest saved record that
+     *         triggers a background submission, or 0 if disabled.
+     */
+    public long getAutoFlushMaxRecordAge() {
+        return this.autoFlushMaxRecordAge;
+    }
+
+    /**
+     * @return Whether the recorder submits its records in the background.
+     */
+    public boolean isAutoFlushEnabled() {
+        return autoFlushRecordCount > 0 || autoFlushByteThreshold > 0
+                || autoFlushMaxRecordAge > 0;
+    }
+
     /**
      * Returns the {@link DeadLetterListener} that will respond to records being dropped.
      * @return the {@link DeadLetterListener} that will respond to records being dropped.
@@ -130,4 +258,13 @@ public class KinesisRecorderConfig {
     public String getPartitionKey() {
         return partitionKey;
     }
+
+    /**
+     * Returns the partition key strategy.
+     *
+     * @return the partition key strategy, or null if not set.
+     */
+    public PartitionKeyStrategy getPartitionKeyStrategy() {
+        return partitionKeyStrategy;
+    }
 }
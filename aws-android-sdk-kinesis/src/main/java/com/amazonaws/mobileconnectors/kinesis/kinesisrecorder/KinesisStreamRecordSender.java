@@ -28,7 +28,6 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * A implementation of {@link RecordSender} for Amazon Kinesis.
@@ -37,7 +36,7 @@ class KinesisStreamRecordSender implements RecordSender {
 
     private final AmazonKinesis client;
     private final String userAgent;
-    private final String partitionKey;
+    private final PartitionKeyStrategy partitionKeyStrategy;
 
     /**
      * Constructs a {@link KinesisStreamRecordSender}.
@@ -46,7 +45,7 @@ class KinesisStreamRecordSender implements RecordSender {
      * @param userAgent user agent string to be set in each request
      */
     public KinesisStreamRecordSender(AmazonKinesis client, String userAgent) {
-        this(client, userAgent, null);
+        this(client, userAgent, (String) null);
     }
 
     /**
@@ -54,13 +53,31 @@ class KinesisStreamRecordSender implements RecordSender {
      *
      * @param client an {@link AmazonKinesis} client
      * @param userAgent user agent string to be set in each request
-     * @param config the Kinesis recorder config.
+     * @param partitionKey the partition key of all records, or null to give
+     *            them random partition keys.
      */
     public KinesisStreamRecordSender(AmazonKinesis client, String userAgent,
             String partitionKey) {
+        this(client, userAgent, StringUtils.isBlank(partitionKey)
+                ? PartitionKeyStrategies.random()
+                : PartitionKeyStrategies.fixed(partitionKey));
+    }
+
+    /**
+     * Constructs a {@link KinesisStreamRecordSender}.
+     *
+     * @param client an {@link AmazonKinesis} client
+     * @param userAgent user agent string to be set in each request
+     * @param partitionKeyStrategy chooses the partition keys of records.
+     */
+    public KinesisStreamRecordSender(AmazonKinesis client, String userAgent,
+            PartitionKeyStrategy partitionKeyStrategy) {
+        if (partitionKeyStrategy == null) {
+            throw new IllegalArgumentException("Partition key strategy can't be null");
+        }
         this.client = client;
         this.userAgent = userAgent;
-        this.partitionKey = partitionKey;
+        this.partitionKeyStrategy = partitionKeyStrategy;
     }
 
     @Override
@@ -73,13 +90,11 @@ class KinesisStreamRecordSender implements RecordSender {
         request.setStreamName(streamName);
         final List<PutRecordsRequestEntry> records = new ArrayList<PutRecordsRequestEntry>(data.size());
         for (final byte[] d : data) {
-            final String partKey = StringUtils.isBlank(this.partitionKey)
-                    ? UUID.randomUUID().toString() : this.partitionKey;
             final PutRecordsRequestEntry r = new PutRecordsRequestEntry();
             r.setData(ByteBuffer.wrap(d));
-            r.setPartitionKey(partKey);
             records.add(r);
         }
+        partitionKeyStrategy.assignPartitionKeys(client, streamName, records);
         request.setRecords(records);
         request.getRequestClientOptions().appendUserAgent(userAgent);
 
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.ListShardsRequest;
+import com.amazonaws.services.kinesis.model.ListShardsResult;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.Shard;
+import com.amazonaws.util.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The predefined {@link PartitionKeyStrategy}s.
+ */
+public final class PartitionKeyStrategies {
+
+    private PartitionKeyStrategies() {
+    }
+
+    /**
+     * @param partitionKey the partition key.
+     * @return a strategy that gives all records the same partition key, so
+     *         they all go to the same shard, in order.
+     */
+    public static PartitionKeyStrategy fixed(String partitionKey) {
+        if (StringUtils.isBlank(partitionKey)) {
+            throw new IllegalArgumentException("Partition key can't be blank");
+        }
+        return new FixedStrategy(partitionKey);
+    }
+
+    /**
+     * The default strategy.
+     *
+     * @return a strategy that gives each record a pseudorandom partition key,
+     *         so records are spread across shards.
+     */
+    public static PartitionKeyStrategy random() {
+        return new RandomStrategy();
+    }
+
+    /**
+     * @return a strategy that derives the partition key of each record from
+     *         its data, so records with the same data go to the same shard.
+     */
+    public static PartitionKeyStrategy contentHash() {
+        return new ContentHashStrategy();
+    }
+
+    /**
+     * Returns a strategy that sends records to each open shard of the stream
+     * in turn, by giving them the explicit hash key of the shard. The shards
+     * are listed with ListShards, which the credentials must allow, and the
+     * list is refreshed after the given interval. Records get random partition
+     * keys while the shards can't be listed.
+     *
+     * @param refreshIntervalMillis how long the shards listed are used for.
+     * @return the strategy.
+     */
+    public static PartitionKeyStrategy shardRoundRobin(long refreshIntervalMillis) {
+        if (refreshIntervalMillis <= 0) {
+            throw new IllegalArgumentException("refreshIntervalMillis must be positive");
+        }
+        return new ShardRoundRobinStrategy(refreshIntervalMillis);
+    }
+
+    private static final class FixedStrategy implements PartitionKeyStrategy {
+        private final String partitionKey;
+
+        FixedStrategy(String partitionKey) {
+            this.partitionKey = partitionKey;
+        }
+
+        @Override
+        public void assignPartitionKeys(AmazonKinesis client, String streamName,
+                List<PutRecordsRequestEntry> records) {
+            for (final PutRecordsRequestEntry record : records) {
+                record.setPartitionKey(partitionKey);
+            }
+        }
+    }
+
+    private static final class RandomStrategy implements PartitionKeyStrategy {
+        /** Unlike a random UUID, doesn't use SecureRandom. */
+        private final Random random = new Random();
+
+        @Override
+        public void assignPartitionKeys(AmazonKinesis client, String streamName,
+                List<PutRecordsRequestEntry> records) {
+            for (final PutRecordsRequestEntry record : records) {
+                record.setPartitionKey(Long.toHexString(random.nextLong()));
+            }
+        }
+    }
+
+    private static final class ContentHashStrategy implements PartitionKeyStrategy {
+        @Override
+        public void assignPartitionKeys(AmazonKinesis client, String streamName,
+                List<PutRecordsRequestEntry> records) {
+            for (final PutRecordsRequestEntry record : records) {
+                // Kinesis hashes the partition key again to pick the shard.
+                final ByteBuffer data = record.getData();
+                record.setPartitionKey(Integer.toHexString(data == null ? 0 : data.hashCode()));
+            }
+        }
+    }
+
+    private static final class ShardRoundRobinStrategy implements PartitionKeyStrategy {
+        private static final Log LOGGER = LogFactory.getLog(ShardRoundRobinStrategy.class);
+
+        private final long refreshIntervalMillis;
+        private final RandomStrategy fallback = new RandomStrategy();
+        private final AtomicInteger nextShard = new AtomicInteger();
+
+        /** Open shards of each stream; guarded by this. */
+        private final Map<String, OpenShards> shardsByStream = new HashMap<String, OpenShards>();
+
+        ShardRoundRobinStrategy(long refreshIntervalMillis) {
+            this.refreshIntervalMillis = refreshIntervalMillis;
+        }
+
+        @Override
+        public void assignPartitionKeys(AmazonKinesis client, String streamName,
+                List<PutRecordsRequestEntry> records) {
+            final List<Shard> shards = getOpenShards(client, streamName);
+            if (shards.isEmpty()) {
+                fallback.assignPartitionKeys(client, streamName, records);
+                return;
+            }
+            for (final PutRecordsRequestEntry record : records) {
+                final Shard shard = shards.get(
+                        (nextShard.getAndIncrement() & Integer.MAX_VALUE) % shards.size());
+                record.setPartitionKey(shard.getShardId());
+                record.setExplicitHashKey(shard.getHashKeyRange().getStartingHashKey());
+            }
+        }
+
+        private synchronized List<Shard> getOpenShards(AmazonKinesis client, String streamName) {
+            final long now = System.currentTimeMillis();
+            OpenShards openShards = shardsByStream.get(streamName);
+            if (openShards == null || now - openShards.listedAt >= refreshIntervalMillis) {
+                List<Shard> shards;
+                try {
+                    shards = listOpenShards(client, streamName);
+                } catch (final AmazonClientException e) {
+                    LOGGER.warn("Failed to list the shards of stream " + streamName
+                            + ", using random partition keys", e);
+                    // Not retried before the interval, to not slow every batch down.
+                    shards = new ArrayList<Shard>();
+                }
+                openShards = new OpenShards(shards, now);
+                shardsByStream.put(streamName, openShards);
+            }
+            return openShards.shards;
+        }
+
+        private static List<Shard> listOpenShards(AmazonKinesis client, String streamName) {
+            final List<Shard> shards = new ArrayList<Shard>();
+            ListShardsRequest request = new ListShardsRequest().withStreamName(streamName);
+            do {
+                final ListShardsResult result = client.listShards(request);
+                for (final Shard shard : result.getShards()) {
+                    if (shard.getSequenceNumberRange() == null
+                            || shard.getSequenceNumberRange().getEndingSequenceNumber() == null) {
+                        shards.add(shard);
+                    }
+                }
+                request = result.getNextToken() == null ? null
+                        : new ListShardsRequest().withNextToken(result.getNextToken());
+            } while (request != null);
+            return shards;
+        }
+    }
+
+    private static final class OpenShards {
+        final List<Shard> shards;
+        final long listedAt;
+
+        OpenShards(List<Shard> shards, long listedAt) {
+            this.shards = shards;
+            this.listedAt = listedAt;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+
+import java.util.List;
+
+/**
+ * Chooses the partition key, and optionally the explicit hash key, of the
+ * records KinesisRecorder sends, and so the shards they go to.
+ * <p>
+ * This is set using
+ * {@link KinesisRecorderConfig#withPartitionKeyStrategy(PartitionKeyStrategy)}.
+ * {@link PartitionKeyStrategies} has the predefined strategies.
+ * Implementations must be thread safe, as batches are sent concurrently.
+ */
+public interface PartitionKeyStrategy {
+    /**
+     * Sets the partition key of each record of a batch about to be sent.
+     *
+     * @param client the client the batch is sent with.
+     * @param streamName the stream the batch is sent to.
+     * @param records the records of the batch, with their data set.
+     */
+    void assignPartitionKeys(AmazonKinesis client, String streamName,
+            List<PutRecordsRequestEntry> records);
+}
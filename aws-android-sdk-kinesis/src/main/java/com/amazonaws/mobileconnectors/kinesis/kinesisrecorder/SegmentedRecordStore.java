@@ -0,0 +1,621 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * The SegmentedRecordStore records Kinesis records to the Android disk in an
+ * append-only log. Each record is written as a binary frame: its length, the
+ * CRC32 of its bytes and the bytes. The log is split into segment files, and
+ * a checkpoint file keeps the position of the first record not yet removed;
+ * segments are deleted whole once all their records are removed, so removing
+ * records never copies the ones that remain.
+ * <p>
+ * Records saved by earlier versions in the line based record file are moved
+ * into the log when the store is created.
+ */
+class SegmentedRecordStore {
+    private static final Log LOGGER = LogFactory.getLog(SegmentedRecordStore.class);
+
+    /** The size a segment grows to before a new one is started. */
+    static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    /** The length and CRC32 before the bytes of each record. */
+    static final int FRAME_HEADER_SIZE = 8;
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private final ReentrantLock accessLock = new ReentrantLock(true);
+
+    /** The FileManager used for interacting with the FS. **/
+    private final FileManager fileManager;
+
+    private final File workDirectory;
+    private final File recordsDirectory;
+    private final String recordFileName;
+    private final long maxStorageSize;
+    private final int segmentSize;
+
+    // All fields below are guarded by accessLock.
+
+    /** The segments, oldest first. The first one holds the checkpoint. */
+    private final List<Segment> segments = new ArrayList<Segment>();
+
+    /** The position of the first record not removed in the first segment. */
+    private long checkpointPosition;
+
+    /** The sum of the sizes of the segments. */
+    private long segmentsSize;
+
+    /** Appends to the last segment; kept open. */
+    private FileChannel writer;
+
+    /**
+     * Creates the SegmentedRecordStore.
+     *
+     * @param workDirectory The directory (which the SegmentedRecordStore is
+     *            only used for the KinesisRecorder) to use to store requests in
+     * @param recordFileName Name the files of the store start with
+     * @param maxStorageSize Maximum storage size in bytes
+     */
+    public SegmentedRecordStore(File workDirectory, String recordFileName, long maxStorageSize) {
+        this(workDirectory, recordFileName, maxStorageSize, DEFAULT_SEGMENT_SIZE);
+    }
+
+    SegmentedRecordStore(File workDirectory, String recordFileName, long maxStorageSize,
+            int segmentSize) {
+        this.fileManager = new FileManager(workDirectory);
+        this.workDirectory = workDirectory;
+        this.recordFileName = recordFileName;
+        this.maxStorageSize = maxStorageSize;
+        this.segmentSize = segmentSize;
+        this.recordsDirectory = fileManager.createDirectory(Constants.RECORDS_DIRECTORY);
+        if (recordsDirectory == null) {
+            throw new AmazonClientException("Failed to create file store");
+        }
+        accessLock.lock();
+        try {
+            recover();
+            migrateRecordFile();
+        } catch (final IOException ioe) {
+            throw new AmazonClientException("Failed to create file store", ioe);
+        } finally {
+            accessLock.unlock();
+        }
+    }
+
+    /**
+     * Appends a record to the log, unless the store is full.
+     *
+     * @param record the bytes of the record.
+     * @return true if the record was saved, false if the store is full.
+     * @throws IOException if the record can't be written.
+     */
+    public boolean put(byte[] record) throws IOException {
+        accessLock.lock();
+        try {
+            if (getFileSize() + FRAME_HEADER_SIZE + record.length > maxStorageSize) {
+                return false;
+            }
+            Segment last = segments.get(segments.size() - 1);
+            if (last.size >= segmentSize) {
+                last = startSegment(last.index + 1);
+            }
+            final CRC32 crc = new CRC32();
+            crc.update(record, 0, record.length);
+            final ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + record.length);
+            frame.putInt(record.length).putInt((int) crc.getValue()).put(record);
+            frame.flip();
+            final FileChannel channel = openWriter();
+            try {
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            } catch (final IOException e) {
+                // Drop a partial frame so the next one starts at a boundary.
+                closeWriter();
+                truncate(last.file, last.size);
+                throw e;
+            }
+            last.size += frame.limit();
+            segmentsSize += frame.limit();
+            return true;
+        } finally {
+            accessLock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of bytes the records not yet removed take.
+     */
+    public long getFileSize() {
+        accessLock.lock();
+        try {
+            return segmentsSize - checkpointPosition;
+        } finally {
+            accessLock.unlock();
+        }
+    }
+
+    public RecordIterator iterator() {
+        return new RecordIterator();
+    }
+
+    /**
+     * Reads the segments and the checkpoint left by an earlier store, and
+     * cuts off a frame the last segment ends with if it wasn't fully written.
+     */
+    private void recover() throws IOException {
+        final String prefix = recordFileName + ".";
+        final File[] files = recordsDirectory.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                final String name = file.getName();
+                if (!file.isFile() || !name.startsWith(prefix)
+                        || !name.endsWith(SEGMENT_SUFFIX)) {
+                    continue;
+                }
+                try {
+                    final long index = Long.parseLong(name.substring(prefix.length(),
+                            name.length() - SEGMENT_SUFFIX.length()));
+                    segments.add(new Segment(index, file, file.length()));
+                } catch (final NumberFormatException e) {
+                    LOGGER.warn("Ignoring unexpected file " + name);
+                }
+            }
+        }
+        Collections.sort(segments);
+
+        long checkpointIndex = 0;
+        long position = 0;
+        final File checkpointFile = checkpointFile();
+        if (checkpointFile.isFile()) {
+            final DataInputStream in = new DataInputStream(new FileInputStream(checkpointFile));
+            try {
+                checkpointIndex = in.readLong();
+                position = in.readLong();
+            } catch (final EOFException e) {
+                LOGGER.warn("Ignoring incomplete checkpoint");
+            } finally {
+                in.close();
+            }
+        }
+        // Finish deleting the segments the checkpoint has moved past.
+        while (!segments.isEmpty() && segments.get(0).index < checkpointIndex) {
+            fileManager.deleteFile(segments.remove(0).file);
+        }
+        if (segments.isEmpty()) {
+            startSegment(Math.max(checkpointIndex, 1));
+            return;
+        }
+        if (segments.get(0).index == checkpointIndex && position <= segments.get(0).size) {
+            checkpointPosition = position;
+        }
+
+        final Segment last = segments.get(segments.size() - 1);
+        final long validSize = validSize(last);
+        if (validSize < last.size) {
+            LOGGER.warn("Discarding " + (last.size - validSize)
+                    + " bytes of incomplete records");
+            truncate(last.file, validSize);
+            last.size = validSize;
+        }
+        for (final Segment segment : segments) {
+            segmentsSize += segment.size;
+        }
+    }
+
+    /**
+     * @return the length of the frames the segment starts with that are
+     *         whole and intact.
+     */
+    private long validSize(Segment segment) throws IOException {
+        final SegmentReader reader = new SegmentReader(segment, 0);
+        try {
+            while (reader.read() != null) {
+                continue;
+            }
+            return reader.position;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Moves the records of the line based record file of earlier versions
+     * into the log, and deletes the file.
+     */
+    private void migrateRecordFile() throws IOException {
+        final File recordFile = new File(recordsDirectory, recordFileName);
+        if (!recordFile.isFile()) {
+            return;
+        }
+        final FileRecordStore oldStore = new FileRecordStore(workDirectory,
+                recordFileName, Long.MAX_VALUE);
+        final FileRecordStore.RecordIterator iterator = oldStore.iterator();
+        final FileRecordParser frp = new FileRecordParser();
+        try {
+            while (iterator.hasNext()) {
+                final String line = iterator.next();
+                try {
+                    frp.parse(line);
+                } catch (final Exception e) {
+                    LOGGER.warn("Failed to read line. Skip.", e);
+                    continue;
+                }
+                put(FileRecordParser.asBytes(frp.streamName, frp.bytes));
+            }
+        } finally {
+            iterator.close();
+        }
+        if (!recordFile.delete()) {
+            LOGGER.error("Failed to delete old record file");
+        }
+    }
+
+    private Segment startSegment(long index) throws IOException {
+        closeWriter();
+        final File file = fileManager.createFile(new File(recordsDirectory,
+                String.format(Locale.US, "%s.%020d%s", recordFileName, index, SEGMENT_SUFFIX)));
+        if (file == null) {
+            throw new IOException("Failed to create segment file");
+        }
+        final Segment segment = new Segment(index, file, 0);
+        segments.add(segment);
+        return segment;
+    }
+
+    private FileChannel openWriter() throws IOException {
+        if (writer == null) {
+            writer = new FileOutputStream(segments.get(segments.size() - 1).file, true)
+                    .getChannel();
+        }
+        return writer;
+    }
+
+    private void closeWriter() throws IOException {
+        if (writer != null) {
+            try {
+                writer.close();
+            } finally {
+                writer = null;
+            }
+        }
+    }
+
+    private static void truncate(File file, long size) throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(size);
+        } finally {
+            raf.close();
+        }
+    }
+
+    private File checkpointFile() {
+        return new File(recordsDirectory, recordFileName + CHECKPOINT_SUFFIX);
+    }
+
+    /**
+     * Moves the checkpoint to a position, and deletes the segments before it.
+     */
+    private void checkpoint(long index, long position) throws IOException {
+        final File tempFile = new File(recordsDirectory,
+                recordFileName + CHECKPOINT_SUFFIX + TEMP_SUFFIX);
+        final DataOutputStream out = new DataOutputStream(new FileOutputStream(tempFile));
+        try {
+            out.writeLong(index);
+            out.writeLong(position);
+        } finally {
+            out.close();
+        }
+        if (!tempFile.renameTo(checkpointFile())) {
+            throw new IOException("Failed to save checkpoint");
+        }
+
+        while (segments.get(0).index < index) {
+            final Segment segment = segments.remove(0);
+            segmentsSize -= segment.size;
+            fileManager.deleteFile(segment.file);
+        }
+        checkpointPosition = position;
+
+        final Segment last = segments.get(segments.size() - 1);
+        if (segments.size() == 1 && position == last.size && last.size >= segmentSize) {
+            // Everything is removed; start afresh rather than append to a
+            // full segment.
+            startSegment(last.index + 1);
+            checkpoint(last.index + 1, 0);
+        }
+    }
+
+    private void deleteAllRecords() throws IOException {
+        final long index = segments.get(segments.size() - 1).index + 1;
+        startSegment(index);
+        checkpoint(index, 0);
+    }
+
+    private Segment segment(long index) {
+        for (final Segment segment : segments) {
+            if (segment.index == index) {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A segment file of the log.
+     */
+    private static final class Segment implements Comparable<Segment> {
+        final long index;
+        final File file;
+        long size;
+
+        Segment(long index, File file, long size) {
+            this.index = index;
+            this.file = file;
+            this.size = size;
+        }
+
+        @Override
+        public int compareTo(Segment other) {
+            return index < other.index ? -1 : (index == other.index ? 0 : 1);
+        }
+    }
+
+    /**
+     * Reads the frames of a segment up to its current size.
+     */
+    private static final class SegmentReader {
+        final Segment segment;
+        final FileInputStream file;
+        final DataInputStream in;
+        long position;
+
+        SegmentReader(Segment segment, long position) throws IOException {
+            this.segment = segment;
+            this.file = new FileInputStream(segment.file);
+            this.position = position;
+            file.getChannel().position(position);
+            this.in = new DataInputStream(new BufferedInputStream(file, READ_BUFFER_SIZE));
+        }
+
+        /**
+         * @return the next record, or null at the end of the segment or at a
+         *         frame that is incomplete or corrupted.
+         */
+        byte[] read() throws IOException {
+            final long remaining = segment.size - position;
+            if (remaining < FRAME_HEADER_SIZE) {
+                return null;
+            }
+            final int length = in.readInt();
+            final int checksum = in.readInt();
+            if (length < 0 || length > remaining - FRAME_HEADER_SIZE) {
+                return null;
+            }
+            final byte[] record = new byte[length];
+            in.readFully(record);
+            final CRC32 crc = new CRC32();
+            crc.update(record, 0, length);
+            if ((int) crc.getValue() != checksum) {
+                return null;
+            }
+            position += FRAME_HEADER_SIZE + length;
+            return record;
+        }
+
+        void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Iterates over the records not yet removed, oldest first.
+     */
+    public class RecordIterator implements java.util.Iterator<byte[]> {
+        /** The position after the last record returned by next(). */
+        private long readIndex;
+        private long readPosition;
+
+        private SegmentReader reader;
+        private byte[] nextBuffer;
+
+        RecordIterator() {
+            accessLock.lock();
+            try {
+                moveToCheckpoint();
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        private void moveToCheckpoint() {
+            readIndex = segments.get(0).index;
+            readPosition = checkpointPosition;
+            nextBuffer = null;
+            closeReader();
+        }
+
+        /**
+         * Reads the next record into nextBuffer, if there is one.
+         */
+        private void fill() throws IOException {
+            if (nextBuffer != null) {
+                return;
+            }
+            final Segment first = segments.get(0);
+            if (readIndex < first.index
+                    || (readIndex == first.index && readPosition < checkpointPosition)) {
+                // The records were removed through another iterator.
+                moveToCheckpoint();
+            }
+            while (true) {
+                final Segment segment = segment(readIndex);
+                if (segment == null) {
+                    return;
+                }
+                if (reader == null) {
+                    reader = new SegmentReader(segment, readPosition);
+                }
+                final long position = reader.position;
+                nextBuffer = reader.read();
+                if (nextBuffer != null) {
+                    return;
+                }
+                if (segment == segments.get(segments.size() - 1)) {
+                    if (reader.position < segment.size) {
+                        LOGGER.error("Skipping corrupted records in " + segment.file.getName());
+                        reader.position = segment.size;
+                    }
+                    // Records appended later are read by a new reader.
+                    readPosition = reader.position;
+                    closeReader();
+                    return;
+                }
+                if (position < segment.size) {
+                    LOGGER.error("Skipping corrupted records in " + segment.file.getName());
+                }
+                closeReader();
+                readIndex = segments.get(segments.indexOf(segment) + 1).index;
+                readPosition = 0;
+            }
+        }
+
+        private void closeReader() {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (final IOException e) {
+                    LOGGER.error("failed to close reader", e);
+                }
+                reader = null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return peek() != null;
+        }
+
+        @Override
+        public byte[] next() {
+            accessLock.lock();
+            try {
+                final byte[] next = peek();
+                if (next != null) {
+                    nextBuffer = null;
+                    readIndex = reader.segment.index;
+                    readPosition = reader.position;
+                }
+                return next;
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        /**
+         * @return the next record without moving past it, or null if there
+         *         are no more records.
+         */
+        public byte[] peek() {
+            accessLock.lock();
+            try {
+                fill();
+                return nextBuffer;
+            } catch (final IOException ioe) {
+                throw new AmazonClientException("IO Error", ioe);
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException(
+                    "The remove() operation is not supported for this iterator");
+        }
+
+        /**
+         * Removes the records returned by next() from the store.
+         *
+         * @throws IOException if the checkpoint can't be saved.
+         */
+        public void removeReadRecords() throws IOException {
+            accessLock.lock();
+            try {
+                if (readIndex < segments.get(0).index) {
+                    return;
+                }
+                if (nextBuffer == null) {
+                    // A later read continues from the new checkpoint.
+                    closeReader();
+                }
+                checkpoint(readIndex, readPosition);
+                if (readIndex < segments.get(0).index) {
+                    moveToCheckpoint();
+                }
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        public void removeAllRecords() throws IOException {
+            accessLock.lock();
+            try {
+                deleteAllRecords();
+                moveToCheckpoint();
+            } finally {
+                accessLock.unlock();
+            }
+        }
+
+        public void close() throws IOException {
+            accessLock.lock();
+            try {
+                closeReader();
+            } finally {
+                accessLock.unlock();
+            }
+        }
+    }
+}
@@ -17,14 +17,13 @@ package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
-import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.FileRecordStore.RecordIterator;
+import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.SegmentedRecordStore.RecordIterator;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -33,6 +32,8 @@ import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
@@ -59,12 +60,12 @@ public class AbstractKinesisRecorderTest {
     static class MockAbstractKinesisRecorder extends AbstractKinesisRecorder {
         private RecordSender sender;
 
-        protected MockAbstractKinesisRecorder(FileRecordStore recordStore,
+        protected MockAbstractKinesisRecorder(SegmentedRecordStore recordStore,
                 KinesisRecorderConfig config) {
             super(recordStore, config);
         }
 
-        private void setRecordSender(RecordSender sender) {
+        void setRecordSender(RecordSender sender) {
             this.sender = sender;
         }
 
@@ -80,8 +81,8 @@ public class AbstractKinesisRecorderTest {
         deadLetterListener = Mockito.mock(DeadLetterListener.class);
         KinesisRecorderConfig config = new KinesisRecorderConfig()
                 .withDeadLetterListener(deadLetterListener);
-        FileRecordStore recordStore = new FileRecordStore(temp.newFolder(), RECORD_FILE_NAME,
-                config.getMaxStorageSize());
+        SegmentedRecordStore recordStore = new SegmentedRecordStore(temp.newFolder(),
+                RECORD_FILE_NAME, config.getMaxStorageSize());
         MockAbstractKinesisRecorder mockRecorder = new MockAbstractKinesisRecorder(recordStore,
                 config);
         mockRecorder.setRecordSender(sender);
@@ -108,33 +109,46 @@ public class AbstractKinesisRecorderTest {
     }
 
     @Test
-    public void testNextBatchLimit() throws IOException {
+    public void testNextBatchesLimit() throws IOException {
         for (int i = 0; i < 10; i++) {
             recorder.saveRecord(randomBytes(1024), STREAM_NAME);
         }
-        List<byte[]> data = new ArrayList<byte[]>();
+        List<AbstractKinesisRecorder.Batch> batches;
         RecordIterator iterator;
 
         iterator = recorder.recordStore.iterator();
-        String streamName = recorder.nextBatch(iterator, data, 1, 5 * 1024);
-        assertEquals("read 1 records", 1, data.size());
-        assertEquals("stream name", STREAM_NAME, streamName);
+        batches = recorder.nextBatches(iterator, 1, 5 * 1024, 5 * 1024);
+        assertEquals("5 batches in the round", 5, batches.size());
+        assertEquals("read 1 record", 1, batches.get(0).data.size());
+        assertEquals("stream name", STREAM_NAME, batches.get(0).streamName);
+        iterator.close();
+
+        iterator = recorder.recordStore.iterator();
+        batches = recorder.nextBatches(iterator, 10, 5 * 1024, 100 * 1024);
+        assertEquals("2 batches", 2, batches.size());
+        assertEquals("read 5 records", 5, batches.get(0).data.size());
+        assertEquals("read 5 records", 5, batches.get(1).data.size());
         iterator.close();
 
         iterator = recorder.recordStore.iterator();
-        recorder.nextBatch(iterator, data, 10, 5 * 1024);
-        assertEquals("read 5 records", 5, data.size());
+        batches = recorder.nextBatches(iterator, 10, 5 * 1024 - 10, 100 * 1024);
+        // a batch doesn't go over the size limit
+        assertEquals("3 batches", 3, batches.size());
+        assertEquals("read 4 records", 4, batches.get(0).data.size());
+        assertEquals("read 4 records", 4, batches.get(1).data.size());
+        assertEquals("read 2 records", 2, batches.get(2).data.size());
         iterator.close();
 
         iterator = recorder.recordStore.iterator();
-        recorder.nextBatch(iterator, data, 10, 5 * 1024 - 10);
-        // allows 1 record to bring the total size over the limit
-        assertEquals("read 5 records", 5, data.size());
+        batches = recorder.nextBatches(iterator, 10, 100 * 1024, 5 * 1024 - 10);
+        // allows 1 record to bring the round size over the limit
+        assertEquals("1 batch", 1, batches.size());
+        assertEquals("read 5 records", 5, batches.get(0).data.size());
         iterator.close();
     }
 
     @Test
-    public void testNextBatch() throws IOException {
+    public void testNextBatches() throws IOException {
         int maxCount = 6;
         int maxSize = 10 * 1024;
 
@@ -145,37 +159,32 @@ public class AbstractKinesisRecorderTest {
         for (int i = 0; i < 10; i++) {
             recorder.saveRecord(randomBytes(1024), anotherStream);
         }
-        List<byte[]> data = new ArrayList<byte[]>();
 
         // read all data
         RecordIterator iterator = recorder.recordStore.iterator();
-        iterator = recorder.recordStore.iterator();
-        String streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
-        assertEquals("read 6 records", 6, data.size());
-        assertEquals("stream name", STREAM_NAME, streamName);
-        streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
-        assertEquals("read 4 records", 4, data.size());
-        assertEquals("stream name", STREAM_NAME, streamName);
-
-        // next batch belongs to a different stream
-        streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
-        assertEquals("read 6 records", 6, data.size());
-        assertEquals("stream name", anotherStream, streamName);
-        streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
-        assertEquals("read 4 records", 4, data.size());
-        assertEquals("stream name", anotherStream, streamName);
+        List<AbstractKinesisRecorder.Batch> batches = recorder.nextBatches(iterator, maxCount,
+                maxSize, 100 * 1024);
+        assertEquals("4 batches", 4, batches.size());
+        assertEquals("read 6 records", 6, batches.get(0).data.size());
+        assertEquals("stream name", STREAM_NAME, batches.get(0).streamName);
+        assertEquals("read 4 records", 4, batches.get(1).data.size());
+        assertEquals("stream name", STREAM_NAME, batches.get(1).streamName);
+        assertEquals("read 6 records", 6, batches.get(2).data.size());
+        assertEquals("stream name", anotherStream, batches.get(2).streamName);
+        assertEquals("read 4 records", 4, batches.get(3).data.size());
+        assertEquals("stream name", anotherStream, batches.get(3).streamName);
 
         // reach the end
-        streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
-        assertEquals("no more records", 0, data.size());
-        assertNull("no stream", streamName);
+        batches = recorder.nextBatches(iterator, maxCount, maxSize, 100 * 1024);
+        assertTrue("no more records", batches.isEmpty());
         iterator.close();
     }
 
     @Test
-    public void testNextBatchWithRemove() throws IOException {
+    public void testNextBatchesWithRemove() throws IOException {
         int maxCount = 100;
         int maxSize = 100 * 1024;
+        int maxRoundSize = 10 * 1024;
 
         for (int i = 0; i < 10; i++) {
             recorder.saveRecord(randomBytes(1024), STREAM_NAME);
@@ -184,22 +193,22 @@ public class AbstractKinesisRecorderTest {
         for (int i = 0; i < 10; i++) {
             recorder.saveRecord(randomBytes(1024), anotherStream);
         }
-        List<byte[]> data = new ArrayList<byte[]>();
 
         // read all data
         RecordIterator iterator = recorder.recordStore.iterator();
-        iterator = recorder.recordStore.iterator();
-        String streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
-        assertEquals("read 10 records", 10, data.size());
-        assertEquals("stream name", STREAM_NAME, streamName);
+        List<AbstractKinesisRecorder.Batch> batches = recorder.nextBatches(iterator, maxCount,
+                maxSize, maxRoundSize);
+        assertEquals("1 batch", 1, batches.size());
+        assertEquals("read 10 records", 10, batches.get(0).data.size());
+        assertEquals("stream name", STREAM_NAME, batches.get(0).streamName);
         iterator.removeReadRecords();
-        streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
-        assertEquals("read 10 records", 10, data.size());
-        assertEquals("stream name", anotherStream, streamName);
+        batches = recorder.nextBatches(iterator, maxCount, maxSize, maxRoundSize);
+        assertEquals("1 batch", 1, batches.size());
+        assertEquals("read 10 records", 10, batches.get(0).data.size());
+        assertEquals("stream name", anotherStream, batches.get(0).streamName);
         iterator.removeReadRecords();
-        streamName = recorder.nextBatch(iterator, data, maxCount, maxSize);
-        assertEquals("no more records", 0, data.size());
-        assertNull("no stream", streamName);
+        batches = recorder.nextBatches(iterator, maxCount, maxSize, maxRoundSize);
+        assertTrue("no more records", batches.isEmpty());
         iterator.close();
         assertEquals("empty record store", 0, recorder.getDiskBytesUsed());
     }
@@ -219,6 +228,54 @@ public class AbstractKinesisRecorderTest {
         assertEquals("no records after submitAllRecords", 0, recorder.getDiskBytesUsed());
     }
 
+    @Test
+    public void testSubmitAllRecordsGroupsRecordsByStream() {
+        String anotherStream = "another_stream";
+        for (int i = 0; i < 10; i++) {
+            recorder.saveRecord(randomBytes(1024), STREAM_NAME);
+            recorder.saveRecord(randomBytes(1024), anotherStream);
+        }
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenReturn(new ArrayList<byte[]>());
+        recorder.submitAllRecords();
+
+        ArgumentCaptor<List> dataCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(sender).sendBatch(Mockito.eq(STREAM_NAME), dataCaptor.capture());
+        assertEquals("one batch per stream", 10, dataCaptor.getValue().size());
+        Mockito.verify(sender).sendBatch(Mockito.eq(anotherStream), dataCaptor.capture());
+        assertEquals("one batch per stream", 10, dataCaptor.getValue().size());
+        assertEquals("no records after submitAllRecords", 0, recorder.getDiskBytesUsed());
+    }
+
+    @Test
+    public void testSubmitAllRecordsResavesFailedBatchesOnly() throws IOException {
+        String anotherStream = "another_stream";
+        for (int i = 0; i < 10; i++) {
+            recorder.saveRecord(randomBytes(1024), STREAM_NAME);
+            recorder.saveRecord(randomBytes(1024), anotherStream);
+        }
+        AmazonServiceException ase = new AmazonServiceException("some failures");
+        Mockito.when(sender.sendBatch(Mockito.eq(STREAM_NAME), Mockito.anyListOf(byte[].class)))
+                .thenReturn(new ArrayList<byte[]>());
+        Mockito.when(sender.sendBatch(Mockito.eq(anotherStream),
+                Mockito.anyListOf(byte[].class))).thenThrow(ase);
+        Mockito.when(sender.isRecoverable(ase)).thenReturn(true);
+        try {
+            recorder.submitAllRecords();
+            fail("Should throw exception");
+        } catch (AmazonClientException ace) {
+            assertSame("same exception", ase, ace);
+        }
+
+        RecordIterator iterator = recorder.recordStore.iterator();
+        List<AbstractKinesisRecorder.Batch> batches = recorder.nextBatches(iterator, 100,
+                100 * 1024, 100 * 1024);
+        iterator.close();
+        assertEquals("failed batch kept", 1, batches.size());
+        assertEquals("failed stream kept", anotherStream, batches.get(0).streamName);
+        assertEquals("failed records kept", 10, batches.get(0).data.size());
+    }
+
     @Test
     public void testSubmitAllRecordsWithRecoverableFailures() {
         for (int i = 0; i < 10; i++) {
@@ -317,6 +374,52 @@ public class AbstractKinesisRecorderTest {
         assertTrue("records not removed", recorder.getDiskBytesUsed() > 0);
     }
 
+    @Test
+    public void testSubmitAllRecordsWithFailuresKeepsRecordsInFullStore() throws IOException {
+        List<byte[]> data = new ArrayList<byte[]>();
+        for (int i = 0; i < 10; i++) {
+            data.add(randomBytes(1024));
+        }
+        // room for exactly the records saved
+        long maxStorageSize = 10 * (SegmentedRecordStore.FRAME_HEADER_SIZE
+                + FileRecordParser.asBytes(STREAM_NAME, data.get(0)).length);
+        KinesisRecorderConfig config = new KinesisRecorderConfig()
+                .withMaxStorageSize(maxStorageSize)
+                .withDeadLetterListener(deadLetterListener);
+        SegmentedRecordStore recordStore = new SegmentedRecordStore(temp.newFolder(),
+                RECORD_FILE_NAME, maxStorageSize);
+        MockAbstractKinesisRecorder fullRecorder = new MockAbstractKinesisRecorder(recordStore,
+                config);
+        fullRecorder.setRecordSender(sender);
+        for (byte[] bytes : data) {
+            fullRecorder.saveRecord(bytes, STREAM_NAME);
+        }
+        assertEquals("store is full", maxStorageSize, fullRecorder.getDiskBytesUsed());
+
+        // every record fails, every time
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        return new ArrayList<byte[]>((List<byte[]>) invocation.getArguments()[1]);
+                    }
+                });
+        fullRecorder.submitAllRecords();
+
+        Mockito.verify(deadLetterListener, Mockito.never())
+                .onRecordsDropped(Mockito.anyString(), Mockito.anyListOf(byte[].class));
+        assertEquals("records kept", maxStorageSize, fullRecorder.getDiskBytesUsed());
+        RecordIterator iterator = recordStore.iterator();
+        List<AbstractKinesisRecorder.Batch> batches = fullRecorder.nextBatches(iterator, 100,
+                100 * 1024, 100 * 1024);
+        iterator.close();
+        assertEquals("1 batch", 1, batches.size());
+        assertEquals("all records kept", 10, batches.get(0).data.size());
+        for (int i = 0; i < data.size(); i++) {
+            assertTrue("same data kept", Arrays.equals(data.get(i), batches.get(0).data.get(i)));
+        }
+    }
+
     private byte[] randomBytes(int length) {
         byte[] data = new byte[length];
         new Random().nextBytes(data);
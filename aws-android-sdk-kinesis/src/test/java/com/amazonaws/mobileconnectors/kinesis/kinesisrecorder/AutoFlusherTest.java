@@ -0,0 +1,201 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.AbstractKinesisRecorderTest.MockAbstractKinesisRecorder;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AutoFlusherTest {
+    private static final String STREAM_NAME = "mock_stream";
+    private static final String RECORD_FILE_NAME = "mock_recorder_file";
+    private static final long TIMEOUT_MILLIS = 10 * 1000;
+
+    private RecordSender sender;
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Before
+    public void setup() {
+        sender = Mockito.mock(RecordSender.class);
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenReturn(new ArrayList<byte[]>());
+    }
+
+    @Test
+    public void testFlushOnRecordCount() throws Exception {
+        AbstractKinesisRecorder recorder = newRecorder(new KinesisRecorderConfig()
+                .withAutoFlushRecordCount(3));
+        recorder.saveRecord("a", STREAM_NAME);
+        recorder.saveRecord("b", STREAM_NAME);
+        Thread.sleep(100);
+        Mockito.verifyZeroInteractions(sender);
+
+        recorder.saveRecord("c", STREAM_NAME);
+        waitUntilEmpty(recorder);
+        Mockito.verify(sender).sendBatch(Mockito.eq(STREAM_NAME),
+                Mockito.anyListOf(byte[].class));
+    }
+
+    @Test
+    public void testFlushOnByteThreshold() throws Exception {
+        AbstractKinesisRecorder recorder = newRecorder(new KinesisRecorderConfig()
+                .withAutoFlushByteThreshold(1024));
+        recorder.saveRecord(new byte[100], STREAM_NAME);
+        Thread.sleep(100);
+        Mockito.verifyZeroInteractions(sender);
+
+        recorder.saveRecord(new byte[1024], STREAM_NAME);
+        waitUntilEmpty(recorder);
+    }
+
+    @Test
+    public void testFlushOnMaxRecordAge() throws Exception {
+        AbstractKinesisRecorder recorder = newRecorder(new KinesisRecorderConfig()
+                .withAutoFlushMaxRecordAge(300));
+        long saved = System.currentTimeMillis();
+        recorder.saveRecord("a", STREAM_NAME);
+        recorder.saveRecord("b", STREAM_NAME);
+        waitUntilEmpty(recorder);
+        assertTrue("flushed when the first record got old",
+                System.currentTimeMillis() - saved >= 300);
+        Mockito.verify(sender).sendBatch(Mockito.eq(STREAM_NAME),
+                Mockito.anyListOf(byte[].class));
+    }
+
+    @Test
+    public void testRecordsOfPreviousRunAreFlushed() throws Exception {
+        KinesisRecorderConfig config = new KinesisRecorderConfig();
+        SegmentedRecordStore recordStore = new SegmentedRecordStore(temp.getRoot(),
+                RECORD_FILE_NAME, config.getMaxStorageSize());
+        recordStore.put(FileRecordParser.asBytes(STREAM_NAME, new byte[10]));
+
+        AbstractKinesisRecorder recorder = newRecorder(config.withAutoFlushMaxRecordAge(100));
+        waitUntilEmpty(recorder);
+    }
+
+    @Test
+    public void testRecordsOfPreviousRunAboveThresholdAreFlushed() throws Exception {
+        KinesisRecorderConfig config = new KinesisRecorderConfig().withAutoFlushByteThreshold(10);
+        SegmentedRecordStore recordStore = new SegmentedRecordStore(temp.getRoot(),
+                RECORD_FILE_NAME, config.getMaxStorageSize());
+        recordStore.put(FileRecordParser.asBytes(STREAM_NAME, new byte[100]));
+        KinesisStreamRecordSender streamSender = Mockito.mock(KinesisStreamRecordSender.class);
+        Mockito.when(streamSender.sendBatch(Mockito.anyString(),
+                Mockito.anyListOf(byte[].class))).thenReturn(new ArrayList<byte[]>());
+
+        // The flush is due at once, but runs only once the sender is set.
+        long created = System.currentTimeMillis();
+        AbstractKinesisRecorder recorder = new KinesisRecorder(streamSender, recordStore, config);
+        waitUntilEmpty(recorder);
+        assertTrue("flushed without failing and backing off",
+                System.currentTimeMillis() - created < AutoFlusher.INITIAL_BACKOFF_MILLIS);
+        Mockito.verify(streamSender).sendBatch(Mockito.eq(STREAM_NAME),
+                Mockito.anyListOf(byte[].class));
+    }
+
+    @Test
+    public void testFailedFlushIsRetriedWithBackoff() throws Exception {
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenThrow(new AmazonClientException("offline"))
+                .thenReturn(new ArrayList<byte[]>());
+        Mockito.when(sender.isRecoverable(Mockito.any(AmazonClientException.class)))
+                .thenReturn(true);
+        AbstractKinesisRecorder recorder = newRecorder(new KinesisRecorderConfig()
+                .withAutoFlushRecordCount(1));
+
+        long saved = System.currentTimeMillis();
+        recorder.saveRecord("a", STREAM_NAME);
+        waitUntilEmpty(recorder);
+        assertTrue("retried after the backoff",
+                System.currentTimeMillis() - saved >= AutoFlusher.INITIAL_BACKOFF_MILLIS);
+        Mockito.verify(sender, Mockito.times(2)).sendBatch(Mockito.eq(STREAM_NAME),
+                Mockito.anyListOf(byte[].class));
+    }
+
+    @Test
+    public void testRejectedRecordsAreRetriedWithBackoff() throws Exception {
+        // The service rejects every record, but not the requests.
+        final AtomicInteger sendCount = new AtomicInteger();
+        Mockito.when(sender.sendBatch(Mockito.anyString(), Mockito.anyListOf(byte[].class)))
+                .thenAnswer(new Answer<List<byte[]>>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public List<byte[]> answer(InvocationOnMock invocation) {
+                        sendCount.incrementAndGet();
+                        return new ArrayList<byte[]>(
+                                (List<byte[]>) invocation.getArguments()[1]);
+                    }
+                });
+        AbstractKinesisRecorder recorder = newRecorder(new KinesisRecorderConfig()
+                .withAutoFlushByteThreshold(1024));
+
+        recorder.saveRecord(new byte[1024], STREAM_NAME);
+        Thread.sleep(AutoFlusher.INITIAL_BACKOFF_MILLIS / 2);
+        final int sentInFirstFlush = sendCount.get();
+        assertTrue("flushed", sentInFirstFlush > 0);
+        Thread.sleep(AutoFlusher.INITIAL_BACKOFF_MILLIS / 4);
+        assertEquals("no flush during the backoff", sentInFirstFlush, sendCount.get());
+        assertTrue("records kept", recorder.getDiskBytesUsed() >= 1024);
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        AbstractKinesisRecorder recorder = newRecorder(new KinesisRecorderConfig());
+        for (int i = 0; i < 10; i++) {
+            recorder.saveRecord("a", STREAM_NAME);
+        }
+        Thread.sleep(100);
+        Mockito.verifyZeroInteractions(sender);
+        assertTrue(recorder.getDiskBytesUsed() > 0);
+    }
+
+    private AbstractKinesisRecorder newRecorder(KinesisRecorderConfig config)
+            throws IOException {
+        SegmentedRecordStore recordStore = new SegmentedRecordStore(temp.getRoot(),
+                RECORD_FILE_NAME, config.getMaxStorageSize());
+        MockAbstractKinesisRecorder recorder = new MockAbstractKinesisRecorder(recordStore,
+                config);
+        recorder.setRecordSender(sender);
+        recorder.startAutoFlush();
+        return recorder;
+    }
+
+    private static void waitUntilEmpty(AbstractKinesisRecorder recorder)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (recorder.getDiskBytesUsed() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("all records submitted", 0, recorder.getDiskBytesUsed());
+    }
+}
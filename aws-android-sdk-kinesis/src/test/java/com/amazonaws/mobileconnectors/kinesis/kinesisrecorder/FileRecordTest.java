@@ -45,4 +45,24 @@ public class FileRecordTest {
         FileRecordParser frp = new FileRecordParser();
         frp.parse(line);
     }
+
+    @Test
+    public void testFileRecordBytes() {
+        String streamName = "stream";
+        byte[] bytes = new byte[] {0, 1, 2, (byte) 0xFF};
+        byte[] record = FileRecordParser.asBytes(streamName, bytes);
+        assertEquals("no encoding overhead", 2 + streamName.length() + bytes.length,
+                record.length);
+
+        FileRecordParser frp = new FileRecordParser();
+        frp.parse(record);
+        assertEquals("stream name", streamName, frp.streamName);
+        assertTrue("data bytes", Arrays.equals(bytes, frp.bytes));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRecordBytes() {
+        FileRecordParser frp = new FileRecordParser();
+        frp.parse(new byte[] {0, 10, 'a'});
+    }
 }
@@ -16,6 +16,8 @@
 package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import com.amazonaws.ClientConfiguration;
 
@@ -72,6 +74,22 @@ public class KinesisRecorderConfigTest {
         KinesisRecorderConfig kConfig = new KinesisRecorderConfig();
         kConfig.withMaxStorageSize(100);
         assertEquals(kConfig.getMaxStorageSize(), 100);
+        kConfig.withMaxConcurrentBatches(2);
+        assertEquals(kConfig.getMaxConcurrentBatches(), 2);
+        assertEquals(new KinesisRecorderConfig(kConfig).getMaxConcurrentBatches(), 2);
+
+        assertFalse(kConfig.isAutoFlushEnabled());
+        kConfig.withAutoFlushRecordCount(10).withAutoFlushByteThreshold(1024)
+                .withAutoFlushMaxRecordAge(5000);
+        KinesisRecorderConfig copy = new KinesisRecorderConfig(kConfig);
+        assertEquals(copy.getAutoFlushRecordCount(), 10);
+        assertEquals(copy.getAutoFlushByteThreshold(), 1024);
+        assertEquals(copy.getAutoFlushMaxRecordAge(), 5000);
+        assertTrue(copy.isAutoFlushEnabled());
+
+        PartitionKeyStrategy strategy = PartitionKeyStrategies.contentHash();
+        kConfig.withPartitionKeyStrategy(strategy);
+        assertEquals(new KinesisRecorderConfig(kConfig).getPartitionKeyStrategy(), strategy);
     }
 
 }
@@ -20,7 +20,6 @@ import static org.junit.Assert.assertEquals;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AnonymousAWSCredentials;
 import com.amazonaws.internal.StaticCredentialsProvider;
-import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.FileRecordStore.RecordIterator;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.kinesis.model.PutRecordRequest;
 import com.amazonaws.util.StringUtils;
@@ -99,7 +98,7 @@ public class KinesisRecorderTest {
 
         recorder = new KinesisRecorder(directory, Regions.US_EAST_1, provider);
         Thread.sleep(1000);
-        RecordIterator iterator = recorder.recordStore.iterator();
+        SegmentedRecordStore.RecordIterator iterator = recorder.recordStore.iterator();
         FileRecordParser frp = new FileRecordParser();
         int count = 0;
         while (iterator.hasNext()) {
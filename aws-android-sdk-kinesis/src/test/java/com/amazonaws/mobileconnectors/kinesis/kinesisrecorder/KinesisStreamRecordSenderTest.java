@@ -26,9 +26,14 @@ import com.amazonaws.RequestClientOptions.Marker;
 import com.amazonaws.logging.Log;
 import com.amazonaws.logging.LogFactory;
 import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.HashKeyRange;
+import com.amazonaws.services.kinesis.model.ListShardsRequest;
+import com.amazonaws.services.kinesis.model.ListShardsResult;
 import com.amazonaws.services.kinesis.model.PutRecordsRequest;
 import com.amazonaws.services.kinesis.model.PutRecordsResult;
 import com.amazonaws.services.kinesis.model.PutRecordsResultEntry;
+import com.amazonaws.services.kinesis.model.SequenceNumberRange;
+import com.amazonaws.services.kinesis.model.Shard;
 import com.amazonaws.services.kinesisfirehose.model.InvalidArgumentException;
 import com.amazonaws.util.StringUtils;
 import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
@@ -188,6 +193,91 @@ public class KinesisStreamRecordSenderTest {
                 .isRecoverable(getServiceException("ProvisionedThroughputExceededException")));
     }
 
+    @Test
+    public void testFixedAndContentHashPartitionKeys() {
+        List<PutRecordsRequestEntry> records = sendRecords(
+                PartitionKeyStrategies.fixed("key"), "a", "b");
+        assertEquals("key", records.get(0).getPartitionKey());
+        assertEquals("key", records.get(1).getPartitionKey());
+
+        records = sendRecords(PartitionKeyStrategies.contentHash(), "a", "b", "a");
+        assertEquals(records.get(0).getPartitionKey(), records.get(2).getPartitionKey());
+        assertFalse(records.get(0).getPartitionKey().equals(records.get(1).getPartitionKey()));
+    }
+
+    @Test
+    public void testShardRoundRobinPartitionKeys() {
+        Mockito.when(client.listShards(any(ListShardsRequest.class)))
+                .thenReturn(new ListShardsResult()
+                        .withShards(shard("shard-0", "0", null), shard("shard-1", "100", "9"))
+                        .withNextToken("next"))
+                .thenReturn(new ListShardsResult()
+                        .withShards(shard("shard-2", "200", null)));
+        PartitionKeyStrategy strategy = PartitionKeyStrategies.shardRoundRobin(60 * 1000);
+
+        List<PutRecordsRequestEntry> records = sendRecords(strategy, "a", "b", "c");
+        // The closed shard-1 is skipped.
+        assertEquals("0", records.get(0).getExplicitHashKey());
+        assertEquals("200", records.get(1).getExplicitHashKey());
+        assertEquals("0", records.get(2).getExplicitHashKey());
+        assertEquals("shard-2", records.get(1).getPartitionKey());
+
+        records = sendRecords(strategy, "d");
+        assertEquals("200", records.get(0).getExplicitHashKey());
+
+        // The shards are listed once, following the next token.
+        ArgumentCaptor<ListShardsRequest> argument = ArgumentCaptor
+                .forClass(ListShardsRequest.class);
+        Mockito.verify(client, Mockito.times(2)).listShards(argument.capture());
+        assertEquals("stream", argument.getAllValues().get(0).getStreamName());
+        assertEquals("next", argument.getAllValues().get(1).getNextToken());
+    }
+
+    @Test
+    public void testShardRoundRobinFallsBackToRandomPartitionKeys() {
+        Mockito.when(client.listShards(any(ListShardsRequest.class)))
+                .thenThrow(getServiceException("AccessDeniedException"));
+        PartitionKeyStrategy strategy = PartitionKeyStrategies.shardRoundRobin(60 * 1000);
+
+        List<PutRecordsRequestEntry> records = sendRecords(strategy, "a", "b");
+        assertEquals(null, records.get(0).getExplicitHashKey());
+        assertFalse(records.get(0).getPartitionKey().equals(records.get(1).getPartitionKey()));
+
+        // Listing isn't retried before the refresh interval.
+        sendRecords(strategy, "c");
+        Mockito.verify(client, Mockito.times(1)).listShards(any(ListShardsRequest.class));
+    }
+
+    private List<PutRecordsRequestEntry> sendRecords(PartitionKeyStrategy strategy,
+            String... data) {
+        PutRecordsResult result = new PutRecordsResult();
+        List<PutRecordsResultEntry> entries = new ArrayList<PutRecordsResultEntry>();
+        List<byte[]> bytes = new ArrayList<byte[]>();
+        for (String d : data) {
+            entries.add(new PutRecordsResultEntry());
+            bytes.add(d.getBytes(StringUtils.UTF8));
+        }
+        result.setRecords(entries);
+        result.setFailedRecordCount(0);
+        Mockito.when(client.putRecords(any(PutRecordsRequest.class))).thenReturn(result);
+
+        new KinesisStreamRecordSender(client, USER_AGENT, strategy).sendBatch("stream", bytes);
+
+        ArgumentCaptor<PutRecordsRequest> argument = ArgumentCaptor
+                .forClass(PutRecordsRequest.class);
+        Mockito.verify(client, Mockito.atLeastOnce()).putRecords(argument.capture());
+        return argument.getValue().getRecords();
+    }
+
+    private static Shard shard(String shardId, String startingHashKey,
+            String endingSequenceNumber) {
+        return new Shard().withShardId(shardId)
+                .withHashKeyRange(new HashKeyRange().withStartingHashKey(startingHashKey))
+                .withSequenceNumberRange(new SequenceNumberRange()
+                        .withStartingSequenceNumber("0")
+                        .withEndingSequenceNumber(endingSequenceNumber));
+    }
+
     private AmazonServiceException getServiceException(String errorCode) {
         AmazonServiceException ase = new AmazonServiceException("some error message");
         ase.setErrorCode(errorCode);
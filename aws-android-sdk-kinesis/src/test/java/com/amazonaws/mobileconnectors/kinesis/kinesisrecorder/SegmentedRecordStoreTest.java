@@ -0,0 +1,236 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.kinesis.kinesisrecorder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.amazonaws.mobileconnectors.kinesis.kinesisrecorder.SegmentedRecordStore.RecordIterator;
+import com.amazonaws.util.StringUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SegmentedRecordStoreTest {
+
+    private static final File TEST_DIRECTORY = new File("SegmentedRecordStoreTest");
+    private static final String RECORD_FILE_NAME = "records";
+    private static final long MAX_STORAGE_SIZE = 1024 * 1024 * 5L;
+
+    /** Ten records of "0" to "9" fill a segment. */
+    private static final int SEGMENT_SIZE = 10 * (SegmentedRecordStore.FRAME_HEADER_SIZE + 1);
+
+    @Before
+    public void setup() {
+        TEST_DIRECTORY.mkdir();
+    }
+
+    @After
+    public void teardown() {
+        delete(TEST_DIRECTORY);
+    }
+
+    private void delete(File f) {
+        if (f.isDirectory()) {
+            for (File subFile : f.listFiles()) {
+                delete(subFile);
+            }
+        }
+        f.delete();
+    }
+
+    @Test
+    public void testPutIterateAndRemove() throws IOException {
+        SegmentedRecordStore recordStore = newStore();
+        for (int i = 0; i < 25; i++) {
+            assertTrue(recordStore.put(bytes(i % 10)));
+        }
+        assertEquals(3, segmentFiles().size());
+        assertEquals(25 * 9, recordStore.getFileSize());
+
+        RecordIterator iter = recordStore.iterator();
+        for (int i = 0; i < 15; i++) {
+            assertEquals(String.valueOf(i % 10), string(iter.next()));
+        }
+        // The peeked record is not removed.
+        assertEquals("5", string(iter.peek()));
+        iter.removeReadRecords();
+        assertEquals(10 * 9, recordStore.getFileSize());
+        // The first segment is deleted whole; the second one is kept.
+        assertEquals(2, segmentFiles().size());
+
+        for (int i = 15; i < 25; i++) {
+            assertEquals(String.valueOf(i % 10), string(iter.next()));
+        }
+        assertFalse(iter.hasNext());
+        assertNull(iter.next());
+
+        // Records appended later are read by the same iterator.
+        recordStore.put(bytes(7));
+        assertEquals("7", string(iter.next()));
+        iter.removeReadRecords();
+        iter.close();
+        assertEquals(0, recordStore.getFileSize());
+        assertEquals(1, segmentFiles().size());
+
+        iter = recordStore.iterator();
+        assertFalse(iter.hasNext());
+        boolean unsupportedCaught = false;
+        try {
+            iter.remove();
+        } catch (UnsupportedOperationException e) {
+            unsupportedCaught = true;
+        }
+        assertTrue(unsupportedCaught);
+    }
+
+    @Test
+    public void testReopenContinuesFromCheckpoint() throws IOException {
+        SegmentedRecordStore recordStore = newStore();
+        for (int i = 0; i < 15; i++) {
+            recordStore.put(bytes(i % 10));
+        }
+        RecordIterator iter = recordStore.iterator();
+        for (int i = 0; i < 12; i++) {
+            iter.next();
+        }
+        iter.removeReadRecords();
+        iter.close();
+
+        recordStore = newStore();
+        assertEquals(3 * 9, recordStore.getFileSize());
+        assertEquals(asList("2", "3", "4"), readAll(recordStore));
+    }
+
+    @Test
+    public void testIncompleteRecordIsDiscarded() throws IOException {
+        SegmentedRecordStore recordStore = newStore();
+        recordStore.put(bytes(1));
+        recordStore.put(bytes(2));
+
+        // Cut the last record short, as a crash while writing would.
+        File segment = segmentFiles().get(0);
+        RandomAccessFile raf = new RandomAccessFile(segment, "rw");
+        raf.setLength(segment.length() - 1);
+        raf.close();
+
+        recordStore = newStore();
+        assertEquals(9, recordStore.getFileSize());
+        recordStore.put(bytes(3));
+        assertEquals(asList("1", "3"), readAll(recordStore));
+    }
+
+    @Test
+    public void testCorruptedRecordIsSkipped() throws IOException {
+        SegmentedRecordStore recordStore = newStore();
+        for (int i = 0; i < 12; i++) {
+            recordStore.put(bytes(i % 10));
+        }
+        // Flip the data of the second record of the first segment.
+        RandomAccessFile raf = new RandomAccessFile(segmentFiles().get(0), "rw");
+        raf.seek(SegmentedRecordStore.FRAME_HEADER_SIZE * 2 + 1);
+        raf.write('x');
+        raf.close();
+
+        assertEquals(asList("0", "0", "1"), readAll(recordStore));
+    }
+
+    @Test
+    public void testMaxStorageSizeAndRemoveAll() throws IOException {
+        SegmentedRecordStore recordStore = new SegmentedRecordStore(TEST_DIRECTORY,
+                RECORD_FILE_NAME, 9 * 3, SEGMENT_SIZE);
+        assertTrue(recordStore.put(bytes(1)));
+        assertTrue(recordStore.put(bytes(2)));
+        assertTrue(recordStore.put(bytes(3)));
+        assertFalse(recordStore.put(bytes(4)));
+
+        recordStore.iterator().removeAllRecords();
+        assertEquals(0, recordStore.getFileSize());
+        assertTrue(recordStore.put(bytes(5)));
+        assertEquals(asList("5"), readAll(recordStore));
+    }
+
+    @Test
+    public void testRecordFileOfEarlierVersionIsMigrated() throws IOException {
+        FileRecordStore oldStore = new FileRecordStore(TEST_DIRECTORY, RECORD_FILE_NAME,
+                MAX_STORAGE_SIZE);
+        oldStore.put(FileRecordParser.asString("stream", "a".getBytes(StringUtils.UTF8)));
+        oldStore.put("corrupted");
+        oldStore.put(FileRecordParser.asString("stream", "b".getBytes(StringUtils.UTF8)));
+
+        SegmentedRecordStore recordStore = newStore();
+        RecordIterator iter = recordStore.iterator();
+        FileRecordParser frp = new FileRecordParser();
+        List<String> data = new ArrayList<String>();
+        while (iter.hasNext()) {
+            frp.parse(iter.next());
+            assertEquals("stream", frp.streamName);
+            data.add(new String(frp.bytes, StringUtils.UTF8));
+        }
+        assertEquals(asList("a", "b"), data);
+        assertFalse(new File(new File(TEST_DIRECTORY, Constants.RECORDS_DIRECTORY),
+                RECORD_FILE_NAME).exists());
+    }
+
+    private SegmentedRecordStore newStore() {
+        return new SegmentedRecordStore(TEST_DIRECTORY, RECORD_FILE_NAME, MAX_STORAGE_SIZE,
+                SEGMENT_SIZE);
+    }
+
+    private List<File> segmentFiles() {
+        List<File> files = new ArrayList<File>();
+        for (File file : new File(TEST_DIRECTORY, Constants.RECORDS_DIRECTORY).listFiles()) {
+            if (file.getName().endsWith(SegmentedRecordStore.SEGMENT_SUFFIX)) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    private static List<String> readAll(SegmentedRecordStore recordStore) throws IOException {
+        List<String> records = new ArrayList<String>();
+        RecordIterator iter = recordStore.iterator();
+        while (iter.hasNext()) {
+            records.add(string(iter.next()));
+        }
+        iter.close();
+        return records;
+    }
+
+    private static List<String> asList(String... strings) {
+        return Arrays.asList(strings);
+    }
+
+    private static byte[] bytes(int i) {
+        return String.valueOf(i).getBytes(StringUtils.UTF8);
+    }
+
+    private static String string(byte[] bytes) {
+        return new String(bytes, StringUtils.UTF8);
+    }
+}
@@ -28,8 +28,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
@@ -80,18 +82,52 @@ public class EventRecorder {
     private static final String USER_AGENT = PinpointManager.class.getName() + "/" + VersionInfoUtils.getVersion();
     private static int clippedEventLength = 10;
     private final static int MAX_EVENT_OPERATIONS = 1000;
+    private static final int EVENT_BUFFER_CAPACITY = 1024;
+    private static final int MAX_EVENTS_PER_TRANSACTION = 100;
     private static final long MINIMUM_PENDING_SIZE = 16 * 1024;
     private static final Log log = LogFactory.getLog(EventRecorder.class);
     private final PinpointDBUtil dbUtil;
     private final ExecutorService submissionRunnableQueue;
     private final PinpointContext pinpointContext;
 
+    /** Events recorded but not yet saved to the database. */
+    private final EventRingBuffer<AnalyticsEvent> eventBuffer =
+            new EventRingBuffer<AnalyticsEvent>(EVENT_BUFFER_CAPACITY);
+    private final ExecutorService eventWriterQueue;
+    private final AtomicBoolean eventWriteScheduled = new AtomicBoolean();
+    /** Held while buffered events are saved, so they are saved in order. */
+    private final Object eventWriteLock = new Object();
+    private final Runnable eventWriteTask = new Runnable() {
+        @Override
+        public void run() {
+            // Cleared first, so events buffered from now on schedule another write.
+            eventWriteScheduled.set(false);
+            flushBufferedEvents();
+        }
+    };
+
     EventRecorder(final PinpointContext pinpointContext,
                   final PinpointDBUtil dbUtil,
                   final ExecutorService submissionRunnableQueue) {
+        this(pinpointContext, dbUtil, submissionRunnableQueue, newEventWriterQueue());
+    }
+
+    EventRecorder(final PinpointContext pinpointContext,
+                  final PinpointDBUtil dbUtil,
+                  final ExecutorService submissionRunnableQueue,
+                  final ExecutorService eventWriterQueue) {
         this.pinpointContext = pinpointContext;
         this.dbUtil = dbUtil;
         this.submissionRunnableQueue = submissionRunnableQueue;
+        this.eventWriterQueue = eventWriterQueue;
+    }
+
+    private static ExecutorService newEventWriterQueue() {
+        // A write is scheduled only when none is pending, so the queue stays short.
+        final ThreadPoolExecutor eventWriterQueue = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>());
+        eventWriterQueue.allowCoreThreadTimeOut(true);
+        return eventWriterQueue;
     }
 
     /**
@@ -128,9 +164,11 @@ public class EventRecorder {
     }
 
     /**
-     * Closes the database.
+     * Closes the database, after saving the events recorded with
+     * {@link #recordEventAsync(AnalyticsEvent)}.
      */
     public void closeDB() {
+        flushBufferedEvents();
         dbUtil.closeDB();
     }
 
@@ -149,29 +187,12 @@ public class EventRecorder {
         log.info(String.format("Event Recorded to database with EventType: %s",
                 StringUtil.clipString(event.getEventType(), clippedEventLength, true)));
 
-        long maxPendingSize = pinpointContext.getConfiguration().optLong(KEY_MAX_PENDING_SIZE, DEFAULT_MAX_PENDING_SIZE);
-        if (maxPendingSize < MINIMUM_PENDING_SIZE) {
-            maxPendingSize = MINIMUM_PENDING_SIZE;
-        }
+        // Keeps the events in the order they were recorded.
+        flushBufferedEvents();
 
         final Uri uri = this.dbUtil.saveEvent(event);
         if (uri != null) {
-            while (this.dbUtil.getTotalSize() > maxPendingSize) {
-                Cursor cursor = null;
-                try {
-                    cursor = this.dbUtil.queryOldestEvents(5);
-                    while (this.dbUtil.getTotalSize() > maxPendingSize && cursor.moveToNext()) {
-                        this.dbUtil.deleteEvent(
-                                cursor.getInt(EventTable.COLUMN_INDEX.ID.getValue()),
-                                cursor.getInt(EventTable.COLUMN_INDEX.SIZE.getValue()));
-                    }
-                } finally {
-                    if (cursor != null) {
-                        cursor.close();
-                    }
-                }
-            }
-
+            this.dbUtil.trimToSize(getMaxPendingSize());
             return uri;
         } else {
             log.warn(String.format("Event: '%s' failed to record to local database.",
@@ -180,6 +201,80 @@ public class EventRecorder {
         }
     }
 
+    /**
+     * Records an {@link com.amazonaws.mobileconnectors.pinpoint.analytics.AnalyticsEvent}
+     * without writing it to the local database on the calling thread. The
+     * event is kept in memory and saved with other events in a single
+     * transaction by a background thread. Events not yet saved are saved
+     * before events are read, submitted or recorded with
+     * {@link #recordEvent(AnalyticsEvent)}. If events are recorded faster
+     * than they can be saved, the calling thread saves them.
+     * <p>
+     * The event must not be modified after it is recorded.
+     *
+     * @param event the analytics event
+     */
+    public void recordEventAsync(final AnalyticsEvent event) {
+        if (event == null) {
+            log.warn("Event cannot be null. Pass in a valid non-null event.");
+            return;
+        }
+
+        log.info(String.format("Event Recorded with EventType: %s",
+                StringUtil.clipString(event.getEventType(), clippedEventLength, true)));
+
+        while (!eventBuffer.offer(event)) {
+            flushBufferedEvents();
+        }
+        if (eventWriteScheduled.compareAndSet(false, true)) {
+            try {
+                eventWriterQueue.execute(eventWriteTask);
+            } catch (final RejectedExecutionException e) {
+                eventWriteScheduled.set(false);
+                log.warn("Unable to schedule saving of events, they will be saved later.", e);
+            }
+        }
+    }
+
+    /**
+     * Saves the events recorded with {@link #recordEventAsync(AnalyticsEvent)}
+     * to the local database, then deletes the oldest events if the database
+     * exceeds the maximum pending size.
+     */
+    void flushBufferedEvents() {
+        synchronized (eventWriteLock) {
+            final List<AnalyticsEvent> events = new ArrayList<AnalyticsEvent>(MAX_EVENTS_PER_TRANSACTION);
+            boolean saved = false;
+            while (eventBuffer.drainTo(events, MAX_EVENTS_PER_TRANSACTION) > 0) {
+                try {
+                    dbUtil.beginTransaction();
+                    try {
+                        for (final AnalyticsEvent event : events) {
+                            dbUtil.saveEvent(event);
+                        }
+                        dbUtil.setTransactionSuccessful();
+                        saved = true;
+                    } finally {
+                        dbUtil.endTransaction();
+                    }
+                } catch (final RuntimeException e) {
+                    log.error(String.format(Locale.US,
+                            "Failed to record %d events to local database.", events.size()), e);
+                }
+                events.clear();
+            }
+            if (saved) {
+                dbUtil.trimToSize(getMaxPendingSize());
+            }
+        }
+    }
+
+    private long getMaxPendingSize() {
+        final long maxPendingSize = pinpointContext.getConfiguration()
+                .optLong(KEY_MAX_PENDING_SIZE, DEFAULT_MAX_PENDING_SIZE);
+        return Math.max(maxPendingSize, MINIMUM_PENDING_SIZE);
+    }
+
     private static final int JSON_COLUMN_INDEX = EventTable.COLUMN_INDEX.JSON.getValue();
     private static final int ID_COLUMN_INDEX = EventTable.COLUMN_INDEX.ID.getValue();
     private static final int SIZE_COLUMN_INDEX = EventTable.COLUMN_INDEX.SIZE.getValue();
@@ -283,6 +378,7 @@ public class EventRecorder {
     }
 
     public List<JSONObject> getAllEvents() {
+        flushBufferedEvents();
         final List<JSONObject> events = new ArrayList<JSONObject>();
         Cursor cursor = null;
         try {
@@ -304,6 +400,8 @@ public class EventRecorder {
     void processEvents() {
         final long start = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
 
+        flushBufferedEvents();
+
         Cursor cursor = null;
 
         try {
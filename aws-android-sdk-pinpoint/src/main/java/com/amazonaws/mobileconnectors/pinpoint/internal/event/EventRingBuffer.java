@@ -0,0 +1,154 @@
+/**
+ * Copyright 2016-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.pinpoint.internal.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, first-in first-out queue that any number of threads
+ * can add to and take from.
+ * <p>
+ * Each slot has a sequence number telling whether it is ready to be written
+ * or read for a given lap around the ring, so adding and taking only take a
+ * compare-and-set on the tail or head.
+ *
+ * @param <E> the type of the elements.
+ */
+class EventRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    /** The position of the next element added. */
+    private final AtomicLong tail = new AtomicLong();
+    /** The position of the next element taken. */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity the most elements held, rounded up to a power of two.
+     */
+    EventRingBuffer(final int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        mask = size - 1;
+        elements = new AtomicReferenceArray<E>(size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return the most elements held.
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds an element at the tail.
+     *
+     * @param element the element.
+     * @return false if the buffer is full.
+     */
+    boolean offer(final E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        while (true) {
+            final long position = tail.get();
+            final int index = (int) position & mask;
+            final long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    // Publishes the element to the reader of this lap.
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // The slot still holds the element of the previous lap.
+                return false;
+            }
+            // Another thread took the position; try the next one.
+        }
+    }
+
+    /**
+     * Takes the element at the head.
+     *
+     * @return the element, or null if the buffer is empty.
+     */
+    E poll() {
+        while (true) {
+            final long position = head.get();
+            final int index = (int) position & mask;
+            final long diff = sequences.get(index) - (position + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    final E element = elements.getAndSet(index, null);
+                    // Frees the slot for the writer of the next lap.
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+            } else if (diff < 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Takes up to maxElements elements from the head.
+     *
+     * @param target the list the elements are added to.
+     * @param maxElements the most elements taken.
+     * @return the number of elements taken.
+     */
+    int drainTo(final List<? super E> target, final int maxElements) {
+        int count = 0;
+        E element;
+        while (count < maxElements && (element = poll()) != null) {
+            target.add(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return whether the buffer holds no element, which may change as soon
+     *         as it returns.
+     */
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    /**
+     * @return the number of elements held, which may change as soon as it
+     *         returns.
+     */
+    int size() {
+        final long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+}
@@ -40,6 +40,7 @@ public class PinpointDBBase {
     private final UriMatcher uriMatcher;
     private final PinpointDatabaseHelper databaseHelper;
     private long totalSize = -1;
+    private boolean transactionSuccessful;
 
     /**
      * Constructs TransferDBBase with the given Context.
@@ -104,6 +105,36 @@ public class PinpointDBBase {
         return Uri.parse(BASE_PATH + "/" + id);
     }
 
+    /**
+     * Begins a transaction on the calling thread, so the following changes
+     * are written together. Only one thread may use a transaction at a time.
+     */
+    public void beginTransaction() {
+        databaseHelper.getWritableDatabase().beginTransaction();
+        transactionSuccessful = false;
+    }
+
+    /**
+     * Marks the transaction as successful, so its changes are kept when it
+     * ends.
+     */
+    public void setTransactionSuccessful() {
+        databaseHelper.getWritableDatabase().setTransactionSuccessful();
+        transactionSuccessful = true;
+    }
+
+    /**
+     * Ends the transaction, keeping its changes only if it was marked as
+     * successful.
+     */
+    public void endTransaction() {
+        databaseHelper.getWritableDatabase().endTransaction();
+        if (!transactionSuccessful) {
+            // The sizes of the rolled back changes were counted.
+            totalSize = -1;
+        }
+    }
+
     /**
      * Get total size of event records.
      *
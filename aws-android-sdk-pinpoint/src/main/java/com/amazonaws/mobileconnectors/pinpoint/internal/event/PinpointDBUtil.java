@@ -64,6 +64,30 @@ public class PinpointDBUtil {
         return pinpointDBBase.insert(pinpointDBBase.getContentUri(), generateContentValuesFromEvent(event));
     }
 
+    /**
+     * Begins a transaction, so the following changes are written together.
+     * Only one thread may use a transaction at a time.
+     */
+    public void beginTransaction() {
+        pinpointDBBase.beginTransaction();
+    }
+
+    /**
+     * Marks the transaction as successful, so its changes are kept when it
+     * ends.
+     */
+    public void setTransactionSuccessful() {
+        pinpointDBBase.setTransactionSuccessful();
+    }
+
+    /**
+     * Ends the transaction, keeping its changes only if it was marked as
+     * successful.
+     */
+    public void endTransaction() {
+        pinpointDBBase.endTransaction();
+    }
+
     private ContentValues generateContentValuesFromEvent(final AnalyticsEvent event) {
         ContentValues values = new ContentValues();
         String json = event.toJSONObject().toString();
@@ -112,6 +136,42 @@ public class PinpointDBUtil {
         return pinpointDBBase.delete(getEventUri(id), null, null, size);
     }
 
+    /**
+     * Deletes the oldest events until the total size is at most maxSize,
+     * with a single range delete.
+     *
+     * @param maxSize The maximum total size of the events kept.
+     * @return Number of rows deleted.
+     */
+    public int trimToSize(final long maxSize) {
+        final long sizeToFree = getTotalSize() - maxSize;
+        if (sizeToFree <= 0) {
+            return 0;
+        }
+        long freedSize = 0;
+        Integer lastId = null;
+        Cursor cursor = null;
+        try {
+            // The sizes of the events are read until enough of them are found.
+            cursor = pinpointDBBase.query(pinpointDBBase.getContentUri(),
+                                          new String[] { COLUMN_ID, COLUMN_SIZE }, null, null,
+                                          COLUMN_ID + " ASC", null);
+            while (freedSize < sizeToFree && cursor.moveToNext()) {
+                lastId = cursor.getInt(0);
+                freedSize += cursor.getLong(1);
+            }
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+        if (lastId == null) {
+            return 0;
+        }
+        return pinpointDBBase.delete(pinpointDBBase.getContentUri(), COLUMN_ID + " <= ?",
+                                     new String[] { lastId.toString() }, null);
+    }
+
     /**
      * Gets the Uri of the event table.
      *
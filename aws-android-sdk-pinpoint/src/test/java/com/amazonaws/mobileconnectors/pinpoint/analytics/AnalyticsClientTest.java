@@ -42,6 +42,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,6 +56,8 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
     private static final String UNIQUE_ID = "abc123";
     private static final String EVENT_TYPE = "my_event";
     private static final Long TIME_STAMP = 123l;
+    // Events are saved by a background thread.
+    private static final long EVENT_WRITE_TIMEOUT = 1000;
     EventRecorder eventRecorder;
     @Mock
     AndroidPreferencesConfiguration mockConfiguration;
@@ -101,7 +104,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(1)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(1)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent recievedEvent = eventCaptor.getAllValues().get(0);
         assertThat(recievedEvent.getEventType(), is(EVENT_TYPE));
@@ -127,7 +130,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(1)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(1)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent recievedEvent = eventCaptor.getAllValues().get(0);
         assertThat(recievedEvent.getEventType(), is(EVENT_TYPE));
@@ -283,7 +286,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(2)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(2)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent recievedEvent = eventCaptor.getAllValues().get(0);
 
@@ -333,7 +336,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(1)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(1)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent recievedEvent = eventCaptor.getAllValues().get(0);
         assertThat(recievedEvent.getAttribute("c"), is("val4"));
@@ -353,7 +356,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(1)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(1)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent recievedEvent = eventCaptor.getAllValues().get(0);
         assertThat(recievedEvent.getAttribute("c"), is("val4"));
@@ -383,7 +386,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(2)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(2)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent recievedEvent = eventCaptor.getAllValues().get(0);
 
@@ -430,7 +433,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(1)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(1)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent recievedEvent = eventCaptor.getAllValues().get(0);
         assertThat(recievedEvent.getAllAttributes().size(), is(1));
@@ -465,7 +468,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(2)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(2)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent firstReceivedEvent = eventCaptor.getAllValues()
                                                           .get(0);
@@ -513,7 +516,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(2)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(2)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent firstRecievedEvent = eventCaptor.getAllValues()
                                                           .get(0);
@@ -566,7 +569,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(2)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(2)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent firstRecievedEvent = eventCaptor.getAllValues()
                                                           .get(0);
@@ -618,7 +621,7 @@ public class AnalyticsClientTest extends MobileAnalyticsTestBase {
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor
                                                              .forClass(AnalyticsEvent.class);
-        verify(dbUtil, times(2)).saveEvent(eventCaptor.capture());
+        verify(dbUtil, timeout(EVENT_WRITE_TIMEOUT).times(2)).saveEvent(eventCaptor.capture());
 
         final AnalyticsEvent firstRecievedEvent = eventCaptor.getAllValues()
                                                           .get(0);
@@ -374,4 +374,39 @@ public class EventRecorderTest {
         }
         assertTrue(dbUtil.getTotalSize() == 0);
     }
+
+    @Test
+    public void testRecordEventAsync() {
+        final ExecutorService eventWriterQueue = mock(ExecutorService.class);
+        final EventRecorder eventRecorder = new EventRecorder(mockContext, dbUtil,
+                                                              submissionRunnable, eventWriterQueue);
+        eventRecorder.recordEventAsync(analyticsEvent);
+        eventRecorder.recordEventAsync(analyticsEvent);
+        // A single write is scheduled, and nothing is saved on the calling thread.
+        verify(eventWriterQueue, times(1)).execute(any(Runnable.class));
+        assertEquals(0, dbUtil.queryAllEvents().getCount());
+
+        // Buffered events are saved before events are read.
+        final List<JSONObject> events = eventRecorder.getAllEvents();
+        assertEquals(2, events.size());
+        assertEquals(analyticsEvent.getEventType(), events.get(1).optString("event_type"));
+    }
+
+    @Test
+    public void testFlushBufferedEventsTrimsOldestEvents() {
+        final EventRecorder eventRecorder = new EventRecorder(mockContext, dbUtil,
+                                                              submissionRunnable, mock(ExecutorService.class));
+        for (int i = 0; i < 100; i++) {
+            eventRecorder.recordEventAsync(analyticsEvent);
+        }
+        eventRecorder.flushBufferedEvents();
+
+        assertTrue(dbUtil.getTotalSize() <= 16 * 1024);
+        final Cursor c = dbUtil.queryAllEvents();
+        assertTrue(c.getCount() > 0 && c.getCount() < 100);
+        // The newest events are kept.
+        assertTrue(c.moveToLast());
+        assertEquals(100, c.getInt(EventTable.COLUMN_INDEX.ID.getValue()));
+        c.close();
+    }
 }
@@ -162,7 +162,7 @@ public class ADMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleCampaignPush(buildNotificationDetails());
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_background"));
@@ -193,7 +193,7 @@ public class ADMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleCampaignPush(buildNotificationDetails());
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_foreground"));
@@ -233,7 +233,7 @@ public class ADMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleCampaignPush(buildNotificationDetails());
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_foreground"));
@@ -264,7 +264,7 @@ public class ADMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleCampaignPush(buildNotificationDetails());
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_background"));
@@ -293,7 +293,7 @@ public class ADMNotificationClientTest extends MobileAnalyticsTestBase {
         assertEquals(NotificationClient.CampaignPushResult.NOTIFICATION_OPENED, result);
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.opened_notification"));
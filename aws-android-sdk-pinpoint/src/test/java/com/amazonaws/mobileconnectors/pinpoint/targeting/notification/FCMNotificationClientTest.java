@@ -156,7 +156,7 @@ public class FCMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleCampaignPush(buildNotificationDetails("12345"));
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_background"));
@@ -187,7 +187,7 @@ public class FCMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleCampaignPush(buildNotificationDetails("12345"));
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_foreground"));
@@ -227,7 +227,7 @@ public class FCMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleCampaignPush(buildNotificationDetails("12345"));
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_foreground"));
@@ -258,7 +258,7 @@ public class FCMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleCampaignPush(buildNotificationDetails("12345"));
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_background"));
@@ -287,7 +287,7 @@ public class FCMNotificationClientTest extends MobileAnalyticsTestBase {
         assertEquals(NotificationClient.CampaignPushResult.NOTIFICATION_OPENED, result);
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.opened_notification"));
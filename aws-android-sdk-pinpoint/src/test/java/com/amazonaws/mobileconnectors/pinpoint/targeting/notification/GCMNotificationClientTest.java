@@ -194,7 +194,7 @@ public class GCMNotificationClientTest extends MobileAnalyticsTestBase {
         assertEquals(NotificationClient.PushResult.OPTED_OUT, pushResult);
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertTrue(receivedEvent.getEventTimestamp() > 0);
@@ -212,7 +212,7 @@ public class GCMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleGCMCampaignPush("12345", buildPushBundle(), Service.class);
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_background"));
@@ -243,7 +243,7 @@ public class GCMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleGCMCampaignPush("12345", buildPushBundle(), Service.class);
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_foreground"));
@@ -283,7 +283,7 @@ public class GCMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleGCMCampaignPush("12345", buildPushBundle(), Service.class);
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_foreground"));
@@ -314,7 +314,7 @@ public class GCMNotificationClientTest extends MobileAnalyticsTestBase {
         NotificationClient.CampaignPushResult pushResult
             = target.handleGCMCampaignPush("12345", buildPushBundle(), Service.class);
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.received_background"));
@@ -343,7 +343,7 @@ public class GCMNotificationClientTest extends MobileAnalyticsTestBase {
         assertEquals(NotificationClient.CampaignPushResult.NOTIFICATION_OPENED, result);
 
         ArgumentCaptor<AnalyticsEvent> eventCaptor = ArgumentCaptor.forClass(AnalyticsEvent.class);
-        verify(mockEventRecorder, times(1)).recordEvent(eventCaptor.capture());
+        verify(mockEventRecorder, times(1)).recordEventAsync(eventCaptor.capture());
 
         final AnalyticsEvent receivedEvent = eventCaptor.getAllValues().get(0);
         assertThat(receivedEvent.getEventType(), is("_campaign.opened_notification"));
@@ -0,0 +1,200 @@
+/**
+ * Copyright 2015-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+
+import com.amazonaws.logging.Log;
+import com.amazonaws.logging.LogFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+
+/**
+ * Downloads a byte range of an object and writes it at the same offset of the
+ * target file. The bytes written so far are saved in the part record, so a
+ * resumed part only fetches the rest of its range.
+ * <p>
+ * The first part of a new download reads the response that revealed the size
+ * of the object instead of requesting its range again.
+ */
+class DownloadPartTask implements Callable<Boolean> {
+    private static final Log LOGGER = LogFactory.getLog(DownloadPartTask.class);
+    private static final int SIXTEEN_KB = 1024 * 16;
+
+    /**
+     * How many bytes are written between two updates of the part record.
+     */
+    private static final long PERSIST_INTERVAL = 1024 * 1024;
+
+    private final DownloadTask.DownloadPartTaskMetadata downloadPartTaskMetadata;
+    private final DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener;
+    private final TransferRecord part;
+    private final String eTag;
+    private final AmazonS3 s3;
+    private final TransferDBUtil dbUtil;
+    private final S3Object response;
+
+    public DownloadPartTask(DownloadTask.DownloadPartTaskMetadata downloadPartTaskMetadata,
+                            DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener,
+                            TransferRecord part,
+                            String eTag,
+                            AmazonS3 s3,
+                            TransferDBUtil dbUtil) {
+        this(downloadPartTaskMetadata, downloadTaskProgressListener, part, eTag, s3, dbUtil,
+                null);
+    }
+
+    /**
+     * @param response the response to the request for the range of this part,
+     *            or null to request it
+     */
+    public DownloadPartTask(DownloadTask.DownloadPartTaskMetadata downloadPartTaskMetadata,
+                            DownloadTask.DownloadTaskProgressListener downloadTaskProgressListener,
+                            TransferRecord part,
+                            String eTag,
+                            AmazonS3 s3,
+                            TransferDBUtil dbUtil,
+                            S3Object response) {
+        this.downloadPartTaskMetadata = downloadPartTaskMetadata;
+        this.downloadTaskProgressListener = downloadTaskProgressListener;
+        this.part = part;
+        this.eTag = eTag;
+        this.s3 = s3;
+        this.dbUtil = dbUtil;
+        this.response = response;
+    }
+
+    /*
+     * Runs part download task and returns whether successfully downloaded.
+     */
+    @Override
+    public Boolean call() throws Exception {
+        long bytesCurrent = part.bytesCurrent;
+        long bytesPersisted = bytesCurrent;
+        if (bytesCurrent >= part.bytesTotal) {
+            // The whole range is written already. Requesting the range past
+            // it would be invalid, and S3 answers with the whole object.
+            downloadPartTaskMetadata.state = TransferState.PART_COMPLETED;
+            dbUtil.updateState(part.id, TransferState.PART_COMPLETED);
+            return true;
+        }
+        RandomAccessFile raf = null;
+        InputStream is = null;
+        try {
+            downloadPartTaskMetadata.state = TransferState.IN_PROGRESS;
+            final S3Object object = response != null ? response : getRange(bytesCurrent);
+            if (object == null) {
+                // The ETag constraint failed.
+                throw new AmazonClientException("Object " + part.key
+                        + " was modified during the download");
+            }
+            is = object.getObjectContent();
+            raf = new RandomAccessFile(part.file, "rw");
+            final FileChannel channel = raf.getChannel();
+
+            final byte[] buffer = new byte[SIXTEEN_KB];
+            int bytesRead;
+            while ((bytesRead = is.read(buffer)) != -1) {
+                final ByteBuffer src = ByteBuffer.wrap(buffer, 0, bytesRead);
+                long position = part.fileOffset + bytesCurrent;
+                while (src.hasRemaining()) {
+                    position += channel.write(src, position);
+                }
+                bytesCurrent += bytesRead;
+                downloadTaskProgressListener.onProgressChanged(part.partNumber, bytesCurrent);
+
+                if (bytesCurrent - bytesPersisted >= PERSIST_INTERVAL) {
+                    dbUtil.updateBytesTransferred(part.id, bytesCurrent);
+                    bytesPersisted = bytesCurrent;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Part download interrupted");
+                }
+            }
+            if (bytesCurrent != part.bytesTotal) {
+                throw new AmazonClientException("Part " + part.partNumber + " ended after "
+                        + bytesCurrent + " of " + part.bytesTotal + " bytes");
+            }
+            dbUtil.updateBytesTransferred(part.id, bytesCurrent);
+            bytesPersisted = bytesCurrent;
+            downloadPartTaskMetadata.state = TransferState.PART_COMPLETED;
+            dbUtil.updateState(part.id, TransferState.PART_COMPLETED);
+            return true;
+        } catch (final Exception e) {
+            LOGGER.error("Download part interrupted: " + e);
+            if (bytesCurrent != bytesPersisted) {
+                // Keep what has been written so a resume can skip it.
+                dbUtil.updateBytesTransferred(part.id, bytesCurrent);
+            }
+
+            // Check if network is not connected, set the state to WAITING_FOR_NETWORK.
+            try {
+                if (TransferNetworkLossHandler.getInstance() != null &&
+                    !TransferNetworkLossHandler.getInstance().isNetworkConnected()) {
+                    LOGGER.info("Thread: [" + Thread.currentThread().getId() + "]: Network wasn't available.");
+                    downloadPartTaskMetadata.state = TransferState.WAITING_FOR_NETWORK;
+                    dbUtil.updateState(part.id, TransferState.WAITING_FOR_NETWORK);
+                    LOGGER.info("Network Connection Interrupted: " +
+                            "Moving the TransferState to WAITING_FOR_NETWORK");
+                    return false;
+                }
+            } catch (TransferUtilityException transferUtilityException) {
+                LOGGER.error("TransferUtilityException: [" + transferUtilityException + "]");
+            }
+
+            // In other cases, set the transfer state to FAILED.
+            downloadPartTaskMetadata.state = TransferState.FAILED;
+            dbUtil.updateState(part.id, TransferState.FAILED);
+            LOGGER.error("Encountered error downloading part ", e);
+            throw e;
+        } finally {
+            try {
+                if (raf != null) {
+                    raf.close();
+                }
+            } catch (final IOException ioe) {
+                LOGGER.warn("got exception", ioe);
+            }
+            try {
+                if (is != null) {
+                    is.close();
+                }
+            } catch (final IOException ioe) {
+                LOGGER.warn("got exception", ioe);
+            }
+        }
+    }
+
+    private S3Object getRange(long bytesCurrent) {
+        final GetObjectRequest getObjectRequest = new GetObjectRequest(part.bucketName,
+                part.key);
+        TransferUtility.appendMultipartTransferServiceUserAgentString(getObjectRequest);
+        getObjectRequest.setRange(part.rangeStart + bytesCurrent, part.rangeLast);
+        if (eTag != null) {
+            getObjectRequest.withMatchingETagConstraint(eTag);
+        }
+        return s3.getObject(getObjectRequest);
+    }
+}
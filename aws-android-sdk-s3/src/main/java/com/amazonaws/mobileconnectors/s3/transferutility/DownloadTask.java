@@ -15,12 +15,17 @@
 
 package com.amazonaws.mobileconnectors.s3.transferutility;
 
+import android.content.ContentValues;
+
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.event.ProgressEvent;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3Encryption;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 
 import com.amazonaws.logging.Log;
@@ -32,34 +37,68 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.net.SocketTimeoutException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Performs download operation and returns a Boolean value indicating whether
  * the file has been downloaded successfully.
+ *
+ * A new download asks for the first part of the object only. If the
+ * Content-Range of the response shows a larger object, the object is split
+ * into byte ranges, which are downloaded in parallel by
+ * {@link DownloadPartTask}s on the part thread pool and written at their
+ * offsets of the file; the first range is read from that response. The
+ * progress of every part is saved, so resuming the download only fetches the
+ * missing ranges.
  */
 class DownloadTask implements Callable<Boolean> {
 
     private static final Log LOGGER = LogFactory.getLog(DownloadTask.class);
     private static final int SIXTEEN_KB = 1024 * 16;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
+    /**
+     * Objects larger than this are downloaded in parts.
+     */
+    static final long MINIMUM_DOWNLOAD_PART_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Bounds the number of part records of a very large download.
+     */
+    static final int MAXIMUM_DOWNLOAD_PARTS = 1000;
 
     private final AmazonS3 s3;
     private final TransferRecord download;
+    private final TransferDBUtil dbUtil;
     private final TransferStatusUpdater updater;
 
+    Map<Integer, DownloadPartTaskMetadata> downloadPartTasks;
+
     /**
      * Constructs a DownloadTask with the given download info and S3 client.
      *
      * @param download A TransferRecord object storing all the information of the
      *                 download
      * @param s3       Low-level S3 client
+     * @param dbUtil   database util
      * @param updater  status updater
      */
-    public DownloadTask(TransferRecord download, AmazonS3 s3, TransferStatusUpdater updater) {
+    public DownloadTask(TransferRecord download,
+                        AmazonS3 s3,
+                        TransferDBUtil dbUtil,
+                        TransferStatusUpdater updater) {
         this.download = download;
         this.s3 = s3;
+        this.dbUtil = dbUtil;
         this.updater = updater;
+        this.downloadPartTasks = new LinkedHashMap<Integer, DownloadPartTaskMetadata>();
     }
 
     /**
@@ -80,14 +119,19 @@ class DownloadTask implements Callable<Boolean> {
 
         updater.updateState(download.id, TransferState.IN_PROGRESS);
 
-        GetObjectRequest getObjectRequest;
         ProgressListener progressListener = updater.newProgressListener(download.id);
 
         try {
-            getObjectRequest = new GetObjectRequest(download.bucketName, download.key);
-            TransferUtility.appendTransferServiceUserAgentString(getObjectRequest);
             final File file = new File(download.file);
+            if (download.isMultipart == 1) {
+                return downloadMultipartAndWaitForCompletion(file, null);
+            }
+
             final long bytesCurrent = file.length();
+            // Ranges of client side encrypted objects can't be decrypted
+            // independently, so those are never split.
+            final boolean mayBeSplit = bytesCurrent == 0 && !(s3 instanceof AmazonS3Encryption);
+            final GetObjectRequest getObjectRequest = newGetObjectRequest(progressListener);
             if (bytesCurrent > 0) {
                 LOGGER.debug(String.format("Resume transfer %d from %d bytes", download.id, bytesCurrent));
                 /*
@@ -95,18 +139,38 @@ class DownloadTask implements Callable<Boolean> {
                  * bytesCurrent to the end.
                  */
                 getObjectRequest.setRange(bytesCurrent, -1);
+            } else if (mayBeSplit) {
+                getObjectRequest.setRange(0, MINIMUM_DOWNLOAD_PART_SIZE - 1);
             }
 
-            getObjectRequest.setGeneralProgressListener(progressListener);
-
-            final S3Object object = s3.getObject(getObjectRequest);
+            S3Object object;
+            try {
+                object = s3.getObject(getObjectRequest);
+            } catch (final AmazonS3Exception e) {
+                if (!mayBeSplit || e.getStatusCode() != HTTP_RANGE_NOT_SATISFIABLE) {
+                    throw e;
+                }
+                // An empty object has no first byte to start a range at.
+                object = s3.getObject(newGetObjectRequest(progressListener));
+            }
             if (object == null) {
                 updater.throwError(download.id, new IllegalStateException("AmazonS3.getObject returns null"));
                 updater.updateState(download.id, TransferState.FAILED);
                 return false;
             }
 
-            final long bytesTotal = object.getObjectMetadata().getInstanceLength();
+            final ObjectMetadata metadata = object.getObjectMetadata();
+            final long bytesTotal = metadata.getInstanceLength();
+            if (mayBeSplit && bytesTotal > metadata.getContentLength()) {
+                try {
+                    splitIntoParts(file, metadata);
+                } catch (final Exception e) {
+                    closeQuietly(object.getObjectContent());
+                    throw e;
+                }
+                return downloadMultipartAndWaitForCompletion(file, object);
+            }
+
             updater.updateProgress(download.id, bytesCurrent, bytesTotal, true);
             saveToFile(object.getObjectContent(), file);
             updater.updateProgress(download.id, bytesTotal, bytesTotal, true);
@@ -169,6 +233,165 @@ class DownloadTask implements Callable<Boolean> {
         }
     }
 
+    private GetObjectRequest newGetObjectRequest(ProgressListener progressListener) {
+        final GetObjectRequest getObjectRequest = new GetObjectRequest(download.bucketName,
+                download.key);
+        TransferUtility.appendTransferServiceUserAgentString(getObjectRequest);
+        getObjectRequest.setGeneralProgressListener(progressListener);
+        return getObjectRequest;
+    }
+
+    /**
+     * Creates the part records of a new download whose first part has been
+     * requested. The first part covers the range of that response, and the
+     * rest of the object is split into parts of {@link #getPartSize(long)}.
+     *
+     * @param file the file to download to
+     * @param firstPartMetadata the metadata of the response to the request
+     *            for the first part
+     */
+    private void splitIntoParts(File file, ObjectMetadata firstPartMetadata) throws IOException {
+        final long bytesTotal = firstPartMetadata.getInstanceLength();
+        final long firstPartSize = firstPartMetadata.getContentLength();
+        final long partSize = getPartSize(bytesTotal);
+        final int partCount = 1 + (int) ((bytesTotal - firstPartSize + partSize - 1) / partSize);
+        final ContentValues[] valuesArray = new ContentValues[partCount];
+        valuesArray[0] = dbUtil.generateContentValuesForDownloadPart(download, 1, 0,
+                firstPartSize - 1, partCount == 1 ? 1 : 0);
+        for (int i = 1; i < partCount; i++) {
+            final long rangeStart = firstPartSize + (i - 1) * partSize;
+            final long rangeLast = Math.min(rangeStart + partSize, bytesTotal) - 1;
+            valuesArray[i] = dbUtil.generateContentValuesForDownloadPart(download, i + 1,
+                    rangeStart, rangeLast, i == partCount - 1 ? 1 : 0);
+        }
+        if (dbUtil.bulkInsertDownloadPartRecords(download.id, valuesArray) == 0) {
+            throw new AmazonClientException("Unable to create the part records of download "
+                    + download.id);
+        }
+        dbUtil.updateMultipartDownload(download.id, bytesTotal, firstPartMetadata.getETag());
+        download.isMultipart = 1;
+        download.bytesTotal = bytesTotal;
+        download.eTag = firstPartMetadata.getETag();
+
+        // Allocate the whole file up front so the parts don't have to extend it.
+        final File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            parentDirectory.mkdirs();
+        }
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(bytesTotal);
+        } finally {
+            raf.close();
+        }
+        LOGGER.info("Multipart download " + download.id + " in " + partCount + " parts.");
+    }
+
+    /**
+     * @param bytesTotal the size of the object
+     * @return the size of the parts of the object
+     */
+    static long getPartSize(long bytesTotal) {
+        return Math.max(MINIMUM_DOWNLOAD_PART_SIZE,
+                (bytesTotal + MAXIMUM_DOWNLOAD_PARTS - 1) / MAXIMUM_DOWNLOAD_PARTS);
+    }
+
+    /**
+     * @param file the file to download to
+     * @param firstPart the response to the request for the first part of a new
+     *            download, or null when resuming
+     */
+    private Boolean downloadMultipartAndWaitForCompletion(File file, S3Object firstPart)
+            throws Exception {
+        long bytesAlreadyTransferred = 0;
+        final List<TransferRecord> parts = dbUtil.queryPartRecordsOfDownload(download.id);
+        for (final TransferRecord part : parts) {
+            if (TransferState.PART_COMPLETED.equals(part.state)) {
+                bytesAlreadyTransferred += part.bytesTotal;
+                continue;
+            }
+            if (part.bytesCurrent >= part.bytesTotal) {
+                // All of the part was written before it could be marked
+                // completed; there is no range left to request.
+                dbUtil.updateState(part.id, TransferState.PART_COMPLETED);
+                bytesAlreadyTransferred += part.bytesTotal;
+                continue;
+            }
+            final DownloadPartTaskMetadata downloadPartTaskMetadata = new DownloadPartTaskMetadata();
+            downloadPartTaskMetadata.part = part;
+            downloadPartTaskMetadata.bytesTransferredSoFar = part.bytesCurrent;
+            downloadPartTaskMetadata.state = TransferState.WAITING;
+            downloadPartTasks.put(part.partNumber, downloadPartTaskMetadata);
+        }
+
+        final DownloadTaskProgressListener downloadTaskProgressListener =
+                new DownloadTaskProgressListener(bytesAlreadyTransferred);
+        final long bytesCurrent = downloadTaskProgressListener.getTotalBytesTransferred();
+        if (bytesCurrent > 0) {
+            LOGGER.info(String.format("Resume transfer %d from %d bytes", download.id, bytesCurrent));
+        }
+        updater.updateProgress(download.id, bytesCurrent, download.bytesTotal, false);
+
+        final File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            parentDirectory.mkdirs();
+        }
+        for (final DownloadPartTaskMetadata task : downloadPartTasks.values()) {
+            final S3Object response = task.part.partNumber == 1 ? firstPart : null;
+            task.downloadPartTask = TransferThreadPool.submitTask(new DownloadPartTask(task,
+                    downloadTaskProgressListener, task.part, download.eTag, s3, dbUtil,
+                    response));
+        }
+
+        boolean isSuccess = true;
+        try {
+            /*
+             * Future.get() will block the current thread until the method
+             * returns.
+             */
+            for (final DownloadPartTaskMetadata task : downloadPartTasks.values()) {
+                // DownloadPartTask returns false when the network is lost.
+                isSuccess &= task.downloadPartTask.get();
+            }
+        } catch (final Exception e) {
+            /*
+             * Future.get() will catch InterruptedException, but it's not a
+             * failure, it may be caused by a pause operation from applications.
+             * Cancel all the on-going part tasks.
+             */
+            for (final DownloadPartTaskMetadata task : downloadPartTasks.values()) {
+                task.downloadPartTask.cancel(true);
+            }
+            if (firstPart != null) {
+                // In case the task of the first part never ran.
+                closeQuietly(firstPart.getObjectContent());
+            }
+            if (e instanceof ExecutionException && e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+
+        if (!isSuccess) {
+            LOGGER.info("Network not connected. Setting the state to WAITING_FOR_NETWORK.");
+            updater.updateState(download.id, TransferState.WAITING_FOR_NETWORK);
+            return false;
+        }
+        updater.updateProgress(download.id, download.bytesTotal, download.bytesTotal, true);
+        updater.updateState(download.id, TransferState.COMPLETED);
+        return true;
+    }
+
+    private static void closeQuietly(InputStream is) {
+        try {
+            if (is != null) {
+                is.close();
+            }
+        } catch (final IOException ioe) {
+            LOGGER.warn("got exception", ioe);
+        }
+    }
+
     /**
      * Writes stream data into a file.
      *
@@ -215,4 +438,63 @@ class DownloadTask implements Callable<Boolean> {
             }
         }
     }
+
+    /**
+     * Progress Listener for the Main DownloadTask.
+     */
+    class DownloadTaskProgressListener {
+
+        // Bytes of the parts completed before this task started.
+        private final long bytesOfCompletedParts;
+
+        // This variable tracks the previously reported total bytes transferred.
+        private long prevTotalBytesTransferredOfAllParts;
+
+        DownloadTaskProgressListener(long bytesOfCompletedParts) {
+            this.bytesOfCompletedParts = bytesOfCompletedParts;
+            this.prevTotalBytesTransferredOfAllParts = getTotalBytesTransferred();
+        }
+
+        synchronized long getTotalBytesTransferred() {
+            long totalBytesTransferredOfAllParts = bytesOfCompletedParts;
+            for (final DownloadPartTaskMetadata part : downloadPartTasks.values()) {
+                totalBytesTransferredOfAllParts += part.bytesTransferredSoFar;
+            }
+            return totalBytesTransferredOfAllParts;
+        }
+
+        public synchronized void onProgressChanged(final int partNum,
+            final long bytesTransferredSoFarForPartNum) {
+            final DownloadPartTaskMetadata partNumTask = downloadPartTasks.get(partNum);
+            if (partNumTask == null) {
+                LOGGER.info("Update received for unknown part. Ignoring.");
+                return;
+            }
+
+            partNumTask.bytesTransferredSoFar = bytesTransferredSoFarForPartNum;
+            final long totalBytesTransferredOfAllParts = getTotalBytesTransferred();
+            if (totalBytesTransferredOfAllParts > prevTotalBytesTransferredOfAllParts) {
+                updater.updateProgress(DownloadTask.this.download.id,
+                    totalBytesTransferredOfAllParts,
+                    DownloadTask.this.download.bytesTotal,
+                    true);
+                prevTotalBytesTransferredOfAllParts = totalBytesTransferredOfAllParts;
+            }
+        }
+    }
+
+    // This class represents the state being tracked per part
+    class DownloadPartTaskMetadata {
+        // The part record, holding its range and the bytes already written
+        TransferRecord part;
+
+        // The future task that runs DownloadPartTask to download a part
+        Future<Boolean> downloadPartTask;
+
+        // number of bytes transferred so far for this part
+        long bytesTransferredSoFar;
+
+        // state of the transfer
+        TransferState state;
+    }
 }
@@ -178,9 +178,40 @@ class TransferDBBase {
      */
     public synchronized int update(Uri uri, ContentValues values, String whereClause,
             String[] whereArgs) {
-        final int uriType = uriMatcher.match(uri);
+        ensureDatabaseOpen();
+        return updateOpenDatabase(uri, values, whereClause, whereArgs);
+    }
+
+    /**
+     * Updates several records in one transaction, which saves a journal sync
+     * per record compared to {@link #update}.
+     *
+     * @param uris The Uris of the records.
+     * @param valuesArray The values to update, one per Uri.
+     * @return Number of rows updated.
+     */
+    public synchronized int bulkUpdate(Uri[] uris, ContentValues[] valuesArray) {
         int rowsUpdated = 0;
         ensureDatabaseOpen();
+        try {
+            database.beginTransaction();
+            for (int i = 0; i < uris.length; i++) {
+                rowsUpdated += updateOpenDatabase(uris[i], valuesArray[i], null, null);
+            }
+            database.setTransactionSuccessful();
+        } catch (final Exception e) {
+            LOGGER.error("bulkUpdate error : ", e);
+            rowsUpdated = 0;
+        } finally {
+            database.endTransaction();
+        }
+        return rowsUpdated;
+    }
+
+    private int updateOpenDatabase(Uri uri, ContentValues values, String whereClause,
+            String[] whereArgs) {
+        final int uriType = uriMatcher.match(uri);
+        int rowsUpdated = 0;
         switch (uriType) {
             case TRANSFERS:
                 rowsUpdated = database.update(TransferTable.TABLE_TRANSFER, values, whereClause,
@@ -204,9 +235,10 @@ class TransferDBBase {
     }
 
     /**
-     * Deletes a record in the table.
+     * Deletes records in the table. With the Uri of a record, the record is
+     * deleted together with its part records.
      *
-     * @param uri A Uri of the specific record.
+     * @param uri A Uri of the table or of a specific record.
      * @param selection The "where" clause of sql.
      * @param selectionArgs Strings in the "where" clause.
      * @return Number of rows deleted.
@@ -221,14 +253,25 @@ class TransferDBBase {
                         selectionArgs);
                 break;
             case TRANSFER_ID:
+                // The record goes together with its part records.
                 final String id = uri.getLastPathSegment();
+                final String recordAndParts = "(" + TransferTable.COLUMN_ID + "=? or "
+                        + TransferTable.COLUMN_MAIN_UPLOAD_ID + "=?)";
                 if (TextUtils.isEmpty(selection)) {
-                    rowsDeleted = database.delete(TransferTable.TABLE_TRANSFER,
-                            TransferTable.COLUMN_ID + "=" + id, null);
+                    rowsDeleted = database.delete(TransferTable.TABLE_TRANSFER, recordAndParts,
+                            new String[] {
+                                    id, id
+                            });
                 } else {
-                    rowsDeleted = database
-                            .delete(TransferTable.TABLE_TRANSFER, TransferTable.COLUMN_ID + "="
-                                    + id + " and " + selection, selectionArgs);
+                    final int argCount = selectionArgs == null ? 0 : selectionArgs.length;
+                    final String[] args = new String[argCount + 2];
+                    args[0] = id;
+                    args[1] = id;
+                    if (argCount > 0) {
+                        System.arraycopy(selectionArgs, 0, args, 2, argCount);
+                    }
+                    rowsDeleted = database.delete(TransferTable.TABLE_TRANSFER,
+                            recordAndParts + " and (" + selection + ")", args);
                 }
                 break;
             default:
@@ -238,7 +281,12 @@ class TransferDBBase {
     }
 
     /**
-     * @param uri The Uri of a table.
+     * Inserts the records of a multipart transfer in one transaction. With the
+     * Uri of the table, the first values are inserted as the main record and
+     * the rest as its parts. With the part Uri of an existing main record, the
+     * values replace all the parts of that record.
+     *
+     * @param uri The Uri of a table, or the part Uri of a main record.
      * @param valuesArray A array of values to insert.
      * @return The mainUploadId of the multipart transfer records
      */
@@ -263,6 +311,25 @@ class TransferDBBase {
                     database.endTransaction();
                 }
                 break;
+            case TRANSFER_PART:
+                mainUploadId = Integer.parseInt(uri.getLastPathSegment());
+                try {
+                    database.beginTransaction();
+                    database.delete(TransferTable.TABLE_TRANSFER,
+                            TransferTable.COLUMN_MAIN_UPLOAD_ID + "=" + mainUploadId + " and "
+                                    + TransferTable.COLUMN_PART_NUM + ">0", null);
+                    for (final ContentValues values : valuesArray) {
+                        values.put(TransferTable.COLUMN_MAIN_UPLOAD_ID, mainUploadId);
+                        database.insertOrThrow(TransferTable.TABLE_TRANSFER, null, values);
+                    }
+                    database.setTransactionSuccessful();
+                } catch (final Exception e) {
+                    LOGGER.error("bulkInsert error : ", e);
+                    mainUploadId = 0;
+                } finally {
+                    database.endTransaction();
+                }
+                break;
             default:
                 throw new IllegalArgumentException("Unknown URI: " + uri);
         }
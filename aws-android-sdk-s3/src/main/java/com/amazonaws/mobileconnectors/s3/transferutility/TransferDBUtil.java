@@ -34,6 +34,7 @@ import com.google.gson.Gson;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides methods to conveniently perform database operations.
@@ -168,6 +169,18 @@ class TransferDBUtil {
         return transferDBBase.bulkInsert(transferDBBase.getContentUri(), valuesArray);
     }
 
+    /**
+     * Replaces the part records of a multipart download in one transaction.
+     *
+     * @param mainUploadId The id of the main download record.
+     * @param valuesArray The values of the parts, generated by
+     *            {@link #generateContentValuesForDownloadPart}.
+     * @return The id of the main download record, or 0 if the insert failed.
+     */
+    public int bulkInsertDownloadPartRecords(int mainUploadId, ContentValues[] valuesArray) {
+        return transferDBBase.bulkInsert(getPartUri(mainUploadId), valuesArray);
+    }
+
     /**
      * Writes transfer status including transfer state, current transferred
      * bytes and total bytes into database.
@@ -197,6 +210,26 @@ class TransferDBUtil {
         return transferDBBase.update(getRecordUri(id), values, null, null);
     }
 
+    /**
+     * Updates the current bytes of several transfer records in one
+     * transaction.
+     *
+     * @param bytesById The bytes currently transferred, by transfer id
+     * @return Number of rows updated.
+     */
+    public int updateBytesTransferred(Map<Integer, Long> bytesById) {
+        final Uri[] uris = new Uri[bytesById.size()];
+        final ContentValues[] valuesArray = new ContentValues[bytesById.size()];
+        int i = 0;
+        for (final Map.Entry<Integer, Long> entry : bytesById.entrySet()) {
+            uris[i] = getRecordUri(entry.getKey());
+            valuesArray[i] = new ContentValues();
+            valuesArray[i].put(TransferTable.COLUMN_BYTES_CURRENT, entry.getValue());
+            i++;
+        }
+        return transferDBBase.bulkUpdate(uris, valuesArray);
+    }
+
     /**
      * Updates the total bytes of a download record.
      *
@@ -210,6 +243,23 @@ class TransferDBUtil {
         return transferDBBase.update(getRecordUri(id), values, null, null);
     }
 
+    /**
+     * Marks a download record as a multipart download of an object with the
+     * given size and ETag.
+     *
+     * @param id The id of the transfer
+     * @param bytes The total bytes of the download.
+     * @param etag The ETag of the object, which all the parts must match.
+     * @return Number of rows updated.
+     */
+    public int updateMultipartDownload(int id, long bytes, String etag) {
+        final ContentValues values = new ContentValues();
+        values.put(TransferTable.COLUMN_IS_MULTIPART, 1);
+        values.put(TransferTable.COLUMN_BYTES_TOTAL, bytes);
+        values.put(TransferTable.COLUMN_ETAG, etag);
+        return transferDBBase.update(getRecordUri(id), values, null, null);
+    }
+
     /**
      * Updates the state but do not notify TransferService to refresh its
      * transfer record list. Therefore, only TransferObserver knows the state
@@ -550,7 +600,8 @@ class TransferDBUtil {
     }
 
     /**
-     * Deletes the record with the given id.
+     * Deletes the record with the given id, along with the records of its
+     * parts.
      *
      * @param id The id of the transfer to be deleted.
      * @return Number of rows deleted.
@@ -638,6 +689,33 @@ class TransferDBUtil {
         return list;
     }
 
+    /**
+     * Queries the part records of a multipart download, in part number order.
+     * It's used when starting or resuming a multipart download.
+     *
+     * @param mainUploadId The id of the main download record
+     * @return A list of part records
+     */
+    public List<TransferRecord> queryPartRecordsOfDownload(int mainUploadId) {
+        final List<TransferRecord> parts = new ArrayList<TransferRecord>();
+        Cursor c = null;
+        try {
+            c = transferDBBase.query(getPartUri(mainUploadId), null, null, null,
+                    TransferTable.COLUMN_PART_NUM);
+            while (c.moveToNext()) {
+                final TransferRecord part = new TransferRecord(
+                        c.getInt(c.getColumnIndexOrThrow(TransferTable.COLUMN_ID)));
+                part.updateFromDB(c);
+                parts.add(part);
+            }
+        } finally {
+            if (c != null) {
+                c.close();
+            }
+        }
+        return parts;
+    }
+
     /**
      * Queries waiting for network partUpload tasks of a multipart upload and returns
      * true if one such partUpload tasks
@@ -808,6 +886,39 @@ class TransferDBUtil {
         return values;
     }
 
+    /**
+     * Generates a ContentValues object to insert into the database for a part
+     * of a multipart download. The part covers the bytes from rangeStart to
+     * rangeLast inclusive of the object, and is written at the same offset of
+     * the file.
+     *
+     * @param download The main download record.
+     * @param partNumber The part number of this part, starting from 1.
+     * @param rangeStart The first byte of the part.
+     * @param rangeLast The last byte of the part.
+     * @param isLastPart Whether this part is the last part of the download.
+     * @return The ContentValues object generated.
+     */
+    public ContentValues generateContentValuesForDownloadPart(TransferRecord download,
+            int partNumber, long rangeStart, long rangeLast, int isLastPart) {
+        final ContentValues values = new ContentValues();
+        values.put(TransferTable.COLUMN_TYPE, TransferType.DOWNLOAD.toString());
+        values.put(TransferTable.COLUMN_STATE, TransferState.WAITING.toString());
+        values.put(TransferTable.COLUMN_BUCKET_NAME, download.bucketName);
+        values.put(TransferTable.COLUMN_KEY, download.key);
+        values.put(TransferTable.COLUMN_FILE, download.file);
+        values.put(TransferTable.COLUMN_BYTES_CURRENT, 0L);
+        values.put(TransferTable.COLUMN_BYTES_TOTAL, rangeLast - rangeStart + 1);
+        values.put(TransferTable.COLUMN_IS_MULTIPART, 1);
+        values.put(TransferTable.COLUMN_PART_NUM, partNumber);
+        values.put(TransferTable.COLUMN_FILE_OFFSET, rangeStart);
+        values.put(TransferTable.COLUMN_DATA_RANGE_START, rangeStart);
+        values.put(TransferTable.COLUMN_DATA_RANGE_LAST, rangeLast);
+        values.put(TransferTable.COLUMN_IS_LAST_PART, isLastPart);
+        values.put(TransferTable.COLUMN_IS_ENCRYPTED, 0);
+        return values;
+    }
+
     /**
      * Gets the Uri of the transfer record table.
      *
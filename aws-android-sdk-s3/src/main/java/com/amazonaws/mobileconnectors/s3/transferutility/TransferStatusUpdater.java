@@ -27,11 +27,15 @@ import com.amazonaws.logging.LogFactory;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A class that tracks active transfers. It has a static map that holds weak
@@ -54,11 +58,51 @@ class TransferStatusUpdater {
     static final Map<Integer, List<TransferListener>> LISTENERS = new ConcurrentHashMap<Integer, List<TransferListener>>() {
     };
 
+    /**
+     * Progress is saved to the database at most this often, unless
+     * {@link #PROGRESS_FLUSH_BYTES} have been transferred since the last save.
+     */
+    static final long PROGRESS_FLUSH_INTERVAL_MS = 1000;
+
+    /**
+     * Saves progress once this many bytes have been transferred since the last
+     * save, across all transfers.
+     */
+    static final long PROGRESS_FLUSH_BYTES = 8 * 1024 * 1024;
+
     /**
      * A map of active transfers.
      */
     private final Map<Integer, TransferRecord> transfers;
 
+    /**
+     * The latest bytesCurrent of transfers whose progress hasn't been saved to
+     * the database yet.
+     */
+    private final ConcurrentMap<Integer, Long> pendingProgress;
+
+    /**
+     * The latest bytesCurrent of active transfers, saved or not, to count the
+     * bytes transferred by each progress update.
+     */
+    private final ConcurrentMap<Integer, Long> lastProgress;
+
+    /**
+     * Bytes transferred since progress was last saved.
+     */
+    private final AtomicLong bytesSinceFlush = new AtomicLong();
+
+    /**
+     * When progress was last saved, per {@link System#nanoTime()}.
+     */
+    private final AtomicLong lastFlushNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * Serializes writes of pending progress so that an older value is never
+     * written after a newer one.
+     */
+    private final Object flushLock = new Object();
+
     /**
      * Database util to update transfer status.
      */
@@ -83,6 +127,8 @@ class TransferStatusUpdater {
         dbUtil = dbUtilInstance;
         mainHandler = new Handler(Looper.getMainLooper());
         transfers = new ConcurrentHashMap<Integer, TransferRecord>();
+        pendingProgress = new ConcurrentHashMap<Integer, Long>();
+        lastProgress = new ConcurrentHashMap<Integer, Long>();
     }
 
     /**
@@ -137,6 +183,7 @@ class TransferStatusUpdater {
             LISTENERS.remove(id);
         }
         transfers.remove(id);
+        lastProgress.remove(id);
     }
     
     /**
@@ -146,6 +193,8 @@ class TransferStatusUpdater {
      */
     synchronized void removeTransferRecordFromDB(final int id) {
         S3ClientReference.remove(id);
+        pendingProgress.remove(id);
+        lastProgress.remove(id);
         dbUtil.deleteTransferRecords(id);
     }
 
@@ -166,6 +215,13 @@ class TransferStatusUpdater {
      * @param newState new state
      */
     synchronized void updateState(final int id, final TransferState newState) {
+        // a state transition always saves the progress made so far
+        flushProgress();
+        if (TransferState.COMPLETED.equals(newState)
+                || TransferState.FAILED.equals(newState)
+                || TransferState.CANCELED.equals(newState)) {
+            lastProgress.remove(id);
+        }
         boolean shouldNotNotify = STATES_NOT_TO_NOTIFY.contains(newState);
         final TransferRecord transfer = transfers.get(id);
         if (transfer == null) {
@@ -222,14 +278,21 @@ class TransferStatusUpdater {
      * Updates the transfer progress of a transfer. It will trigger
      * {@link TransferListener#onProgressChanged(int, long, long)} of associated
      * LISTENERS if the update exceeds either time threshold.
+     * <p>
+     * The progress is kept in memory and saved to the database in batches,
+     * once {@link #PROGRESS_FLUSH_INTERVAL_MS} have passed or
+     * {@link #PROGRESS_FLUSH_BYTES} have been transferred since the last save,
+     * and on every state change. This method doesn't take the updater's lock,
+     * so concurrent parts don't wait on each other's database writes.
      *
      * @param id id of the transfer
      * @param bytesCurrent current transferred bytes
      * @param bytesTotal total bytes
+     * @param notifyListener whether to notify the listeners of the transfer
      */
-    synchronized void updateProgress(final int id, 
-        final long bytesCurrent, 
-        final long bytesTotal, 
+    void updateProgress(final int id,
+        final long bytesCurrent,
+        final long bytesTotal,
         final boolean notifyListener) {
 
         final TransferRecord transfer = transfers.get(id);
@@ -238,9 +301,19 @@ class TransferStatusUpdater {
             transfer.bytesTotal = bytesTotal;
         }
 
-        // update bytes transferred so that the transfer observer may pick it
-        // up.
-        dbUtil.updateBytesTransferred(id, bytesCurrent);
+        // keep bytes transferred so that the transfer observer may pick it
+        // up after the next flush.
+        pendingProgress.put(id, bytesCurrent);
+        final Long previous = lastProgress.put(id, bytesCurrent);
+        final long delta = bytesCurrent - (previous != null ? previous : 0L);
+        final long bytesPending = bytesSinceFlush.addAndGet(Math.max(delta, 0L));
+        final long lastFlush = lastFlushNanos.get();
+        final long now = System.nanoTime();
+        if ((bytesPending >= PROGRESS_FLUSH_BYTES
+                || now - lastFlush >= TimeUnit.MILLISECONDS.toNanos(PROGRESS_FLUSH_INTERVAL_MS))
+                && lastFlushNanos.compareAndSet(lastFlush, now)) {
+            flushProgress();
+        }
 
         if (!notifyListener) {
             return;
@@ -265,6 +338,30 @@ class TransferStatusUpdater {
         }
     }
 
+    /**
+     * Saves the pending progress of all transfers to the database in one
+     * transaction.
+     */
+    void flushProgress() {
+        synchronized (flushLock) {
+            if (pendingProgress.isEmpty()) {
+                return;
+            }
+            bytesSinceFlush.set(0);
+            lastFlushNanos.set(System.nanoTime());
+            final Map<Integer, Long> batch = new HashMap<Integer, Long>();
+            for (final Map.Entry<Integer, Long> entry : pendingProgress.entrySet()) {
+                // a newer value put in the meantime stays pending
+                if (pendingProgress.remove(entry.getKey(), entry.getValue())) {
+                    batch.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (!batch.isEmpty() && dbUtil.updateBytesTransferred(batch) == 0) {
+                LOGGER.warn("Failed to save the progress of transfers " + batch.keySet());
+            }
+        }
+    }
+
     /**
      * Throws an error to transfer. It triggers
      * {@link TransferListener#onError(int, Exception)} of associated LISTENERS.
@@ -0,0 +1,325 @@
+/**
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.ContentValues;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.List;
+
+public class DownloadTaskTest {
+    private static final int DOWNLOAD_ID = 1;
+    private static final int PART_SIZE = 64;
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final String ETAG = "etag";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private AmazonS3 s3;
+    private TransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+    private byte[] object;
+    private File file;
+
+    @Before
+    public void setup() throws Exception {
+        s3 = Mockito.mock(AmazonS3.class);
+        dbUtil = Mockito.mock(TransferDBUtil.class);
+        updater = Mockito.mock(TransferStatusUpdater.class);
+        object = new byte[2 * PART_SIZE];
+        for (int i = 0; i < object.length; i++) {
+            object[i] = (byte) i;
+        }
+        file = temp.newFile();
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(object.length);
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Test
+    public void testResumeSkipsPartWrittenInFull() throws Exception {
+        // The first part was written in full but not marked completed.
+        final TransferRecord first = part(1, PART_SIZE);
+        first.state = TransferState.IN_PROGRESS;
+        writeObjectRange(0, PART_SIZE);
+        final TransferRecord second = part(2, 0);
+        Mockito.when(dbUtil.queryPartRecordsOfDownload(DOWNLOAD_ID))
+                .thenReturn(Arrays.asList(first, second));
+        stubRanges();
+
+        assertTrue("download completed", newDownloadTask().call());
+
+        final ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor
+                .forClass(GetObjectRequest.class);
+        Mockito.verify(s3).getObject(requestCaptor.capture());
+        assertArrayEquals("only the second part is requested",
+                new long[] { PART_SIZE, 2 * PART_SIZE - 1 }, requestCaptor.getValue().getRange());
+        Mockito.verify(dbUtil).updateState(first.id, TransferState.PART_COMPLETED);
+        Mockito.verify(dbUtil).updateState(second.id, TransferState.PART_COMPLETED);
+        Mockito.verify(updater).updateState(DOWNLOAD_ID, TransferState.COMPLETED);
+        assertArrayEquals("file content", object, readFile());
+    }
+
+    @Test
+    public void testResumeRequestsRestOfPart() throws Exception {
+        final TransferRecord first = part(1, 0);
+        first.state = TransferState.PART_COMPLETED;
+        writeObjectRange(0, PART_SIZE);
+        // Half of the second part was written.
+        final TransferRecord second = part(2, PART_SIZE / 2);
+        second.state = TransferState.WAITING_FOR_NETWORK;
+        writeObjectRange(PART_SIZE, PART_SIZE / 2);
+        Mockito.when(dbUtil.queryPartRecordsOfDownload(DOWNLOAD_ID))
+                .thenReturn(Arrays.asList(first, second));
+        stubRanges();
+
+        assertTrue("download completed", newDownloadTask().call());
+
+        final ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor
+                .forClass(GetObjectRequest.class);
+        Mockito.verify(s3).getObject(requestCaptor.capture());
+        assertArrayEquals("the rest of the second part is requested",
+                new long[] { PART_SIZE + PART_SIZE / 2, 2 * PART_SIZE - 1 },
+                requestCaptor.getValue().getRange());
+        Mockito.verify(dbUtil).updateBytesTransferred(second.id, PART_SIZE);
+        Mockito.verify(dbUtil).updateState(second.id, TransferState.PART_COMPLETED);
+        assertArrayEquals("file content", object, readFile());
+    }
+
+    @Test
+    public void testNewDownloadOfSmallObjectMakesOneRequest() throws Exception {
+        emptyFile();
+        stubRanges();
+
+        assertTrue("download completed", newDownloadTask(0).call());
+
+        final ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor
+                .forClass(GetObjectRequest.class);
+        Mockito.verify(s3).getObject(requestCaptor.capture());
+        assertArrayEquals("the first part is requested",
+                new long[] { 0, DownloadTask.MINIMUM_DOWNLOAD_PART_SIZE - 1 },
+                requestCaptor.getValue().getRange());
+        Mockito.verify(s3, Mockito.never())
+                .getObjectMetadata(Mockito.any(GetObjectMetadataRequest.class));
+        Mockito.verify(dbUtil, Mockito.never()).bulkInsertDownloadPartRecords(
+                Mockito.anyInt(), Mockito.any(ContentValues[].class));
+        Mockito.verify(updater).updateState(DOWNLOAD_ID, TransferState.COMPLETED);
+        assertArrayEquals("file content", object, readFile());
+    }
+
+    @Test
+    public void testNewDownloadOfLargeObjectReusesFirstResponse() throws Exception {
+        final int firstPartSize = (int) DownloadTask.MINIMUM_DOWNLOAD_PART_SIZE;
+        object = Arrays.copyOf(object, firstPartSize + PART_SIZE);
+        emptyFile();
+        final TransferRecord first = part(1, 0);
+        first.rangeLast = firstPartSize - 1;
+        first.bytesTotal = firstPartSize;
+        final TransferRecord second = part(2, 0);
+        second.rangeStart = firstPartSize;
+        second.rangeLast = object.length - 1;
+        second.fileOffset = second.rangeStart;
+        Mockito.when(dbUtil.bulkInsertDownloadPartRecords(Mockito.eq(DOWNLOAD_ID),
+                Mockito.any(ContentValues[].class))).thenReturn(2);
+        Mockito.when(dbUtil.queryPartRecordsOfDownload(DOWNLOAD_ID))
+                .thenReturn(Arrays.asList(first, second));
+        stubRanges();
+
+        final DownloadTask downloadTask = newDownloadTask(0);
+        assertTrue("download completed", downloadTask.call());
+
+        final ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor
+                .forClass(GetObjectRequest.class);
+        Mockito.verify(s3, Mockito.times(2)).getObject(requestCaptor.capture());
+        final List<GetObjectRequest> requests = requestCaptor.getAllValues();
+        assertArrayEquals("the first part is requested",
+                new long[] { 0, firstPartSize - 1 }, requests.get(0).getRange());
+        assertArrayEquals("then only the rest of the object",
+                new long[] { firstPartSize, object.length - 1 }, requests.get(1).getRange());
+        assertEquals("the parts are limited to the first response's ETag", ETAG,
+                requests.get(1).getMatchingETagConstraints().get(0));
+        Mockito.verify(s3, Mockito.never())
+                .getObjectMetadata(Mockito.any(GetObjectMetadataRequest.class));
+        Mockito.verify(dbUtil).generateContentValuesForDownloadPart(Mockito.any(TransferRecord.class),
+                Mockito.eq(1), Mockito.eq(0L), Mockito.eq((long) firstPartSize - 1), Mockito.eq(0));
+        Mockito.verify(dbUtil).generateContentValuesForDownloadPart(Mockito.any(TransferRecord.class),
+                Mockito.eq(2), Mockito.eq((long) firstPartSize),
+                Mockito.eq((long) object.length - 1), Mockito.eq(1));
+        Mockito.verify(dbUtil).updateMultipartDownload(DOWNLOAD_ID, object.length, ETAG);
+        Mockito.verify(dbUtil).updateState(first.id, TransferState.PART_COMPLETED);
+        Mockito.verify(dbUtil).updateState(second.id, TransferState.PART_COMPLETED);
+        Mockito.verify(updater).updateState(DOWNLOAD_ID, TransferState.COMPLETED);
+        assertArrayEquals("file content", object, readFile());
+    }
+
+    @Test
+    public void testNewDownloadOfEmptyObject() throws Exception {
+        object = new byte[0];
+        emptyFile();
+        stubRanges();
+
+        assertTrue("download completed", newDownloadTask(0).call());
+
+        final ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor
+                .forClass(GetObjectRequest.class);
+        Mockito.verify(s3, Mockito.times(2)).getObject(requestCaptor.capture());
+        assertNull("the unsatisfiable range is dropped",
+                requestCaptor.getAllValues().get(1).getRange());
+        Mockito.verify(updater).updateState(DOWNLOAD_ID, TransferState.COMPLETED);
+        assertEquals("file length", 0, file.length());
+    }
+
+    @Test
+    public void testPartTaskWrittenInFullMakesNoRequest() throws Exception {
+        final TransferRecord part = part(1, PART_SIZE);
+        final DownloadTask downloadTask = newDownloadTask();
+        final DownloadTask.DownloadPartTaskMetadata metadata = downloadTask.new DownloadPartTaskMetadata();
+        final DownloadPartTask task = new DownloadPartTask(metadata,
+                downloadTask.new DownloadTaskProgressListener(0), part, null, s3, dbUtil);
+
+        assertTrue("part completed", task.call());
+        assertEquals("part state", TransferState.PART_COMPLETED, metadata.state);
+        Mockito.verify(dbUtil).updateState(part.id, TransferState.PART_COMPLETED);
+        Mockito.verifyZeroInteractions(s3);
+    }
+
+    private DownloadTask newDownloadTask() {
+        return newDownloadTask(1);
+    }
+
+    private DownloadTask newDownloadTask(int isMultipart) {
+        final TransferRecord download = new TransferRecord(DOWNLOAD_ID);
+        download.bucketName = BUCKET;
+        download.key = KEY;
+        download.file = file.getAbsolutePath();
+        download.isMultipart = isMultipart;
+        download.bytesTotal = isMultipart == 1 ? object.length : 0;
+        return new DownloadTask(download, s3, dbUtil, updater);
+    }
+
+    private TransferRecord part(int partNumber, long bytesCurrent) {
+        final TransferRecord part = new TransferRecord(DOWNLOAD_ID + partNumber);
+        part.mainUploadId = DOWNLOAD_ID;
+        part.partNumber = partNumber;
+        part.bucketName = BUCKET;
+        part.key = KEY;
+        part.file = file.getAbsolutePath();
+        part.rangeStart = (partNumber - 1) * PART_SIZE;
+        part.rangeLast = part.rangeStart + PART_SIZE - 1;
+        part.fileOffset = part.rangeStart;
+        part.bytesTotal = PART_SIZE;
+        part.bytesCurrent = bytesCurrent;
+        part.state = TransferState.WAITING;
+        return part;
+    }
+
+    /**
+     * Answers getObject with the requested range of the object, the way S3
+     * does.
+     */
+    private void stubRanges() {
+        Mockito.when(s3.getObject(Mockito.any(GetObjectRequest.class))).thenAnswer(
+                new Answer<S3Object>() {
+                    @Override
+                    public S3Object answer(InvocationOnMock invocation) {
+                        final long[] range = ((GetObjectRequest) invocation.getArguments()[0])
+                                .getRange();
+                        final ObjectMetadata metadata = new ObjectMetadata();
+                        metadata.setHeader(Headers.ETAG, ETAG);
+                        int start = 0;
+                        int length = object.length;
+                        if (range != null) {
+                            if (range[0] >= object.length) {
+                                final AmazonS3Exception e = new AmazonS3Exception(
+                                        "The requested range is not satisfiable");
+                                e.setStatusCode(416);
+                                throw e;
+                            }
+                            start = (int) range[0];
+                            length = (int) Math.min(range[1] + 1, object.length) - start;
+                            metadata.setHeader(Headers.CONTENT_RANGE, "bytes " + start + "-"
+                                    + (start + length - 1) + "/" + object.length);
+                        }
+                        metadata.setContentLength(length);
+                        final S3Object s3Object = new S3Object();
+                        s3Object.setObjectMetadata(metadata);
+                        s3Object.setObjectContent(new ByteArrayInputStream(object, start,
+                                length));
+                        return s3Object;
+                    }
+                });
+    }
+
+    private void emptyFile() throws Exception {
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(0);
+        } finally {
+            raf.close();
+        }
+    }
+
+    private void writeObjectRange(int offset, int length) throws Exception {
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(offset);
+            raf.write(object, offset, length);
+        } finally {
+            raf.close();
+        }
+    }
+
+    private byte[] readFile() throws Exception {
+        final byte[] content = new byte[(int) file.length()];
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            raf.readFully(content);
+        } finally {
+            raf.close();
+        }
+        return content;
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import android.content.ContentValues;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class TransferDBUtilTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final int PART_SIZE = 64;
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private TransferDBUtil dbUtil;
+
+    @Before
+    public void setup() {
+        dbUtil = new TransferDBUtil(RuntimeEnvironment.application.getApplicationContext());
+    }
+
+    @Test
+    public void testDeleteRemovesPartRecordsOfDownload() throws Exception {
+        final TransferRecord download = insertDownload(2);
+        final TransferRecord other = insertDownload(2);
+
+        assertEquals("the record and its parts", 3, dbUtil.deleteTransferRecords(download.id));
+
+        assertNull(dbUtil.getTransferById(download.id));
+        assertEquals(0, dbUtil.queryPartRecordsOfDownload(download.id).size());
+        assertNotNull("another download is kept", dbUtil.getTransferById(other.id));
+        assertEquals(2, dbUtil.queryPartRecordsOfDownload(other.id).size());
+    }
+
+    private TransferRecord insertDownload(int partCount) throws Exception {
+        final File file = temp.newFile();
+        final int id = Integer.parseInt(dbUtil.insertSingleTransferRecord(TransferType.DOWNLOAD,
+                BUCKET, KEY, file, new TransferUtilityOptions()).getLastPathSegment());
+        final TransferRecord download = dbUtil.getTransferById(id);
+        final ContentValues[] valuesArray = new ContentValues[partCount];
+        for (int i = 0; i < partCount; i++) {
+            valuesArray[i] = dbUtil.generateContentValuesForDownloadPart(download, i + 1,
+                    i * PART_SIZE, (i + 1) * PART_SIZE - 1, i == partCount - 1 ? 1 : 0);
+        }
+        dbUtil.bulkInsertDownloadPartRecords(id, valuesArray);
+        return download;
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.mobileconnectors.s3.transferutility;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+import java.util.Map;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE)
+public class TransferStatusUpdaterTest {
+    private static final int TRANSFER_ID = 1;
+    private static final long MB = 1024 * 1024;
+
+    private TransferDBUtil dbUtil;
+    private TransferStatusUpdater updater;
+
+    @Before
+    public void setup() {
+        dbUtil = Mockito.mock(TransferDBUtil.class);
+        updater = new TransferStatusUpdater(dbUtil);
+    }
+
+    @Test
+    public void testProgressIsSavedInBatches() {
+        final long bytesTotal = 3 * TransferStatusUpdater.PROGRESS_FLUSH_BYTES;
+        for (long bytes = MB; bytes <= bytesTotal; bytes += MB) {
+            updater.updateProgress(TRANSFER_ID, bytes, bytesTotal, false);
+        }
+
+        // once per PROGRESS_FLUSH_BYTES, not on every update after the first
+        final ArgumentCaptor<Map> batchCaptor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(dbUtil, Mockito.times(3)).updateBytesTransferred(batchCaptor.capture());
+        final List<Map> batches = batchCaptor.getAllValues();
+        assertEquals("first save", TransferStatusUpdater.PROGRESS_FLUSH_BYTES,
+                batches.get(0).get(TRANSFER_ID));
+        assertEquals("second save", 2 * TransferStatusUpdater.PROGRESS_FLUSH_BYTES,
+                batches.get(1).get(TRANSFER_ID));
+        assertEquals("third save", bytesTotal, batches.get(2).get(TRANSFER_ID));
+    }
+
+    @Test
+    public void testStateChangeSavesProgress() {
+        updater.updateProgress(TRANSFER_ID, MB, 10 * MB, false);
+        Mockito.verify(dbUtil, Mockito.never()).updateBytesTransferred(Mockito.anyMap());
+
+        updater.updateState(TRANSFER_ID, TransferState.PAUSED);
+        final ArgumentCaptor<Map> batchCaptor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(dbUtil).updateBytesTransferred(batchCaptor.capture());
+        assertEquals("progress saved", MB, batchCaptor.getValue().get(TRANSFER_ID));
+    }
+}
@@ -14,13 +14,13 @@
  */
 package com.amazonaws.services.simpledb;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -28,6 +28,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.simpledb.model.*;
+import com.amazonaws.services.simpledb.model.transform.*;
 
 /**
  * Asynchronous client for accessing AmazonSimpleDB.
@@ -64,7 +65,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -111,14 +112,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     @Deprecated
     public AmazonSimpleDBAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors.newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
      * AmazonSimpleDB using the specified AWS account credentials.
-     * Default client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -129,7 +130,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *                       when authenticating with AWS services.
      */
     public AmazonSimpleDBAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -151,7 +152,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public AmazonSimpleDBAsyncClient(AWSCredentials awsCredentials, ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -177,14 +178,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
     public AmazonSimpleDBAsyncClient(AWSCredentials awsCredentials,
                 ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on
      * AmazonSimpleDB using the specified AWS account credentials provider.
-     * Default client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      *
      * <p>
      * All calls made using this new client object are non-blocking, and will immediately
@@ -196,7 +197,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *            to authenticate requests with AWS services.
      */
     public AmazonSimpleDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -239,7 +240,7 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      */
     public AmazonSimpleDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
                 ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors.newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -265,17 +266,18 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
     public AmazonSimpleDBAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
                 ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -339,14 +341,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> batchDeleteAttributesAsync(final BatchDeleteAttributesRequest batchDeleteAttributesRequest) 
+    public ListenableFuture<Void> batchDeleteAttributesAsync(final BatchDeleteAttributesRequest batchDeleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                batchDeleteAttributes(batchDeleteAttributesRequest);
-                return null;
-        }
-    });
+        return batchDeleteAttributesAsync(batchDeleteAttributesRequest, null);
     }
 
     /**
@@ -400,22 +397,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> batchDeleteAttributesAsync(
+    public ListenableFuture<Void> batchDeleteAttributesAsync(
             final BatchDeleteAttributesRequest batchDeleteAttributesRequest,
             final AsyncHandler<BatchDeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                batchDeleteAttributes(batchDeleteAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchDeleteAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(batchDeleteAttributesRequest,
+                new BatchDeleteAttributesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -456,14 +445,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteAttributesAsync(final DeleteAttributesRequest deleteAttributesRequest) 
+    public ListenableFuture<Void> deleteAttributesAsync(final DeleteAttributesRequest deleteAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAttributes(deleteAttributesRequest);
-                return null;
-        }
-    });
+        return deleteAttributesAsync(deleteAttributesRequest, null);
     }
 
     /**
@@ -508,22 +492,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteAttributesAsync(
+    public ListenableFuture<Void> deleteAttributesAsync(
             final DeleteAttributesRequest deleteAttributesRequest,
             final AsyncHandler<DeleteAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteAttributes(deleteAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteAttributesRequest,
+                new DeleteAttributesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -596,14 +572,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> putAttributesAsync(final PutAttributesRequest putAttributesRequest) 
+    public ListenableFuture<Void> putAttributesAsync(final PutAttributesRequest putAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putAttributes(putAttributesRequest);
-                return null;
-        }
-    });
+        return putAttributesAsync(putAttributesRequest, null);
     }
 
     /**
@@ -680,22 +651,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> putAttributesAsync(
+    public ListenableFuture<Void> putAttributesAsync(
             final PutAttributesRequest putAttributesRequest,
             final AsyncHandler<PutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                putAttributes(putAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(putAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(putAttributesRequest,
+                new PutAttributesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -720,13 +683,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DomainMetadataResult> domainMetadataAsync(final DomainMetadataRequest domainMetadataRequest) 
+    public ListenableFuture<DomainMetadataResult> domainMetadataAsync(final DomainMetadataRequest domainMetadataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
-            public DomainMetadataResult call() throws Exception {
-                return domainMetadata(domainMetadataRequest);
-        }
-    });
+        return domainMetadataAsync(domainMetadataRequest, null);
     }
 
     /**
@@ -755,23 +714,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<DomainMetadataResult> domainMetadataAsync(
+    public ListenableFuture<DomainMetadataResult> domainMetadataAsync(
             final DomainMetadataRequest domainMetadataRequest,
             final AsyncHandler<DomainMetadataRequest, DomainMetadataResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainMetadataResult>() {
-            public DomainMetadataResult call() throws Exception {
-              DomainMetadataResult result;
-                try {
-                result = domainMetadata(domainMetadataRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(domainMetadataRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(domainMetadataRequest,
+                new DomainMetadataRequestMarshaller(),
+                new DomainMetadataResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -806,13 +756,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetAttributesResult> getAttributesAsync(final GetAttributesRequest getAttributesRequest) 
+    public ListenableFuture<GetAttributesResult> getAttributesAsync(final GetAttributesRequest getAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
-            public GetAttributesResult call() throws Exception {
-                return getAttributes(getAttributesRequest);
-        }
-    });
+        return getAttributesAsync(getAttributesRequest, null);
     }
 
     /**
@@ -851,23 +797,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<GetAttributesResult> getAttributesAsync(
+    public ListenableFuture<GetAttributesResult> getAttributesAsync(
             final GetAttributesRequest getAttributesRequest,
             final AsyncHandler<GetAttributesRequest, GetAttributesResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAttributesResult>() {
-            public GetAttributesResult call() throws Exception {
-              GetAttributesResult result;
-                try {
-                result = getAttributes(getAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(getAttributesRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(getAttributesRequest,
+                new GetAttributesRequestMarshaller(),
+                new GetAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -897,13 +834,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ListDomainsResult> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
+    public ListenableFuture<ListDomainsResult> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
-            public ListDomainsResult call() throws Exception {
-                return listDomains(listDomainsRequest);
-        }
-    });
+        return listDomainsAsync(listDomainsRequest, null);
     }
 
     /**
@@ -937,23 +870,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<ListDomainsResult> listDomainsAsync(
+    public ListenableFuture<ListDomainsResult> listDomainsAsync(
             final ListDomainsRequest listDomainsRequest,
             final AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDomainsResult>() {
-            public ListDomainsResult call() throws Exception {
-              ListDomainsResult result;
-                try {
-                result = listDomains(listDomainsRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(listDomainsRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(listDomainsRequest,
+                new ListDomainsRequestMarshaller(),
+                new ListDomainsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -990,13 +914,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<SelectResult> selectAsync(final SelectRequest selectRequest) 
+    public ListenableFuture<SelectResult> selectAsync(final SelectRequest selectRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
-            public SelectResult call() throws Exception {
-                return select(selectRequest);
-        }
-    });
+        return selectAsync(selectRequest, null);
     }
 
     /**
@@ -1037,23 +957,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<SelectResult> selectAsync(
+    public ListenableFuture<SelectResult> selectAsync(
             final SelectRequest selectRequest,
             final AsyncHandler<SelectRequest, SelectResult> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SelectResult>() {
-            public SelectResult call() throws Exception {
-              SelectResult result;
-                try {
-                result = select(selectRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(selectRequest, result);
-                 return result;
-        }
-    });
+        return invokeAsync(selectRequest,
+                new SelectRequestMarshaller(),
+                new SelectResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
     
     /**
@@ -1084,14 +995,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
+    public ListenableFuture<Void> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDomain(deleteDomainRequest);
-                return null;
-        }
-    });
+        return deleteDomainAsync(deleteDomainRequest, null);
     }
 
     /**
@@ -1126,22 +1032,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> deleteDomainAsync(
+    public ListenableFuture<Void> deleteDomainAsync(
             final DeleteDomainRequest deleteDomainRequest,
             final AsyncHandler<DeleteDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                deleteDomain(deleteDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(deleteDomainRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(deleteDomainRequest,
+                new DeleteDomainRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -1180,14 +1078,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createDomainAsync(final CreateDomainRequest createDomainRequest) 
+    public ListenableFuture<Void> createDomainAsync(final CreateDomainRequest createDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createDomain(createDomainRequest);
-                return null;
-        }
-    });
+        return createDomainAsync(createDomainRequest, null);
     }
 
     /**
@@ -1230,22 +1123,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> createDomainAsync(
+    public ListenableFuture<Void> createDomainAsync(
             final CreateDomainRequest createDomainRequest,
             final AsyncHandler<CreateDomainRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                createDomain(createDomainRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(createDomainRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(createDomainRequest,
+                new CreateDomainRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
     /**
@@ -1336,14 +1221,9 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> batchPutAttributesAsync(final BatchPutAttributesRequest batchPutAttributesRequest) 
+    public ListenableFuture<Void> batchPutAttributesAsync(final BatchPutAttributesRequest batchPutAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                batchPutAttributes(batchPutAttributesRequest);
-                return null;
-        }
-    });
+        return batchPutAttributesAsync(batchPutAttributesRequest, null);
     }
 
     /**
@@ -1438,22 +1318,14 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient
      *             If an error response is returned by AmazonSimpleDB indicating
      *             either a problem with the data in the request, or a server side issue.
      */
-    public Future<Void> batchPutAttributesAsync(
+    public ListenableFuture<Void> batchPutAttributesAsync(
             final BatchPutAttributesRequest batchPutAttributesRequest,
             final AsyncHandler<BatchPutAttributesRequest, Void> asyncHandler)
                     throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-              try {
-                batchPutAttributes(batchPutAttributesRequest);
-              } catch (Exception ex) {
-                  asyncHandler.onError(ex);
-            throw ex;
-              }
-              asyncHandler.onSuccess(batchPutAttributesRequest, null);
-                 return null;
-        }
-    });
+        return invokeAsync(batchPutAttributesRequest,
+                new BatchPutAttributesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
     
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2010-2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.simpledb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.HttpClient;
+import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.services.simpledb.model.ListDomainsRequest;
+import com.amazonaws.services.simpledb.model.ListDomainsResult;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AmazonSimpleDBAsyncClientTest {
+
+    private static final long BACKOFF_MILLIS = 200;
+    private static final int MAX_ERROR_RETRY = 3;
+    private static final String LIST_DOMAINS_RESPONSE = "<ListDomainsResponse>"
+            + "<ListDomainsResult><DomainName>domain</DomainName></ListDomainsResult>"
+            + "<ResponseMetadata><RequestId>id</RequestId><BoxUsage>0.0000071759</BoxUsage>"
+            + "</ResponseMetadata></ListDomainsResponse>";
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final AtomicReference<ListDomainsResult> handledResult = new AtomicReference<ListDomainsResult>();
+    private final AtomicReference<Exception> handledError = new AtomicReference<Exception>();
+    private ExecutorService executor;
+    private int failedAttempts;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRetriesDoNotHoldTheExecutor() throws Exception {
+        failedAttempts = 2;
+        final AmazonSimpleDBAsyncClient sdb = newClient();
+
+        final ListenableFuture<ListDomainsResult> future = sdb.listDomainsAsync(
+                new ListDomainsRequest(), new Handler());
+        // The executor's only thread is free while the request backs off.
+        final Future<?> other = executor.submit(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        other.get(BACKOFF_MILLIS / 2, TimeUnit.MILLISECONDS);
+        assertFalse(future.isDone());
+
+        final ListDomainsResult result = future.get(10, TimeUnit.SECONDS);
+        assertEquals(Collections.singletonList("domain"), result.getDomainNames());
+        assertEquals(3, attempts.get());
+        assertSame("handler is called before the future completes", result,
+                handledResult.get());
+        assertNull(handledError.get());
+    }
+
+    @Test
+    public void testFutureFailsWhenRetriesAreExhausted() throws Exception {
+        failedAttempts = Integer.MAX_VALUE;
+        final AmazonSimpleDBAsyncClient sdb = newClient();
+
+        try {
+            sdb.listDomainsAsync(new ListDomainsRequest(), new Handler()).get(10,
+                    TimeUnit.SECONDS);
+            fail("ExecutionException is expected.");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof AmazonClientException);
+            assertTrue(e.getCause().getCause() instanceof IOException);
+            assertSame(e.getCause(), handledError.get());
+        }
+        assertEquals(MAX_ERROR_RETRY + 1, attempts.get());
+        assertNull(handledResult.get());
+    }
+
+    private AmazonSimpleDBAsyncClient newClient() {
+        final RetryPolicy retryPolicy = new RetryPolicy(null,
+                new RetryPolicy.BackoffStrategy() {
+                    @Override
+                    public long delayBeforeNextRetry(
+                            AmazonWebServiceRequest originalRequest,
+                            AmazonClientException exception, int retriesAttempted) {
+                        return BACKOFF_MILLIS;
+                    }
+                }, MAX_ERROR_RETRY, false);
+        final ClientConfiguration config = new ClientConfiguration().withRetryPolicy(retryPolicy);
+        final HttpClient httpClient = new HttpClient() {
+            @Override
+            public HttpResponse execute(HttpRequest request) throws IOException {
+                if (attempts.incrementAndGet() <= failedAttempts) {
+                    throw new IOException("fake IOException");
+                }
+                return HttpResponse.builder().statusCode(200).statusText("OK")
+                        .content(new ByteArrayInputStream(LIST_DOMAINS_RESPONSE.getBytes()))
+                        .build();
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+        return new AmazonSimpleDBAsyncClient(new BasicAWSCredentials("access", "secret"),
+                config, executor) {
+            {
+                client = new AmazonHttpClient(config, httpClient);
+            }
+        };
+    }
+
+    private class Handler implements AsyncHandler<ListDomainsRequest, ListDomainsResult> {
+        @Override
+        public void onError(Exception exception) {
+            handledError.set(exception);
+        }
+
+        @Override
+        public void onSuccess(ListDomainsRequest request, ListDomainsResult result) {
+            handledResult.set(result);
+        }
+    }
+}
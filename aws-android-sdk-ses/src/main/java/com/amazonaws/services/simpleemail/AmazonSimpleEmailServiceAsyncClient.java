@@ -15,13 +15,13 @@
 
 package com.amazonaws.services.simpleemail;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -29,6 +29,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.simpleemail.model.*;
+import com.amazonaws.services.simpleemail.model.transform.*;
 
 /**
  * Interface for accessing Amazon Simple Email Service asynchronously.
@@ -57,7 +58,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -103,15 +104,15 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     @Deprecated
     public AmazonSimpleEmailServiceAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Simple Email Service using the specified AWS account credentials. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -121,7 +122,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *            to use when authenticating with AWS services.
      */
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -141,7 +142,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentials awsCredentials,
             ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -163,14 +164,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Simple Email Service using the specified AWS account credentials
-     * provider. Default client settings will be used, and a fixed size thread
-     * pool will be created for executing the asynchronous tasks.
+     * provider. Default client settings will be used, and the asynchronous tasks will
+     * be run on the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -181,7 +182,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *            services.
      */
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -221,8 +222,8 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -245,17 +246,18 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
     public AmazonSimpleEmailServiceAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -308,14 +310,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
+    public ListenableFuture<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
             final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
-            public CloneReceiptRuleSetResult call() throws Exception {
-                return cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
-            }
-        });
+        return cloneReceiptRuleSetAsync(cloneReceiptRuleSetRequest, null);
     }
 
     /**
@@ -354,23 +352,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
+    public ListenableFuture<CloneReceiptRuleSetResult> cloneReceiptRuleSetAsync(
             final CloneReceiptRuleSetRequest cloneReceiptRuleSetRequest,
             final AsyncHandler<CloneReceiptRuleSetRequest, CloneReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CloneReceiptRuleSetResult>() {
-            public CloneReceiptRuleSetResult call() throws Exception {
-                CloneReceiptRuleSetResult result = null;
-                try {
-                    result = cloneReceiptRuleSet(cloneReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(cloneReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(cloneReceiptRuleSetRequest,
+                new CloneReceiptRuleSetRequestMarshaller(),
+                new CloneReceiptRuleSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -409,14 +398,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetResult> createConfigurationSetAsync(
+    public ListenableFuture<CreateConfigurationSetResult> createConfigurationSetAsync(
             final CreateConfigurationSetRequest createConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetResult>() {
-            public CreateConfigurationSetResult call() throws Exception {
-                return createConfigurationSet(createConfigurationSetRequest);
-            }
-        });
+        return createConfigurationSetAsync(createConfigurationSetRequest, null);
     }
 
     /**
@@ -455,23 +440,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetResult> createConfigurationSetAsync(
+    public ListenableFuture<CreateConfigurationSetResult> createConfigurationSetAsync(
             final CreateConfigurationSetRequest createConfigurationSetRequest,
             final AsyncHandler<CreateConfigurationSetRequest, CreateConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetResult>() {
-            public CreateConfigurationSetResult call() throws Exception {
-                CreateConfigurationSetResult result = null;
-                try {
-                    result = createConfigurationSet(createConfigurationSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createConfigurationSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createConfigurationSetRequest,
+                new CreateConfigurationSetRequestMarshaller(),
+                new CreateConfigurationSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -523,14 +499,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
+    public ListenableFuture<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
             final CreateConfigurationSetEventDestinationRequest createConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetEventDestinationResult>() {
-            public CreateConfigurationSetEventDestinationResult call() throws Exception {
-                return createConfigurationSetEventDestination(createConfigurationSetEventDestinationRequest);
-            }
-        });
+        return createConfigurationSetEventDestinationAsync(createConfigurationSetEventDestinationRequest, null);
     }
 
     /**
@@ -582,23 +554,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
+    public ListenableFuture<CreateConfigurationSetEventDestinationResult> createConfigurationSetEventDestinationAsync(
             final CreateConfigurationSetEventDestinationRequest createConfigurationSetEventDestinationRequest,
             final AsyncHandler<CreateConfigurationSetEventDestinationRequest, CreateConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetEventDestinationResult>() {
-            public CreateConfigurationSetEventDestinationResult call() throws Exception {
-                CreateConfigurationSetEventDestinationResult result = null;
-                try {
-                    result = createConfigurationSetEventDestination(createConfigurationSetEventDestinationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createConfigurationSetEventDestinationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createConfigurationSetEventDestinationRequest,
+                new CreateConfigurationSetEventDestinationRequestMarshaller(),
+                new CreateConfigurationSetEventDestinationResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -633,14 +596,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
+    public ListenableFuture<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
             final CreateConfigurationSetTrackingOptionsRequest createConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetTrackingOptionsResult>() {
-            public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
-                return createConfigurationSetTrackingOptions(createConfigurationSetTrackingOptionsRequest);
-            }
-        });
+        return createConfigurationSetTrackingOptionsAsync(createConfigurationSetTrackingOptionsRequest, null);
     }
 
     /**
@@ -675,23 +634,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
+    public ListenableFuture<CreateConfigurationSetTrackingOptionsResult> createConfigurationSetTrackingOptionsAsync(
             final CreateConfigurationSetTrackingOptionsRequest createConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<CreateConfigurationSetTrackingOptionsRequest, CreateConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationSetTrackingOptionsResult>() {
-            public CreateConfigurationSetTrackingOptionsResult call() throws Exception {
-                CreateConfigurationSetTrackingOptionsResult result = null;
-                try {
-                    result = createConfigurationSetTrackingOptions(createConfigurationSetTrackingOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createConfigurationSetTrackingOptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createConfigurationSetTrackingOptionsRequest,
+                new CreateConfigurationSetTrackingOptionsRequestMarshaller(),
+                new CreateConfigurationSetTrackingOptionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -728,15 +678,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> createCustomVerificationEmailTemplateAsync(
+    public ListenableFuture<Void> createCustomVerificationEmailTemplateAsync(
             final CreateCustomVerificationEmailTemplateRequest createCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createCustomVerificationEmailTemplate(createCustomVerificationEmailTemplateRequest);
-                return null;
-            }
-        });
+        return createCustomVerificationEmailTemplateAsync(createCustomVerificationEmailTemplateRequest, null);
     }
 
     /**
@@ -773,23 +718,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> createCustomVerificationEmailTemplateAsync(
+    public ListenableFuture<Void> createCustomVerificationEmailTemplateAsync(
             final CreateCustomVerificationEmailTemplateRequest createCustomVerificationEmailTemplateRequest,
             final AsyncHandler<CreateCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    createCustomVerificationEmailTemplate(createCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createCustomVerificationEmailTemplateRequest,
+                new CreateCustomVerificationEmailTemplateRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -825,14 +761,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptFilterResult> createReceiptFilterAsync(
+    public ListenableFuture<CreateReceiptFilterResult> createReceiptFilterAsync(
             final CreateReceiptFilterRequest createReceiptFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
-            public CreateReceiptFilterResult call() throws Exception {
-                return createReceiptFilter(createReceiptFilterRequest);
-            }
-        });
+        return createReceiptFilterAsync(createReceiptFilterRequest, null);
     }
 
     /**
@@ -868,23 +800,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptFilterResult> createReceiptFilterAsync(
+    public ListenableFuture<CreateReceiptFilterResult> createReceiptFilterAsync(
             final CreateReceiptFilterRequest createReceiptFilterRequest,
             final AsyncHandler<CreateReceiptFilterRequest, CreateReceiptFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptFilterResult>() {
-            public CreateReceiptFilterResult call() throws Exception {
-                CreateReceiptFilterResult result = null;
-                try {
-                    result = createReceiptFilter(createReceiptFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createReceiptFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createReceiptFilterRequest,
+                new CreateReceiptFilterRequestMarshaller(),
+                new CreateReceiptFilterResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -925,14 +848,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptRuleResult> createReceiptRuleAsync(
+    public ListenableFuture<CreateReceiptRuleResult> createReceiptRuleAsync(
             final CreateReceiptRuleRequest createReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
-            public CreateReceiptRuleResult call() throws Exception {
-                return createReceiptRule(createReceiptRuleRequest);
-            }
-        });
+        return createReceiptRuleAsync(createReceiptRuleRequest, null);
     }
 
     /**
@@ -973,23 +892,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptRuleResult> createReceiptRuleAsync(
+    public ListenableFuture<CreateReceiptRuleResult> createReceiptRuleAsync(
             final CreateReceiptRuleRequest createReceiptRuleRequest,
             final AsyncHandler<CreateReceiptRuleRequest, CreateReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleResult>() {
-            public CreateReceiptRuleResult call() throws Exception {
-                CreateReceiptRuleResult result = null;
-                try {
-                    result = createReceiptRule(createReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createReceiptRuleRequest,
+                new CreateReceiptRuleRequestMarshaller(),
+                new CreateReceiptRuleResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1025,14 +935,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
+    public ListenableFuture<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
             final CreateReceiptRuleSetRequest createReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
-            public CreateReceiptRuleSetResult call() throws Exception {
-                return createReceiptRuleSet(createReceiptRuleSetRequest);
-            }
-        });
+        return createReceiptRuleSetAsync(createReceiptRuleSetRequest, null);
     }
 
     /**
@@ -1068,23 +974,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
+    public ListenableFuture<CreateReceiptRuleSetResult> createReceiptRuleSetAsync(
             final CreateReceiptRuleSetRequest createReceiptRuleSetRequest,
             final AsyncHandler<CreateReceiptRuleSetRequest, CreateReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateReceiptRuleSetResult>() {
-            public CreateReceiptRuleSetResult call() throws Exception {
-                CreateReceiptRuleSetResult result = null;
-                try {
-                    result = createReceiptRuleSet(createReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createReceiptRuleSetRequest,
+                new CreateReceiptRuleSetRequestMarshaller(),
+                new CreateReceiptRuleSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1119,14 +1016,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateTemplateResult> createTemplateAsync(
+    public ListenableFuture<CreateTemplateResult> createTemplateAsync(
             final CreateTemplateRequest createTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateTemplateResult>() {
-            public CreateTemplateResult call() throws Exception {
-                return createTemplate(createTemplateRequest);
-            }
-        });
+        return createTemplateAsync(createTemplateRequest, null);
     }
 
     /**
@@ -1161,23 +1054,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<CreateTemplateResult> createTemplateAsync(
+    public ListenableFuture<CreateTemplateResult> createTemplateAsync(
             final CreateTemplateRequest createTemplateRequest,
             final AsyncHandler<CreateTemplateRequest, CreateTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTemplateResult>() {
-            public CreateTemplateResult call() throws Exception {
-                CreateTemplateResult result = null;
-                try {
-                    result = createTemplate(createTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createTemplateRequest,
+                new CreateTemplateRequestMarshaller(),
+                new CreateTemplateResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1212,14 +1096,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
+    public ListenableFuture<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
             final DeleteConfigurationSetRequest deleteConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetResult>() {
-            public DeleteConfigurationSetResult call() throws Exception {
-                return deleteConfigurationSet(deleteConfigurationSetRequest);
-            }
-        });
+        return deleteConfigurationSetAsync(deleteConfigurationSetRequest, null);
     }
 
     /**
@@ -1254,23 +1134,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
+    public ListenableFuture<DeleteConfigurationSetResult> deleteConfigurationSetAsync(
             final DeleteConfigurationSetRequest deleteConfigurationSetRequest,
             final AsyncHandler<DeleteConfigurationSetRequest, DeleteConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetResult>() {
-            public DeleteConfigurationSetResult call() throws Exception {
-                DeleteConfigurationSetResult result = null;
-                try {
-                    result = deleteConfigurationSet(deleteConfigurationSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteConfigurationSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteConfigurationSetRequest,
+                new DeleteConfigurationSetRequestMarshaller(),
+                new DeleteConfigurationSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1308,14 +1179,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
+    public ListenableFuture<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
             final DeleteConfigurationSetEventDestinationRequest deleteConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetEventDestinationResult>() {
-            public DeleteConfigurationSetEventDestinationResult call() throws Exception {
-                return deleteConfigurationSetEventDestination(deleteConfigurationSetEventDestinationRequest);
-            }
-        });
+        return deleteConfigurationSetEventDestinationAsync(deleteConfigurationSetEventDestinationRequest, null);
     }
 
     /**
@@ -1353,23 +1220,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
+    public ListenableFuture<DeleteConfigurationSetEventDestinationResult> deleteConfigurationSetEventDestinationAsync(
             final DeleteConfigurationSetEventDestinationRequest deleteConfigurationSetEventDestinationRequest,
             final AsyncHandler<DeleteConfigurationSetEventDestinationRequest, DeleteConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetEventDestinationResult>() {
-            public DeleteConfigurationSetEventDestinationResult call() throws Exception {
-                DeleteConfigurationSetEventDestinationResult result = null;
-                try {
-                    result = deleteConfigurationSetEventDestination(deleteConfigurationSetEventDestinationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteConfigurationSetEventDestinationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteConfigurationSetEventDestinationRequest,
+                new DeleteConfigurationSetEventDestinationRequestMarshaller(),
+                new DeleteConfigurationSetEventDestinationResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1410,14 +1268,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
+    public ListenableFuture<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
             final DeleteConfigurationSetTrackingOptionsRequest deleteConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
-            public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
-                return deleteConfigurationSetTrackingOptions(deleteConfigurationSetTrackingOptionsRequest);
-            }
-        });
+        return deleteConfigurationSetTrackingOptionsAsync(deleteConfigurationSetTrackingOptionsRequest, null);
     }
 
     /**
@@ -1458,23 +1312,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
+    public ListenableFuture<DeleteConfigurationSetTrackingOptionsResult> deleteConfigurationSetTrackingOptionsAsync(
             final DeleteConfigurationSetTrackingOptionsRequest deleteConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<DeleteConfigurationSetTrackingOptionsRequest, DeleteConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteConfigurationSetTrackingOptionsResult>() {
-            public DeleteConfigurationSetTrackingOptionsResult call() throws Exception {
-                DeleteConfigurationSetTrackingOptionsResult result = null;
-                try {
-                    result = deleteConfigurationSetTrackingOptions(deleteConfigurationSetTrackingOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteConfigurationSetTrackingOptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteConfigurationSetTrackingOptionsRequest,
+                new DeleteConfigurationSetTrackingOptionsRequestMarshaller(),
+                new DeleteConfigurationSetTrackingOptionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1507,15 +1352,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> deleteCustomVerificationEmailTemplateAsync(
+    public ListenableFuture<Void> deleteCustomVerificationEmailTemplateAsync(
             final DeleteCustomVerificationEmailTemplateRequest deleteCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCustomVerificationEmailTemplate(deleteCustomVerificationEmailTemplateRequest);
-                return null;
-            }
-        });
+        return deleteCustomVerificationEmailTemplateAsync(deleteCustomVerificationEmailTemplateRequest, null);
     }
 
     /**
@@ -1548,23 +1388,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> deleteCustomVerificationEmailTemplateAsync(
+    public ListenableFuture<Void> deleteCustomVerificationEmailTemplateAsync(
             final DeleteCustomVerificationEmailTemplateRequest deleteCustomVerificationEmailTemplateRequest,
             final AsyncHandler<DeleteCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteCustomVerificationEmailTemplate(deleteCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteCustomVerificationEmailTemplateRequest,
+                new DeleteCustomVerificationEmailTemplateRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1591,14 +1422,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteIdentityResult> deleteIdentityAsync(
+    public ListenableFuture<DeleteIdentityResult> deleteIdentityAsync(
             final DeleteIdentityRequest deleteIdentityRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-                return deleteIdentity(deleteIdentityRequest);
-            }
-        });
+        return deleteIdentityAsync(deleteIdentityRequest, null);
     }
 
     /**
@@ -1625,23 +1452,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteIdentityResult> deleteIdentityAsync(
+    public ListenableFuture<DeleteIdentityResult> deleteIdentityAsync(
             final DeleteIdentityRequest deleteIdentityRequest,
             final AsyncHandler<DeleteIdentityRequest, DeleteIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-                DeleteIdentityResult result = null;
-                try {
-                    result = deleteIdentity(deleteIdentityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteIdentityRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteIdentityRequest,
+                new DeleteIdentityRequestMarshaller(),
+                new DeleteIdentityResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1686,14 +1504,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
+    public ListenableFuture<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
             final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
-            public DeleteIdentityPolicyResult call() throws Exception {
-                return deleteIdentityPolicy(deleteIdentityPolicyRequest);
-            }
-        });
+        return deleteIdentityPolicyAsync(deleteIdentityPolicyRequest, null);
     }
 
     /**
@@ -1738,23 +1552,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
+    public ListenableFuture<DeleteIdentityPolicyResult> deleteIdentityPolicyAsync(
             final DeleteIdentityPolicyRequest deleteIdentityPolicyRequest,
             final AsyncHandler<DeleteIdentityPolicyRequest, DeleteIdentityPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityPolicyResult>() {
-            public DeleteIdentityPolicyResult call() throws Exception {
-                DeleteIdentityPolicyResult result = null;
-                try {
-                    result = deleteIdentityPolicy(deleteIdentityPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteIdentityPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteIdentityPolicyRequest,
+                new DeleteIdentityPolicyRequestMarshaller(),
+                new DeleteIdentityPolicyResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1788,14 +1593,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
+    public ListenableFuture<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
             final DeleteReceiptFilterRequest deleteReceiptFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
-            public DeleteReceiptFilterResult call() throws Exception {
-                return deleteReceiptFilter(deleteReceiptFilterRequest);
-            }
-        });
+        return deleteReceiptFilterAsync(deleteReceiptFilterRequest, null);
     }
 
     /**
@@ -1829,23 +1630,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
+    public ListenableFuture<DeleteReceiptFilterResult> deleteReceiptFilterAsync(
             final DeleteReceiptFilterRequest deleteReceiptFilterRequest,
             final AsyncHandler<DeleteReceiptFilterRequest, DeleteReceiptFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptFilterResult>() {
-            public DeleteReceiptFilterResult call() throws Exception {
-                DeleteReceiptFilterResult result = null;
-                try {
-                    result = deleteReceiptFilter(deleteReceiptFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteReceiptFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteReceiptFilterRequest,
+                new DeleteReceiptFilterRequestMarshaller(),
+                new DeleteReceiptFilterResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1880,14 +1672,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
+    public ListenableFuture<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
             final DeleteReceiptRuleRequest deleteReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
-            public DeleteReceiptRuleResult call() throws Exception {
-                return deleteReceiptRule(deleteReceiptRuleRequest);
-            }
-        });
+        return deleteReceiptRuleAsync(deleteReceiptRuleRequest, null);
     }
 
     /**
@@ -1922,23 +1710,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
+    public ListenableFuture<DeleteReceiptRuleResult> deleteReceiptRuleAsync(
             final DeleteReceiptRuleRequest deleteReceiptRuleRequest,
             final AsyncHandler<DeleteReceiptRuleRequest, DeleteReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleResult>() {
-            public DeleteReceiptRuleResult call() throws Exception {
-                DeleteReceiptRuleResult result = null;
-                try {
-                    result = deleteReceiptRule(deleteReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteReceiptRuleRequest,
+                new DeleteReceiptRuleRequestMarshaller(),
+                new DeleteReceiptRuleResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1980,14 +1759,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
+    public ListenableFuture<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
             final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
-            public DeleteReceiptRuleSetResult call() throws Exception {
-                return deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
-            }
-        });
+        return deleteReceiptRuleSetAsync(deleteReceiptRuleSetRequest, null);
     }
 
     /**
@@ -2029,23 +1804,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
+    public ListenableFuture<DeleteReceiptRuleSetResult> deleteReceiptRuleSetAsync(
             final DeleteReceiptRuleSetRequest deleteReceiptRuleSetRequest,
             final AsyncHandler<DeleteReceiptRuleSetRequest, DeleteReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteReceiptRuleSetResult>() {
-            public DeleteReceiptRuleSetResult call() throws Exception {
-                DeleteReceiptRuleSetResult result = null;
-                try {
-                    result = deleteReceiptRuleSet(deleteReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteReceiptRuleSetRequest,
+                new DeleteReceiptRuleSetRequestMarshaller(),
+                new DeleteReceiptRuleSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2073,14 +1839,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteTemplateResult> deleteTemplateAsync(
+    public ListenableFuture<DeleteTemplateResult> deleteTemplateAsync(
             final DeleteTemplateRequest deleteTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<DeleteTemplateResult>() {
-            public DeleteTemplateResult call() throws Exception {
-                return deleteTemplate(deleteTemplateRequest);
-            }
-        });
+        return deleteTemplateAsync(deleteTemplateRequest, null);
     }
 
     /**
@@ -2108,23 +1870,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DeleteTemplateResult> deleteTemplateAsync(
+    public ListenableFuture<DeleteTemplateResult> deleteTemplateAsync(
             final DeleteTemplateRequest deleteTemplateRequest,
             final AsyncHandler<DeleteTemplateRequest, DeleteTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTemplateResult>() {
-            public DeleteTemplateResult call() throws Exception {
-                DeleteTemplateResult result = null;
-                try {
-                    result = deleteTemplate(deleteTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTemplateRequest,
+                new DeleteTemplateRequestMarshaller(),
+                new DeleteTemplateResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2149,15 +1902,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> deleteVerifiedEmailAddressAsync(
+    public ListenableFuture<Void> deleteVerifiedEmailAddressAsync(
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-                return null;
-            }
-        });
+        return deleteVerifiedEmailAddressAsync(deleteVerifiedEmailAddressRequest, null);
     }
 
     /**
@@ -2182,23 +1930,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> deleteVerifiedEmailAddressAsync(
+    public ListenableFuture<Void> deleteVerifiedEmailAddressAsync(
             final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest,
             final AsyncHandler<DeleteVerifiedEmailAddressRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteVerifiedEmailAddressRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteVerifiedEmailAddressRequest,
+                new DeleteVerifiedEmailAddressRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2234,14 +1973,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
+    public ListenableFuture<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
             final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
-            public DescribeActiveReceiptRuleSetResult call() throws Exception {
-                return describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
-            }
-        });
+        return describeActiveReceiptRuleSetAsync(describeActiveReceiptRuleSetRequest, null);
     }
 
     /**
@@ -2277,23 +2012,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
+    public ListenableFuture<DescribeActiveReceiptRuleSetResult> describeActiveReceiptRuleSetAsync(
             final DescribeActiveReceiptRuleSetRequest describeActiveReceiptRuleSetRequest,
             final AsyncHandler<DescribeActiveReceiptRuleSetRequest, DescribeActiveReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeActiveReceiptRuleSetResult>() {
-            public DescribeActiveReceiptRuleSetResult call() throws Exception {
-                DescribeActiveReceiptRuleSetResult result = null;
-                try {
-                    result = describeActiveReceiptRuleSet(describeActiveReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeActiveReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeActiveReceiptRuleSetRequest,
+                new DescribeActiveReceiptRuleSetRequestMarshaller(),
+                new DescribeActiveReceiptRuleSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2327,14 +2053,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeConfigurationSetResult> describeConfigurationSetAsync(
+    public ListenableFuture<DescribeConfigurationSetResult> describeConfigurationSetAsync(
             final DescribeConfigurationSetRequest describeConfigurationSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSetResult>() {
-            public DescribeConfigurationSetResult call() throws Exception {
-                return describeConfigurationSet(describeConfigurationSetRequest);
-            }
-        });
+        return describeConfigurationSetAsync(describeConfigurationSetRequest, null);
     }
 
     /**
@@ -2368,23 +2090,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeConfigurationSetResult> describeConfigurationSetAsync(
+    public ListenableFuture<DescribeConfigurationSetResult> describeConfigurationSetAsync(
             final DescribeConfigurationSetRequest describeConfigurationSetRequest,
             final AsyncHandler<DescribeConfigurationSetRequest, DescribeConfigurationSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSetResult>() {
-            public DescribeConfigurationSetResult call() throws Exception {
-                DescribeConfigurationSetResult result = null;
-                try {
-                    result = describeConfigurationSet(describeConfigurationSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeConfigurationSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeConfigurationSetRequest,
+                new DescribeConfigurationSetRequestMarshaller(),
+                new DescribeConfigurationSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2420,14 +2133,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeReceiptRuleResult> describeReceiptRuleAsync(
+    public ListenableFuture<DescribeReceiptRuleResult> describeReceiptRuleAsync(
             final DescribeReceiptRuleRequest describeReceiptRuleRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
-            public DescribeReceiptRuleResult call() throws Exception {
-                return describeReceiptRule(describeReceiptRuleRequest);
-            }
-        });
+        return describeReceiptRuleAsync(describeReceiptRuleRequest, null);
     }
 
     /**
@@ -2463,23 +2172,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeReceiptRuleResult> describeReceiptRuleAsync(
+    public ListenableFuture<DescribeReceiptRuleResult> describeReceiptRuleAsync(
             final DescribeReceiptRuleRequest describeReceiptRuleRequest,
             final AsyncHandler<DescribeReceiptRuleRequest, DescribeReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleResult>() {
-            public DescribeReceiptRuleResult call() throws Exception {
-                DescribeReceiptRuleResult result = null;
-                try {
-                    result = describeReceiptRule(describeReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeReceiptRuleRequest,
+                new DescribeReceiptRuleRequestMarshaller(),
+                new DescribeReceiptRuleResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2514,14 +2214,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
+    public ListenableFuture<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
             final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
-            public DescribeReceiptRuleSetResult call() throws Exception {
-                return describeReceiptRuleSet(describeReceiptRuleSetRequest);
-            }
-        });
+        return describeReceiptRuleSetAsync(describeReceiptRuleSetRequest, null);
     }
 
     /**
@@ -2556,23 +2252,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
+    public ListenableFuture<DescribeReceiptRuleSetResult> describeReceiptRuleSetAsync(
             final DescribeReceiptRuleSetRequest describeReceiptRuleSetRequest,
             final AsyncHandler<DescribeReceiptRuleSetRequest, DescribeReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReceiptRuleSetResult>() {
-            public DescribeReceiptRuleSetResult call() throws Exception {
-                DescribeReceiptRuleSetResult result = null;
-                try {
-                    result = describeReceiptRuleSet(describeReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeReceiptRuleSetRequest,
+                new DescribeReceiptRuleSetRequestMarshaller(),
+                new DescribeReceiptRuleSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2596,14 +2283,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
+    public ListenableFuture<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
             final GetAccountSendingEnabledRequest getAccountSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSendingEnabledResult>() {
-            public GetAccountSendingEnabledResult call() throws Exception {
-                return getAccountSendingEnabled(getAccountSendingEnabledRequest);
-            }
-        });
+        return getAccountSendingEnabledAsync(getAccountSendingEnabledRequest, null);
     }
 
     /**
@@ -2627,23 +2310,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
+    public ListenableFuture<GetAccountSendingEnabledResult> getAccountSendingEnabledAsync(
             final GetAccountSendingEnabledRequest getAccountSendingEnabledRequest,
             final AsyncHandler<GetAccountSendingEnabledRequest, GetAccountSendingEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSendingEnabledResult>() {
-            public GetAccountSendingEnabledResult call() throws Exception {
-                GetAccountSendingEnabledResult result = null;
-                try {
-                    result = getAccountSendingEnabled(getAccountSendingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getAccountSendingEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getAccountSendingEnabledRequest,
+                new GetAccountSendingEnabledRequestMarshaller(),
+                new GetAccountSendingEnabledResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2678,14 +2352,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
+    public ListenableFuture<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
             final GetCustomVerificationEmailTemplateRequest getCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCustomVerificationEmailTemplateResult>() {
-            public GetCustomVerificationEmailTemplateResult call() throws Exception {
-                return getCustomVerificationEmailTemplate(getCustomVerificationEmailTemplateRequest);
-            }
-        });
+        return getCustomVerificationEmailTemplateAsync(getCustomVerificationEmailTemplateRequest, null);
     }
 
     /**
@@ -2720,23 +2390,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
+    public ListenableFuture<GetCustomVerificationEmailTemplateResult> getCustomVerificationEmailTemplateAsync(
             final GetCustomVerificationEmailTemplateRequest getCustomVerificationEmailTemplateRequest,
             final AsyncHandler<GetCustomVerificationEmailTemplateRequest, GetCustomVerificationEmailTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCustomVerificationEmailTemplateResult>() {
-            public GetCustomVerificationEmailTemplateResult call() throws Exception {
-                GetCustomVerificationEmailTemplateResult result = null;
-                try {
-                    result = getCustomVerificationEmailTemplate(getCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getCustomVerificationEmailTemplateRequest,
+                new GetCustomVerificationEmailTemplateRequestMarshaller(),
+                new GetCustomVerificationEmailTemplateResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2802,14 +2463,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
+    public ListenableFuture<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
-            public GetIdentityDkimAttributesResult call() throws Exception {
-                return getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-            }
-        });
+        return getIdentityDkimAttributesAsync(getIdentityDkimAttributesRequest, null);
     }
 
     /**
@@ -2875,23 +2532,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
+    public ListenableFuture<GetIdentityDkimAttributesResult> getIdentityDkimAttributesAsync(
             final GetIdentityDkimAttributesRequest getIdentityDkimAttributesRequest,
             final AsyncHandler<GetIdentityDkimAttributesRequest, GetIdentityDkimAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityDkimAttributesResult>() {
-            public GetIdentityDkimAttributesResult call() throws Exception {
-                GetIdentityDkimAttributesResult result = null;
-                try {
-                    result = getIdentityDkimAttributes(getIdentityDkimAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityDkimAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityDkimAttributesRequest,
+                new GetIdentityDkimAttributesRequestMarshaller(),
+                new GetIdentityDkimAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2922,14 +2570,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
+    public ListenableFuture<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
             final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
-            public GetIdentityMailFromDomainAttributesResult call() throws Exception {
-                return getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
-            }
-        });
+        return getIdentityMailFromDomainAttributesAsync(getIdentityMailFromDomainAttributesRequest, null);
     }
 
     /**
@@ -2960,23 +2604,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
+    public ListenableFuture<GetIdentityMailFromDomainAttributesResult> getIdentityMailFromDomainAttributesAsync(
             final GetIdentityMailFromDomainAttributesRequest getIdentityMailFromDomainAttributesRequest,
             final AsyncHandler<GetIdentityMailFromDomainAttributesRequest, GetIdentityMailFromDomainAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityMailFromDomainAttributesResult>() {
-            public GetIdentityMailFromDomainAttributesResult call() throws Exception {
-                GetIdentityMailFromDomainAttributesResult result = null;
-                try {
-                    result = getIdentityMailFromDomainAttributes(getIdentityMailFromDomainAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityMailFromDomainAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityMailFromDomainAttributesRequest,
+                new GetIdentityMailFromDomainAttributesRequestMarshaller(),
+                new GetIdentityMailFromDomainAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3013,14 +2648,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
+    public ListenableFuture<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
-            public GetIdentityNotificationAttributesResult call() throws Exception {
-                return getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-            }
-        });
+        return getIdentityNotificationAttributesAsync(getIdentityNotificationAttributesRequest, null);
     }
 
     /**
@@ -3057,23 +2688,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
+    public ListenableFuture<GetIdentityNotificationAttributesResult> getIdentityNotificationAttributesAsync(
             final GetIdentityNotificationAttributesRequest getIdentityNotificationAttributesRequest,
             final AsyncHandler<GetIdentityNotificationAttributesRequest, GetIdentityNotificationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityNotificationAttributesResult>() {
-            public GetIdentityNotificationAttributesResult call() throws Exception {
-                GetIdentityNotificationAttributesResult result = null;
-                try {
-                    result = getIdentityNotificationAttributes(getIdentityNotificationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityNotificationAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityNotificationAttributesRequest,
+                new GetIdentityNotificationAttributesRequestMarshaller(),
+                new GetIdentityNotificationAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3120,14 +2742,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
+    public ListenableFuture<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
             final GetIdentityPoliciesRequest getIdentityPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
-            public GetIdentityPoliciesResult call() throws Exception {
-                return getIdentityPolicies(getIdentityPoliciesRequest);
-            }
-        });
+        return getIdentityPoliciesAsync(getIdentityPoliciesRequest, null);
     }
 
     /**
@@ -3174,23 +2792,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
+    public ListenableFuture<GetIdentityPoliciesResult> getIdentityPoliciesAsync(
             final GetIdentityPoliciesRequest getIdentityPoliciesRequest,
             final AsyncHandler<GetIdentityPoliciesRequest, GetIdentityPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityPoliciesResult>() {
-            public GetIdentityPoliciesResult call() throws Exception {
-                GetIdentityPoliciesResult result = null;
-                try {
-                    result = getIdentityPolicies(getIdentityPoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityPoliciesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityPoliciesRequest,
+                new GetIdentityPoliciesRequestMarshaller(),
+                new GetIdentityPoliciesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3242,14 +2851,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
+    public ListenableFuture<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-                return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-            }
-        });
+        return getIdentityVerificationAttributesAsync(getIdentityVerificationAttributesRequest, null);
     }
 
     /**
@@ -3301,23 +2906,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
+    public ListenableFuture<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(
             final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest,
             final AsyncHandler<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-                GetIdentityVerificationAttributesResult result = null;
-                try {
-                    result = getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getIdentityVerificationAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getIdentityVerificationAttributesRequest,
+                new GetIdentityVerificationAttributesRequestMarshaller(),
+                new GetIdentityVerificationAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3340,14 +2936,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetSendQuotaResult> getSendQuotaAsync(
+    public ListenableFuture<GetSendQuotaResult> getSendQuotaAsync(
             final GetSendQuotaRequest getSendQuotaRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-                return getSendQuota(getSendQuotaRequest);
-            }
-        });
+        return getSendQuotaAsync(getSendQuotaRequest, null);
     }
 
     /**
@@ -3370,23 +2962,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetSendQuotaResult> getSendQuotaAsync(
+    public ListenableFuture<GetSendQuotaResult> getSendQuotaAsync(
             final GetSendQuotaRequest getSendQuotaRequest,
             final AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-                GetSendQuotaResult result = null;
-                try {
-                    result = getSendQuota(getSendQuotaRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSendQuotaRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getSendQuotaRequest,
+                new GetSendQuotaRequestMarshaller(),
+                new GetSendQuotaResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3412,14 +2995,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetSendStatisticsResult> getSendStatisticsAsync(
+    public ListenableFuture<GetSendStatisticsResult> getSendStatisticsAsync(
             final GetSendStatisticsRequest getSendStatisticsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-                return getSendStatistics(getSendStatisticsRequest);
-            }
-        });
+        return getSendStatisticsAsync(getSendStatisticsRequest, null);
     }
 
     /**
@@ -3445,23 +3024,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetSendStatisticsResult> getSendStatisticsAsync(
+    public ListenableFuture<GetSendStatisticsResult> getSendStatisticsAsync(
             final GetSendStatisticsRequest getSendStatisticsRequest,
             final AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-                GetSendStatisticsResult result = null;
-                try {
-                    result = getSendStatistics(getSendStatisticsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSendStatisticsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getSendStatisticsRequest,
+                new GetSendStatisticsRequestMarshaller(),
+                new GetSendStatisticsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3485,13 +3055,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest)
+    public ListenableFuture<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
-            public GetTemplateResult call() throws Exception {
-                return getTemplate(getTemplateRequest);
-            }
-        });
+        return getTemplateAsync(getTemplateRequest, null);
     }
 
     /**
@@ -3515,22 +3081,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest,
+    public ListenableFuture<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest,
             final AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
-            public GetTemplateResult call() throws Exception {
-                GetTemplateResult result = null;
-                try {
-                    result = getTemplate(getTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTemplateRequest,
+                new GetTemplateRequestMarshaller(),
+                new GetTemplateResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3571,14 +3128,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListConfigurationSetsResult> listConfigurationSetsAsync(
+    public ListenableFuture<ListConfigurationSetsResult> listConfigurationSetsAsync(
             final ListConfigurationSetsRequest listConfigurationSetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListConfigurationSetsResult>() {
-            public ListConfigurationSetsResult call() throws Exception {
-                return listConfigurationSets(listConfigurationSetsRequest);
-            }
-        });
+        return listConfigurationSetsAsync(listConfigurationSetsRequest, null);
     }
 
     /**
@@ -3619,23 +3172,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListConfigurationSetsResult> listConfigurationSetsAsync(
+    public ListenableFuture<ListConfigurationSetsResult> listConfigurationSetsAsync(
             final ListConfigurationSetsRequest listConfigurationSetsRequest,
             final AsyncHandler<ListConfigurationSetsRequest, ListConfigurationSetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListConfigurationSetsResult>() {
-            public ListConfigurationSetsResult call() throws Exception {
-                ListConfigurationSetsResult result = null;
-                try {
-                    result = listConfigurationSets(listConfigurationSetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listConfigurationSetsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listConfigurationSetsRequest,
+                new ListConfigurationSetsRequestMarshaller(),
+                new ListConfigurationSetsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3676,14 +3220,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
+    public ListenableFuture<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
             final ListCustomVerificationEmailTemplatesRequest listCustomVerificationEmailTemplatesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCustomVerificationEmailTemplatesResult>() {
-            public ListCustomVerificationEmailTemplatesResult call() throws Exception {
-                return listCustomVerificationEmailTemplates(listCustomVerificationEmailTemplatesRequest);
-            }
-        });
+        return listCustomVerificationEmailTemplatesAsync(listCustomVerificationEmailTemplatesRequest, null);
     }
 
     /**
@@ -3724,23 +3264,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
+    public ListenableFuture<ListCustomVerificationEmailTemplatesResult> listCustomVerificationEmailTemplatesAsync(
             final ListCustomVerificationEmailTemplatesRequest listCustomVerificationEmailTemplatesRequest,
             final AsyncHandler<ListCustomVerificationEmailTemplatesRequest, ListCustomVerificationEmailTemplatesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCustomVerificationEmailTemplatesResult>() {
-            public ListCustomVerificationEmailTemplatesResult call() throws Exception {
-                ListCustomVerificationEmailTemplatesResult result = null;
-                try {
-                    result = listCustomVerificationEmailTemplates(listCustomVerificationEmailTemplatesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listCustomVerificationEmailTemplatesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listCustomVerificationEmailTemplatesRequest,
+                new ListCustomVerificationEmailTemplatesRequestMarshaller(),
+                new ListCustomVerificationEmailTemplatesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3769,14 +3300,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListIdentitiesResult> listIdentitiesAsync(
+    public ListenableFuture<ListIdentitiesResult> listIdentitiesAsync(
             final ListIdentitiesRequest listIdentitiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                return listIdentities(listIdentitiesRequest);
-            }
-        });
+        return listIdentitiesAsync(listIdentitiesRequest, null);
     }
 
     /**
@@ -3805,23 +3332,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListIdentitiesResult> listIdentitiesAsync(
+    public ListenableFuture<ListIdentitiesResult> listIdentitiesAsync(
             final ListIdentitiesRequest listIdentitiesRequest,
             final AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                ListIdentitiesResult result = null;
-                try {
-                    result = listIdentities(listIdentitiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listIdentitiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listIdentitiesRequest,
+                new ListIdentitiesRequestMarshaller(),
+                new ListIdentitiesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3868,14 +3386,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
+    public ListenableFuture<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
             final ListIdentityPoliciesRequest listIdentityPoliciesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
-            public ListIdentityPoliciesResult call() throws Exception {
-                return listIdentityPolicies(listIdentityPoliciesRequest);
-            }
-        });
+        return listIdentityPoliciesAsync(listIdentityPoliciesRequest, null);
     }
 
     /**
@@ -3922,23 +3436,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
+    public ListenableFuture<ListIdentityPoliciesResult> listIdentityPoliciesAsync(
             final ListIdentityPoliciesRequest listIdentityPoliciesRequest,
             final AsyncHandler<ListIdentityPoliciesRequest, ListIdentityPoliciesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentityPoliciesResult>() {
-            public ListIdentityPoliciesResult call() throws Exception {
-                ListIdentityPoliciesResult result = null;
-                try {
-                    result = listIdentityPolicies(listIdentityPoliciesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listIdentityPoliciesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listIdentityPoliciesRequest,
+                new ListIdentityPoliciesRequestMarshaller(),
+                new ListIdentityPoliciesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3974,14 +3479,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListReceiptFiltersResult> listReceiptFiltersAsync(
+    public ListenableFuture<ListReceiptFiltersResult> listReceiptFiltersAsync(
             final ListReceiptFiltersRequest listReceiptFiltersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
-            public ListReceiptFiltersResult call() throws Exception {
-                return listReceiptFilters(listReceiptFiltersRequest);
-            }
-        });
+        return listReceiptFiltersAsync(listReceiptFiltersRequest, null);
     }
 
     /**
@@ -4017,23 +3518,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListReceiptFiltersResult> listReceiptFiltersAsync(
+    public ListenableFuture<ListReceiptFiltersResult> listReceiptFiltersAsync(
             final ListReceiptFiltersRequest listReceiptFiltersRequest,
             final AsyncHandler<ListReceiptFiltersRequest, ListReceiptFiltersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptFiltersResult>() {
-            public ListReceiptFiltersResult call() throws Exception {
-                ListReceiptFiltersResult result = null;
-                try {
-                    result = listReceiptFilters(listReceiptFiltersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listReceiptFiltersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listReceiptFiltersRequest,
+                new ListReceiptFiltersRequestMarshaller(),
+                new ListReceiptFiltersResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4071,14 +3563,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
+    public ListenableFuture<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
             final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
-            public ListReceiptRuleSetsResult call() throws Exception {
-                return listReceiptRuleSets(listReceiptRuleSetsRequest);
-            }
-        });
+        return listReceiptRuleSetsAsync(listReceiptRuleSetsRequest, null);
     }
 
     /**
@@ -4116,23 +3604,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
+    public ListenableFuture<ListReceiptRuleSetsResult> listReceiptRuleSetsAsync(
             final ListReceiptRuleSetsRequest listReceiptRuleSetsRequest,
             final AsyncHandler<ListReceiptRuleSetsRequest, ListReceiptRuleSetsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListReceiptRuleSetsResult>() {
-            public ListReceiptRuleSetsResult call() throws Exception {
-                ListReceiptRuleSetsResult result = null;
-                try {
-                    result = listReceiptRuleSets(listReceiptRuleSetsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listReceiptRuleSetsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listReceiptRuleSetsRequest,
+                new ListReceiptRuleSetsRequestMarshaller(),
+                new ListReceiptRuleSetsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4156,14 +3635,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListTemplatesResult> listTemplatesAsync(
+    public ListenableFuture<ListTemplatesResult> listTemplatesAsync(
             final ListTemplatesRequest listTemplatesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListTemplatesResult>() {
-            public ListTemplatesResult call() throws Exception {
-                return listTemplates(listTemplatesRequest);
-            }
-        });
+        return listTemplatesAsync(listTemplatesRequest, null);
     }
 
     /**
@@ -4187,23 +3662,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListTemplatesResult> listTemplatesAsync(
+    public ListenableFuture<ListTemplatesResult> listTemplatesAsync(
             final ListTemplatesRequest listTemplatesRequest,
             final AsyncHandler<ListTemplatesRequest, ListTemplatesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTemplatesResult>() {
-            public ListTemplatesResult call() throws Exception {
-                ListTemplatesResult result = null;
-                try {
-                    result = listTemplates(listTemplatesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTemplatesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTemplatesRequest,
+                new ListTemplatesRequestMarshaller(),
+                new ListTemplatesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4224,14 +3690,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
+    public ListenableFuture<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-                return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-            }
-        });
+        return listVerifiedEmailAddressesAsync(listVerifiedEmailAddressesRequest, null);
     }
 
     /**
@@ -4252,23 +3714,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
+    public ListenableFuture<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(
             final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest,
             final AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-                ListVerifiedEmailAddressesResult result = null;
-                try {
-                    result = listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listVerifiedEmailAddressesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listVerifiedEmailAddressesRequest,
+                new ListVerifiedEmailAddressesRequestMarshaller(),
+                new ListVerifiedEmailAddressesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4293,14 +3746,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
+    public ListenableFuture<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
             final PutConfigurationSetDeliveryOptionsRequest putConfigurationSetDeliveryOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutConfigurationSetDeliveryOptionsResult>() {
-            public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
-                return putConfigurationSetDeliveryOptions(putConfigurationSetDeliveryOptionsRequest);
-            }
-        });
+        return putConfigurationSetDeliveryOptionsAsync(putConfigurationSetDeliveryOptionsRequest, null);
     }
 
     /**
@@ -4325,23 +3774,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
+    public ListenableFuture<PutConfigurationSetDeliveryOptionsResult> putConfigurationSetDeliveryOptionsAsync(
             final PutConfigurationSetDeliveryOptionsRequest putConfigurationSetDeliveryOptionsRequest,
             final AsyncHandler<PutConfigurationSetDeliveryOptionsRequest, PutConfigurationSetDeliveryOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutConfigurationSetDeliveryOptionsResult>() {
-            public PutConfigurationSetDeliveryOptionsResult call() throws Exception {
-                PutConfigurationSetDeliveryOptionsResult result = null;
-                try {
-                    result = putConfigurationSetDeliveryOptions(putConfigurationSetDeliveryOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putConfigurationSetDeliveryOptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putConfigurationSetDeliveryOptionsRequest,
+                new PutConfigurationSetDeliveryOptionsRequestMarshaller(),
+                new PutConfigurationSetDeliveryOptionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4386,14 +3826,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<PutIdentityPolicyResult> putIdentityPolicyAsync(
+    public ListenableFuture<PutIdentityPolicyResult> putIdentityPolicyAsync(
             final PutIdentityPolicyRequest putIdentityPolicyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
-            public PutIdentityPolicyResult call() throws Exception {
-                return putIdentityPolicy(putIdentityPolicyRequest);
-            }
-        });
+        return putIdentityPolicyAsync(putIdentityPolicyRequest, null);
     }
 
     /**
@@ -4438,23 +3874,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<PutIdentityPolicyResult> putIdentityPolicyAsync(
+    public ListenableFuture<PutIdentityPolicyResult> putIdentityPolicyAsync(
             final PutIdentityPolicyRequest putIdentityPolicyRequest,
             final AsyncHandler<PutIdentityPolicyRequest, PutIdentityPolicyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutIdentityPolicyResult>() {
-            public PutIdentityPolicyResult call() throws Exception {
-                PutIdentityPolicyResult result = null;
-                try {
-                    result = putIdentityPolicy(putIdentityPolicyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(putIdentityPolicyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(putIdentityPolicyRequest,
+                new PutIdentityPolicyRequestMarshaller(),
+                new PutIdentityPolicyResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4497,14 +3924,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
+    public ListenableFuture<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
             final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
-            public ReorderReceiptRuleSetResult call() throws Exception {
-                return reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
-            }
-        });
+        return reorderReceiptRuleSetAsync(reorderReceiptRuleSetRequest, null);
     }
 
     /**
@@ -4547,23 +3970,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
+    public ListenableFuture<ReorderReceiptRuleSetResult> reorderReceiptRuleSetAsync(
             final ReorderReceiptRuleSetRequest reorderReceiptRuleSetRequest,
             final AsyncHandler<ReorderReceiptRuleSetRequest, ReorderReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReorderReceiptRuleSetResult>() {
-            public ReorderReceiptRuleSetResult call() throws Exception {
-                ReorderReceiptRuleSetResult result = null;
-                try {
-                    result = reorderReceiptRuleSet(reorderReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(reorderReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(reorderReceiptRuleSetRequest,
+                new ReorderReceiptRuleSetRequestMarshaller(),
+                new ReorderReceiptRuleSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4603,13 +4017,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest)
+    public ListenableFuture<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
-            public SendBounceResult call() throws Exception {
-                return sendBounce(sendBounceRequest);
-            }
-        });
+        return sendBounceAsync(sendBounceRequest, null);
     }
 
     /**
@@ -4649,22 +4059,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest,
+    public ListenableFuture<SendBounceResult> sendBounceAsync(final SendBounceRequest sendBounceRequest,
             final AsyncHandler<SendBounceRequest, SendBounceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBounceResult>() {
-            public SendBounceResult call() throws Exception {
-                SendBounceResult result = null;
-                try {
-                    result = sendBounce(sendBounceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendBounceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendBounceRequest,
+                new SendBounceRequestMarshaller(),
+                new SendBounceResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4755,14 +4156,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
+    public ListenableFuture<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
             final SendBulkTemplatedEmailRequest sendBulkTemplatedEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBulkTemplatedEmailResult>() {
-            public SendBulkTemplatedEmailResult call() throws Exception {
-                return sendBulkTemplatedEmail(sendBulkTemplatedEmailRequest);
-            }
-        });
+        return sendBulkTemplatedEmailAsync(sendBulkTemplatedEmailRequest, null);
     }
 
     /**
@@ -4853,23 +4250,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
+    public ListenableFuture<SendBulkTemplatedEmailResult> sendBulkTemplatedEmailAsync(
             final SendBulkTemplatedEmailRequest sendBulkTemplatedEmailRequest,
             final AsyncHandler<SendBulkTemplatedEmailRequest, SendBulkTemplatedEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendBulkTemplatedEmailResult>() {
-            public SendBulkTemplatedEmailResult call() throws Exception {
-                SendBulkTemplatedEmailResult result = null;
-                try {
-                    result = sendBulkTemplatedEmail(sendBulkTemplatedEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendBulkTemplatedEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendBulkTemplatedEmailRequest,
+                new SendBulkTemplatedEmailRequestMarshaller(),
+                new SendBulkTemplatedEmailResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -4911,14 +4299,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
+    public ListenableFuture<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
             final SendCustomVerificationEmailRequest sendCustomVerificationEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendCustomVerificationEmailResult>() {
-            public SendCustomVerificationEmailResult call() throws Exception {
-                return sendCustomVerificationEmail(sendCustomVerificationEmailRequest);
-            }
-        });
+        return sendCustomVerificationEmailAsync(sendCustomVerificationEmailRequest, null);
     }
 
     /**
@@ -4960,23 +4344,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
+    public ListenableFuture<SendCustomVerificationEmailResult> sendCustomVerificationEmailAsync(
             final SendCustomVerificationEmailRequest sendCustomVerificationEmailRequest,
             final AsyncHandler<SendCustomVerificationEmailRequest, SendCustomVerificationEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendCustomVerificationEmailResult>() {
-            public SendCustomVerificationEmailResult call() throws Exception {
-                SendCustomVerificationEmailResult result = null;
-                try {
-                    result = sendCustomVerificationEmail(sendCustomVerificationEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendCustomVerificationEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendCustomVerificationEmailRequest,
+                new SendCustomVerificationEmailRequestMarshaller(),
+                new SendCustomVerificationEmailResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -5062,13 +4437,9 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest)
+    public ListenableFuture<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-                return sendEmail(sendEmailRequest);
-            }
-        });
+        return sendEmailAsync(sendEmailRequest, null);
     }
 
     /**
@@ -5154,22 +4525,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest,
+    public ListenableFuture<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest,
             final AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-                SendEmailResult result = null;
-                try {
-                    result = sendEmail(sendEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendEmailRequest,
+                new SendEmailRequestMarshaller(),
+                new SendEmailResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -5342,14 +4704,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendRawEmailResult> sendRawEmailAsync(
+    public ListenableFuture<SendRawEmailResult> sendRawEmailAsync(
             final SendRawEmailRequest sendRawEmailRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-                return sendRawEmail(sendRawEmailRequest);
-            }
-        });
+        return sendRawEmailAsync(sendRawEmailRequest, null);
     }
 
     /**
@@ -5522,23 +4880,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendRawEmailResult> sendRawEmailAsync(
+    public ListenableFuture<SendRawEmailResult> sendRawEmailAsync(
             final SendRawEmailRequest sendRawEmailRequest,
             final AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-                SendRawEmailResult result = null;
-                try {
-                    result = sendRawEmail(sendRawEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendRawEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendRawEmailRequest,
+                new SendRawEmailRequestMarshaller(),
+                new SendRawEmailResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -5640,14 +4989,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendTemplatedEmailResult> sendTemplatedEmailAsync(
+    public ListenableFuture<SendTemplatedEmailResult> sendTemplatedEmailAsync(
             final SendTemplatedEmailRequest sendTemplatedEmailRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendTemplatedEmailResult>() {
-            public SendTemplatedEmailResult call() throws Exception {
-                return sendTemplatedEmail(sendTemplatedEmailRequest);
-            }
-        });
+        return sendTemplatedEmailAsync(sendTemplatedEmailRequest, null);
     }
 
     /**
@@ -5749,23 +5094,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SendTemplatedEmailResult> sendTemplatedEmailAsync(
+    public ListenableFuture<SendTemplatedEmailResult> sendTemplatedEmailAsync(
             final SendTemplatedEmailRequest sendTemplatedEmailRequest,
             final AsyncHandler<SendTemplatedEmailRequest, SendTemplatedEmailResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendTemplatedEmailResult>() {
-            public SendTemplatedEmailResult call() throws Exception {
-                SendTemplatedEmailResult result = null;
-                try {
-                    result = sendTemplatedEmail(sendTemplatedEmailRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendTemplatedEmailRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendTemplatedEmailRequest,
+                new SendTemplatedEmailRequestMarshaller(),
+                new SendTemplatedEmailResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -5806,14 +5142,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
+    public ListenableFuture<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
             final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
-            public SetActiveReceiptRuleSetResult call() throws Exception {
-                return setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
-            }
-        });
+        return setActiveReceiptRuleSetAsync(setActiveReceiptRuleSetRequest, null);
     }
 
     /**
@@ -5854,23 +5186,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
+    public ListenableFuture<SetActiveReceiptRuleSetResult> setActiveReceiptRuleSetAsync(
             final SetActiveReceiptRuleSetRequest setActiveReceiptRuleSetRequest,
             final AsyncHandler<SetActiveReceiptRuleSetRequest, SetActiveReceiptRuleSetResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetActiveReceiptRuleSetResult>() {
-            public SetActiveReceiptRuleSetResult call() throws Exception {
-                SetActiveReceiptRuleSetResult result = null;
-                try {
-                    result = setActiveReceiptRuleSet(setActiveReceiptRuleSetRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setActiveReceiptRuleSetRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setActiveReceiptRuleSetRequest,
+                new SetActiveReceiptRuleSetRequestMarshaller(),
+                new SetActiveReceiptRuleSetResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -5920,14 +5243,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
+    public ListenableFuture<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
-            public SetIdentityDkimEnabledResult call() throws Exception {
-                return setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-            }
-        });
+        return setIdentityDkimEnabledAsync(setIdentityDkimEnabledRequest, null);
     }
 
     /**
@@ -5977,23 +5296,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
+    public ListenableFuture<SetIdentityDkimEnabledResult> setIdentityDkimEnabledAsync(
             final SetIdentityDkimEnabledRequest setIdentityDkimEnabledRequest,
             final AsyncHandler<SetIdentityDkimEnabledRequest, SetIdentityDkimEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityDkimEnabledResult>() {
-            public SetIdentityDkimEnabledResult call() throws Exception {
-                SetIdentityDkimEnabledResult result = null;
-                try {
-                    result = setIdentityDkimEnabled(setIdentityDkimEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityDkimEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setIdentityDkimEnabledRequest,
+                new SetIdentityDkimEnabledRequestMarshaller(),
+                new SetIdentityDkimEnabledResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -6039,14 +5349,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
+    public ListenableFuture<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-            public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-                return setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-            }
-        });
+        return setIdentityFeedbackForwardingEnabledAsync(setIdentityFeedbackForwardingEnabledRequest, null);
     }
 
     /**
@@ -6092,23 +5398,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
+    public ListenableFuture<SetIdentityFeedbackForwardingEnabledResult> setIdentityFeedbackForwardingEnabledAsync(
             final SetIdentityFeedbackForwardingEnabledRequest setIdentityFeedbackForwardingEnabledRequest,
             final AsyncHandler<SetIdentityFeedbackForwardingEnabledRequest, SetIdentityFeedbackForwardingEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-            public SetIdentityFeedbackForwardingEnabledResult call() throws Exception {
-                SetIdentityFeedbackForwardingEnabledResult result = null;
-                try {
-                    result = setIdentityFeedbackForwardingEnabled(setIdentityFeedbackForwardingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityFeedbackForwardingEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setIdentityFeedbackForwardingEnabledRequest,
+                new SetIdentityFeedbackForwardingEnabledRequestMarshaller(),
+                new SetIdentityFeedbackForwardingEnabledResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -6146,15 +5443,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityHeadersInNotificationsEnabledResult> setIdentityHeadersInNotificationsEnabledAsync(
+    public ListenableFuture<SetIdentityHeadersInNotificationsEnabledResult> setIdentityHeadersInNotificationsEnabledAsync(
             final SetIdentityHeadersInNotificationsEnabledRequest setIdentityHeadersInNotificationsEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService
-                .submit(new Callable<SetIdentityHeadersInNotificationsEnabledResult>() {
-                    public SetIdentityHeadersInNotificationsEnabledResult call() throws Exception {
-                        return setIdentityHeadersInNotificationsEnabled(setIdentityHeadersInNotificationsEnabledRequest);
-                    }
-                });
+        return setIdentityHeadersInNotificationsEnabledAsync(setIdentityHeadersInNotificationsEnabledRequest, null);
     }
 
     /**
@@ -6192,25 +5484,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityHeadersInNotificationsEnabledResult> setIdentityHeadersInNotificationsEnabledAsync(
+    public ListenableFuture<SetIdentityHeadersInNotificationsEnabledResult> setIdentityHeadersInNotificationsEnabledAsync(
             final SetIdentityHeadersInNotificationsEnabledRequest setIdentityHeadersInNotificationsEnabledRequest,
             final AsyncHandler<SetIdentityHeadersInNotificationsEnabledRequest, SetIdentityHeadersInNotificationsEnabledResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService
-                .submit(new Callable<SetIdentityHeadersInNotificationsEnabledResult>() {
-                    public SetIdentityHeadersInNotificationsEnabledResult call() throws Exception {
-                        SetIdentityHeadersInNotificationsEnabledResult result = null;
-                        try {
-                            result = setIdentityHeadersInNotificationsEnabled(setIdentityHeadersInNotificationsEnabledRequest);
-                        } catch (Exception ex) {
-                            asyncHandler.onError(ex);
-                            throw ex;
-                        }
-                        asyncHandler.onSuccess(setIdentityHeadersInNotificationsEnabledRequest,
-                                result);
-                        return result;
-                    }
-                });
+        return invokeAsync(setIdentityHeadersInNotificationsEnabledRequest,
+                new SetIdentityHeadersInNotificationsEnabledRequestMarshaller(),
+                new SetIdentityHeadersInNotificationsEnabledResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -6251,14 +5532,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
+    public ListenableFuture<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
             final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
-            public SetIdentityMailFromDomainResult call() throws Exception {
-                return setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
-            }
-        });
+        return setIdentityMailFromDomainAsync(setIdentityMailFromDomainRequest, null);
     }
 
     /**
@@ -6299,23 +5576,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
+    public ListenableFuture<SetIdentityMailFromDomainResult> setIdentityMailFromDomainAsync(
             final SetIdentityMailFromDomainRequest setIdentityMailFromDomainRequest,
             final AsyncHandler<SetIdentityMailFromDomainRequest, SetIdentityMailFromDomainResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityMailFromDomainResult>() {
-            public SetIdentityMailFromDomainResult call() throws Exception {
-                SetIdentityMailFromDomainResult result = null;
-                try {
-                    result = setIdentityMailFromDomain(setIdentityMailFromDomainRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityMailFromDomainRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setIdentityMailFromDomainRequest,
+                new SetIdentityMailFromDomainRequestMarshaller(),
+                new SetIdentityMailFromDomainResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -6357,14 +5625,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
+    public ListenableFuture<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
-            public SetIdentityNotificationTopicResult call() throws Exception {
-                return setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-            }
-        });
+        return setIdentityNotificationTopicAsync(setIdentityNotificationTopicRequest, null);
     }
 
     /**
@@ -6406,23 +5670,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
+    public ListenableFuture<SetIdentityNotificationTopicResult> setIdentityNotificationTopicAsync(
             final SetIdentityNotificationTopicRequest setIdentityNotificationTopicRequest,
             final AsyncHandler<SetIdentityNotificationTopicRequest, SetIdentityNotificationTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetIdentityNotificationTopicResult>() {
-            public SetIdentityNotificationTopicResult call() throws Exception {
-                SetIdentityNotificationTopicResult result = null;
-                try {
-                    result = setIdentityNotificationTopic(setIdentityNotificationTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setIdentityNotificationTopicRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setIdentityNotificationTopicRequest,
+                new SetIdentityNotificationTopicRequestMarshaller(),
+                new SetIdentityNotificationTopicResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -6458,14 +5713,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
+    public ListenableFuture<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
             final SetReceiptRulePositionRequest setReceiptRulePositionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
-            public SetReceiptRulePositionResult call() throws Exception {
-                return setReceiptRulePosition(setReceiptRulePositionRequest);
-            }
-        });
+        return setReceiptRulePositionAsync(setReceiptRulePositionRequest, null);
     }
 
     /**
@@ -6501,23 +5752,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
+    public ListenableFuture<SetReceiptRulePositionResult> setReceiptRulePositionAsync(
             final SetReceiptRulePositionRequest setReceiptRulePositionRequest,
             final AsyncHandler<SetReceiptRulePositionRequest, SetReceiptRulePositionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetReceiptRulePositionResult>() {
-            public SetReceiptRulePositionResult call() throws Exception {
-                SetReceiptRulePositionResult result = null;
-                try {
-                    result = setReceiptRulePosition(setReceiptRulePositionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setReceiptRulePositionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setReceiptRulePositionRequest,
+                new SetReceiptRulePositionRequestMarshaller(),
+                new SetReceiptRulePositionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -6544,14 +5786,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<TestRenderTemplateResult> testRenderTemplateAsync(
+    public ListenableFuture<TestRenderTemplateResult> testRenderTemplateAsync(
             final TestRenderTemplateRequest testRenderTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRenderTemplateResult>() {
-            public TestRenderTemplateResult call() throws Exception {
-                return testRenderTemplate(testRenderTemplateRequest);
-            }
-        });
+        return testRenderTemplateAsync(testRenderTemplateRequest, null);
     }
 
     /**
@@ -6578,23 +5816,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<TestRenderTemplateResult> testRenderTemplateAsync(
+    public ListenableFuture<TestRenderTemplateResult> testRenderTemplateAsync(
             final TestRenderTemplateRequest testRenderTemplateRequest,
             final AsyncHandler<TestRenderTemplateRequest, TestRenderTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TestRenderTemplateResult>() {
-            public TestRenderTemplateResult call() throws Exception {
-                TestRenderTemplateResult result = null;
-                try {
-                    result = testRenderTemplate(testRenderTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(testRenderTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(testRenderTemplateRequest,
+                new TestRenderTemplateRequestMarshaller(),
+                new TestRenderTemplateResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -6624,15 +5853,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateAccountSendingEnabledAsync(
+    public ListenableFuture<Void> updateAccountSendingEnabledAsync(
             final UpdateAccountSendingEnabledRequest updateAccountSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAccountSendingEnabled(updateAccountSendingEnabledRequest);
-                return null;
-            }
-        });
+        return updateAccountSendingEnabledAsync(updateAccountSendingEnabledRequest, null);
     }
 
     /**
@@ -6662,23 +5886,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateAccountSendingEnabledAsync(
+    public ListenableFuture<Void> updateAccountSendingEnabledAsync(
             final UpdateAccountSendingEnabledRequest updateAccountSendingEnabledRequest,
             final AsyncHandler<UpdateAccountSendingEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateAccountSendingEnabled(updateAccountSendingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateAccountSendingEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateAccountSendingEnabledRequest,
+                new UpdateAccountSendingEnabledRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -6727,14 +5942,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
+    public ListenableFuture<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
             final UpdateConfigurationSetEventDestinationRequest updateConfigurationSetEventDestinationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetEventDestinationResult>() {
-            public UpdateConfigurationSetEventDestinationResult call() throws Exception {
-                return updateConfigurationSetEventDestination(updateConfigurationSetEventDestinationRequest);
-            }
-        });
+        return updateConfigurationSetEventDestinationAsync(updateConfigurationSetEventDestinationRequest, null);
     }
 
     /**
@@ -6783,23 +5994,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
+    public ListenableFuture<UpdateConfigurationSetEventDestinationResult> updateConfigurationSetEventDestinationAsync(
             final UpdateConfigurationSetEventDestinationRequest updateConfigurationSetEventDestinationRequest,
             final AsyncHandler<UpdateConfigurationSetEventDestinationRequest, UpdateConfigurationSetEventDestinationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetEventDestinationResult>() {
-            public UpdateConfigurationSetEventDestinationResult call() throws Exception {
-                UpdateConfigurationSetEventDestinationResult result = null;
-                try {
-                    result = updateConfigurationSetEventDestination(updateConfigurationSetEventDestinationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetEventDestinationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateConfigurationSetEventDestinationRequest,
+                new UpdateConfigurationSetEventDestinationRequestMarshaller(),
+                new UpdateConfigurationSetEventDestinationResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -6830,15 +6032,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateConfigurationSetReputationMetricsEnabledAsync(
+    public ListenableFuture<Void> updateConfigurationSetReputationMetricsEnabledAsync(
             final UpdateConfigurationSetReputationMetricsEnabledRequest updateConfigurationSetReputationMetricsEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateConfigurationSetReputationMetricsEnabled(updateConfigurationSetReputationMetricsEnabledRequest);
-                return null;
-            }
-        });
+        return updateConfigurationSetReputationMetricsEnabledAsync(updateConfigurationSetReputationMetricsEnabledRequest, null);
     }
 
     /**
@@ -6869,24 +6066,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateConfigurationSetReputationMetricsEnabledAsync(
+    public ListenableFuture<Void> updateConfigurationSetReputationMetricsEnabledAsync(
             final UpdateConfigurationSetReputationMetricsEnabledRequest updateConfigurationSetReputationMetricsEnabledRequest,
             final AsyncHandler<UpdateConfigurationSetReputationMetricsEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateConfigurationSetReputationMetricsEnabled(updateConfigurationSetReputationMetricsEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetReputationMetricsEnabledRequest,
-                        result);
-                return result;
-            }
-        });
+        return invokeAsync(updateConfigurationSetReputationMetricsEnabledRequest,
+                new UpdateConfigurationSetReputationMetricsEnabledRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -6918,15 +6105,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateConfigurationSetSendingEnabledAsync(
+    public ListenableFuture<Void> updateConfigurationSetSendingEnabledAsync(
             final UpdateConfigurationSetSendingEnabledRequest updateConfigurationSetSendingEnabledRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateConfigurationSetSendingEnabled(updateConfigurationSetSendingEnabledRequest);
-                return null;
-            }
-        });
+        return updateConfigurationSetSendingEnabledAsync(updateConfigurationSetSendingEnabledRequest, null);
     }
 
     /**
@@ -6958,23 +6140,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateConfigurationSetSendingEnabledAsync(
+    public ListenableFuture<Void> updateConfigurationSetSendingEnabledAsync(
             final UpdateConfigurationSetSendingEnabledRequest updateConfigurationSetSendingEnabledRequest,
             final AsyncHandler<UpdateConfigurationSetSendingEnabledRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateConfigurationSetSendingEnabled(updateConfigurationSetSendingEnabledRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetSendingEnabledRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateConfigurationSetSendingEnabledRequest,
+                new UpdateConfigurationSetSendingEnabledRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -7009,14 +6182,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
+    public ListenableFuture<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
             final UpdateConfigurationSetTrackingOptionsRequest updateConfigurationSetTrackingOptionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
-            public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
-                return updateConfigurationSetTrackingOptions(updateConfigurationSetTrackingOptionsRequest);
-            }
-        });
+        return updateConfigurationSetTrackingOptionsAsync(updateConfigurationSetTrackingOptionsRequest, null);
     }
 
     /**
@@ -7051,23 +6220,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
+    public ListenableFuture<UpdateConfigurationSetTrackingOptionsResult> updateConfigurationSetTrackingOptionsAsync(
             final UpdateConfigurationSetTrackingOptionsRequest updateConfigurationSetTrackingOptionsRequest,
             final AsyncHandler<UpdateConfigurationSetTrackingOptionsRequest, UpdateConfigurationSetTrackingOptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationSetTrackingOptionsResult>() {
-            public UpdateConfigurationSetTrackingOptionsResult call() throws Exception {
-                UpdateConfigurationSetTrackingOptionsResult result = null;
-                try {
-                    result = updateConfigurationSetTrackingOptions(updateConfigurationSetTrackingOptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateConfigurationSetTrackingOptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateConfigurationSetTrackingOptionsRequest,
+                new UpdateConfigurationSetTrackingOptionsRequestMarshaller(),
+                new UpdateConfigurationSetTrackingOptionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -7103,15 +6263,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateCustomVerificationEmailTemplateAsync(
+    public ListenableFuture<Void> updateCustomVerificationEmailTemplateAsync(
             final UpdateCustomVerificationEmailTemplateRequest updateCustomVerificationEmailTemplateRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateCustomVerificationEmailTemplate(updateCustomVerificationEmailTemplateRequest);
-                return null;
-            }
-        });
+        return updateCustomVerificationEmailTemplateAsync(updateCustomVerificationEmailTemplateRequest, null);
     }
 
     /**
@@ -7147,23 +6302,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> updateCustomVerificationEmailTemplateAsync(
+    public ListenableFuture<Void> updateCustomVerificationEmailTemplateAsync(
             final UpdateCustomVerificationEmailTemplateRequest updateCustomVerificationEmailTemplateRequest,
             final AsyncHandler<UpdateCustomVerificationEmailTemplateRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    updateCustomVerificationEmailTemplate(updateCustomVerificationEmailTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateCustomVerificationEmailTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateCustomVerificationEmailTemplateRequest,
+                new UpdateCustomVerificationEmailTemplateRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -7203,14 +6349,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateReceiptRuleResult> updateReceiptRuleAsync(
+    public ListenableFuture<UpdateReceiptRuleResult> updateReceiptRuleAsync(
             final UpdateReceiptRuleRequest updateReceiptRuleRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
-            public UpdateReceiptRuleResult call() throws Exception {
-                return updateReceiptRule(updateReceiptRuleRequest);
-            }
-        });
+        return updateReceiptRuleAsync(updateReceiptRuleRequest, null);
     }
 
     /**
@@ -7250,23 +6392,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateReceiptRuleResult> updateReceiptRuleAsync(
+    public ListenableFuture<UpdateReceiptRuleResult> updateReceiptRuleAsync(
             final UpdateReceiptRuleRequest updateReceiptRuleRequest,
             final AsyncHandler<UpdateReceiptRuleRequest, UpdateReceiptRuleResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateReceiptRuleResult>() {
-            public UpdateReceiptRuleResult call() throws Exception {
-                UpdateReceiptRuleResult result = null;
-                try {
-                    result = updateReceiptRule(updateReceiptRuleRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateReceiptRuleRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateReceiptRuleRequest,
+                new UpdateReceiptRuleRequestMarshaller(),
+                new UpdateReceiptRuleResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -7295,14 +6428,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateTemplateResult> updateTemplateAsync(
+    public ListenableFuture<UpdateTemplateResult> updateTemplateAsync(
             final UpdateTemplateRequest updateTemplateRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateTemplateResult>() {
-            public UpdateTemplateResult call() throws Exception {
-                return updateTemplate(updateTemplateRequest);
-            }
-        });
+        return updateTemplateAsync(updateTemplateRequest, null);
     }
 
     /**
@@ -7331,23 +6460,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<UpdateTemplateResult> updateTemplateAsync(
+    public ListenableFuture<UpdateTemplateResult> updateTemplateAsync(
             final UpdateTemplateRequest updateTemplateRequest,
             final AsyncHandler<UpdateTemplateRequest, UpdateTemplateResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTemplateResult>() {
-            public UpdateTemplateResult call() throws Exception {
-                UpdateTemplateResult result = null;
-                try {
-                    result = updateTemplate(updateTemplateRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateTemplateRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateTemplateRequest,
+                new UpdateTemplateRequestMarshaller(),
+                new UpdateTemplateResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -7426,14 +6546,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyDomainDkimResult> verifyDomainDkimAsync(
+    public ListenableFuture<VerifyDomainDkimResult> verifyDomainDkimAsync(
             final VerifyDomainDkimRequest verifyDomainDkimRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
-            public VerifyDomainDkimResult call() throws Exception {
-                return verifyDomainDkim(verifyDomainDkimRequest);
-            }
-        });
+        return verifyDomainDkimAsync(verifyDomainDkimRequest, null);
     }
 
     /**
@@ -7512,23 +6628,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyDomainDkimResult> verifyDomainDkimAsync(
+    public ListenableFuture<VerifyDomainDkimResult> verifyDomainDkimAsync(
             final VerifyDomainDkimRequest verifyDomainDkimRequest,
             final AsyncHandler<VerifyDomainDkimRequest, VerifyDomainDkimResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainDkimResult>() {
-            public VerifyDomainDkimResult call() throws Exception {
-                VerifyDomainDkimResult result = null;
-                try {
-                    result = verifyDomainDkim(verifyDomainDkimRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyDomainDkimRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(verifyDomainDkimRequest,
+                new VerifyDomainDkimRequestMarshaller(),
+                new VerifyDomainDkimResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -7563,14 +6670,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
+    public ListenableFuture<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-                return verifyDomainIdentity(verifyDomainIdentityRequest);
-            }
-        });
+        return verifyDomainIdentityAsync(verifyDomainIdentityRequest, null);
     }
 
     /**
@@ -7605,23 +6708,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
+    public ListenableFuture<VerifyDomainIdentityResult> verifyDomainIdentityAsync(
             final VerifyDomainIdentityRequest verifyDomainIdentityRequest,
             final AsyncHandler<VerifyDomainIdentityRequest, VerifyDomainIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-                VerifyDomainIdentityResult result = null;
-                try {
-                    result = verifyDomainIdentity(verifyDomainIdentityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyDomainIdentityRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(verifyDomainIdentityRequest,
+                new VerifyDomainIdentityRequestMarshaller(),
+                new VerifyDomainIdentityResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -7648,15 +6742,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> verifyEmailAddressAsync(
+    public ListenableFuture<Void> verifyEmailAddressAsync(
             final VerifyEmailAddressRequest verifyEmailAddressRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                verifyEmailAddress(verifyEmailAddressRequest);
-                return null;
-            }
-        });
+        return verifyEmailAddressAsync(verifyEmailAddressRequest, null);
     }
 
     /**
@@ -7683,23 +6772,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<Void> verifyEmailAddressAsync(
+    public ListenableFuture<Void> verifyEmailAddressAsync(
             final VerifyEmailAddressRequest verifyEmailAddressRequest,
             final AsyncHandler<VerifyEmailAddressRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    verifyEmailAddress(verifyEmailAddressRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyEmailAddressRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(verifyEmailAddressRequest,
+                new VerifyEmailAddressRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -7731,14 +6811,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
+    public ListenableFuture<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-                return verifyEmailIdentity(verifyEmailIdentityRequest);
-            }
-        });
+        return verifyEmailIdentityAsync(verifyEmailIdentityRequest, null);
     }
 
     /**
@@ -7770,23 +6846,14 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      *             Simple Email Service indicating either a problem with the
      *             data in the request, or a server side issue.
      */
-    public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
+    public ListenableFuture<VerifyEmailIdentityResult> verifyEmailIdentityAsync(
             final VerifyEmailIdentityRequest verifyEmailIdentityRequest,
             final AsyncHandler<VerifyEmailIdentityRequest, VerifyEmailIdentityResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-                VerifyEmailIdentityResult result = null;
-                try {
-                    result = verifyEmailIdentity(verifyEmailIdentityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(verifyEmailIdentityRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(verifyEmailIdentityRequest,
+                new VerifyEmailIdentityRequestMarshaller(),
+                new VerifyEmailIdentityResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
 }
@@ -15,13 +15,13 @@
 
 package com.amazonaws.services.sns;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -29,6 +29,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.sns.model.*;
+import com.amazonaws.services.sns.model.transform.*;
 
 /**
  * Interface for accessing Amazon Simple Notification Service asynchronously.
@@ -58,7 +59,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -104,15 +105,15 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     @Deprecated
     public AmazonSNSAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Simple Notification Service using the specified AWS account credentials.
-     * Default client settings will be used, and a fixed size thread pool will
-     * be created for executing the asynchronous tasks.
+     * Default client settings will be used, and the asynchronous tasks will be run
+     * on the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -122,7 +123,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *            to use when authenticating with AWS services.
      */
     public AmazonSNSAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -141,7 +142,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public AmazonSNSAsyncClient(AWSCredentials awsCredentials, ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -163,14 +164,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public AmazonSNSAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Simple Notification Service using the specified AWS account credentials
-     * provider. Default client settings will be used, and a fixed size thread
-     * pool will be created for executing the asynchronous tasks.
+     * provider. Default client settings will be used, and the asynchronous tasks will
+     * be run on the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -181,7 +182,7 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *            services.
      */
     public AmazonSNSAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -221,8 +222,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      */
     public AmazonSNSAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -245,17 +246,18 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
     public AmazonSNSAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -294,14 +296,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
+    public ListenableFuture<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addPermission(addPermissionRequest);
-                return null;
-            }
-        });
+        return addPermissionAsync(addPermissionRequest, null);
     }
 
     /**
@@ -326,22 +323,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
+    public ListenableFuture<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    addPermission(addPermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(addPermissionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(addPermissionRequest,
+                new AddPermissionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -374,14 +362,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
+    public ListenableFuture<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
             final CheckIfPhoneNumberIsOptedOutRequest checkIfPhoneNumberIsOptedOutRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
-            public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
-                return checkIfPhoneNumberIsOptedOut(checkIfPhoneNumberIsOptedOutRequest);
-            }
-        });
+        return checkIfPhoneNumberIsOptedOutAsync(checkIfPhoneNumberIsOptedOutRequest, null);
     }
 
     /**
@@ -414,23 +398,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
+    public ListenableFuture<CheckIfPhoneNumberIsOptedOutResult> checkIfPhoneNumberIsOptedOutAsync(
             final CheckIfPhoneNumberIsOptedOutRequest checkIfPhoneNumberIsOptedOutRequest,
             final AsyncHandler<CheckIfPhoneNumberIsOptedOutRequest, CheckIfPhoneNumberIsOptedOutResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckIfPhoneNumberIsOptedOutResult>() {
-            public CheckIfPhoneNumberIsOptedOutResult call() throws Exception {
-                CheckIfPhoneNumberIsOptedOutResult result = null;
-                try {
-                    result = checkIfPhoneNumberIsOptedOut(checkIfPhoneNumberIsOptedOutRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(checkIfPhoneNumberIsOptedOutRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(checkIfPhoneNumberIsOptedOutRequest,
+                new CheckIfPhoneNumberIsOptedOutRequestMarshaller(),
+                new CheckIfPhoneNumberIsOptedOutResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -462,14 +437,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(
+    public ListenableFuture<ConfirmSubscriptionResult> confirmSubscriptionAsync(
             final ConfirmSubscriptionRequest confirmSubscriptionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
-            public ConfirmSubscriptionResult call() throws Exception {
-                return confirmSubscription(confirmSubscriptionRequest);
-            }
-        });
+        return confirmSubscriptionAsync(confirmSubscriptionRequest, null);
     }
 
     /**
@@ -501,23 +472,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ConfirmSubscriptionResult> confirmSubscriptionAsync(
+    public ListenableFuture<ConfirmSubscriptionResult> confirmSubscriptionAsync(
             final ConfirmSubscriptionRequest confirmSubscriptionRequest,
             final AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmSubscriptionResult>() {
-            public ConfirmSubscriptionResult call() throws Exception {
-                ConfirmSubscriptionResult result = null;
-                try {
-                    result = confirmSubscription(confirmSubscriptionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(confirmSubscriptionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(confirmSubscriptionRequest,
+                new ConfirmSubscriptionRequestMarshaller(),
+                new ConfirmSubscriptionResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -562,14 +524,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreatePlatformApplicationResult> createPlatformApplicationAsync(
+    public ListenableFuture<CreatePlatformApplicationResult> createPlatformApplicationAsync(
             final CreatePlatformApplicationRequest createPlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
-            public CreatePlatformApplicationResult call() throws Exception {
-                return createPlatformApplication(createPlatformApplicationRequest);
-            }
-        });
+        return createPlatformApplicationAsync(createPlatformApplicationRequest, null);
     }
 
     /**
@@ -614,23 +572,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreatePlatformApplicationResult> createPlatformApplicationAsync(
+    public ListenableFuture<CreatePlatformApplicationResult> createPlatformApplicationAsync(
             final CreatePlatformApplicationRequest createPlatformApplicationRequest,
             final AsyncHandler<CreatePlatformApplicationRequest, CreatePlatformApplicationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformApplicationResult>() {
-            public CreatePlatformApplicationResult call() throws Exception {
-                CreatePlatformApplicationResult result = null;
-                try {
-                    result = createPlatformApplication(createPlatformApplicationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createPlatformApplicationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createPlatformApplicationRequest,
+                new CreatePlatformApplicationRequestMarshaller(),
+                new CreatePlatformApplicationResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -676,14 +625,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreatePlatformEndpointResult> createPlatformEndpointAsync(
+    public ListenableFuture<CreatePlatformEndpointResult> createPlatformEndpointAsync(
             final CreatePlatformEndpointRequest createPlatformEndpointRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
-            public CreatePlatformEndpointResult call() throws Exception {
-                return createPlatformEndpoint(createPlatformEndpointRequest);
-            }
-        });
+        return createPlatformEndpointAsync(createPlatformEndpointRequest, null);
     }
 
     /**
@@ -729,23 +674,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreatePlatformEndpointResult> createPlatformEndpointAsync(
+    public ListenableFuture<CreatePlatformEndpointResult> createPlatformEndpointAsync(
             final CreatePlatformEndpointRequest createPlatformEndpointRequest,
             final AsyncHandler<CreatePlatformEndpointRequest, CreatePlatformEndpointResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreatePlatformEndpointResult>() {
-            public CreatePlatformEndpointResult call() throws Exception {
-                CreatePlatformEndpointResult result = null;
-                try {
-                    result = createPlatformEndpoint(createPlatformEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createPlatformEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createPlatformEndpointRequest,
+                new CreatePlatformEndpointRequestMarshaller(),
+                new CreatePlatformEndpointResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -781,13 +717,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest)
+    public ListenableFuture<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
-            public CreateTopicResult call() throws Exception {
-                return createTopic(createTopicRequest);
-            }
-        });
+        return createTopicAsync(createTopicRequest, null);
     }
 
     /**
@@ -823,22 +755,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest,
+    public ListenableFuture<CreateTopicResult> createTopicAsync(final CreateTopicRequest createTopicRequest,
             final AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTopicResult>() {
-            public CreateTopicResult call() throws Exception {
-                CreateTopicResult result = null;
-                try {
-                    result = createTopic(createTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createTopicRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createTopicRequest,
+                new CreateTopicRequestMarshaller(),
+                new CreateTopicResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -870,14 +793,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest)
+    public ListenableFuture<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteEndpoint(deleteEndpointRequest);
-                return null;
-            }
-        });
+        return deleteEndpointAsync(deleteEndpointRequest, null);
     }
 
     /**
@@ -909,22 +827,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest,
+    public ListenableFuture<Void> deleteEndpointAsync(final DeleteEndpointRequest deleteEndpointRequest,
             final AsyncHandler<DeleteEndpointRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteEndpoint(deleteEndpointRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteEndpointRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteEndpointRequest,
+                new DeleteEndpointRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -952,15 +861,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlatformApplicationAsync(
+    public ListenableFuture<Void> deletePlatformApplicationAsync(
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlatformApplication(deletePlatformApplicationRequest);
-                return null;
-            }
-        });
+        return deletePlatformApplicationAsync(deletePlatformApplicationRequest, null);
     }
 
     /**
@@ -988,23 +892,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deletePlatformApplicationAsync(
+    public ListenableFuture<Void> deletePlatformApplicationAsync(
             final DeletePlatformApplicationRequest deletePlatformApplicationRequest,
             final AsyncHandler<DeletePlatformApplicationRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deletePlatformApplication(deletePlatformApplicationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deletePlatformApplicationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deletePlatformApplicationRequest,
+                new DeletePlatformApplicationRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1034,14 +929,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest)
+    public ListenableFuture<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTopic(deleteTopicRequest);
-                return null;
-            }
-        });
+        return deleteTopicAsync(deleteTopicRequest, null);
     }
 
     /**
@@ -1071,22 +961,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest,
+    public ListenableFuture<Void> deleteTopicAsync(final DeleteTopicRequest deleteTopicRequest,
             final AsyncHandler<DeleteTopicRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTopic(deleteTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTopicRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTopicRequest,
+                new DeleteTopicRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1116,14 +997,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetEndpointAttributesResult> getEndpointAttributesAsync(
+    public ListenableFuture<GetEndpointAttributesResult> getEndpointAttributesAsync(
             final GetEndpointAttributesRequest getEndpointAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
-            public GetEndpointAttributesResult call() throws Exception {
-                return getEndpointAttributes(getEndpointAttributesRequest);
-            }
-        });
+        return getEndpointAttributesAsync(getEndpointAttributesRequest, null);
     }
 
     /**
@@ -1153,23 +1030,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetEndpointAttributesResult> getEndpointAttributesAsync(
+    public ListenableFuture<GetEndpointAttributesResult> getEndpointAttributesAsync(
             final GetEndpointAttributesRequest getEndpointAttributesRequest,
             final AsyncHandler<GetEndpointAttributesRequest, GetEndpointAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetEndpointAttributesResult>() {
-            public GetEndpointAttributesResult call() throws Exception {
-                GetEndpointAttributesResult result = null;
-                try {
-                    result = getEndpointAttributes(getEndpointAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getEndpointAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getEndpointAttributesRequest,
+                new GetEndpointAttributesRequestMarshaller(),
+                new GetEndpointAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1199,14 +1067,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
+    public ListenableFuture<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
-            public GetPlatformApplicationAttributesResult call() throws Exception {
-                return getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-            }
-        });
+        return getPlatformApplicationAttributesAsync(getPlatformApplicationAttributesRequest, null);
     }
 
     /**
@@ -1236,23 +1100,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
+    public ListenableFuture<GetPlatformApplicationAttributesResult> getPlatformApplicationAttributesAsync(
             final GetPlatformApplicationAttributesRequest getPlatformApplicationAttributesRequest,
             final AsyncHandler<GetPlatformApplicationAttributesRequest, GetPlatformApplicationAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPlatformApplicationAttributesResult>() {
-            public GetPlatformApplicationAttributesResult call() throws Exception {
-                GetPlatformApplicationAttributesResult result = null;
-                try {
-                    result = getPlatformApplicationAttributes(getPlatformApplicationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getPlatformApplicationAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getPlatformApplicationAttributesRequest,
+                new GetPlatformApplicationAttributesRequestMarshaller(),
+                new GetPlatformApplicationAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1281,14 +1136,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSMSAttributesResult> getSMSAttributesAsync(
+    public ListenableFuture<GetSMSAttributesResult> getSMSAttributesAsync(
             final GetSMSAttributesRequest getSMSAttributesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetSMSAttributesResult>() {
-            public GetSMSAttributesResult call() throws Exception {
-                return getSMSAttributes(getSMSAttributesRequest);
-            }
-        });
+        return getSMSAttributesAsync(getSMSAttributesRequest, null);
     }
 
     /**
@@ -1317,23 +1168,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSMSAttributesResult> getSMSAttributesAsync(
+    public ListenableFuture<GetSMSAttributesResult> getSMSAttributesAsync(
             final GetSMSAttributesRequest getSMSAttributesRequest,
             final AsyncHandler<GetSMSAttributesRequest, GetSMSAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSMSAttributesResult>() {
-            public GetSMSAttributesResult call() throws Exception {
-                GetSMSAttributesResult result = null;
-                try {
-                    result = getSMSAttributes(getSMSAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSMSAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getSMSAttributesRequest,
+                new GetSMSAttributesRequestMarshaller(),
+                new GetSMSAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1359,14 +1201,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
+    public ListenableFuture<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
-            public GetSubscriptionAttributesResult call() throws Exception {
-                return getSubscriptionAttributes(getSubscriptionAttributesRequest);
-            }
-        });
+        return getSubscriptionAttributesAsync(getSubscriptionAttributesRequest, null);
     }
 
     /**
@@ -1392,23 +1230,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
+    public ListenableFuture<GetSubscriptionAttributesResult> getSubscriptionAttributesAsync(
             final GetSubscriptionAttributesRequest getSubscriptionAttributesRequest,
             final AsyncHandler<GetSubscriptionAttributesRequest, GetSubscriptionAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSubscriptionAttributesResult>() {
-            public GetSubscriptionAttributesResult call() throws Exception {
-                GetSubscriptionAttributesResult result = null;
-                try {
-                    result = getSubscriptionAttributes(getSubscriptionAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getSubscriptionAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getSubscriptionAttributesRequest,
+                new GetSubscriptionAttributesRequestMarshaller(),
+                new GetSubscriptionAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1436,14 +1265,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetTopicAttributesResult> getTopicAttributesAsync(
+    public ListenableFuture<GetTopicAttributesResult> getTopicAttributesAsync(
             final GetTopicAttributesRequest getTopicAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
-            public GetTopicAttributesResult call() throws Exception {
-                return getTopicAttributes(getTopicAttributesRequest);
-            }
-        });
+        return getTopicAttributesAsync(getTopicAttributesRequest, null);
     }
 
     /**
@@ -1471,23 +1296,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<GetTopicAttributesResult> getTopicAttributesAsync(
+    public ListenableFuture<GetTopicAttributesResult> getTopicAttributesAsync(
             final GetTopicAttributesRequest getTopicAttributesRequest,
             final AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTopicAttributesResult>() {
-            public GetTopicAttributesResult call() throws Exception {
-                GetTopicAttributesResult result = null;
-                try {
-                    result = getTopicAttributes(getTopicAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTopicAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTopicAttributesRequest,
+                new GetTopicAttributesRequestMarshaller(),
+                new GetTopicAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1526,14 +1342,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
+    public ListenableFuture<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
-            public ListEndpointsByPlatformApplicationResult call() throws Exception {
-                return listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-            }
-        });
+        return listEndpointsByPlatformApplicationAsync(listEndpointsByPlatformApplicationRequest, null);
     }
 
     /**
@@ -1572,23 +1384,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
+    public ListenableFuture<ListEndpointsByPlatformApplicationResult> listEndpointsByPlatformApplicationAsync(
             final ListEndpointsByPlatformApplicationRequest listEndpointsByPlatformApplicationRequest,
             final AsyncHandler<ListEndpointsByPlatformApplicationRequest, ListEndpointsByPlatformApplicationResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListEndpointsByPlatformApplicationResult>() {
-            public ListEndpointsByPlatformApplicationResult call() throws Exception {
-                ListEndpointsByPlatformApplicationResult result = null;
-                try {
-                    result = listEndpointsByPlatformApplication(listEndpointsByPlatformApplicationRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listEndpointsByPlatformApplicationRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listEndpointsByPlatformApplicationRequest,
+                new ListEndpointsByPlatformApplicationRequestMarshaller(),
+                new ListEndpointsByPlatformApplicationResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1625,14 +1428,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
+    public ListenableFuture<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
             final ListPhoneNumbersOptedOutRequest listPhoneNumbersOptedOutRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersOptedOutResult>() {
-            public ListPhoneNumbersOptedOutResult call() throws Exception {
-                return listPhoneNumbersOptedOut(listPhoneNumbersOptedOutRequest);
-            }
-        });
+        return listPhoneNumbersOptedOutAsync(listPhoneNumbersOptedOutRequest, null);
     }
 
     /**
@@ -1669,23 +1468,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
+    public ListenableFuture<ListPhoneNumbersOptedOutResult> listPhoneNumbersOptedOutAsync(
             final ListPhoneNumbersOptedOutRequest listPhoneNumbersOptedOutRequest,
             final AsyncHandler<ListPhoneNumbersOptedOutRequest, ListPhoneNumbersOptedOutResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPhoneNumbersOptedOutResult>() {
-            public ListPhoneNumbersOptedOutResult call() throws Exception {
-                ListPhoneNumbersOptedOutResult result = null;
-                try {
-                    result = listPhoneNumbersOptedOut(listPhoneNumbersOptedOutRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPhoneNumbersOptedOutRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listPhoneNumbersOptedOutRequest,
+                new ListPhoneNumbersOptedOutRequestMarshaller(),
+                new ListPhoneNumbersOptedOutResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1723,14 +1513,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
+    public ListenableFuture<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
-            public ListPlatformApplicationsResult call() throws Exception {
-                return listPlatformApplications(listPlatformApplicationsRequest);
-            }
-        });
+        return listPlatformApplicationsAsync(listPlatformApplicationsRequest, null);
     }
 
     /**
@@ -1768,23 +1554,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
+    public ListenableFuture<ListPlatformApplicationsResult> listPlatformApplicationsAsync(
             final ListPlatformApplicationsRequest listPlatformApplicationsRequest,
             final AsyncHandler<ListPlatformApplicationsRequest, ListPlatformApplicationsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListPlatformApplicationsResult>() {
-            public ListPlatformApplicationsResult call() throws Exception {
-                ListPlatformApplicationsResult result = null;
-                try {
-                    result = listPlatformApplications(listPlatformApplicationsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listPlatformApplicationsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listPlatformApplicationsRequest,
+                new ListPlatformApplicationsRequestMarshaller(),
+                new ListPlatformApplicationsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1816,14 +1593,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSubscriptionsResult> listSubscriptionsAsync(
+    public ListenableFuture<ListSubscriptionsResult> listSubscriptionsAsync(
             final ListSubscriptionsRequest listSubscriptionsRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
-            public ListSubscriptionsResult call() throws Exception {
-                return listSubscriptions(listSubscriptionsRequest);
-            }
-        });
+        return listSubscriptionsAsync(listSubscriptionsRequest, null);
     }
 
     /**
@@ -1855,23 +1628,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSubscriptionsResult> listSubscriptionsAsync(
+    public ListenableFuture<ListSubscriptionsResult> listSubscriptionsAsync(
             final ListSubscriptionsRequest listSubscriptionsRequest,
             final AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsResult>() {
-            public ListSubscriptionsResult call() throws Exception {
-                ListSubscriptionsResult result = null;
-                try {
-                    result = listSubscriptions(listSubscriptionsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSubscriptionsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSubscriptionsRequest,
+                new ListSubscriptionsRequestMarshaller(),
+                new ListSubscriptionsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1904,14 +1668,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
+    public ListenableFuture<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
-            public ListSubscriptionsByTopicResult call() throws Exception {
-                return listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-            }
-        });
+        return listSubscriptionsByTopicAsync(listSubscriptionsByTopicRequest, null);
     }
 
     /**
@@ -1944,23 +1704,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
+    public ListenableFuture<ListSubscriptionsByTopicResult> listSubscriptionsByTopicAsync(
             final ListSubscriptionsByTopicRequest listSubscriptionsByTopicRequest,
             final AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSubscriptionsByTopicResult>() {
-            public ListSubscriptionsByTopicResult call() throws Exception {
-                ListSubscriptionsByTopicResult result = null;
-                try {
-                    result = listSubscriptionsByTopic(listSubscriptionsByTopicRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listSubscriptionsByTopicRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listSubscriptionsByTopicRequest,
+                new ListSubscriptionsByTopicRequestMarshaller(),
+                new ListSubscriptionsByTopicResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1989,14 +1740,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public ListenableFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                return listTagsForResource(listTagsForResourceRequest);
-            }
-        });
+        return listTagsForResourceAsync(listTagsForResourceRequest, null);
     }
 
     /**
@@ -2025,23 +1772,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListTagsForResourceResult> listTagsForResourceAsync(
+    public ListenableFuture<ListTagsForResourceResult> listTagsForResourceAsync(
             final ListTagsForResourceRequest listTagsForResourceRequest,
             final AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTagsForResourceResult>() {
-            public ListTagsForResourceResult call() throws Exception {
-                ListTagsForResourceResult result = null;
-                try {
-                    result = listTagsForResource(listTagsForResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTagsForResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTagsForResourceRequest,
+                new ListTagsForResourceRequestMarshaller(),
+                new ListTagsForResourceResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2070,13 +1808,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest)
+    public ListenableFuture<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
-            public ListTopicsResult call() throws Exception {
-                return listTopics(listTopicsRequest);
-            }
-        });
+        return listTopicsAsync(listTopicsRequest, null);
     }
 
     /**
@@ -2105,22 +1839,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest,
+    public ListenableFuture<ListTopicsResult> listTopicsAsync(final ListTopicsRequest listTopicsRequest,
             final AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTopicsResult>() {
-            public ListTopicsResult call() throws Exception {
-                ListTopicsResult result = null;
-                try {
-                    result = listTopics(listTopicsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTopicsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTopicsRequest,
+                new ListTopicsRequestMarshaller(),
+                new ListTopicsResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2150,14 +1875,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<OptInPhoneNumberResult> optInPhoneNumberAsync(
+    public ListenableFuture<OptInPhoneNumberResult> optInPhoneNumberAsync(
             final OptInPhoneNumberRequest optInPhoneNumberRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<OptInPhoneNumberResult>() {
-            public OptInPhoneNumberResult call() throws Exception {
-                return optInPhoneNumber(optInPhoneNumberRequest);
-            }
-        });
+        return optInPhoneNumberAsync(optInPhoneNumberRequest, null);
     }
 
     /**
@@ -2187,23 +1908,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<OptInPhoneNumberResult> optInPhoneNumberAsync(
+    public ListenableFuture<OptInPhoneNumberResult> optInPhoneNumberAsync(
             final OptInPhoneNumberRequest optInPhoneNumberRequest,
             final AsyncHandler<OptInPhoneNumberRequest, OptInPhoneNumberResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<OptInPhoneNumberResult>() {
-            public OptInPhoneNumberResult call() throws Exception {
-                OptInPhoneNumberResult result = null;
-                try {
-                    result = optInPhoneNumber(optInPhoneNumberRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(optInPhoneNumberRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(optInPhoneNumberRequest,
+                new OptInPhoneNumberRequestMarshaller(),
+                new OptInPhoneNumberResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2262,13 +1974,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<PublishResult> publishAsync(final PublishRequest publishRequest)
+    public ListenableFuture<PublishResult> publishAsync(final PublishRequest publishRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
-            public PublishResult call() throws Exception {
-                return publish(publishRequest);
-            }
-        });
+        return publishAsync(publishRequest, null);
     }
 
     /**
@@ -2327,22 +2035,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<PublishResult> publishAsync(final PublishRequest publishRequest,
+    public ListenableFuture<PublishResult> publishAsync(final PublishRequest publishRequest,
             final AsyncHandler<PublishRequest, PublishResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PublishResult>() {
-            public PublishResult call() throws Exception {
-                PublishResult result = null;
-                try {
-                    result = publish(publishRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(publishRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(publishRequest,
+                new PublishRequestMarshaller(),
+                new PublishResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2368,14 +2067,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
+    public ListenableFuture<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removePermission(removePermissionRequest);
-                return null;
-            }
-        });
+        return removePermissionAsync(removePermissionRequest, null);
     }
 
     /**
@@ -2401,23 +2095,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> removePermissionAsync(
+    public ListenableFuture<Void> removePermissionAsync(
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    removePermission(removePermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(removePermissionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(removePermissionRequest,
+                new RemovePermissionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2447,15 +2132,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setEndpointAttributesAsync(
+    public ListenableFuture<Void> setEndpointAttributesAsync(
             final SetEndpointAttributesRequest setEndpointAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setEndpointAttributes(setEndpointAttributesRequest);
-                return null;
-            }
-        });
+        return setEndpointAttributesAsync(setEndpointAttributesRequest, null);
     }
 
     /**
@@ -2485,23 +2165,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setEndpointAttributesAsync(
+    public ListenableFuture<Void> setEndpointAttributesAsync(
             final SetEndpointAttributesRequest setEndpointAttributesRequest,
             final AsyncHandler<SetEndpointAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setEndpointAttributes(setEndpointAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setEndpointAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setEndpointAttributesRequest,
+                new SetEndpointAttributesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2534,15 +2205,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setPlatformApplicationAttributesAsync(
+    public ListenableFuture<Void> setPlatformApplicationAttributesAsync(
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-                return null;
-            }
-        });
+        return setPlatformApplicationAttributesAsync(setPlatformApplicationAttributesRequest, null);
     }
 
     /**
@@ -2575,23 +2241,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setPlatformApplicationAttributesAsync(
+    public ListenableFuture<Void> setPlatformApplicationAttributesAsync(
             final SetPlatformApplicationAttributesRequest setPlatformApplicationAttributesRequest,
             final AsyncHandler<SetPlatformApplicationAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setPlatformApplicationAttributes(setPlatformApplicationAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setPlatformApplicationAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setPlatformApplicationAttributesRequest,
+                new SetPlatformApplicationAttributesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2626,14 +2283,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<SetSMSAttributesResult> setSMSAttributesAsync(
+    public ListenableFuture<SetSMSAttributesResult> setSMSAttributesAsync(
             final SetSMSAttributesRequest setSMSAttributesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SetSMSAttributesResult>() {
-            public SetSMSAttributesResult call() throws Exception {
-                return setSMSAttributes(setSMSAttributesRequest);
-            }
-        });
+        return setSMSAttributesAsync(setSMSAttributesRequest, null);
     }
 
     /**
@@ -2668,23 +2321,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<SetSMSAttributesResult> setSMSAttributesAsync(
+    public ListenableFuture<SetSMSAttributesResult> setSMSAttributesAsync(
             final SetSMSAttributesRequest setSMSAttributesRequest,
             final AsyncHandler<SetSMSAttributesRequest, SetSMSAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetSMSAttributesResult>() {
-            public SetSMSAttributesResult call() throws Exception {
-                SetSMSAttributesResult result = null;
-                try {
-                    result = setSMSAttributes(setSMSAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setSMSAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setSMSAttributesRequest,
+                new SetSMSAttributesRequestMarshaller(),
+                new SetSMSAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2712,15 +2356,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setSubscriptionAttributesAsync(
+    public ListenableFuture<Void> setSubscriptionAttributesAsync(
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setSubscriptionAttributes(setSubscriptionAttributesRequest);
-                return null;
-            }
-        });
+        return setSubscriptionAttributesAsync(setSubscriptionAttributesRequest, null);
     }
 
     /**
@@ -2748,23 +2387,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setSubscriptionAttributesAsync(
+    public ListenableFuture<Void> setSubscriptionAttributesAsync(
             final SetSubscriptionAttributesRequest setSubscriptionAttributesRequest,
             final AsyncHandler<SetSubscriptionAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setSubscriptionAttributes(setSubscriptionAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setSubscriptionAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setSubscriptionAttributesRequest,
+                new SetSubscriptionAttributesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2791,15 +2421,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setTopicAttributesAsync(
+    public ListenableFuture<Void> setTopicAttributesAsync(
             final SetTopicAttributesRequest setTopicAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setTopicAttributes(setTopicAttributesRequest);
-                return null;
-            }
-        });
+        return setTopicAttributesAsync(setTopicAttributesRequest, null);
     }
 
     /**
@@ -2826,23 +2451,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> setTopicAttributesAsync(
+    public ListenableFuture<Void> setTopicAttributesAsync(
             final SetTopicAttributesRequest setTopicAttributesRequest,
             final AsyncHandler<SetTopicAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setTopicAttributes(setTopicAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setTopicAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setTopicAttributesRequest,
+                new SetTopicAttributesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2877,13 +2493,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest)
+    public ListenableFuture<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
-            public SubscribeResult call() throws Exception {
-                return subscribe(subscribeRequest);
-            }
-        });
+        return subscribeAsync(subscribeRequest, null);
     }
 
     /**
@@ -2918,22 +2530,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest,
+    public ListenableFuture<SubscribeResult> subscribeAsync(final SubscribeRequest subscribeRequest,
             final AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SubscribeResult>() {
-            public SubscribeResult call() throws Exception {
-                SubscribeResult result = null;
-                try {
-                    result = subscribe(subscribeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(subscribeRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(subscribeRequest,
+                new SubscribeRequestMarshaller(),
+                new SubscribeResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2997,13 +2600,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
+    public ListenableFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                return tagResource(tagResourceRequest);
-            }
-        });
+        return tagResourceAsync(tagResourceRequest, null);
     }
 
     /**
@@ -3067,22 +2666,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
+    public ListenableFuture<TagResourceResult> tagResourceAsync(final TagResourceRequest tagResourceRequest,
             final AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TagResourceResult>() {
-            public TagResourceResult call() throws Exception {
-                TagResourceResult result = null;
-                try {
-                    result = tagResource(tagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(tagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(tagResourceRequest,
+                new TagResourceRequestMarshaller(),
+                new TagResourceResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -3119,14 +2709,9 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest)
+    public ListenableFuture<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                unsubscribe(unsubscribeRequest);
-                return null;
-            }
-        });
+        return unsubscribeAsync(unsubscribeRequest, null);
     }
 
     /**
@@ -3163,22 +2748,13 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest,
+    public ListenableFuture<Void> unsubscribeAsync(final UnsubscribeRequest unsubscribeRequest,
             final AsyncHandler<UnsubscribeRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    unsubscribe(unsubscribeRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(unsubscribeRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(unsubscribeRequest,
+                new UnsubscribeRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -3207,14 +2783,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public ListenableFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                return untagResource(untagResourceRequest);
-            }
-        });
+        return untagResourceAsync(untagResourceRequest, null);
     }
 
     /**
@@ -3243,23 +2815,14 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements AmazonSNSAs
      *             Simple Notification Service indicating either a problem with
      *             the data in the request, or a server side issue.
      */
-    public Future<UntagResourceResult> untagResourceAsync(
+    public ListenableFuture<UntagResourceResult> untagResourceAsync(
             final UntagResourceRequest untagResourceRequest,
             final AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UntagResourceResult>() {
-            public UntagResourceResult call() throws Exception {
-                UntagResourceResult result = null;
-                try {
-                    result = untagResource(untagResourceRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(untagResourceRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(untagResourceRequest,
+                new UntagResourceRequestMarshaller(),
+                new UntagResourceResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
 }
@@ -15,13 +15,13 @@
 
 package com.amazonaws.services.sqs;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
@@ -29,6 +29,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.sqs.model.*;
+import com.amazonaws.services.sqs.model.transform.*;
 
 /**
  * Interface for accessing Amazon SQS asynchronously.
@@ -133,7 +134,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -179,15 +180,15 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     @Deprecated
     public AmazonSQSAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * SQS using the specified AWS account credentials. Default client settings
-     * will be used, and a fixed size thread pool will be created for executing
-     * the asynchronous tasks.
+     * will be used, and the asynchronous tasks will be run on the SDK's shared
+     * thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -197,7 +198,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *            to use when authenticating with AWS services.
      */
     public AmazonSQSAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -216,7 +217,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public AmazonSQSAsyncClient(AWSCredentials awsCredentials, ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -238,14 +239,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public AmazonSQSAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * SQS using the specified AWS account credentials provider. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be run on the SDK's
+     * shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -256,7 +257,7 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *            services.
      */
     public AmazonSQSAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -296,8 +297,8 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      */
     public AmazonSQSAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -320,17 +321,18 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
     public AmazonSQSAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -397,14 +399,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
+    public ListenableFuture<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addPermission(addPermissionRequest);
-                return null;
-            }
-        });
+        return addPermissionAsync(addPermissionRequest, null);
     }
 
     /**
@@ -457,22 +454,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
+    public ListenableFuture<Void> addPermissionAsync(final AddPermissionRequest addPermissionRequest,
             final AsyncHandler<AddPermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    addPermission(addPermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(addPermissionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(addPermissionRequest,
+                new AddPermissionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -538,15 +526,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> changeMessageVisibilityAsync(
+    public ListenableFuture<Void> changeMessageVisibilityAsync(
             final ChangeMessageVisibilityRequest changeMessageVisibilityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                changeMessageVisibility(changeMessageVisibilityRequest);
-                return null;
-            }
-        });
+        return changeMessageVisibilityAsync(changeMessageVisibilityRequest, null);
     }
 
     /**
@@ -612,23 +595,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> changeMessageVisibilityAsync(
+    public ListenableFuture<Void> changeMessageVisibilityAsync(
             final ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
             final AsyncHandler<ChangeMessageVisibilityRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    changeMessageVisibility(changeMessageVisibilityRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(changeMessageVisibilityRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(changeMessageVisibilityRequest,
+                new ChangeMessageVisibilityRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -676,14 +650,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
+    public ListenableFuture<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
             final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
-            public ChangeMessageVisibilityBatchResult call() throws Exception {
-                return changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
-            }
-        });
+        return changeMessageVisibilityBatchAsync(changeMessageVisibilityBatchRequest, null);
     }
 
     /**
@@ -731,23 +701,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
+    public ListenableFuture<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
             final ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest,
             final AsyncHandler<ChangeMessageVisibilityBatchRequest, ChangeMessageVisibilityBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeMessageVisibilityBatchResult>() {
-            public ChangeMessageVisibilityBatchResult call() throws Exception {
-                ChangeMessageVisibilityBatchResult result = null;
-                try {
-                    result = changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(changeMessageVisibilityBatchRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(changeMessageVisibilityBatchRequest,
+                new ChangeMessageVisibilityBatchRequestMarshaller(),
+                new ChangeMessageVisibilityBatchResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -837,13 +798,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest)
+    public ListenableFuture<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
-            public CreateQueueResult call() throws Exception {
-                return createQueue(createQueueRequest);
-            }
-        });
+        return createQueueAsync(createQueueRequest, null);
     }
 
     /**
@@ -933,22 +890,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest,
+    public ListenableFuture<CreateQueueResult> createQueueAsync(final CreateQueueRequest createQueueRequest,
             final AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateQueueResult>() {
-            public CreateQueueResult call() throws Exception {
-                CreateQueueResult result = null;
-                try {
-                    result = createQueue(createQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createQueueRequest,
+                new CreateQueueRequestMarshaller(),
+                new CreateQueueResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -995,14 +943,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest)
+    public ListenableFuture<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteMessage(deleteMessageRequest);
-                return null;
-            }
-        });
+        return deleteMessageAsync(deleteMessageRequest, null);
     }
 
     /**
@@ -1049,22 +992,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest,
+    public ListenableFuture<Void> deleteMessageAsync(final DeleteMessageRequest deleteMessageRequest,
             final AsyncHandler<DeleteMessageRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteMessage(deleteMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteMessageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteMessageRequest,
+                new DeleteMessageRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1109,14 +1043,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<DeleteMessageBatchResult> deleteMessageBatchAsync(
+    public ListenableFuture<DeleteMessageBatchResult> deleteMessageBatchAsync(
             final DeleteMessageBatchRequest deleteMessageBatchRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
-            public DeleteMessageBatchResult call() throws Exception {
-                return deleteMessageBatch(deleteMessageBatchRequest);
-            }
-        });
+        return deleteMessageBatchAsync(deleteMessageBatchRequest, null);
     }
 
     /**
@@ -1161,23 +1091,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<DeleteMessageBatchResult> deleteMessageBatchAsync(
+    public ListenableFuture<DeleteMessageBatchResult> deleteMessageBatchAsync(
             final DeleteMessageBatchRequest deleteMessageBatchRequest,
             final AsyncHandler<DeleteMessageBatchRequest, DeleteMessageBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteMessageBatchResult>() {
-            public DeleteMessageBatchResult call() throws Exception {
-                DeleteMessageBatchResult result = null;
-                try {
-                    result = deleteMessageBatch(deleteMessageBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteMessageBatchRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteMessageBatchRequest,
+                new DeleteMessageBatchRequestMarshaller(),
+                new DeleteMessageBatchResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1218,14 +1139,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest)
+    public ListenableFuture<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteQueue(deleteQueueRequest);
-                return null;
-            }
-        });
+        return deleteQueueAsync(deleteQueueRequest, null);
     }
 
     /**
@@ -1266,22 +1182,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest,
+    public ListenableFuture<Void> deleteQueueAsync(final DeleteQueueRequest deleteQueueRequest,
             final AsyncHandler<DeleteQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteQueue(deleteQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteQueueRequest,
+                new DeleteQueueRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1315,14 +1222,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<GetQueueAttributesResult> getQueueAttributesAsync(
+    public ListenableFuture<GetQueueAttributesResult> getQueueAttributesAsync(
             final GetQueueAttributesRequest getQueueAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
-            public GetQueueAttributesResult call() throws Exception {
-                return getQueueAttributes(getQueueAttributesRequest);
-            }
-        });
+        return getQueueAttributesAsync(getQueueAttributesRequest, null);
     }
 
     /**
@@ -1356,23 +1259,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<GetQueueAttributesResult> getQueueAttributesAsync(
+    public ListenableFuture<GetQueueAttributesResult> getQueueAttributesAsync(
             final GetQueueAttributesRequest getQueueAttributesRequest,
             final AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueAttributesResult>() {
-            public GetQueueAttributesResult call() throws Exception {
-                GetQueueAttributesResult result = null;
-                try {
-                    result = getQueueAttributes(getQueueAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getQueueAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getQueueAttributesRequest,
+                new GetQueueAttributesRequestMarshaller(),
+                new GetQueueAttributesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1402,13 +1296,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest)
+    public ListenableFuture<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
-            public GetQueueUrlResult call() throws Exception {
-                return getQueueUrl(getQueueUrlRequest);
-            }
-        });
+        return getQueueUrlAsync(getQueueUrlRequest, null);
     }
 
     /**
@@ -1438,22 +1328,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest,
+    public ListenableFuture<GetQueueUrlResult> getQueueUrlAsync(final GetQueueUrlRequest getQueueUrlRequest,
             final AsyncHandler<GetQueueUrlRequest, GetQueueUrlResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetQueueUrlResult>() {
-            public GetQueueUrlResult call() throws Exception {
-                GetQueueUrlResult result = null;
-                try {
-                    result = getQueueUrl(getQueueUrlRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getQueueUrlRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getQueueUrlRequest,
+                new GetQueueUrlRequestMarshaller(),
+                new GetQueueUrlResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1481,14 +1362,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
+    public ListenableFuture<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
             final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
-            public ListDeadLetterSourceQueuesResult call() throws Exception {
-                return listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
-            }
-        });
+        return listDeadLetterSourceQueuesAsync(listDeadLetterSourceQueuesRequest, null);
     }
 
     /**
@@ -1516,23 +1393,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
+    public ListenableFuture<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesAsync(
             final ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest,
             final AsyncHandler<ListDeadLetterSourceQueuesRequest, ListDeadLetterSourceQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDeadLetterSourceQueuesResult>() {
-            public ListDeadLetterSourceQueuesResult call() throws Exception {
-                ListDeadLetterSourceQueuesResult result = null;
-                try {
-                    result = listDeadLetterSourceQueues(listDeadLetterSourceQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listDeadLetterSourceQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listDeadLetterSourceQueuesRequest,
+                new ListDeadLetterSourceQueuesRequestMarshaller(),
+                new ListDeadLetterSourceQueuesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1554,13 +1422,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
+    public ListenableFuture<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                return listQueues(listQueuesRequest);
-            }
-        });
+        return listQueuesAsync(listQueuesRequest, null);
     }
 
     /**
@@ -1582,22 +1446,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
+    public ListenableFuture<ListQueuesResult> listQueuesAsync(final ListQueuesRequest listQueuesRequest,
             final AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListQueuesResult>() {
-            public ListQueuesResult call() throws Exception {
-                ListQueuesResult result = null;
-                try {
-                    result = listQueues(listQueuesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listQueuesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listQueuesRequest,
+                new ListQueuesRequestMarshaller(),
+                new ListQueuesResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1632,14 +1487,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest)
+    public ListenableFuture<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                purgeQueue(purgeQueueRequest);
-                return null;
-            }
-        });
+        return purgeQueueAsync(purgeQueueRequest, null);
     }
 
     /**
@@ -1674,22 +1524,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest,
+    public ListenableFuture<Void> purgeQueueAsync(final PurgeQueueRequest purgeQueueRequest,
             final AsyncHandler<PurgeQueueRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    purgeQueue(purgeQueueRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(purgeQueueRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(purgeQueueRequest,
+                new PurgeQueueRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1790,14 +1631,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ReceiveMessageResult> receiveMessageAsync(
+    public ListenableFuture<ReceiveMessageResult> receiveMessageAsync(
             final ReceiveMessageRequest receiveMessageRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
-            public ReceiveMessageResult call() throws Exception {
-                return receiveMessage(receiveMessageRequest);
-            }
-        });
+        return receiveMessageAsync(receiveMessageRequest, null);
     }
 
     /**
@@ -1898,23 +1735,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<ReceiveMessageResult> receiveMessageAsync(
+    public ListenableFuture<ReceiveMessageResult> receiveMessageAsync(
             final ReceiveMessageRequest receiveMessageRequest,
             final AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReceiveMessageResult>() {
-            public ReceiveMessageResult call() throws Exception {
-                ReceiveMessageResult result = null;
-                try {
-                    result = receiveMessage(receiveMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(receiveMessageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(receiveMessageRequest,
+                new ReceiveMessageRequestMarshaller(),
+                new ReceiveMessageResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1935,14 +1763,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
+    public ListenableFuture<Void> removePermissionAsync(final RemovePermissionRequest removePermissionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removePermission(removePermissionRequest);
-                return null;
-            }
-        });
+        return removePermissionAsync(removePermissionRequest, null);
     }
 
     /**
@@ -1963,23 +1786,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> removePermissionAsync(
+    public ListenableFuture<Void> removePermissionAsync(
             final RemovePermissionRequest removePermissionRequest,
             final AsyncHandler<RemovePermissionRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    removePermission(removePermissionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(removePermissionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(removePermissionRequest,
+                new RemovePermissionRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2017,13 +1831,9 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
+    public ListenableFuture<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                return sendMessage(sendMessageRequest);
-            }
-        });
+        return sendMessageAsync(sendMessageRequest, null);
     }
 
     /**
@@ -2061,22 +1871,13 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
+    public ListenableFuture<SendMessageResult> sendMessageAsync(final SendMessageRequest sendMessageRequest,
             final AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageResult>() {
-            public SendMessageResult call() throws Exception {
-                SendMessageResult result = null;
-                try {
-                    result = sendMessage(sendMessageRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendMessageRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendMessageRequest,
+                new SendMessageRequestMarshaller(),
+                new SendMessageResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2149,14 +1950,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<SendMessageBatchResult> sendMessageBatchAsync(
+    public ListenableFuture<SendMessageBatchResult> sendMessageBatchAsync(
             final SendMessageBatchRequest sendMessageBatchRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
-            public SendMessageBatchResult call() throws Exception {
-                return sendMessageBatch(sendMessageBatchRequest);
-            }
-        });
+        return sendMessageBatchAsync(sendMessageBatchRequest, null);
     }
 
     /**
@@ -2229,23 +2026,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<SendMessageBatchResult> sendMessageBatchAsync(
+    public ListenableFuture<SendMessageBatchResult> sendMessageBatchAsync(
             final SendMessageBatchRequest sendMessageBatchRequest,
             final AsyncHandler<SendMessageBatchRequest, SendMessageBatchResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendMessageBatchResult>() {
-            public SendMessageBatchResult call() throws Exception {
-                SendMessageBatchResult result = null;
-                try {
-                    result = sendMessageBatch(sendMessageBatchRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(sendMessageBatchRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(sendMessageBatchRequest,
+                new SendMessageBatchRequestMarshaller(),
+                new SendMessageBatchResultStaxUnmarshaller(),
+                asyncHandler, executorService);
     }
 
     /**
@@ -2275,15 +2063,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> setQueueAttributesAsync(
+    public ListenableFuture<Void> setQueueAttributesAsync(
             final SetQueueAttributesRequest setQueueAttributesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setQueueAttributes(setQueueAttributesRequest);
-                return null;
-            }
-        });
+        return setQueueAttributesAsync(setQueueAttributesRequest, null);
     }
 
     /**
@@ -2313,23 +2096,14 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements AmazonSQSAs
      *             SQS indicating either a problem with the data in the request,
      *             or a server side issue.
      */
-    public Future<Void> setQueueAttributesAsync(
+    public ListenableFuture<Void> setQueueAttributesAsync(
             final SetQueueAttributesRequest setQueueAttributesRequest,
             final AsyncHandler<SetQueueAttributesRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    setQueueAttributes(setQueueAttributesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(setQueueAttributesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(setQueueAttributesRequest,
+                new SetQueueAttributesRequestMarshaller(),
+                null,
+                asyncHandler, executorService);
     }
 
 }
@@ -15,20 +15,22 @@
 
 package com.amazonaws.services.textract;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.textract.model.*;
+import com.amazonaws.services.textract.model.transform.*;
 
 /**
  * Interface for accessing Amazon Textract asynchronously.
@@ -43,7 +45,7 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -89,15 +91,15 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      */
     @Deprecated
     public AmazonTextractAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Textract using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be run on the SDK's
+     * shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -107,7 +109,7 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *            to use when authenticating with AWS services.
      */
     public AmazonTextractAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -126,7 +128,7 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      */
     public AmazonTextractAsyncClient(AWSCredentials awsCredentials, ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -148,14 +150,14 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public AmazonTextractAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Textract using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -166,7 +168,7 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *            services.
      */
     public AmazonTextractAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +208,8 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      */
     public AmazonTextractAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -230,17 +232,18 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
     public AmazonTextractAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -334,14 +337,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AnalyzeDocumentResult> analyzeDocumentAsync(
+    public ListenableFuture<AnalyzeDocumentResult> analyzeDocumentAsync(
             final AnalyzeDocumentRequest analyzeDocumentRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeDocumentResult>() {
-            public AnalyzeDocumentResult call() throws Exception {
-                return analyzeDocument(analyzeDocumentRequest);
-            }
-        });
+        return analyzeDocumentAsync(analyzeDocumentRequest, null);
     }
 
     /**
@@ -421,23 +420,15 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<AnalyzeDocumentResult> analyzeDocumentAsync(
+    public ListenableFuture<AnalyzeDocumentResult> analyzeDocumentAsync(
             final AnalyzeDocumentRequest analyzeDocumentRequest,
             final AsyncHandler<AnalyzeDocumentRequest, AnalyzeDocumentResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AnalyzeDocumentResult>() {
-            public AnalyzeDocumentResult call() throws Exception {
-                AnalyzeDocumentResult result = null;
-                try {
-                    result = analyzeDocument(analyzeDocumentRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(analyzeDocumentRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(analyzeDocumentRequest,
+                new AnalyzeDocumentRequestMarshaller(),
+                new JsonResponseHandler<AnalyzeDocumentResult>(
+                        new AnalyzeDocumentResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -486,14 +477,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectDocumentTextResult> detectDocumentTextAsync(
+    public ListenableFuture<DetectDocumentTextResult> detectDocumentTextAsync(
             final DetectDocumentTextRequest detectDocumentTextRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDocumentTextResult>() {
-            public DetectDocumentTextResult call() throws Exception {
-                return detectDocumentText(detectDocumentTextRequest);
-            }
-        });
+        return detectDocumentTextAsync(detectDocumentTextRequest, null);
     }
 
     /**
@@ -542,23 +529,15 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DetectDocumentTextResult> detectDocumentTextAsync(
+    public ListenableFuture<DetectDocumentTextResult> detectDocumentTextAsync(
             final DetectDocumentTextRequest detectDocumentTextRequest,
             final AsyncHandler<DetectDocumentTextRequest, DetectDocumentTextResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetectDocumentTextResult>() {
-            public DetectDocumentTextResult call() throws Exception {
-                DetectDocumentTextResult result = null;
-                try {
-                    result = detectDocumentText(detectDocumentTextRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(detectDocumentTextRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(detectDocumentTextRequest,
+                new DetectDocumentTextRequestMarshaller(),
+                new JsonResponseHandler<DetectDocumentTextResult>(
+                        new DetectDocumentTextResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -650,14 +629,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
+    public ListenableFuture<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
             final GetDocumentAnalysisRequest getDocumentAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentAnalysisResult>() {
-            public GetDocumentAnalysisResult call() throws Exception {
-                return getDocumentAnalysis(getDocumentAnalysisRequest);
-            }
-        });
+        return getDocumentAnalysisAsync(getDocumentAnalysisRequest, null);
     }
 
     /**
@@ -749,23 +724,15 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
+    public ListenableFuture<GetDocumentAnalysisResult> getDocumentAnalysisAsync(
             final GetDocumentAnalysisRequest getDocumentAnalysisRequest,
             final AsyncHandler<GetDocumentAnalysisRequest, GetDocumentAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentAnalysisResult>() {
-            public GetDocumentAnalysisResult call() throws Exception {
-                GetDocumentAnalysisResult result = null;
-                try {
-                    result = getDocumentAnalysis(getDocumentAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getDocumentAnalysisRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getDocumentAnalysisRequest,
+                new GetDocumentAnalysisRequestMarshaller(),
+                new JsonResponseHandler<GetDocumentAnalysisResult>(
+                        new GetDocumentAnalysisResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -833,14 +800,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
+    public ListenableFuture<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
             final GetDocumentTextDetectionRequest getDocumentTextDetectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentTextDetectionResult>() {
-            public GetDocumentTextDetectionResult call() throws Exception {
-                return getDocumentTextDetection(getDocumentTextDetectionRequest);
-            }
-        });
+        return getDocumentTextDetectionAsync(getDocumentTextDetectionRequest, null);
     }
 
     /**
@@ -908,23 +871,15 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
+    public ListenableFuture<GetDocumentTextDetectionResult> getDocumentTextDetectionAsync(
             final GetDocumentTextDetectionRequest getDocumentTextDetectionRequest,
             final AsyncHandler<GetDocumentTextDetectionRequest, GetDocumentTextDetectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDocumentTextDetectionResult>() {
-            public GetDocumentTextDetectionResult call() throws Exception {
-                GetDocumentTextDetectionResult result = null;
-                try {
-                    result = getDocumentTextDetection(getDocumentTextDetectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getDocumentTextDetectionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getDocumentTextDetectionRequest,
+                new GetDocumentTextDetectionRequestMarshaller(),
+                new JsonResponseHandler<GetDocumentTextDetectionResult>(
+                        new GetDocumentTextDetectionResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -980,14 +935,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
+    public ListenableFuture<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
             final StartDocumentAnalysisRequest startDocumentAnalysisRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentAnalysisResult>() {
-            public StartDocumentAnalysisResult call() throws Exception {
-                return startDocumentAnalysis(startDocumentAnalysisRequest);
-            }
-        });
+        return startDocumentAnalysisAsync(startDocumentAnalysisRequest, null);
     }
 
     /**
@@ -1043,23 +994,15 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
+    public ListenableFuture<StartDocumentAnalysisResult> startDocumentAnalysisAsync(
             final StartDocumentAnalysisRequest startDocumentAnalysisRequest,
             final AsyncHandler<StartDocumentAnalysisRequest, StartDocumentAnalysisResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentAnalysisResult>() {
-            public StartDocumentAnalysisResult call() throws Exception {
-                StartDocumentAnalysisResult result = null;
-                try {
-                    result = startDocumentAnalysis(startDocumentAnalysisRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDocumentAnalysisRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startDocumentAnalysisRequest,
+                new StartDocumentAnalysisRequestMarshaller(),
+                new JsonResponseHandler<StartDocumentAnalysisResult>(
+                        new StartDocumentAnalysisResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1114,14 +1057,10 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
+    public ListenableFuture<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
             final StartDocumentTextDetectionRequest startDocumentTextDetectionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentTextDetectionResult>() {
-            public StartDocumentTextDetectionResult call() throws Exception {
-                return startDocumentTextDetection(startDocumentTextDetectionRequest);
-            }
-        });
+        return startDocumentTextDetectionAsync(startDocumentTextDetectionRequest, null);
     }
 
     /**
@@ -1176,23 +1115,15 @@ public class AmazonTextractAsyncClient extends AmazonTextractClient implements A
      *             Textract indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
+    public ListenableFuture<StartDocumentTextDetectionResult> startDocumentTextDetectionAsync(
             final StartDocumentTextDetectionRequest startDocumentTextDetectionRequest,
             final AsyncHandler<StartDocumentTextDetectionRequest, StartDocumentTextDetectionResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartDocumentTextDetectionResult>() {
-            public StartDocumentTextDetectionResult call() throws Exception {
-                StartDocumentTextDetectionResult result = null;
-                try {
-                    result = startDocumentTextDetection(startDocumentTextDetectionRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startDocumentTextDetectionRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startDocumentTextDetectionRequest,
+                new StartDocumentTextDetectionRequestMarshaller(),
+                new JsonResponseHandler<StartDocumentTextDetectionResult>(
+                        new StartDocumentTextDetectionResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
 }
@@ -15,20 +15,22 @@
 
 package com.amazonaws.services.transcribe;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.transcribe.model.*;
+import com.amazonaws.services.transcribe.model.transform.*;
 
 /**
  * Interface for accessing Amazon Transcribe asynchronously.
@@ -42,7 +44,7 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -88,15 +90,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      */
     @Deprecated
     public AmazonTranscribeAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Transcribe using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be run on the SDK's
+     * shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -106,7 +108,7 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *            to use when authenticating with AWS services.
      */
     public AmazonTranscribeAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -126,7 +128,7 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public AmazonTranscribeAsyncClient(AWSCredentials awsCredentials,
             ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -148,14 +150,14 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public AmazonTranscribeAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Transcribe using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -166,7 +168,7 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *            services.
      */
     public AmazonTranscribeAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +208,8 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      */
     public AmazonTranscribeAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -230,17 +232,18 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
     public AmazonTranscribeAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -279,14 +282,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyResult> createVocabularyAsync(
+    public ListenableFuture<CreateVocabularyResult> createVocabularyAsync(
             final CreateVocabularyRequest createVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
-            public CreateVocabularyResult call() throws Exception {
-                return createVocabulary(createVocabularyRequest);
-            }
-        });
+        return createVocabularyAsync(createVocabularyRequest, null);
     }
 
     /**
@@ -311,23 +310,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyResult> createVocabularyAsync(
+    public ListenableFuture<CreateVocabularyResult> createVocabularyAsync(
             final CreateVocabularyRequest createVocabularyRequest,
             final AsyncHandler<CreateVocabularyRequest, CreateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyResult>() {
-            public CreateVocabularyResult call() throws Exception {
-                CreateVocabularyResult result = null;
-                try {
-                    result = createVocabulary(createVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createVocabularyRequest,
+                new CreateVocabularyRequestMarshaller(),
+                new JsonResponseHandler<CreateVocabularyResult>(
+                        new CreateVocabularyResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -352,14 +343,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyFilterResult> createVocabularyFilterAsync(
+    public ListenableFuture<CreateVocabularyFilterResult> createVocabularyFilterAsync(
             final CreateVocabularyFilterRequest createVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyFilterResult>() {
-            public CreateVocabularyFilterResult call() throws Exception {
-                return createVocabularyFilter(createVocabularyFilterRequest);
-            }
-        });
+        return createVocabularyFilterAsync(createVocabularyFilterRequest, null);
     }
 
     /**
@@ -384,23 +371,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<CreateVocabularyFilterResult> createVocabularyFilterAsync(
+    public ListenableFuture<CreateVocabularyFilterResult> createVocabularyFilterAsync(
             final CreateVocabularyFilterRequest createVocabularyFilterRequest,
             final AsyncHandler<CreateVocabularyFilterRequest, CreateVocabularyFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVocabularyFilterResult>() {
-            public CreateVocabularyFilterResult call() throws Exception {
-                CreateVocabularyFilterResult result = null;
-                try {
-                    result = createVocabularyFilter(createVocabularyFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(createVocabularyFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(createVocabularyFilterRequest,
+                new CreateVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<CreateVocabularyFilterResult>(
+                        new CreateVocabularyFilterResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -424,15 +403,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteMedicalTranscriptionJobAsync(
+    public ListenableFuture<Void> deleteMedicalTranscriptionJobAsync(
             final DeleteMedicalTranscriptionJobRequest deleteMedicalTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteMedicalTranscriptionJob(deleteMedicalTranscriptionJobRequest);
-                return null;
-            }
-        });
+        return deleteMedicalTranscriptionJobAsync(deleteMedicalTranscriptionJobRequest, null);
     }
 
     /**
@@ -456,23 +430,14 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteMedicalTranscriptionJobAsync(
+    public ListenableFuture<Void> deleteMedicalTranscriptionJobAsync(
             final DeleteMedicalTranscriptionJobRequest deleteMedicalTranscriptionJobRequest,
             final AsyncHandler<DeleteMedicalTranscriptionJobRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteMedicalTranscriptionJob(deleteMedicalTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteMedicalTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteMedicalTranscriptionJobRequest,
+                new DeleteMedicalTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -496,15 +461,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTranscriptionJobAsync(
+    public ListenableFuture<Void> deleteTranscriptionJobAsync(
             final DeleteTranscriptionJobRequest deleteTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTranscriptionJob(deleteTranscriptionJobRequest);
-                return null;
-            }
-        });
+        return deleteTranscriptionJobAsync(deleteTranscriptionJobRequest, null);
     }
 
     /**
@@ -528,23 +488,14 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTranscriptionJobAsync(
+    public ListenableFuture<Void> deleteTranscriptionJobAsync(
             final DeleteTranscriptionJobRequest deleteTranscriptionJobRequest,
             final AsyncHandler<DeleteTranscriptionJobRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTranscriptionJob(deleteTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTranscriptionJobRequest,
+                new DeleteTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -568,14 +519,9 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteVocabularyAsync(final DeleteVocabularyRequest deleteVocabularyRequest)
+    public ListenableFuture<Void> deleteVocabularyAsync(final DeleteVocabularyRequest deleteVocabularyRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVocabulary(deleteVocabularyRequest);
-                return null;
-            }
-        });
+        return deleteVocabularyAsync(deleteVocabularyRequest, null);
     }
 
     /**
@@ -599,23 +545,14 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteVocabularyAsync(
+    public ListenableFuture<Void> deleteVocabularyAsync(
             final DeleteVocabularyRequest deleteVocabularyRequest,
             final AsyncHandler<DeleteVocabularyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteVocabulary(deleteVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteVocabularyRequest,
+                new DeleteVocabularyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -639,15 +576,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteVocabularyFilterAsync(
+    public ListenableFuture<Void> deleteVocabularyFilterAsync(
             final DeleteVocabularyFilterRequest deleteVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVocabularyFilter(deleteVocabularyFilterRequest);
-                return null;
-            }
-        });
+        return deleteVocabularyFilterAsync(deleteVocabularyFilterRequest, null);
     }
 
     /**
@@ -671,23 +603,14 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteVocabularyFilterAsync(
+    public ListenableFuture<Void> deleteVocabularyFilterAsync(
             final DeleteVocabularyFilterRequest deleteVocabularyFilterRequest,
             final AsyncHandler<DeleteVocabularyFilterRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteVocabularyFilter(deleteVocabularyFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteVocabularyFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteVocabularyFilterRequest,
+                new DeleteVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -715,14 +638,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMedicalTranscriptionJobResult> getMedicalTranscriptionJobAsync(
+    public ListenableFuture<GetMedicalTranscriptionJobResult> getMedicalTranscriptionJobAsync(
             final GetMedicalTranscriptionJobRequest getMedicalTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalTranscriptionJobResult>() {
-            public GetMedicalTranscriptionJobResult call() throws Exception {
-                return getMedicalTranscriptionJob(getMedicalTranscriptionJobRequest);
-            }
-        });
+        return getMedicalTranscriptionJobAsync(getMedicalTranscriptionJobRequest, null);
     }
 
     /**
@@ -750,23 +669,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetMedicalTranscriptionJobResult> getMedicalTranscriptionJobAsync(
+    public ListenableFuture<GetMedicalTranscriptionJobResult> getMedicalTranscriptionJobAsync(
             final GetMedicalTranscriptionJobRequest getMedicalTranscriptionJobRequest,
             final AsyncHandler<GetMedicalTranscriptionJobRequest, GetMedicalTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMedicalTranscriptionJobResult>() {
-            public GetMedicalTranscriptionJobResult call() throws Exception {
-                GetMedicalTranscriptionJobResult result = null;
-                try {
-                    result = getMedicalTranscriptionJob(getMedicalTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getMedicalTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getMedicalTranscriptionJobRequest,
+                new GetMedicalTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<GetMedicalTranscriptionJobResult>(
+                        new GetMedicalTranscriptionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -795,14 +706,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetTranscriptionJobResult> getTranscriptionJobAsync(
+    public ListenableFuture<GetTranscriptionJobResult> getTranscriptionJobAsync(
             final GetTranscriptionJobRequest getTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptionJobResult>() {
-            public GetTranscriptionJobResult call() throws Exception {
-                return getTranscriptionJob(getTranscriptionJobRequest);
-            }
-        });
+        return getTranscriptionJobAsync(getTranscriptionJobRequest, null);
     }
 
     /**
@@ -831,23 +738,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetTranscriptionJobResult> getTranscriptionJobAsync(
+    public ListenableFuture<GetTranscriptionJobResult> getTranscriptionJobAsync(
             final GetTranscriptionJobRequest getTranscriptionJobRequest,
             final AsyncHandler<GetTranscriptionJobRequest, GetTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTranscriptionJobResult>() {
-            public GetTranscriptionJobResult call() throws Exception {
-                GetTranscriptionJobResult result = null;
-                try {
-                    result = getTranscriptionJob(getTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTranscriptionJobRequest,
+                new GetTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<GetTranscriptionJobResult>(
+                        new GetTranscriptionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -870,14 +769,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetVocabularyResult> getVocabularyAsync(
+    public ListenableFuture<GetVocabularyResult> getVocabularyAsync(
             final GetVocabularyRequest getVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyResult>() {
-            public GetVocabularyResult call() throws Exception {
-                return getVocabulary(getVocabularyRequest);
-            }
-        });
+        return getVocabularyAsync(getVocabularyRequest, null);
     }
 
     /**
@@ -900,23 +795,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetVocabularyResult> getVocabularyAsync(
+    public ListenableFuture<GetVocabularyResult> getVocabularyAsync(
             final GetVocabularyRequest getVocabularyRequest,
             final AsyncHandler<GetVocabularyRequest, GetVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyResult>() {
-            public GetVocabularyResult call() throws Exception {
-                GetVocabularyResult result = null;
-                try {
-                    result = getVocabulary(getVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getVocabularyRequest,
+                new GetVocabularyRequestMarshaller(),
+                new JsonResponseHandler<GetVocabularyResult>(
+                        new GetVocabularyResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -940,14 +827,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetVocabularyFilterResult> getVocabularyFilterAsync(
+    public ListenableFuture<GetVocabularyFilterResult> getVocabularyFilterAsync(
             final GetVocabularyFilterRequest getVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyFilterResult>() {
-            public GetVocabularyFilterResult call() throws Exception {
-                return getVocabularyFilter(getVocabularyFilterRequest);
-            }
-        });
+        return getVocabularyFilterAsync(getVocabularyFilterRequest, null);
     }
 
     /**
@@ -971,23 +854,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetVocabularyFilterResult> getVocabularyFilterAsync(
+    public ListenableFuture<GetVocabularyFilterResult> getVocabularyFilterAsync(
             final GetVocabularyFilterRequest getVocabularyFilterRequest,
             final AsyncHandler<GetVocabularyFilterRequest, GetVocabularyFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetVocabularyFilterResult>() {
-            public GetVocabularyFilterResult call() throws Exception {
-                GetVocabularyFilterResult result = null;
-                try {
-                    result = getVocabularyFilter(getVocabularyFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getVocabularyFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getVocabularyFilterRequest,
+                new GetVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<GetVocabularyFilterResult>(
+                        new GetVocabularyFilterResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1011,14 +886,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMedicalTranscriptionJobsResult> listMedicalTranscriptionJobsAsync(
+    public ListenableFuture<ListMedicalTranscriptionJobsResult> listMedicalTranscriptionJobsAsync(
             final ListMedicalTranscriptionJobsRequest listMedicalTranscriptionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalTranscriptionJobsResult>() {
-            public ListMedicalTranscriptionJobsResult call() throws Exception {
-                return listMedicalTranscriptionJobs(listMedicalTranscriptionJobsRequest);
-            }
-        });
+        return listMedicalTranscriptionJobsAsync(listMedicalTranscriptionJobsRequest, null);
     }
 
     /**
@@ -1042,23 +913,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListMedicalTranscriptionJobsResult> listMedicalTranscriptionJobsAsync(
+    public ListenableFuture<ListMedicalTranscriptionJobsResult> listMedicalTranscriptionJobsAsync(
             final ListMedicalTranscriptionJobsRequest listMedicalTranscriptionJobsRequest,
             final AsyncHandler<ListMedicalTranscriptionJobsRequest, ListMedicalTranscriptionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMedicalTranscriptionJobsResult>() {
-            public ListMedicalTranscriptionJobsResult call() throws Exception {
-                ListMedicalTranscriptionJobsResult result = null;
-                try {
-                    result = listMedicalTranscriptionJobs(listMedicalTranscriptionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listMedicalTranscriptionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listMedicalTranscriptionJobsRequest,
+                new ListMedicalTranscriptionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListMedicalTranscriptionJobsResult>(
+                        new ListMedicalTranscriptionJobsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1081,14 +944,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
+    public ListenableFuture<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
             final ListTranscriptionJobsRequest listTranscriptionJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTranscriptionJobsResult>() {
-            public ListTranscriptionJobsResult call() throws Exception {
-                return listTranscriptionJobs(listTranscriptionJobsRequest);
-            }
-        });
+        return listTranscriptionJobsAsync(listTranscriptionJobsRequest, null);
     }
 
     /**
@@ -1111,23 +970,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
+    public ListenableFuture<ListTranscriptionJobsResult> listTranscriptionJobsAsync(
             final ListTranscriptionJobsRequest listTranscriptionJobsRequest,
             final AsyncHandler<ListTranscriptionJobsRequest, ListTranscriptionJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTranscriptionJobsResult>() {
-            public ListTranscriptionJobsResult call() throws Exception {
-                ListTranscriptionJobsResult result = null;
-                try {
-                    result = listTranscriptionJobs(listTranscriptionJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTranscriptionJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTranscriptionJobsRequest,
+                new ListTranscriptionJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTranscriptionJobsResult>(
+                        new ListTranscriptionJobsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1151,14 +1002,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListVocabulariesResult> listVocabulariesAsync(
+    public ListenableFuture<ListVocabulariesResult> listVocabulariesAsync(
             final ListVocabulariesRequest listVocabulariesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListVocabulariesResult>() {
-            public ListVocabulariesResult call() throws Exception {
-                return listVocabularies(listVocabulariesRequest);
-            }
-        });
+        return listVocabulariesAsync(listVocabulariesRequest, null);
     }
 
     /**
@@ -1182,23 +1029,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListVocabulariesResult> listVocabulariesAsync(
+    public ListenableFuture<ListVocabulariesResult> listVocabulariesAsync(
             final ListVocabulariesRequest listVocabulariesRequest,
             final AsyncHandler<ListVocabulariesRequest, ListVocabulariesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabulariesResult>() {
-            public ListVocabulariesResult call() throws Exception {
-                ListVocabulariesResult result = null;
-                try {
-                    result = listVocabularies(listVocabulariesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listVocabulariesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listVocabulariesRequest,
+                new ListVocabulariesRequestMarshaller(),
+                new JsonResponseHandler<ListVocabulariesResult>(
+                        new ListVocabulariesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1221,14 +1060,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListVocabularyFiltersResult> listVocabularyFiltersAsync(
+    public ListenableFuture<ListVocabularyFiltersResult> listVocabularyFiltersAsync(
             final ListVocabularyFiltersRequest listVocabularyFiltersRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabularyFiltersResult>() {
-            public ListVocabularyFiltersResult call() throws Exception {
-                return listVocabularyFilters(listVocabularyFiltersRequest);
-            }
-        });
+        return listVocabularyFiltersAsync(listVocabularyFiltersRequest, null);
     }
 
     /**
@@ -1251,23 +1086,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListVocabularyFiltersResult> listVocabularyFiltersAsync(
+    public ListenableFuture<ListVocabularyFiltersResult> listVocabularyFiltersAsync(
             final ListVocabularyFiltersRequest listVocabularyFiltersRequest,
             final AsyncHandler<ListVocabularyFiltersRequest, ListVocabularyFiltersResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVocabularyFiltersResult>() {
-            public ListVocabularyFiltersResult call() throws Exception {
-                ListVocabularyFiltersResult result = null;
-                try {
-                    result = listVocabularyFilters(listVocabularyFiltersRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listVocabularyFiltersRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listVocabularyFiltersRequest,
+                new ListVocabularyFiltersRequestMarshaller(),
+                new JsonResponseHandler<ListVocabularyFiltersResult>(
+                        new ListVocabularyFiltersResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1291,14 +1118,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartMedicalTranscriptionJobResult> startMedicalTranscriptionJobAsync(
+    public ListenableFuture<StartMedicalTranscriptionJobResult> startMedicalTranscriptionJobAsync(
             final StartMedicalTranscriptionJobRequest startMedicalTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartMedicalTranscriptionJobResult>() {
-            public StartMedicalTranscriptionJobResult call() throws Exception {
-                return startMedicalTranscriptionJob(startMedicalTranscriptionJobRequest);
-            }
-        });
+        return startMedicalTranscriptionJobAsync(startMedicalTranscriptionJobRequest, null);
     }
 
     /**
@@ -1322,23 +1145,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartMedicalTranscriptionJobResult> startMedicalTranscriptionJobAsync(
+    public ListenableFuture<StartMedicalTranscriptionJobResult> startMedicalTranscriptionJobAsync(
             final StartMedicalTranscriptionJobRequest startMedicalTranscriptionJobRequest,
             final AsyncHandler<StartMedicalTranscriptionJobRequest, StartMedicalTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartMedicalTranscriptionJobResult>() {
-            public StartMedicalTranscriptionJobResult call() throws Exception {
-                StartMedicalTranscriptionJobResult result = null;
-                try {
-                    result = startMedicalTranscriptionJob(startMedicalTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startMedicalTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startMedicalTranscriptionJobRequest,
+                new StartMedicalTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<StartMedicalTranscriptionJobResult>(
+                        new StartMedicalTranscriptionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1362,14 +1177,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTranscriptionJobResult> startTranscriptionJobAsync(
+    public ListenableFuture<StartTranscriptionJobResult> startTranscriptionJobAsync(
             final StartTranscriptionJobRequest startTranscriptionJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTranscriptionJobResult>() {
-            public StartTranscriptionJobResult call() throws Exception {
-                return startTranscriptionJob(startTranscriptionJobRequest);
-            }
-        });
+        return startTranscriptionJobAsync(startTranscriptionJobRequest, null);
     }
 
     /**
@@ -1393,23 +1204,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTranscriptionJobResult> startTranscriptionJobAsync(
+    public ListenableFuture<StartTranscriptionJobResult> startTranscriptionJobAsync(
             final StartTranscriptionJobRequest startTranscriptionJobRequest,
             final AsyncHandler<StartTranscriptionJobRequest, StartTranscriptionJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTranscriptionJobResult>() {
-            public StartTranscriptionJobResult call() throws Exception {
-                StartTranscriptionJobResult result = null;
-                try {
-                    result = startTranscriptionJob(startTranscriptionJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTranscriptionJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startTranscriptionJobRequest,
+                new StartTranscriptionJobRequestMarshaller(),
+                new JsonResponseHandler<StartTranscriptionJobResult>(
+                        new StartTranscriptionJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1436,14 +1239,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateVocabularyResult> updateVocabularyAsync(
+    public ListenableFuture<UpdateVocabularyResult> updateVocabularyAsync(
             final UpdateVocabularyRequest updateVocabularyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyResult>() {
-            public UpdateVocabularyResult call() throws Exception {
-                return updateVocabulary(updateVocabularyRequest);
-            }
-        });
+        return updateVocabularyAsync(updateVocabularyRequest, null);
     }
 
     /**
@@ -1470,23 +1269,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateVocabularyResult> updateVocabularyAsync(
+    public ListenableFuture<UpdateVocabularyResult> updateVocabularyAsync(
             final UpdateVocabularyRequest updateVocabularyRequest,
             final AsyncHandler<UpdateVocabularyRequest, UpdateVocabularyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyResult>() {
-            public UpdateVocabularyResult call() throws Exception {
-                UpdateVocabularyResult result = null;
-                try {
-                    result = updateVocabulary(updateVocabularyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateVocabularyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateVocabularyRequest,
+                new UpdateVocabularyRequestMarshaller(),
+                new JsonResponseHandler<UpdateVocabularyResult>(
+                        new UpdateVocabularyResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -1510,14 +1301,10 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateVocabularyFilterResult> updateVocabularyFilterAsync(
+    public ListenableFuture<UpdateVocabularyFilterResult> updateVocabularyFilterAsync(
             final UpdateVocabularyFilterRequest updateVocabularyFilterRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyFilterResult>() {
-            public UpdateVocabularyFilterResult call() throws Exception {
-                return updateVocabularyFilter(updateVocabularyFilterRequest);
-            }
-        });
+        return updateVocabularyFilterAsync(updateVocabularyFilterRequest, null);
     }
 
     /**
@@ -1541,23 +1328,15 @@ public class AmazonTranscribeAsyncClient extends AmazonTranscribeClient implemen
      *             Transcribe indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<UpdateVocabularyFilterResult> updateVocabularyFilterAsync(
+    public ListenableFuture<UpdateVocabularyFilterResult> updateVocabularyFilterAsync(
             final UpdateVocabularyFilterRequest updateVocabularyFilterRequest,
             final AsyncHandler<UpdateVocabularyFilterRequest, UpdateVocabularyFilterResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateVocabularyFilterResult>() {
-            public UpdateVocabularyFilterResult call() throws Exception {
-                UpdateVocabularyFilterResult result = null;
-                try {
-                    result = updateVocabularyFilter(updateVocabularyFilterRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(updateVocabularyFilterRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(updateVocabularyFilterRequest,
+                new UpdateVocabularyFilterRequestMarshaller(),
+                new JsonResponseHandler<UpdateVocabularyFilterResult>(
+                        new UpdateVocabularyFilterResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
 }
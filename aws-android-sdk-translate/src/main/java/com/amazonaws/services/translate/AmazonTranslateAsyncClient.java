@@ -15,20 +15,22 @@
 
 package com.amazonaws.services.translate;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.async.ListenableExecutorService;
+import com.amazonaws.async.ListenableFuture;
+import com.amazonaws.async.SharedExecutors;
 import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 
 import com.amazonaws.services.translate.model.*;
+import com.amazonaws.services.translate.model.transform.*;
 
 /**
  * Interface for accessing Amazon Translate asynchronously.
@@ -43,7 +45,7 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     /**
      * Executor service for executing asynchronous requests.
      */
-    private ExecutorService executorService;
+    private ListenableExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
 
@@ -89,15 +91,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      */
     @Deprecated
     public AmazonTranslateAsyncClient(ClientConfiguration clientConfiguration) {
-        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(new DefaultAWSCredentialsProviderChain(), clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Translate using the specified AWS account credentials. Default client
-     * settings will be used, and a fixed size thread pool will be created for
-     * executing the asynchronous tasks.
+     * settings will be used, and the asynchronous tasks will be run on the SDK's
+     * shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -107,7 +109,7 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *            to use when authenticating with AWS services.
      */
     public AmazonTranslateAsyncClient(AWSCredentials awsCredentials) {
-        this(awsCredentials, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -126,7 +128,7 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      */
     public AmazonTranslateAsyncClient(AWSCredentials awsCredentials, ExecutorService executorService) {
         super(awsCredentials);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
@@ -148,14 +150,14 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public AmazonTranslateAsyncClient(AWSCredentials awsCredentials,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentials, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Constructs a new asynchronous client to invoke service methods on Amazon
      * Translate using the specified AWS account credentials provider. Default
-     * client settings will be used, and a fixed size thread pool will be
-     * created for executing the asynchronous tasks.
+     * client settings will be used, and the asynchronous tasks will be run on
+     * the SDK's shared thread pool.
      * <p>
      * All calls made using this new client object are non-blocking, and will
      * immediately return a Java Future object that the caller can later check
@@ -166,7 +168,7 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *            services.
      */
     public AmazonTranslateAsyncClient(AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, SharedExecutors.newServiceExecutor(DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +208,8 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      */
     public AmazonTranslateAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration) {
-        this(awsCredentialsProvider, clientConfiguration, Executors
-                .newFixedThreadPool(clientConfiguration.getMaxConnections()));
+        this(awsCredentialsProvider, clientConfiguration, SharedExecutors
+                .newServiceExecutor(clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -230,17 +232,18 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
     public AmazonTranslateAsyncClient(AWSCredentialsProvider awsCredentialsProvider,
             ClientConfiguration clientConfiguration, ExecutorService executorService) {
         super(awsCredentialsProvider, clientConfiguration);
-        this.executorService = executorService;
+        this.executorService = ListenableExecutorService.wrap(executorService);
     }
 
     /**
      * Returns the executor service used by this async client to execute
-     * requests.
+     * requests. An executor service given to the constructor is wrapped so
+     * that its futures are {@link ListenableFuture}s.
      *
      * @return The executor service used by this async client to execute
      *         requests.
      */
-    public ExecutorService getExecutorService() {
+    public ListenableExecutorService getExecutorService() {
         return executorService;
     }
 
@@ -277,15 +280,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTerminologyAsync(
+    public ListenableFuture<Void> deleteTerminologyAsync(
             final DeleteTerminologyRequest deleteTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTerminology(deleteTerminologyRequest);
-                return null;
-            }
-        });
+        return deleteTerminologyAsync(deleteTerminologyRequest, null);
     }
 
     /**
@@ -308,23 +306,14 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<Void> deleteTerminologyAsync(
+    public ListenableFuture<Void> deleteTerminologyAsync(
             final DeleteTerminologyRequest deleteTerminologyRequest,
             final AsyncHandler<DeleteTerminologyRequest, Void> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                Void result = null;
-                try {
-                    deleteTerminology(deleteTerminologyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(deleteTerminologyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(deleteTerminologyRequest,
+                new DeleteTerminologyRequestMarshaller(),
+                new JsonResponseHandler<Void>(null),
+                asyncHandler, executorService);
     }
 
     /**
@@ -349,14 +338,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTextTranslationJobResult> describeTextTranslationJobAsync(
+    public ListenableFuture<DescribeTextTranslationJobResult> describeTextTranslationJobAsync(
             final DescribeTextTranslationJobRequest describeTextTranslationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTextTranslationJobResult>() {
-            public DescribeTextTranslationJobResult call() throws Exception {
-                return describeTextTranslationJob(describeTextTranslationJobRequest);
-            }
-        });
+        return describeTextTranslationJobAsync(describeTextTranslationJobRequest, null);
     }
 
     /**
@@ -381,23 +366,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<DescribeTextTranslationJobResult> describeTextTranslationJobAsync(
+    public ListenableFuture<DescribeTextTranslationJobResult> describeTextTranslationJobAsync(
             final DescribeTextTranslationJobRequest describeTextTranslationJobRequest,
             final AsyncHandler<DescribeTextTranslationJobRequest, DescribeTextTranslationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTextTranslationJobResult>() {
-            public DescribeTextTranslationJobResult call() throws Exception {
-                DescribeTextTranslationJobResult result = null;
-                try {
-                    result = describeTextTranslationJob(describeTextTranslationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(describeTextTranslationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(describeTextTranslationJobRequest,
+                new DescribeTextTranslationJobRequestMarshaller(),
+                new JsonResponseHandler<DescribeTextTranslationJobResult>(
+                        new DescribeTextTranslationJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -420,14 +397,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetTerminologyResult> getTerminologyAsync(
+    public ListenableFuture<GetTerminologyResult> getTerminologyAsync(
             final GetTerminologyRequest getTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<GetTerminologyResult>() {
-            public GetTerminologyResult call() throws Exception {
-                return getTerminology(getTerminologyRequest);
-            }
-        });
+        return getTerminologyAsync(getTerminologyRequest, null);
     }
 
     /**
@@ -450,23 +423,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<GetTerminologyResult> getTerminologyAsync(
+    public ListenableFuture<GetTerminologyResult> getTerminologyAsync(
             final GetTerminologyRequest getTerminologyRequest,
             final AsyncHandler<GetTerminologyRequest, GetTerminologyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTerminologyResult>() {
-            public GetTerminologyResult call() throws Exception {
-                GetTerminologyResult result = null;
-                try {
-                    result = getTerminology(getTerminologyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(getTerminologyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(getTerminologyRequest,
+                new GetTerminologyRequestMarshaller(),
+                new JsonResponseHandler<GetTerminologyResult>(
+                        new GetTerminologyResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -501,14 +466,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ImportTerminologyResult> importTerminologyAsync(
+    public ListenableFuture<ImportTerminologyResult> importTerminologyAsync(
             final ImportTerminologyRequest importTerminologyRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ImportTerminologyResult>() {
-            public ImportTerminologyResult call() throws Exception {
-                return importTerminology(importTerminologyRequest);
-            }
-        });
+        return importTerminologyAsync(importTerminologyRequest, null);
     }
 
     /**
@@ -543,23 +504,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ImportTerminologyResult> importTerminologyAsync(
+    public ListenableFuture<ImportTerminologyResult> importTerminologyAsync(
             final ImportTerminologyRequest importTerminologyRequest,
             final AsyncHandler<ImportTerminologyRequest, ImportTerminologyResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportTerminologyResult>() {
-            public ImportTerminologyResult call() throws Exception {
-                ImportTerminologyResult result = null;
-                try {
-                    result = importTerminology(importTerminologyRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(importTerminologyRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(importTerminologyRequest,
+                new ImportTerminologyRequestMarshaller(),
+                new JsonResponseHandler<ImportTerminologyResult>(
+                        new ImportTerminologyResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -582,14 +535,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTerminologiesResult> listTerminologiesAsync(
+    public ListenableFuture<ListTerminologiesResult> listTerminologiesAsync(
             final ListTerminologiesRequest listTerminologiesRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<ListTerminologiesResult>() {
-            public ListTerminologiesResult call() throws Exception {
-                return listTerminologies(listTerminologiesRequest);
-            }
-        });
+        return listTerminologiesAsync(listTerminologiesRequest, null);
     }
 
     /**
@@ -612,23 +561,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTerminologiesResult> listTerminologiesAsync(
+    public ListenableFuture<ListTerminologiesResult> listTerminologiesAsync(
             final ListTerminologiesRequest listTerminologiesRequest,
             final AsyncHandler<ListTerminologiesRequest, ListTerminologiesResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTerminologiesResult>() {
-            public ListTerminologiesResult call() throws Exception {
-                ListTerminologiesResult result = null;
-                try {
-                    result = listTerminologies(listTerminologiesRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTerminologiesRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTerminologiesRequest,
+                new ListTerminologiesRequestMarshaller(),
+                new JsonResponseHandler<ListTerminologiesResult>(
+                        new ListTerminologiesResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -652,14 +593,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTextTranslationJobsResult> listTextTranslationJobsAsync(
+    public ListenableFuture<ListTextTranslationJobsResult> listTextTranslationJobsAsync(
             final ListTextTranslationJobsRequest listTextTranslationJobsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTextTranslationJobsResult>() {
-            public ListTextTranslationJobsResult call() throws Exception {
-                return listTextTranslationJobs(listTextTranslationJobsRequest);
-            }
-        });
+        return listTextTranslationJobsAsync(listTextTranslationJobsRequest, null);
     }
 
     /**
@@ -683,23 +620,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<ListTextTranslationJobsResult> listTextTranslationJobsAsync(
+    public ListenableFuture<ListTextTranslationJobsResult> listTextTranslationJobsAsync(
             final ListTextTranslationJobsRequest listTextTranslationJobsRequest,
             final AsyncHandler<ListTextTranslationJobsRequest, ListTextTranslationJobsResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTextTranslationJobsResult>() {
-            public ListTextTranslationJobsResult call() throws Exception {
-                ListTextTranslationJobsResult result = null;
-                try {
-                    result = listTextTranslationJobs(listTextTranslationJobsRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(listTextTranslationJobsRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(listTextTranslationJobsRequest,
+                new ListTextTranslationJobsRequestMarshaller(),
+                new JsonResponseHandler<ListTextTranslationJobsResult>(
+                        new ListTextTranslationJobsResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -738,14 +667,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTextTranslationJobResult> startTextTranslationJobAsync(
+    public ListenableFuture<StartTextTranslationJobResult> startTextTranslationJobAsync(
             final StartTextTranslationJobRequest startTextTranslationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTextTranslationJobResult>() {
-            public StartTextTranslationJobResult call() throws Exception {
-                return startTextTranslationJob(startTextTranslationJobRequest);
-            }
-        });
+        return startTextTranslationJobAsync(startTextTranslationJobRequest, null);
     }
 
     /**
@@ -784,23 +709,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StartTextTranslationJobResult> startTextTranslationJobAsync(
+    public ListenableFuture<StartTextTranslationJobResult> startTextTranslationJobAsync(
             final StartTextTranslationJobRequest startTextTranslationJobRequest,
             final AsyncHandler<StartTextTranslationJobRequest, StartTextTranslationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartTextTranslationJobResult>() {
-            public StartTextTranslationJobResult call() throws Exception {
-                StartTextTranslationJobResult result = null;
-                try {
-                    result = startTextTranslationJob(startTextTranslationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(startTextTranslationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(startTextTranslationJobRequest,
+                new StartTextTranslationJobRequestMarshaller(),
+                new JsonResponseHandler<StartTextTranslationJobResult>(
+                        new StartTextTranslationJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -836,14 +753,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTextTranslationJobResult> stopTextTranslationJobAsync(
+    public ListenableFuture<StopTextTranslationJobResult> stopTextTranslationJobAsync(
             final StopTextTranslationJobRequest stopTextTranslationJobRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTextTranslationJobResult>() {
-            public StopTextTranslationJobResult call() throws Exception {
-                return stopTextTranslationJob(stopTextTranslationJobRequest);
-            }
-        });
+        return stopTextTranslationJobAsync(stopTextTranslationJobRequest, null);
     }
 
     /**
@@ -879,23 +792,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<StopTextTranslationJobResult> stopTextTranslationJobAsync(
+    public ListenableFuture<StopTextTranslationJobResult> stopTextTranslationJobAsync(
             final StopTextTranslationJobRequest stopTextTranslationJobRequest,
             final AsyncHandler<StopTextTranslationJobRequest, StopTextTranslationJobResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopTextTranslationJobResult>() {
-            public StopTextTranslationJobResult call() throws Exception {
-                StopTextTranslationJobResult result = null;
-                try {
-                    result = stopTextTranslationJob(stopTextTranslationJobRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(stopTextTranslationJobRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(stopTextTranslationJobRequest,
+                new StopTextTranslationJobRequestMarshaller(),
+                new JsonResponseHandler<StopTextTranslationJobResult>(
+                        new StopTextTranslationJobResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
     /**
@@ -924,14 +829,10 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TranslateTextResult> translateTextAsync(
+    public ListenableFuture<TranslateTextResult> translateTextAsync(
             final TranslateTextRequest translateTextRequest) throws AmazonServiceException,
             AmazonClientException {
-        return executorService.submit(new Callable<TranslateTextResult>() {
-            public TranslateTextResult call() throws Exception {
-                return translateText(translateTextRequest);
-            }
-        });
+        return translateTextAsync(translateTextRequest, null);
     }
 
     /**
@@ -960,23 +861,15 @@ public class AmazonTranslateAsyncClient extends AmazonTranslateClient implements
      *             Translate indicating either a problem with the data in the
      *             request, or a server side issue.
      */
-    public Future<TranslateTextResult> translateTextAsync(
+    public ListenableFuture<TranslateTextResult> translateTextAsync(
             final TranslateTextRequest translateTextRequest,
             final AsyncHandler<TranslateTextRequest, TranslateTextResult> asyncHandler)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TranslateTextResult>() {
-            public TranslateTextResult call() throws Exception {
-                TranslateTextResult result = null;
-                try {
-                    result = translateText(translateTextRequest);
-                } catch (Exception ex) {
-                    asyncHandler.onError(ex);
-                    throw ex;
-                }
-                asyncHandler.onSuccess(translateTextRequest, result);
-                return result;
-            }
-        });
+        return invokeAsync(translateTextRequest,
+                new TranslateTextRequestMarshaller(),
+                new JsonResponseHandler<TranslateTextResult>(
+                        new TranslateTextResultJsonUnmarshaller()),
+                asyncHandler, executorService);
     }
 
 }